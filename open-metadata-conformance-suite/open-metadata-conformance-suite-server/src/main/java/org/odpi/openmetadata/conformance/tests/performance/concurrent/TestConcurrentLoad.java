@@ -0,0 +1,447 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.concurrent;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.odpi.openmetadata.conformance.tests.performance.OpenMetadataPerformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Test performance of a mixed read/write workload issued by a number of clients at the same time.
+ * Each client picks its next request at random according to the configured write percentage.  Writes either
+ * create a new entity or update the properties of an existing one; reads either retrieve an existing entity
+ * or search for the entities of a type.  The latency of each operation is recorded in a histogram once the
+ * warm up period has passed.  When a target request rate is set, latency is measured from the time each request
+ * was due to be sent so that a slow repository cannot hide its queueing delay by holding up the clients.
+ */
+public class TestConcurrentLoad extends OpenMetadataPerformanceTestCase
+{
+
+    private static final String TEST_CASE_ID   = "repository-concurrent-load-performance";
+    private static final String TEST_CASE_NAME = "Repository concurrent load performance test case";
+
+    private static final String A_MIXED_WORKLOAD     = TEST_CASE_ID + "-mixedWorkload";
+    private static final String A_MIXED_WORKLOAD_MSG = "Repository handles a mixed workload from concurrent clients: ";
+
+    private static final String ADD_ENTITY        = "addEntity";
+    private static final String UPDATE_PROPERTIES = "updateEntityProperties";
+    private static final String GET_ENTITY        = "getEntityDetail";
+    private static final String FIND_ENTITIES     = "findEntities";
+
+    private static final String[] WRITE_OPERATIONS = { ADD_ENTITY, UPDATE_PROPERTIES };
+    private static final String[] READ_OPERATIONS  = { GET_ENTITY, FIND_ENTITIES };
+
+    private final Collection<EntityDef>  entityDefs;
+    private final List<EntityDef>        activeEntityDefs = new ArrayList<>();
+    private final Map<String, EntityDef> entityDefsByName = new HashMap<>();
+    private final List<EntityDetail>     instances        = new ArrayList<>();
+
+    private final Map<String, Recorder>   recorders             = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> failures              = new LinkedHashMap<>();
+    private final Set<String>             unsupportedOperations = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger           instanceCount         = new AtomicInteger();
+
+    private volatile long endTime = 0L;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDefs types of valid entities
+     */
+    public TestConcurrentLoad(PerformanceWorkPad    workPad,
+                              Collection<EntityDef> entityDefs)
+    {
+        super(workPad, PerformanceProfile.CONCURRENT_LOAD.getProfileId());
+
+        this.entityDefs = entityDefs;
+
+        for (String operation : new String[] { ADD_ENTITY, UPDATE_PROPERTIES, GET_ENTITY, FIND_ENTITIES })
+        {
+            recorders.put(operation, new Recorder(3));
+            failures.put(operation, new AtomicLong());
+        }
+
+        super.updateTestId(TEST_CASE_ID, TEST_CASE_ID, TEST_CASE_NAME);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+
+        int clients = performanceWorkPad.getConcurrentClients();
+
+        findInstances(metadataCollection);
+
+        if (instances.isEmpty())
+        {
+            super.setSuccessMessage("No instances homed in the technology under test were found to run the concurrent load against.");
+            return;
+        }
+
+        long warmUpNanos   = TimeUnit.SECONDS.toNanos(Math.max(performanceWorkPad.getConcurrentWarmUpSeconds(), 0));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Math.max(performanceWorkPad.getConcurrentDurationSeconds(), 1));
+        long startTime     = System.nanoTime();
+
+        endTime = startTime + warmUpNanos + durationNanos;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++)
+        {
+            executorService.submit(new VirtualClient(metadataCollection, clients));
+        }
+        executorService.shutdown();
+
+        /*
+         * Discard everything recorded during the warm up.
+         */
+        TimeUnit.NANOSECONDS.sleep(warmUpNanos);
+        for (String operation : recorders.keySet())
+        {
+            recorders.get(operation).getIntervalHistogram();
+            failures.get(operation).set(0L);
+        }
+        long measureStartTime = System.nanoTime();
+
+        if (!executorService.awaitTermination(durationNanos + TimeUnit.MINUTES.toNanos(5), TimeUnit.NANOSECONDS))
+        {
+            executorService.shutdownNow();
+        }
+        double measuredSeconds = (Math.max(System.nanoTime(), endTime) - measureStartTime) / 1000000000.0;
+
+        assertCondition(true,
+                A_MIXED_WORKLOAD,
+                A_MIXED_WORKLOAD_MSG + clients,
+                PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                null);
+
+        reportResults(measuredSeconds);
+
+        super.setSuccessMessage("Concurrent load performance tests complete for " + clients + " clients");
+    }
+
+
+    /**
+     * Retrieve the entities homed in the technology under test that the clients can retrieve and update.
+     * Only the types that have such entities are used for creating new entities.
+     *
+     * @param metadataCollection through which to call findEntities
+     * @throws Exception on any errors
+     */
+    private void findInstances(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        final String methodName = "findInstances";
+
+        String tutMetadataCollectionId = performanceWorkPad.getTutMetadataCollectionId();
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            try
+            {
+                List<EntityDetail> results = metadataCollection.findEntities(workPad.getLocalServerUserId(),
+                        entityDef.getGUID(),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        super.getInstancesPerType());
+                if (results != null)
+                {
+                    boolean homedInstanceFound = false;
+                    for (EntityDetail entity : results)
+                    {
+                        if ((entity != null)
+                                && entityDef.getName().equals(entity.getType().getTypeDefName())
+                                && (tutMetadataCollectionId != null)
+                                && tutMetadataCollectionId.equals(entity.getMetadataCollectionId()))
+                        {
+                            instances.add(entity);
+                            homedInstanceFound = true;
+                        }
+                    }
+                    if (homedInstanceFound)
+                    {
+                        activeEntityDefs.add(entityDef);
+                        entityDefsByName.put(entityDef.getName(), entityDef);
+                    }
+                }
+            }
+            catch (FunctionNotSupportedException exception)
+            {
+                super.addNotSupportedAssertion(A_MIXED_WORKLOAD,
+                        A_MIXED_WORKLOAD_MSG + performanceWorkPad.getConcurrentClients(),
+                        PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                        null);
+                return;
+            }
+            catch (Exception exc)
+            {
+                String operationDescription = "find entities of type " + entityDef.getName();
+                Map<String, String> parameters = new HashMap<>();
+                parameters.put("typeGUID", entityDef.getGUID());
+                String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, exc);
+                throw new Exception(msg, exc);
+            }
+        }
+
+        /*
+         * New instances are numbered after the ones created by the other scenarios.
+         */
+        instanceCount.set(super.getInstancesPerType());
+    }
+
+
+    /**
+     * Record the latency percentiles and throughput of each operation as discovered properties.
+     *
+     * @param measuredSeconds length of the measurement period
+     */
+    private void reportResults(double measuredSeconds)
+    {
+        long totalRequests = 0L;
+
+        for (String operation : recorders.keySet())
+        {
+            if (unsupportedOperations.contains(operation))
+            {
+                super.addNotSupportedAssertion(A_MIXED_WORKLOAD + "-" + operation,
+                        A_MIXED_WORKLOAD_MSG + operation,
+                        PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                        null);
+            }
+
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long      requests  = histogram.getTotalCount();
+
+            totalRequests += requests;
+
+            addProperty(operation + ".requestCount", requests);
+            addProperty(operation + ".failureCount", failures.get(operation).get());
+            addProperty(operation + ".throughputPerSecond", requests / measuredSeconds);
+            if (requests > 0)
+            {
+                addProperty(operation + ".p50Millis", histogram.getValueAtPercentile(50.0) / 1000.0);
+                addProperty(operation + ".p95Millis", histogram.getValueAtPercentile(95.0) / 1000.0);
+                addProperty(operation + ".p99Millis", histogram.getValueAtPercentile(99.0) / 1000.0);
+                addProperty(operation + ".maxMillis", histogram.getMaxValue() / 1000.0);
+            }
+        }
+
+        addProperty("concurrentClients", performanceWorkPad.getConcurrentClients());
+        addProperty("measuredSeconds", measuredSeconds);
+        addProperty("totalRequestCount", totalRequests);
+        addProperty("totalThroughputPerSecond", totalRequests / measuredSeconds);
+    }
+
+
+    /**
+     * Record the provided property as one for the concurrent load profile.
+     *
+     * @param name of the property
+     * @param value of the property
+     */
+    private void addProperty(String name, Object value)
+    {
+        addDiscoveredProperty(name, value, PerformanceProfile.CONCURRENT_LOAD.getProfileId(), null);
+    }
+
+
+    /**
+     * Return a randomly selected instance for a client to work with.
+     *
+     * @param random generator for the calling thread
+     * @return entity
+     */
+    private EntityDetail getRandomInstance(Random random)
+    {
+        synchronized (instances)
+        {
+            return instances.get(random.nextInt(instances.size()));
+        }
+    }
+
+
+    /**
+     * VirtualClient issues requests to the technology under test until the end of the test.
+     */
+    private class VirtualClient implements Runnable
+    {
+        private final OMRSMetadataCollection metadataCollection;
+        private final long                   intervalNanos;
+
+
+        /**
+         * Set up the client.
+         *
+         * @param metadataCollection through which to call the repository
+         * @param clients total number of clients sharing the target request rate
+         */
+        VirtualClient(OMRSMetadataCollection metadataCollection,
+                      int                    clients)
+        {
+            this.metadataCollection = metadataCollection;
+
+            int targetRate = performanceWorkPad.getConcurrentTargetRate();
+            if (targetRate > 0)
+            {
+                this.intervalNanos = TimeUnit.SECONDS.toNanos(clients) / targetRate;
+            }
+            else
+            {
+                this.intervalNanos = 0L;
+            }
+        }
+
+
+        /**
+         * Issue randomly selected requests, paced to the target request rate if there is one.
+         */
+        @Override
+        public void run()
+        {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            /*
+             * Spread the clients' first requests over one interval so they do not arrive together.
+             */
+            long nextStartTime = System.nanoTime() + ((intervalNanos > 0) ? random.nextLong(intervalNanos) : 0L);
+
+            while (System.nanoTime() < endTime)
+            {
+                long startTime = System.nanoTime();
+
+                if (intervalNanos > 0)
+                {
+                    long waitNanos = nextStartTime - startTime;
+                    if (waitNanos > 0)
+                    {
+                        try
+                        {
+                            TimeUnit.NANOSECONDS.sleep(waitNanos);
+                        }
+                        catch (InterruptedException exception)
+                        {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                    startTime = nextStartTime;
+                    nextStartTime = nextStartTime + intervalNanos;
+                }
+
+                String operation;
+                if (random.nextInt(100) < performanceWorkPad.getConcurrentWritePercentage())
+                {
+                    operation = WRITE_OPERATIONS[random.nextInt(WRITE_OPERATIONS.length)];
+                }
+                else
+                {
+                    operation = READ_OPERATIONS[random.nextInt(READ_OPERATIONS.length)];
+                }
+
+                if (!unsupportedOperations.contains(operation))
+                {
+                    try
+                    {
+                        issueRequest(operation, random);
+                        recorders.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+                    }
+                    catch (FunctionNotSupportedException exception)
+                    {
+                        unsupportedOperations.add(operation);
+                    }
+                    catch (Exception exception)
+                    {
+                        failures.get(operation).incrementAndGet();
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Issue a single request to the technology under test.
+         *
+         * @param operation name of the operation to call
+         * @param random generator for the calling thread
+         * @throws Exception on any errors
+         */
+        private void issueRequest(String operation, Random random) throws Exception
+        {
+            String userId = workPad.getLocalServerUserId();
+
+            switch (operation)
+            {
+                case ADD_ENTITY:
+                    EntityDef typeToCreate = activeEntityDefs.get(random.nextInt(activeEntityDefs.size()));
+                    EntityDetail newEntity = metadataCollection.addEntity(userId,
+                            typeToCreate.getGUID(),
+                            getAllPropertiesForInstance(userId, typeToCreate, instanceCount.getAndIncrement()),
+                            null,
+                            null);
+                    performanceWorkPad.incrementEntitiesCreated(1);
+                    if (newEntity != null)
+                    {
+                        synchronized (instances)
+                        {
+                            instances.add(newEntity);
+                        }
+                    }
+                    break;
+                case UPDATE_PROPERTIES:
+                    EntityDetail entityToUpdate = getRandomInstance(random);
+                    EntityDef typeToUpdate = entityDefsByName.get(entityToUpdate.getType().getTypeDefName());
+                    metadataCollection.updateEntityProperties(userId,
+                            entityToUpdate.getGUID(),
+                            getAllPropertiesForInstance(userId, typeToUpdate, instanceCount.getAndIncrement()));
+                    break;
+                case GET_ENTITY:
+                    metadataCollection.getEntityDetail(userId, getRandomInstance(random).getGUID());
+                    break;
+                case FIND_ENTITIES:
+                    EntityDef typeToFind = activeEntityDefs.get(random.nextInt(activeEntityDefs.size()));
+                    metadataCollection.findEntities(userId,
+                            typeToFind.getGUID(),
+                            null,
+                            null,
+                            0,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            performanceWorkPad.getMaxSearchResults());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -58,6 +58,11 @@ public class TestEnvironment extends OpenMetadataPerformanceTestCase
         addProperty("maxSearchResults", performanceWorkPad.getMaxSearchResults());
         addProperty("waitBetweenScenarios", performanceWorkPad.getWaitBetweenScenarios());
         addProperty("profilesToSkip", performanceWorkPad.getProfilesToSkip());
+        addProperty("concurrentClients", performanceWorkPad.getConcurrentClients());
+        addProperty("concurrentWritePercentage", performanceWorkPad.getConcurrentWritePercentage());
+        addProperty("concurrentWarmUpSeconds", performanceWorkPad.getConcurrentWarmUpSeconds());
+        addProperty("concurrentDurationSeconds", performanceWorkPad.getConcurrentDurationSeconds());
+        addProperty("concurrentTargetRate", performanceWorkPad.getConcurrentTargetRate());
     }
 
 
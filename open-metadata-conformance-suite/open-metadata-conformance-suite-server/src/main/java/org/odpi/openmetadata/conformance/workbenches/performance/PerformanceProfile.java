@@ -149,6 +149,10 @@ public enum PerformanceProfile implements Serializable
             "Performance tests for the technology under test's ability to purge entities.",
             "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/entity-purge",
             OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    CONCURRENT_LOAD      (33, "Concurrent load",
+            "Performance tests for the technology under test's ability to handle a mix of requests from many clients at once.",
+            "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/concurrent-load",
+            OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
     ENVIRONMENT          (999, "Environment",
             "Information about the environment in which the performance tests were executed.",
             "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/environment",
@@ -32,6 +32,11 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     private int                     waitBetweenScenarios        = 0;
     private List<String>            profilesToSkip              = Collections.emptyList();
     private List<String>            methodsToSkip               = Collections.emptyList();
+    private int                     concurrentClients           = 0;
+    private int                     concurrentWritePercentage   = 20;
+    private int                     concurrentWarmUpSeconds     = 30;
+    private int                     concurrentDurationSeconds   = 300;
+    private int                     concurrentTargetRate        = 0;
 
     private OMRSRepositoryConnector tutRepositoryConnector      = null;
 
@@ -80,6 +85,11 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
             this.waitBetweenScenarios = configuration.getWaitBetweenScenarios();
             this.profilesToSkip = configuration.getProfilesToSkip();
             this.methodsToSkip  = configuration.getMethodsToSkip();
+            this.concurrentClients = configuration.getConcurrentClients();
+            this.concurrentWritePercentage = configuration.getConcurrentWritePercentage();
+            this.concurrentWarmUpSeconds = configuration.getConcurrentWarmUpSeconds();
+            this.concurrentDurationSeconds = configuration.getConcurrentDurationSeconds();
+            this.concurrentTargetRate = configuration.getConcurrentTargetRate();
             super.tutName = this.tutServerName;
         }
     }
@@ -158,6 +168,56 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
         return methodsToSkip;
     }
 
+    /**
+     * Return the number of virtual clients for the concurrent load scenario (0 if it is not to be run).
+     *
+     * @return number of concurrent clients
+     */
+    public int getConcurrentClients()
+    {
+        return concurrentClients;
+    }
+
+    /**
+     * Return the percentage of requests in the concurrent load scenario that create or update instances.
+     *
+     * @return percentage of write requests
+     */
+    public int getConcurrentWritePercentage()
+    {
+        return concurrentWritePercentage;
+    }
+
+    /**
+     * Return the time (in seconds) that the concurrent load scenario runs before its measurements start.
+     *
+     * @return warm up time in seconds
+     */
+    public int getConcurrentWarmUpSeconds()
+    {
+        return concurrentWarmUpSeconds;
+    }
+
+    /**
+     * Return the time (in seconds) that the concurrent load scenario is measured for.
+     *
+     * @return measurement time in seconds
+     */
+    public int getConcurrentDurationSeconds()
+    {
+        return concurrentDurationSeconds;
+    }
+
+    /**
+     * Return the total number of requests per second that the concurrent clients aim for (0 for no limit).
+     *
+     * @return target request rate
+     */
+    public int getConcurrentTargetRate()
+    {
+        return concurrentTargetRate;
+    }
+
     /**
      * Return the server type of the technology under test.  This is extracted from the registration
      * events.
@@ -530,7 +590,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @param amount by which to increment the count
      */
-    public void incrementEntitiesCreated(int amount)
+    public synchronized void incrementEntitiesCreated(int amount)
     {
         totalEntitiesCreated += amount;
     }
@@ -541,7 +601,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @return the number of entity instances created in the environment
      */
-    public long getTotalEntitiesCreated()
+    public synchronized long getTotalEntitiesCreated()
     {
         return totalEntitiesCreated;
     }
@@ -552,7 +612,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @param amount by which to increment the count
      */
-    public void incrementRelationshipsCreated(int amount)
+    public synchronized void incrementRelationshipsCreated(int amount)
     {
         totalRelationshipsCreated += amount;
     }
@@ -563,7 +623,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @return the number of relationship instances created in the environment
      */
-    public long getTotalRelationshipsCreated()
+    public synchronized long getTotalRelationshipsCreated()
     {
         return totalRelationshipsCreated;
     }
@@ -574,7 +634,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @param amount by which to increment the count
      */
-    public void incrementEntitiesFound(int amount)
+    public synchronized void incrementEntitiesFound(int amount)
     {
         totalEntitiesFound += amount;
     }
@@ -585,7 +645,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @return the number of entity instances found in the environment
      */
-    public long getTotalEntitiesFound()
+    public synchronized long getTotalEntitiesFound()
     {
         return totalEntitiesFound;
     }
@@ -596,7 +656,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @param amount by which to increment the count
      */
-    public void incrementRelationshipsFound(int amount)
+    public synchronized void incrementRelationshipsFound(int amount)
     {
         totalRelationshipsFound += amount;
     }
@@ -607,7 +667,7 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
      *
      * @return the number of relationship instances found in the environment
      */
-    public long getTotalRelationshipsFound()
+    public synchronized long getTotalRelationshipsFound()
     {
         return totalRelationshipsFound;
     }
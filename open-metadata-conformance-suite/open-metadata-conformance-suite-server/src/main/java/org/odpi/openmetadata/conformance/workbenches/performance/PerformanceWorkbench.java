@@ -5,6 +5,7 @@ package org.odpi.openmetadata.conformance.workbenches.performance;
 import org.odpi.openmetadata.conformance.auditlog.ConformanceSuiteAuditCode;
 import org.odpi.openmetadata.conformance.tests.performance.classify.TestEntityClassification;
 import org.odpi.openmetadata.conformance.tests.performance.classify.TestEntityDeclassification;
+import org.odpi.openmetadata.conformance.tests.performance.concurrent.TestConcurrentLoad;
 import org.odpi.openmetadata.conformance.tests.performance.create.TestEntityCreation;
 import org.odpi.openmetadata.conformance.tests.performance.create.TestRelationshipCreation;
 import org.odpi.openmetadata.conformance.tests.performance.delete.TestEntityDelete;
@@ -370,6 +371,22 @@ public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
             }
         }
 
+        // 19b. Mixed workload from concurrent clients (run before any instances are re-homed)
+        if ((workPad.getConcurrentClients() > 0) && !profilesToSkip.contains(PerformanceProfile.CONCURRENT_LOAD.getProfileName()))
+        {
+            TestConcurrentLoad testConcurrentLoad = new TestConcurrentLoad(workPad, entityDefs.values());
+            testConcurrentLoad.executeTest();
+
+            workPad.getAuditLog().logRecord(methodName,
+                    waiting.getLogMessageId(),
+                    waiting.getSeverity(),
+                    waiting.getFormattedLogMessage("" + workPad.getWaitBetweenScenarios()),
+                    null,
+                    waiting.getSystemAction(),
+                    waiting.getUserAction());
+            Thread.sleep(workPad.getWaitBetweenScenarios() * 1000);
+        }
+
         // 20. Re-home entity instances
         if (!profilesToSkip.contains(PerformanceProfile.ENTITY_RE_HOME.getProfileName()))
         {
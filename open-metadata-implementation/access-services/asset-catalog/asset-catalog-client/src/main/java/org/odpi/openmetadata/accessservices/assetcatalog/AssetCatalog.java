@@ -42,6 +42,7 @@ public class AssetCatalog extends OCFRESTClient implements AssetCatalogInterface
     private static final String SUPPORTED_TYPES = "/supportedTypes?type={2}";
     private static final String ASSETS_BY_TYPE_GUID = "/assets-by-type-guid/{2}";
     private static final String ASSETS_BY_TYPE_NAME = "/assets-by-type-name/{2}";
+    private static final String ASSETS_BY_TYPE_NAME_PAGED = "/assets-by-type-name/{2}?from={3}&pageSize={4}";
 
     private static final String GUID_PARAMETER = "assetGUID";
     private static final String START_ASSET_GUID = "startAssetGUID";
@@ -197,6 +198,32 @@ public class AssetCatalog extends OCFRESTClient implements AssetCatalogInterface
         return assetResponse;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AssetListResponse searchByTypeName(String userId,
+                                              String typeName,
+                                              Integer from,
+                                              Integer pageSize)
+            throws InvalidParameterException, PropertyServerException {
+        String methodName = "searchByTypeName";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validatePaging(from, pageSize, methodName);
+        AssetListResponse assetResponse = null;
+
+        if (typeName != null) {
+            invalidParameterHandler.validateSearchString(typeName, "typeName", methodName);
+            assetResponse = callGetRESTCall(methodName, AssetListResponse.class,
+                    serverPlatformURLRoot + BASE_PATH + ASSETS_BY_TYPE_NAME_PAGED, serverName, userId, typeName, from, pageSize);
+        }
+
+        detectExceptions(assetResponse);
+
+        return assetResponse;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -100,6 +100,20 @@ public interface AssetCatalogInterface {
      */
     AssetListResponse searchByTypeName(String userId, String typeName) throws InvalidParameterException, PropertyServerException;
 
+    /**
+     * Return a page of the assets matching the type name without the full context
+     * The list includes also subtypes and is ordered by qualified name
+     *
+     * @param userId                     the unique identifier for the user
+     * @param typeName                   the assets type name to search for
+     * @param from                       starting element (used in paging through large result sets)
+     * @param pageSize                   maximum number of results to return
+     * @return                           list of assets by type name
+     * @throws PropertyServerException   if a problem occurs while serving the request
+     * @throws InvalidParameterException if parameter validation fails
+     */
+    AssetListResponse searchByTypeName(String userId, String typeName, Integer from, Integer pageSize) throws InvalidParameterException, PropertyServerException;
+
     /**
      * Return a list of assets matching the type GUID without the full context
      * The list includes also subtypes
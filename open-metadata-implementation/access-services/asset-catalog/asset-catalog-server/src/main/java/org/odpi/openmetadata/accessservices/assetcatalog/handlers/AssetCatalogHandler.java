@@ -142,6 +142,7 @@ public class AssetCatalogHandler {
 
     private static final Logger log = LoggerFactory.getLogger(AssetCatalogHandler.class);
     private static final String THIS_ASSET_IF_A_DIFFERENT_ZONE = "This asset if a different zone: {}";
+    private static final int DEFAULT_PAGE_SIZE = 20;
 
     private final String serverUserName;
     private final String sourceName;
@@ -417,6 +418,8 @@ public class AssetCatalogHandler {
      *
      * @param userId           user identifier that issues the call
      * @param typeName         the assets type name to search for
+     * @param from             starting element (used in paging through large result sets)
+     * @param pageSize         maximum number of results to return
      * @return                 list of assets by type name
      * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException - is thrown by an OMRS Connector when the supplied UserId
      *                                                                                            is not permitted to perform a specific operation on the metadata collection.
@@ -432,7 +435,7 @@ public class AssetCatalogHandler {
      * @throws PropertyServerException                                                            - reporting errors when connecting to a metadata repository to retrieve properties about the connection and/or connector
      * @throws UserNotAuthorizedException                                                         - is thrown by the OCF when a userId passed on a request is not authorized to perform the requested action.
      */
-    public List<Elements> searchByTypeName(String userId, String typeName)
+    public List<Elements> searchByTypeName(String userId, String typeName, Integer from, Integer pageSize)
             throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
             FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
             PropertyErrorException, TypeErrorException, PagingErrorException,
@@ -440,6 +443,7 @@ public class AssetCatalogHandler {
 
         String methodName = "searchByTypeName";
         invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validatePaging(from, pageSize, methodName);
 
         List<EntityDetail> result;
         if (typeName != null) {
@@ -448,7 +452,7 @@ public class AssetCatalogHandler {
                 ExceptionMessageDefinition messageDefinition = AssetCatalogErrorCode.TYPE_DEF_NOT_FOUND.getMessageDefinition(typeName);
                 throw new EntityNotKnownException(messageDefinition, this.getClass().getName(), messageDefinition.getUserAction());
             }
-            result = collectSearchedEntitiesByTypeIdentifiers(userId, typeName, typeGUID, methodName);
+            result = collectSearchedEntitiesByTypeIdentifiers(userId, typeName, typeGUID, from, pageSize, methodName);
         } else {
             return Collections.emptyList();
         }
@@ -491,7 +495,7 @@ public class AssetCatalogHandler {
                 ExceptionMessageDefinition messageDefinition = AssetCatalogErrorCode.TYPE_DEF_NOT_FOUND.getMessageDefinition(typeName);
                 throw new EntityNotKnownException(messageDefinition, this.getClass().getName(), messageDefinition.getUserAction());
             }
-            result = collectSearchedEntitiesByTypeIdentifiers(userId, typeName, typeGUID, methodName);
+            result = collectSearchedEntitiesByTypeIdentifiers(userId, typeName, typeGUID, 0, DEFAULT_PAGE_SIZE, methodName);
         } else {
             return Collections.emptyList();
         }
@@ -657,11 +661,13 @@ public class AssetCatalogHandler {
     private List<EntityDetail> collectSearchedEntitiesByTypeIdentifiers(String userId,
                                                              String typeName,
                                                              String typeGUID,
+                                                             int from,
+                                                             int pageSize,
                                                              String methodName)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         List<EntityDetail> result = new ArrayList<>();
 
-        result.addAll(searchEntityByType(userId, typeGUID, typeName, methodName));
+        result.addAll(searchEntityByType(userId, typeGUID, typeName, from, pageSize, methodName));
         return result;
     }
 
@@ -1360,12 +1366,14 @@ public class AssetCatalogHandler {
     private List<EntityDetail> searchEntityByType(String userId,
                                                       String entityTypeGUID,
                                                       String entityTypeName,
+                                                      int from,
+                                                      int pageSize,
                                                       String methodName)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
 
         List<EntityDetail> entitiesByPropertyValue = assetHandler.getEntitiesByType(userId, entityTypeGUID,
-                entityTypeName, null,false,false, 0,
-                20, clockService.getNow(), methodName);
+                entityTypeName, QUALIFIED_NAME,false,false, from,
+                pageSize, clockService.getNow(), methodName);
 
         if (CollectionUtils.isNotEmpty(entitiesByPropertyValue)) {
             return entitiesByPropertyValue;
@@ -232,11 +232,15 @@ public class AssetCatalogRESTService {
      * @param serverName       unique identifier for requested server
      * @param userId           the unique identifier for the user
      * @param typeName         the assets type name to search for
+     * @param from             starting element (used in paging through large result sets)
+     * @param pageSize         maximum number of results to return
      * @return                 list of assets by type name or GUID
      */
     public AssetListResponse searchByTypeName(String serverName,
                                           String userId,
-                                          String typeName) {
+                                          String typeName,
+                                          Integer from,
+                                          Integer pageSize) {
         String methodName = "searchByTypeName";
         log.debug(CALLING_METHOD, methodName);
 
@@ -244,7 +248,7 @@ public class AssetCatalogRESTService {
 
         try {
             AssetCatalogHandler assetCatalogHandler = instanceHandler.getAssetCatalogHandler(userId, serverName, methodName);
-            response.setElementsList(assetCatalogHandler.searchByTypeName(userId, typeName));
+            response.setElementsList(assetCatalogHandler.searchByTypeName(userId, typeName, from, pageSize));
         } catch (UserNotAuthorizedException
                 | PagingErrorException
                 | TypeErrorException
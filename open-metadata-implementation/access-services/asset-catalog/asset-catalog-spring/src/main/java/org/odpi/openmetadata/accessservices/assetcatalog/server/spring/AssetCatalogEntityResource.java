@@ -143,14 +143,18 @@ public class AssetCatalogEntityResource {
      * @param serverName       unique identifier for requested server.
      * @param userId           the unique identifier for the user
      * @param typeName         the assets type name to search for
+     * @param from             offset
+     * @param pageSize         limit the number of the assets returned
      * @return                 list of assets by type name
      */
     @GetMapping(path = "/assets-by-type-name/{typeName}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     public AssetListResponse getAssetsByTypeName(@PathVariable("serverName") String serverName,
                                                  @PathVariable("userId") String userId,
-                                                 @PathVariable("typeName") @NotBlank String typeName) {
-        return assetService.searchByTypeName(serverName, userId, typeName);
+                                                 @PathVariable("typeName") @NotBlank String typeName,
+                                                 @RequestParam(name = "from", required = false, defaultValue = "0") @PositiveOrZero Integer from,
+                                                 @RequestParam(name = "pageSize", required = false, defaultValue = "20") @PositiveOrZero Integer pageSize) {
+        return assetService.searchByTypeName(serverName, userId, typeName, from, pageSize);
     }
 
     /**
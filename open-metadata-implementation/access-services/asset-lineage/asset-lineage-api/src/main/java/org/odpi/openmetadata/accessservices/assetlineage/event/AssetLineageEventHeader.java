@@ -36,6 +36,8 @@ public abstract class AssetLineageEventHeader implements Serializable {
 
     private AssetLineageEventType assetLineageEventType;
 
+    private Long changeSequence;
+
     /**
      * Gets event version id.
      *
@@ -72,10 +74,29 @@ public abstract class AssetLineageEventHeader implements Serializable {
         this.assetLineageEventType = assetLineageEventType;
     }
 
+    /**
+     * Gets the sequence number of the event in the Asset Lineage OMAS change feed.
+     *
+     * @return the change sequence, or null if the event was not recorded in the change feed
+     */
+    public Long getChangeSequence() {
+        return changeSequence;
+    }
+
+    /**
+     * Sets the sequence number of the event in the Asset Lineage OMAS change feed.
+     *
+     * @param changeSequence the change sequence
+     */
+    public void setChangeSequence(Long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
     @Override
     public String toString() {
         return "AssetLineageEventHeader{" +
                 "eventVersionId=" + eventVersionId +
+                ", changeSequence=" + changeSequence +
                 '}';
     }
 }
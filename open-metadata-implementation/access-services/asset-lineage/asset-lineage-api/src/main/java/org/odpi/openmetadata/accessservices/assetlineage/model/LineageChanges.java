@@ -0,0 +1,69 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+/**
+ *
+ * LineageChanges is a page of the Asset Lineage OMAS change feed: the lineage events published on the out topic
+ * after a cursor, in the order they were published.
+ *
+ */
+public class LineageChanges implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The lineage events after the cursor, each one in the JSON form that was sent on the out topic.
+     * -- GETTER --
+     * Gets the events.
+     * @return list of serialized AssetLineageEventHeader
+     * -- SETTER --
+     * Sets the events.
+     * @param events list of serialized AssetLineageEventHeader
+     */
+    private List<String> events;
+    /**
+     * The cursor to pass on the next request to receive the events that follow this page.
+     * -- GETTER --
+     * Gets the next cursor.
+     * @return opaque cursor
+     * -- SETTER --
+     * Sets the next cursor.
+     * @param nextCursor opaque cursor
+     */
+    private String nextCursor;
+    /**
+     * False if the requested cursor is unknown or older than the oldest change held by the feed. The events
+     * are empty in this case and the caller must fall back to republishing the lineage context before following
+     * the feed again from nextCursor.
+     * -- GETTER --
+     * Returns whether the cursor was valid.
+     * @return boolean
+     * -- SETTER --
+     * Sets whether the cursor was valid.
+     * @param cursorValid boolean
+     */
+    private boolean cursorValid;
+    /**
+     * True if more events are available after nextCursor.
+     * -- GETTER --
+     * Returns whether there are more changes.
+     * @return boolean
+     * -- SETTER --
+     * Sets whether there are more changes.
+     * @param moreChanges boolean
+     */
+    private boolean moreChanges;
+}
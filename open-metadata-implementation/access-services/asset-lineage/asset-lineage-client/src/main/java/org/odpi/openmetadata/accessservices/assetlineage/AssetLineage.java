@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetlineage;
 
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
+import org.odpi.openmetadata.accessservices.assetlineage.rest.LineageChangesResponse;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
 import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCRESTClient;
@@ -23,6 +25,8 @@ public class AssetLineage extends FFDCRESTClient implements AssetLineageInterfac
     private static final String PUBLISH_ENTITIES = "publish-entities/{2}";
     private static final String PUBLISH_CONTEXT = "publish-context/{2}/{3}";
     private static final String UPDATED_AFTER_DATE = "?updatedAfterDate={3}";
+    private static final String LINEAGE_CHANGES = "lineage-changes?maxChanges={2}";
+    private static final String CURSOR = "&cursor={3}";
 
     private String userId;
 
@@ -102,4 +106,29 @@ public class AssetLineage extends FFDCRESTClient implements AssetLineageInterfac
         return response.getGUIDs();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LineageChanges getLineageChanges(String serverName, String userId, String cursor, int maxChanges)
+            throws org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "getLineageChanges";
+
+        invalidParameterHandler.validateUserId(methodName, userId);
+        String urlTemplate = serverPlatformURLRoot + BASE_PATH + LINEAGE_CHANGES;
+
+        LineageChangesResponse response;
+        if (cursor != null) {
+            response = callGetRESTCall(methodName, LineageChangesResponse.class, urlTemplate + CURSOR, serverName, userId,
+                    maxChanges, cursor);
+        } else {
+            response = callGetRESTCall(methodName, LineageChangesResponse.class, urlTemplate, serverName, userId, maxChanges);
+        }
+        exceptionHandler.detectAndThrowInvalidParameterException(response);
+        exceptionHandler.detectAndThrowUserNotAuthorizedException(response);
+        exceptionHandler.detectAndThrowPropertyServerException(response);
+
+        return response.getLineageChanges();
+    }
+
 }
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetlineage;
 
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -45,4 +46,21 @@ public interface AssetLineageInterface {
     List<String> publishAssetContext(String userId, String guid, String entityType)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException;
 
+    /**
+     * Returns the lineage events published on the out topic after the cursor. If the cursor is null, unknown or too
+     * old, no events are returned and the caller must republish the lineage context (see publishEntities) before
+     * following the feed from the returned cursor.
+     *
+     * @param serverName the server name
+     * @param userId     the user id
+     * @param cursor     the cursor returned by the previous call, may be null
+     * @param maxChanges the maximum number of events to return
+     * @return the events after the cursor and the cursor that follows them
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     * @throws PropertyServerException    there is a problem retrieving information from the property server(s).
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    LineageChanges getLineageChanges(String serverName, String userId, String cursor, int maxChanges)
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException;
+
 }
@@ -7,6 +7,7 @@ package org.odpi.openmetadata.accessservices.assetlineage.admin;
 import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
 import org.odpi.openmetadata.accessservices.assetlineage.listeners.AssetLineageOMRSTopicListener;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.LineageChangeFeed;
 import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageServicesInstance;
 import org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageTypesValidator;
 import org.odpi.openmetadata.accessservices.assetlineage.util.Converter;
@@ -23,6 +24,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 
@@ -36,9 +38,12 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
     private static final Logger log = LoggerFactory.getLogger(AssetLineageAdmin.class);
     private AuditLog auditLog;
     private AssetLineageServicesInstance instance;
+    private LineageChangeFeed changeFeed;
     private String serverName;
     private final int defaultPublisherBatchSize = 1;
     private final String PUBLISHER_BATCH_SIZE_PROPERTY_NAME = "LineagePublisherBatchSize";
+    private final String CHANGE_FEED_SIZE_PROPERTY_NAME = "LineageChangeFeedSize";
+    private final String CHANGE_FEED_DIRECTORY_PROPERTY_NAME = "LineageChangeFeedDirectory";
 
     /**
      * Initialize the access service.
@@ -77,8 +82,13 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
 
                 Converter converter = new Converter(repositoryConnector.getRepositoryHelper());
 
-                int batchSize = extractLineagePublisherBatchSize(accessServiceOptions, this.getFullServiceName(), auditLog);
-                AssetLineagePublisher publisher = new AssetLineagePublisher(outTopicConnector, serverName, serverUserName, batchSize);
+                int batchSize = extractIntegerOption(accessServiceOptions, PUBLISHER_BATCH_SIZE_PROPERTY_NAME, defaultPublisherBatchSize,
+                        this.getFullServiceName(), auditLog);
+                int changeFeedSize = extractIntegerOption(accessServiceOptions, CHANGE_FEED_SIZE_PROPERTY_NAME,
+                        LineageChangeFeed.DEFAULT_MAX_EVENTS, this.getFullServiceName(), auditLog);
+                changeFeed = new LineageChangeFeed(new File(getChangeFeedDirectory(accessServiceOptions)), changeFeedSize);
+                AssetLineagePublisher publisher = new AssetLineagePublisher(outTopicConnector, serverName, serverUserName, batchSize,
+                        changeFeed);
                 AssetLineageOMRSTopicListener omrsTopicListener = new AssetLineageOMRSTopicListener(converter, serverName, publisher,
                         assetLineageTypesValidator, auditLog);
 
@@ -99,37 +109,42 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
     }
 
     /**
-     * Extract the value from access service options property defined with PUBLISHER_BATCH_SIZE_PROPERTY_NAME static field.
+     * Extract a positive integer value from the access service options, such as the property defined with
+     * PUBLISHER_BATCH_SIZE_PROPERTY_NAME or CHANGE_FEED_SIZE_PROPERTY_NAME static field.
      * If accessServiceOptions is null or the property provided value is not usable (NaN or negative number), default value is returned.
      *
      * @param accessServiceOptions Options for the access service
+     * @param propertyName Name of the property in the options
+     * @param defaultValue Value returned if the property is not set
      * @param accessServiceFullName Name of the access service
      * @param auditLog Audit log instance
-     * @return
-     * @throws OMAGConfigurationErrorException
+     * @return the configured value
+     * @throws OMAGConfigurationErrorException the value is not a number
      */
-    private int extractLineagePublisherBatchSize(Map<String, Object> accessServiceOptions,
-                                                 String              accessServiceFullName,
-                                                 AuditLog            auditLog) throws OMAGConfigurationErrorException
+    private int extractIntegerOption(Map<String, Object> accessServiceOptions,
+                                     String              propertyName,
+                                     int                 defaultValue,
+                                     String              accessServiceFullName,
+                                     AuditLog            auditLog) throws OMAGConfigurationErrorException
     {
-        final String methodName = "extractLineagePublisherBatchSize";
+        final String methodName = "extractIntegerOption";
         if(accessServiceOptions == null) {
-            return defaultPublisherBatchSize;
+            return defaultValue;
         }
-        Object propertyValue = accessServiceOptions.get(PUBLISHER_BATCH_SIZE_PROPERTY_NAME);
+        Object propertyValue = accessServiceOptions.get(propertyName);
         if (propertyValue == null) {
-            return defaultPublisherBatchSize;
+            return defaultValue;
         }
         try {
             int value = Integer.parseInt(propertyValue.toString());
-            auditLog.logMessage(methodName, AssetLineageAuditCode.CONFIGURED_PUBLISHER_BATCH_SIZE.getMessageDefinition(PUBLISHER_BATCH_SIZE_PROPERTY_NAME,
+            auditLog.logMessage(methodName, AssetLineageAuditCode.CONFIGURED_PUBLISHER_BATCH_SIZE.getMessageDefinition(propertyName,
                     Integer.toString(value)));
-            return value < 1 ? defaultPublisherBatchSize : value;
+            return value < 1 ? defaultValue : value;
         } catch (Exception error) {
-            auditLog.logMessage(methodName, AssetLineageAuditCode.INVALID_PUBLISHER_BATCH_SIZE.getMessageDefinition(PUBLISHER_BATCH_SIZE_PROPERTY_NAME));
+            auditLog.logMessage(methodName, AssetLineageAuditCode.INVALID_PUBLISHER_BATCH_SIZE.getMessageDefinition(propertyName));
             throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.BAD_CONFIG_PROPERTIES.getMessageDefinition(accessServiceFullName,
                     propertyValue.toString(),
-                    PUBLISHER_BATCH_SIZE_PROPERTY_NAME,
+                    propertyName,
                     error.getClass().getName(),
                     error.getMessage()),
                     this.getClass().getName(),
@@ -138,6 +153,20 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Return the directory where the change feed is stored, from the CHANGE_FEED_DIRECTORY_PROPERTY_NAME option or
+     * under the data directory of the server.
+     *
+     * @param accessServiceOptions Options for the access service
+     * @return the directory name
+     */
+    private String getChangeFeedDirectory(Map<String, Object> accessServiceOptions) {
+        if (accessServiceOptions != null && accessServiceOptions.get(CHANGE_FEED_DIRECTORY_PROPERTY_NAME) != null) {
+            return accessServiceOptions.get(CHANGE_FEED_DIRECTORY_PROPERTY_NAME).toString();
+        }
+        return "data/servers/" + serverName + "/asset-lineage/change-feed";
+    }
+
     /**
      * Shutdown the access service.
      */
@@ -146,6 +175,10 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
             instance.shutdown();
         }
 
+        if (changeFeed != null) {
+            changeFeed.close();
+        }
+
         if (auditLog != null) {
             final String actionDescription = "shutdown";
 
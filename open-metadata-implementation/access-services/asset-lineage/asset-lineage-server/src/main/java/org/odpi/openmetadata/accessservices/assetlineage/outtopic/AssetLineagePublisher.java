@@ -63,6 +63,7 @@ public class AssetLineagePublisher {
     private final ClassificationHandler classificationHandler;
     private final GlossaryContextHandler glossaryHandler;
     private final AssetContextHandler assetContextHandler;
+    private final LineageChangeFeed changeFeed;
     private int batchSize;
 
     /**
@@ -76,11 +77,27 @@ public class AssetLineagePublisher {
      */
     public AssetLineagePublisher(OpenMetadataTopicConnector outTopicConnector, String serverName, String serverUserName,
                                  int batchSize) throws OCFCheckedExceptionBase {
+        this(outTopicConnector, serverName, serverUserName, batchSize, new LineageChangeFeed(LineageChangeFeed.DEFAULT_MAX_EVENTS));
+    }
+
+    /**
+     * The constructor is given the connection to the out topic for Asset Lineage OMAS
+     * and the change feed that keeps the events published.
+     *
+     * @param outTopicConnector connection to the out topic
+     * @param serverName        name of the user of the server instance
+     * @param serverUserName    name of this server instance
+     * @param batchSize         number of relationships published in a single event
+     * @param changeFeed        feed of the recently published events
+     */
+    public AssetLineagePublisher(OpenMetadataTopicConnector outTopicConnector, String serverName, String serverUserName,
+                                 int batchSize, LineageChangeFeed changeFeed) throws OCFCheckedExceptionBase {
         String methodName = "AssetLineagePublisher";
 
         this.outTopicConnector = outTopicConnector;
         this.serverUserName = serverUserName;
         this.batchSize = batchSize;
+        this.changeFeed = changeFeed;
         this.processContextHandler = instanceHandler.getProcessHandler(serverUserName, serverName, methodName);
         this.classificationHandler = instanceHandler.getClassificationHandler(serverUserName, serverName, methodName);
         this.glossaryHandler = instanceHandler.getGlossaryHandler(serverUserName, serverName, methodName);
@@ -316,8 +333,26 @@ public class AssetLineagePublisher {
         if (outTopicConnector == null)
             return;
 
-        outTopicConnector.sendEvent(OBJECT_WRITER.writeValueAsString(event));
+        /*
+         * The event is recorded in the change feed before it is sent, so a consumer that does not receive it from
+         * the topic finds it in the feed under the sequence number that it carries.
+         */
+        String serializedEvent;
+        synchronized (changeFeed) {
+            event.setChangeSequence(changeFeed.getNextSequence());
+            serializedEvent = OBJECT_WRITER.writeValueAsString(event);
+            changeFeed.record(serializedEvent);
+        }
+        outTopicConnector.sendEvent(serializedEvent);
+    }
 
+    /**
+     * Returns the feed of the events published on the out topic.
+     *
+     * @return the change feed
+     */
+    public LineageChangeFeed getChangeFeed() {
+        return changeFeed;
     }
 
     /**
@@ -0,0 +1,376 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
+
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * LineageChangeFeed keeps the most recent lineage events published on the Asset Lineage OMAS out topic so that
+ * a consumer that has been offline can catch up by pulling the events it missed, rather than requesting the
+ * lineage context of every glossary term or process to be rebuilt and republished.
+ * <p>
+ * Each event is given a sequence number. The cursor handed to the consumer combines the sequence number with an
+ * identifier of this feed, so a cursor issued by another feed (or one older than the oldest event still held) is
+ * reported as invalid and the consumer knows it must fall back to republishing.
+ * <p>
+ * When the feed is given a directory, the events are also written to segment files in that directory, one JSON
+ * event per line, and the feed is read back from them when the server restarts. The cursors issued before the
+ * restart therefore stay valid. Whole segments are deleted once the newer segments hold the maximum number of events.
+ */
+public class LineageChangeFeed {
+
+    public static final int DEFAULT_MAX_EVENTS = 10000;
+
+    private static final Logger log = LoggerFactory.getLogger(LineageChangeFeed.class);
+
+    private static final String CURSOR_SEPARATOR = ":";
+    private static final String FEED_ID_FILE_NAME = "feed.id";
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+    private static final String SEGMENT_FILE_NAME_FORMAT = "%020d" + SEGMENT_FILE_SUFFIX;
+    private static final int SEGMENTS_PER_FEED = 10;
+
+    private final File directory;
+    private final int maxEvents;
+    private final int segmentSize;
+    private final Deque<String> events = new ArrayDeque<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private String feedId = UUID.randomUUID().toString();
+    private BufferedWriter segmentWriter;
+
+    /*
+     * Sequence number of the first event in the deque and of the next event to be recorded.
+     */
+    private long firstSequence = 0;
+    private long nextSequence = 0;
+
+    /**
+     * Create a change feed that is only held in memory.
+     *
+     * @param maxEvents maximum number of events held, the oldest events are discarded first
+     */
+    public LineageChangeFeed(int maxEvents) {
+        this.directory = null;
+        this.maxEvents = Math.max(maxEvents, 1);
+        this.segmentSize = 1;
+    }
+
+    /**
+     * Create a change feed that is stored in a directory, reading back the events already stored there.
+     *
+     * @param directory directory where the feed is stored
+     * @param maxEvents maximum number of events held, the oldest segment is discarded once the newer ones hold this many
+     *
+     * @throws IOException the directory can not be read or written
+     */
+    public LineageChangeFeed(File directory, int maxEvents) throws IOException {
+        this.directory = directory;
+        this.maxEvents = Math.max(maxEvents, 1);
+        this.segmentSize = Math.max(this.maxEvents / SEGMENTS_PER_FEED, 1);
+
+        Files.createDirectories(directory.toPath());
+        load();
+    }
+
+    /**
+     * Return the sequence number that will be given to the next recorded event. Synchronize on the feed to keep
+     * it until the event is recorded.
+     *
+     * @return sequence number
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Record an event that is being published.  If the event can not be stored, the feed starts again under a new
+     * identifier so the consumers holding a cursor know they have missed events.
+     *
+     * @param event the event in the JSON form sent on the out topic
+     */
+    public synchronized void record(String event) {
+        if (directory != null) {
+            try {
+                append(event);
+            } catch (IOException error) {
+                log.error("The lineage change feed could not store event {}, starting a new feed", nextSequence, error);
+                nextSequence++;
+                restart();
+                return;
+            }
+        }
+
+        events.addLast(event);
+        nextSequence++;
+        if (directory == null) {
+            if (events.size() > maxEvents) {
+                events.removeFirst();
+                firstSequence++;
+            }
+        } else {
+            removeExpiredSegments();
+        }
+    }
+
+    /**
+     * Return the events recorded after the cursor.
+     *
+     * @param cursor    cursor returned by a previous call, or null to receive the cursor of the current end of the feed
+     * @param maxEvents maximum number of events to return
+     *
+     * @return the events and the cursor that follows them
+     */
+    public synchronized LineageChanges getChanges(String cursor, int maxEvents) {
+        LineageChanges lineageChanges = new LineageChanges();
+        lineageChanges.setEvents(new ArrayList<>());
+
+        long sequence = getSequence(cursor);
+        if (sequence < firstSequence || sequence > nextSequence) {
+            lineageChanges.setCursorValid(false);
+            lineageChanges.setNextCursor(getCursor(nextSequence));
+            return lineageChanges;
+        }
+
+        List<String> page = lineageChanges.getEvents();
+        Iterator<String> iterator = events.iterator();
+        for (long skipped = firstSequence; skipped < sequence; skipped++) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && page.size() < Math.max(maxEvents, 1)) {
+            page.add(iterator.next());
+        }
+
+        long next = sequence + page.size();
+        lineageChanges.setCursorValid(true);
+        lineageChanges.setNextCursor(getCursor(next));
+        lineageChanges.setMoreChanges(next < nextSequence);
+        return lineageChanges;
+    }
+
+    /**
+     * Close the segment file that is being written.
+     */
+    public synchronized void close() {
+        closeSegmentWriter();
+    }
+
+    private String getCursor(long sequence) {
+        return feedId + CURSOR_SEPARATOR + sequence;
+    }
+
+    /**
+     * Extract the sequence number from a cursor issued by this feed.
+     *
+     * @param cursor cursor
+     *
+     * @return sequence number, or -1 if the cursor was not issued by this feed
+     */
+    private long getSequence(String cursor) {
+        if (cursor == null || !cursor.startsWith(feedId + CURSOR_SEPARATOR)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(cursor.substring(feedId.length() + CURSOR_SEPARATOR.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Read the feed identifier and the segments from the directory. A line left partly written when the server
+     * stopped is removed, and the segments before a missing one are discarded.
+     *
+     * @throws IOException the directory can not be read or written
+     */
+    private void load() throws IOException {
+        File feedIdFile = new File(directory, FEED_ID_FILE_NAME);
+        File[] segmentFiles = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_FILE_SUFFIX));
+        if (segmentFiles == null) {
+            segmentFiles = new File[0];
+        }
+        Arrays.sort(segmentFiles);
+
+        if (!feedIdFile.exists()) {
+            for (File segmentFile : segmentFiles) {
+                Files.deleteIfExists(segmentFile.toPath());
+            }
+            writeFeedId();
+            return;
+        }
+        feedId = new String(Files.readAllBytes(feedIdFile.toPath()), StandardCharsets.UTF_8).trim();
+
+        for (File segmentFile : segmentFiles) {
+            long segmentSequence;
+            try {
+                segmentSequence = Long.parseLong(segmentFile.getName().substring(0,
+                        segmentFile.getName().length() - SEGMENT_FILE_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            List<String> segmentEvents = readSegment(segmentFile);
+            if (segmentEvents.isEmpty()) {
+                Files.deleteIfExists(segmentFile.toPath());
+                continue;
+            }
+
+            if (segments.isEmpty() || segmentSequence != nextSequence) {
+                for (Segment segment : segments) {
+                    Files.deleteIfExists(segment.file.toPath());
+                }
+                segments.clear();
+                events.clear();
+                firstSequence = segmentSequence;
+                nextSequence = segmentSequence;
+            }
+
+            Segment segment = new Segment(segmentFile);
+            segment.count = segmentEvents.size();
+            segments.addLast(segment);
+            events.addAll(segmentEvents);
+            nextSequence += segmentEvents.size();
+        }
+        removeExpiredSegments();
+    }
+
+    /**
+     * Read the events of a segment file, truncating the file after its last complete line.
+     *
+     * @param segmentFile segment file
+     *
+     * @return events in the file
+     *
+     * @throws IOException the file can not be read or written
+     */
+    private List<String> readSegment(File segmentFile) throws IOException {
+        byte[] content = Files.readAllBytes(segmentFile.toPath());
+        int completeLength = content.length;
+        while (completeLength > 0 && content[completeLength - 1] != '\n') {
+            completeLength--;
+        }
+        if (completeLength < content.length) {
+            log.warn("Removing the partly written event at the end of lineage change feed segment {}", segmentFile.getPath());
+            try (FileChannel channel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(completeLength);
+            }
+        }
+
+        List<String> segmentEvents = new ArrayList<>();
+        String completeContent = new String(content, 0, completeLength, StandardCharsets.UTF_8);
+        for (String line : completeContent.split("\n")) {
+            if (!line.isEmpty()) {
+                segmentEvents.add(line);
+            }
+        }
+        return segmentEvents;
+    }
+
+    /**
+     * Write an event to the current segment, starting a new segment when the current one is full.
+     *
+     * @param event event
+     *
+     * @throws IOException the segment can not be written
+     */
+    private void append(String event) throws IOException {
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.count >= segmentSize || segmentWriter == null) {
+            closeSegmentWriter();
+            if (segment == null || segment.count >= segmentSize) {
+                segment = new Segment(new File(directory, String.format(SEGMENT_FILE_NAME_FORMAT, nextSequence)));
+                segments.addLast(segment);
+            }
+            segmentWriter = Files.newBufferedWriter(segment.file.toPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        segmentWriter.write(event);
+        segmentWriter.write('\n');
+        segmentWriter.flush();
+        segment.count++;
+    }
+
+    /**
+     * Delete the oldest segments while the newer segments hold at least the maximum number of events.
+     */
+    private void removeExpiredSegments() {
+        while (segments.size() > 1 && nextSequence - firstSequence - segments.peekFirst().count >= maxEvents) {
+            Segment oldest = segments.removeFirst();
+            for (int removed = 0; removed < oldest.count; removed++) {
+                events.removeFirst();
+            }
+            firstSequence += oldest.count;
+            try {
+                Files.deleteIfExists(oldest.file.toPath());
+            } catch (IOException error) {
+                log.warn("Unable to delete lineage change feed segment {}", oldest.file.getPath(), error);
+            }
+        }
+    }
+
+    /**
+     * Discard the stored events and start the feed again under a new identifier, keeping the sequence numbers.
+     */
+    private void restart() {
+        closeSegmentWriter();
+        for (Segment segment : segments) {
+            try {
+                Files.deleteIfExists(segment.file.toPath());
+            } catch (IOException error) {
+                log.warn("Unable to delete lineage change feed segment {}", segment.file.getPath(), error);
+            }
+        }
+        segments.clear();
+        events.clear();
+        firstSequence = nextSequence;
+        feedId = UUID.randomUUID().toString();
+        try {
+            writeFeedId();
+        } catch (IOException error) {
+            log.error("Unable to store the identifier of the lineage change feed", error);
+        }
+    }
+
+    private void writeFeedId() throws IOException {
+        Files.write(new File(directory, FEED_ID_FILE_NAME).toPath(), feedId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void closeSegmentWriter() {
+        if (segmentWriter != null) {
+            try {
+                segmentWriter.close();
+            } catch (IOException error) {
+                log.warn("Unable to close the lineage change feed segment", error);
+            }
+            segmentWriter = null;
+        }
+    }
+
+    /**
+     * A file holding a run of consecutive events.
+     */
+    private static class Segment {
+        private final File file;
+        private int count;
+
+        private Segment(File file) {
+            this.file = file;
+        }
+    }
+}
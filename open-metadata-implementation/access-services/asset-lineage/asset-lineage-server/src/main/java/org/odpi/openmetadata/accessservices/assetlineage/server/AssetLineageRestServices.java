@@ -12,9 +12,11 @@ import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAu
 import org.odpi.openmetadata.accessservices.assetlineage.handlers.AssetContextHandler;
 import org.odpi.openmetadata.accessservices.assetlineage.handlers.HandlerHelper;
 import org.odpi.openmetadata.accessservices.assetlineage.model.FindEntitiesParameters;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
 import org.odpi.openmetadata.accessservices.assetlineage.model.LineagePublishSummary;
 import org.odpi.openmetadata.accessservices.assetlineage.model.RelationshipsContext;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
+import org.odpi.openmetadata.accessservices.assetlineage.rest.LineageChangesResponse;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
@@ -329,6 +331,42 @@ public class AssetLineageRestServices {
         return new ArrayList<>(guids);
     }
 
+    /**
+     * Return the lineage events published on the out topic after the cursor. A consumer that has been offline uses
+     * this to catch up with the changes it missed. If the cursor is null, unknown, or older than the oldest event
+     * still held by the change feed, no events are returned, cursorValid is false and nextCursor marks the current
+     * end of the feed.
+     *
+     * @param serverName name of server instance to call
+     * @param userId     the name of the calling user
+     * @param cursor     cursor returned by the previous call, may be null
+     * @param maxChanges maximum number of events to return
+     *
+     * @return the events after the cursor and the cursor that follows them
+     */
+    public LineageChangesResponse getLineageChanges(String serverName, String userId, String cursor, int maxChanges) {
+        String methodName = "getLineageChanges";
+        LineageChangesResponse response = new LineageChangesResponse();
+
+        try {
+            AssetLineagePublisher publisher = instanceHandler.getAssetLineagePublisher(userId, serverName, methodName);
+            if (publisher == null) {
+                LineageChanges lineageChanges = new LineageChanges();
+                lineageChanges.setEvents(Collections.emptyList());
+                response.setLineageChanges(lineageChanges);
+                return response;
+            }
+            response.setLineageChanges(publisher.getChangeFeed().getChanges(cursor, maxChanges));
+        } catch (InvalidParameterException e) {
+            restExceptionHandler.captureInvalidParameterException(response, e);
+        } catch (UserNotAuthorizedException e) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, e);
+        } catch (PropertyServerException e) {
+            restExceptionHandler.capturePropertyServerException(response, e);
+        }
+        return response;
+    }
+
     /**
      * Return the client side connection object for the Asset Lineage OMAS's out topic.
      *
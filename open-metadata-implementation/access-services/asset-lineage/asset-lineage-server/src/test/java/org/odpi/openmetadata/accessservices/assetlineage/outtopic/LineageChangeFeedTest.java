@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LineageChangeFeedTest {
+
+    @Test
+    void getChangesPagesFromCursor() {
+        LineageChangeFeed changeFeed = new LineageChangeFeed(10);
+        String cursor = changeFeed.getChanges(null, 10).getNextCursor();
+
+        changeFeed.record("e1");
+        changeFeed.record("e2");
+        changeFeed.record("e3");
+
+        LineageChanges firstPage = changeFeed.getChanges(cursor, 2);
+        assertTrue(firstPage.getCursorValid());
+        assertTrue(firstPage.getMoreChanges());
+        assertEquals(List.of("e1", "e2"), firstPage.getEvents());
+
+        LineageChanges secondPage = changeFeed.getChanges(firstPage.getNextCursor(), 2);
+        assertTrue(secondPage.getCursorValid());
+        assertFalse(secondPage.getMoreChanges());
+        assertEquals(List.of("e3"), secondPage.getEvents());
+
+        LineageChanges emptyPage = changeFeed.getChanges(secondPage.getNextCursor(), 2);
+        assertTrue(emptyPage.getCursorValid());
+        assertTrue(emptyPage.getEvents().isEmpty());
+        assertEquals(secondPage.getNextCursor(), emptyPage.getNextCursor());
+    }
+
+    @Test
+    void expiredCursorIsInvalid() {
+        LineageChangeFeed changeFeed = new LineageChangeFeed(2);
+        String cursor = changeFeed.getChanges(null, 10).getNextCursor();
+
+        changeFeed.record("e1");
+        changeFeed.record("e2");
+        changeFeed.record("e3");
+
+        LineageChanges lineageChanges = changeFeed.getChanges(cursor, 10);
+        assertFalse(lineageChanges.getCursorValid());
+        assertTrue(lineageChanges.getEvents().isEmpty());
+
+        LineageChanges fromEnd = changeFeed.getChanges(lineageChanges.getNextCursor(), 10);
+        assertTrue(fromEnd.getCursorValid());
+        assertTrue(fromEnd.getEvents().isEmpty());
+    }
+
+    @Test
+    void cursorFromAnotherFeedIsInvalid() {
+        String cursor = new LineageChangeFeed(10).getChanges(null, 10).getNextCursor();
+
+        assertFalse(new LineageChangeFeed(10).getChanges(cursor, 10).getCursorValid());
+    }
+
+    @Test
+    void storedFeedKeepsCursorsAfterRestart(@TempDir File directory) throws IOException {
+        LineageChangeFeed changeFeed = new LineageChangeFeed(directory, 10);
+        String cursor = changeFeed.getChanges(null, 10).getNextCursor();
+
+        changeFeed.record("e1");
+        changeFeed.record("e2");
+        changeFeed.close();
+
+        LineageChangeFeed reopenedFeed = new LineageChangeFeed(directory, 10);
+        assertEquals(2, reopenedFeed.getNextSequence());
+
+        reopenedFeed.record("e3");
+
+        LineageChanges lineageChanges = reopenedFeed.getChanges(cursor, 10);
+        assertTrue(lineageChanges.getCursorValid());
+        assertEquals(List.of("e1", "e2", "e3"), lineageChanges.getEvents());
+        reopenedFeed.close();
+    }
+
+    @Test
+    void storedFeedDiscardsOldestSegments(@TempDir File directory) throws IOException {
+        LineageChangeFeed changeFeed = new LineageChangeFeed(directory, 20);
+        String cursor = changeFeed.getChanges(null, 10).getNextCursor();
+
+        for (int event = 0; event < 25; event++) {
+            changeFeed.record("e" + event);
+        }
+        changeFeed.close();
+
+        assertFalse(changeFeed.getChanges(cursor, 10).getCursorValid());
+
+        LineageChangeFeed reopenedFeed = new LineageChangeFeed(directory, 20);
+        String endCursor = reopenedFeed.getChanges(null, 10).getNextCursor();
+        assertEquals(25, reopenedFeed.getNextSequence());
+        assertEquals(endCursor, changeFeed.getChanges(null, 10).getNextCursor());
+
+        File[] segmentFiles = directory.listFiles((dir, name) -> name.endsWith(".log"));
+        assertEquals(11, segmentFiles.length);
+        reopenedFeed.close();
+    }
+
+    @Test
+    void partlyWrittenEventIsRemoved(@TempDir File directory) throws IOException {
+        LineageChangeFeed changeFeed = new LineageChangeFeed(directory, 100);
+        String cursor = changeFeed.getChanges(null, 10).getNextCursor();
+
+        changeFeed.record("e1");
+        changeFeed.close();
+
+        File segmentFile = directory.listFiles((dir, name) -> name.endsWith(".log"))[0];
+        Files.write(segmentFile.toPath(), "{\"partial".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        LineageChangeFeed reopenedFeed = new LineageChangeFeed(directory, 100);
+        reopenedFeed.record("e2");
+
+        LineageChanges lineageChanges = reopenedFeed.getChanges(cursor, 10);
+        assertTrue(lineageChanges.getCursorValid());
+        assertEquals(List.of("e1", "e2"), lineageChanges.getEvents());
+        assertEquals("e1\ne2\n", new String(Files.readAllBytes(segmentFile.toPath()), StandardCharsets.UTF_8));
+        reopenedFeed.close();
+    }
+}
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.accessservices.assetlineage.server.spring;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.assetlineage.model.FindEntitiesParameters;
+import org.odpi.openmetadata.accessservices.assetlineage.rest.LineageChangesResponse;
 import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageRestServices;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
@@ -107,6 +108,23 @@ public class AssetLineageResource {
         return restAPI.publishAssetContext(serverName, userId, entityType, guid);
     }
 
+    /**
+     * Return the lineage events published on the out topic after the cursor
+     *
+     * @param serverName name of server instance to call
+     * @param userId     the name of the calling user
+     * @param cursor     cursor returned by the previous call, omitted to receive the cursor of the end of the feed
+     * @param maxChanges maximum number of events to return
+     * @return the events after the cursor and the cursor that follows them
+     */
+    @GetMapping(path = "/lineage-changes")
+    public LineageChangesResponse getLineageChanges(@PathVariable String serverName,
+                                                    @PathVariable String userId,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false, defaultValue = "1000") int maxChanges) {
+        return restAPI.getLineageChanges(serverName, userId, cursor, maxChanges);
+    }
+
     /**
      * Return the connection object for the Asset Lineage's OMAS's out topic.
      *
@@ -93,6 +93,15 @@ public class AssetManagerAdmin extends AccessServiceAdmin
                                                                accessServiceConfig.getAccessServiceOutTopic());
             this.serverName = instance.getServerName();
 
+            /*
+             * Keep the unique name index used to resolve qualified names up to date with changes made elsewhere.
+             */
+            if (omrsTopicConnector != null)
+            {
+                omrsTopicConnector.registerListener(instance.getUniqueNameIndexListener(),
+                                                    AccessServiceDescription.ASSET_MANAGER_OMAS.getAccessServiceFullName());
+            }
+
 
             /*
              * Only set up the listening and event publishing if requested in the config.
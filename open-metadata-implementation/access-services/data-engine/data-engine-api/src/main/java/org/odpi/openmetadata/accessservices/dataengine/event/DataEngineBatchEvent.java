@@ -0,0 +1,101 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.event;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFile;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * The batch event of Data Engine OMAS, carrying mixed elements that are created or updated together.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class DataEngineBatchEvent extends DataEngineEventHeader {
+
+    /**
+     * Serial version UID
+     * -- GETTER --
+     * Gets the serial version UID
+     * @return the serial version UID
+     * -- SETTER --
+     * Sets the serial version UID
+     * @param serialVersionUID the serial version UID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The schema types that are not attached to a port
+     * -- GETTER --
+     * Return the schema types
+     * @return the schema types
+     * -- SETTER --
+     * Set up the schema types
+     * @param schemaTypes the schema types
+     */
+    private List<SchemaType> schemaTypes;
+
+    /**
+     * The data files
+     * -- GETTER --
+     * Return the data files
+     * @return the data files
+     * -- SETTER --
+     * Set up the data files
+     * @param dataFiles the data files
+     */
+    private List<DataFile> dataFiles;
+
+    /**
+     * The relational tables, grouped by the qualified name of their database schema
+     * -- GETTER --
+     * Return the relational tables
+     * @return the relational tables keyed by database schema qualified name
+     * -- SETTER --
+     * Set up the relational tables
+     * @param relationalTables the relational tables keyed by database schema qualified name
+     */
+    private Map<String, List<RelationalTable>> relationalTables;
+
+    /**
+     * The processes, with their port implementations and port aliases
+     * -- GETTER --
+     * Return the processes
+     * @return the processes
+     * -- SETTER --
+     * Set up the processes
+     * @param processes the processes
+     */
+    private List<Process> processes;
+
+    /**
+     * The data flows
+     * -- GETTER --
+     * Return the data flows
+     * @return the data flows
+     * -- SETTER --
+     * Set up the data flows
+     * @param dataFlows the data flows
+     */
+    private List<DataFlow> dataFlows;
+}
@@ -44,7 +44,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         @JsonSubTypes.Type(value = DataFileEvent.class, name = "DataFileEvent"),
         @JsonSubTypes.Type(value = TopicEvent.class, name = "TopicEvent"),
         @JsonSubTypes.Type(value = EventTypeEvent.class, name = "EventTypeEvent"),
-        @JsonSubTypes.Type(value = ProcessingStateEvent.class, name = "ProcessingStateEvent")
+        @JsonSubTypes.Type(value = ProcessingStateEvent.class, name = "ProcessingStateEvent"),
+        @JsonSubTypes.Type(value = DataEngineBatchEvent.class, name = "DataEngineBatchEvent")
 })
 @Getter
 @Setter
@@ -56,7 +56,8 @@ public enum DataEngineEventType implements Serializable {
     EVENT_TYPE_EVENT(25, "EventTypeEvent", "An event that creates or updates event types."),
     DELETE_TOPIC_EVENT(26, "DeleteTopicEvent", "An event that deletes a topic."),
     DELETE_EVENT_TYPE_EVENT(27, "DeleteEventTypeEvent", "An event that deletes an event type."),
-    PROCESSING_STATE_TYPE_EVENT(28, "ProcessingStateEvent", "An event that creates or updates the processing state classification of an engine.");
+    PROCESSING_STATE_TYPE_EVENT(28, "ProcessingStateEvent", "An event that creates or updates the processing state classification of an engine."),
+    DATA_ENGINE_BATCH_EVENT(29, "DataEngineBatchEvent", "An event that creates or updates a batch of processes, schema types and data stores.");
 
     @Getter(AccessLevel.NONE)
     @Setter(AccessLevel.NONE)
@@ -72,7 +72,14 @@ public enum DataEngineAuditCode {
             OMRSAuditLogRecordSeverity.EVENT,
             "The Data Engine Open Metadata Access Service (OMAS) client has sent event of type: {0}",
             "The access service client sends out event notification produced by external source like data engine system.",
-            "This event contains external metadata changes that need to be processed by the access service.");
+            "This event contains external metadata changes that need to be processed by the access service."),
+    IN_TOPIC_EVENTS_PROCESSED("OMAS-DATA-ENGINE-0009",
+            OMRSAuditLogRecordSeverity.SHUTDOWN,
+            "The Data Engine Open Metadata Access Service (OMAS) in topic listener processed {0} events in an average of {1} ms " +
+                    "(maximum {2} ms); {3} events were not processed",
+            "The access service in topic listener has stopped and reports how many events it processed and how long they took.",
+            "Compare the processing times with the rate of events sent by the data engines.  If events were not processed, " +
+                    "send their changes again once the server is restarted.");
 
     /**
      * A message definition object for logging
@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * BatchElementResponse is the outcome of the upsert of one element of a batch: the unique identifier of the element
+ * or the exception that prevented it from being stored.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class BatchElementResponse extends GUIDResponse {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The type of the element
+     * -- GETTER --
+     * Returns the type name of the element
+     * @return the type name
+     * -- SETTER --
+     * Sets up the type name of the element
+     * @param typeName the type name
+     */
+    private String typeName;
+
+    /**
+     * The qualified name of the element
+     * -- GETTER --
+     * Returns the qualified name of the element
+     * @return the qualified name
+     * -- SETTER --
+     * Sets up the qualified name of the element
+     * @param qualifiedName the qualified name
+     */
+    private String qualifiedName;
+
+    /**
+     * Copy the outcome of a single element upsert.
+     *
+     * @param typeName      the type name of the element
+     * @param qualifiedName the qualified name of the element
+     * @param template      the response of the upsert
+     */
+    public BatchElementResponse(String typeName, String qualifiedName, GUIDResponse template) {
+        super(template);
+        this.typeName = typeName;
+        this.qualifiedName = qualifiedName;
+    }
+}
@@ -0,0 +1,90 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFile;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * DataEngineBatchRequestBody carries a batch of mixed elements that are created or updated in a single call.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class DataEngineBatchRequestBody extends DataEngineOMASAPIRequestBody {
+
+    /**
+     * The schema types that are not attached to a port
+     * -- GETTER --
+     * Returns the schema types
+     * @return the schema types
+     * -- SETTER --
+     * Sets up the schema types
+     * @param schemaTypes the schema types
+     */
+    private List<SchemaType> schemaTypes;
+
+    /**
+     * The data files
+     * -- GETTER --
+     * Returns the data files
+     * @return the data files
+     * -- SETTER --
+     * Sets up the data files
+     * @param dataFiles the data files
+     */
+    private List<DataFile> dataFiles;
+
+    /**
+     * The relational tables, grouped by the qualified name of their database schema
+     * -- GETTER --
+     * Returns the relational tables
+     * @return the relational tables keyed by database schema qualified name
+     * -- SETTER --
+     * Sets up the relational tables
+     * @param relationalTables the relational tables keyed by database schema qualified name
+     */
+    private Map<String, List<RelationalTable>> relationalTables;
+
+    /**
+     * The processes, with their port implementations and port aliases
+     * -- GETTER --
+     * Returns the processes
+     * @return the processes
+     * -- SETTER --
+     * Sets up the processes
+     * @param processes the processes
+     */
+    private List<Process> processes;
+
+    /**
+     * The data flows between the elements of the batch or elements already catalogued
+     * -- GETTER --
+     * Returns the data flows
+     * @return the data flows
+     * -- SETTER --
+     * Sets up the data flows
+     * @param dataFlows the data flows
+     */
+    private List<DataFlow> dataFlows;
+}
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Engine;
 import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.FindRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -246,6 +247,31 @@ public interface DataEngineClient {
                                                                       PropertyServerException,
                                                                       ConnectorCheckedException;
 
+    /**
+     * Create or update a batch of schema types, data files, relational tables, processes and data flows in a single call.
+     * A failing element does not stop the rest of the batch.
+     *
+     * @param userId           the name of the calling user
+     * @param schemaTypes      list of schema types
+     * @param dataFiles        list of data files
+     * @param relationalTables relational tables keyed by the qualified name of their database schema
+     * @param processes        list of processes
+     * @param dataFlows        list of data flows
+     *
+     * @return one response per element, or null if the batch is processed asynchronously
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     * @throws ConnectorCheckedException  internal problem with the connector
+     */
+    List<BatchElementResponse> upsertBatch(String userId, List<SchemaType> schemaTypes, List<DataFile> dataFiles,
+                                           Map<String, List<RelationalTable>> relationalTables, List<Process> processes,
+                                           List<DataFlow> dataFlows) throws InvalidParameterException,
+                                                                            UserNotAuthorizedException,
+                                                                            PropertyServerException,
+                                                                            ConnectorCheckedException;
+
     /**
      * Sets external source system name using the data engine client
      *
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.dataengine.client;
 
 import org.odpi.openmetadata.accessservices.dataengine.connectors.intopic.DataEngineInTopicClientConnector;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineBatchEvent;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineEventType;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineRegistrationEvent;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataFileEvent;
@@ -35,6 +36,7 @@ import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Engine;
 import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.FindRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -271,6 +273,29 @@ public class DataEngineEventClient implements DataEngineClient {
         topicConnector.sendEvent(event);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchElementResponse> upsertBatch(String userId, List<SchemaType> schemaTypes, List<DataFile> dataFiles,
+                                                  Map<String, List<RelationalTable>> relationalTables, List<Process> processes,
+                                                  List<DataFlow> dataFlows) throws InvalidParameterException, ConnectorCheckedException {
+        DataEngineBatchEvent event = new DataEngineBatchEvent();
+        event.setUserId(userId);
+        event.setExternalSourceName(externalSource);
+        event.setDataEngineEventType(DataEngineEventType.DATA_ENGINE_BATCH_EVENT);
+        event.setSchemaTypes(schemaTypes);
+        event.setDataFiles(dataFiles);
+        event.setRelationalTables(relationalTables);
+        event.setProcesses(processes);
+        event.setDataFlows(dataFlows);
+
+        topicConnector.sendEvent(event);
+
+        //async interaction
+        return null;
+    }
+
     /**
      * Sets external source system name using the data engine client
      *
@@ -18,6 +18,9 @@ import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Engine;
 import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineOMASAPIRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
@@ -75,6 +78,7 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
     private static final String TOPIC_URL_TEMPLATE = DATA_ENGINE_PATH + "topics";
     private static final String EVENT_TYPE_URL_TEMPLATE = DATA_ENGINE_PATH + "event-types";
     private static final String PROCESSING_STATE_URL_TEMPLATE = DATA_ENGINE_PATH + "processing-state";
+    private static final String BATCH_URL_TEMPLATE = DATA_ENGINE_PATH + "batch";
 
     private static final String PROCESS_METHOD_NAME = "createOrUpdateProcess";
     private static final String PROCESS_DELETE_METHOD_NAME = "deleteProcess";
@@ -88,6 +92,7 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
     private static final String PORT_ALIAS_DELETE_METHOD_NAME = "deletePortAlias";
     private static final String PROCESS_HIERARCHY_METHOD_NAME = "createOrUpdateProcessHierarchy";
     private static final String DATA_FLOWS_METHOD_NAME = "addDataFlows";
+    private static final String BATCH_METHOD_NAME = "upsertBatch";
     private static final String DATABASE_METHOD_NAME = "upsertDatabase";
     private static final String DATABASE_SCHEMA_METHOD_NAME = "upsertDatabaseSchema";
     private static final String RELATIONAL_TABLE_METHOD_NAME = "upsertRelationalTable";
@@ -340,6 +345,40 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
         callVoidPostRESTCall(userId, methodName, DATA_FLOWS_URL_TEMPLATE, requestBody);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchElementResponse> upsertBatch(String userId, List<SchemaType> schemaTypes, List<DataFile> dataFiles,
+                                                  Map<String, List<RelationalTable>> relationalTables, List<Process> processes,
+                                                  List<DataFlow> dataFlows) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException,
+                                                                                   PropertyServerException {
+        final String methodName = BATCH_METHOD_NAME;
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        DataEngineBatchRequestBody requestBody = new DataEngineBatchRequestBody();
+        requestBody.setSchemaTypes(schemaTypes);
+        requestBody.setDataFiles(dataFiles);
+        requestBody.setRelationalTables(relationalTables);
+        requestBody.setProcesses(processes);
+        requestBody.setDataFlows(dataFlows);
+        requestBody.setExternalSourceName(externalSourceName);
+
+        DataEngineBatchResponse restResult = callPostRESTCall(methodName, DataEngineBatchResponse.class,
+                serverPlatformRootURL + BATCH_URL_TEMPLATE, requestBody, serverName, userId);
+
+        exceptionHandler.detectAndThrowInvalidParameterException(methodName, restResult);
+        exceptionHandler.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        exceptionHandler.detectAndThrowPropertyServerException(methodName, restResult);
+
+        if (restResult == null || restResult.getElementResponses() == null) {
+            return Collections.emptyList();
+        }
+        return restResult.getElementResponses();
+    }
+
     /**
      * {@inheritDoc}
      */
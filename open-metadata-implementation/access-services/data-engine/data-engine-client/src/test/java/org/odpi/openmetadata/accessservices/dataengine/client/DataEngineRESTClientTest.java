@@ -10,6 +10,8 @@ import org.odpi.openmetadata.accessservices.dataengine.model.DataFile;
 import org.odpi.openmetadata.accessservices.dataengine.model.Database;
 import org.odpi.openmetadata.accessservices.dataengine.model.DatabaseSchema;
 import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchResponse;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
@@ -21,7 +23,9 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -106,6 +110,22 @@ public class DataEngineRESTClientTest {
         assertEquals(GUID, response.getGUID());
     }
 
+    @Test
+    public void upsertBatch() throws RESTServerException, InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        DataEngineBatchResponse response = new DataEngineBatchResponse();
+        response.setElementResponses(Collections.singletonList(new BatchElementResponse("DataFile", QUALIFIED_NAME, mockGUIDResponse())));
+        DataFile dataFile = new DataFile();
+        dataFile.setQualifiedName(QUALIFIED_NAME);
+
+        when(connector.callPostRESTCall(eq("upsertBatch"), eq(DataEngineBatchResponse.class), anyString(), any(), any()))
+                .thenReturn(response);
+        List<BatchElementResponse> elementResponses = dataEngineRESTClient.upsertBatch(USER_ID, null,
+                Collections.singletonList(dataFile), null, null, null);
+
+        assertEquals(1, elementResponses.size());
+        assertEquals(GUID, elementResponses.get(0).getGUID());
+    }
+
     @Test
     public void deleteDatabase() throws RESTServerException, InvalidParameterException, PropertyServerException {
         VoidResponse response = mockVoidResponse();
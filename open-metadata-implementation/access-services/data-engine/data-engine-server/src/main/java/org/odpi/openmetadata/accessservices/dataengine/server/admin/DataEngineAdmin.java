@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DataEngineAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -32,10 +33,23 @@ public class DataEngineAdmin extends AccessServiceAdmin {
 
     private AuditLog auditLog;
     private DataEngineServicesInstance instance;
+    private DataEngineInTopicListener dataEngineInTopicListener;
     private String serverName;
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineAdmin.class);
 
+    /**
+     * Access service option that bounds the number of elements of a batch upsert that are written concurrently.
+     */
+    public static final String BATCH_UPSERT_PARALLELISM_PROPERTY = "BatchUpsertParallelism";
+    private static final int DEFAULT_BATCH_UPSERT_PARALLELISM = 4;
+
+    /**
+     * Access service option that sets the number of partitions the in topic events are processed on.
+     */
+    public static final String EVENT_PROCESSING_PARTITIONS_PROPERTY = "EventProcessingPartitions";
+    private static final int DEFAULT_EVENT_PROCESSING_PARTITIONS = 1;
+
     /**
      * Initialize the access service.
      *
@@ -66,13 +80,25 @@ public class DataEngineAdmin extends AccessServiceAdmin {
                     super.getOutTopicConnection(accessServiceConfig.getAccessServiceInTopic(),
                             AccessServiceDescription.DATA_ENGINE_OMAS.getAccessServiceFullName(),
                             DataEngineInTopicClientProvider.class.getName(),
-                            auditLog)); //TODO: using getOutTopicConnection temporary, we need getInTopicConnection... Check the correct way to create connection for the omas instance - using dedicated client provider class name (current impl.) or provided by the accessServiceConfig.getAccessServiceInTopic() (?)
+                            auditLog), //TODO: using getOutTopicConnection temporary, we need getInTopicConnection... Check the correct way to create connection for the omas instance - using dedicated client provider class name (current impl.) or provided by the accessServiceConfig.getAccessServiceInTopic() (?)
+                    getPositiveIntegerOption(accessServiceConfig.getAccessServiceOptions(), BATCH_UPSERT_PARALLELISM_PROPERTY,
+                            DEFAULT_BATCH_UPSERT_PARALLELISM));
 
             serverName = instance.getServerName();
 
+            /*
+             * Keep the unique name index used to resolve qualified names up to date with changes made elsewhere.
+             */
+            if (enterpriseOMRSTopicConnector != null) {
+                enterpriseOMRSTopicConnector.registerListener(instance.getUniqueNameIndexListener(),
+                        AccessServiceDescription.DATA_ENGINE_OMAS.getAccessServiceFullName());
+            }
+
             if (accessServiceConfig.getAccessServiceInTopic() != null) {
                 DataEngineEventProcessor dataEngineEventProcessor = new DataEngineEventProcessor(instance, auditLog);
-                DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor);
+                dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor,
+                        getPositiveIntegerOption(accessServiceConfig.getAccessServiceOptions(), EVENT_PROCESSING_PARTITIONS_PROPERTY,
+                                DEFAULT_EVENT_PROCESSING_PARTITIONS));
 
                 OpenMetadataTopicConnector dataEngineInTopicConnector = initializeDataEngineTopicConnector(
                         accessServiceConfig.getAccessServiceInTopic()); //TODO: Check if this should be moved / done form AccessServicesAdmin (?)
@@ -100,6 +126,10 @@ public class DataEngineAdmin extends AccessServiceAdmin {
     @Override
     public void shutdown() {
 
+        if (dataEngineInTopicListener != null) {
+            dataEngineInTopicListener.shutdown();
+        }
+
         if (instance != null) {
             instance.shutdown();
         }
@@ -111,6 +141,34 @@ public class DataEngineAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Returns the value of an access service option that must be a positive number
+     *
+     * @param accessServiceOptions options passed to the access service
+     * @param optionName           name of the option
+     * @param defaultValue         value used when the option is absent or not a positive number
+     *
+     * @return the configured value, or the default when it is absent or not a positive number
+     */
+    private int getPositiveIntegerOption(Map<String, Object> accessServiceOptions, String optionName, int defaultValue) {
+        if (accessServiceOptions == null || accessServiceOptions.get(optionName) == null) {
+            return defaultValue;
+        }
+
+        Object option = accessServiceOptions.get(optionName);
+        try {
+            int value = Integer.parseInt(option.toString());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Invalid value {} for option {}", option, optionName, e);
+        }
+
+        log.warn("Ignoring invalid value {} for option {}, using {}", option, optionName, defaultValue);
+        return defaultValue;
+    }
+
     /**
      * Returns the connector created from topic connection properties
      *
@@ -74,6 +74,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 
 import java.time.Clock;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * DataEngineServicesInstance caches references to OMRS objects for a specific server.
@@ -203,6 +205,15 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
     @Getter(AccessLevel.PACKAGE)
     private final DataEngineSchemaAttributeHandler dataEngineSchemaAttributeHandler;
 
+    /**
+     * The executor that applies the elements of a batch upsert, sized by the batch upsert parallelism option
+     * -- GETTER --
+     * Returns the executor used for batch upserts.
+     * @return the batch upsert executor
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final ExecutorService batchUpsertExecutor;
+
     /**
      * Sets up the local repository connector that will service the REST Calls
      *
@@ -212,12 +223,14 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
      * @param auditLog            logging destination
      * @param localServerUserId   userId used for server initiated actions
      * @param maxPageSize         max number of results to return on single request
+     * @param inTopicConnection   connection of the in topic
+     * @param batchUpsertParallelism maximum number of elements of a batch upsert that are written concurrently
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
     DataEngineServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones, List<String> defaultZones,
-                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection) throws
-                                                                                                                           NewInstanceException {
+                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection,
+                               int batchUpsertParallelism) throws NewInstanceException {
 
 
         super(description.getAccessServiceFullName(), repositoryConnector, supportedZones, defaultZones, null, auditLog,
@@ -232,6 +245,8 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
                     methodName);
         }
 
+        this.batchUpsertExecutor = Executors.newFixedThreadPool(batchUpsertParallelism);
+
         final AssetHandler<Process> assetHandler = new AssetHandler<>(new ProcessConverter<>(repositoryHelper, serviceName, serverName),
                 Process.class, serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper, localServerUserId,
                 securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
@@ -376,4 +391,14 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
         dataEngineEventTypeHandler = new DataEngineEventTypeHandler(invalidParameterHandler, eventTypeHandler, dataEngineRegistrationHandler,
                 dataEngineCommonHandler, dataEngineSchemaAttributeHandler);
     }
+
+    /**
+     * Release the threads used for batch upserts before the instance is unregistered.
+     */
+    @Override
+    public void shutdown() {
+        batchUpsertExecutor.shutdownNow();
+
+        super.shutdown();
+    }
 }
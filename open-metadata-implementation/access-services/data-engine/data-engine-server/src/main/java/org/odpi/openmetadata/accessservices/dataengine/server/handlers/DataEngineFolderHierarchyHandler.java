@@ -24,9 +24,12 @@ import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FILE_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.FILE_FOLDER_TYPE_GUID;
@@ -94,25 +97,55 @@ public class DataEngineFolderHierarchyHandler {
         validateParameters(fileGuid, externalSourceGuid, externalSourceName, userId, methodName);
         List<FileFolder> folders = extractFolders(pathName, externalSourceName, methodName);
 
-        String folderGuid = "";
-        String previousEntityGuid = fileGuid;
-        String previousEntityType = fileType;
-        String relationshipTypeName = NESTED_FILE_TYPE_NAME;
-        for (FileFolder folder : folders) {
-            if (relationshipTypeName.equals(NESTED_FILE_TYPE_NAME)) {
-                deleteExistingNestedFileRelationships(fileGuid, externalSourceGuid, externalSourceName, userId, methodName);
-            }
-            folderGuid = upsertFolder(externalSourceGuid, externalSourceName, folder, userId, methodName);
-            dataEngineCommonHandler.upsertExternalRelationship(userId, folderGuid, previousEntityGuid, relationshipTypeName,
-                    FILE_FOLDER_TYPE_NAME, previousEntityType, externalSourceName, null);
+        deleteExistingNestedFileRelationships(fileGuid, externalSourceGuid, externalSourceName, userId, methodName);
+        String folderGuid = upsertFolders(folders, externalSourceGuid, externalSourceName, userId, methodName);
+        dataEngineCommonHandler.upsertExternalRelationship(userId, folderGuid, fileGuid, NESTED_FILE_TYPE_NAME,
+                FILE_FOLDER_TYPE_NAME, fileType, externalSourceName, null);
+    }
+
+    /**
+     * Construct the folder structures in which the data files are stored all the way to the Engine, without linking the files.
+     * Each folder structure is upserted once, even when it is shared by several files, so that the files can then be upserted
+     * concurrently without each of them creating the folders it does not find yet. A path without a folder is skipped, it is
+     * reported when its data file is upserted.
+     *
+     * @param pathNames          file paths
+     * @param externalSourceGuid external source guid
+     * @param externalSourceName external source name
+     * @param userId             user id
+     * @param methodName         method name
+     *
+     * @throws InvalidParameterException  if invalid parameters
+     * @throws PropertyServerException    if errors in repository
+     * @throws UserNotAuthorizedException if user not authorized
+     */
+    public void upsertFolderHierarchies(Collection<String> pathNames, String externalSourceGuid, String externalSourceName,
+                                        String userId, String methodName)
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
 
-            previousEntityGuid = folderGuid;
-            previousEntityType = FILE_FOLDER_TYPE_NAME;
-            relationshipTypeName = FOLDER_HIERARCHY_TYPE_NAME;
+        if (CollectionUtils.isEmpty(pathNames)) {
+            return;
         }
+        invalidParameterHandler.validateObject(externalSourceGuid, "externalSourceGuid", methodName);
+        invalidParameterHandler.validateObject(externalSourceName, "externalSourceName", methodName);
 
-        dataEngineCommonHandler.upsertExternalRelationship(userId, externalSourceGuid, folderGuid, SERVER_ASSET_USE_TYPE_NAME,
-                SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, FILE_FOLDER_TYPE_NAME, externalSourceName, null);
+        Set<String> upsertedFolders = new HashSet<>();
+        for (String pathName : pathNames) {
+            if (StringUtils.isEmpty(pathName)) {
+                continue;
+            }
+
+            List<FileFolder> folders;
+            try {
+                folders = extractFolders(pathName, externalSourceName, methodName);
+            } catch (InvalidParameterException error) {
+                continue;
+            }
+
+            if (CollectionUtils.isNotEmpty(folders) && upsertedFolders.add(folders.get(0).getQualifiedName())) {
+                upsertFolders(folders, externalSourceGuid, externalSourceName, userId, methodName);
+            }
+        }
     }
 
     /**
@@ -158,6 +191,39 @@ public class DataEngineFolderHierarchyHandler {
         }
     }
 
+    /**
+     * Upsert the folders from the one containing a file up to the root, link each folder to the folder containing it and
+     * link the root to the Engine.
+     *
+     * @param folders            the folders, starting with the one containing the file
+     * @param externalSourceGuid external source guid
+     * @param externalSourceName external source name
+     * @param userId             user id
+     * @param methodName         method name
+     *
+     * @return the guid of the folder containing the file
+     */
+    private String upsertFolders(List<FileFolder> folders, String externalSourceGuid, String externalSourceName, String userId,
+                                 String methodName) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String containingFolderGuid = null;
+        String folderGuid = null;
+        for (FileFolder folder : folders) {
+            String parentFolderGuid = upsertFolder(externalSourceGuid, externalSourceName, folder, userId, methodName);
+            if (folderGuid == null) {
+                containingFolderGuid = parentFolderGuid;
+            } else {
+                dataEngineCommonHandler.upsertExternalRelationship(userId, parentFolderGuid, folderGuid, FOLDER_HIERARCHY_TYPE_NAME,
+                        FILE_FOLDER_TYPE_NAME, FILE_FOLDER_TYPE_NAME, externalSourceName, null);
+            }
+            folderGuid = parentFolderGuid;
+        }
+
+        dataEngineCommonHandler.upsertExternalRelationship(userId, externalSourceGuid, folderGuid, SERVER_ASSET_USE_TYPE_NAME,
+                SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, FILE_FOLDER_TYPE_NAME, externalSourceName, null);
+
+        return containingFolderGuid;
+    }
+
     private String upsertFolder(String externalSourceGuid, String externalSourceName, FileFolder folder, String userId, String methodName)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         Optional<EntityDetail> folderAsEntity = dataEngineCommonHandler.findEntity(userId, folder.getQualifiedName(), FILE_FOLDER_TYPE_NAME);
@@ -271,22 +271,49 @@ public class DataEngineRelationalDataHandler {
     public String upsertRelationalTable(String userId, String databaseSchemaQualifiedName, RelationalTable relationalTable,
                                         String externalSourceName) throws InvalidParameterException,
                                                                                               PropertyServerException, UserNotAuthorizedException {
+        String externalSourceGUID = registrationHandler.getExternalDataEngine(userId, externalSourceName);
+
+        return upsertRelationalTable(userId, databaseSchemaQualifiedName, null, relationalTable, externalSourceName, externalSourceGUID);
+    }
+
+    /**
+     * Create or update the relational table, using the identifiers of the database schema and of the external source
+     * that the caller has already resolved
+     *
+     * @param userId                      the name of the calling user
+     * @param databaseSchemaQualifiedName the database qualified name
+     * @param databaseSchemaGUID          the unique identifier of the database schema, or null to look it up when the table is created
+     * @param relationalTable             the values of the relational table
+     * @param externalSourceName          the unique name of the external source
+     * @param externalSourceGUID          the unique identifier of the external source
+     *
+     * @return unique identifier of the relational table in the repository
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public String upsertRelationalTable(String userId, String databaseSchemaQualifiedName, String databaseSchemaGUID,
+                                        RelationalTable relationalTable, String externalSourceName,
+                                        String externalSourceGUID) throws InvalidParameterException, PropertyServerException,
+                                                                          UserNotAuthorizedException {
         final String methodName = "upsertRelationalTable";
         validateParameters(userId, methodName, relationalTable.getQualifiedName(), relationalTable.getDisplayName());
-        String externalSourceGUID = registrationHandler.getExternalDataEngine(userId, externalSourceName);
 
         String relationalTableGUID;
         Optional<EntityDetail> originalRelationalTableEntity = dataEngineCommonHandler.findEntity(userId,
                 relationalTable.getQualifiedName(), RELATIONAL_TABLE_TYPE_NAME);
         Date now = dataEngineCommonHandler.getNow();
         if (originalRelationalTableEntity.isEmpty()) {
-            Optional<EntityDetail> databaseSchemaEntity = findDatabaseSchemaEntity(userId, databaseSchemaQualifiedName);
-            if (databaseSchemaEntity.isEmpty()) {
-                dataEngineCommonHandler.throwInvalidParameterException(DataEngineErrorCode.DATABASE_SCHEMA_NOT_FOUND,
-                        methodName, databaseSchemaQualifiedName);
+            if (databaseSchemaGUID == null) {
+                Optional<EntityDetail> databaseSchemaEntity = findDatabaseSchemaEntity(userId, databaseSchemaQualifiedName);
+                if (databaseSchemaEntity.isEmpty()) {
+                    dataEngineCommonHandler.throwInvalidParameterException(DataEngineErrorCode.DATABASE_SCHEMA_NOT_FOUND,
+                            methodName, databaseSchemaQualifiedName);
+                }
+                databaseSchemaGUID = databaseSchemaEntity.get().getGUID();
             }
 
-            String databaseSchemaGUID = databaseSchemaEntity.get().getGUID();
             relationalTableGUID = relationalDataHandler.createDatabaseTable(userId, externalSourceGUID, externalSourceName, databaseSchemaGUID,
                     relationalTable.getQualifiedName(), relationalTable.getDisplayName(), relationalTable.getDescription(),
                     relationalTable.getIsDeprecated(), relationalTable.getAliases(), relationalTable.getAdditionalProperties(),
@@ -5,7 +5,18 @@ package org.odpi.openmetadata.accessservices.dataengine.server.listeners;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.commons.lang3.StringUtils;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineEventHeader;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineEventType;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataFileEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.DeleteEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.EventTypeEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.PortAliasEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.PortImplementationEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.ProcessEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.RelationalTableEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.SchemaTypeEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.TopicEvent;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineAuditCode;
 import org.odpi.openmetadata.accessservices.dataengine.server.processors.DataEngineEventProcessor;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -14,27 +25,134 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The Data Engine in topic processor is listening events from external data engines about
  * metadata changes. It will handle different types of events defined in Data Engine OMAS API module.
+ * <p>
+ * By default the events are processed one after the other on the topic listener thread. When more than one partition
+ * is requested, the events are parsed on the listener thread and processed on single threaded partitions selected
+ * from the qualified name of the process, table, file or topic that owns the change, so the changes of one element
+ * stay ordered while the changes of unrelated elements run concurrently. Events that span several elements, such as
+ * data flows or the registration of an external data engine, wait for all the partitions to drain before they are
+ * processed on the listener thread. Each partition queues a bounded number of events; when the queue is full the
+ * listener thread waits, so the topic consumer stops reading until the partition catches up.
  */
 public class DataEngineInTopicListener implements OpenMetadataTopicListener {
     private static final Logger log = LoggerFactory.getLogger(DataEngineInTopicListener.class);
     private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
+    private static final String PROCESS_EVENT_ACTION = "process Data Engine inTopic Event";
+    private static final String SHUTDOWN_ACTION = "shutdown Data Engine inTopic listener";
+    private static final String PARTITION_THREAD_NAME = "DataEngineInTopicPartition-%d";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    public static final int DEFAULT_PARTITION_QUEUE_CAPACITY = 1000;
+
+    /*
+     * The deletes that are processed on the partition of the element they delete. The other deletes cascade to, or
+     * are keyed differently from, elements changed on other partitions, so they wait for all the partitions to drain.
+     * Relational tables and data files are upserted on the partition of their database schema or folder, which a delete
+     * does not name.
+     */
+    private static final Set<DataEngineEventType> PARTITIONED_DELETE_EVENT_TYPES = EnumSet.of(DataEngineEventType.DELETE_PROCESS_EVENT,
+            DataEngineEventType.DELETE_TOPIC_EVENT);
+
+    /*
+     * Makes the listener thread wait for room in the queue of a partition rather than rejecting the event.
+     */
+    private static final RejectedExecutionHandler WAIT_FOR_QUEUE = (runnable, executor) -> {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Data Engine In Topic partition is shut down");
+        }
+        try {
+            executor.getQueue().put(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the Data Engine In Topic partition", e);
+        }
+        if (executor.isShutdown() && executor.remove(runnable)) {
+            throw new RejectedExecutionException("Data Engine In Topic partition is shut down");
+        }
+    };
+
     private final AuditLog auditLog;
     private final DataEngineEventProcessor dataEngineEventProcessor;
+    private final List<ExecutorService> partitions;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong processedEventCount = new AtomicLong();
+    private final AtomicLong totalProcessingTime = new AtomicLong();
+    private final AtomicLong maxProcessingTime = new AtomicLong();
 
     /**
      * The constructor is given the connection to the out topic for Data Engine OMAS along with classes for
-     * testing and manipulating instances.
+     * testing and manipulating instances. The events are processed on the topic listener thread.
      *
      * @param auditLog                 audit log
      * @param dataEngineEventProcessor the event processor for Data Engine OMAS
      */
     public DataEngineInTopicListener(AuditLog auditLog, DataEngineEventProcessor dataEngineEventProcessor) {
+        this(auditLog, dataEngineEventProcessor, 1);
+    }
+
+    /**
+     * The constructor is given the connection to the out topic for Data Engine OMAS along with classes for
+     * testing and manipulating instances, and the number of partitions the events are processed on.
+     *
+     * @param auditLog                 audit log
+     * @param dataEngineEventProcessor the event processor for Data Engine OMAS
+     * @param partitionCount           number of partitions; with one partition the events are processed on the topic
+     *                                 listener thread
+     */
+    public DataEngineInTopicListener(AuditLog auditLog, DataEngineEventProcessor dataEngineEventProcessor, int partitionCount) {
+        this(auditLog, dataEngineEventProcessor, partitionCount, DEFAULT_PARTITION_QUEUE_CAPACITY);
+    }
+
+    /**
+     * The constructor is given the connection to the out topic for Data Engine OMAS along with classes for
+     * testing and manipulating instances, the number of partitions the events are processed on and the number of
+     * events each partition queues before the listener thread waits.
+     *
+     * @param auditLog                 audit log
+     * @param dataEngineEventProcessor the event processor for Data Engine OMAS
+     * @param partitionCount           number of partitions; with one partition the events are processed on the topic
+     *                                 listener thread
+     * @param queueCapacity            maximum number of events waiting on each partition
+     */
+    public DataEngineInTopicListener(AuditLog auditLog, DataEngineEventProcessor dataEngineEventProcessor, int partitionCount,
+                                     int queueCapacity) {
         this.auditLog = auditLog;
         this.dataEngineEventProcessor = dataEngineEventProcessor;
+
+        if (partitionCount > 1) {
+            List<ExecutorService> executors = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                String threadName = String.format(PARTITION_THREAD_NAME, i);
+                executors.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(Math.max(queueCapacity, 1)), runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                }, WAIT_FOR_QUEUE));
+            }
+            this.partitions = Collections.unmodifiableList(executors);
+        } else {
+            this.partitions = Collections.emptyList();
+        }
     }
 
     /**
@@ -54,105 +172,344 @@ public class DataEngineInTopicListener implements OpenMetadataTopicListener {
                 DataEngineEventHeader dataEngineEventHeader = OBJECT_READER.readValue(dataEngineEvent, DataEngineEventHeader.class);
 
                 if ((dataEngineEventHeader != null)) {
-                    switch (dataEngineEventHeader.getDataEngineEventType()) {
-
-                        case DATA_ENGINE_REGISTRATION_EVENT:
-                            dataEngineEventProcessor.processDataEngineRegistrationEvent(dataEngineEvent);
-                            break;
-                        case DATA_FLOWS_EVENT:
-                            dataEngineEventProcessor.processDataFlowsEvent(dataEngineEvent);
-                            break;
-                        case PORT_ALIAS_EVENT:
-                            dataEngineEventProcessor.processPortAliasEvent(dataEngineEvent);
-                            break;
-                        case PORT_IMPLEMENTATION_EVENT:
-                            dataEngineEventProcessor.processPortImplementationEvent(dataEngineEvent);
-                            break;
-                        case PROCESS_EVENT:
-                            dataEngineEventProcessor.processProcessEvent(dataEngineEvent);
-                            break;
-                        case SCHEMA_TYPE_EVENT:
-                            dataEngineEventProcessor.processSchemaTypeEvent(dataEngineEvent);
-                            break;
-                        case PROCESS_HIERARCHY_EVENT:
-                            dataEngineEventProcessor.processProcessHierarchyEvent(dataEngineEvent);
-                            break;
-                        case DELETE_PROCESS_EVENT:
-                            dataEngineEventProcessor.processDeleteProcessEvent(dataEngineEvent);
-                            break;
-                        case DELETE_PORT_IMPLEMENTATION_EVENT:
-                            dataEngineEventProcessor.processDeletePortImplementationEvent(dataEngineEvent);
-                            break;
-                        case DELETE_PORT_ALIAS_EVENT:
-                            dataEngineEventProcessor.processDeletePortAliasEvent(dataEngineEvent);
-                            break;
-                        case DELETE_SCHEMA_TYPE_EVENT:
-                            dataEngineEventProcessor.processDeleteSchemaTypeEvent(dataEngineEvent);
-                            break;
-                        case DELETE_DATA_ENGINE_EVENT:
-                            dataEngineEventProcessor.processDeleteDataEngineEvent(dataEngineEvent);
-                            break;
-                        case DATABASE_EVENT:
-                            dataEngineEventProcessor.processDatabaseEvent(dataEngineEvent);
-                            break;
-                        case DATABASE_SCHEMA_EVENT:
-                            dataEngineEventProcessor.processDatabaseSchemaEvent(dataEngineEvent);
-                            break;
-                        case RELATIONAL_TABLE_EVENT:
-                            dataEngineEventProcessor.processRelationalTableEvent(dataEngineEvent);
-                            break;
-                        case DATA_FILE_EVENT:
-                            dataEngineEventProcessor.processDataFileEvent(dataEngineEvent);
-                            break;
-                        case DELETE_DATABASE_EVENT:
-                            dataEngineEventProcessor.processDeleteDatabaseEvent(dataEngineEvent);
-                            break;
-                        case DELETE_DATABASE_SCHEMA_EVENT:
-                            dataEngineEventProcessor.processDeleteDatabaseSchemaEvent(dataEngineEvent);
-                            break;
-                        case DELETE_RELATIONAL_TABLE_EVENT:
-                            dataEngineEventProcessor.processDeleteRelationalTableEvent(dataEngineEvent);
-                            break;
-                        case DELETE_DATA_FILE_EVENT:
-                            dataEngineEventProcessor.processDeleteDataFileEvent(dataEngineEvent);
-                            break;
-                        case DELETE_FOLDER_EVENT:
-                            dataEngineEventProcessor.processDeleteFolderEvent(dataEngineEvent);
-                            break;
-                        case DELETE_CONNECTION_EVENT:
-                            dataEngineEventProcessor.processDeleteConnectionEvent(dataEngineEvent);
-                            break;
-                        case DELETE_ENDPOINT_EVENT:
-                            dataEngineEventProcessor.processDeleteEndpointEvent(dataEngineEvent);
-                            break;
-                        case TOPIC_EVENT:
-                            dataEngineEventProcessor.processTopicEvent(dataEngineEvent);
-                            break;
-                        case EVENT_TYPE_EVENT:
-                            dataEngineEventProcessor.processEventTypeEvent(dataEngineEvent);
-                            break;
-                        case DELETE_TOPIC_EVENT:
-                            dataEngineEventProcessor.processDeleteTopicEvent(dataEngineEvent);
-                            break;
-                        case DELETE_EVENT_TYPE_EVENT:
-                            dataEngineEventProcessor.processDeleteEventTypeEvent(dataEngineEvent);
-                            break;
-                        case PROCESSING_STATE_TYPE_EVENT:
-                            dataEngineEventProcessor.processProcessingStateEvent(dataEngineEvent);
-                            break;
-                        default:
-                            log.debug("Ignored instance event - unknown event type");
-                            break;
-                    }
+                    submit(dataEngineEventHeader, dataEngineEvent);
                 } else {
                     log.debug("Ignored instance event - null Data Engine event type");
                 }
             } catch (IOException e) {
                 log.debug("Exception processing event from in Data Engine In Topic", e);
 
-                auditLog.logException("process Data Engine inTopic Event",
+                auditLog.logException(PROCESS_EVENT_ACTION,
                         DataEngineAuditCode.PROCESS_EVENT_EXCEPTION.getMessageDefinition(e.getMessage()), e);
             }
         }
     }
+
+    /**
+     * Returns the number of events that were received but whose processing has not completed yet
+     *
+     * @return the number of pending events
+     */
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * Returns the number of events processed since the listener was created
+     *
+     * @return the number of processed events
+     */
+    public long getProcessedEventCount() {
+        return processedEventCount.get();
+    }
+
+    /**
+     * Returns the average time spent processing an event
+     *
+     * @return the average processing time in milliseconds
+     */
+    public double getAverageProcessingTime() {
+        long count = processedEventCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        return totalProcessingTime.get() / (count * 1_000_000d);
+    }
+
+    /**
+     * Returns the longest time spent processing an event
+     *
+     * @return the maximum processing time in milliseconds
+     */
+    public double getMaxProcessingTime() {
+        return maxProcessingTime.get() / 1_000_000d;
+    }
+
+    /**
+     * Stops the partitions once the events waiting on them are processed, and records the event processing
+     * statistics in the audit log. The events still waiting when the partitions fail to drain in time are discarded.
+     */
+    public void shutdown() {
+        partitions.forEach(ExecutorService::shutdown);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        try {
+            for (ExecutorService partition : partitions) {
+                if (!partition.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                    log.debug("Data Engine In Topic partition did not drain in {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+                    partition.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            partitions.forEach(ExecutorService::shutdownNow);
+            Thread.currentThread().interrupt();
+        }
+
+        auditLog.logMessage(SHUTDOWN_ACTION, DataEngineAuditCode.IN_TOPIC_EVENTS_PROCESSED.getMessageDefinition(
+                String.valueOf(getProcessedEventCount()), String.format("%.3f", getAverageProcessingTime()),
+                String.format("%.3f", getMaxProcessingTime()), String.valueOf(getBacklog())));
+    }
+
+    /**
+     * Processes the event on the partition that owns the changed element, or on the calling thread when the event is
+     * not partitioned.
+     *
+     * @param dataEngineEventHeader parsed event
+     * @param dataEngineEvent       inbound event
+     */
+    private void submit(DataEngineEventHeader dataEngineEventHeader, String dataEngineEvent) {
+        backlog.incrementAndGet();
+
+        if (partitions.isEmpty()) {
+            process(dataEngineEventHeader, dataEngineEvent);
+            return;
+        }
+
+        String partitionKey = getPartitionKey(dataEngineEventHeader);
+        try {
+            if (partitionKey == null) {
+                awaitPartitions();
+                process(dataEngineEventHeader, dataEngineEvent);
+            } else {
+                partitions.get(Math.floorMod(partitionKey.hashCode(), partitions.size()))
+                        .execute(() -> process(dataEngineEventHeader, dataEngineEvent));
+            }
+        } catch (RejectedExecutionException e) {
+            backlog.decrementAndGet();
+            log.debug("Data Engine In Topic partition is shut down", e);
+
+            auditLog.logException(PROCESS_EVENT_ACTION,
+                    DataEngineAuditCode.PROCESS_EVENT_EXCEPTION.getMessageDefinition(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Waits until all the events already handed to the partitions are processed.
+     */
+    private void awaitPartitions() {
+        List<Future<?>> markers = new ArrayList<>(partitions.size());
+        for (ExecutorService partition : partitions) {
+            markers.add(partition.submit(() -> { }));
+        }
+
+        for (Future<?> marker : markers) {
+            try {
+                marker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.debug("Unable to wait for the Data Engine In Topic partitions", e);
+            }
+        }
+    }
+
+    /**
+     * Processes the event and records the time it took.
+     *
+     * @param dataEngineEventHeader parsed event
+     * @param dataEngineEvent       inbound event
+     */
+    private void process(DataEngineEventHeader dataEngineEventHeader, String dataEngineEvent) {
+        long start = System.nanoTime();
+        try {
+            dispatch(dataEngineEventHeader, dataEngineEvent);
+        } catch (RuntimeException e) {
+            log.debug("Exception processing event from in Data Engine In Topic", e);
+
+            auditLog.logException(PROCESS_EVENT_ACTION,
+                    DataEngineAuditCode.PROCESS_EVENT_EXCEPTION.getMessageDefinition(e.getMessage()), e);
+        } finally {
+            long duration = System.nanoTime() - start;
+
+            backlog.decrementAndGet();
+            processedEventCount.incrementAndGet();
+            totalProcessingTime.addAndGet(duration);
+            maxProcessingTime.accumulateAndGet(duration, Math::max);
+
+            log.debug("Processed {} in {} ms, {} events pending", dataEngineEventHeader.getDataEngineEventType(),
+                    duration / 1_000_000d, backlog.get());
+        }
+    }
+
+    /**
+     * Returns the qualified name of the element that owns the change carried by the event. Events about the same
+     * element get the same key and are processed in the order they were received. Relational tables are keyed by their
+     * database schema and data files by the path of their folder, because the first table of a schema creates the schema
+     * type of the schema and the first file of a folder creates the folder.
+     *
+     * @param dataEngineEventHeader parsed event
+     *
+     * @return the partition key, or null when the event spans several elements or depends on elements that may be
+     * changed on any partition
+     */
+    String getPartitionKey(DataEngineEventHeader dataEngineEventHeader) {
+        String key = null;
+
+        if (dataEngineEventHeader instanceof ProcessEvent) {
+            ProcessEvent processEvent = (ProcessEvent) dataEngineEventHeader;
+            if (processEvent.getProcess() != null) {
+                key = processEvent.getProcess().getQualifiedName();
+            }
+        } else if (dataEngineEventHeader instanceof PortImplementationEvent) {
+            key = ((PortImplementationEvent) dataEngineEventHeader).getProcessQualifiedName();
+        } else if (dataEngineEventHeader instanceof PortAliasEvent) {
+            key = ((PortAliasEvent) dataEngineEventHeader).getProcessQualifiedName();
+        } else if (dataEngineEventHeader instanceof RelationalTableEvent) {
+            RelationalTableEvent relationalTableEvent = (RelationalTableEvent) dataEngineEventHeader;
+            key = relationalTableEvent.getDatabaseSchemaQualifiedName();
+            if (StringUtils.isEmpty(key) && relationalTableEvent.getRelationalTable() != null) {
+                key = relationalTableEvent.getRelationalTable().getQualifiedName();
+            }
+        } else if (dataEngineEventHeader instanceof DataFileEvent) {
+            DataFileEvent dataFileEvent = (DataFileEvent) dataEngineEventHeader;
+            if (dataFileEvent.getDataFile() != null) {
+                key = getFolderPath(dataFileEvent.getDataFile().getPathName());
+                if (StringUtils.isEmpty(key)) {
+                    key = dataFileEvent.getDataFile().getQualifiedName();
+                }
+            }
+        } else if (dataEngineEventHeader instanceof TopicEvent) {
+            TopicEvent topicEvent = (TopicEvent) dataEngineEventHeader;
+            if (topicEvent.getTopic() != null) {
+                key = topicEvent.getTopic().getQualifiedName();
+            }
+        } else if (dataEngineEventHeader instanceof EventTypeEvent) {
+            key = ((EventTypeEvent) dataEngineEventHeader).getTopicQualifiedName();
+        } else if (dataEngineEventHeader instanceof SchemaTypeEvent) {
+            SchemaTypeEvent schemaTypeEvent = (SchemaTypeEvent) dataEngineEventHeader;
+            if (StringUtils.isEmpty(schemaTypeEvent.getPortQualifiedName()) && schemaTypeEvent.getSchemaType() != null) {
+                key = schemaTypeEvent.getSchemaType().getQualifiedName();
+            }
+        } else if (dataEngineEventHeader instanceof DeleteEvent
+                && PARTITIONED_DELETE_EVENT_TYPES.contains(dataEngineEventHeader.getDataEngineEventType())) {
+            // a delete by guid can not be matched to the qualified name its upserts are keyed by
+            key = ((DeleteEvent) dataEngineEventHeader).getQualifiedName();
+        }
+
+        return StringUtils.isEmpty(key) ? null : key;
+    }
+
+    /**
+     * Returns the path of the folder containing a file, with either separator.
+     *
+     * @param pathName path of the file
+     *
+     * @return the path of the folder, or null when the path does not name a folder
+     */
+    private String getFolderPath(String pathName) {
+        if (StringUtils.isEmpty(pathName)) {
+            return null;
+        }
+
+        int separatorIndex = Math.max(pathName.lastIndexOf('/'), pathName.lastIndexOf('\\'));
+        if (separatorIndex < 0) {
+            return null;
+        }
+
+        // the root folder keeps its separator
+        return pathName.substring(0, Math.max(separatorIndex, 1));
+    }
+
+    /**
+     * Hands the event to the event processor method matching its type.
+     *
+     * @param dataEngineEventHeader parsed event
+     * @param dataEngineEvent       inbound event
+     */
+    private void dispatch(DataEngineEventHeader dataEngineEventHeader, String dataEngineEvent) {
+        switch (dataEngineEventHeader.getDataEngineEventType()) {
+
+            case DATA_ENGINE_REGISTRATION_EVENT:
+                dataEngineEventProcessor.processDataEngineRegistrationEvent(dataEngineEvent);
+                break;
+            case DATA_FLOWS_EVENT:
+                dataEngineEventProcessor.processDataFlowsEvent(dataEngineEvent);
+                break;
+            case PORT_ALIAS_EVENT:
+                dataEngineEventProcessor.processPortAliasEvent(dataEngineEvent);
+                break;
+            case PORT_IMPLEMENTATION_EVENT:
+                dataEngineEventProcessor.processPortImplementationEvent(dataEngineEvent);
+                break;
+            case PROCESS_EVENT:
+                dataEngineEventProcessor.processProcessEvent(dataEngineEvent);
+                break;
+            case SCHEMA_TYPE_EVENT:
+                dataEngineEventProcessor.processSchemaTypeEvent(dataEngineEvent);
+                break;
+            case PROCESS_HIERARCHY_EVENT:
+                dataEngineEventProcessor.processProcessHierarchyEvent(dataEngineEvent);
+                break;
+            case DELETE_PROCESS_EVENT:
+                dataEngineEventProcessor.processDeleteProcessEvent(dataEngineEvent);
+                break;
+            case DELETE_PORT_IMPLEMENTATION_EVENT:
+                dataEngineEventProcessor.processDeletePortImplementationEvent(dataEngineEvent);
+                break;
+            case DELETE_PORT_ALIAS_EVENT:
+                dataEngineEventProcessor.processDeletePortAliasEvent(dataEngineEvent);
+                break;
+            case DELETE_SCHEMA_TYPE_EVENT:
+                dataEngineEventProcessor.processDeleteSchemaTypeEvent(dataEngineEvent);
+                break;
+            case DELETE_DATA_ENGINE_EVENT:
+                dataEngineEventProcessor.processDeleteDataEngineEvent(dataEngineEvent);
+                break;
+            case DATABASE_EVENT:
+                dataEngineEventProcessor.processDatabaseEvent(dataEngineEvent);
+                break;
+            case DATABASE_SCHEMA_EVENT:
+                dataEngineEventProcessor.processDatabaseSchemaEvent(dataEngineEvent);
+                break;
+            case RELATIONAL_TABLE_EVENT:
+                dataEngineEventProcessor.processRelationalTableEvent(dataEngineEvent);
+                break;
+            case DATA_FILE_EVENT:
+                dataEngineEventProcessor.processDataFileEvent(dataEngineEvent);
+                break;
+            case DELETE_DATABASE_EVENT:
+                dataEngineEventProcessor.processDeleteDatabaseEvent(dataEngineEvent);
+                break;
+            case DELETE_DATABASE_SCHEMA_EVENT:
+                dataEngineEventProcessor.processDeleteDatabaseSchemaEvent(dataEngineEvent);
+                break;
+            case DELETE_RELATIONAL_TABLE_EVENT:
+                dataEngineEventProcessor.processDeleteRelationalTableEvent(dataEngineEvent);
+                break;
+            case DELETE_DATA_FILE_EVENT:
+                dataEngineEventProcessor.processDeleteDataFileEvent(dataEngineEvent);
+                break;
+            case DELETE_FOLDER_EVENT:
+                dataEngineEventProcessor.processDeleteFolderEvent(dataEngineEvent);
+                break;
+            case DELETE_CONNECTION_EVENT:
+                dataEngineEventProcessor.processDeleteConnectionEvent(dataEngineEvent);
+                break;
+            case DELETE_ENDPOINT_EVENT:
+                dataEngineEventProcessor.processDeleteEndpointEvent(dataEngineEvent);
+                break;
+            case TOPIC_EVENT:
+                dataEngineEventProcessor.processTopicEvent(dataEngineEvent);
+                break;
+            case EVENT_TYPE_EVENT:
+                dataEngineEventProcessor.processEventTypeEvent(dataEngineEvent);
+                break;
+            case DELETE_TOPIC_EVENT:
+                dataEngineEventProcessor.processDeleteTopicEvent(dataEngineEvent);
+                break;
+            case DELETE_EVENT_TYPE_EVENT:
+                dataEngineEventProcessor.processDeleteEventTypeEvent(dataEngineEvent);
+                break;
+            case PROCESSING_STATE_TYPE_EVENT:
+                dataEngineEventProcessor.processProcessingStateEvent(dataEngineEvent);
+                break;
+            case DATA_ENGINE_BATCH_EVENT:
+                dataEngineEventProcessor.processDataEngineBatchEvent(dataEngineEvent);
+                break;
+            default:
+                log.debug("Ignored instance event - unknown event type");
+                break;
+        }
+    }
 }
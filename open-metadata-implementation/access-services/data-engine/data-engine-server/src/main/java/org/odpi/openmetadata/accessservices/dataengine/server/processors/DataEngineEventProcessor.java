@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineBatchEvent;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineRegistrationEvent;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataFileEvent;
 import org.odpi.openmetadata.accessservices.dataengine.event.DatabaseEvent;
@@ -23,6 +24,7 @@ import org.odpi.openmetadata.accessservices.dataengine.event.SchemaTypeEvent;
 import org.odpi.openmetadata.accessservices.dataengine.event.TopicEvent;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineAuditCode;
 import org.odpi.openmetadata.accessservices.dataengine.model.PortImplementation;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
 import org.odpi.openmetadata.accessservices.dataengine.server.admin.DataEngineServicesInstance;
 import org.odpi.openmetadata.accessservices.dataengine.server.service.DataEngineRESTServices;
 import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
@@ -38,6 +40,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.PORT_ALIAS_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.PORT_IMPLEMENTATION_TYPE_NAME;
@@ -53,6 +57,7 @@ public class DataEngineEventProcessor {
     private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
     private static final Logger log = LoggerFactory.getLogger(DataEngineEventProcessor.class);
     private static final String DEBUG_MESSAGE_METHOD = "Calling method: {}";
+    private static final String BATCH_ELEMENT_NOT_STORED = "Batch element {} of type {} was not stored: {}";
 
     private final AuditLog auditLog;
     private final String serverName;
@@ -602,6 +607,32 @@ public class DataEngineEventProcessor {
         }
     }
 
+    /**
+     * Process a {@link DataEngineBatchEvent}
+     *
+     * @param dataEngineEvent the event to be processed
+     */
+    public void processDataEngineBatchEvent(String dataEngineEvent) {
+        final String methodName = "processDataEngineBatchEvent";
+        log.trace(DEBUG_MESSAGE_METHOD, methodName);
+        try {
+            DataEngineBatchEvent batchEvent = OBJECT_READER.readValue(dataEngineEvent, DataEngineBatchEvent.class);
+
+            List<BatchElementResponse> elementResponses = dataEngineRESTServices.upsertBatch(batchEvent.getUserId(), serverName,
+                    batchEvent.getSchemaTypes(), batchEvent.getDataFiles(), batchEvent.getRelationalTables(), batchEvent.getProcesses(),
+                    batchEvent.getDataFlows(), batchEvent.getExternalSourceName());
+
+            elementResponses.stream().filter(elementResponse -> elementResponse.getExceptionClassName() != null).forEach(elementResponse ->
+                    log.error(BATCH_ELEMENT_NOT_STORED, elementResponse.getQualifiedName(), elementResponse.getTypeName(),
+                            elementResponse.getExceptionErrorMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logException(dataEngineEvent, methodName, e);
+        } catch (IOException | UserNotAuthorizedException | PropertyServerException | InvalidParameterException | ExecutionException e) {
+            logException(dataEngineEvent, methodName, e);
+        }
+    }
+
     private void deletePort(String dataEngineEvent, String methodName, String portType) {
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
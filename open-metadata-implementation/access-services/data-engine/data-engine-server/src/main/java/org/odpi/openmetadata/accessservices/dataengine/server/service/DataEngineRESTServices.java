@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.dataengine.server.service;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.model.Attribute;
@@ -27,6 +28,9 @@ import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
 import org.odpi.openmetadata.accessservices.dataengine.model.UpdateSemantic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineOMASAPIRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
@@ -77,11 +81,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.partitioningBy;
@@ -91,6 +100,7 @@ import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataA
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATABASE_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FILE_TYPE_GUID;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FILE_TYPE_NAME;
+import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FLOW_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DELIMITER_CHARACTER_PROPERTY_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DEPLOYED_DATABASE_SCHEMA_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.ENDPOINT_TYPE_NAME;
@@ -124,6 +134,8 @@ public class DataEngineRESTServices {
     private static final String EXCEPTION_WHILE_ADDING_DATA_FLOW = "Exception while adding data flow {} : {}";
     private static final String EXCEPTION_WHILE_CREATING_PROCESS = "Exception while creating process {} : {}";
     private static final String EXCEPTION_WHILE_CREATING_PROCESS_HIERARCHY = "Exception while creating process relationships for process {} : {}";
+    private static final String EXCEPTION_WHILE_UPSERTING_BATCH_ELEMENT = "Exception while upserting batch element {} of type {} : {}";
+    private static final String DATA_FLOW_NAME = "%s -> %s";
     private static final String DEBUG_DELETE_MESSAGE = "Data Engine OMAS deleted entity with GUID {} and type {}";
     private static final String PROCESS_UPSERT = "Data Engine OMAS has created or updated a Process with qualified name {} and guid {}";
     private static final String EXTERNAL_ENGINE_WAS_REGISTERED =
@@ -860,6 +872,176 @@ public class DataEngineRESTServices {
         return response;
     }
 
+    /**
+     * Create or update a batch of schema types, data files, relational tables, processes and data flows
+     *
+     * @param userId           the name of the calling user
+     * @param serverName       name of server instance to call
+     * @param batchRequestBody the elements of the batch
+     *
+     * @return the outcome of each element of the batch
+     */
+    public DataEngineBatchResponse upsertBatch(String userId, String serverName, DataEngineBatchRequestBody batchRequestBody) {
+        final String methodName = "upsertBatch";
+
+        DataEngineBatchResponse response = new DataEngineBatchResponse();
+        try {
+            validateRequestBody(userId, serverName, batchRequestBody, methodName);
+
+            response.setElementResponses(upsertBatch(userId, serverName, batchRequestBody.getSchemaTypes(), batchRequestBody.getDataFiles(),
+                    batchRequestBody.getRelationalTables(), batchRequestBody.getProcesses(), batchRequestBody.getDataFlows(),
+                    batchRequestBody.getExternalSourceName()));
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        } catch (Exception error) {
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
+
+        return response;
+    }
+
+    /**
+     * Create or update a batch of elements. The external source and the database schemas referenced by the relational tables
+     * are resolved once for the whole batch, and the folders of the data files are created once before the files. The elements
+     * are then written in dependency order: schema types, data files and relational tables, then processes with their ports,
+     * then the data flows between them. The elements of each phase are written concurrently, bounded by the
+     * BatchUpsertParallelism option of the access service, except that the relational tables of one database schema are written
+     * one after the other, since they share the schema type of the database schema. A failing element does not stop the rest of
+     * the batch, its exception is returned in its element response.
+     *
+     * @param userId             the name of the calling user
+     * @param serverName         name of server instance to call
+     * @param schemaTypes        the schema types that are not attached to a port
+     * @param dataFiles          the data files
+     * @param relationalTables   the relational tables, keyed by the qualified name of their database schema
+     * @param processes          the processes
+     * @param dataFlows          the data flows
+     * @param externalSourceName the unique name of the external source
+     *
+     * @return the outcome of each element, in the order the elements were written
+     *
+     * @throws InvalidParameterException  the external source is not registered
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     * @throws InterruptedException       the batch was interrupted while waiting for its elements to be written
+     * @throws ExecutionException         an element upsert failed with an error
+     */
+    public List<BatchElementResponse> upsertBatch(String userId, String serverName, List<SchemaType> schemaTypes, List<DataFile> dataFiles,
+                                                  Map<String, List<RelationalTable>> relationalTables, List<Process> processes,
+                                                  List<DataFlow> dataFlows, String externalSourceName) throws InvalidParameterException,
+                                                                                                              UserNotAuthorizedException,
+                                                                                                              PropertyServerException,
+                                                                                                              InterruptedException,
+                                                                                                              ExecutionException {
+        final String methodName = "upsertBatch";
+
+        ExecutorService executor = instanceHandler.getBatchUpsertExecutor(userId, serverName, methodName);
+        DataEngineRegistrationHandler registrationHandler = instanceHandler.getRegistrationHandler(userId, serverName, methodName);
+        DataEngineCommonHandler commonHandler = instanceHandler.getCommonHandler(userId, serverName, methodName);
+
+        String externalSourceGUID = registrationHandler.getExternalDataEngine(userId, externalSourceName);
+        if (externalSourceGUID == null) {
+            commonHandler.throwInvalidParameterException(DataEngineErrorCode.ENGINE_NOT_FOUND, methodName, externalSourceName);
+        }
+
+        Map<String, Optional<String>> databaseSchemaGUIDs = new HashMap<>();
+        if (MapUtils.isNotEmpty(relationalTables)) {
+            for (String databaseSchemaQualifiedName : relationalTables.keySet()) {
+                databaseSchemaGUIDs.put(databaseSchemaQualifiedName, getEntityGUID(serverName, userId, databaseSchemaQualifiedName,
+                        DEPLOYED_DATABASE_SCHEMA_TYPE_NAME));
+            }
+        }
+
+        if (CollectionUtils.isNotEmpty(dataFiles)) {
+            DataEngineFolderHierarchyHandler folderHierarchyHandler = instanceHandler.getFolderHierarchyHandler(userId, serverName, methodName);
+            folderHierarchyHandler.upsertFolderHierarchies(dataFiles.stream().map(DataFile::getPathName).collect(Collectors.toList()),
+                    externalSourceGUID, externalSourceName, userId, methodName);
+        }
+
+        List<Callable<List<BatchElementResponse>>> dataStoreUpserts = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(schemaTypes)) {
+            schemaTypes.forEach(schemaType -> dataStoreUpserts.add(() -> List.of(upsertBatchElement(SCHEMA_TYPE_TYPE_NAME,
+                    schemaType.getQualifiedName(), methodName, () -> upsertSchemaType(userId, serverName, null, schemaType, externalSourceName)))));
+        }
+        if (CollectionUtils.isNotEmpty(dataFiles)) {
+            dataFiles.forEach(dataFile -> dataStoreUpserts.add(() -> List.of(upsertBatchElement(dataFile instanceof CSVFile ? CSV_FILE_TYPE_NAME :
+                    DATA_FILE_TYPE_NAME, dataFile.getQualifiedName(), methodName, () -> upsertDataFile(userId, serverName, dataFile,
+                    externalSourceName)))));
+        }
+        if (MapUtils.isNotEmpty(relationalTables)) {
+            relationalTables.forEach((databaseSchemaQualifiedName, tables) -> dataStoreUpserts.add(() -> {
+                List<BatchElementResponse> tableResponses = new ArrayList<>();
+                for (RelationalTable relationalTable : tables) {
+                    tableResponses.add(upsertBatchElement(RELATIONAL_TABLE_TYPE_NAME, relationalTable.getQualifiedName(), methodName, () -> {
+                        if (databaseSchemaGUIDs.get(databaseSchemaQualifiedName).isEmpty()) {
+                            commonHandler.throwInvalidParameterException(DataEngineErrorCode.DATABASE_SCHEMA_NOT_FOUND, methodName,
+                                    databaseSchemaQualifiedName);
+                        }
+                        return upsertRelationalTable(userId, serverName, databaseSchemaQualifiedName,
+                                databaseSchemaGUIDs.get(databaseSchemaQualifiedName).get(), relationalTable, externalSourceName, externalSourceGUID);
+                    }));
+                }
+                return tableResponses;
+            }));
+        }
+
+        List<Callable<List<BatchElementResponse>>> processUpserts = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(processes)) {
+            processes.forEach(process -> processUpserts.add(() -> List.of(new BatchElementResponse(PROCESS_TYPE_NAME, process.getQualifiedName(),
+                    upsertProcess(userId, serverName, process, externalSourceName)))));
+        }
+
+        List<Callable<List<BatchElementResponse>>> dataFlowUpserts = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(dataFlows)) {
+            DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler = instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
+
+            dataFlows.forEach(dataFlow -> dataFlowUpserts.add(() -> List.of(upsertBatchElement(DATA_FLOW_TYPE_NAME, String.format(DATA_FLOW_NAME,
+                    dataFlow.getDataSupplier(), dataFlow.getDataConsumer()), methodName, () -> {
+                dataEngineSchemaTypeHandler.addDataFlowRelationship(userId, dataFlow.getDataSupplier(), dataFlow.getDataConsumer(),
+                        externalSourceName, dataFlow.getFormula(), dataFlow.getDescription());
+                return null;
+            }))));
+        }
+
+        List<BatchElementResponse> elementResponses = new ArrayList<>();
+        upsertBatchPhase(executor, dataStoreUpserts, elementResponses);
+        upsertBatchPhase(executor, processUpserts, elementResponses);
+        upsertBatchPhase(executor, dataFlowUpserts, elementResponses);
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, elementResponses);
+
+        return elementResponses;
+    }
+
+    private void upsertBatchPhase(ExecutorService executor, List<Callable<List<BatchElementResponse>>> upserts,
+                                  List<BatchElementResponse> elementResponses) throws InterruptedException, ExecutionException {
+        if (upserts.isEmpty()) {
+            return;
+        }
+
+        for (Future<List<BatchElementResponse>> upsert : executor.invokeAll(upserts)) {
+            elementResponses.addAll(upsert.get());
+        }
+    }
+
+    private BatchElementResponse upsertBatchElement(String typeName, String qualifiedName, String methodName, Callable<String> upsert) {
+        BatchElementResponse response = new BatchElementResponse();
+        response.setTypeName(typeName);
+        response.setQualifiedName(qualifiedName);
+
+        try {
+            response.setGUID(upsert.call());
+        } catch (Exception error) {
+            log.error(EXCEPTION_WHILE_UPSERTING_BATCH_ELEMENT, qualifiedName, typeName, error.toString());
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        return response;
+    }
+
     /**
      * Retrieve in topic connection details from the service instance hosting Data Engine access service
      *
@@ -1206,6 +1388,41 @@ public class DataEngineRESTServices {
         return relationalTableGUID;
     }
 
+    /**
+     * Create the Relational Table with Relational Columns and corresponding relationships, using the identifiers of the
+     * database schema and of the external source already resolved for a batch
+     *
+     * @param userId                      the name of the calling user
+     * @param serverName                  name of server instance to call
+     * @param databaseSchemaQualifiedName the unique name of the database schema
+     * @param databaseSchemaGUID          the unique identifier of the database schema
+     * @param relationalTable             the relational table values
+     * @param externalSourceName          the unique name of the external source
+     * @param externalSourceGUID          the unique identifier of the external source
+     *
+     * @return the unique identifier (guid) of the created relational table
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private String upsertRelationalTable(String userId, String serverName, String databaseSchemaQualifiedName, String databaseSchemaGUID,
+                                         RelationalTable relationalTable, String externalSourceName,
+                                         String externalSourceGUID) throws InvalidParameterException, UserNotAuthorizedException,
+                                                                           PropertyServerException {
+        final String methodName = "upsertRelationalTable";
+        log.debug(DEBUG_MESSAGE_METHOD_DETAILS, methodName, relationalTable);
+
+        DataEngineRelationalDataHandler dataEngineRelationalDataHandler = instanceHandler.getRelationalDataHandler(userId,
+                serverName, methodName);
+
+        String relationalTableGUID = dataEngineRelationalDataHandler.upsertRelationalTable(userId, databaseSchemaQualifiedName,
+                databaseSchemaGUID, relationalTable, externalSourceName, externalSourceGUID);
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, relationalTableGUID);
+        return relationalTableGUID;
+    }
+
     /**
      * Delete the Relational Table with all the associated Relational Columns
      *
@@ -23,10 +23,13 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -102,6 +105,34 @@ class DataEngineFolderHierarchyHandlerTest {
                 null);
     }
 
+    @Test
+    void upsertFolderHierarchies_sharedFolderIsUpsertedOnce() throws InvalidParameterException, PropertyServerException,
+                                                                     UserNotAuthorizedException {
+        mockDataEngineCommonHandler();
+        mockFolderHandler();
+
+        dataEngineFolderHierarchyHandler.upsertFolderHierarchies(Arrays.asList(PATH, "/test/other.txt", "noFolder.txt"),
+                EXTERNAL_SOURCE_GUID, EXTERNAL_SOURCE_NAME, USER, METHOD);
+
+        verify(folderHandler, times(1)).createAssetInRepository(USER, EXTERNAL_SOURCE_GUID,
+                EXTERNAL_SOURCE_NAME, EXTERNAL_SOURCE_NAME + "::/test", "test", null, null,
+                null, null, 0, null, null,
+                null, null, FILE_FOLDER_TYPE_GUID, FILE_FOLDER_TYPE_NAME, null, null,
+                null, InstanceStatus.ACTIVE, null, METHOD);
+        verify(folderHandler, times(1)).createAssetInRepository(USER, EXTERNAL_SOURCE_GUID,
+                EXTERNAL_SOURCE_NAME, EXTERNAL_SOURCE_NAME + "::/", "/", null,
+                null, null, null, 0, null, null,
+                null, null, FILE_FOLDER_TYPE_GUID, FILE_FOLDER_TYPE_NAME, null,
+                null, null, InstanceStatus.ACTIVE, null, METHOD);
+        verify(dataEngineCommonHandler, times(1)).upsertExternalRelationship(USER, GUID_VALUE_2, GUID_VALUE_1,
+                FOLDER_HIERARCHY_TYPE_NAME, FILE_FOLDER_TYPE_NAME, FILE_FOLDER_TYPE_NAME, EXTERNAL_SOURCE_NAME, null);
+        verify(dataEngineCommonHandler, times(1)).upsertExternalRelationship(USER, EXTERNAL_SOURCE_GUID,
+                GUID_VALUE_2, SERVER_ASSET_USE_TYPE_NAME, SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, FILE_FOLDER_TYPE_NAME, EXTERNAL_SOURCE_NAME,
+                null);
+        verify(dataEngineCommonHandler, times(0)).upsertExternalRelationship(any(), any(), any(), eq(NESTED_FILE_TYPE_NAME), any(), any(),
+                any(), any());
+    }
+
     @Test
     void removeFolder() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException, FunctionNotSupportedException {
 
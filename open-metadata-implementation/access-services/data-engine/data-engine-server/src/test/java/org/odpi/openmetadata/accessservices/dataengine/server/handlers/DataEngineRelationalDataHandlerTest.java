@@ -38,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -313,6 +314,27 @@ class DataEngineRelationalDataHandlerTest {
                 null, false, false, null,"upsertRelationalColumns");
     }
 
+    @Test
+    void upsertRelationalTable_create_resolvedGUIDs() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "upsertRelationalTable";
+        RelationalTable relationalTable = getRelationalTable();
+
+        when(dataEngineCommonHandler.findEntity(USER, relationalTable.getQualifiedName(), RELATIONAL_TABLE_TYPE_NAME))
+                .thenReturn(Optional.empty());
+        when(relationalDataHandler.createDatabaseTable(USER, EXTERNAL_SOURCE_DE_GUID, EXTERNAL_SOURCE_DE_NAME, DATABASE_GUID,
+                relationalTable.getQualifiedName(), relationalTable.getDisplayName(), relationalTable.getDescription(),
+                relationalTable.getIsDeprecated(), relationalTable.getAliases(), relationalTable.getAdditionalProperties(),
+                RELATIONAL_TABLE_TYPE_NAME, null, null, null, null,
+                false, false, null, methodName)).thenReturn(TABLE_GUID);
+
+        String result = dataEngineRelationalDataHandler.upsertRelationalTable(USER, QUALIFIED_NAME, DATABASE_GUID, relationalTable,
+                EXTERNAL_SOURCE_DE_NAME, EXTERNAL_SOURCE_DE_GUID);
+
+        assertEquals(TABLE_GUID, result);
+        verify(registrationHandler, never()).getExternalDataEngine(USER, EXTERNAL_SOURCE_DE_NAME);
+        verify(dataEngineCommonHandler, never()).findEntity(USER, QUALIFIED_NAME, DEPLOYED_DATABASE_SCHEMA_TYPE_NAME);
+    }
+
     @Test
     void upsertRelationalTable_create_incomplete() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         String methodName = "upsertRelationalTable";
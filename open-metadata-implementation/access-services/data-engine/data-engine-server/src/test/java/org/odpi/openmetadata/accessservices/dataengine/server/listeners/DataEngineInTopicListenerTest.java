@@ -0,0 +1,259 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.listeners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineEventType;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataFileEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.DataFlowsEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.DeleteEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.EventTypeEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.PortImplementationEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.ProcessEvent;
+import org.odpi.openmetadata.accessservices.dataengine.event.RelationalTableEvent;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFile;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
+import org.odpi.openmetadata.accessservices.dataengine.server.processors.DataEngineEventProcessor;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+class DataEngineInTopicListenerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int PARTITIONS = 4;
+    private static final int EVENTS_PER_PROCESS = 20;
+
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private DataEngineEventProcessor dataEngineEventProcessor;
+
+    @Test
+    void processEvent_keepsOrderPerProcess() throws IOException {
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> processed.add(invocation.getArgument(0)))
+                .when(dataEngineEventProcessor).processProcessEvent(anyString());
+        doAnswer(invocation -> processed.add(invocation.getArgument(0)))
+                .when(dataEngineEventProcessor).processDataFlowsEvent(anyString());
+
+        DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor,
+                PARTITIONS);
+
+        List<String> firstProcessEvents = new ArrayList<>();
+        List<String> secondProcessEvents = new ArrayList<>();
+        for (int i = 0; i < EVENTS_PER_PROCESS; i++) {
+            firstProcessEvents.add(getProcessEvent("firstProcess", i));
+            secondProcessEvents.add(getProcessEvent("secondProcess", i));
+            dataEngineInTopicListener.processEvent(firstProcessEvents.get(i));
+            dataEngineInTopicListener.processEvent(secondProcessEvents.get(i));
+        }
+
+        DataFlowsEvent dataFlowsEvent = new DataFlowsEvent();
+        dataFlowsEvent.setDataEngineEventType(DataEngineEventType.DATA_FLOWS_EVENT);
+        dataEngineInTopicListener.processEvent(OBJECT_MAPPER.writeValueAsString(dataFlowsEvent));
+
+        // the data flows event waits for all the process events
+        assertEquals(2 * EVENTS_PER_PROCESS + 1, processed.size());
+        assertEquals(0, dataEngineInTopicListener.getBacklog());
+        assertEquals(2 * EVENTS_PER_PROCESS + 1, dataEngineInTopicListener.getProcessedEventCount());
+
+        List<String> firstProcessOrder = new ArrayList<>(processed);
+        firstProcessOrder.retainAll(firstProcessEvents);
+        assertEquals(firstProcessEvents, firstProcessOrder);
+
+        List<String> secondProcessOrder = new ArrayList<>(processed);
+        secondProcessOrder.retainAll(secondProcessEvents);
+        assertEquals(secondProcessEvents, secondProcessOrder);
+
+        dataEngineInTopicListener.shutdown();
+    }
+
+    @Test
+    void processEvent_serial() throws IOException {
+        DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor);
+
+        String processEvent = getProcessEvent("process", 0);
+        dataEngineInTopicListener.processEvent(processEvent);
+
+        verify(dataEngineEventProcessor).processProcessEvent(processEvent);
+        assertEquals(0, dataEngineInTopicListener.getBacklog());
+        assertEquals(1, dataEngineInTopicListener.getProcessedEventCount());
+    }
+
+    @Test
+    void processEvent_waitsWhenPartitionIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return processed.add(invocation.getArgument(0));
+        }).when(dataEngineEventProcessor).processProcessEvent(anyString());
+
+        DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor,
+                PARTITIONS, 1);
+
+        // one event is processed, one waits in the queue and the third one blocks the consumer
+        Thread consumer = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                try {
+                    dataEngineInTopicListener.processEvent(getProcessEvent("process", i));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        consumer.start();
+
+        for (int attempt = 0; attempt < 100 && consumer.getState() != Thread.State.WAITING; attempt++) {
+            Thread.sleep(20);
+        }
+        assertEquals(Thread.State.WAITING, consumer.getState());
+        assertEquals(3, dataEngineInTopicListener.getBacklog());
+
+        release.countDown();
+        consumer.join(10000);
+        dataEngineInTopicListener.shutdown();
+
+        assertEquals(3, processed.size());
+        assertEquals(0, dataEngineInTopicListener.getBacklog());
+    }
+
+    @Test
+    void shutdown_drainsPartitions() throws IOException {
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            Thread.sleep(10);
+            return processed.add(invocation.getArgument(0));
+        }).when(dataEngineEventProcessor).processProcessEvent(anyString());
+
+        DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor,
+                PARTITIONS);
+        for (int i = 0; i < EVENTS_PER_PROCESS; i++) {
+            dataEngineInTopicListener.processEvent(getProcessEvent("process", i));
+        }
+
+        dataEngineInTopicListener.shutdown();
+
+        assertEquals(EVENTS_PER_PROCESS, processed.size());
+        assertEquals(0, dataEngineInTopicListener.getBacklog());
+        verify(auditLog).logMessage(anyString(), any(AuditLogMessageDefinition.class));
+    }
+
+    @Test
+    void getPartitionKey_sameKeyForUpsertsAndDeletes() {
+        DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor);
+
+        PortImplementationEvent portImplementationEvent = new PortImplementationEvent();
+        portImplementationEvent.setDataEngineEventType(DataEngineEventType.PORT_IMPLEMENTATION_EVENT);
+        portImplementationEvent.setProcessQualifiedName("process");
+        assertEquals("process", dataEngineInTopicListener.getPartitionKey(portImplementationEvent));
+        assertEquals("process", dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_PROCESS_EVENT,
+                "process", null)));
+
+        EventTypeEvent eventTypeEvent = new EventTypeEvent();
+        eventTypeEvent.setDataEngineEventType(DataEngineEventType.EVENT_TYPE_EVENT);
+        eventTypeEvent.setTopicQualifiedName("topic");
+        assertEquals("topic", dataEngineInTopicListener.getPartitionKey(eventTypeEvent));
+        assertEquals("topic", dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_TOPIC_EVENT,
+                "topic", null)));
+
+        // these deletes can not be keyed like the upserts of the element, so they wait for all the partitions
+        assertNull(dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_PROCESS_EVENT, null, "guid")));
+        assertNull(dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_PORT_IMPLEMENTATION_EVENT,
+                "port", null)));
+        assertNull(dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_EVENT_TYPE_EVENT,
+                "eventType", null)));
+        assertNull(dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_DATABASE_EVENT,
+                "database", null)));
+    }
+
+    @Test
+    void getPartitionKey_tablesBySchemaAndFilesByFolder() {
+        DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor);
+
+        // the tables of one schema and the files of one folder share the schema type or folder created by the first of them
+        assertEquals("schema", dataEngineInTopicListener.getPartitionKey(getRelationalTableEvent("schema", "schema.table1")));
+        assertEquals("schema", dataEngineInTopicListener.getPartitionKey(getRelationalTableEvent("schema", "schema.table2")));
+        assertEquals("/data/in", dataEngineInTopicListener.getPartitionKey(getDataFileEvent("file1", "/data/in/file1.csv")));
+        assertEquals("/data/in", dataEngineInTopicListener.getPartitionKey(getDataFileEvent("file2", "/data/in/file2.csv")));
+        assertEquals("C:\\data", dataEngineInTopicListener.getPartitionKey(getDataFileEvent("file3", "C:\\data\\file3.csv")));
+        assertEquals("/", dataEngineInTopicListener.getPartitionKey(getDataFileEvent("file4", "/file4.csv")));
+        assertEquals("file5", dataEngineInTopicListener.getPartitionKey(getDataFileEvent("file5", "file5.csv")));
+
+        // a delete names the table or file, not its schema or folder, so it waits for all the partitions
+        assertNull(dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_RELATIONAL_TABLE_EVENT,
+                "schema.table1", null)));
+        assertNull(dataEngineInTopicListener.getPartitionKey(getDeleteEvent(DataEngineEventType.DELETE_DATA_FILE_EVENT,
+                "file1", null)));
+    }
+
+    private RelationalTableEvent getRelationalTableEvent(String databaseSchemaQualifiedName, String tableQualifiedName) {
+        RelationalTable relationalTable = new RelationalTable();
+        relationalTable.setQualifiedName(tableQualifiedName);
+
+        RelationalTableEvent relationalTableEvent = new RelationalTableEvent();
+        relationalTableEvent.setDataEngineEventType(DataEngineEventType.RELATIONAL_TABLE_EVENT);
+        relationalTableEvent.setDatabaseSchemaQualifiedName(databaseSchemaQualifiedName);
+        relationalTableEvent.setRelationalTable(relationalTable);
+
+        return relationalTableEvent;
+    }
+
+    private DataFileEvent getDataFileEvent(String fileQualifiedName, String pathName) {
+        DataFile dataFile = new DataFile();
+        dataFile.setQualifiedName(fileQualifiedName);
+        dataFile.setPathName(pathName);
+
+        DataFileEvent dataFileEvent = new DataFileEvent();
+        dataFileEvent.setDataEngineEventType(DataEngineEventType.DATA_FILE_EVENT);
+        dataFileEvent.setDataFile(dataFile);
+
+        return dataFileEvent;
+    }
+
+    private DeleteEvent getDeleteEvent(DataEngineEventType eventType, String qualifiedName, String guid) {
+        DeleteEvent deleteEvent = new DeleteEvent();
+        deleteEvent.setDataEngineEventType(eventType);
+        deleteEvent.setQualifiedName(qualifiedName);
+        deleteEvent.setGuid(guid);
+
+        return deleteEvent;
+    }
+
+    private String getProcessEvent(String processQualifiedName, int version) throws IOException {
+        Process process = new Process();
+        process.setQualifiedName(processQualifiedName);
+        process.setName(processQualifiedName + version);
+
+        ProcessEvent processEvent = new ProcessEvent();
+        processEvent.setDataEngineEventType(DataEngineEventType.PROCESS_EVENT);
+        processEvent.setProcess(process);
+
+        return OBJECT_MAPPER.writeValueAsString(processEvent);
+    }
+}
@@ -8,11 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.model.Attribute;
 import org.odpi.openmetadata.accessservices.dataengine.model.CSVFile;
 import org.odpi.openmetadata.accessservices.dataengine.model.Collection;
@@ -34,6 +36,9 @@ import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Engine;
 import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
 import org.odpi.openmetadata.accessservices.dataengine.model.UpdateSemantic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseRequestBody;
@@ -85,6 +90,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -92,6 +100,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -103,6 +112,7 @@ import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataA
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATABASE_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FILE_TYPE_GUID;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FILE_TYPE_NAME;
+import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DATA_FLOW_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DELIMITER_CHARACTER_PROPERTY_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.DEPLOYED_DATABASE_SCHEMA_TYPE_NAME;
 import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper.ENDPOINT_TYPE_NAME;
@@ -156,6 +166,9 @@ class DataEngineRESTServicesTest {
     public static final String DATABASE_QUALIFIED_NAME = "databaseQualifiedName";
     private static final String TOPIC_QUALIFIED_NAME = "topicQualifiedName";
     private static final String TOPIC_GUID = "topicGuid";
+    private static final String TABLE_1 = "table1";
+    private static final String TABLE_2 = "table2";
+    private static final String FOLDER_PATH = "/new/folder";
 
     @Mock
     RESTExceptionHandler restExceptionHandler;
@@ -890,6 +903,130 @@ class DataEngineRESTServicesTest {
         verify(restExceptionHandler, times(1)).handleMissingValue("relationalTable", methodName);
     }
 
+    @Test
+    void upsertBatch() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "upsertBatch";
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(instanceHandler.getBatchUpsertExecutor(USER, SERVER_NAME, methodName)).thenReturn(executor);
+        mockRegistrationHandler(methodName);
+        mockCommonHandler(methodName);
+        mockCommonHandler("getEntityDetails");
+        mockRelationalDataHandler("upsertRelationalTable");
+        mockSchemaTypeHandler(methodName);
+        when(dataEngineRegistrationHandler.getExternalDataEngine(USER, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+        Optional<EntityDetail> databaseSchemaEntity = mockEntityDetail(GUID);
+        when(dataEngineCommonHandler.findEntity(USER, DATABASE_QUALIFIED_NAME, DEPLOYED_DATABASE_SCHEMA_TYPE_NAME)).thenReturn(databaseSchemaEntity);
+        when(dataEngineRelationalDataHandler.upsertRelationalTable(USER, DATABASE_QUALIFIED_NAME, GUID, getRelationalTable(),
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME, EXTERNAL_SOURCE_DE_GUID)).thenReturn(GUID);
+
+        DataEngineBatchResponse response = dataEngineRESTServices.upsertBatch(USER, SERVER_NAME, mockBatchRequestBody());
+        executor.shutdown();
+
+        List<BatchElementResponse> elementResponses = response.getElementResponses();
+        assertEquals(2, elementResponses.size());
+        assertEquals(RELATIONAL_TABLE_TYPE_NAME, elementResponses.get(0).getTypeName());
+        assertEquals(GUID, elementResponses.get(0).getGUID());
+        assertEquals(DATA_FLOW_TYPE_NAME, elementResponses.get(1).getTypeName());
+        verify(dataEngineSchemaTypeHandler, times(1)).addDataFlowRelationship(USER, SOURCE_QUALIFIED_NAME,
+                TARGET_QUALIFIED_NAME, EXTERNAL_SOURCE_DE_QUALIFIED_NAME, null, null);
+    }
+
+    @Test
+    void upsertBatch_unknownDatabaseSchema() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException,
+                                                     InvocationTargetException, NoSuchMethodException, InstantiationException,
+                                                     IllegalAccessException {
+        String methodName = "upsertBatch";
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(instanceHandler.getBatchUpsertExecutor(USER, SERVER_NAME, methodName)).thenReturn(executor);
+        mockRegistrationHandler(methodName);
+        mockCommonHandler(methodName);
+        mockCommonHandler("getEntityDetails");
+        mockSchemaTypeHandler(methodName);
+        when(dataEngineRegistrationHandler.getExternalDataEngine(USER, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+        when(dataEngineCommonHandler.findEntity(USER, DATABASE_QUALIFIED_NAME, DEPLOYED_DATABASE_SCHEMA_TYPE_NAME)).thenReturn(Optional.empty());
+        InvalidParameterException mockedException = mockException(InvalidParameterException.class, methodName);
+        doThrow(mockedException).when(dataEngineCommonHandler).throwInvalidParameterException(DataEngineErrorCode.DATABASE_SCHEMA_NOT_FOUND,
+                methodName, DATABASE_QUALIFIED_NAME);
+
+        DataEngineBatchResponse response = dataEngineRESTServices.upsertBatch(USER, SERVER_NAME, mockBatchRequestBody());
+        executor.shutdown();
+
+        assertEquals(2, response.getElementResponses().size());
+        verify(restExceptionHandler, times(1)).captureExceptions(any(BatchElementResponse.class), eq(mockedException), eq(methodName));
+        verify(dataEngineRelationalDataHandler, times(0)).upsertRelationalTable(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void upsertBatch_relationalTablesOfOneNewSchema() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "upsertBatch";
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(instanceHandler.getBatchUpsertExecutor(USER, SERVER_NAME, methodName)).thenReturn(executor);
+        mockRegistrationHandler(methodName);
+        mockCommonHandler(methodName);
+        mockCommonHandler("getEntityDetails");
+        mockRelationalDataHandler("upsertRelationalTable");
+        when(dataEngineRegistrationHandler.getExternalDataEngine(USER, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+        Optional<EntityDetail> databaseSchemaEntity = mockEntityDetail(GUID);
+        when(dataEngineCommonHandler.findEntity(USER, DATABASE_QUALIFIED_NAME, DEPLOYED_DATABASE_SCHEMA_TYPE_NAME)).thenReturn(databaseSchemaEntity);
+
+        // the first table of a new schema creates the schema type of the schema, so the tables must not be written concurrently
+        AtomicInteger runningUpserts = new AtomicInteger();
+        AtomicInteger maxRunningUpserts = new AtomicInteger();
+        when(dataEngineRelationalDataHandler.upsertRelationalTable(eq(USER), eq(DATABASE_QUALIFIED_NAME), eq(GUID), any(RelationalTable.class),
+                eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), eq(EXTERNAL_SOURCE_DE_GUID))).thenAnswer(invocation -> {
+            maxRunningUpserts.accumulateAndGet(runningUpserts.incrementAndGet(), Math::max);
+            Thread.sleep(100);
+            runningUpserts.decrementAndGet();
+            return invocation.<RelationalTable>getArgument(3).getQualifiedName() + GUID;
+        });
+
+        DataEngineBatchRequestBody requestBody = new DataEngineBatchRequestBody();
+        requestBody.setRelationalTables(Collections.singletonMap(DATABASE_QUALIFIED_NAME, Arrays.asList(getRelationalTable(TABLE_1),
+                getRelationalTable(TABLE_2))));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        DataEngineBatchResponse response = dataEngineRESTServices.upsertBatch(USER, SERVER_NAME, requestBody);
+        executor.shutdown();
+
+        assertEquals(1, maxRunningUpserts.get());
+        List<BatchElementResponse> elementResponses = response.getElementResponses();
+        assertEquals(2, elementResponses.size());
+        assertEquals(TABLE_1 + GUID, elementResponses.get(0).getGUID());
+        assertEquals(TABLE_2 + GUID, elementResponses.get(1).getGUID());
+    }
+
+    @Test
+    void upsertBatch_dataFilesOfOneNewFolder() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "upsertBatch";
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(instanceHandler.getBatchUpsertExecutor(USER, SERVER_NAME, methodName)).thenReturn(executor);
+        mockRegistrationHandler(methodName);
+        mockRegistrationHandler("upsertDataFile");
+        mockCommonHandler(methodName);
+        mockDataFileHandler("upsertDataFile");
+        mockFolderHierarchyHandler(methodName);
+        when(dataEngineRegistrationHandler.getExternalDataEngine(USER, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+
+        DataFile firstDataFile = getDataFile(FOLDER_PATH + "/first.csv");
+        DataFile secondDataFile = getDataFile(FOLDER_PATH + "/second.csv");
+
+        DataEngineBatchRequestBody requestBody = new DataEngineBatchRequestBody();
+        requestBody.setDataFiles(Arrays.asList(firstDataFile, secondDataFile));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        DataEngineBatchResponse response = dataEngineRESTServices.upsertBatch(USER, SERVER_NAME, requestBody);
+        executor.shutdown();
+
+        assertEquals(2, response.getElementResponses().size());
+        // the shared folder is created once, before the files are written concurrently
+        InOrder inOrder = inOrder(dataEngineFolderHierarchyHandler, dataEngineDataFileHandler);
+        inOrder.verify(dataEngineFolderHierarchyHandler, times(1)).upsertFolderHierarchies(Arrays.asList(firstDataFile.getPathName(),
+                secondDataFile.getPathName()), EXTERNAL_SOURCE_DE_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME, USER, methodName);
+        inOrder.verify(dataEngineDataFileHandler, times(2)).upsertFileAssetIntoCatalog(eq(DATA_FILE_TYPE_NAME), eq(DATA_FILE_TYPE_GUID),
+                any(DataFile.class), any(SchemaType.class), any(), eq(EXTERNAL_SOURCE_DE_GUID), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), eq(USER),
+                eq("upsertDataFile"));
+    }
+
     @Test
     void insertDataFile() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         mockDataFileHandler("upsertDataFile");
@@ -1539,6 +1676,15 @@ class DataEngineRESTServicesTest {
         return requestBody;
     }
 
+    private DataEngineBatchRequestBody mockBatchRequestBody() {
+        DataEngineBatchRequestBody requestBody = new DataEngineBatchRequestBody();
+        requestBody.setRelationalTables(Collections.singletonMap(DATABASE_QUALIFIED_NAME, Collections.singletonList(getRelationalTable())));
+        requestBody.setDataFlows(Collections.singletonList(getDataFlow()));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        return requestBody;
+    }
+
     private TopicRequestBody mockTopicRequestBody() {
         TopicRequestBody requestBody = new TopicRequestBody();
         requestBody.setTopic(getTopic());
@@ -1636,22 +1782,30 @@ class DataEngineRESTServicesTest {
     }
 
     private RelationalTable getRelationalTable() {
+        return getRelationalTable(QUALIFIED_NAME);
+    }
+
+    private RelationalTable getRelationalTable(String qualifiedName) {
         RelationalTable relationalTable = new RelationalTable();
 
-        relationalTable.setQualifiedName(QUALIFIED_NAME);
+        relationalTable.setQualifiedName(qualifiedName);
         relationalTable.setDisplayName(NAME);
 
         return relationalTable;
     }
 
     private DataFile getDataFile() {
+        return getDataFile(PATH);
+    }
+
+    private DataFile getDataFile(String pathName) {
         DataFile dataFile = new DataFile();
         dataFile.setQualifiedName(QUALIFIED_NAME);
         dataFile.setDisplayName(NAME);
         dataFile.setOwner(OWNER);
         dataFile.setFileType(FILE_TYPE);
         dataFile.setDescription(DESCRIPTION);
-        dataFile.setPathName(PATH);
+        dataFile.setPathName(pathName);
         dataFile.setSchema(getSchemaTypeForDataFile());
 
         List<Attribute> tabularColumns = new ArrayList<>();
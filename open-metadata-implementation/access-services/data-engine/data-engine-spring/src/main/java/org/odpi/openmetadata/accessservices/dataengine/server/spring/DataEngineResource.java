@@ -4,6 +4,8 @@ package org.odpi.openmetadata.accessservices.dataengine.server.spring;
 
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineBatchResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseRequestBody;
@@ -268,6 +270,22 @@ public class DataEngineResource {
         return restAPI.addDataFlows(userId, serverName, dataFlowsRequestBody);
     }
 
+    /**
+     * Create or update a batch of schema types, data files, relational tables, processes and data flows
+     *
+     * @param serverName       name of server instance to call
+     * @param userId           the name of the calling user
+     * @param batchRequestBody the elements of the batch
+     *
+     * @return the outcome of each element of the batch
+     */
+    @PostMapping(path = "/batch")
+    public DataEngineBatchResponse upsertBatch(@PathVariable("userId") String userId,
+                                               @PathVariable("serverName") String serverName,
+                                               @RequestBody DataEngineBatchRequestBody batchRequestBody) {
+        return restAPI.upsertBatch(userId, serverName, batchRequestBody);
+    }
+
 
     /***
      * Get connection details used to access Data Engine OMAS input topic
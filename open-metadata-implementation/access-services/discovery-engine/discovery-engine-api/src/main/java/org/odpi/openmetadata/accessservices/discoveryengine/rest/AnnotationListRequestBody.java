@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AnnotationListRequestBody passes a list of new annotations to add to the annotation store in one request.
+ * When the annotations are to be linked to data fields, parentGUIDs holds the unique identifier of the data field
+ * for the annotation at the same position in the list.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AnnotationListRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Annotation> annotations = null;
+    private List<String>     parentGUIDs = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AnnotationListRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AnnotationListRequestBody(AnnotationListRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            annotations = template.getAnnotations();
+            parentGUIDs = template.getParentGUIDs();
+        }
+    }
+
+
+    /**
+     * Return the list of new annotations.
+     *
+     * @return list
+     */
+    public List<Annotation> getAnnotations()
+    {
+        if (annotations == null)
+        {
+            return null;
+        }
+        else if (annotations.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(annotations);
+        }
+    }
+
+
+    /**
+     * Set up the list of new annotations.
+     *
+     * @param annotations list
+     */
+    public void setAnnotations(List<Annotation> annotations)
+    {
+        this.annotations = annotations;
+    }
+
+
+    /**
+     * Return the unique identifiers of the elements that each annotation is to be linked to.
+     *
+     * @return list of guids
+     */
+    public List<String> getParentGUIDs()
+    {
+        if (parentGUIDs == null)
+        {
+            return null;
+        }
+        else if (parentGUIDs.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(parentGUIDs);
+        }
+    }
+
+
+    /**
+     * Set up the unique identifiers of the elements that each annotation is to be linked to.
+     *
+     * @param parentGUIDs list of guids
+     */
+    public void setParentGUIDs(List<String> parentGUIDs)
+    {
+        this.parentGUIDs = parentGUIDs;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "AnnotationListRequestBody{" +
+                "annotations=" + annotations +
+                ", parentGUIDs=" + parentGUIDs +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        AnnotationListRequestBody that = (AnnotationListRequestBody) objectToCompare;
+        return Objects.equals(annotations, that.annotations) &&
+               Objects.equals(parentGUIDs, that.parentGUIDs);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(annotations, parentGUIDs);
+    }
+}
@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * DataFieldListRequestBody passes a list of new dataFields to add to the annotation store in one request.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DataFieldListRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<DataField> dataFields = null;
+
+    /**
+     * Default constructor
+     */
+    public DataFieldListRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public DataFieldListRequestBody(DataFieldListRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            dataFields = template.getDataFields();
+        }
+    }
+
+
+    /**
+     * Return the list of new dataFields.
+     *
+     * @return list
+     */
+    public List<DataField> getDataFields()
+    {
+        if (dataFields == null)
+        {
+            return null;
+        }
+        else if (dataFields.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(dataFields);
+        }
+    }
+
+
+    /**
+     * Set up the list of new dataFields.
+     *
+     * @param dataFields list
+     */
+    public void setDataFields(List<DataField> dataFields)
+    {
+        this.dataFields = dataFields;
+    }
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "DataFieldListRequestBody{" +
+                "dataFields=" + dataFields +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        DataFieldListRequestBody that = (DataFieldListRequestBody) objectToCompare;
+        return Objects.equals(dataFields, that.dataFields);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(dataFields);
+    }
+}
@@ -205,6 +205,25 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are sent to the Discovery Engine OMAS in one request.
+     *
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @Override
+    public List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToDiscoveryReport(userId, discoveryReport.getDiscoveryReportGUID(), annotations);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -225,6 +244,27 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing annotation.
+     * The annotations are sent to the Discovery Engine OMAS in one request.
+     *
+     * @param parentAnnotationGUID unique identifier of the annotation that the new ones are to be attached to
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    @Override
+    public List<String>  addAnnotationsToAnnotation(String           parentAnnotationGUID,
+                                                    List<Annotation> annotations) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToAnnotation(userId, parentAnnotationGUID, annotations);
+    }
+
+
     /**
      * Replace the current properties of an annotation.
      *
@@ -363,6 +403,28 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The data fields are sent to the Discovery Engine OMAS in one request.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return unique identifiers of the new data fields in the same order as the data fields
+     * @throws InvalidParameterException a dataField is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    @Override
+    public List<String>  addDataFieldsToDiscoveryReport(String          annotationGUID,
+                                                        List<DataField> dataFields) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        return discoveryEngineClient.addDataFieldsToDiscoveryReport(userId, annotationGUID, dataFields);
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -404,6 +466,28 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new annotations, each linked to an existing data field.  The annotation at each position
+     * in the list is linked to the data field at the same position in the list of data field identifiers.
+     * The annotations are sent to the Discovery Engine OMAS in one request.
+     *
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid, or the lists are different lengths
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    @Override
+    public List<String>  addAnnotationsToDataFields(List<String>     parentDataFieldGUIDs,
+                                                    List<Annotation> annotations) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToDataFields(userId, parentDataFieldGUIDs, annotations);
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
@@ -931,6 +931,48 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are sent in one request.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    List<String>  addAnnotationsToDiscoveryReport(String           userId,
+                                                  String           discoveryReportGUID,
+                                                  List<Annotation> annotations) throws InvalidParameterException,
+                                                                                       UserNotAuthorizedException,
+                                                                                       PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDiscoveryReport";
+        final String   annotationsParameterName = "annotations";
+        final String   reportGUIDParameterName = "discoveryReportGUID";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/discovery-analysis-reports/{2}/annotations/bulk";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, reportGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          discoveryReportGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -968,6 +1010,47 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing annotation.  The annotations are sent in one request.
+     *
+     * @param userId identifier of calling user
+     * @param parentAnnotationGUID unique identifier of the annotation that the new ones are to be attached to
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    List<String>  addAnnotationsToAnnotation(String           userId,
+                                             String           parentAnnotationGUID,
+                                             List<Annotation> annotations) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToAnnotation";
+        final String   annotationGUIDParameterName = "parentAnnotationGUID";
+        final String   annotationsParameterName = "annotations";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/annotations/{2}/extended-annotations/bulk";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(parentAnnotationGUID, annotationGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          parentAnnotationGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Replace the current properties of an annotation.
      *
@@ -1222,6 +1305,49 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The data fields are sent in one request.
+     *
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return unique identifiers of the new data fields in the same order as the data fields
+     * @throws InvalidParameterException a dataField is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    List<String>  addDataFieldsToDiscoveryReport(String          userId,
+                                                 String          annotationGUID,
+                                                 List<DataField> dataFields) throws InvalidParameterException,
+                                                                                    UserNotAuthorizedException,
+                                                                                    PropertyServerException
+    {
+        final String   methodName = "addDataFieldsToDiscoveryReport";
+        final String   annotationGUIDParameterName = "annotationGUID";
+        final String   dataFieldsParameterName = "dataFields";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/annotations/{2}/data-fields/bulk";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(annotationGUID, annotationGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(dataFields, dataFieldsParameterName, methodName);
+
+        DataFieldListRequestBody requestBody = new DataFieldListRequestBody();
+
+        requestBody.setDataFields(dataFields);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          annotationGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -1296,6 +1422,49 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new annotations, each linked to an existing data field.  The annotation at each position
+     * in the list is linked to the data field at the same position in the list of data field identifiers.
+     * The annotations are sent in one request.
+     *
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    List<String>  addAnnotationsToDataFields(String           userId,
+                                             List<String>     parentDataFieldGUIDs,
+                                             List<Annotation> annotations) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDataFields";
+        final String   dataFieldGUIDsParameterName = "parentDataFieldGUIDs";
+        final String   annotationsParameterName = "annotations";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/data-fields/annotations/bulk";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(parentDataFieldGUIDs, dataFieldGUIDsParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setParentGUIDs(parentDataFieldGUIDs);
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
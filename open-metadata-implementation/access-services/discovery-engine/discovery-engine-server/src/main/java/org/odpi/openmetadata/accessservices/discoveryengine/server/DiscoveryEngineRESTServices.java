@@ -897,6 +897,58 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody list of annotation objects
+     *
+     * @return unique identifiers of the new annotations in the same order as the annotations or
+     *
+     *  InvalidParameterException one of the annotations is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public  GUIDListResponse  addAnnotationsToDiscoveryReport(String                    serverName,
+                                                              String                    userId,
+                                                              String                    discoveryReportGUID,
+                                                              AnnotationListRequestBody requestBody)
+    {
+        final String methodName = "addAnnotationsToDiscoveryReport";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            if (requestBody == null)
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+
+            AnnotationHandler<Annotation> handler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            response.setGUIDs(handler.addAnnotationsToDiscoveryReport(userId,
+                                                                      discoveryReportGUID,
+                                                                      requestBody.getAnnotations(),
+                                                                      methodName));
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -944,6 +996,58 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing annotation.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param parentAnnotationGUID unique identifier of the annotation that the new ones are to be attached to
+     * @param requestBody list of annotation objects
+     *
+     * @return unique identifiers of the new annotations in the same order as the annotations or
+     *
+     *  InvalidParameterException one of the parameters is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    public  GUIDListResponse  addAnnotationsToAnnotation(String                    serverName,
+                                                         String                    userId,
+                                                         String                    parentAnnotationGUID,
+                                                         AnnotationListRequestBody requestBody)
+    {
+        final String methodName = "addAnnotationsToAnnotation";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            if (requestBody == null)
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+
+            AnnotationHandler<Annotation> handler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            response.setGUIDs(handler.addAnnotationsToAnnotation(userId,
+                                                                 parentAnnotationGUID,
+                                                                 requestBody.getAnnotations(),
+                                                                 methodName));
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Replace the current properties of an annotation.
      *
@@ -1284,22 +1388,83 @@ public class DiscoveryEngineRESTServices
                     dataFieldSortOrder = dataField.getDataFieldSortOrder().getOpenTypeOrdinal();
                 }
 
-                handler.addDataFieldToDiscoveryReport(userId,
-                                                      null,
-                                                      null,
-                                                      annotationGUID,
-                                                      dataField.getDataFieldPosition(),
-                                                      dataField.getDataFieldName(),
-                                                      dataField.getDataFieldType(),
-                                                      dataField.getDataFieldDescription(),
-                                                      dataField.getDataFieldAliases(),
-                                                      dataFieldSortOrder,
-                                                      dataField.getDefaultValue(),
-                                                      dataField.getAdditionalProperties(),
-                                                      false,
-                                                      false,
-                                                      new Date(),
-                                                      methodName);
+                response.setGUID(handler.addDataFieldToDiscoveryReport(userId,
+                                                                       null,
+                                                                       null,
+                                                                       annotationGUID,
+                                                                       dataField.getDataFieldPosition(),
+                                                                       dataField.getDataFieldName(),
+                                                                       dataField.getDataFieldType(),
+                                                                       dataField.getDataFieldDescription(),
+                                                                       dataField.getDataFieldAliases(),
+                                                                       dataFieldSortOrder,
+                                                                       dataField.getDefaultValue(),
+                                                                       dataField.getAdditionalProperties(),
+                                                                       false,
+                                                                       false,
+                                                                       new Date(),
+                                                                       methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param requestBody list of data field objects
+     *
+     * @return unique identifiers of the new data fields in the same order as the data fields or
+     *
+     *  InvalidParameterException a dataField is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem  adding the data fields to the Annotation store.
+     */
+    public GUIDListResponse  addDataFieldsToDiscoveryReport(String                   serverName,
+                                                            String                   userId,
+                                                            String                   annotationGUID,
+                                                            DataFieldListRequestBody requestBody)
+    {
+        final String   methodName = "addDataFieldsToDiscoveryReport";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                DataFieldHandler<DataField> handler = instanceHandler.getDataFieldHandler(userId, serverName, methodName);
+
+                auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+                response.setGUIDs(handler.addDataFieldsToDiscoveryReport(userId,
+                                                                         null,
+                                                                         null,
+                                                                         annotationGUID,
+                                                                         requestBody.getDataFields(),
+                                                                         false,
+                                                                         false,
+                                                                         new Date(),
+                                                                         methodName));
             }
             else
             {
@@ -1443,6 +1608,57 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a list of new annotations, each linked to an existing data field.  The annotation at each position
+     * in the list is linked to the data field at the same position in the list of parent identifiers.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param requestBody list of annotation objects and the list of data fields they are to be attached to
+     *
+     * @return unique identifiers of the new annotations in the same order as the annotations or
+     *
+     *  InvalidParameterException one of the parameters is invalid or the lists are different lengths
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public GUIDListResponse addAnnotationsToDataFields(String                    serverName,
+                                                       String                    userId,
+                                                       AnnotationListRequestBody requestBody)
+    {
+        final String methodName = "addAnnotationsToDataFields";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            if (requestBody == null)
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+
+            AnnotationHandler<Annotation> handler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            response.setGUIDs(handler.addAnnotationsToDataFields(userId,
+                                                                 requestBody.getParentGUIDs(),
+                                                                 requestBody.getAnnotations(),
+                                                                 methodName));
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
@@ -457,6 +457,34 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody list of annotation objects
+     *
+     * @return unique identifiers of the new annotations in the same order as the annotations or
+     *
+     *  InvalidParameterException one of the annotations is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @PostMapping(path = "/discovery-analysis-reports/{discoveryReportGUID}/annotations/bulk")
+
+    public  GUIDListResponse  addAnnotationsToDiscoveryReport(@PathVariable String                    serverName,
+                                                              @PathVariable String                    userId,
+                                                              @PathVariable String                    discoveryReportGUID,
+                                                              @RequestBody  AnnotationListRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToDiscoveryReport(serverName,
+                                                       userId,
+                                                       discoveryReportGUID,
+                                                       requestBody);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -485,6 +513,31 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new annotations and link them to an existing annotation.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param parentAnnotationGUID unique identifier of the annotation that the new ones are to be attached to
+     * @param requestBody list of annotation objects
+     *
+     * @return unique identifiers of the new annotations in the same order as the annotations or
+     *
+     *  InvalidParameterException one of the parameters is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    @PostMapping(path = "/annotations/{parentAnnotationGUID}/extended-annotations/bulk")
+
+    public  GUIDListResponse  addAnnotationsToAnnotation(@PathVariable String                    serverName,
+                                                         @PathVariable String                    userId,
+                                                         @PathVariable String                    parentAnnotationGUID,
+                                                         @RequestBody  AnnotationListRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToAnnotation(serverName, userId, parentAnnotationGUID, requestBody);
+    }
+
+
     /**
      * Replace the current properties of an annotation.
      *
@@ -669,6 +722,32 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param requestBody list of data field objects
+     *
+     * @return unique identifiers of the new data fields in the same order as the data fields or
+     *
+     *  InvalidParameterException a dataField is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem  adding the data fields to the Annotation store.
+     */
+    @PostMapping(path = "/annotations/{annotationGUID}/data-fields/bulk")
+
+    public GUIDListResponse  addDataFieldsToDiscoveryReport(@PathVariable String                   serverName,
+                                                            @PathVariable String                   userId,
+                                                            @PathVariable String                   annotationGUID,
+                                                            @RequestBody  DataFieldListRequestBody requestBody)
+    {
+        return restAPI.addDataFieldsToDiscoveryReport(serverName, userId, annotationGUID, requestBody);
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -719,6 +798,30 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new annotations, each linked to an existing data field.  The annotation at each position
+     * in the list is linked to the data field at the same position in the list of parent identifiers.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param requestBody list of annotation objects and the list of data fields they are to be attached to
+     *
+     * @return unique identifiers of the new annotations in the same order as the annotations or
+     *
+     *  InvalidParameterException one of the parameters is invalid or the lists are different lengths
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    @PostMapping(path = "/data-fields/annotations/bulk")
+
+    public GUIDListResponse addAnnotationsToDataFields(@PathVariable String                    serverName,
+                                                       @PathVariable String                    userId,
+                                                       @RequestBody  AnnotationListRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToDataFields(serverName, userId, requestBody);
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.Go
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.*;
 
 import java.util.Date;
@@ -306,4 +307,44 @@ public interface GovernanceProcessingInterface
                                 String                completionMessage) throws InvalidParameterException,
                                                                                 UserNotAuthorizedException,
                                                                                 PropertyServerException;
+
+
+    /**
+     * Register the specification of a watchdog listener so that the Governance Engine OMAS only publishes the
+     * watchdog events that the listener (or another registered listener) is interested in.  If the listener is
+     * already registered, its specification is replaced.
+     *
+     * @param userId caller's userId
+     * @param listenerId unique identifier of the watchdog listener
+     * @param interestingEventTypes types of events that should be passed to the listener (null for any)
+     * @param interestingMetadataTypes types of elements that are the subject of the interesting event types (null for any)
+     * @param specificInstance unique identifier of a specific instance to watch for
+     *
+     * @throws InvalidParameterException the listener identifier is null
+     * @throws UserNotAuthorizedException the caller is not authorized to register listeners
+     * @throws PropertyServerException there is a problem connecting to the metadata store
+     */
+    void registerWatchdogListener(String                  userId,
+                                  String                  listenerId,
+                                  List<WatchdogEventType> interestingEventTypes,
+                                  List<String>            interestingMetadataTypes,
+                                  String                  specificInstance) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException,
+                                                                                   PropertyServerException;
+
+
+    /**
+     * Remove the specification of a watchdog listener because it has been disconnected.
+     *
+     * @param userId caller's userId
+     * @param listenerId unique identifier of the watchdog listener
+     *
+     * @throws InvalidParameterException the listener identifier is null
+     * @throws UserNotAuthorizedException the caller is not authorized to remove listeners
+     * @throws PropertyServerException there is a problem connecting to the metadata store
+     */
+    void unregisterWatchdogListener(String userId,
+                                    String listenerId) throws InvalidParameterException,
+                                                              UserNotAuthorizedException,
+                                                              PropertyServerException;
 }
@@ -6,6 +6,7 @@ package org.odpi.openmetadata.accessservices.governanceengine.events;
 import com.fasterxml.jackson.annotation.*;
 import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogGovernanceEvent;
 
+import java.util.List;
 import java.util.Objects;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
@@ -22,6 +23,7 @@ public class WatchdogGovernanceServiceEvent extends GovernanceEngineEvent
     private static final long serialVersionUID = 1L;
 
     private WatchdogGovernanceEvent watchdogGovernanceEvent = null;
+    private List<String>            listenerIds             = null;
 
     /**
      * Default constructor
@@ -44,6 +46,7 @@ public class WatchdogGovernanceServiceEvent extends GovernanceEngineEvent
         if (template != null)
         {
             watchdogGovernanceEvent = template.getWatchdogGovernanceEvent();
+            listenerIds = template.getListenerIds();
         }
     }
 
@@ -70,6 +73,29 @@ public class WatchdogGovernanceServiceEvent extends GovernanceEngineEvent
     }
 
 
+    /**
+     * Return the identifiers of the registered watchdog listeners that are interested in this event.  Null means
+     * the event was published without checking the registered listeners and every listener should examine it.
+     *
+     * @return list of listener identifiers
+     */
+    public List<String> getListenerIds()
+    {
+        return listenerIds;
+    }
+
+
+    /**
+     * Set up the identifiers of the registered watchdog listeners that are interested in this event.
+     *
+     * @param listenerIds list of listener identifiers
+     */
+    public void setListenerIds(List<String> listenerIds)
+    {
+        this.listenerIds = listenerIds;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -80,6 +106,7 @@ public class WatchdogGovernanceServiceEvent extends GovernanceEngineEvent
     {
         return "WatchdogGovernanceServiceEvent{" +
                        "watchdogGovernanceEvent=" + watchdogGovernanceEvent +
+                       ", listenerIds=" + listenerIds +
                        ", eventVersionId=" + getEventVersionId() +
                        ", eventType=" + getEventType() +
                        ", governanceEngineGUID='" + getGovernanceEngineGUID() + '\'' +
@@ -110,7 +137,8 @@ public class WatchdogGovernanceServiceEvent extends GovernanceEngineEvent
             return false;
         }
         WatchdogGovernanceServiceEvent that = (WatchdogGovernanceServiceEvent) objectToCompare;
-        return Objects.equals(watchdogGovernanceEvent, that.watchdogGovernanceEvent);
+        return Objects.equals(watchdogGovernanceEvent, that.watchdogGovernanceEvent) &&
+                       Objects.equals(listenerIds, that.listenerIds);
     }
 
 
@@ -122,6 +150,6 @@ public class WatchdogGovernanceServiceEvent extends GovernanceEngineEvent
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), watchdogGovernanceEvent);
+        return Objects.hash(super.hashCode(), watchdogGovernanceEvent, listenerIds);
     }
 }
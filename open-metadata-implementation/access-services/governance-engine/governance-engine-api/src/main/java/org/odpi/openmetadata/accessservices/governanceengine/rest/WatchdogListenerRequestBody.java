@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.governanceengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * WatchdogListenerRequestBody passes the specification of the watchdog events that a listener running in an engine host
+ * is interested in.  The Governance Engine OMAS uses it to only publish the watchdog events that at least one listener
+ * is interested in.  Null values mean "any".
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class WatchdogListenerRequestBody implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<WatchdogEventType> interestingEventTypes    = null;
+    private List<String>            interestingMetadataTypes = null;
+    private String                  specificInstance         = null;
+
+
+    /**
+     * Default constructor
+     */
+    public WatchdogListenerRequestBody()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public WatchdogListenerRequestBody(WatchdogListenerRequestBody template)
+    {
+        if (template != null)
+        {
+            interestingEventTypes = template.getInterestingEventTypes();
+            interestingMetadataTypes = template.getInterestingMetadataTypes();
+            specificInstance = template.getSpecificInstance();
+        }
+    }
+
+
+    /**
+     * Return the types of watchdog events that should be passed to the listener.
+     *
+     * @return list of event types or null for any
+     */
+    public List<WatchdogEventType> getInterestingEventTypes()
+    {
+        return interestingEventTypes;
+    }
+
+
+    /**
+     * Set up the types of watchdog events that should be passed to the listener.
+     *
+     * @param interestingEventTypes list of event types or null for any
+     */
+    public void setInterestingEventTypes(List<WatchdogEventType> interestingEventTypes)
+    {
+        this.interestingEventTypes = interestingEventTypes;
+    }
+
+
+    /**
+     * Return the types of the elements, relationships or classifications that are the subject of the interesting
+     * events.  Subtypes of these types also match.
+     *
+     * @return list of type names or null for any
+     */
+    public List<String> getInterestingMetadataTypes()
+    {
+        return interestingMetadataTypes;
+    }
+
+
+    /**
+     * Set up the types of the elements, relationships or classifications that are the subject of the interesting
+     * events.  Subtypes of these types also match.
+     *
+     * @param interestingMetadataTypes list of type names or null for any
+     */
+    public void setInterestingMetadataTypes(List<String> interestingMetadataTypes)
+    {
+        this.interestingMetadataTypes = interestingMetadataTypes;
+    }
+
+
+    /**
+     * Return the unique identifier of a specific instance to watch for.
+     *
+     * @return string guid
+     */
+    public String getSpecificInstance()
+    {
+        return specificInstance;
+    }
+
+
+    /**
+     * Set up the unique identifier of a specific instance to watch for.
+     *
+     * @param specificInstance string guid
+     */
+    public void setSpecificInstance(String specificInstance)
+    {
+        this.specificInstance = specificInstance;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "WatchdogListenerRequestBody{" +
+                "interestingEventTypes=" + interestingEventTypes +
+                ", interestingMetadataTypes=" + interestingMetadataTypes +
+                ", specificInstance='" + specificInstance + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        WatchdogListenerRequestBody that = (WatchdogListenerRequestBody) objectToCompare;
+        return Objects.equals(interestingEventTypes, that.interestingEventTypes) &&
+                Objects.equals(interestingMetadataTypes, that.interestingMetadataTypes) &&
+                Objects.equals(specificInstance, that.specificInstance);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(interestingEventTypes, interestingMetadataTypes, specificInstance);
+    }
+}
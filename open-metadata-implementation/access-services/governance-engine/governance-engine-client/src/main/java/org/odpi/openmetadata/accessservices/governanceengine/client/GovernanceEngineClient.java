@@ -14,6 +14,7 @@ import org.odpi.openmetadata.commonservices.ffdc.rest.SearchStringRequestBody;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.CompletionStatus;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.GovernanceActionStatus;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.NewActionTarget;
@@ -449,6 +450,84 @@ public class GovernanceEngineClient extends OpenMetadataStoreClientBase implemen
     }
 
 
+    /**
+     * Register the specification of a watchdog listener so that the Governance Engine OMAS only publishes the
+     * watchdog events that the listener (or another registered listener) is interested in.  If the listener is
+     * already registered, its specification is replaced.
+     *
+     * @param userId caller's userId
+     * @param listenerId unique identifier of the watchdog listener
+     * @param interestingEventTypes types of events that should be passed to the listener (null for any)
+     * @param interestingMetadataTypes types of elements that are the subject of the interesting event types (null for any)
+     * @param specificInstance unique identifier of a specific instance to watch for
+     *
+     * @throws InvalidParameterException the listener identifier is null
+     * @throws UserNotAuthorizedException the caller is not authorized to register listeners
+     * @throws PropertyServerException there is a problem connecting to the metadata store
+     */
+    @Override
+    public void registerWatchdogListener(String                  userId,
+                                         String                  listenerId,
+                                         List<WatchdogEventType> interestingEventTypes,
+                                         List<String>            interestingMetadataTypes,
+                                         String                  specificInstance) throws InvalidParameterException,
+                                                                                          UserNotAuthorizedException,
+                                                                                          PropertyServerException
+    {
+        final String methodName = "registerWatchdogListener";
+        final String listenerIdParameterName = "listenerId";
+        final String urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/governance-engine/users/{1}/topics/watchdog-listeners/{2}";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateName(listenerId, listenerIdParameterName, methodName);
+
+        WatchdogListenerRequestBody requestBody = new WatchdogListenerRequestBody();
+
+        requestBody.setInterestingEventTypes(interestingEventTypes);
+        requestBody.setInterestingMetadataTypes(interestingMetadataTypes);
+        requestBody.setSpecificInstance(specificInstance);
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        urlTemplate,
+                                        requestBody,
+                                        serverName,
+                                        userId,
+                                        listenerId);
+    }
+
+
+    /**
+     * Remove the specification of a watchdog listener because it has been disconnected.
+     *
+     * @param userId caller's userId
+     * @param listenerId unique identifier of the watchdog listener
+     *
+     * @throws InvalidParameterException the listener identifier is null
+     * @throws UserNotAuthorizedException the caller is not authorized to remove listeners
+     * @throws PropertyServerException there is a problem connecting to the metadata store
+     */
+    @Override
+    public void unregisterWatchdogListener(String userId,
+                                           String listenerId) throws InvalidParameterException,
+                                                                     UserNotAuthorizedException,
+                                                                     PropertyServerException
+    {
+        final String methodName = "unregisterWatchdogListener";
+        final String listenerIdParameterName = "listenerId";
+        final String urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/governance-engine/users/{1}/topics/watchdog-listeners/{2}/remove";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateName(listenerId, listenerIdParameterName, methodName);
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        urlTemplate,
+                                        nullRequestBody,
+                                        serverName,
+                                        userId,
+                                        listenerId);
+    }
+
+
     /**
      * Retrieve the governance actions known to the server.
      *
@@ -118,6 +118,7 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
                                                                                        instance.getMetadataElementHandler(),
                                                                                        instance.getGovernanceActionHandler(),
                                                                                        eventPublisher,
+                                                                                       instance.getWatchdogListenerRegistry(),
                                                                                        repositoryConnector.getRepositoryHelper(),
                                                                                        outTopicAuditLog),
                                                  auditLog);
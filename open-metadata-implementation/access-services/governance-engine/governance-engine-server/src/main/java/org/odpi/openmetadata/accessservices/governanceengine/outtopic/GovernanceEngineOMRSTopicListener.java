@@ -27,9 +27,13 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * GovernanceEngineOMRSTopicListener is the listener that registers with the repository services (OMRS)
@@ -42,6 +46,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
 {
     private final GovernanceEngineOutTopicPublisher                eventPublisher;
+    private final WatchdogListenerRegistry                         watchdogListenerRegistry;
     private final OMRSRepositoryHelper                             repositoryHelper;
     private final MetadataElementHandler<OpenMetadataElement>      metadataElementHandler;
     private final GovernanceActionHandler<GovernanceActionElement> governanceActionHandler;
@@ -60,6 +65,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
      * @param metadataElementHandler handler for working with GAF objects
      * @param governanceActionHandler handler for working with governance actions
      * @param eventPublisher this is the out topic publisher.
+     * @param watchdogListenerRegistry watchdog listeners registered by the engine hosts
      * @param repositoryHelper repository helper
      * @param auditLog logging destination
      */
@@ -68,6 +74,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                              MetadataElementHandler<OpenMetadataElement>      metadataElementHandler,
                                              GovernanceActionHandler<GovernanceActionElement> governanceActionHandler,
                                              GovernanceEngineOutTopicPublisher                eventPublisher,
+                                             WatchdogListenerRegistry                         watchdogListenerRegistry,
                                              OMRSRepositoryHelper                             repositoryHelper,
                                              AuditLog                                         auditLog)
     {
@@ -79,6 +86,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
         this.userId = userId;
 
         this.eventPublisher   = eventPublisher;
+        this.watchdogListenerRegistry = watchdogListenerRegistry;
         this.repositoryHelper = repositoryHelper;
 
         this.converter = new GovernanceEngineOMASConverter<>(repositoryHelper, serviceName, metadataElementHandler.getServerName());
@@ -447,6 +455,66 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     }
 
 
+    /**
+     * Return the watchdog listeners interested in a change to an instance.
+     *
+     * @param eventType watchdog event type
+     * @param instanceGUID unique identifier of the changed instance
+     * @param instanceType type of the changed instance
+     * @return null if every listener should examine the event, otherwise the identifiers of the interested listeners
+     */
+    private List<String> getInterestedListeners(WatchdogEventType eventType,
+                                                String            instanceGUID,
+                                                InstanceType      instanceType)
+    {
+        String       typeName       = null;
+        List<String> superTypeNames = null;
+
+        if (instanceType != null)
+        {
+            typeName = instanceType.getTypeDefName();
+
+            if (instanceType.getTypeDefSuperTypes() != null)
+            {
+                superTypeNames = new ArrayList<>();
+
+                for (TypeDefLink superType : instanceType.getTypeDefSuperTypes())
+                {
+                    if (superType != null)
+                    {
+                        superTypeNames.add(superType.getName());
+                    }
+                }
+            }
+        }
+
+        return this.getInterestedListeners(eventType, instanceGUID, typeName, superTypeNames);
+    }
+
+
+    /**
+     * Return the watchdog listeners interested in a change to an instance.
+     *
+     * @param eventType watchdog event type
+     * @param instanceGUID unique identifier of the changed instance
+     * @param typeName type name of the changed instance (or classification)
+     * @param superTypeNames names of the super types (or null)
+     * @return null if every listener should examine the event, otherwise the identifiers of the interested listeners
+     */
+    private List<String> getInterestedListeners(WatchdogEventType eventType,
+                                                String            instanceGUID,
+                                                String            typeName,
+                                                List<String>      superTypeNames)
+    {
+        if (watchdogListenerRegistry == null)
+        {
+            return null;
+        }
+
+        return watchdogListenerRegistry.getInterestedListeners(eventType, instanceGUID, typeName, superTypeNames);
+    }
+
+
     /**
      * Process an entity extracted from an event.
      *
@@ -464,6 +532,13 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     {
         if (entity != null)
         {
+            List<String> listenerIds = this.getInterestedListeners(eventType, entity.getGUID(), entity.getType());
+
+            if ((listenerIds != null) && (listenerIds.isEmpty()))
+            {
+                return;
+            }
+
             try
             {
                 WatchdogMetadataElementEvent watchdogEvent = new WatchdogMetadataElementEvent();
@@ -486,7 +561,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                                                                                              methodName));
                 }
 
-                eventPublisher.publishWatchdogEvent(watchdogEvent);
+                eventPublisher.publishWatchdogEvent(watchdogEvent, listenerIds);
             }
             catch (InvalidParameterException error)
             {
@@ -529,6 +604,14 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     {
         if (entity != null)
         {
+            String       classificationName = (classification == null) ? null : classification.getName();
+            List<String> listenerIds        = this.getInterestedListeners(eventType, entity.getGUID(), classificationName, null);
+
+            if ((listenerIds != null) && (listenerIds.isEmpty()))
+            {
+                return;
+            }
+
             try
             {
                 WatchdogClassificationEvent watchdogEvent = new WatchdogClassificationEvent();
@@ -542,7 +625,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                     watchdogEvent.setChangedClassification(this.getClassification(previousClassification));
                 }
 
-                eventPublisher.publishWatchdogEvent(watchdogEvent);
+                eventPublisher.publishWatchdogEvent(watchdogEvent, listenerIds);
             }
             catch (InvalidParameterException error)
             {
@@ -583,6 +666,13 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     {
         if (relationship != null)
         {
+            List<String> listenerIds = this.getInterestedListeners(eventType, relationship.getGUID(), relationship.getType());
+
+            if ((listenerIds != null) && (listenerIds.isEmpty()))
+            {
+                return;
+            }
+
             try
             {
                 /*
@@ -604,7 +694,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                     watchdogEvent.setPreviousRelatedMetadataElements(this.getRelatedElements(previousRelationship));
                 }
 
-                eventPublisher.publishWatchdogEvent(watchdogEvent);
+                eventPublisher.publishWatchdogEvent(watchdogEvent, listenerIds);
             }
             catch (InvalidParameterException error)
             {
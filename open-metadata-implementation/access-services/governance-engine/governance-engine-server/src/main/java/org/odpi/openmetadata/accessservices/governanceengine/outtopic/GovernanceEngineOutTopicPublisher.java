@@ -9,6 +9,8 @@ import org.odpi.openmetadata.accessservices.governanceengine.ffdc.GovernanceEngi
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogGovernanceEvent;
 
+import java.util.List;
+
 /**
  * GovernanceEngineOutTopicPublisher is responsible for pushing events to the Governance Engine OMAS's out topic.
  */
@@ -173,8 +175,11 @@ public class GovernanceEngineOutTopicPublisher
      * Publish an event for Open Watchdog Governance Action Services.
      *
      * @param watchdogGovernanceEvent GAF defined watchdog event
+     * @param listenerIds identifiers of the registered watchdog listeners interested in the event, or null if every
+     *                    listener should examine it
      */
-    void publishWatchdogEvent(WatchdogGovernanceEvent  watchdogGovernanceEvent)
+    void publishWatchdogEvent(WatchdogGovernanceEvent  watchdogGovernanceEvent,
+                              List<String>             listenerIds)
     {
         final String methodName = "publishWatchdogEvent";
 
@@ -186,6 +191,7 @@ public class GovernanceEngineOutTopicPublisher
 
                 newEvent.setEventType(GovernanceEngineEventType.WATCHDOG_GOVERNANCE_SERVICE_EVENT);
                 newEvent.settWatchdogGovernanceEvent(watchdogGovernanceEvent);
+                newEvent.setListenerIds(listenerIds);
 
                 outTopicServerConnector.sendEvent(newEvent);
 
@@ -0,0 +1,221 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.governanceengine.outtopic;
+
+import org.odpi.openmetadata.accessservices.governanceengine.rest.WatchdogListenerRequestBody;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * WatchdogListenerRegistry holds the specification of the watchdog listeners registered by the engine hosts.
+ * It is used by the GovernanceEngineOMRSTopicListener to work out which listeners are interested in a change before
+ * the watchdog event is built and published.  The listeners are indexed by interesting metadata type and specific
+ * instance so that the cost of matching an event depends on the number of interested listeners rather than the
+ * number of registered listeners.
+ * <p>
+ * The registrations are held in memory.  While no listener is registered, every watchdog event is published, as it
+ * was before engine hosts registered their listeners.
+ */
+public class WatchdogListenerRegistry
+{
+    private final Map<String, WatchdogListenerRequestBody> listeners           = new HashMap<>();
+    private final Map<String, Set<String>>                 listenersByType     = new HashMap<>();
+    private final Map<String, Set<String>>                 listenersByInstance = new HashMap<>();
+    private final Set<String>                              listenersForAnyType = new HashSet<>();
+
+
+    /**
+     * Default constructor
+     */
+    public WatchdogListenerRegistry()
+    {
+    }
+
+
+    /**
+     * Register (or replace) the specification of a watchdog listener.
+     *
+     * @param listenerId unique identifier of the listener
+     * @param listenerSpec types of events, types of metadata and specific instance that the listener is interested in
+     */
+    public synchronized void registerListener(String                      listenerId,
+                                              WatchdogListenerRequestBody listenerSpec)
+    {
+        this.unregisterListener(listenerId);
+
+        WatchdogListenerRequestBody spec = new WatchdogListenerRequestBody(listenerSpec);
+
+        listeners.put(listenerId, spec);
+
+        if (spec.getSpecificInstance() != null)
+        {
+            listenersByInstance.computeIfAbsent(spec.getSpecificInstance(), key -> new HashSet<>()).add(listenerId);
+        }
+
+        if (spec.getInterestingMetadataTypes() == null)
+        {
+            listenersForAnyType.add(listenerId);
+        }
+        else
+        {
+            for (String typeName : spec.getInterestingMetadataTypes())
+            {
+                if (typeName != null)
+                {
+                    listenersByType.computeIfAbsent(typeName, key -> new HashSet<>()).add(listenerId);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the specification of a watchdog listener.
+     *
+     * @param listenerId unique identifier of the listener
+     */
+    public synchronized void unregisterListener(String listenerId)
+    {
+        WatchdogListenerRequestBody spec = listeners.remove(listenerId);
+
+        if (spec != null)
+        {
+            if (spec.getSpecificInstance() != null)
+            {
+                removeFromIndex(listenersByInstance, spec.getSpecificInstance(), listenerId);
+            }
+
+            if (spec.getInterestingMetadataTypes() == null)
+            {
+                listenersForAnyType.remove(listenerId);
+            }
+            else
+            {
+                for (String typeName : spec.getInterestingMetadataTypes())
+                {
+                    removeFromIndex(listenersByType, typeName, listenerId);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the listeners interested in a change.  The rules are the same as those applied by the engine host:
+     * the event type must be of interest and either the instance is the specific instance of the listener or its
+     * type (or one of its super types) is one of the listener's interesting metadata types.
+     *
+     * @param eventType type of watchdog event
+     * @param instanceGUID unique identifier of the element, relationship or classified element
+     * @param typeName type name of the element, relationship or classification
+     * @param superTypeNames names of the super types of typeName (or null)
+     * @return null if no listeners are registered, otherwise the identifiers of the interested listeners (may be empty)
+     */
+    public synchronized List<String> getInterestedListeners(WatchdogEventType eventType,
+                                                            String            instanceGUID,
+                                                            String            typeName,
+                                                            List<String>      superTypeNames)
+    {
+        if (listeners.isEmpty())
+        {
+            return null;
+        }
+
+        Set<String> candidates = new HashSet<>(listenersForAnyType);
+
+        addFromIndex(candidates, listenersByInstance, instanceGUID);
+        addFromIndex(candidates, listenersByType, typeName);
+
+        if (superTypeNames != null)
+        {
+            for (String superTypeName : superTypeNames)
+            {
+                addFromIndex(candidates, listenersByType, superTypeName);
+            }
+        }
+
+        List<String> interestedListeners = new ArrayList<>();
+
+        for (String listenerId : candidates)
+        {
+            List<WatchdogEventType> interestingEventTypes = listeners.get(listenerId).getInterestingEventTypes();
+
+            if ((interestingEventTypes == null) || (interestingEventTypes.contains(eventType)))
+            {
+                interestedListeners.add(listenerId);
+            }
+        }
+
+        return interestedListeners;
+    }
+
+
+    /**
+     * Return the number of registered listeners.
+     *
+     * @return count
+     */
+    public synchronized int getListenerCount()
+    {
+        return listeners.size();
+    }
+
+
+    /**
+     * Add the listeners indexed under a key to the candidate listeners.
+     *
+     * @param candidates set of candidate listeners
+     * @param index index to look in
+     * @param key type name or instance guid
+     */
+    private void addFromIndex(Set<String>              candidates,
+                              Map<String, Set<String>> index,
+                              String                   key)
+    {
+        if (key != null)
+        {
+            Set<String> indexedListeners = index.get(key);
+
+            if (indexedListeners != null)
+            {
+                candidates.addAll(indexedListeners);
+            }
+        }
+    }
+
+
+    /**
+     * Remove a listener from an index entry, dropping the entry when it is empty.
+     *
+     * @param index index to update
+     * @param key type name or instance guid
+     * @param listenerId listener to remove
+     */
+    private void removeFromIndex(Map<String, Set<String>> index,
+                                 String                   key,
+                                 String                   listenerId)
+    {
+        if (key != null)
+        {
+            Set<String> indexedListeners = index.get(key);
+
+            if (indexedListeners != null)
+            {
+                indexedListeners.remove(listenerId);
+
+                if (indexedListeners.isEmpty())
+                {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.exceptions.NewInstanceException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.accessservices.governanceengine.outtopic.WatchdogListenerRegistry;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
@@ -42,6 +43,7 @@ public class GovernanceEngineInstance extends OMASServiceInstance
     private GovernanceActionHandler<GovernanceActionElement>         governanceActionHandler;
     private AssetHandler<GovernanceActionProcessElement>             governanceActionProcessHandler;
     private GovernanceActionTypeHandler<GovernanceActionTypeElement> governanceActionTypeHandler;
+    private final WatchdogListenerRegistry                           watchdogListenerRegistry = new WatchdogListenerRegistry();
 
     /**
      * Set up the local repository connector that will service the REST Calls.
@@ -214,4 +216,15 @@ public class GovernanceEngineInstance extends OMASServiceInstance
     {
         return governanceActionHandler;
     }
+
+
+    /**
+     * Return the watchdog listeners registered by the engine hosts.
+     *
+     * @return registry object
+     */
+    public WatchdogListenerRegistry getWatchdogListenerRegistry()
+    {
+        return watchdogListenerRegistry;
+    }
 }
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.handlers.MetadataEl
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionProcessElement;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionTypeElement;
+import org.odpi.openmetadata.accessservices.governanceengine.outtopic.WatchdogListenerRegistry;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.GovernanceActionHandler;
@@ -174,4 +175,32 @@ class GovernanceEngineInstanceHandler extends OMASServiceInstanceHandler
 
         return null;
     }
+
+
+    /**
+     * Retrieve the registry of watchdog listeners for the access service.
+     *
+     * @param userId calling user
+     * @param serverName name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     * @return registry for use by the requested instance
+     * @throws InvalidParameterException no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException the service name is not known - indicating a logic error
+     */
+    WatchdogListenerRegistry getWatchdogListenerRegistry(String userId,
+                                                         String serverName,
+                                                         String serviceOperationName) throws InvalidParameterException,
+                                                                                             UserNotAuthorizedException,
+                                                                                             PropertyServerException
+    {
+        GovernanceEngineInstance instance = (GovernanceEngineInstance)super.getServerServiceInstance(userId, serverName, serviceOperationName);
+
+        if (instance != null)
+        {
+            return instance.getWatchdogListenerRegistry();
+        }
+
+        return null;
+    }
 }
@@ -86,6 +86,99 @@ public class GovernanceEngineRESTServices
     }
 
 
+    /**
+     * Register the specification of a watchdog listener running in an engine host.  The Governance Engine OMAS
+     * only publishes the watchdog events that a registered listener is interested in.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId identifier of calling user.
+     * @param listenerId unique identifier of the watchdog listener
+     * @param requestBody types of events, types of metadata and specific instance that the listener is interested in
+     *
+     * @return void or
+     *
+     *   InvalidParameterException one of the parameters is null or invalid or
+     *   UserNotAuthorizedException user not authorized to issue this request or
+     *   PropertyServerException problem with the server instance.
+     */
+    public VoidResponse registerWatchdogListener(String                      serverName,
+                                                 String                      userId,
+                                                 String                      listenerId,
+                                                 WatchdogListenerRequestBody requestBody)
+    {
+        final String methodName = "registerWatchdogListener";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog auditLog = null;
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                instanceHandler.getWatchdogListenerRegistry(userId, serverName, methodName).registerListener(listenerId, requestBody);
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
+    /**
+     * Remove the specification of a watchdog listener because it has been disconnected.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId identifier of calling user.
+     * @param listenerId unique identifier of the watchdog listener
+     * @param requestBody null request body
+     *
+     * @return void or
+     *
+     *   InvalidParameterException one of the parameters is null or invalid or
+     *   UserNotAuthorizedException user not authorized to issue this request or
+     *   PropertyServerException problem with the server instance.
+     */
+    @SuppressWarnings(value = "unused")
+    public VoidResponse unregisterWatchdogListener(String          serverName,
+                                                   String          userId,
+                                                   String          listenerId,
+                                                   NullRequestBody requestBody)
+    {
+        final String methodName = "unregisterWatchdogListener";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog auditLog = null;
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            instanceHandler.getWatchdogListenerRegistry(userId, serverName, methodName).unregisterListener(listenerId);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Log an audit message about this asset.
      *
@@ -0,0 +1,145 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.outtopic;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.governanceengine.rest.WatchdogListenerRequestBody;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Verify that the WatchdogListenerRegistry matches a change to the registered listeners with the same rules as the
+ * engine host.
+ */
+class WatchdogListenerRegistryTest
+{
+    /**
+     * While no listener is registered, every event is published.
+     */
+    @Test
+    void noListenersRegistered()
+    {
+        WatchdogListenerRegistry registry = new WatchdogListenerRegistry();
+
+        assertNull(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid1", "Asset", null));
+
+        registry.registerListener("listener1", getListenerSpec(null, null, null));
+        registry.unregisterListener("listener1");
+
+        assertEquals(0, registry.getListenerCount());
+        assertNull(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid1", "Asset", null));
+    }
+
+
+    /**
+     * A listener is interested in the types it lists, and their sub types, and only for the event types it lists.
+     */
+    @Test
+    void matchByTypeAndEventType()
+    {
+        WatchdogListenerRegistry registry = new WatchdogListenerRegistry();
+
+        registry.registerListener("assets", getListenerSpec(null, Collections.singletonList("Asset"), null));
+        registry.registerListener("newProcesses", getListenerSpec(Collections.singletonList(WatchdogEventType.NEW_ELEMENT),
+                                                                  Collections.singletonList("Process"),
+                                                                  null));
+        registry.registerListener("everything", getListenerSpec(null, null, null));
+
+        assertEquals(List.of("assets", "everything"),
+                     sorted(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid1", "DataFile",
+                                                            List.of("DataStore", "Asset", "Referenceable"))));
+        assertEquals(List.of("everything", "newProcesses"),
+                     sorted(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid2", "Process", null)));
+        assertEquals(List.of("everything"),
+                     sorted(registry.getInterestedListeners(WatchdogEventType.DELETED_ELEMENT, "guid2", "Process", null)));
+
+        registry.unregisterListener("everything");
+
+        assertTrue(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid3", "GlossaryTerm", null).isEmpty());
+    }
+
+
+    /**
+     * A listener watching a specific instance is interested in changes to it whatever its type.
+     */
+    @Test
+    void matchBySpecificInstance()
+    {
+        WatchdogListenerRegistry registry = new WatchdogListenerRegistry();
+
+        registry.registerListener("instance", getListenerSpec(null, Collections.singletonList("Process"), "guid1"));
+
+        assertEquals(List.of("instance"), registry.getInterestedListeners(WatchdogEventType.UPDATED_ELEMENT_PROPERTIES,
+                                                                          "guid1", "Asset", null));
+        assertTrue(registry.getInterestedListeners(WatchdogEventType.UPDATED_ELEMENT_PROPERTIES, "guid2", "Asset", null).isEmpty());
+    }
+
+
+    /**
+     * Registering a listener again replaces its specification, and a change to the registered specification
+     * object does not change the registration.
+     */
+    @Test
+    void registerAgainReplacesSpecification()
+    {
+        WatchdogListenerRegistry    registry     = new WatchdogListenerRegistry();
+        WatchdogListenerRequestBody listenerSpec = getListenerSpec(null, new ArrayList<>(List.of("Asset")), null);
+
+        registry.registerListener("listener1", listenerSpec);
+        listenerSpec.getInterestingMetadataTypes().add("Process");
+
+        assertTrue(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid1", "Process", null).isEmpty());
+
+        registry.registerListener("listener1", getListenerSpec(null, Collections.singletonList("Process"), null));
+
+        assertEquals(1, registry.getListenerCount());
+        assertEquals(List.of("listener1"), registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid1", "Process", null));
+        assertTrue(registry.getInterestedListeners(WatchdogEventType.NEW_ELEMENT, "guid1", "Asset", null).isEmpty());
+    }
+
+
+    /**
+     * Return a listener specification.
+     *
+     * @param eventTypes interesting event types
+     * @param metadataTypes interesting metadata types
+     * @param specificInstance specific instance
+     * @return request body
+     */
+    private static WatchdogListenerRequestBody getListenerSpec(List<WatchdogEventType> eventTypes,
+                                                               List<String>            metadataTypes,
+                                                               String                  specificInstance)
+    {
+        WatchdogListenerRequestBody listenerSpec = new WatchdogListenerRequestBody();
+
+        listenerSpec.setInterestingEventTypes(eventTypes);
+        listenerSpec.setInterestingMetadataTypes(metadataTypes);
+        listenerSpec.setSpecificInstance(specificInstance);
+
+        return listenerSpec;
+    }
+
+
+    /**
+     * Return the listener identifiers in order.
+     *
+     * @param listenerIds listener identifiers
+     * @return sorted list
+     */
+    private static List<String> sorted(List<String> listenerIds)
+    {
+        List<String> sortedIds = new ArrayList<>(listenerIds);
+
+        Collections.sort(sortedIds);
+
+        return sortedIds;
+    }
+}
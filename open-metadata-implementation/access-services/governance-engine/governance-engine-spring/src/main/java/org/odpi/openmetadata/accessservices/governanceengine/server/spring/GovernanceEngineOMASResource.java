@@ -13,6 +13,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.rest.GovernanceActi
 import org.odpi.openmetadata.accessservices.governanceengine.rest.GovernanceActionRequestBody;
 import org.odpi.openmetadata.accessservices.governanceengine.rest.PeerDuplicatesRequestBody;
 import org.odpi.openmetadata.accessservices.governanceengine.rest.StatusRequestBody;
+import org.odpi.openmetadata.accessservices.governanceengine.rest.WatchdogListenerRequestBody;
 import org.odpi.openmetadata.accessservices.governanceengine.server.GovernanceEngineRESTServices;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
@@ -67,6 +68,55 @@ public class GovernanceEngineOMASResource
     }
 
 
+    /**
+     * Register the specification of a watchdog listener running in an engine host.  The Governance Engine OMAS
+     * only publishes the watchdog events that a registered listener is interested in.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId identifier of calling user.
+     * @param listenerId unique identifier of the watchdog listener
+     * @param requestBody types of events, types of metadata and specific instance that the listener is interested in
+     *
+     * @return void or
+     * InvalidParameterException one of the parameters is null or invalid or
+     * UserNotAuthorizedException user not authorized to issue this request or
+     * PropertyServerException problem with the server instance.
+     */
+    @PostMapping(path = "/topics/watchdog-listeners/{listenerId}")
+
+    public VoidResponse registerWatchdogListener(@PathVariable String                      serverName,
+                                                 @PathVariable String                      userId,
+                                                 @PathVariable String                      listenerId,
+                                                 @RequestBody  WatchdogListenerRequestBody requestBody)
+    {
+        return restAPI.registerWatchdogListener(serverName, userId, listenerId, requestBody);
+    }
+
+
+    /**
+     * Remove the specification of a watchdog listener because it has been disconnected.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId identifier of calling user.
+     * @param listenerId unique identifier of the watchdog listener
+     * @param requestBody null request body
+     *
+     * @return void or
+     * InvalidParameterException one of the parameters is null or invalid or
+     * UserNotAuthorizedException user not authorized to issue this request or
+     * PropertyServerException problem with the server instance.
+     */
+    @PostMapping(path = "/topics/watchdog-listeners/{listenerId}/remove")
+
+    public VoidResponse unregisterWatchdogListener(@PathVariable                  String          serverName,
+                                                   @PathVariable                  String          userId,
+                                                   @PathVariable                  String          listenerId,
+                                                   @RequestBody(required = false) NullRequestBody requestBody)
+    {
+        return restAPI.unregisterWatchdogListener(serverName, userId, listenerId, requestBody);
+    }
+
+
     /**
      * Log an audit message about an asset.
      *
@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.avrofile;
+
+import org.apache.avro.Schema;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.BasicFileStore;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
+
+import java.util.List;
+
+/**
+ * AvroFileStore defines the specific connector api for working with Avro files.  An Avro file holds its schema
+ * in the file header, followed by blocks of records.  Each block ends with a sync marker, which allows a reader
+ * to start reading at the block boundary that follows any position in the file.
+ */
+public interface AvroFileStore extends BasicFileStore
+{
+    /**
+     * Return the schema that the records in the file were written with.  Only the file header is read.
+     *
+     * @return Avro schema
+     * @throws FileException there is a problem accessing the file
+     */
+    Schema   getSchema() throws FileException;
+
+
+    /**
+     * Return the number of records in the file.  The count is taken from the header of each block so the records
+     * themselves are not decoded.  The count is retained until the file changes.
+     *
+     * @return count
+     * @throws FileException there is a problem accessing the file
+     */
+    long     getRecordCount() throws FileException;
+
+
+    /**
+     * Return a reader schema that only includes the named top-level fields of the file's schema.  Passing this
+     * schema to openRecordReader means the other fields are skipped rather than decoded.
+     *
+     * @param fieldNames names of the fields to include
+     * @return Avro record schema
+     * @throws FileException there is a problem accessing the file, or a field is not in the file's schema
+     */
+    Schema   getProjectionSchema(List<String> fieldNames) throws FileException;
+
+
+    /**
+     * Open a reader for all the records in the file.
+     *
+     * @param readerSchema schema to return the records in, or null to use the file's schema
+     * @return record reader, which must be closed by the caller
+     * @throws FileException there is a problem accessing the file
+     */
+    AvroRecordReader openRecordReader(Schema readerSchema) throws FileException;
+
+
+    /**
+     * Open a reader for the records in the blocks that start within a range of the file.  Readers opened for
+     * adjacent ranges that together cover the file return each record exactly once, so the file can be split
+     * between several readers working in parallel.
+     *
+     * @param readerSchema schema to return the records in, or null to use the file's schema
+     * @param splitStart offset of the start of the range
+     * @param splitLength length of the range in bytes
+     * @return record reader, which must be closed by the caller
+     * @throws FileException there is a problem accessing the file
+     */
+    AvroRecordReader openRecordReader(Schema readerSchema,
+                                      long   splitStart,
+                                      long   splitLength) throws FileException;
+}
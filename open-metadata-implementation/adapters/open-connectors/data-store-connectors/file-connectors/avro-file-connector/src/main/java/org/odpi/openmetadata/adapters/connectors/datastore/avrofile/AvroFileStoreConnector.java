@@ -3,14 +3,312 @@
 
 package org.odpi.openmetadata.adapters.connectors.datastore.avrofile;
 
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
 import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.BasicFileStoreConnector;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.BasicFileConnectorErrorCode;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
  * AvroFileStoreConnector works with avro files to retrieve simple objects.  It uses the basic file support to access the file and then the
- * Apache Avro libraries can be used to access the content.
+ * Apache Avro libraries to read the schema and stream the records.  Callers may still retrieve the File object and use the
+ * Avro libraries directly.
  */
-public class AvroFileStoreConnector extends BasicFileStoreConnector
+public class AvroFileStoreConnector extends BasicFileStoreConnector implements AvroFileStore
 {
+    /*
+     * The schema and record count are retained until the file's modification time or length changes.
+     */
+    private long    cachedLastModified = -1;
+    private long    cachedLength       = -1;
+    private Schema  cachedSchema       = null;
+    private long    cachedRecordCount  = -1;
+
+
+    /**
+     * Return the schema that the records in the file were written with.  Only the file header is read.
+     *
+     * @return Avro schema
+     * @throws FileException there is a problem accessing the file
+     */
+    @Override
+    public synchronized Schema getSchema() throws FileException
+    {
+        final String methodName = "getSchema";
+
+        File fileStore = super.getFile(methodName);
+
+        this.validateCache(fileStore);
+
+        if (cachedSchema == null)
+        {
+            try (DataFileStream<GenericRecord> dataFileStream = this.openDataFileStream(fileStore))
+            {
+                cachedSchema = dataFileStream.getSchema();
+            }
+            catch (IOException | AvroRuntimeException error)
+            {
+                throw this.getFileException(methodName, error);
+            }
+        }
+
+        return cachedSchema;
+    }
+
+
+    /**
+     * Return the number of records in the file.  The count is taken from the header of each block so the records
+     * themselves are not decoded.  The count is retained until the file changes.
+     *
+     * @return count
+     * @throws FileException there is a problem accessing the file
+     */
+    @Override
+    public synchronized long getRecordCount() throws FileException
+    {
+        final String methodName = "getRecordCount";
+
+        File fileStore = super.getFile(methodName);
+
+        this.validateCache(fileStore);
+
+        if (cachedRecordCount < 0)
+        {
+            try (DataFileStream<GenericRecord> dataFileStream = this.openDataFileStream(fileStore))
+            {
+                long recordCount = 0;
+
+                while (dataFileStream.hasNext())
+                {
+                    recordCount = recordCount + dataFileStream.getBlockCount();
+                    dataFileStream.nextBlock();
+                }
+
+                cachedSchema      = dataFileStream.getSchema();
+                cachedRecordCount = recordCount;
+            }
+            catch (IOException | AvroRuntimeException error)
+            {
+                throw this.getFileException(methodName, error);
+            }
+        }
+
+        return cachedRecordCount;
+    }
+
+
+    /**
+     * Return a reader schema that only includes the named top-level fields of the file's schema.  Passing this
+     * schema to openRecordReader means the other fields are skipped rather than decoded.
+     *
+     * @param fieldNames names of the fields to include
+     * @return Avro record schema
+     * @throws FileException there is a problem accessing the file, or a field is not in the file's schema
+     */
+    @Override
+    public Schema getProjectionSchema(List<String> fieldNames) throws FileException
+    {
+        final String methodName = "getProjectionSchema";
+
+        Schema writerSchema = this.getSchema();
+
+        List<Schema.Field> projectedFields = new ArrayList<>();
+
+        if (fieldNames != null)
+        {
+            for (String fieldName : fieldNames)
+            {
+                Schema.Field field = writerSchema.getField(fieldName);
+
+                if (field == null)
+                {
+                    throw this.getFileException(methodName,
+                                                new AvroRuntimeException("Field " + fieldName + " is not in schema " + writerSchema.getFullName()));
+                }
+
+                projectedFields.add(new Schema.Field(field, field.schema()));
+            }
+        }
+
+        return Schema.createRecord(writerSchema.getName(),
+                                   writerSchema.getDoc(),
+                                   writerSchema.getNamespace(),
+                                   writerSchema.isError(),
+                                   projectedFields);
+    }
+
+
+    /**
+     * Open a reader for all the records in the file.
+     *
+     * @param readerSchema schema to return the records in, or null to use the file's schema
+     * @return record reader, which must be closed by the caller
+     * @throws FileException there is a problem accessing the file
+     */
+    @Override
+    public AvroRecordReader openRecordReader(Schema readerSchema) throws FileException
+    {
+        final String methodName = "openRecordReader";
+
+        return new AvroRecordReader(this.openDataFileReader(readerSchema, methodName), fileStoreName, -1);
+    }
+
+
+    /**
+     * Open a reader for the records in the blocks that start within a range of the file.  Readers opened for
+     * adjacent ranges that together cover the file return each record exactly once, so the file can be split
+     * between several readers working in parallel.
+     *
+     * @param readerSchema schema to return the records in, or null to use the file's schema
+     * @param splitStart offset of the start of the range
+     * @param splitLength length of the range in bytes
+     * @return record reader, which must be closed by the caller
+     * @throws FileException there is a problem accessing the file
+     */
+    @Override
+    public AvroRecordReader openRecordReader(Schema readerSchema,
+                                             long   splitStart,
+                                             long   splitLength) throws FileException
+    {
+        final String methodName = "openRecordReader";
+
+        DataFileReader<GenericRecord> dataFileReader = this.openDataFileReader(readerSchema, methodName);
+        AvroRecordReader              recordReader   = new AvroRecordReader(dataFileReader, fileStoreName, splitStart + splitLength);
+
+        try
+        {
+            recordReader.sync(splitStart);
+        }
+        catch (FileException error)
+        {
+            this.closeQuietly(recordReader);
+            throw error;
+        }
+
+        return recordReader;
+    }
+
+
+    /**
+     * Open the Avro reader for the file.
+     *
+     * @param readerSchema schema to return the records in, or null to use the file's schema
+     * @param methodName calling method
+     * @return Avro reader
+     * @throws FileException there is a problem accessing the file
+     */
+    private DataFileReader<GenericRecord> openDataFileReader(Schema readerSchema,
+                                                             String methodName) throws FileException
+    {
+        File fileStore = super.getFile(methodName);
+
+        try
+        {
+            GenericDatumReader<GenericRecord> datumReader = new GenericDatumReader<>();
+
+            if (readerSchema != null)
+            {
+                datumReader.setExpected(readerSchema);
+            }
+
+            return new DataFileReader<>(fileStore, datumReader);
+        }
+        catch (IOException | AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Open a forward-only Avro stream for the file.
+     *
+     * @param fileStore file to read
+     * @return Avro stream
+     * @throws IOException problem opening the file
+     */
+    private DataFileStream<GenericRecord> openDataFileStream(File fileStore) throws IOException
+    {
+        InputStream inputStream = new BufferedInputStream(new FileInputStream(fileStore));
+
+        try
+        {
+            return new DataFileStream<>(inputStream, new GenericDatumReader<>());
+        }
+        catch (IOException | AvroRuntimeException error)
+        {
+            inputStream.close();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Discard the cached schema and record count if the file has changed.
+     *
+     * @param fileStore file to read
+     */
+    private void validateCache(File fileStore)
+    {
+        long lastModified = fileStore.lastModified();
+        long length       = fileStore.length();
+
+        if ((lastModified != cachedLastModified) || (length != cachedLength))
+        {
+            cachedLastModified = lastModified;
+            cachedLength       = length;
+            cachedSchema       = null;
+            cachedRecordCount  = -1;
+        }
+    }
+
+
+    /**
+     * Close a record reader, ignoring any error.
+     *
+     * @param recordReader reader to close
+     */
+    private void closeQuietly(AvroRecordReader recordReader)
+    {
+        try
+        {
+            recordReader.close();
+        }
+        catch (IOException error)
+        {
+            // ignore - the original error is more useful to the caller
+        }
+    }
+
+
+    /**
+     * Return the exception to throw for an error reported by the Avro library.
+     *
+     * @param methodName calling method
+     * @param error caught exception
+     * @return exception to throw
+     */
+    private FileException getFileException(String    methodName,
+                                           Exception error)
+    {
+        return new FileException(BasicFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                          error.getMessage()),
+                                 this.getClass().getName(),
+                                 methodName,
+                                 error,
+                                 fileStoreName);
+    }
 }
@@ -0,0 +1,248 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.avrofile;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericRecord;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.BasicFileConnectorErrorCode;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AvroRecordReader streams the records from an Avro file, one block at a time.  It is created by the
+ * AvroFileStoreConnector and either reads the whole file or the blocks that start within a range of the file.
+ */
+public class AvroRecordReader implements Closeable
+{
+    private final DataFileReader<GenericRecord> dataFileReader;
+    private final String                        fileStoreName;
+    private final long                          splitEnd;
+
+    private GenericRecord reusedRecord = null;
+
+
+    /**
+     * Constructor.
+     *
+     * @param dataFileReader open Avro reader positioned at the first block to read
+     * @param fileStoreName name of the file (for error messages)
+     * @param splitEnd offset after which no more blocks are read, or -1 to read to the end of the file
+     */
+    AvroRecordReader(DataFileReader<GenericRecord> dataFileReader,
+                     String                        fileStoreName,
+                     long                          splitEnd)
+    {
+        this.dataFileReader = dataFileReader;
+        this.fileStoreName  = fileStoreName;
+        this.splitEnd       = splitEnd;
+    }
+
+
+    /**
+     * Return the schema the records are returned in.
+     *
+     * @return Avro schema
+     */
+    public Schema getSchema()
+    {
+        return dataFileReader.getSchema();
+    }
+
+
+    /**
+     * Return whether there are more records to read.
+     *
+     * @return boolean flag
+     * @throws FileException problem reading the file
+     */
+    public boolean hasNext() throws FileException
+    {
+        final String methodName = "hasNext";
+
+        try
+        {
+            return (dataFileReader.hasNext()) && ((splitEnd < 0) || (! dataFileReader.pastSync(splitEnd)));
+        }
+        catch (IOException | AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Return the next record.
+     *
+     * @return record, or null if there are no more records
+     * @throws FileException problem reading the file
+     */
+    public GenericRecord next() throws FileException
+    {
+        final String methodName = "next";
+
+        if (! this.hasNext())
+        {
+            return null;
+        }
+
+        try
+        {
+            return dataFileReader.next();
+        }
+        catch (AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Return up to the requested number of records.  The records are decoded into new objects.
+     *
+     * @param maxRecords maximum number of records to return
+     * @return list of records, which is empty when there are no more records
+     * @throws FileException problem reading the file
+     */
+    public List<GenericRecord> readRecords(int maxRecords) throws FileException
+    {
+        List<GenericRecord> records = new ArrayList<>();
+
+        while ((records.size() < maxRecords) && (this.hasNext()))
+        {
+            records.add(this.next());
+        }
+
+        return records;
+    }
+
+
+    /**
+     * Return the next record, decoding it into the record returned by the previous call where possible.  This
+     * avoids creating a new object for each record when the caller does not keep the records.
+     *
+     * @return record, or null if there are no more records
+     * @throws FileException problem reading the file
+     */
+    public GenericRecord nextReusingRecord() throws FileException
+    {
+        final String methodName = "nextReusingRecord";
+
+        if (! this.hasNext())
+        {
+            return null;
+        }
+
+        try
+        {
+            reusedRecord = dataFileReader.next(reusedRecord);
+
+            return reusedRecord;
+        }
+        catch (IOException | AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Return the position of the sync marker at the start of the block that holds the next record to read.  This
+     * can be passed to seek to return to the same block later.
+     *
+     * @return file offset
+     * @throws FileException problem reading the file
+     */
+    public long getSyncPosition() throws FileException
+    {
+        final String methodName = "getSyncPosition";
+
+        try
+        {
+            return dataFileReader.previousSync();
+        }
+        catch (AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Move to a sync position returned by getSyncPosition.
+     *
+     * @param syncPosition file offset of a sync marker
+     * @throws FileException problem reading the file
+     */
+    public void seek(long syncPosition) throws FileException
+    {
+        final String methodName = "seek";
+
+        try
+        {
+            dataFileReader.seek(syncPosition);
+        }
+        catch (IOException | AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Move to the first block boundary at or after a position in the file.
+     *
+     * @param position file offset
+     * @throws FileException problem reading the file
+     */
+    public void sync(long position) throws FileException
+    {
+        final String methodName = "sync";
+
+        try
+        {
+            dataFileReader.sync(position);
+        }
+        catch (IOException | AvroRuntimeException error)
+        {
+            throw this.getFileException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException problem closing the file
+     */
+    @Override
+    public void close() throws IOException
+    {
+        dataFileReader.close();
+    }
+
+
+    /**
+     * Return the exception to throw for an error reported by the Avro library.
+     *
+     * @param methodName calling method
+     * @param error caught exception
+     * @return exception to throw
+     */
+    private FileException getFileException(String    methodName,
+                                           Exception error)
+    {
+        return new FileException(BasicFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                          error.getMessage()),
+                                 this.getClass().getName(),
+                                 methodName,
+                                 error,
+                                 fileStoreName);
+    }
+}
@@ -0,0 +1,264 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.datastore.avrofile;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the AvroFileStoreConnector reads the schema and record count of a file, projects the records onto a
+ * subset of the fields, and that readers opened for adjacent ranges of the file return each record exactly once.
+ * The test file is generated with a small sync interval so it holds many blocks.
+ */
+public class AvroFileStoreConnectorTest
+{
+    private static final int RECORD_COUNT  = 2000;
+    private static final int SYNC_INTERVAL = 1024;
+
+    private File                   avroFile;
+    private AvroFileStoreConnector connector;
+
+
+    @BeforeClass
+    public void setUp() throws Exception
+    {
+        Schema schema = SchemaBuilder.record("Customer")
+                                     .namespace("org.odpi.openmetadata.test")
+                                     .fields()
+                                     .requiredLong("id")
+                                     .requiredString("name")
+                                     .requiredString("notes")
+                                     .endRecord();
+
+        avroFile = Files.createTempFile("AvroFileStoreConnectorTest", ".avro").toFile();
+
+        try (DataFileWriter<GenericRecord> dataFileWriter = new DataFileWriter<>(new GenericDatumWriter<>(schema)))
+        {
+            dataFileWriter.setSyncInterval(SYNC_INTERVAL);
+            dataFileWriter.create(schema, avroFile);
+
+            for (long id = 0; id < RECORD_COUNT; id++)
+            {
+                GenericRecord record = new GenericData.Record(schema);
+
+                record.put("id", id);
+                record.put("name", "Customer " + id);
+                record.put("notes", "Notes for customer " + id + " that are not needed by a projection");
+
+                dataFileWriter.append(record);
+            }
+        }
+
+        connector = new AvroFileStoreConnector();
+        connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(this.getConnection(avroFile.getPath())));
+        connector.start();
+    }
+
+
+    @AfterClass
+    public void tearDown() throws Exception
+    {
+        connector.disconnect();
+        Files.deleteIfExists(avroFile.toPath());
+    }
+
+
+    /**
+     * The schema and record count are read from the file.
+     *
+     * @throws Exception problem reading the file
+     */
+    @Test
+    public void testSchemaAndRecordCount() throws Exception
+    {
+        Schema schema = connector.getSchema();
+
+        assertEquals(schema.getName(), "Customer");
+        assertEquals(schema.getFields().size(), 3);
+        assertEquals(connector.getRecordCount(), RECORD_COUNT);
+    }
+
+
+    /**
+     * The file is written in many blocks, and a reader can return to the start of a block.
+     *
+     * @throws Exception problem reading the file
+     */
+    @Test
+    public void testSyncPositions() throws Exception
+    {
+        List<Long>   syncPositions = new ArrayList<>();
+        List<Object> firstIds      = new ArrayList<>();
+
+        try (AvroRecordReader recordReader = connector.openRecordReader(null))
+        {
+            while (recordReader.hasNext())
+            {
+                long          syncPosition = recordReader.getSyncPosition();
+                GenericRecord record       = recordReader.next();
+
+                if ((syncPositions.isEmpty()) || (syncPositions.get(syncPositions.size() - 1) != syncPosition))
+                {
+                    syncPositions.add(syncPosition);
+                    firstIds.add(record.get("id"));
+                }
+            }
+
+            assertNull(recordReader.next());
+
+            recordReader.seek(syncPositions.get(5));
+
+            assertEquals(recordReader.next().get("id"), firstIds.get(5));
+        }
+
+        assertTrue(syncPositions.size() > 10, "Blocks: " + syncPositions.size());
+        assertEquals(new HashSet<>(syncPositions).size(), syncPositions.size());
+    }
+
+
+    /**
+     * A projection returns only the named fields, with the same values as the full records.
+     *
+     * @throws Exception problem reading the file
+     */
+    @Test
+    public void testProjection() throws Exception
+    {
+        Schema projectionSchema = connector.getProjectionSchema(List.of("name", "id"));
+
+        assertEquals(projectionSchema.getFields().size(), 2);
+
+        try (AvroRecordReader recordReader = connector.openRecordReader(projectionSchema))
+        {
+            long                id      = 0;
+            List<GenericRecord> records = recordReader.readRecords(500);
+
+            while (! records.isEmpty())
+            {
+                for (GenericRecord record : records)
+                {
+                    assertEquals(record.getSchema().getFields().size(), 2);
+                    assertNull(record.getSchema().getField("notes"));
+                    assertEquals(record.get("id"), id);
+                    assertEquals(record.get("name").toString(), "Customer " + id);
+                    id++;
+                }
+
+                records = recordReader.readRecords(500);
+            }
+
+            assertEquals(id, RECORD_COUNT);
+        }
+
+        try
+        {
+            connector.getProjectionSchema(List.of("id", "unknown"));
+            fail("A projection onto an unknown field was created");
+        }
+        catch (FileException error)
+        {
+            assertTrue(error.getMessage().contains("unknown"), error.getMessage());
+        }
+    }
+
+
+    /**
+     * Readers for adjacent ranges of the file return each record exactly once, whatever the size of the ranges,
+     * including ranges that fall inside a block and ranges smaller than a block.
+     *
+     * @throws Exception problem reading the file
+     */
+    @Test
+    public void testSplits() throws Exception
+    {
+        long   fileLength = avroFile.length();
+        Schema idSchema   = connector.getProjectionSchema(List.of("id"));
+
+        for (long splitLength : new long[]{100, 777, SYNC_INTERVAL, 5000, fileLength / 3 + 1, fileLength})
+        {
+            List<Long> ids        = new ArrayList<>();
+            int        splitCount = 0;
+
+            for (long splitStart = 0; splitStart < fileLength; splitStart = splitStart + splitLength)
+            {
+                try (AvroRecordReader recordReader = connector.openRecordReader(idSchema, splitStart, splitLength))
+                {
+                    GenericRecord record = recordReader.nextReusingRecord();
+
+                    while (record != null)
+                    {
+                        ids.add((Long)record.get("id"));
+                        record = recordReader.nextReusingRecord();
+                    }
+                }
+
+                splitCount++;
+            }
+
+            assertEquals(ids.size(), RECORD_COUNT, "Split length " + splitLength + " in " + splitCount + " splits");
+
+            for (int i = 0; i < RECORD_COUNT; i++)
+            {
+                assertEquals(ids.get(i).longValue(), i, "Split length " + splitLength);
+            }
+        }
+    }
+
+
+    /**
+     * Return a connection for the file.
+     *
+     * @param fileName name of the file
+     * @return connection
+     */
+    private Connection getConnection(String fileName)
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setType(Endpoint.getEndpointType());
+        endpoint.setGUID(UUID.randomUUID().toString());
+        endpoint.setQualifiedName("AvroFileStore.Endpoint." + fileName);
+        endpoint.setAddress(fileName);
+
+        ConnectorType connectorType = new ConnectorType();
+
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(UUID.randomUUID().toString());
+        connectorType.setQualifiedName("AvroFileStore.ConnectorType.Test");
+        connectorType.setConnectorProviderClassName(AvroFileStoreProvider.class.getName());
+
+        Connection connection = new Connection();
+
+        connection.setType(Connection.getConnectionType());
+        connection.setGUID(UUID.randomUUID().toString());
+        connection.setQualifiedName("AvroFileStore.Connection.Test");
+        connection.setEndpoint(endpoint);
+        connection.setConnectorType(connectorType);
+
+        return connection;
+    }
+}
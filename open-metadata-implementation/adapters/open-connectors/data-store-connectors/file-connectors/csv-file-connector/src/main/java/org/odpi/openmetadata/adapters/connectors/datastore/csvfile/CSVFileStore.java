@@ -42,8 +42,8 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  This is achieved by scanning the file and counting the records.
+     * The count is retained until the file changes.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +74,19 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return a batch of consecutive data records.  The first record is record 0.  If the first line of the file is
+     * the column names then record 0 is the line following the column names.  Calling this method with successive
+     * start record numbers streams through the file without rescanning it.
+     *
+     * @param startRecordNumber first record to return
+     * @param maxRecords maximum number of records to return
+     * @return list of records.  This is shorter than maxRecords (possibly empty) when the end of the file is reached.
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    List<List<String>> readRecords(int  startRecordNumber,
+                                   int  maxRecords) throws FileException, FileReadException;
 }
@@ -12,8 +12,13 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 
@@ -29,6 +34,25 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
 
+    /*
+     * The start offset of every LINE_CHECKPOINT_INTERVAL'th line is recorded as the file is scanned.  A row is read
+     * by seeking to the checkpoint before it and reading forward, so the index stays small for very large files.
+     * The index, and the column names read from the file, are discarded when the file's modification time or
+     * length changes.
+     */
+    private static final int LINE_CHECKPOINT_INTERVAL = 64;
+    private static final int READ_BUFFER_SIZE         = 64 * 1024;
+
+    private FileChannel    fileChannel         = null;
+    private long           indexedLastModified = -1;
+    private long           indexedLength       = -1;
+    private long[]         lineCheckpoints     = new long[16];
+    private int            scannedLineCount    = 0;
+    private int            contentLineCount    = 0;
+    private long           scanOffset          = 0;
+    private boolean        scanComplete        = false;
+    private List<String>   fileColumnNames     = null;
+
     /*
      * Variables used for logging and debug.
      */
@@ -127,8 +151,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The first call scans the file to build the line index.  The count
+     * is then cached until the file changes.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,22 +162,18 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
-
         File fileStore = getFile(methodName);
 
-        try (Scanner scanner  = new Scanner(fileStore))
+        try
         {
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
+            long rowCount = this.getRowCount(fileStore);
 
             if ((rowCount > 0) && (columnNames == null))
             {
                 rowCount = rowCount - 1;
             }
+
+            return rowCount;
         }
         catch (IOException  error)
         {
@@ -164,15 +184,14 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
                                         error,
                                         fileStoreName);
         }
-
-        return rowCount;
     }
 
 
     /**
      * Return the list of column names associated with this structured file.
      * This may be embedded in the first line of the file or encoded in the
-     * connection object used to create a connector instance.
+     * connection object used to create a connector instance.  Column names read from the file are cached until
+     * the file changes.
      *
      * @return a list of column names
      * @throws FileException problem accessing the file
@@ -183,7 +202,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getColumnNames";
 
-        super.getFile(methodName);
+        File fileStore = super.getFile(methodName);
 
         if (columnNames != null)
         {
@@ -191,7 +210,17 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
         }
         else
         {
-            return readRow(0, methodName);
+            synchronized (this)
+            {
+                this.validateLineIndex(fileStore);
+
+                if (fileColumnNames == null)
+                {
+                    fileColumnNames = readRow(0, methodName);
+                }
+
+                return fileColumnNames;
+            }
         }
     }
 
@@ -220,6 +249,34 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return a batch of consecutive data records.  The first record is record 0.  If the first line of the file is the
+     * column names then record 0 is the line following the column names.  This is the efficient way to stream
+     * through a large file: the reader seeks to the first requested record and then reads forward.
+     *
+     * @param startRecordNumber first record to return
+     * @param maxRecords maximum number of records to return
+     * @return list of records, each a list of column values.  The list is shorter than maxRecords (possibly empty)
+     *         when the end of the file is reached.
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    public List<List<String>> readRecords(int  startRecordNumber,
+                                          int  maxRecords) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        if (columnNames == null)
+        {
+            return readRows(startRecordNumber + 1, maxRecords, methodName);
+        }
+        else
+        {
+            return readRows(startRecordNumber, maxRecords, methodName);
+        }
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -232,32 +289,90 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileException, FileReadException
     {
+        List<List<String>> rows = readRows(recordLocation, 1, methodName);
 
+        if (rows.isEmpty())
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Integer.toString(recordLocation)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
+
+        return rows.get(0);
+    }
+
+
+    /**
+     * Return consecutive rows from the file.  The first row is row 0.
+     *
+     * @param firstRow first row to return
+     * @param maxRows maximum number of rows to return
+     * @param methodName name of calling method
+     * @return list of rows, shorter than maxRows if the end of the file is reached
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    private List<List<String>> readRows(int    firstRow,
+                                        int    maxRows,
+                                        String methodName) throws FileException, FileReadException
+    {
         File fileStore = super.getFile(methodName);
 
-        try (Scanner scanner = new Scanner(fileStore))
+        List<List<String>> rows = new ArrayList<>();
+
+        if ((firstRow < 0) || (maxRows <= 0))
+        {
+            return rows;
+        }
+
+        try
         {
+            FileChannel channel;
+            long        startOffset;
+            int         linesToSkip;
+            int         lastRow;
 
-            int rowCounter = 0;
-            while (scanner.hasNext())
+            synchronized (this)
             {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
+                this.validateLineIndex(fileStore);
+
+                long endRow = Math.min((long)firstRow + maxRows, Integer.MAX_VALUE);
+
+                this.indexLines(fileStore, (int)endRow - 1);
+
+                lastRow = (int)Math.min(endRow, contentLineCount);
+
+                if (firstRow >= lastRow)
                 {
-                    scanner.nextLine();
+                    return rows;
                 }
-                rowCounter ++;
+
+                channel     = this.getFileChannel(fileStore);
+                startOffset = lineCheckpoints[firstRow / LINE_CHECKPOINT_INTERVAL];
+                linesToSkip = firstRow % LINE_CHECKPOINT_INTERVAL;
             }
 
-            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
-                                                                                                      Integer.toString(recordLocation)),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        fileStoreName);
+            /*
+             * The lines are read outside the lock using positional reads so that several threads can read the file
+             * at the same time.
+             */
+            LineReader lineReader = new LineReader(channel, startOffset);
+
+            for (int i = 0; i < linesToSkip; i++)
+            {
+                lineReader.readLine();
+            }
 
+            for (int row = firstRow; row < lastRow; row++)
+            {
+                byte[] line = lineReader.readLine();
+
+                rows.add(parseRecord(line == null ? null : new String(line, Charset.defaultCharset())));
+            }
+
+            return rows;
         }
         catch (IOException  error)
         {
@@ -271,6 +386,160 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return the number of rows in the file, scanning the rest of the file if needed.
+     *
+     * @param fileStore file to read
+     * @return number of rows including any column names
+     * @throws IOException problem reading the file
+     */
+    private synchronized long getRowCount(File fileStore) throws IOException
+    {
+        this.validateLineIndex(fileStore);
+        this.indexLines(fileStore, Integer.MAX_VALUE);
+
+        return contentLineCount;
+    }
+
+
+    /**
+     * Discard the line index, column names and open channel if the file has changed since they were built.
+     *
+     * @param fileStore file to read
+     */
+    private void validateLineIndex(File fileStore)
+    {
+        long lastModified = fileStore.lastModified();
+        long length       = fileStore.length();
+
+        if ((lastModified != indexedLastModified) || (length != indexedLength))
+        {
+            this.closeFileChannel();
+
+            indexedLastModified  = lastModified;
+            indexedLength        = length;
+            lineCheckpoints      = new long[16];
+            scannedLineCount     = 0;
+            contentLineCount     = 0;
+            scanOffset           = 0;
+            scanComplete         = false;
+            fileColumnNames      = null;
+        }
+    }
+
+
+    /**
+     * Extend the line index until it covers the requested row, or the end of the file.  Lines at the end of the
+     * file that only contain white space are not counted as rows.
+     *
+     * @param fileStore file to read
+     * @param row row that must be indexed
+     * @throws IOException problem reading the file
+     */
+    private void indexLines(File fileStore,
+                            int  row) throws IOException
+    {
+        if (scanComplete || (contentLineCount > row))
+        {
+            return;
+        }
+
+        LineReader lineReader = new LineReader(this.getFileChannel(fileStore), scanOffset);
+
+        while (contentLineCount <= row)
+        {
+            long   lineOffset = lineReader.getPosition();
+            byte[] line       = lineReader.readLine();
+
+            if (line == null)
+            {
+                scanComplete = true;
+                break;
+            }
+
+            if (scannedLineCount % LINE_CHECKPOINT_INTERVAL == 0)
+            {
+                int checkpoint = scannedLineCount / LINE_CHECKPOINT_INTERVAL;
+
+                if (checkpoint == lineCheckpoints.length)
+                {
+                    lineCheckpoints = Arrays.copyOf(lineCheckpoints, lineCheckpoints.length * 2);
+                }
+
+                lineCheckpoints[checkpoint] = lineOffset;
+            }
+
+            scannedLineCount++;
+
+            if (hasContent(line))
+            {
+                contentLineCount = scannedLineCount;
+            }
+        }
+
+        scanOffset = lineReader.getPosition();
+    }
+
+
+    /**
+     * Return whether a line contains a character other than white space.
+     *
+     * @param line bytes of the line
+     * @return boolean flag
+     */
+    private boolean hasContent(byte[] line)
+    {
+        for (byte b : line)
+        {
+            if ((b < 0) || (! Character.isWhitespace((char)b)))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the channel used to read the file, opening it if necessary.
+     *
+     * @param fileStore file to read
+     * @return file channel
+     * @throws IOException unable to open the file
+     */
+    private FileChannel getFileChannel(File fileStore) throws IOException
+    {
+        if ((fileChannel == null) || (! fileChannel.isOpen()))
+        {
+            fileChannel = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ);
+        }
+
+        return fileChannel;
+    }
+
+
+    /**
+     * Close the channel used to read the file.
+     */
+    private synchronized void closeFileChannel()
+    {
+        if (fileChannel != null)
+        {
+            try
+            {
+                fileChannel.close();
+            }
+            catch (IOException error)
+            {
+                log.debug("Ignoring exception closing file channel: " + error.getMessage());
+            }
+
+            fileChannel = null;
+        }
+    }
+
+
     /**
      * Step through the record, character by character, extracting each column and enduring that escaped double quotes
      * and other tricks found in CSV files are handled.
@@ -369,6 +638,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
      */
     public void disconnect()
     {
+        this.closeFileChannel();
+
         try
         {
             super.disconnect();
@@ -380,4 +651,105 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
         log.debug("Closing Structured File Store");
     }
+
+
+    /**
+     * Reads the lines of the file forward from an offset using positional reads on a shared channel.
+     * Lines end with \n, \r\n or \r.
+     */
+    private static class LineReader
+    {
+        private final FileChannel channel;
+        private final ByteBuffer  buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        private long position;     /* offset of the next byte returned from the buffer */
+        private long readPosition; /* offset of the next byte to read into the buffer */
+
+        LineReader(FileChannel channel, long position)
+        {
+            this.channel      = channel;
+            this.position     = position;
+            this.readPosition = position;
+
+            buffer.limit(0);
+        }
+
+
+        /**
+         * Return the offset of the start of the next line.
+         *
+         * @return file offset
+         */
+        long getPosition()
+        {
+            return position;
+        }
+
+
+        /**
+         * Return the next line without its terminator.
+         *
+         * @return bytes of the line or null at the end of the file
+         * @throws IOException problem reading the file
+         */
+        byte[] readLine() throws IOException
+        {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            boolean               lineStarted = false;
+
+            while (fill())
+            {
+                byte b = buffer.get();
+                position++;
+                lineStarted = true;
+
+                if (b == '\n')
+                {
+                    return line.toByteArray();
+                }
+                else if (b == '\r')
+                {
+                    if ((fill()) && (buffer.get(buffer.position()) == '\n'))
+                    {
+                        buffer.get();
+                        position++;
+                    }
+
+                    return line.toByteArray();
+                }
+
+                line.write(b);
+            }
+
+            return lineStarted ? line.toByteArray() : null;
+        }
+
+
+        /**
+         * Make sure the buffer has at least one byte to return.
+         *
+         * @return false at the end of the file
+         * @throws IOException problem reading the file
+         */
+        private boolean fill() throws IOException
+        {
+            if (! buffer.hasRemaining())
+            {
+                buffer.clear();
+
+                int bytesRead = channel.read(buffer, readPosition);
+
+                buffer.flip();
+
+                if (bytesRead <= 0)
+                {
+                    return false;
+                }
+
+                readPosition += bytesRead;
+            }
+
+            return true;
+        }
+    }
 }
@@ -10,8 +10,11 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.*;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -206,6 +209,101 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    /**
+     * Write a file with a header line and the requested number of records.  Every other line ends with a carriage
+     * return and line feed.
+     *
+     * @param file file to write
+     * @param recordCount number of records
+     * @throws Exception problem writing the file
+     */
+    private void writeFile(File file, int recordCount) throws Exception
+    {
+        StringBuilder contents = new StringBuilder("RecId,Name\n");
+
+        for (int i=0; i<recordCount; i++)
+        {
+            contents.append(i).append(",Name").append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+
+        Files.writeString(file.toPath(), contents.toString());
+    }
+
+
+    @Test public void testReadRecords()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            File file = File.createTempFile("CSVFileStoreConnectorTest", ".csv");
+            file.deleteOnExit();
+            writeFile(file, 300);
+
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(file.getPath()));
+            connector.start();
+
+            assertEquals(connector.readRecord(150), Arrays.asList("150", "Name150"));
+            assertEquals(connector.readRecord(3), Arrays.asList("3", "Name3"));
+            assertEquals(connector.getRecordCount(), 300);
+            assertEquals(connector.getColumnNames(), Arrays.asList("RecId", "Name"));
+
+            int recordNumber = 0;
+            List<List<String>> records = connector.readRecords(recordNumber, 64);
+
+            while (! records.isEmpty())
+            {
+                for (List<String> record : records)
+                {
+                    assertEquals(record, Arrays.asList(Integer.toString(recordNumber), "Name" + recordNumber));
+                    recordNumber++;
+                }
+
+                records = connector.readRecords(recordNumber, 64);
+            }
+
+            assertEquals(recordNumber, 300);
+            assertTrue(connector.readRecords(1000, 10).isEmpty());
+
+            connector.disconnect();
+        }
+        catch (Exception  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    @Test public void testFileChanged()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            File file = File.createTempFile("CSVFileStoreConnectorTest", ".csv");
+            file.deleteOnExit();
+            writeFile(file, 10);
+
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(file.getPath()));
+            connector.start();
+
+            assertEquals(connector.getRecordCount(), 10);
+
+            writeFile(file, 100);
+            file.setLastModified(file.lastModified() + 1000);
+
+            assertEquals(connector.getRecordCount(), 100);
+            assertEquals(connector.readRecord(99), Arrays.asList("99", "Name99"));
+
+            connector.disconnect();
+        }
+        catch (Exception  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
     @Test public void testNullFileName()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
@@ -0,0 +1,310 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * CSVColumnProfile accumulates the statistics for one column of a CSV file.  Each range of records profiled by
+ * the CSVDiscoveryService builds its own profiles, which are then merged in record order.
+ * <p>
+ * The memory used does not grow with the number of distinct values in the column.  Only the counts of the most
+ * frequent values are kept, and the number of distinct values is estimated with a DistinctValueSketch once there
+ * are too many values to count exactly.
+ */
+class CSVColumnProfile
+{
+    /**
+     * Default number of most frequent values reported for a column.
+     */
+    static final int DEFAULT_MAX_VALUE_COUNT = 1000;
+
+    private final static String STRING_TYPE_NAME  = "string";
+    private final static String BOOLEAN_TYPE_NAME = "boolean";
+    private final static String BOOLEAN_UC_TRUE   = "TRUE";
+    private final static String BOOLEAN_LC_TRUE   = "true";
+    private final static String BOOLEAN_UC_FALSE  = "FALSE";
+    private final static String BOOLEAN_LC_FALSE  = "false";
+
+    private final int                 maxValueCount;
+    private final Map<String, Long>   valueCount     = new LinkedHashMap<>();
+    private final DistinctValueSketch distinctValues = new DistinctValueSketch();
+
+    private String  dataFieldType = null;
+    private boolean valuesTrimmed = false;
+    private long    nullCount     = 0;
+    private String  minimumValue  = null;
+    private String  maximumValue  = null;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxValueCount number of most frequent values to report
+     */
+    CSVColumnProfile(int maxValueCount)
+    {
+        this.maxValueCount = Math.max(maxValueCount, 1);
+    }
+
+
+    /**
+     * Add the next value from this column.
+     *
+     * @param fieldValue value of the column in a record
+     */
+    void addValue(String fieldValue)
+    {
+        dataFieldType = getDataFieldType(dataFieldType, fieldValue);
+
+        distinctValues.addValue(fieldValue);
+        valueCount.merge(fieldValue, 1L, Long::sum);
+        this.trimValueCount();
+
+        if ((fieldValue == null) || (fieldValue.isEmpty()))
+        {
+            nullCount++;
+        }
+        else
+        {
+            if ((minimumValue == null) || (fieldValue.compareTo(minimumValue) < 0))
+            {
+                minimumValue = fieldValue;
+            }
+
+            if ((maximumValue == null) || (fieldValue.compareTo(maximumValue) > 0))
+            {
+                maximumValue = fieldValue;
+            }
+        }
+    }
+
+
+    /**
+     * Add the statistics from the profile of the records that follow the records covered by this profile.
+     *
+     * @param laterProfile profile to merge into this one
+     */
+    void merge(CSVColumnProfile laterProfile)
+    {
+        if ((dataFieldType == null) || (dataFieldType.equals(laterProfile.dataFieldType)))
+        {
+            dataFieldType = laterProfile.dataFieldType;
+        }
+        else if (laterProfile.dataFieldType != null)
+        {
+            dataFieldType = STRING_TYPE_NAME;
+        }
+
+        distinctValues.merge(laterProfile.distinctValues);
+
+        for (Map.Entry<String, Long> laterValueCount : laterProfile.valueCount.entrySet())
+        {
+            valueCount.merge(laterValueCount.getKey(), laterValueCount.getValue(), Long::sum);
+        }
+
+        valuesTrimmed = valuesTrimmed || laterProfile.valuesTrimmed;
+        this.trimValueCount();
+
+        nullCount = nullCount + laterProfile.nullCount;
+
+        if ((minimumValue == null) ||
+            ((laterProfile.minimumValue != null) && (laterProfile.minimumValue.compareTo(minimumValue) < 0)))
+        {
+            minimumValue = laterProfile.minimumValue;
+        }
+
+        if ((maximumValue == null) ||
+            ((laterProfile.maximumValue != null) && (laterProfile.maximumValue.compareTo(maximumValue) > 0)))
+        {
+            maximumValue = laterProfile.maximumValue;
+        }
+    }
+
+
+    /**
+     * Once twice the number of values to report are counted, keep only the most frequent ones.  A value seen
+     * again after it is dropped starts counting from zero, so the counts of the reported values are a lower bound
+     * once the values have been trimmed.  A frequent value is seen often enough to stay in the counts.
+     */
+    private void trimValueCount()
+    {
+        if (valueCount.size() > 2 * maxValueCount)
+        {
+            List<Map.Entry<String, Long>> mostFrequentValues = this.getMostFrequentValues();
+
+            valueCount.clear();
+
+            for (Map.Entry<String, Long> frequentValue : mostFrequentValues)
+            {
+                valueCount.put(frequentValue.getKey(), frequentValue.getValue());
+            }
+
+            valuesTrimmed = true;
+        }
+    }
+
+
+    /**
+     * Return the most frequent values with their counts, most frequent first.  Values with the same count stay in
+     * the order they were first seen.
+     *
+     * @return list of value counts
+     */
+    private List<Map.Entry<String, Long>> getMostFrequentValues()
+    {
+        List<Map.Entry<String, Long>> valueCounts = new ArrayList<>(valueCount.entrySet());
+
+        valueCounts.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+
+        List<Map.Entry<String, Long>> mostFrequentValues = new ArrayList<>();
+
+        for (Map.Entry<String, Long> entry : valueCounts.subList(0, Math.min(maxValueCount, valueCounts.size())))
+        {
+            mostFrequentValues.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+        }
+
+        return mostFrequentValues;
+    }
+
+
+    /**
+     * Return the best guess for the data field type.
+     *
+     * @param existingType current type guess
+     * @param newFieldValue next field value to process
+     * @return new best guess
+     */
+    private String getDataFieldType(String  existingType, String newFieldValue)
+    {
+        if (STRING_TYPE_NAME.equals(existingType))
+        {
+            return STRING_TYPE_NAME;
+        }
+
+        if (newFieldValue == null)
+        {
+            return existingType;
+        }
+
+        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
+            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
+            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
+            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
+
+        {
+            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
+            {
+                return BOOLEAN_TYPE_NAME;
+            }
+            else
+            {
+                return STRING_TYPE_NAME;
+            }
+        }
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Return the best guess for the type of the column.
+     *
+     * @return type name or null if no values have been seen
+     */
+    String getDataFieldType()
+    {
+        return dataFieldType;
+    }
+
+
+    /**
+     * Return the number of times each of the most frequent values occurs in the column.
+     *
+     * @return map from value to count, most frequent first
+     */
+    Map<String, Integer> getValueCount()
+    {
+        Map<String, Integer> mostFrequentValueCount = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Long> frequentValue : this.getMostFrequentValues())
+        {
+            mostFrequentValueCount.put(frequentValue.getKey(), (int)Math.min(frequentValue.getValue(), Integer.MAX_VALUE));
+        }
+
+        return mostFrequentValueCount;
+    }
+
+
+    /**
+     * Return the most frequent values, most frequent first.
+     *
+     * @return list of values
+     */
+    List<String> getValueList()
+    {
+        List<String> mostFrequentValueList = new ArrayList<>();
+
+        for (Map.Entry<String, Long> frequentValue : this.getMostFrequentValues())
+        {
+            mostFrequentValueList.add(frequentValue.getKey());
+        }
+
+        return mostFrequentValueList;
+    }
+
+
+    /**
+     * Return the number of distinct values in the column.  It is exact until there are too many values to
+     * count, and then it is estimated.
+     *
+     * @return count
+     */
+    long getDistinctValueCount()
+    {
+        if (valuesTrimmed)
+        {
+            return distinctValues.getEstimate();
+        }
+
+        return valueCount.size();
+    }
+
+
+    /**
+     * Return the number of empty values.
+     *
+     * @return count
+     */
+    long getNullCount()
+    {
+        return nullCount;
+    }
+
+
+    /**
+     * Return the lowest non-empty value.
+     *
+     * @return value or null
+     */
+    String getMinimumValue()
+    {
+        return minimumValue;
+    }
+
+
+    /**
+     * Return the highest non-empty value.
+     *
+     * @return value or null
+     */
+    String getMaximumValue()
+    {
+        return maximumValue;
+    }
+}
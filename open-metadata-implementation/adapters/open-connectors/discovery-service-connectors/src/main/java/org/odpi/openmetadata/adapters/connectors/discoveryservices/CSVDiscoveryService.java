@@ -11,123 +11,144 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
  * CSVDiscoveryService is a discovery service implementation for analysing CSV Files to
- * discovery columns and profile the data in them.
+ * discovery columns and profile the data in them.  The records are profiled in parallel on a fork/join pool.
+ * The samplingRatio configuration property limits profiling to a proportion of the records, which is useful
+ * for very large files.
  */
 public class CSVDiscoveryService extends AuditableDiscoveryService
 {
-    private final static String STRING_TYPE_NAME  = "string";
-    private final static String CHAR_TYPE_NAME    = "char";
-    private final static String DATE_TYPE_NAME    = "date";
-    private final static String INT_TYPE_NAME     = "int";
-    private final static String LONG_TYPE_NAME    = "long";
-    private final static String BOOLEAN_TYPE_NAME = "boolean";
-    private final static String FLOAT_TYPE_NAME   = "float";
-    private final static String BOOLEAN_UC_TRUE   = "TRUE";
-    private final static String BOOLEAN_LC_TRUE   = "true";
-    private final static String BOOLEAN_UC_FALSE  = "FALSE";
-    private final static String BOOLEAN_LC_FALSE  = "false";
-
+    /*
+     * Profile counts added to each DataProfileAnnotation.
+     */
+    private final static String NULL_COUNT_NAME           = "nullCount";
+    private final static String DISTINCT_VALUE_COUNT_NAME = "distinctValueCount";
+    private final static String SAMPLED_RECORD_COUNT_NAME = "sampledRecordCount";
 
 
     /**
-     * Return the best guess for the data field type.
+     * Return the proportion of records to profile from the configuration properties.
      *
-     * @param existingType current type guess
-     * @param newFieldValue next field value to process
-     * @return new best guess
+     * @return sampling ratio (0 &lt; ratio &lt;= 1)
      */
-    private String getDataFieldType(String  existingType, String newFieldValue)
+    private double getSamplingRatio()
     {
-        if (STRING_TYPE_NAME.equals(existingType))
-        {
-            return STRING_TYPE_NAME;
-        }
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
-        if (newFieldValue == null)
+        if (configurationProperties != null)
         {
-            return existingType;
-        }
+            Object samplingRatioProperty = configurationProperties.get(CSVDiscoveryServiceProvider.SAMPLING_RATIO_PROPERTY);
 
-        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
-
-        {
-            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
-            {
-                return BOOLEAN_TYPE_NAME;
-            }
-            else
+            if (samplingRatioProperty != null)
             {
-                return STRING_TYPE_NAME;
+                double samplingRatio = Double.parseDouble(samplingRatioProperty.toString());
+
+                if ((samplingRatio > 0) && (samplingRatio < 1))
+                {
+                    return samplingRatio;
+                }
             }
         }
-        return STRING_TYPE_NAME;
+
+        return 1.0;
     }
 
 
     /**
-     * Return the updated value count for this column.
+     * Return the number of threads used to profile the file from the configuration properties.
      *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
+     * @return parallelism
      */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
+    private int getParallelism()
     {
-        if (existingValueCount == null)
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
         {
-            Map<String, Integer> newValueCount = new HashMap<>();
+            Object parallelismProperty = configurationProperties.get(CSVDiscoveryServiceProvider.PARALLELISM_PROPERTY);
 
-            newValueCount.put(newFieldValue, 1);
+            if (parallelismProperty != null)
+            {
+                int parallelism = Integer.parseInt(parallelismProperty.toString());
 
-            return newValueCount;
+                if (parallelism > 0)
+                {
+                    return parallelism;
+                }
+            }
         }
 
-        Integer   countForValue = existingValueCount.get(newFieldValue);
+        return Runtime.getRuntime().availableProcessors();
+    }
 
-        if (countForValue == null)
-        {
-            existingValueCount.put(newFieldValue, 1);
-        }
-        else
+
+    /**
+     * Return the number of most frequent values reported for each column from the configuration properties.
+     *
+     * @return maximum number of values
+     */
+    private int getMaxValueCount()
+    {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
         {
-            existingValueCount.put(newFieldValue, countForValue + 1);
+            Object maxValueCountProperty = configurationProperties.get(CSVDiscoveryServiceProvider.MAX_VALUE_COUNT_PROPERTY);
+
+            if (maxValueCountProperty != null)
+            {
+                int maxValueCount = Integer.parseInt(maxValueCountProperty.toString());
+
+                if (maxValueCount > 0)
+                {
+                    return maxValueCount;
+                }
+            }
         }
 
-        return existingValueCount;
+        return CSVColumnProfile.DEFAULT_MAX_VALUE_COUNT;
     }
 
 
     /**
-     * Return the updated value list.
+     * Profile the records of the file on a fork/join pool.
      *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
+     * @param assetConnector connector to the file
+     * @param columnCount number of columns
+     * @param recordCount number of records in the file
+     * @param samplingRatio proportion of records to profile
+     * @return merged profile of all the records
+     * @throws Exception problem reading the file
      */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
+    private CSVProfileTask.RecordsProfile profileRecords(CSVFileStoreConnector assetConnector,
+                                                         int                   columnCount,
+                                                         long                  recordCount,
+                                                         double                samplingRatio) throws Exception
     {
-        if (existingValueList == null)
-        {
-            List<String> newValueList = new ArrayList<>();
-
-            newValueList.add(newFieldValue);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(this.getParallelism());
 
-            return newValueList;
+        try
+        {
+            return forkJoinPool.invoke(new CSVProfileTask(assetConnector, columnCount, this.getMaxValueCount(), samplingRatio, 0, recordCount));
         }
+        catch (CompletionException error)
+        {
+            if (error.getCause() instanceof Exception)
+            {
+                throw (Exception)error.getCause();
+            }
 
-        if (! existingValueList.contains(newFieldValue))
+            throw error;
+        }
+        finally
         {
-            existingValueList.add(newFieldValue);
+            forkJoinPool.shutdown();
         }
-
-        return existingValueList;
     }
 
 
@@ -159,73 +180,90 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             String schemaAnnotationGUID = annotationStore.addAnnotationToDiscoveryReport(schemaAnnotation);
 
-            List<String>                        columnNames = assetConnector.getColumnNames();
-            Map<Integer, DataField>             dataFields  = new HashMap<>();
-            Map<Integer, DataProfileAnnotation> dataProfiles  = new HashMap<>();
+            List<String> columnNames = assetConnector.getColumnNames();
 
             if (columnNames != null)
             {
-                int position = 0;
+                int columnCount = 0;
 
                 for (String  columnName : columnNames)
                 {
                     if (columnName != null)
                     {
-                        DataField  dataField = new DataField();
-
-                        dataField.setDataFieldPosition(position);
-                        dataField.setDataFieldName(columnName);
-                        dataFields.put(position, dataField);
-
-                        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
-
-                        dataProfiles.put(position, dataProfile);
-
                         size = size + columnName.length();
-                        position++;
+                        columnCount++;
                     }
                 }
 
-                if (position > 0)
+                if (columnCount > 0)
                 {
-                    delimiterCount = position - 1;
+                    delimiterCount = columnCount - 1;
                 }
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
+                double                        samplingRatio  = this.getSamplingRatio();
+                CSVProfileTask.RecordsProfile recordsProfile = this.profileRecords(assetConnector, columnCount, recordCount, samplingRatio);
+
+                long profiledSize = recordsProfile.getSize() + (recordsProfile.getRecordCount() * delimiterCount);
+
+                if ((samplingRatio < 1.0) && (recordsProfile.getRecordCount() > 0))
                 {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
+                    /*
+                     * Estimate the size of the records that were not sampled.
+                     */
+                    profiledSize = Math.round((double)profiledSize * recordCount / recordsProfile.getRecordCount());
+                }
 
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
-                    {
-                        int columnPosition = 0;
-                        int recordLength = 0;
+                size = (int)Math.min(Integer.MAX_VALUE, size + profiledSize);
 
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
+                List<DataField>  dataFields   = new ArrayList<>();
+                List<Annotation> dataProfiles = new ArrayList<>();
+                int              position     = 0;
 
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                for (String  columnName : columnNames)
+                {
+                    if (columnName != null)
+                    {
+                        CSVColumnProfile columnProfile = recordsProfile.getColumnProfiles().get(position);
+                        DataField        dataField     = new DataField();
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                        dataField.setDataFieldPosition(position);
+                        dataField.setDataFieldName(columnName);
+                        dataField.setDataFieldType(columnProfile.getDataFieldType());
 
-                            recordLength = recordLength + fieldValue.length();
+                        DataProfileAnnotation dataProfile   = new DataProfileAnnotation();
+                        Map<String, Long>     profileCounts = new HashMap<>();
 
-                            columnPosition++;
+                        if (! columnProfile.getValueList().isEmpty())
+                        {
+                            dataProfile.setValueCount(columnProfile.getValueCount());
+                            dataProfile.setValueList(columnProfile.getValueList());
                         }
 
-                        size = size + recordLength + delimiterCount;
+                        dataProfile.setValueRangeFrom(columnProfile.getMinimumValue());
+                        dataProfile.setValueRangeTo(columnProfile.getMaximumValue());
+
+                        profileCounts.put(NULL_COUNT_NAME, columnProfile.getNullCount());
+                        profileCounts.put(DISTINCT_VALUE_COUNT_NAME, columnProfile.getDistinctValueCount());
+                        profileCounts.put(SAMPLED_RECORD_COUNT_NAME, recordsProfile.getRecordCount());
+                        dataProfile.setProfileCounts(profileCounts);
+
+                        dataFields.add(dataField);
+                        dataProfiles.add(dataProfile);
+
+                        position++;
                     }
                 }
 
-                for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)
+                /*
+                 * The data fields and their profiles are each saved in a single request.
+                 */
+                if (! dataFields.isEmpty())
                 {
-                    String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataFields.get(columnNumber));
+                    List<String> dataFieldGUIDs = annotationStore.addDataFieldsToDiscoveryReport(schemaAnnotationGUID, dataFields);
 
-                    annotationStore.addAnnotationToDataField(dataFieldGUID, dataProfiles.get(columnNumber));
+                    annotationStore.addAnnotationsToDataFields(dataFieldGUIDs, dataProfiles);
                 }
             }
 
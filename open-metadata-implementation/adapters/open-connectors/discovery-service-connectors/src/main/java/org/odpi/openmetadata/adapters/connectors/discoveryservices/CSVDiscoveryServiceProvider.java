@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CSVDiscoveryServiceProvider provides the connector provider for the CSV Discovery Service
  */
@@ -14,6 +17,22 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
     static final String  connectorTypeName = "CSV Discovery Service Connector";
     static final String  connectorTypeDescription = "Connector supports the discovery of metadata about a CSV file.";
 
+    /**
+     * Proportion of the records to profile, between 0 and 1.  The default is 1 which profiles every record.
+     */
+    public static final String SAMPLING_RATIO_PROPERTY  = "samplingRatio";
+
+    /**
+     * Number of threads used to profile the records.  The default is the number of available processors.
+     */
+    public static final String PARALLELISM_PROPERTY     = "parallelism";
+
+    /**
+     * Number of most frequent values reported for each column.  The number of distinct values is estimated once a
+     * column has more than twice this number of values.  The default is 1000.
+     */
+    public static final String MAX_VALUE_COUNT_PROPERTY = "maxValueCount";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -34,6 +53,13 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(SAMPLING_RATIO_PROPERTY);
+        recognizedConfigurationProperties.add(PARALLELISM_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_VALUE_COUNT_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
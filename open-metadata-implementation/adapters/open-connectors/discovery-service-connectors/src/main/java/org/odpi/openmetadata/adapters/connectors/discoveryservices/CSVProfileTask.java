@@ -0,0 +1,267 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * CSVProfileTask profiles a range of records from a CSV file.  Large ranges are split in two and profiled in
+ * parallel by the fork/join pool, and the two results are merged.  When a sampling ratio below 1 is set, only
+ * an evenly spaced selection of the records is profiled.  The records selected depend only on the record
+ * number, so the result is the same however the range is split.
+ */
+class CSVProfileTask extends RecursiveTask<CSVProfileTask.RecordsProfile>
+{
+    private static final long serialVersionUID = 1L;
+
+    /*
+     * Ranges with no more than this number of records are profiled by a single task.
+     */
+    private static final int SPLIT_THRESHOLD = 8192;
+
+    /*
+     * Number of records retrieved from the file in one call.
+     */
+    private static final int READ_BATCH_SIZE = 1024;
+
+    /*
+     * Below this sampling ratio, the selected records are read one at a time rather than in batches.
+     */
+    private static final double SPARSE_SAMPLING_RATIO = 0.05;
+
+    private final CSVFileStore assetConnector;
+    private final int          columnCount;
+    private final int          maxValueCount;
+    private final double       samplingRatio;
+    private final long         firstRecord;
+    private final long         endRecord;
+
+
+    /**
+     * Constructor.
+     *
+     * @param assetConnector connector to the CSV file
+     * @param columnCount number of columns
+     * @param maxValueCount number of most frequent values to report for each column
+     * @param samplingRatio proportion of records to profile (0 &lt; ratio &lt;= 1)
+     * @param firstRecord first record in the range
+     * @param endRecord record after the last record in the range
+     */
+    CSVProfileTask(CSVFileStore assetConnector,
+                   int          columnCount,
+                   int          maxValueCount,
+                   double       samplingRatio,
+                   long         firstRecord,
+                   long         endRecord)
+    {
+        this.assetConnector = assetConnector;
+        this.columnCount    = columnCount;
+        this.maxValueCount  = maxValueCount;
+        this.samplingRatio  = samplingRatio;
+        this.firstRecord    = firstRecord;
+        this.endRecord      = endRecord;
+    }
+
+
+    /**
+     * Profile the range of records, splitting it if it is large.
+     *
+     * @return profile of the records
+     */
+    @Override
+    protected RecordsProfile compute()
+    {
+        if (endRecord - firstRecord > SPLIT_THRESHOLD)
+        {
+            long midRecord = firstRecord + ((endRecord - firstRecord) / 2);
+
+            CSVProfileTask firstHalf  = new CSVProfileTask(assetConnector, columnCount, maxValueCount, samplingRatio, firstRecord, midRecord);
+            CSVProfileTask secondHalf = new CSVProfileTask(assetConnector, columnCount, maxValueCount, samplingRatio, midRecord, endRecord);
+
+            secondHalf.fork();
+
+            RecordsProfile recordsProfile = firstHalf.compute();
+
+            recordsProfile.merge(secondHalf.join());
+
+            return recordsProfile;
+        }
+
+        try
+        {
+            RecordsProfile recordsProfile = new RecordsProfile(columnCount, maxValueCount);
+
+            if (samplingRatio < SPARSE_SAMPLING_RATIO)
+            {
+                for (long recordNumber = firstRecord; recordNumber < endRecord; recordNumber++)
+                {
+                    if (isSampled(recordNumber))
+                    {
+                        recordsProfile.addRecord(assetConnector.readRecord((int)recordNumber));
+                    }
+                }
+            }
+            else
+            {
+                long recordNumber = firstRecord;
+
+                while (recordNumber < endRecord)
+                {
+                    int batchSize = (int)Math.min(READ_BATCH_SIZE, endRecord - recordNumber);
+
+                    List<List<String>> records = assetConnector.readRecords((int)recordNumber, batchSize);
+
+                    if (records.isEmpty())
+                    {
+                        break;
+                    }
+
+                    for (List<String> recordValues : records)
+                    {
+                        if (isSampled(recordNumber))
+                        {
+                            recordsProfile.addRecord(recordValues);
+                        }
+
+                        recordNumber++;
+                    }
+                }
+            }
+
+            return recordsProfile;
+        }
+        catch (Exception error)
+        {
+            throw new CompletionException(error);
+        }
+    }
+
+
+    /**
+     * Return whether a record is part of the sample.  Records are selected at even intervals.
+     *
+     * @param recordNumber record number
+     * @return boolean flag
+     */
+    private boolean isSampled(long recordNumber)
+    {
+        return (samplingRatio >= 1.0) ||
+               (Math.floor((recordNumber + 1) * samplingRatio) > Math.floor(recordNumber * samplingRatio));
+    }
+
+
+    /**
+     * RecordsProfile holds the column statistics for a range of records.
+     */
+    static class RecordsProfile
+    {
+        private final List<CSVColumnProfile> columnProfiles = new ArrayList<>();
+        private long                         recordCount    = 0;
+        private long                         size           = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param columnCount number of columns
+         * @param maxValueCount number of most frequent values to report for each column
+         */
+        RecordsProfile(int columnCount,
+                       int maxValueCount)
+        {
+            for (int i = 0; i < columnCount; i++)
+            {
+                columnProfiles.add(new CSVColumnProfile(maxValueCount));
+            }
+        }
+
+
+        /**
+         * Add the values from a record.  Values beyond the known columns are ignored.
+         *
+         * @param recordValues values from the record
+         */
+        void addRecord(List<String> recordValues)
+        {
+            if ((recordValues != null) && (! recordValues.isEmpty()))
+            {
+                int columnPosition = 0;
+                int recordLength   = 0;
+
+                for (String fieldValue : recordValues)
+                {
+                    if (columnPosition < columnProfiles.size())
+                    {
+                        columnProfiles.get(columnPosition).addValue(fieldValue);
+                    }
+
+                    if (fieldValue != null)
+                    {
+                        recordLength = recordLength + fieldValue.length();
+                    }
+
+                    columnPosition++;
+                }
+
+                recordCount++;
+                size = size + recordLength;
+            }
+        }
+
+
+        /**
+         * Add the statistics from the profile of the records that follow this range.
+         *
+         * @param laterProfile profile to merge
+         */
+        void merge(RecordsProfile laterProfile)
+        {
+            for (int i = 0; i < columnProfiles.size(); i++)
+            {
+                columnProfiles.get(i).merge(laterProfile.columnProfiles.get(i));
+            }
+
+            recordCount = recordCount + laterProfile.recordCount;
+            size        = size + laterProfile.size;
+        }
+
+
+        /**
+         * Return the profile for each column.
+         *
+         * @return list in column order
+         */
+        List<CSVColumnProfile> getColumnProfiles()
+        {
+            return columnProfiles;
+        }
+
+
+        /**
+         * Return the number of non-empty records profiled.
+         *
+         * @return count
+         */
+        long getRecordCount()
+        {
+            return recordCount;
+        }
+
+
+        /**
+         * Return the total length of the values in the records profiled.
+         *
+         * @return number of characters
+         */
+        long getSize()
+        {
+            return size;
+        }
+    }
+}
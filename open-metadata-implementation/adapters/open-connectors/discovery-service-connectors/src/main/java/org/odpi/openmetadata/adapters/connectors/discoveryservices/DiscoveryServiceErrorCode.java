@@ -36,6 +36,25 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
                                "a discovery request type that is compatible with the asset, or changing the discovery service " +
                                "associated with the discovery request type to one that supports this type of asset."),
 
+    UNKNOWN_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-002 ",
+             "Discovery pipeline {0} declares that embedded discovery service {1} depends on {2}, which is not one of its embedded discovery services",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the serviceDependencies configuration property of the discovery pipeline so that it only names " +
+                               "embedded discovery services.  Each embedded discovery service is named by the display name " +
+                               "of its connection, or by its qualified name if it has no display name."),
+
+    CIRCULAR_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-003 ",
+             "The dependencies declared for discovery pipeline {0} form a cycle that includes embedded discovery service {1}",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the serviceDependencies configuration property of the discovery pipeline so that no embedded " +
+                               "discovery service depends, directly or indirectly, on itself."),
+
+    INVALID_CONFIGURATION_PROPERTY(400, "OMAG-DISCOVERY-SERVICE-400-004 ",
+             "Discovery pipeline {0} has configuration property {1} set to {2}, which is not a whole number",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the configuration property of the discovery pipeline so that it is a whole number, or remove it " +
+                               "to use the default value."),
+
     NO_ASSET(500, "OMAG-DISCOVERY-SERVICE-500-001 ",
             "No information about the asset {0} has been returned from the asset store for discovery service {1}.",
             "The discovery service terminates without running any automated metadata discovery function.",
@@ -45,6 +64,19 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
              "No type name is available for the asset passed to discovery service {0}.  The full asset contents are: {1}.",
              "The discovery service terminates without running any automated metadata discovery function.",
              "This is an unexpected condition because if the metadata server was unavailable, an exception would have been caught."),
+
+    SERVICE_TIMEOUT(500, "OMAG-DISCOVERY-SERVICE-500-003 ",
+             "Embedded discovery service {0} did not complete within {1} milliseconds and has been stopped by discovery pipeline {2}",
+             "The discovery pipeline waits for its other embedded discovery services and then fails the discovery request.  " +
+                             "The embedded discovery services that depend on the stopped service are not run.",
+             "Check whether the embedded discovery service is blocked.  If it simply needs longer for the assets it is " +
+                             "analyzing, increase the serviceTimeout configuration property of the discovery pipeline."),
+
+    EMBEDDED_SERVICE_FAILED(500, "OMAG-DISCOVERY-SERVICE-500-004 ",
+             "Embedded discovery service {0} in discovery pipeline {1} failed with exception {2} and message {3}",
+             "The discovery pipeline waits for its other embedded discovery services and then fails the discovery request.  " +
+                             "The embedded discovery services that depend on the failed service are not run.",
+             "Use the exception and message to diagnose and correct the failure in the embedded discovery service."),
         ;
 
 
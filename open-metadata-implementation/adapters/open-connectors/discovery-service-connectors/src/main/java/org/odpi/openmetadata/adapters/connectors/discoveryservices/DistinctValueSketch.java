@@ -0,0 +1,121 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+
+/**
+ * DistinctValueSketch estimates the number of distinct values in a column using the HyperLogLog algorithm.
+ * It uses a fixed amount of memory however many values are added, and two sketches can be merged.  With 4096
+ * registers the standard error of the estimate is about 1.6%.
+ */
+class DistinctValueSketch
+{
+    private static final int    PRECISION      = 12;
+    private static final int    REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA          = 0.7213 / (1.0 + 1.079 / REGISTER_COUNT);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME        = 0x100000001b3L;
+    private static final long NULL_VALUE_HASH  = 0x9e3779b97f4a7c15L;
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value (may be null)
+     */
+    void addValue(String value)
+    {
+        long hash = getHash(value);
+
+        int  registerIndex = (int)(hash >>> (Long.SIZE - PRECISION));
+        long remainingBits = hash << PRECISION;
+        byte rank          = (byte)(Math.min(Long.numberOfLeadingZeros(remainingBits), Long.SIZE - PRECISION) + 1);
+
+        if (rank > registers[registerIndex])
+        {
+            registers[registerIndex] = rank;
+        }
+    }
+
+
+    /**
+     * Add the values of another sketch to this one.
+     *
+     * @param otherSketch sketch to merge
+     */
+    void merge(DistinctValueSketch otherSketch)
+    {
+        for (int i = 0; i < REGISTER_COUNT; i++)
+        {
+            if (otherSketch.registers[i] > registers[i])
+            {
+                registers[i] = otherSketch.registers[i];
+            }
+        }
+    }
+
+
+    /**
+     * Return the estimated number of distinct values added to the sketch.
+     *
+     * @return estimate
+     */
+    long getEstimate()
+    {
+        double sum        = 0;
+        int    emptyCount = 0;
+
+        for (byte register : registers)
+        {
+            sum = sum + Math.pow(2, -register);
+
+            if (register == 0)
+            {
+                emptyCount++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+        /*
+         * Small cardinalities are estimated more accurately from the number of empty registers.
+         */
+        if ((estimate <= 2.5 * REGISTER_COUNT) && (emptyCount > 0))
+        {
+            estimate = REGISTER_COUNT * Math.log((double)REGISTER_COUNT / emptyCount);
+        }
+
+        return Math.round(estimate);
+    }
+
+
+    /**
+     * Return a 64-bit hash of a value.  The FNV-1a hash of the characters is mixed with the finalizer of
+     * MurmurHash3 so that all the bits are well distributed.
+     *
+     * @param value value (may be null)
+     * @return hash
+     */
+    private static long getHash(String value)
+    {
+        long hash = NULL_VALUE_HASH;
+
+        if (value != null)
+        {
+            hash = FNV_OFFSET_BASIS;
+
+            for (int i = 0; i < value.length(); i++)
+            {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,633 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs its embedded discovery services concurrently against
+ * the same asset and annotation store.  An embedded discovery service that reads the annotations of other
+ * embedded discovery services declares them in the serviceDependencies configuration property, and is only
+ * started once they have completed.  Each embedded discovery service is named by the display name of its
+ * connection, or by its qualified name if it has no display name.
+ * <p>
+ * A service that fails, or runs for longer than the serviceTimeout configuration property, is stopped and the
+ * services that depend on it are not run.  The other services are allowed to complete before the pipeline
+ * reports the first error.  The analysis step of the discovery report names the embedded discovery service
+ * that was started most recently.
+ */
+public class ParallelDiscoveryPipeline extends DiscoveryPipeline
+{
+    /**
+     * This implementation runs the supplied discovery services concurrently, respecting their declared dependencies.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        Map<String, DiscoveryService> namedServices = this.getNamedServices();
+        Map<String, Set<String>>      dependencies  = this.getDependencies(namedServices.keySet(), methodName);
+
+        this.validateNoCycles(dependencies, methodName);
+
+        DiscoveryAnalysisReportStore discoveryReport = super.discoveryContext.getAnnotationStore().getDiscoveryReport();
+
+        long            serviceTimeout = this.getServiceTimeout(methodName);
+        ExecutorService executor       = Executors.newFixedThreadPool(this.getParallelism(namedServices.size(), methodName));
+
+        CompletionService<String>   completionService = new ExecutorCompletionService<>(executor);
+        Map<String, Future<String>> runningServices   = new HashMap<>();
+        Map<String, Long>           startTimes        = new ConcurrentHashMap<>();
+        Set<String>                 waitingServices   = new LinkedHashSet<>(namedServices.keySet());
+        Set<String>                 completedServices = new HashSet<>();
+        Set<String>                 failedServices    = new HashSet<>();
+
+        ConnectorCheckedException firstError = null;
+
+        try
+        {
+            while ((! waitingServices.isEmpty()) || (! runningServices.isEmpty()))
+            {
+                boolean waitingServicesChanged = true;
+
+                while (waitingServicesChanged)
+                {
+                    waitingServicesChanged = false;
+
+                    Iterator<String> waitingIterator = waitingServices.iterator();
+
+                    while (waitingIterator.hasNext())
+                    {
+                        String      serviceName         = waitingIterator.next();
+                        Set<String> serviceDependencies = dependencies.get(serviceName);
+
+                        if (completedServices.containsAll(serviceDependencies))
+                        {
+                            DiscoveryService embeddedDiscoveryService = namedServices.get(serviceName);
+
+                            discoveryReport.setAnalysisStep(embeddedDiscoveryService.getConnectorInstanceId());
+                            runningServices.put(serviceName,
+                                                completionService.submit(() -> this.runEmbeddedDiscoveryService(serviceName,
+                                                                                                                 embeddedDiscoveryService,
+                                                                                                                 startTimes)));
+                            waitingIterator.remove();
+                        }
+                        else if (! this.isIndependentOf(serviceDependencies, failedServices))
+                        {
+                            failedServices.add(serviceName);
+                            waitingIterator.remove();
+                            waitingServicesChanged = true;
+                        }
+                    }
+                }
+
+                if (runningServices.isEmpty())
+                {
+                    break;
+                }
+
+                Future<String> completedService = this.waitForService(completionService, runningServices, startTimes, serviceTimeout);
+
+                if (completedService != null)
+                {
+                    String serviceName = this.getServiceName(completedService, runningServices);
+
+                    if (serviceName != null)
+                    {
+                        runningServices.remove(serviceName);
+
+                        try
+                        {
+                            completedService.get();
+                            completedServices.add(serviceName);
+                        }
+                        catch (ExecutionException error)
+                        {
+                            failedServices.add(serviceName);
+
+                            if (firstError == null)
+                            {
+                                firstError = this.getEmbeddedServiceException(serviceName, error.getCause(), methodName);
+                            }
+                        }
+                    }
+                }
+
+                if (serviceTimeout > 0)
+                {
+                    long now = System.currentTimeMillis();
+
+                    for (String serviceName : new ArrayList<>(runningServices.keySet()))
+                    {
+                        Long startTime = startTimes.get(serviceName);
+
+                        if ((startTime != null) && (now - startTime >= serviceTimeout))
+                        {
+                            runningServices.remove(serviceName).cancel(true);
+                            failedServices.add(serviceName);
+                            this.disconnectQuietly(namedServices.get(serviceName));
+
+                            if (firstError == null)
+                            {
+                                firstError = new DiscoveryServiceException(DiscoveryServiceErrorCode.SERVICE_TIMEOUT.getMessageDefinition(serviceName,
+                                                                                                                                        Long.toString(serviceTimeout),
+                                                                                                                                        discoveryServiceName),
+                                                                           this.getClass().getName(),
+                                                                           methodName);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            for (String serviceName : runningServices.keySet())
+            {
+                runningServices.get(serviceName).cancel(true);
+                this.disconnectQuietly(namedServices.get(serviceName));
+
+                if (firstError == null)
+                {
+                    firstError = this.getEmbeddedServiceException(serviceName, error, methodName);
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        if (firstError != null)
+        {
+            throw firstError;
+        }
+    }
+
+
+    /**
+     * Run an embedded discovery service on a pool thread.
+     *
+     * @param serviceName name of the embedded discovery service
+     * @param embeddedDiscoveryService embedded discovery service
+     * @param startTimes map of start times to record the start of this service in
+     * @return name of the embedded discovery service
+     * @throws ConnectorCheckedException there is a problem within the embedded discovery service.
+     */
+    private String runEmbeddedDiscoveryService(String            serviceName,
+                                               DiscoveryService  embeddedDiscoveryService,
+                                               Map<String, Long> startTimes) throws ConnectorCheckedException
+    {
+        startTimes.put(serviceName, System.currentTimeMillis());
+
+        embeddedDiscoveryService.setDiscoveryContext(super.discoveryContext);
+        embeddedDiscoveryService.start();
+        embeddedDiscoveryService.disconnect();
+
+        return serviceName;
+    }
+
+
+    /**
+     * Wait for the next embedded discovery service to complete, or until the earliest running service reaches
+     * its time limit.
+     *
+     * @param completionService completion service that the embedded discovery services were submitted to
+     * @param runningServices map of the embedded discovery services that are running
+     * @param startTimes map of the time that each embedded discovery service started
+     * @param serviceTimeout time limit for each service, or 0 for no limit
+     * @return the completed service, or null if no service completed in time
+     * @throws InterruptedException the pipeline thread has been interrupted
+     */
+    private Future<String> waitForService(CompletionService<String>   completionService,
+                                          Map<String, Future<String>> runningServices,
+                                          Map<String, Long>           startTimes,
+                                          long                        serviceTimeout) throws InterruptedException
+    {
+        if (serviceTimeout <= 0)
+        {
+            return completionService.take();
+        }
+
+        long now      = System.currentTimeMillis();
+        long waitTime = serviceTimeout;
+
+        for (String serviceName : runningServices.keySet())
+        {
+            Long startTime = startTimes.get(serviceName);
+
+            if (startTime != null)
+            {
+                waitTime = Math.min(waitTime, startTime + serviceTimeout - now);
+            }
+        }
+
+        return completionService.poll(Math.max(waitTime, 1), TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Return the name of the running service for a future.  Null is returned for a service that has already been
+     * stopped because it timed out.
+     *
+     * @param completedService future for the service
+     * @param runningServices map of the embedded discovery services that are running
+     * @return service name or null
+     */
+    private String getServiceName(Future<String>              completedService,
+                                  Map<String, Future<String>> runningServices)
+    {
+        for (String serviceName : runningServices.keySet())
+        {
+            if (runningServices.get(serviceName) == completedService)
+            {
+                return serviceName;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return whether none of a service's dependencies have failed.
+     *
+     * @param serviceDependencies names of the services that the service depends on
+     * @param failedServices names of the services that have failed or been skipped
+     * @return boolean flag
+     */
+    private boolean isIndependentOf(Set<String> serviceDependencies,
+                                    Set<String> failedServices)
+    {
+        for (String dependency : serviceDependencies)
+        {
+            if (failedServices.contains(dependency))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return the exception to throw for the failure of an embedded discovery service.
+     *
+     * @param serviceName name of the embedded discovery service
+     * @param error caught exception
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private ConnectorCheckedException getEmbeddedServiceException(String    serviceName,
+                                                                  Throwable error,
+                                                                  String    methodName)
+    {
+        if (error instanceof ConnectorCheckedException)
+        {
+            return (ConnectorCheckedException)error;
+        }
+
+        return new DiscoveryServiceException(DiscoveryServiceErrorCode.EMBEDDED_SERVICE_FAILED.getMessageDefinition(serviceName,
+                                                                                                                  discoveryServiceName,
+                                                                                                                  error.getClass().getName(),
+                                                                                                                  error.getMessage()),
+                                             this.getClass().getName(),
+                                             methodName,
+                                             error);
+    }
+
+
+    /**
+     * Return the embedded discovery services keyed by their names.  A service whose name is already in use
+     * has its position in the list of embedded services appended to its name.
+     *
+     * @return map of names to embedded discovery services in their configured order
+     */
+    private Map<String, DiscoveryService> getNamedServices()
+    {
+        Map<String, DiscoveryService> namedServices = new LinkedHashMap<>();
+        int                           position      = 0;
+
+        for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+        {
+            if (embeddedDiscoveryService != null)
+            {
+                String               serviceName = null;
+                ConnectionProperties connection  = embeddedDiscoveryService.getConnection();
+
+                if (connection != null)
+                {
+                    serviceName = connection.getDisplayName();
+
+                    if (serviceName == null)
+                    {
+                        serviceName = connection.getQualifiedName();
+                    }
+                }
+
+                if (serviceName == null)
+                {
+                    serviceName = Integer.toString(position);
+                }
+                else if (namedServices.containsKey(serviceName))
+                {
+                    serviceName = serviceName + ":" + position;
+                }
+
+                namedServices.put(serviceName, embeddedDiscoveryService);
+            }
+
+            position++;
+        }
+
+        return namedServices;
+    }
+
+
+    /**
+     * Return the dependencies of each embedded discovery service from the configuration properties.
+     *
+     * @param serviceNames names of the embedded discovery services
+     * @param methodName calling method
+     * @return map from service name to the names of the services it depends on
+     * @throws DiscoveryServiceException a dependency names an unknown service
+     */
+    private Map<String, Set<String>> getDependencies(Set<String> serviceNames,
+                                                     String      methodName) throws DiscoveryServiceException
+    {
+        Map<String, Set<String>> dependencies = new HashMap<>();
+
+        for (String serviceName : serviceNames)
+        {
+            dependencies.put(serviceName, new HashSet<>());
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object dependenciesProperty = configurationProperties.get(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY);
+
+            if (dependenciesProperty instanceof Map)
+            {
+                Map<?, ?> dependenciesMap = (Map<?, ?>)dependenciesProperty;
+
+                for (Object serviceNameObject : dependenciesMap.keySet())
+                {
+                    String serviceName = serviceNameObject.toString();
+
+                    for (String dependency : this.getDependencyNames(dependenciesMap.get(serviceNameObject)))
+                    {
+                        if ((! serviceNames.contains(serviceName)) || (! serviceNames.contains(dependency)))
+                        {
+                            throw new DiscoveryServiceException(DiscoveryServiceErrorCode.UNKNOWN_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                                 serviceName,
+                                                                                                                                 dependency),
+                                                                this.getClass().getName(),
+                                                                methodName);
+                        }
+
+                        dependencies.get(serviceName).add(dependency);
+                    }
+                }
+            }
+        }
+
+        return dependencies;
+    }
+
+
+    /**
+     * Return the names of the services in one entry of the dependencies property.
+     *
+     * @param dependencyValue list of names, or a comma separated string
+     * @return list of names
+     */
+    private List<String> getDependencyNames(Object dependencyValue)
+    {
+        List<String> dependencyNames = new ArrayList<>();
+
+        if (dependencyValue instanceof List)
+        {
+            for (Object dependency : (List<?>)dependencyValue)
+            {
+                if (dependency != null)
+                {
+                    dependencyNames.add(dependency.toString().trim());
+                }
+            }
+        }
+        else if (dependencyValue != null)
+        {
+            for (String dependency : dependencyValue.toString().split(","))
+            {
+                if (! dependency.isBlank())
+                {
+                    dependencyNames.add(dependency.trim());
+                }
+            }
+        }
+
+        return dependencyNames;
+    }
+
+
+    /**
+     * Check that the dependencies can be satisfied by removing services with no outstanding dependencies
+     * until none are left.
+     *
+     * @param dependencies map from service name to the names of the services it depends on
+     * @param methodName calling method
+     * @throws DiscoveryServiceException the dependencies form a cycle
+     */
+    private void validateNoCycles(Map<String, Set<String>> dependencies,
+                                  String                   methodName) throws DiscoveryServiceException
+    {
+        Set<String> remainingServices = new LinkedHashSet<>(dependencies.keySet());
+        Set<String> orderedServices   = new HashSet<>();
+        boolean     progress          = true;
+
+        while (progress)
+        {
+            progress = false;
+
+            Iterator<String> remainingIterator = remainingServices.iterator();
+
+            while (remainingIterator.hasNext())
+            {
+                String serviceName = remainingIterator.next();
+
+                if (orderedServices.containsAll(dependencies.get(serviceName)))
+                {
+                    orderedServices.add(serviceName);
+                    remainingIterator.remove();
+                    progress = true;
+                }
+            }
+        }
+
+        if (! remainingServices.isEmpty())
+        {
+            throw new DiscoveryServiceException(DiscoveryServiceErrorCode.CIRCULAR_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                  remainingServices.iterator().next()),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+    }
+
+
+    /**
+     * Return the time limit for each embedded discovery service from the configuration properties.
+     *
+     * @param methodName calling method
+     * @return time in milliseconds, or 0 for no limit
+     * @throws DiscoveryServiceException the property is not a whole number
+     */
+    private long getServiceTimeout(String methodName) throws DiscoveryServiceException
+    {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object serviceTimeoutProperty = configurationProperties.get(ParallelDiscoveryPipelineProvider.SERVICE_TIMEOUT_PROPERTY);
+
+            if (serviceTimeoutProperty != null)
+            {
+                long serviceTimeout;
+
+                try
+                {
+                    serviceTimeout = Long.parseLong(serviceTimeoutProperty.toString().trim());
+                }
+                catch (NumberFormatException error)
+                {
+                    throw this.getInvalidPropertyException(ParallelDiscoveryPipelineProvider.SERVICE_TIMEOUT_PROPERTY,
+                                                           serviceTimeoutProperty,
+                                                           methodName,
+                                                           error);
+                }
+
+                if (serviceTimeout > 0)
+                {
+                    return serviceTimeout;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the number of embedded discovery services that may run at the same time from the configuration properties.
+     *
+     * @param serviceCount number of embedded discovery services
+     * @param methodName calling method
+     * @return parallelism
+     * @throws DiscoveryServiceException the property is not a whole number
+     */
+    private int getParallelism(int    serviceCount,
+                               String methodName) throws DiscoveryServiceException
+    {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object parallelismProperty = configurationProperties.get(ParallelDiscoveryPipelineProvider.PARALLELISM_PROPERTY);
+
+            if (parallelismProperty != null)
+            {
+                int parallelism;
+
+                try
+                {
+                    parallelism = Integer.parseInt(parallelismProperty.toString().trim());
+                }
+                catch (NumberFormatException error)
+                {
+                    throw this.getInvalidPropertyException(ParallelDiscoveryPipelineProvider.PARALLELISM_PROPERTY,
+                                                           parallelismProperty,
+                                                           methodName,
+                                                           error);
+                }
+
+                if (parallelism > 0)
+                {
+                    return parallelism;
+                }
+            }
+        }
+
+        return Math.max(serviceCount, 1);
+    }
+
+
+    /**
+     * Return the exception to throw for a numeric configuration property that can not be parsed.
+     *
+     * @param propertyName name of the configuration property
+     * @param propertyValue configured value
+     * @param methodName calling method
+     * @param error caught exception
+     * @return exception to throw
+     */
+    private DiscoveryServiceException getInvalidPropertyException(String                propertyName,
+                                                                  Object                propertyValue,
+                                                                  String                methodName,
+                                                                  NumberFormatException error)
+    {
+        return new DiscoveryServiceException(DiscoveryServiceErrorCode.INVALID_CONFIGURATION_PROPERTY.getMessageDefinition(discoveryServiceName,
+                                                                                                                         propertyName,
+                                                                                                                         propertyValue.toString()),
+                                             this.getClass().getName(),
+                                             methodName,
+                                             error);
+    }
+
+
+    /**
+     * Disconnect an embedded discovery service that has been stopped, ignoring any error.
+     *
+     * @param embeddedDiscoveryService embedded discovery service
+     */
+    private void disconnectQuietly(DiscoveryService embeddedDiscoveryService)
+    {
+        try
+        {
+            embeddedDiscoveryService.disconnect();
+        }
+        catch (Exception error)
+        {
+            // ignore - the timeout is reported to the caller
+        }
+    }
+}
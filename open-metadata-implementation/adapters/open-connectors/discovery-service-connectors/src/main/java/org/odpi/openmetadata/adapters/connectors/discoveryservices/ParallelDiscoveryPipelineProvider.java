@@ -0,0 +1,67 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParallelDiscoveryPipelineProvider is the provider for the ParallelDiscoveryPipeline - an ODF discovery pipeline connector.
+ */
+public class ParallelDiscoveryPipelineProvider extends DiscoveryServiceProvider
+{
+    static final String  connectorTypeGUID = "0d972c9c-5b37-40d6-8ec0-4976c9dfae12";
+    static final String  connectorTypeName = "Parallel Discovery Pipeline Connector";
+    static final String  connectorTypeDescription = "Connector supports the concurrent execution of discovery services.";
+
+    /**
+     * Map from the name of an embedded discovery service to the list of names of the embedded discovery services
+     * whose annotations it reads.  A service only starts once the services it depends on have completed.
+     * The list may also be supplied as a comma separated string.
+     */
+    public static final String SERVICE_DEPENDENCIES_PROPERTY = "serviceDependencies";
+
+    /**
+     * Time in milliseconds that each embedded discovery service may run for before it is stopped.
+     * The default is 0, which means there is no limit.
+     */
+    public static final String SERVICE_TIMEOUT_PROPERTY      = "serviceTimeout";
+
+    /**
+     * Maximum number of embedded discovery services that run at the same time.  The default is the number of
+     * embedded discovery services.
+     */
+    public static final String PARALLELISM_PROPERTY          = "parallelism";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * discovery service implementation.
+     */
+    public ParallelDiscoveryPipelineProvider()
+    {
+        Class<?> connectorClass = ParallelDiscoveryPipeline.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(SERVICE_DEPENDENCIES_PROPERTY);
+        recognizedConfigurationProperties.add(SERVICE_TIMEOUT_PROPERTY);
+        recognizedConfigurationProperties.add(PARALLELISM_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -0,0 +1,157 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that CSVColumnProfile counts the values exactly while there are few of them, and that it keeps the most
+ * frequent values and estimates the number of distinct values when there are many.
+ */
+public class CSVColumnProfileTest
+{
+    /**
+     * Below the maximum number of values, every value is counted exactly.
+     */
+    @Test
+    public void testExactCounts()
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile(10);
+
+        for (String value : List.of("b", "a", "b", "", "c", "b", "a"))
+        {
+            columnProfile.addValue(value);
+        }
+        columnProfile.addValue(null);
+
+        assertEquals(columnProfile.getValueList(), Arrays.asList("b", "a", "", "c", null));
+        assertEquals(columnProfile.getValueCount().get("b"), Integer.valueOf(3));
+        assertEquals(columnProfile.getValueCount().get("a"), Integer.valueOf(2));
+        assertEquals(columnProfile.getDistinctValueCount(), 5);
+        assertEquals(columnProfile.getNullCount(), 2);
+        assertEquals(columnProfile.getMinimumValue(), "a");
+        assertEquals(columnProfile.getMaximumValue(), "c");
+        assertEquals(columnProfile.getDataFieldType(), "string");
+    }
+
+
+    /**
+     * A column of unique values keeps no more than the maximum number of values, and its number of distinct
+     * values is estimated closely.
+     */
+    @Test
+    public void testHighCardinality()
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile(100);
+        int              valueCount    = 100000;
+
+        for (int i = 0; i < valueCount; i++)
+        {
+            columnProfile.addValue("value-" + i);
+        }
+
+        assertEquals(columnProfile.getValueList().size(), 100);
+        assertEquals(columnProfile.getValueCount().size(), 100);
+        assertTrue(Math.abs(columnProfile.getDistinctValueCount() - valueCount) < valueCount * 0.05,
+                   "Estimate: " + columnProfile.getDistinctValueCount());
+    }
+
+
+    /**
+     * The frequent values are kept in the counts among many rare values.
+     */
+    @Test
+    public void testFrequentValuesKept()
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile(10);
+
+        for (int i = 0; i < 50000; i++)
+        {
+            columnProfile.addValue("rare-" + i);
+
+            if (i % 10 == 0)
+            {
+                columnProfile.addValue("frequent");
+            }
+
+            if (i % 20 == 0)
+            {
+                columnProfile.addValue("common");
+            }
+        }
+
+        List<String> valueList = columnProfile.getValueList();
+
+        assertEquals(valueList.size(), 10);
+        assertEquals(valueList.subList(0, 2), List.of("frequent", "common"));
+        assertEquals(columnProfile.getValueCount().get("frequent"), Integer.valueOf(5000));
+        assertEquals(columnProfile.getValueCount().get("common"), Integer.valueOf(2500));
+    }
+
+
+    /**
+     * Merging the profiles of consecutive ranges gives the same result as profiling all the values in one.
+     */
+    @Test
+    public void testMergeMatchesSingleProfile()
+    {
+        CSVColumnProfile singleProfile = new CSVColumnProfile(20);
+        CSVColumnProfile firstProfile  = new CSVColumnProfile(20);
+        CSVColumnProfile secondProfile = new CSVColumnProfile(20);
+
+        for (int i = 0; i < 20000; i++)
+        {
+            String value = (i % 3 == 0) ? "group-" + (i % 7) : "id-" + i;
+
+            singleProfile.addValue(value);
+
+            if (i < 12345)
+            {
+                firstProfile.addValue(value);
+            }
+            else
+            {
+                secondProfile.addValue(value);
+            }
+        }
+
+        firstProfile.merge(secondProfile);
+
+        assertEquals(firstProfile.getDistinctValueCount(), singleProfile.getDistinctValueCount());
+        assertEquals(firstProfile.getValueList().subList(0, 7), singleProfile.getValueList().subList(0, 7));
+        assertEquals(firstProfile.getMinimumValue(), singleProfile.getMinimumValue());
+        assertEquals(firstProfile.getMaximumValue(), singleProfile.getMaximumValue());
+
+        Map<String, Integer> mergedCounts = firstProfile.getValueCount();
+        Map<String, Integer> singleCounts = singleProfile.getValueCount();
+
+        for (int group = 0; group < 7; group++)
+        {
+            assertEquals(mergedCounts.get("group-" + group), singleCounts.get("group-" + group));
+        }
+    }
+
+
+    /**
+     * A column with no values has no type or range.
+     */
+    @Test
+    public void testEmptyColumn()
+    {
+        CSVColumnProfile columnProfile = new CSVColumnProfile(10);
+
+        assertTrue(columnProfile.getValueList().isEmpty());
+        assertEquals(columnProfile.getDistinctValueCount(), 0);
+        assertNull(columnProfile.getDataFieldType());
+        assertNull(columnProfile.getMinimumValue());
+    }
+}
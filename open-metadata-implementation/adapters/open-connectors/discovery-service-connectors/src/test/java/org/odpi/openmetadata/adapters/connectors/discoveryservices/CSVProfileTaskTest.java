@@ -0,0 +1,202 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStore;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Verify that CSVProfileTask gives the same profile however many threads profile the file and however the records
+ * are split, and that a sampled profile covers the expected records.
+ */
+public class CSVProfileTaskTest
+{
+    private static final int RECORD_COUNT = 50000;
+    private static final int COLUMN_COUNT = 3;
+
+
+    /**
+     * Profiling the file in parallel gives the same result as profiling it on one thread.
+     */
+    @Test
+    public void testParallelProfile()
+    {
+        InMemoryCSVFileStore csvFileStore = new InMemoryCSVFileStore(RECORD_COUNT);
+
+        CSVProfileTask.RecordsProfile singleThreadProfile = this.profile(csvFileStore, 1, 1.0);
+        CSVProfileTask.RecordsProfile parallelProfile     = this.profile(csvFileStore, 4, 1.0);
+
+        assertEquals(singleThreadProfile.getRecordCount(), RECORD_COUNT);
+        assertProfilesEqual(parallelProfile, singleThreadProfile);
+
+        CSVColumnProfile idProfile    = parallelProfile.getColumnProfiles().get(0);
+        CSVColumnProfile groupProfile = parallelProfile.getColumnProfiles().get(1);
+        CSVColumnProfile flagProfile  = parallelProfile.getColumnProfiles().get(2);
+
+        assertEquals(idProfile.getValueList().size(), 100);
+        assertEquals(groupProfile.getDistinctValueCount(), 5);
+        assertEquals(groupProfile.getValueCount().get("group-0"), Integer.valueOf(RECORD_COUNT / 5));
+        assertEquals(flagProfile.getDataFieldType(), "boolean");
+    }
+
+
+    /**
+     * A sampled profile covers the expected number of records, whether they are read in batches or one at a time,
+     * and the records selected do not depend on how the range is split.
+     */
+    @Test
+    public void testSampledProfile()
+    {
+        InMemoryCSVFileStore csvFileStore = new InMemoryCSVFileStore(RECORD_COUNT);
+
+        CSVProfileTask.RecordsProfile halfProfile = this.profile(csvFileStore, 4, 0.5);
+
+        assertEquals(halfProfile.getRecordCount(), RECORD_COUNT / 2);
+        assertEquals(csvFileStore.readRecordCalls.get(), 0);
+
+        CSVProfileTask.RecordsProfile sparseProfile = this.profile(csvFileStore, 4, 0.01);
+
+        assertEquals(sparseProfile.getRecordCount(), RECORD_COUNT / 100);
+        assertEquals(csvFileStore.readRecordCalls.get(), RECORD_COUNT / 100);
+
+        for (double samplingRatio : new double[]{0.5, 0.01})
+        {
+            CSVProfileTask.RecordsProfile splitProfile = new CSVProfileTask(csvFileStore, COLUMN_COUNT, 100, samplingRatio, 0, 12345).compute();
+
+            splitProfile.merge(new CSVProfileTask(csvFileStore, COLUMN_COUNT, 100, samplingRatio, 12345, RECORD_COUNT).compute());
+
+            assertProfilesEqual(splitProfile, this.profile(csvFileStore, 1, samplingRatio));
+        }
+    }
+
+
+    /**
+     * Profile all the records of the file.
+     *
+     * @param csvFileStore file
+     * @param parallelism number of threads
+     * @param samplingRatio proportion of records to profile
+     * @return profile
+     */
+    private CSVProfileTask.RecordsProfile profile(CSVFileStore csvFileStore,
+                                                  int          parallelism,
+                                                  double       samplingRatio)
+    {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+
+        try
+        {
+            return forkJoinPool.invoke(new CSVProfileTask(csvFileStore, COLUMN_COUNT, 100, samplingRatio, 0, RECORD_COUNT));
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+    }
+
+
+    /**
+     * Check that two profiles have the same statistics.
+     *
+     * @param actual profile to test
+     * @param expected expected profile
+     */
+    private static void assertProfilesEqual(CSVProfileTask.RecordsProfile actual,
+                                            CSVProfileTask.RecordsProfile expected)
+    {
+        assertEquals(actual.getRecordCount(), expected.getRecordCount());
+        assertEquals(actual.getSize(), expected.getSize());
+
+        for (int i = 0; i < COLUMN_COUNT; i++)
+        {
+            CSVColumnProfile actualColumn   = actual.getColumnProfiles().get(i);
+            CSVColumnProfile expectedColumn = expected.getColumnProfiles().get(i);
+
+            assertEquals(actualColumn.getDistinctValueCount(), expectedColumn.getDistinctValueCount());
+            assertEquals(actualColumn.getNullCount(), expectedColumn.getNullCount());
+            assertEquals(actualColumn.getMinimumValue(), expectedColumn.getMinimumValue());
+            assertEquals(actualColumn.getMaximumValue(), expectedColumn.getMaximumValue());
+            assertEquals(actualColumn.getDataFieldType(), expectedColumn.getDataFieldType());
+        }
+
+        assertEquals(actual.getColumnProfiles().get(1).getValueCount(), expected.getColumnProfiles().get(1).getValueCount());
+        assertEquals(actual.getColumnProfiles().get(2).getValueCount(), expected.getColumnProfiles().get(2).getValueCount());
+    }
+
+
+    /**
+     * CSV file held in memory.  Each record has a unique identifier, one of five groups and a flag.
+     */
+    private static class InMemoryCSVFileStore implements CSVFileStore
+    {
+        private final int           recordCount;
+        private final AtomicInteger readRecordCalls = new AtomicInteger();
+
+        InMemoryCSVFileStore(int recordCount)
+        {
+            this.recordCount = recordCount;
+        }
+
+        @Override
+        public File getFile()
+        {
+            return new File("in-memory.csv");
+        }
+
+        @Override
+        public String getFileName()
+        {
+            return "in-memory.csv";
+        }
+
+        @Override
+        public Date getLastUpdateDate()
+        {
+            return new Date();
+        }
+
+        @Override
+        public long getRecordCount()
+        {
+            return recordCount;
+        }
+
+        @Override
+        public List<String> getColumnNames()
+        {
+            return List.of("id", "group", "flag");
+        }
+
+        @Override
+        public List<String> readRecord(int rowNumber)
+        {
+            readRecordCalls.incrementAndGet();
+
+            return List.of("id-" + rowNumber, "group-" + (rowNumber % 5), (rowNumber % 2 == 0) ? "true" : "false");
+        }
+
+        @Override
+        public List<List<String>> readRecords(int startRecordNumber,
+                                              int maxRecords)
+        {
+            List<List<String>> records = new ArrayList<>();
+
+            for (int rowNumber = startRecordNumber; (rowNumber < recordCount) && (records.size() < maxRecords); rowNumber++)
+            {
+                records.add(List.of("id-" + rowNumber, "group-" + (rowNumber % 5), (rowNumber % 2 == 0) ? "true" : "false"));
+            }
+
+            return records;
+        }
+    }
+}
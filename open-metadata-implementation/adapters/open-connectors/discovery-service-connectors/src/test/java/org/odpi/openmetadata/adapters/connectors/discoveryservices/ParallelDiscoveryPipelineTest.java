@@ -0,0 +1,289 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryContext;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that ParallelDiscoveryPipeline runs its embedded discovery services in the order set by their dependencies,
+ * stops the services that run for too long, reports the failure of a service after the others have completed, and
+ * rejects configuration that it can not run.
+ */
+public class ParallelDiscoveryPipelineTest
+{
+    private static final String PIPELINE_NAME = "testPipeline";
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    private DiscoveryContext discoveryContext;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        events.clear();
+
+        DiscoveryAnalysisReportStore discoveryReport = new DiscoveryAnalysisReportStore()
+        {
+        };
+
+        DiscoveryAnnotationStore annotationStore = mock(DiscoveryAnnotationStore.class);
+        when(annotationStore.getDiscoveryReport()).thenReturn(discoveryReport);
+
+        discoveryContext = new DiscoveryContext("testUser", "assetGUID", null, null, null, annotationStore, null);
+    }
+
+
+    /**
+     * A service is only started once the services it depends on have completed, while a service with no dependencies
+     * runs alongside them.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testDependencyOrdering() throws Exception
+    {
+        Map<String, Object> dependencies = new HashMap<>();
+        dependencies.put("second", List.of("first"));
+        dependencies.put("third", "second");
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY, dependencies);
+
+        this.runPipeline(configurationProperties,
+                         new StubDiscoveryService("third", 0, false),
+                         new StubDiscoveryService("second", 50, false),
+                         new StubDiscoveryService("first", 200, false),
+                         new StubDiscoveryService("independent", 200, false));
+
+        assertEquals(events.size(), 8);
+        assertTrue(events.indexOf("end:first") < events.indexOf("start:second"));
+        assertTrue(events.indexOf("end:second") < events.indexOf("start:third"));
+        assertTrue(events.indexOf("start:independent") < events.indexOf("end:first"));
+    }
+
+
+    /**
+     * A service that runs for longer than the time limit is stopped, the services that depend on it are not run, and
+     * the timeout is reported once the other services have completed.
+     */
+    @Test
+    public void testServiceTimeout()
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY, Map.of("dependent", "slow"));
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.SERVICE_TIMEOUT_PROPERTY, "200");
+
+        long startTime = System.currentTimeMillis();
+
+        try
+        {
+            this.runPipeline(configurationProperties,
+                             new StubDiscoveryService("slow", 30000, false),
+                             new StubDiscoveryService("dependent", 0, false),
+                             new StubDiscoveryService("quick", 0, false));
+            fail("The timeout of the slow service was not reported");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), DiscoveryServiceErrorCode.SERVICE_TIMEOUT.getMessageDefinition().getMessageId());
+        }
+
+        assertTrue(System.currentTimeMillis() - startTime < 10000);
+        assertTrue(events.contains("end:quick"));
+        assertFalse(events.contains("end:slow"));
+        assertFalse(events.contains("start:dependent"));
+    }
+
+
+    /**
+     * The exception from a failed service is passed to the caller after the independent services have completed, and
+     * the services that depend on it are not run.
+     */
+    @Test
+    public void testFailurePropagation()
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY,
+                                    Map.of("dependent", "failing", "indirectDependent", "dependent"));
+
+        StubDiscoveryService failingService = new StubDiscoveryService("failing", 0, true);
+
+        try
+        {
+            this.runPipeline(configurationProperties,
+                             failingService,
+                             new StubDiscoveryService("dependent", 0, false),
+                             new StubDiscoveryService("indirectDependent", 0, false),
+                             new StubDiscoveryService("other", 200, false));
+            fail("The failure of the failing service was not reported");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertSame(error, failingService.failure);
+        }
+
+        assertTrue(events.contains("end:other"));
+        assertFalse(events.contains("start:dependent"));
+        assertFalse(events.contains("start:indirectDependent"));
+    }
+
+
+    /**
+     * Dependencies that form a cycle are rejected before any service is run.
+     */
+    @Test
+    public void testCycleDetection()
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.SERVICE_DEPENDENCIES_PROPERTY,
+                                    Map.of("first", "third", "second", "first", "third", "second"));
+
+        this.assertRejected(configurationProperties, DiscoveryServiceErrorCode.CIRCULAR_DEPENDENCY);
+    }
+
+
+    /**
+     * A time limit or parallelism that is not a whole number is rejected before any service is run.
+     */
+    @Test
+    public void testInvalidNumericProperties()
+    {
+        this.assertRejected(Map.of(ParallelDiscoveryPipelineProvider.SERVICE_TIMEOUT_PROPERTY, "ten seconds"),
+                            DiscoveryServiceErrorCode.INVALID_CONFIGURATION_PROPERTY);
+        this.assertRejected(Map.of(ParallelDiscoveryPipelineProvider.PARALLELISM_PROPERTY, "2.5"),
+                            DiscoveryServiceErrorCode.INVALID_CONFIGURATION_PROPERTY);
+    }
+
+
+    /**
+     * Check that the pipeline rejects its configuration without running any of the services.
+     *
+     * @param configurationProperties configuration properties for the pipeline
+     * @param errorCode expected error code
+     */
+    private void assertRejected(Map<String, Object>       configurationProperties,
+                                DiscoveryServiceErrorCode errorCode)
+    {
+        try
+        {
+            this.runPipeline(configurationProperties,
+                             new StubDiscoveryService("first", 0, false),
+                             new StubDiscoveryService("second", 0, false),
+                             new StubDiscoveryService("third", 0, false));
+            fail("The configuration was not rejected");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), errorCode.getMessageDefinition().getMessageId());
+        }
+
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * Run a pipeline of the supplied services.
+     *
+     * @param configurationProperties configuration properties for the pipeline
+     * @param embeddedServices services to run
+     * @throws ConnectorCheckedException the pipeline failed
+     */
+    private void runPipeline(Map<String, Object> configurationProperties,
+                             DiscoveryService... embeddedServices) throws ConnectorCheckedException
+    {
+        Connection connection = new Connection();
+        connection.setDisplayName(PIPELINE_NAME);
+        connection.setConfigurationProperties(configurationProperties);
+
+        List<Connector> embeddedConnectors = new ArrayList<>();
+        Collections.addAll(embeddedConnectors, embeddedServices);
+
+        ParallelDiscoveryPipeline pipeline = new ParallelDiscoveryPipeline();
+        pipeline.initialize(PIPELINE_NAME, new ConnectionProperties(connection));
+        pipeline.initializeEmbeddedConnectors(embeddedConnectors);
+        pipeline.setDiscoveryServiceName(PIPELINE_NAME);
+        pipeline.setDiscoveryContext(discoveryContext);
+        pipeline.start();
+    }
+
+
+    /**
+     * Discovery service that records when it starts and ends, runs for a set time and may fail.
+     */
+    private class StubDiscoveryService extends DiscoveryService
+    {
+        private final String  serviceName;
+        private final long    runTime;
+        private final boolean failing;
+
+        private DiscoveryServiceException failure = null;
+
+        StubDiscoveryService(String  serviceName,
+                             long    runTime,
+                             boolean failing)
+        {
+            this.serviceName = serviceName;
+            this.runTime     = runTime;
+            this.failing     = failing;
+
+            Connection connection = new Connection();
+            connection.setDisplayName(serviceName);
+
+            super.initialize(serviceName, new ConnectionProperties(connection));
+        }
+
+        @Override
+        public void start() throws ConnectorCheckedException
+        {
+            super.start();
+
+            events.add("start:" + serviceName);
+
+            try
+            {
+                Thread.sleep(runTime);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (failing)
+            {
+                failure = new DiscoveryServiceException(DiscoveryServiceErrorCode.NO_ASSET.getMessageDefinition("assetGUID", serviceName),
+                                                        this.getClass().getName(),
+                                                        "start");
+                throw failure;
+            }
+
+            events.add("end:" + serviceName);
+        }
+    }
+}
@@ -14,6 +14,9 @@ import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlinea
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.GRAPH_DISCONNECT_ERROR;
 
 @EqualsAndHashCode(callSuper = true)
@@ -27,10 +30,16 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
     public static final String OLS_HAS_CORRESPONDING_ELEMENTS = "OLS has added the corresponding subProcess node and edges for input column {}, output column {} and process {} ";
     public static final String VERTEX_NOT_FOUND = "Vertex does not exist with guid {} and display name {}";
     public static final String THE_LINEAGE_GRAPH_COULD_NOT_BE_INITIALIZED_DUE_TO_AN_ERROR = "The Lineage graph could not be initialized due to an error";
+    public static final String LINEAGE_MAX_DEPTH = "lineageMaxDepth";
+    public static final String LINEAGE_MAX_VERTICES = "lineageMaxVertices";
+    public static final String LINEAGE_CACHE_SIZE = "lineageCacheSize";
+    public static final int DEFAULT_LINEAGE_CACHE_SIZE = 100;
+    public static final String LINEAGE_BATCH_SIZE = "lineageBatchSize";
 
     private GraphHelper graphHelper;
     private LineageGraphStorageService graphStorageHelper;
     private LineageGraphQueryService lineageGraphQueryService;
+    private LineageQueryCache lineageQueryCache;
     private AuditLog auditLog;
 
     /**
@@ -41,11 +50,25 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
         try {
             this.graphHelper = new GraphHelper();
 
+            /*
+             * The lineage query and ingest settings are removed from the properties passed to the graph database since it
+             * does not recognize them.
+             */
+            Map<String, Object> graphProperties = new HashMap<>();
+            if (connectionProperties.getConfigurationProperties() != null) {
+                graphProperties.putAll(connectionProperties.getConfigurationProperties());
+            }
+            int maxDepth = getIntProperty(graphProperties.remove(LINEAGE_MAX_DEPTH), LineageGraphQueryService.DEFAULT_MAX_DEPTH);
+            int maxVertices = getIntProperty(graphProperties.remove(LINEAGE_MAX_VERTICES), LineageGraphQueryService.DEFAULT_MAX_VERTICES);
+            int cacheSize = getIntProperty(graphProperties.remove(LINEAGE_CACHE_SIZE), DEFAULT_LINEAGE_CACHE_SIZE);
+            int batchSize = getIntProperty(graphProperties.remove(LINEAGE_BATCH_SIZE), LineageGraphStorageService.DEFAULT_BATCH_SIZE);
+
             this.graphHelper.openGraph(connectionProperties.getConnectorType().getConnectorProviderClassName(),
-                    connectionProperties.getConfigurationProperties(), auditLog);
+                    graphProperties, auditLog);
 
-            this.graphStorageHelper = new LineageGraphStorageService(graphHelper, auditLog);
-            this.lineageGraphQueryService = new LineageGraphQueryService(graphHelper, auditLog);
+            this.lineageQueryCache = new LineageQueryCache(cacheSize);
+            this.graphStorageHelper = new LineageGraphStorageService(graphHelper, auditLog, lineageQueryCache, batchSize);
+            this.lineageGraphQueryService = new LineageGraphQueryService(graphHelper, auditLog, maxDepth, maxVertices, lineageQueryCache);
 
         } catch (JanusConnectorException error) {
             log.error(THE_LINEAGE_GRAPH_COULD_NOT_BE_INITIALIZED_DUE_TO_AN_ERROR, error);
@@ -54,6 +77,18 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
         }
     }
 
+    private int getIntProperty(Object value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid lineage query setting {}, using {}", value, defaultValue);
+            return defaultValue;
+        }
+    }
+
 
     @Override
     public synchronized void disconnect() throws ConnectorCheckedException {
@@ -71,6 +106,7 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
     public void performLineageGraphJob() {
         LineageJobHelper lineageJobHelper = new LineageJobHelper(graphHelper, auditLog);
         lineageJobHelper.performLineageGraphJob();
+        lineageQueryCache.clear();
     }
     @Override
     public OpenLineageQueryService getLineageQueryService(){
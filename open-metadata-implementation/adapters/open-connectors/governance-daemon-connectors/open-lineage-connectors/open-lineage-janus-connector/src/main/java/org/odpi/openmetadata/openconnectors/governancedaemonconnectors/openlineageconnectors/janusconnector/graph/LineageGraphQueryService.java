@@ -8,6 +8,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -35,9 +36,12 @@ import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlinea
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -49,10 +53,15 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gte;
+import static org.apache.tinkerpop.gremlin.process.traversal.Scope.local;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.loops;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.or;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.until;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
 import static org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageServerErrorCode.ERROR_ENTITY_NOT_FOUND;
 import static org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageServerErrorCode.ERROR_LINEAGE_NOT_FOUND;
 import static org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageServerErrorCode.ERROR_TYPES_NOT_FOUND;
@@ -69,6 +78,7 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ATTRIBUTE_FOR_SCHEMA;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.AVRO_FILE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.CLASSIFICATION_GRAPH;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.DEPTH_LIMIT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.COLUMN_SPACE_DELIMITER;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.COMMA_SPACE_DELIMITER;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.CONNECTION_ENDPOINT;
@@ -100,6 +110,8 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.S;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.SEMANTIC_ASSIGNMENT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.SUB_GRAPH;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ULTIMATE_VERTICES;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.VISITED_VERTICES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_COLUMN;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_COLUMN_AND_CLASSIFICATION_EDGES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_FILE_COLUMN;
@@ -128,14 +140,37 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LineageGraphQueryService.class);
 
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final int DEFAULT_MAX_VERTICES = 10000;
+
     private final GraphHelper graphHelper;
     private final LineageGraphQueryHelper lineageGraphQueryHelper;
     private final AuditLog auditLog;
+    private final int maxDepth;
+    private final int maxVertices;
+    private final LineageQueryCache lineageQueryCache;
 
     public LineageGraphQueryService(GraphHelper graphHelper, AuditLog auditLog) {
+        this(graphHelper, auditLog, DEFAULT_MAX_DEPTH, DEFAULT_MAX_VERTICES, new LineageQueryCache(0));
+    }
+
+    /**
+     * Create a query service that bounds the lineage traversals and caches their results.
+     *
+     * @param graphHelper       access to the graph
+     * @param auditLog          audit log
+     * @param maxDepth          maximum number of edges followed away from the queried entity
+     * @param maxVertices       maximum number of vertices returned in a lineage response
+     * @param lineageQueryCache cache of computed lineage, shared with the storage service that invalidates it
+     */
+    public LineageGraphQueryService(GraphHelper graphHelper, AuditLog auditLog, int maxDepth, int maxVertices,
+                                    LineageQueryCache lineageQueryCache) {
         this.graphHelper = graphHelper;
         this.auditLog = auditLog;
         this.lineageGraphQueryHelper = new LineageGraphQueryHelper(graphHelper);
+        this.maxDepth = maxDepth;
+        this.maxVertices = maxVertices;
+        this.lineageQueryCache = lineageQueryCache;
     }
 
     /**
@@ -144,31 +179,39 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
     @Override
     public LineageResponse lineage(Scope scope, String guid, boolean includeProcesses) {
 
+        LineageResponse cachedResponse = lineageQueryCache.get(guid, scope, includeProcesses);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+        long cacheGeneration = lineageQueryCache.getGeneration();
+
         LineageResponse response = graphHelper.getResult(this::checkEntityExists, guid, this::handleGetQueriedVertexException);
         if (response != null) {
             return response;
         }
 
-        Optional<LineageVerticesAndEdges> lineageVerticesAndEdges = Optional.empty();
+        Optional<LineageResult> lineageResult = Optional.empty();
 
         switch (scope) {
             case END_TO_END:
-                lineageVerticesAndEdges = endToEnd(guid, includeProcesses);
+                lineageResult = endToEndLineage(guid, includeProcesses);
                 break;
             case ULTIMATE_SOURCE:
-                lineageVerticesAndEdges = ultimateSource(guid);
+                lineageResult = ultimateSourceLineage(guid);
                 break;
             case ULTIMATE_DESTINATION:
-                lineageVerticesAndEdges = ultimateDestination(guid);
+                lineageResult = ultimateDestinationLineage(guid);
                 break;
             case VERTICAL:
-                lineageVerticesAndEdges = verticalLineage(guid);
+                lineageResult = verticalLineage(guid).map(LineageResult::new);
                 break;
         }
-        if (lineageVerticesAndEdges.isEmpty()) {
+        if (lineageResult.isEmpty()) {
             return getLineageResponse(guid, ERROR_LINEAGE_NOT_FOUND);
         }
-        return new LineageResponse(lineageVerticesAndEdges.orElse(null));
+        LineageResponse lineageResponse = lineageResult.get().getLineageResponse();
+        lineageQueryCache.put(guid, scope, includeProcesses, lineageResponse, lineageResult.get().vertexGuids, cacheGeneration);
+        return lineageResponse;
     }
 
     private LineageResponse checkEntityExists(GraphTraversalSource g, String guid) {
@@ -202,6 +245,10 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      * @return graph in an Open Lineage specific format
      */
     public Optional<LineageVerticesAndEdges> endToEnd(String guid, boolean includeProcesses) {
+        return endToEndLineage(guid, includeProcesses).map(lineageResult -> lineageResult.lineageVerticesAndEdges);
+    }
+
+    private Optional<LineageResult> endToEndLineage(String guid, boolean includeProcesses) {
 
         Vertex queriedVertex = this.graphHelper.getResult(this::getQueriedVertex, guid, this::handleGetQueriedVertexException);
         String label = queriedVertex.label();
@@ -212,32 +259,95 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
         }
         List<String> edgeLabels = edgeLabelsOptional.get();
 
-        Graph endToEndGraph = this.graphHelper.getResult(this::queryEndToEnd, guid, edgeLabels, this::handleLineageNotFoundException);
+        Map<String, Object> endToEnd = this.graphHelper.getResult(this::queryEndToEnd, guid, edgeLabels, this::handleLineageNotFoundException);
+        if (endToEnd == null) {
+            return Optional.empty();
+        }
+        Graph endToEndGraph = (Graph) endToEnd.get(SUB_GRAPH);
         if (endToEndGraph == null || !endToEndGraph.vertices().hasNext()) {
             return Optional.empty();
         }
 
+        Set<String> vertexGuids = getVertexGuids(endToEndGraph);
+        boolean vertexLimitReached = limitVertices(endToEndGraph, guid);
+
         LineageVerticesAndEdges lineageVerticesAndEdges = this.lineageGraphQueryHelper.getLineageVerticesAndEdges(endToEndGraph, includeProcesses);
         addIncompleteClassifications(lineageVerticesAndEdges);
         this.lineageGraphQueryHelper.addColumnProperties(lineageVerticesAndEdges);
-        return Optional.of(lineageVerticesAndEdges);
+        return Optional.of(new LineageResult(lineageVerticesAndEdges, vertexGuids,
+                CollectionUtils.isNotEmpty((Collection<?>) endToEnd.get(DEPTH_LIMIT)), vertexLimitReached));
     }
 
     /**
-     * Queries graph for end to end
+     * Queries graph for end to end. The traversal stops after maxDepth edges in each direction; the vertices where
+     * it stopped with edges still to follow are collected under {@link org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants#DEPTH_LIMIT}
      *
      * @param guid       queried entity
      * @param edgeLabels edge type to traverse
-     * @return graph
+     * @return the subgraph and the vertices where the depth limit was reached
      */
-    private Graph queryEndToEnd(GraphTraversalSource g, String guid, List<String> edgeLabels) {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> queryEndToEnd(GraphTraversalSource g, String guid, List<String> edgeLabels) {
         String[] labels = edgeLabels.toArray(new String[0]);
-        return (Graph) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
-                union(until(inE(labels).count().is(0)).
-                                repeat((Traversal) inE(labels).subgraph(SUB_GRAPH).outV().simplePath().dedup()),
-                        until(outE(labels).count().is(0)).
-                                repeat((Traversal) outE(labels).subgraph(SUB_GRAPH).inV().simplePath().dedup())
-                ).cap(SUB_GRAPH).next();
+        return (Map<String, Object>) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
+                union(until(or(inE(labels).count().is(0), loops().is(gte(maxDepth)))).
+                                repeat((Traversal) inE(labels).subgraph(SUB_GRAPH).outV().simplePath().dedup()).
+                                filter(inE(labels)).aggregate(local, DEPTH_LIMIT),
+                        until(or(outE(labels).count().is(0), loops().is(gte(maxDepth)))).
+                                repeat((Traversal) outE(labels).subgraph(SUB_GRAPH).inV().simplePath().dedup()).
+                                filter(outE(labels)).aggregate(local, DEPTH_LIMIT)
+                ).cap(SUB_GRAPH, DEPTH_LIMIT).next();
+    }
+
+    /**
+     * Returns the guids of all the vertices in a subgraph.
+     *
+     * @param subGraph the subgraph
+     * @return set of guids
+     */
+    private Set<String> getVertexGuids(Graph subGraph) {
+        Set<String> vertexGuids = new HashSet<>();
+        subGraph.vertices().forEachRemaining(vertex -> {
+            VertexProperty<String> guidProperty = vertex.property(PROPERTY_KEY_ENTITY_GUID);
+            if (guidProperty.isPresent()) {
+                vertexGuids.add(guidProperty.value());
+            }
+        });
+        return vertexGuids;
+    }
+
+    /**
+     * Removes vertices from the subgraph until it holds no more than maxVertices. The vertices closest to the queried
+     * entity are kept.
+     *
+     * @param subGraph the subgraph
+     * @param guid     queried entity
+     * @return true if vertices were removed
+     */
+    private boolean limitVertices(Graph subGraph, String guid) {
+        List<Vertex> vertices = new ArrayList<>();
+        subGraph.vertices().forEachRemaining(vertices::add);
+        if (vertices.size() <= maxVertices) {
+            return false;
+        }
+
+        Deque<Vertex> queue = new ArrayDeque<>();
+        vertices.stream().filter(vertex -> guid.equals(vertex.property(PROPERTY_KEY_ENTITY_GUID).orElse(null)))
+                .findFirst().ifPresent(queue::add);
+
+        Set<Object> keptIds = new HashSet<>();
+        while (!queue.isEmpty() && keptIds.size() < maxVertices) {
+            Vertex vertex = queue.poll();
+            if (keptIds.add(vertex.id())) {
+                vertex.vertices(Direction.BOTH).forEachRemaining(queue::add);
+            }
+        }
+        if (keptIds.isEmpty()) {
+            return false;
+        }
+
+        vertices.stream().filter(vertex -> !keptIds.contains(vertex.id())).forEach(Vertex::remove);
+        return true;
     }
 
     private void handleLineageNotFoundException(Exception e, String guid, List<String> edgeLabels) {
@@ -263,6 +373,10 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      * @return graph in an Open Lineage specific format
      */
     public Optional<LineageVerticesAndEdges> ultimateSource(String guid) {
+        return ultimateSourceLineage(guid).map(lineageResult -> lineageResult.lineageVerticesAndEdges);
+    }
+
+    private Optional<LineageResult> ultimateSourceLineage(String guid) {
 
         Vertex queriedVertex = this.graphHelper.getResult(this::getQueriedVertex, guid, this::handleGetQueriedVertexException);
         String label = queriedVertex.label();
@@ -273,25 +387,28 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
             return Optional.empty();
         }
         List<String> edgeLabels = edgeLabelsOptional.get();
-        List<Vertex> sourcesList = this.graphHelper.getResult(this::querySources, guid, edgeLabels, this::handleLineageNotFoundException);
-        Set<LineageVertex> lineageVertices = this.lineageGraphQueryHelper.getLineageVertices(sourcesList);
-        return Optional.of(getCondensedLineage(queriedVertex, lineageVertices, SOURCE_CONDENSATION));
+        Map<String, Object> sources = this.graphHelper.getResult(this::querySources, guid, edgeLabels, this::handleLineageNotFoundException);
+        return Optional.of(getCondensedLineageResult(queriedVertex, sources, SOURCE_CONDENSATION));
     }
 
     /**
-     * Query graph for sources
+     * Query graph for sources. At most maxVertices + 1 sources are retrieved, so the caller can tell whether the
+     * vertex limit was reached.
      *
      * @param guid       entity
      * @param edgeLabels edge type to traverse
-     * @return sources
+     * @return sources, guids of the visited vertices and the sources where the depth limit was reached
      */
-    private List<Vertex> querySources(GraphTraversalSource g, String guid, List<String> edgeLabels) {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> querySources(GraphTraversalSource g, String guid, List<String> edgeLabels) {
         String[] labels = edgeLabels.toArray(new String[0]);
-        List<Vertex> sourceList = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
-                until(inE(labels).count().is(0)).
-                repeat(inE(labels).outV().simplePath().dedup()).
-                dedup().toList();
-        return sourceList;
+        return (Map<String, Object>) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
+                until(or(inE(labels).count().is(0), loops().is(gte(maxDepth)))).
+                repeat(inE(labels).outV().simplePath().dedup().
+                        sideEffect(values(PROPERTY_KEY_ENTITY_GUID).aggregate(local, VISITED_VERTICES))).
+                dedup().limit(maxVertices + 1L).aggregate(ULTIMATE_VERTICES).
+                filter(inE(labels)).aggregate(DEPTH_LIMIT).
+                cap(ULTIMATE_VERTICES, VISITED_VERTICES, DEPTH_LIMIT).next();
     }
 
     /**
@@ -304,6 +421,10 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
      * @return graph in an Open Lineage specific format
      */
     public Optional<LineageVerticesAndEdges> ultimateDestination(String guid) {
+        return ultimateDestinationLineage(guid).map(lineageResult -> lineageResult.lineageVerticesAndEdges);
+    }
+
+    private Optional<LineageResult> ultimateDestinationLineage(String guid) {
         Vertex queriedVertex = graphHelper.getResult(this::getQueriedVertex, guid, this::handleGetQueriedVertexException);
         String label = queriedVertex.label();
         Optional<List<String>> edgeLabelsOptional = getEdgeLabelsForDataFlow(label);
@@ -311,27 +432,58 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
             return Optional.empty();
         }
         List<String> edgeLabels = edgeLabelsOptional.get();
-        List<Vertex> destinationsList = graphHelper.getResult(this::queryDestinations, guid, edgeLabels, this::handleLineageNotFoundException);
-        Set<LineageVertex> lineageVertices = this.lineageGraphQueryHelper.getLineageVertices(destinationsList);
-        return Optional.of(getCondensedLineage(queriedVertex, lineageVertices, DESTINATION_CONDENSATION));
+        Map<String, Object> destinations = graphHelper.getResult(this::queryDestinations, guid, edgeLabels, this::handleLineageNotFoundException);
+        return Optional.of(getCondensedLineageResult(queriedVertex, destinations, DESTINATION_CONDENSATION));
 
     }
 
     /**
-     * Query graph for destinations
+     * Query graph for destinations. At most maxVertices + 1 destinations are retrieved, so the caller can tell
+     * whether the vertex limit was reached.
      *
      * @param guid       entity
      * @param edgeLabels edge type to traverse
-     * @return sources
+     * @return destinations, guids of the visited vertices and the destinations where the depth limit was reached
      */
-    private List<Vertex> queryDestinations(GraphTraversalSource g, String guid, List<String> edgeLabels) {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> queryDestinations(GraphTraversalSource g, String guid, List<String> edgeLabels) {
         String[] labels = edgeLabels.toArray(new String[0]);
-        List<Vertex> destinationList = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
-                until(outE(labels).count().is(0)).
-                repeat(outE(labels).inV().simplePath().dedup()).
-                dedup().toList();
+        return (Map<String, Object>) g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).
+                until(or(outE(labels).count().is(0), loops().is(gte(maxDepth)))).
+                repeat(outE(labels).inV().simplePath().dedup().
+                        sideEffect(values(PROPERTY_KEY_ENTITY_GUID).aggregate(local, VISITED_VERTICES))).
+                dedup().limit(maxVertices + 1L).aggregate(ULTIMATE_VERTICES).
+                filter(outE(labels)).aggregate(DEPTH_LIMIT).
+                cap(ULTIMATE_VERTICES, VISITED_VERTICES, DEPTH_LIMIT).next();
+    }
 
-        return destinationList;
+    /**
+     * Builds the condensed lineage from the result of {@link #querySources} or {@link #queryDestinations}.
+     *
+     * @param queriedVertex    the starting vertex
+     * @param ultimateVertices result of the query, null if the query failed
+     * @param condensationType the type of the condensation
+     * @return the condensed lineage and whether it was truncated
+     */
+    @SuppressWarnings("unchecked")
+    private LineageResult getCondensedLineageResult(Vertex queriedVertex, Map<String, Object> ultimateVertices,
+                                                    String condensationType) {
+        List<Vertex> vertices = new ArrayList<>();
+        Set<String> vertexGuids = new HashSet<>();
+        boolean depthLimitReached = false;
+        if (ultimateVertices != null) {
+            vertices.addAll((Collection<Vertex>) ultimateVertices.get(ULTIMATE_VERTICES));
+            vertexGuids.addAll((Collection<String>) ultimateVertices.get(VISITED_VERTICES));
+            depthLimitReached = CollectionUtils.isNotEmpty((Collection<?>) ultimateVertices.get(DEPTH_LIMIT));
+        }
+        boolean vertexLimitReached = vertices.size() > maxVertices;
+        if (vertexLimitReached) {
+            vertices = vertices.subList(0, maxVertices);
+        }
+
+        Set<LineageVertex> lineageVertices = new HashSet<>(this.lineageGraphQueryHelper.getLineageVertices(vertices));
+        LineageVerticesAndEdges lineageVerticesAndEdges = getCondensedLineage(queriedVertex, lineageVertices, condensationType);
+        return new LineageResult(lineageVerticesAndEdges, vertexGuids, depthLimitReached, vertexLimitReached);
     }
 
     /**
@@ -634,8 +786,9 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
         if (CollectionUtils.isEmpty(hierarchyEdgeLabels)) {
             return new LineageVerticesAndEdges();
         }
-        Graph hierarchyGraph = this.graphHelper.getResult(this::queryEndToEnd, elementHierarchyRequest.getGuid(), hierarchyEdgeLabels,
+        Map<String, Object> hierarchy = this.graphHelper.getResult(this::queryEndToEnd, elementHierarchyRequest.getGuid(), hierarchyEdgeLabels,
                 this::handleLineageNotFoundException);
+        Graph hierarchyGraph = hierarchy == null ? null : (Graph) hierarchy.get(SUB_GRAPH);
         if (hierarchyGraph == null || !hierarchyGraph.vertices().hasNext()) {
             return new LineageVerticesAndEdges();
         }
@@ -813,4 +966,35 @@ public class LineageGraphQueryService implements OpenLineageQueryService {
     private void handleGetElementHierarchyException(Exception e, ElementHierarchyRequest elementHierarchyRequest) {
         auditLog.logException(HIERARCHY_ERROR.getFormattedErrorMessage(), SEARCH_ERROR.getMessageDefinition(elementHierarchyRequest.toString()), e);
     }
+
+    /**
+     * A computed lineage, the guids of the vertices visited to compute it and whether it was truncated.
+     */
+    private static class LineageResult {
+        private final LineageVerticesAndEdges lineageVerticesAndEdges;
+        private final Set<String> vertexGuids;
+        private final boolean depthLimitReached;
+        private final boolean vertexLimitReached;
+
+        LineageResult(LineageVerticesAndEdges lineageVerticesAndEdges) {
+            this(lineageVerticesAndEdges, new HashSet<>(), false, false);
+        }
+
+        LineageResult(LineageVerticesAndEdges lineageVerticesAndEdges, Set<String> vertexGuids,
+                      boolean depthLimitReached, boolean vertexLimitReached) {
+            this.lineageVerticesAndEdges = lineageVerticesAndEdges;
+            this.vertexGuids = vertexGuids;
+            this.depthLimitReached = depthLimitReached;
+            this.vertexLimitReached = vertexLimitReached;
+            lineageVerticesAndEdges.getLineageVertices().stream().map(LineageVertex::getGuid)
+                    .filter(StringUtils::isNotEmpty).forEach(vertexGuids::add);
+        }
+
+        LineageResponse getLineageResponse() {
+            LineageResponse lineageResponse = new LineageResponse(lineageVerticesAndEdges);
+            lineageResponse.setDepthLimitReached(depthLimitReached);
+            lineageResponse.setVertexLimitReached(vertexLimitReached);
+            return lineageResponse;
+        }
+    }
 }
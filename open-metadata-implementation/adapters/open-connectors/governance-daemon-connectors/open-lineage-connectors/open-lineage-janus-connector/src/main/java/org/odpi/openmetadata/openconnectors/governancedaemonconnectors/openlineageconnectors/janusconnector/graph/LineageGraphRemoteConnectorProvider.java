@@ -68,6 +68,10 @@ public class LineageGraphRemoteConnectorProvider extends LineageGraphProviderBas
         recognizedPropertyNames.add(CLUSTER_TRUST_STORE);
         recognizedPropertyNames.add(CLUSTER_TRUST_STORE_PASSWORD);
         recognizedPropertyNames.add(SCHEMA_MANAGEMENT_ENABLE);
+        recognizedPropertyNames.add(LineageGraphConnector.LINEAGE_MAX_DEPTH);
+        recognizedPropertyNames.add(LineageGraphConnector.LINEAGE_MAX_VERTICES);
+        recognizedPropertyNames.add(LineageGraphConnector.LINEAGE_CACHE_SIZE);
+        recognizedPropertyNames.add(LineageGraphConnector.LINEAGE_BATCH_SIZE);
 
 
         connectorType.setRecognizedConfigurationProperties(recognizedPropertyNames);
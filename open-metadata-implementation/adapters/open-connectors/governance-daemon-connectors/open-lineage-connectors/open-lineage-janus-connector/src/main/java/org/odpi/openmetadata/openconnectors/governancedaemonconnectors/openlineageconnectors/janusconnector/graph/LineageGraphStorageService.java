@@ -22,21 +22,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.apache.tinkerpop.gremlin.process.traversal.P.within;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addE;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addV;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inV;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outV;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.unfold;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.COULD_NOT_RETRIEVE_LAST_UPDATE_TIME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.COULD_NOT_SAVE_LAST_UPDATE_TIME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.DELETE_CLASSIFICATION_EXCEPTION;
@@ -46,6 +50,7 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.ERROR_REMOVING_OBSOLETE_EDGES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.FAILED_TO_UPDATE_CLASSIFICATION_WITH_GUID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.GET_ALL_NEIGHBOURS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.LINEAGE_INGEST_STATISTICS;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.PROPERTIES_UPDATE_EXCEPTION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.UNABLE_TO_ADD_PROPERTIES_ON_EDGE_FROM_RELATIONSHIP_WITH_TYPE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.VERTICES_AND_RELATIONSHIP_CREATION_EXCEPTION;
@@ -75,30 +80,91 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PREFIX_ELEMENT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PREFIX_INSTANCE_PROPERTY;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_RELATIONSHIP_GUID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.VARIABLE_NAME_ASSET_LINEAGE_CHANGE_CURSOR;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.VARIABLE_NAME_ASSET_LINEAGE_LAST_UPDATE_TIME;
 
 public class LineageGraphStorageService implements LineageGraph {
 
     private static final Logger log = LoggerFactory.getLogger(LineageGraphStorageService.class);
 
+    /**
+     * Default maximum number of relationships written in a single transaction.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /*
+     * Minimum time between two reports of the ingest throughput in the audit log.
+     */
+    private static final long INGEST_REPORT_INTERVAL = 60000L;
+
     private LineageGraphQueryService helper;
     private GraphHelper graphHelper;
     private AuditLog auditLog;
+    private LineageQueryCache lineageQueryCache;
+    private int batchSize;
+
+    private long ingestedRelationships = 0;
+    private long ingestedEntities = 0;
+    private long ingestTransactions = 0;
+    private long lastIngestReport = System.currentTimeMillis();
 
     public LineageGraphStorageService(GraphHelper graphHelper, AuditLog auditLog) {
+        this(graphHelper, auditLog, new LineageQueryCache(0));
+    }
+
+    /**
+     * Create a storage service that invalidates the cached lineage of the vertices it writes to.
+     *
+     * @param graphHelper       access to the graph
+     * @param auditLog          audit log
+     * @param lineageQueryCache cache of computed lineage, shared with the query service
+     */
+    public LineageGraphStorageService(GraphHelper graphHelper, AuditLog auditLog, LineageQueryCache lineageQueryCache) {
+        this(graphHelper, auditLog, lineageQueryCache, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a storage service that writes up to batchSize relationships in each transaction.
+     *
+     * @param graphHelper       access to the graph
+     * @param auditLog          audit log
+     * @param lineageQueryCache cache of computed lineage, shared with the query service
+     * @param batchSize         maximum number of relationships or classifications written in a single transaction
+     */
+    public LineageGraphStorageService(GraphHelper graphHelper, AuditLog auditLog, LineageQueryCache lineageQueryCache,
+                                      int batchSize) {
         this.graphHelper = graphHelper;
         this.auditLog = auditLog;
+        this.lineageQueryCache = lineageQueryCache;
+        this.batchSize = Math.max(batchSize, 1);
         this.helper = new LineageGraphQueryService(graphHelper, auditLog);
     }
 
     /**
-     * Creates vertices and the relationships between them
+     * Creates vertices and the relationships between them. The whole context is written in a single transaction
+     * (or one transaction per batchSize relationships) and the vertices of all the relationships are resolved with
+     * one lookup per transaction.
      *
      * @param graphContext - graph Collection that contains vertices and edges to be stored
      */
     @Override
     public void storeToGraph(Set<GraphContext> graphContext) {
-        graphContext.stream().map(this::getGraphRelationship).forEach(this::storeRelationship);
+        long start = System.currentTimeMillis();
+        List<GraphRelationship> relationships = graphContext.stream().map(this::getGraphRelationship).collect(Collectors.toList());
+        BiConsumer<GraphTraversalSource, List<GraphRelationship>> upsertToGraph = this::upsertToGraph;
+        int transactions;
+        try {
+            transactions = commitInBatches(upsertToGraph, relationships, this::handleStoreRelationshipError);
+        } finally {
+            invalidateCachedLineage(graphContext);
+        }
+
+        long entities = relationships.stream()
+                .flatMap(relationship -> Stream.of(relationship.getFromEntity().getGuid(), relationship.getToEntity().getGuid()))
+                .distinct().count();
+        recordIngest(relationships.size(), entities, transactions);
+        log.debug("Stored {} relationships in {} transactions taking {} ms", relationships.size(), transactions,
+                System.currentTimeMillis() - start);
     }
 
     private GraphRelationship getGraphRelationship(GraphContext entry) {
@@ -107,9 +173,93 @@ public class LineageGraphStorageService implements LineageGraph {
         return new GraphRelationship(fromEntity, toEntity, entry.getRelationshipType(), entry.getRelationshipGuid());
     }
 
-    private void storeRelationship(GraphRelationship relationship) {
-        BiConsumer<GraphTraversalSource, GraphRelationship> upsertToGraph = this::upsertToGraph;
-        graphHelper.commit(upsertToGraph, relationship, this::handleStoreRelationshipError);
+    /**
+     * Commits the elements in transactions of at most batchSize elements. When a batch fails, its elements are
+     * committed again one at a time so that a bad element only loses itself. Every batch is attempted and the error
+     * handler is called for each element that fails on its own; the first exception it throws is rethrown at the end.
+     *
+     * @param consumer     writes one batch of elements
+     * @param elements     elements to write
+     * @param errorHandler handler called when an element fails
+     * @param <T>          type of the elements
+     * @return number of transactions
+     */
+    private <T> int commitInBatches(BiConsumer<GraphTraversalSource, List<T>> consumer, List<T> elements,
+                                    Consumer<Exception> errorHandler) {
+        int transactions = 0;
+        RuntimeException firstError = null;
+        for (int start = 0; start < elements.size(); start += batchSize) {
+            List<T> batch = elements.subList(start, Math.min(start + batchSize, elements.size()));
+            List<Exception> batchErrors = new ArrayList<>();
+            graphHelper.commit(consumer, batch, batchErrors::add);
+            transactions++;
+            if (batchErrors.isEmpty()) {
+                continue;
+            }
+            if (batch.size() == 1) {
+                firstError = handleElementError(errorHandler, batchErrors.get(0), firstError);
+                continue;
+            }
+            log.debug("Batch of {} elements failed, committing them one at a time", batch.size(), batchErrors.get(0));
+            for (T element : batch) {
+                List<Exception> elementErrors = new ArrayList<>();
+                graphHelper.commit(consumer, List.of(element), elementErrors::add);
+                transactions++;
+                if (!elementErrors.isEmpty()) {
+                    firstError = handleElementError(errorHandler, elementErrors.get(0), firstError);
+                }
+            }
+        }
+        if (firstError != null) {
+            throw firstError;
+        }
+        return transactions;
+    }
+
+    /**
+     * Passes the failure of an element to the error handler and keeps the first exception that the handlers throw.
+     *
+     * @param errorHandler handler called when an element fails
+     * @param error        failure of the element
+     * @param firstError   first exception thrown by the error handler so far
+     * @return the first exception thrown by the error handler
+     */
+    private RuntimeException handleElementError(Consumer<Exception> errorHandler, Exception error, RuntimeException firstError) {
+        try {
+            errorHandler.accept(error);
+        } catch (RuntimeException e) {
+            return firstError == null ? e : firstError;
+        }
+        return firstError;
+    }
+
+    /**
+     * Adds the counts of a storeToGraph call to the ingest statistics, and reports the throughput in the audit log
+     * once the report interval has passed.
+     *
+     * @param relationships number of relationships stored
+     * @param entities      number of distinct entities at the ends of the relationships
+     * @param transactions  number of transactions committed
+     */
+    private synchronized void recordIngest(long relationships, long entities, long transactions) {
+        ingestedRelationships += relationships;
+        ingestedEntities += entities;
+        ingestTransactions += transactions;
+
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastIngestReport;
+        if (elapsed < INGEST_REPORT_INTERVAL) {
+            return;
+        }
+        if (auditLog != null) {
+            auditLog.logMessage("storeToGraph", LINEAGE_INGEST_STATISTICS.getMessageDefinition(
+                    Long.toString(ingestedRelationships), Long.toString(ingestedEntities), Long.toString(ingestTransactions),
+                    Long.toString(elapsed), Long.toString(ingestedRelationships * 1000 / elapsed)));
+        }
+        ingestedRelationships = 0;
+        ingestedEntities = 0;
+        ingestTransactions = 0;
+        lastIngestReport = now;
     }
 
     private void handleStoreRelationshipError(Exception e) throws JanusConnectorException {
@@ -119,22 +269,64 @@ public class LineageGraphStorageService implements LineageGraph {
     }
 
     private void upsertToGraph(GraphTraversalSource g, GraphRelationship graphRelationship) {
-        Vertex to = addVertex(g, graphRelationship.getToEntity());
-        Vertex from = addVertex(g, graphRelationship.getFromEntity());
-        addEdge(g, graphRelationship.getRelationshipLabel(), graphRelationship.getRelationshipGuid(), to, from);
+        upsertToGraph(g, List.of(graphRelationship));
     }
 
-    private Vertex addVertex(GraphTraversalSource g, LineageEntity toEntity) {
-        Map<String, Object> toEntityProperties = getProperties(toEntity);
-        GraphTraversal<Object, Vertex> objectVertexGraphTraversal = addV(toEntity.getTypeDefName());
-        objectVertexGraphTraversal.property(PROPERTY_KEY_ENTITY_GUID, toEntity.getGuid());
-        for (Map.Entry<String, Object> propertiesEntry : toEntityProperties.entrySet()) {
-            objectVertexGraphTraversal.property(propertiesEntry.getKey(), propertiesEntry.getValue());
+    /**
+     * Upserts the vertices and edges of a batch of relationships. The entities are coalesced by guid, keeping the
+     * latest version, so an entity shared by several relationships is looked up and created only once.
+     *
+     * @param g                  graph traversal source of the current transaction
+     * @param graphRelationships relationships to store
+     */
+    private void upsertToGraph(GraphTraversalSource g, List<GraphRelationship> graphRelationships) {
+        Map<String, LineageEntity> entities = new LinkedHashMap<>();
+        for (GraphRelationship graphRelationship : graphRelationships) {
+            coalesceEntity(entities, graphRelationship.getFromEntity());
+            coalesceEntity(entities, graphRelationship.getToEntity());
+        }
+
+        Map<String, Vertex> vertices = getVertices(g, entities.keySet());
+        entities.values().stream()
+                .filter(entity -> !vertices.containsKey(entity.getGuid()))
+                .forEach(entity -> vertices.put(entity.getGuid(), addVertex(g, entity)));
+
+        for (GraphRelationship graphRelationship : graphRelationships) {
+            addEdge(g, graphRelationship.getRelationshipLabel(), graphRelationship.getRelationshipGuid(),
+                    vertices.get(graphRelationship.getToEntity().getGuid()), vertices.get(graphRelationship.getFromEntity().getGuid()));
         }
-        return g.V().has(PROPERTY_KEY_ENTITY_GUID, toEntity.getGuid())
-                .fold()
-                .coalesce(unfold(), objectVertexGraphTraversal)
-                .next();
+    }
+
+    private void coalesceEntity(Map<String, LineageEntity> entities, LineageEntity entity) {
+        entities.merge(entity.getGuid(), entity, (stored, received) -> received.getVersion() >= stored.getVersion() ? received : stored);
+    }
+
+    /**
+     * Looks up the vertices of the given entities with a single traversal.
+     *
+     * @param g     graph traversal source
+     * @param guids guids of the entities
+     * @return the existing vertices mapped by entity guid
+     */
+    private Map<String, Vertex> getVertices(GraphTraversalSource g, Collection<String> guids) {
+        Map<String, Vertex> vertices = new HashMap<>();
+        if (guids.isEmpty()) {
+            return vertices;
+        }
+        List<Vertex> matchingVertices = g.V().has(PROPERTY_KEY_ENTITY_GUID, within(guids)).toList();
+        for (Vertex vertex : matchingVertices) {
+            vertices.putIfAbsent(vertex.value(PROPERTY_KEY_ENTITY_GUID), vertex);
+        }
+        return vertices;
+    }
+
+    private Vertex addVertex(GraphTraversalSource g, LineageEntity entity) {
+        GraphTraversal<Vertex, Vertex> vertexTraversal = g.addV(entity.getTypeDefName())
+                .property(PROPERTY_KEY_ENTITY_GUID, entity.getGuid());
+        for (Map.Entry<String, Object> propertiesEntry : getProperties(entity).entrySet()) {
+            vertexTraversal.property(propertiesEntry.getKey(), propertiesEntry.getValue());
+        }
+        return vertexTraversal.next();
     }
 
     private void addEdge(GraphTraversalSource g, String relationshipLabel, String relationshipGuid, Vertex to, Vertex from) {
@@ -171,6 +363,8 @@ public class LineageGraphStorageService implements LineageGraph {
                 this.graphHelper.getResult(this::getAllNeighbours, syncUpdateContext.getEntityGUID(), this::handleErrorGetAllNeighbours);
         if (isDifferentGraphContext(syncUpdateContext.getNeighboursGUID(), existingNeighboursGUIDs)) {
             this.graphHelper.commit(this::removeObsoleteEdges, syncUpdateContext, existingNeighboursGUIDs, this::handleErrorRemoveObsoleteEdges);
+            lineageQueryCache.invalidate(Stream.concat(Stream.of(syncUpdateContext.getEntityGUID()), existingNeighboursGUIDs.stream())
+                    .collect(Collectors.toSet()));
         }
     }
 
@@ -229,7 +423,7 @@ public class LineageGraphStorageService implements LineageGraph {
     @Override
     public void updateEntity(LineageEntity lineageEntity) {
         this.graphHelper.commit(this::updateEntityInGraph, lineageEntity, this::handleUpdateEntityError);
-
+        lineageQueryCache.invalidate(Set.of(lineageEntity.getGuid()));
     }
 
     private void updateEntityInGraph(GraphTraversalSource g, LineageEntity entity) {
@@ -284,6 +478,7 @@ public class LineageGraphStorageService implements LineageGraph {
 
         BiConsumer<GraphTraversalSource, LineageRelationship> addOrUpdatePropertiesEdge = this::addOrUpdatePropertiesEdge;
         graphHelper.commit(addOrUpdatePropertiesEdge, lineageRelationship, this::handlePropertiesEdgeException);
+        invalidateCachedLineage(lineageRelationship);
     }
 
     /**
@@ -334,6 +529,7 @@ public class LineageGraphStorageService implements LineageGraph {
     public void updateRelationship(LineageRelationship lineageRelationship) {
         BiConsumer<GraphTraversalSource, LineageRelationship> updateEdgeIfItExists = this::updateEdgeIfItExists;
         this.graphHelper.commit(updateEdgeIfItExists, lineageRelationship, this::handlePropertiesEdgeException);
+        invalidateCachedLineage(lineageRelationship);
     }
 
     private void updateEdgeIfItExists(GraphTraversalSource g, LineageRelationship lineageRelationship) {
@@ -352,7 +548,14 @@ public class LineageGraphStorageService implements LineageGraph {
      */
     @Override
     public void updateClassification(Set<GraphContext> classificationContext) {
-        classificationContext.forEach(context -> this.graphHelper.commit(this::updateClassification, context, this::handleUpdateClassificationException));
+        Map<String, GraphContext> latestClassifications = new LinkedHashMap<>();
+        classificationContext.forEach(context -> latestClassifications.merge(context.getToVertex().getGuid(), context,
+                (stored, received) -> received.getToVertex().getVersion() >= stored.getToVertex().getVersion() ? received : stored));
+
+        BiConsumer<GraphTraversalSource, List<GraphContext>> updateClassifications =
+                (g, contexts) -> contexts.forEach(context -> updateClassification(g, context));
+        commitInBatches(updateClassifications, new ArrayList<>(latestClassifications.values()), this::handleUpdateClassificationException);
+        invalidateCachedLineage(classificationContext);
     }
 
     private void updateClassification(GraphTraversalSource g, GraphContext graphContext) {
@@ -384,8 +587,10 @@ public class LineageGraphStorageService implements LineageGraph {
      */
     @Override
     public void deleteClassification(Set<GraphContext> classificationContext) {
-        BiConsumer<GraphTraversalSource, GraphContext> deleteClassification = this::deleteClassification;
-        classificationContext.forEach(classification -> graphHelper.commit(deleteClassification, classification, this::handleDeleteClassificationException));
+        BiConsumer<GraphTraversalSource, List<GraphContext>> deleteClassifications =
+                (g, contexts) -> contexts.forEach(context -> deleteClassification(g, context));
+        commitInBatches(deleteClassifications, new ArrayList<>(classificationContext), this::handleDeleteClassificationException);
+        invalidateCachedLineage(classificationContext);
     }
 
     private void deleteClassification(GraphTraversalSource g, GraphContext context) {
@@ -419,16 +624,20 @@ public class LineageGraphStorageService implements LineageGraph {
 
     @Override
     public void deleteRelationship(String guid) {
+        List<String> endVertexGuids = new ArrayList<>();
         BiConsumer<GraphTraversalSource, String> deleteRelationship = (g, edgeGuid) -> {
             Iterator<Edge> edge = g.E().has(PROPERTY_KEY_RELATIONSHIP_GUID, edgeGuid);
             if (!edge.hasNext()) {
                 log.debug(EDGE_WITH_GUID_DID_NOT_DELETE, edgeGuid);
                 return;
             }
-            g.E(edge.next().id()).drop().iterate();
+            Object edgeId = edge.next().id();
+            endVertexGuids.addAll(g.E(edgeId).bothV().<String>values(PROPERTY_KEY_ENTITY_GUID).toList());
+            g.E(edgeId).drop().iterate();
             log.debug(EDGE_WITH_GUID_DELETED, edgeGuid);
         };
         graphHelper.commit(deleteRelationship, guid, this::handleDeleteRelationshipException);
+        lineageQueryCache.invalidate(endVertexGuids);
     }
 
     private void handleDeleteRelationshipException(Exception e) {
@@ -445,6 +654,7 @@ public class LineageGraphStorageService implements LineageGraph {
          * */
         BiConsumer<GraphTraversalSource, String> deleteEntity = this::deleteEntity;
         this.graphHelper.commit(deleteEntity, guid, this::handleDeleteEntityException);
+        lineageQueryCache.invalidate(Set.of(guid));
         log.debug(VERTEX_WITH_GUID_DELETED, guid);
     }
 
@@ -464,6 +674,29 @@ public class LineageGraphStorageService implements LineageGraph {
         throw new JanusConnectorException(this.getClass().getName(), "deleteEntity", DELETE_ENTITY_EXCEPTION);
     }
 
+    /**
+     * Removes the cached lineage that includes either end of the relationships.
+     *
+     * @param graphContext relationships that have been written
+     */
+    private void invalidateCachedLineage(Collection<GraphContext> graphContext) {
+        lineageQueryCache.invalidate(graphContext.stream()
+                .flatMap(context -> Stream.of(context.getFromVertex(), context.getToVertex()))
+                .map(LineageEntity::getGuid)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Removes the cached lineage that includes either end of the relationship.
+     *
+     * @param lineageRelationship relationship that has been written
+     */
+    private void invalidateCachedLineage(LineageRelationship lineageRelationship) {
+        lineageQueryCache.invalidate(Stream.of(lineageRelationship.getSourceEntity(), lineageRelationship.getTargetEntity())
+                .map(LineageEntity::getGuid)
+                .collect(Collectors.toSet()));
+    }
+
     @Override
     public void saveAssetLineageUpdateTime(Long lastUpdateTime) {
         BiConsumer<GraphTraversalSource, Long> saveUpdateTime = this::saveUpdateTime;
@@ -477,16 +710,38 @@ public class LineageGraphStorageService implements LineageGraph {
     }
 
     private void saveUpdateTime(GraphTraversalSource g, Long updateTime) {
+        saveLineageVariable(g, VARIABLE_NAME_ASSET_LINEAGE_LAST_UPDATE_TIME, updateTime);
+    }
+
+    private void saveLineageVariable(GraphTraversalSource g, String variableName, Object value) {
         GraphTraversal<Vertex, Vertex> lineageVariables = g.V().has(PROPERTY_KEY_LABEL, ASSET_LINEAGE_VARIABLES);
         if (!lineageVariables.hasNext()) {
             g.addV(ASSET_LINEAGE_VARIABLES)
                     .property(PROPERTY_KEY_LABEL, ASSET_LINEAGE_VARIABLES)
-                    .property(VARIABLE_NAME_ASSET_LINEAGE_LAST_UPDATE_TIME, updateTime).next();
+                    .property(variableName, value).next();
         } else {
-            g.V(lineageVariables.next().id()).property(VARIABLE_NAME_ASSET_LINEAGE_LAST_UPDATE_TIME, updateTime).next();
+            g.V(lineageVariables.next().id()).property(variableName, value).next();
         }
     }
 
+    @Override
+    public void saveAssetLineageChangeCursor(String cursor) {
+        BiConsumer<GraphTraversalSource, String> saveChangeCursor =
+                (g, changeCursor) -> saveLineageVariable(g, VARIABLE_NAME_ASSET_LINEAGE_CHANGE_CURSOR, changeCursor);
+        graphHelper.commit(saveChangeCursor, cursor, this::handleSaveAssetLineageUpdateTimeException);
+    }
+
+    @Override
+    public Optional<String> getAssetLineageChangeCursor() {
+        Function<GraphTraversalSource, Optional<String>> getChangeCursor = g -> {
+            GraphTraversal<Vertex, String> changeCursor = g.V().has(PROPERTY_KEY_LABEL, ASSET_LINEAGE_VARIABLES)
+                    .values(VARIABLE_NAME_ASSET_LINEAGE_CHANGE_CURSOR);
+            return changeCursor.hasNext() ? Optional.of(changeCursor.next()) : Optional.empty();
+        };
+        Optional<String> cursor = graphHelper.getResult(getChangeCursor, this::handleRetrievingError);
+        return cursor == null ? Optional.empty() : cursor;
+    }
+
     @Override
     public Optional<Long> getAssetLineageUpdateTime() {
         Function<GraphTraversalSource, Optional<Long>> getUpdateTime = this::getUpdateTime;
@@ -0,0 +1,156 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Least recently used cache of the lineage computed by the {@link LineageGraphQueryService}. Each entry is keyed by
+ * the queried guid, the scope and the includeProcesses flag and remembers the guids of every vertex visited while
+ * computing it. The {@link LineageGraphStorageService} invalidates the entries that contain any vertex touched by a
+ * write, so a cached lineage is never older than the graph it was computed from.
+ */
+public class LineageQueryCache {
+
+    private final int maxEntries;
+    private final Map<List<Object>, CachedLineage> entries;
+
+    /*
+     * Incremented on every invalidation. A query remembers the value before it reads the graph and its result is
+     * only cached if no write happened in the meantime.
+     */
+    private long generation = 0;
+
+    /**
+     * Create a lineage cache.
+     *
+     * @param maxEntries maximum number of lineage results to hold, 0 disables the cache
+     */
+    public LineageQueryCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedLineage> eldest) {
+                return size() > LineageQueryCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Return whether results are cached.
+     *
+     * @return false if the cache has been configured with no entries
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Return the current generation of the cache, to be passed to {@link #put} once the lineage has been computed.
+     *
+     * @return generation counter
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Return a new response holding a previously computed lineage, or null if it is not cached.
+     *
+     * @param guid             queried entity
+     * @param scope            scope of the lineage
+     * @param includeProcesses include processes
+     * @return response or null
+     */
+    public synchronized LineageResponse get(String guid, Scope scope, boolean includeProcesses) {
+        CachedLineage cachedLineage = entries.get(getKey(guid, scope, includeProcesses));
+        if (cachedLineage == null) {
+            return null;
+        }
+
+        LineageResponse lineageResponse = new LineageResponse(cachedLineage.lineageResponse.getLineageVerticesAndEdges());
+        lineageResponse.setDepthLimitReached(cachedLineage.lineageResponse.isDepthLimitReached());
+        lineageResponse.setVertexLimitReached(cachedLineage.lineageResponse.isVertexLimitReached());
+        return lineageResponse;
+    }
+
+    /**
+     * Save a computed lineage. It is discarded if the graph has been written to since the generation was read.
+     *
+     * @param guid             queried entity
+     * @param scope            scope of the lineage
+     * @param includeProcesses include processes
+     * @param lineageResponse  computed lineage
+     * @param vertexGuids      guids of the vertices visited while computing the lineage
+     * @param queryGeneration  value of {@link #getGeneration()} before the graph was read
+     */
+    public synchronized void put(String guid, Scope scope, boolean includeProcesses, LineageResponse lineageResponse,
+                                 Set<String> vertexGuids, long queryGeneration) {
+        if (!isEnabled() || queryGeneration != generation) {
+            return;
+        }
+        vertexGuids.add(guid);
+        entries.put(getKey(guid, scope, includeProcesses), new CachedLineage(lineageResponse, vertexGuids));
+    }
+
+    /**
+     * Remove every cached lineage that visited one of the supplied vertices.
+     *
+     * @param vertexGuids guids of the vertices that have been written to
+     */
+    public synchronized void invalidate(Collection<String> vertexGuids) {
+        generation++;
+        if (entries.isEmpty()) {
+            return;
+        }
+        Iterator<CachedLineage> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Set<String> cachedGuids = iterator.next().vertexGuids;
+            if (vertexGuids.stream().anyMatch(cachedGuids::contains)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove every cached lineage. Used when a write can not tell which vertices it affects.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Return the number of lineage results in the cache.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private List<Object> getKey(String guid, Scope scope, boolean includeProcesses) {
+        return Arrays.asList(guid, scope, includeProcesses);
+    }
+
+    private static class CachedLineage {
+        private final LineageResponse lineageResponse;
+        private final Set<String> vertexGuids;
+
+        CachedLineage(LineageResponse lineageResponse, Set<String> vertexGuids) {
+            this.lineageResponse = lineageResponse;
+            this.vertexGuids = vertexGuids;
+        }
+    }
+}
@@ -152,7 +152,12 @@ public enum JanusConnectorErrorCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.ERROR,
             "Could not execute hierarchy request {0}",
             "Retrieving the element hierarchy produced an error",
-            "Check the input and try again");
+            "Check the input and try again"),
+    LINEAGE_INGEST_STATISTICS("OPEN-LINEAGE-SERVICES-040",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Stored {0} relationships between {1} entities in {2} transactions during the last {3} ms ({4} relationships per second)",
+            "The lineage graph has stored the lineage events received since the last report.",
+            "No action is required. If the throughput is low, consider increasing the lineageBatchSize configuration property.");
 
     private static final Logger log = LoggerFactory.getLogger(JanusConnectorErrorCode.class);
     private final String errorMessageId;
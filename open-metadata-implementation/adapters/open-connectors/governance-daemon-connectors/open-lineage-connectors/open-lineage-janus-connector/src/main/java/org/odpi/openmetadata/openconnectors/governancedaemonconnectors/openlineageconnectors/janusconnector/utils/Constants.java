@@ -101,6 +101,9 @@ public final class Constants {
     public static final String COLUMN_SPACE_DELIMITER = ": ";
     public static final List<String> EMBEDDED_PROPERTIES = Arrays.asList(PROPERTY_KEY_ADDITIONAL_PROPERTIES, PROPERTY_KEY_EXTENDED_PROPERTIES);
     public static final String SUB_GRAPH = "subGraph";
+    public static final String ULTIMATE_VERTICES = "ultimateVertices";
+    public static final String VISITED_VERTICES = "visitedVertices";
+    public static final String DEPTH_LIMIT = "depthLimit";
     public static final String GENERIC_QUERY_EXCEPTION = "Exception while querying for guid {}. Executed rollback.";
     public static final String S = "s";
     public static final String INCOMPLETE = "Incomplete";
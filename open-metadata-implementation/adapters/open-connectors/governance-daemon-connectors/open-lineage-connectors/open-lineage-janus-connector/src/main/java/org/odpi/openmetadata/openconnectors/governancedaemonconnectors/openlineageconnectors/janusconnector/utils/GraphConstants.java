@@ -59,6 +59,7 @@ public class GraphConstants {
     public static final String PROPERTY_NAME_PROCESS_LINEAGE_COMPLETED_FLAG = "processLineageCompletedFlag";
 
     public static final String VARIABLE_NAME_ASSET_LINEAGE_LAST_UPDATE_TIME = "assetLineageLastUpdateTimestamp";
+    public static final String VARIABLE_NAME_ASSET_LINEAGE_CHANGE_CURSOR = "assetLineageChangeCursor";
 
     public static final String CONDENSED_NODE_DISPLAY_NAME = "...";
     public static final String SOURCE_CONDENSATION = "source";
@@ -0,0 +1,110 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.lineagegraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.assetlineage.model.GraphContext;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageEntity;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.GraphHelper;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphStorageService;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageQueryCache;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_COLUMN;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_COLUMN_DATA_FLOW;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_GUID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_VERSION;
+
+public class LineageGraphStorageServiceTest {
+
+    private static final String CONNECTOR_PROVIDER_NAME = "org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider";
+
+    private GraphHelper graphHelper;
+
+    @BeforeEach
+    public void beforeEach() throws JanusConnectorException, OpenLineageException {
+        graphHelper = new GraphHelper();
+        graphHelper.openGraph(CONNECTOR_PROVIDER_NAME, Collections.singletonMap("storage.backend", "inmemory"), null);
+    }
+
+    @Test
+    void storeToGraphCoalescesSharedEntities() {
+        LineageGraphStorageService storageService = new LineageGraphStorageService(graphHelper, null, new LineageQueryCache(0));
+
+        storageService.storeToGraph(Set.of(
+                getGraphContext("r1", getEntity("c1", 1), getEntity("c2", 1)),
+                getGraphContext("r2", getEntity("c2", 2), getEntity("c3", 1)),
+                getGraphContext("r3", getEntity("c1", 1), getEntity("c3", 1))));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(3, g.V().has(PROPERTY_KEY_ENTITY_GUID).count().next());
+        assertEquals(3, g.E().hasLabel(EDGE_LABEL_COLUMN_DATA_FLOW).count().next());
+        assertEquals(2L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "c2").values(PROPERTY_KEY_ENTITY_VERSION).next());
+    }
+
+    @Test
+    void storeToGraphInSeveralTransactions() {
+        LineageGraphStorageService storageService = new LineageGraphStorageService(graphHelper, null, new LineageQueryCache(0), 1);
+
+        storageService.storeToGraph(Set.of(
+                getGraphContext("r1", getEntity("c1", 1), getEntity("c2", 1)),
+                getGraphContext("r2", getEntity("c2", 1), getEntity("c3", 1))));
+        storageService.storeToGraph(Set.of(getGraphContext("r2", getEntity("c2", 1), getEntity("c3", 1))));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(3, g.V().has(PROPERTY_KEY_ENTITY_GUID).count().next());
+        assertEquals(2, g.E().hasLabel(EDGE_LABEL_COLUMN_DATA_FLOW).count().next());
+    }
+
+    @Test
+    void storeToGraphRetriesFailedBatchOneAtATime() {
+        LineageGraphStorageService storageService = new LineageGraphStorageService(graphHelper, mock(AuditLog.class), new LineageQueryCache(0));
+        LineageEntity badEntity = getEntity("bad", 1);
+        badEntity.setProperties(null);
+
+        assertThrows(JanusConnectorException.class, () -> storageService.storeToGraph(Set.of(
+                getGraphContext("r1", getEntity("c1", 1), getEntity("c2", 1)),
+                getGraphContext("r2", getEntity("c2", 1), badEntity),
+                getGraphContext("r3", getEntity("c3", 1), getEntity("c4", 1)))));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(4, g.V().has(PROPERTY_KEY_ENTITY_GUID).count().next());
+        assertEquals(0, g.V().has(PROPERTY_KEY_ENTITY_GUID, "bad").count().next());
+        assertEquals(2, g.E().hasLabel(EDGE_LABEL_COLUMN_DATA_FLOW).count().next());
+    }
+
+    @Test
+    void saveAssetLineageChangeCursor() {
+        LineageGraphStorageService storageService = new LineageGraphStorageService(graphHelper, null, new LineageQueryCache(0));
+
+        assertEquals(Optional.empty(), storageService.getAssetLineageChangeCursor());
+        storageService.saveAssetLineageChangeCursor("feed:1");
+        storageService.saveAssetLineageChangeCursor("feed:2");
+
+        assertEquals(Optional.of("feed:2"), storageService.getAssetLineageChangeCursor());
+    }
+
+    private GraphContext getGraphContext(String relationshipGuid, LineageEntity fromEntity, LineageEntity toEntity) {
+        return new GraphContext(EDGE_LABEL_COLUMN_DATA_FLOW, relationshipGuid, fromEntity, toEntity);
+    }
+
+    private LineageEntity getEntity(String guid, long version) {
+        LineageEntity entity = new LineageEntity();
+        entity.setGuid(guid);
+        entity.setVersion(version);
+        entity.setTypeDefName(TABULAR_COLUMN);
+        entity.setProperties(Collections.emptyMap());
+        return entity;
+    }
+}
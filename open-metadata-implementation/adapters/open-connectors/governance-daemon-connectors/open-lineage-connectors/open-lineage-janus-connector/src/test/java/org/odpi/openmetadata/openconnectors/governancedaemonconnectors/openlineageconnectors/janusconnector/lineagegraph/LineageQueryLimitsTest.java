@@ -0,0 +1,153 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.lineagegraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageEntity;
+import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.GraphHelper;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphQueryService;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphStorageService;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageQueryCache;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.TABULAR_COLUMN;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_COLUMN_DATA_FLOW;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_GUID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_INSTANCEPROP_DISPLAY_NAME;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_LABEL;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_VALUE_NODE_ID_CONDENSED_SOURCE;
+
+public class LineageQueryLimitsTest {
+
+    private static final String CONNECTOR_PROVIDER_NAME = "org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider";
+
+    static GraphHelper graphHelper;
+
+    @BeforeAll
+    public static void beforeClass() throws JanusConnectorException, OpenLineageException {
+        graphHelper = new GraphHelper();
+        graphHelper.openGraph(CONNECTOR_PROVIDER_NAME, Collections.singletonMap("storage.backend", "inmemory"), null);
+        addColumnLineageData(graphHelper.getGraphTraversalSource());
+    }
+
+    @Test
+    void endToEndDepthLimit() {
+        LineageGraphQueryService queryService = new LineageGraphQueryService(graphHelper, null, 1,
+                LineageGraphQueryService.DEFAULT_MAX_VERTICES, new LineageQueryCache(0));
+
+        LineageResponse response = queryService.lineage(Scope.END_TO_END, "d3", true);
+
+        assertEquals(Set.of("d2", "d3", "d4"), getNodeIDs(response));
+        assertTrue(response.isDepthLimitReached());
+        assertFalse(response.isVertexLimitReached());
+    }
+
+    @Test
+    void endToEndWithinLimits() {
+        LineageGraphQueryService queryService = new LineageGraphQueryService(graphHelper, null);
+
+        LineageResponse response = queryService.lineage(Scope.END_TO_END, "d3", true);
+
+        assertEquals(Set.of("d1a", "d1b", "d2", "d3", "d4", "d5"), getNodeIDs(response));
+        assertFalse(response.isDepthLimitReached());
+        assertFalse(response.isVertexLimitReached());
+    }
+
+    @Test
+    void endToEndVertexLimit() {
+        LineageGraphQueryService queryService = new LineageGraphQueryService(graphHelper, null,
+                LineageGraphQueryService.DEFAULT_MAX_DEPTH, 3, new LineageQueryCache(0));
+
+        LineageResponse response = queryService.lineage(Scope.END_TO_END, "d3", true);
+
+        assertEquals(Set.of("d2", "d3", "d4"), getNodeIDs(response));
+        assertFalse(response.isDepthLimitReached());
+        assertTrue(response.isVertexLimitReached());
+    }
+
+    @Test
+    void ultimateSourceVertexLimit() {
+        LineageGraphQueryService queryService = new LineageGraphQueryService(graphHelper, null,
+                LineageGraphQueryService.DEFAULT_MAX_DEPTH, 1, new LineageQueryCache(0));
+
+        LineageResponse response = queryService.lineage(Scope.ULTIMATE_SOURCE, "d5", true);
+
+        Set<String> nodeIDs = getNodeIDs(response);
+        assertEquals(3, nodeIDs.size());
+        assertTrue(nodeIDs.contains("d5"));
+        assertTrue(nodeIDs.contains(PROPERTY_VALUE_NODE_ID_CONDENSED_SOURCE));
+        assertTrue(response.isVertexLimitReached());
+    }
+
+    @Test
+    void cachedLineageInvalidatedByWrite() {
+        LineageQueryCache lineageQueryCache = new LineageQueryCache(10);
+        LineageGraphQueryService queryService = new LineageGraphQueryService(graphHelper, null,
+                LineageGraphQueryService.DEFAULT_MAX_DEPTH, LineageGraphQueryService.DEFAULT_MAX_VERTICES, lineageQueryCache);
+        LineageGraphStorageService storageService = new LineageGraphStorageService(graphHelper, null, lineageQueryCache);
+
+        LineageResponse first = queryService.lineage(Scope.ULTIMATE_SOURCE, "d5", true);
+        LineageResponse second = queryService.lineage(Scope.ULTIMATE_SOURCE, "d5", true);
+        assertSame(first.getLineageVerticesAndEdges(), second.getLineageVerticesAndEdges());
+        assertEquals(1, lineageQueryCache.size());
+
+        lineageQueryCache.invalidate(Set.of("unrelated"));
+        assertEquals(1, lineageQueryCache.size());
+
+        LineageEntity intermediateEntity = new LineageEntity();
+        intermediateEntity.setGuid("d3");
+        intermediateEntity.setTypeDefName(TABULAR_COLUMN);
+        intermediateEntity.setProperties(Collections.emptyMap());
+        storageService.updateEntity(intermediateEntity);
+        assertEquals(0, lineageQueryCache.size());
+
+        LineageResponse third = queryService.lineage(Scope.ULTIMATE_SOURCE, "d5", true);
+        assertNotSame(first.getLineageVerticesAndEdges(), third.getLineageVerticesAndEdges());
+        assertEquals(getNodeIDs(first), getNodeIDs(third));
+    }
+
+    private Set<String> getNodeIDs(LineageResponse response) {
+        return response.getLineageVerticesAndEdges().getLineageVertices().stream()
+                .map(LineageVertex::getNodeID).collect(Collectors.toSet());
+    }
+
+    private static void addColumnLineageData(GraphTraversalSource g) {
+        Vertex d1a = getVertex(g, "d1a");
+        Vertex d1b = getVertex(g, "d1b");
+        Vertex d2 = getVertex(g, "d2");
+        Vertex d3 = getVertex(g, "d3");
+        Vertex d4 = getVertex(g, "d4");
+        Vertex d5 = getVertex(g, "d5");
+
+        g.addE(EDGE_LABEL_COLUMN_DATA_FLOW).from(d1a).to(d2).next();
+        g.addE(EDGE_LABEL_COLUMN_DATA_FLOW).from(d1b).to(d2).next();
+        g.addE(EDGE_LABEL_COLUMN_DATA_FLOW).from(d2).to(d3).next();
+        g.addE(EDGE_LABEL_COLUMN_DATA_FLOW).from(d3).to(d4).next();
+        g.addE(EDGE_LABEL_COLUMN_DATA_FLOW).from(d4).to(d5).next();
+    }
+
+    private static Vertex getVertex(GraphTraversalSource g, String guid) {
+        return g.addV(TABULAR_COLUMN).property(PROPERTY_KEY_ENTITY_GUID, guid)
+                .property(PROPERTY_KEY_LABEL, TABULAR_COLUMN)
+                .property(PROPERTY_KEY_ENTITY_NODE_ID, guid)
+                .property(PROPERTY_KEY_INSTANCEPROP_DISPLAY_NAME, guid)
+                .next();
+    }
+}
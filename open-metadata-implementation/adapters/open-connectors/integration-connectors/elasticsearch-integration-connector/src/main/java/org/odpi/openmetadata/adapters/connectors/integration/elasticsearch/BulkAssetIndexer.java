@@ -0,0 +1,561 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * BulkAssetIndexer collects the assets that need to be indexed and sends them to Elasticsearch in batches through the
+ * bulk API.  The asset's unique identifier is the document id and the asset's version is passed as an external version,
+ * so sending the same asset twice, or an older version after a newer one, leaves the newest version in the index.
+ * A background thread sends a batch when it is full or when the oldest waiting asset has waited for the flush interval.
+ * Requests and individual documents that Elasticsearch rejects because it is busy are retried with an increasing backoff;
+ * if they still fail, the assets are kept and sent with the next batch.
+ */
+class BulkAssetIndexer {
+    private static final Logger log = LoggerFactory.getLogger(BulkAssetIndexer.class);
+
+    private static final int VERSION_CONFLICT = 409;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+
+    /**
+     * Receives the assets that could not be indexed.
+     */
+    interface FailureListener {
+        /**
+         * Elasticsearch rejected the asset and it will not be retried.
+         *
+         * @param assetGUID unique identifier of the asset
+         * @param reason description of the error from Elasticsearch
+         */
+        void assetNotIndexed(String assetGUID, String reason);
+
+        /**
+         * A batch could not be sent after all the retries.  The assets are kept for the next batch.
+         *
+         * @param error last error
+         */
+        void batchNotIndexed(Exception error);
+    }
+
+
+    /**
+     * An asset that is waiting to be indexed.
+     */
+    private static class PendingAsset {
+        private final Asset asset;
+        private final long version;
+        private final long changeTime;
+        private final long sequenceNumber;
+
+        PendingAsset(Asset asset, long version, long changeTime, long sequenceNumber) {
+            this.asset = asset;
+            this.version = version;
+            this.changeTime = changeTime;
+            this.sequenceNumber = sequenceNumber;
+        }
+    }
+
+
+    private final ElasticsearchClient client;
+    private final String indexName;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final FailureListener failureListener;
+
+    private final Object pendingLock = new Object();
+    private final Object sendLock = new Object();
+    private final Map<String, PendingAsset> pendingAssets = new LinkedHashMap<>();
+    private long nextSequenceNumber = 1;
+    private long oldestPendingTime = 0;
+
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong maxIndexingLag = new AtomicLong();
+
+    private volatile boolean running = false;
+    private Thread flusher = null;
+
+
+    /**
+     * Create the indexer.
+     *
+     * @param client Elasticsearch client
+     * @param indexName name of the index to store the assets in
+     * @param maxBatchSize maximum number of assets in a bulk request
+     * @param flushIntervalMillis maximum time an asset waits before it is sent
+     * @param maxRetries number of times a rejected request or document is retried before it is left for the next batch
+     * @param retryBackoffMillis wait before the first retry - it doubles on each retry
+     * @param failureListener receives the assets that could not be indexed
+     */
+    BulkAssetIndexer(ElasticsearchClient client,
+                     String indexName,
+                     int maxBatchSize,
+                     long flushIntervalMillis,
+                     int maxRetries,
+                     long retryBackoffMillis,
+                     FailureListener failureListener) {
+        this.client = client;
+        this.indexName = indexName;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.failureListener = failureListener;
+    }
+
+
+    /**
+     * Start the background thread that sends the batches.
+     */
+    void start() {
+        running = true;
+
+        flusher = new Thread(this::sendBatches, "BulkAssetIndexer-" + indexName);
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+
+    /**
+     * Add an asset to the next batch.  If the asset is already waiting, the version with the higher version number is kept.
+     *
+     * @param asset asset to index - it must have a unique identifier
+     * @param changeTime time that the change to the asset was made - used to measure the indexing lag
+     * @return sequence number of the asset - pass it to flush to wait for the asset to be indexed
+     */
+    long add(Asset asset, long changeTime) {
+        long version = 0;
+
+        if (asset.getVersions() != null) {
+            version = asset.getVersions().getVersion();
+        }
+
+        synchronized (pendingLock) {
+            long sequenceNumber = nextSequenceNumber++;
+            PendingAsset waitingAsset = pendingAssets.get(asset.getGUID());
+
+            if ((waitingAsset == null) || (waitingAsset.version <= version)) {
+                /*
+                 * Remove first so that the asset moves to the end of the queue.
+                 */
+                pendingAssets.remove(asset.getGUID());
+                pendingAssets.put(asset.getGUID(), new PendingAsset(asset, version, changeTime, sequenceNumber));
+            }
+
+            if (oldestPendingTime == 0) {
+                oldestPendingTime = System.currentTimeMillis();
+            }
+
+            if (pendingAssets.size() >= maxBatchSize) {
+                pendingLock.notifyAll();
+            }
+
+            return sequenceNumber;
+        }
+    }
+
+
+    /**
+     * Send the waiting assets to Elasticsearch.  The call returns once every asset added before it has been indexed
+     * or rejected.
+     *
+     * @throws IOException a batch could not be sent after all the retries - its assets are kept for the next batch
+     */
+    void flush() throws IOException {
+        long lastSequenceNumber;
+
+        synchronized (pendingLock) {
+            lastSequenceNumber = nextSequenceNumber - 1;
+        }
+
+        flush(lastSequenceNumber);
+    }
+
+
+    /**
+     * Send the waiting assets to Elasticsearch until every asset with a sequence number up to the requested one has been
+     * indexed or rejected.
+     *
+     * @param lastSequenceNumber sequence number returned by add
+     * @throws IOException a batch could not be sent after all the retries - its assets are kept for the next batch
+     */
+    void flush(long lastSequenceNumber) throws IOException {
+        synchronized (sendLock) {
+            List<PendingAsset> batch = this.nextBatch(lastSequenceNumber);
+
+            while (! batch.isEmpty()) {
+                this.sendBatch(batch);
+                batch = this.nextBatch(lastSequenceNumber);
+            }
+        }
+    }
+
+
+    /**
+     * Remove the next batch from the waiting assets if any of them were added on or before the requested sequence number.
+     *
+     * @param lastSequenceNumber sequence number of the last asset to send
+     * @return batch - empty if there are no more assets to send
+     */
+    private List<PendingAsset> nextBatch(long lastSequenceNumber) {
+        List<PendingAsset> batch = new ArrayList<>();
+
+        synchronized (pendingLock) {
+            boolean waiting = false;
+
+            for (PendingAsset pendingAsset : pendingAssets.values()) {
+                if (pendingAsset.sequenceNumber <= lastSequenceNumber) {
+                    waiting = true;
+                    break;
+                }
+            }
+
+            if (waiting) {
+                Iterator<PendingAsset> iterator = pendingAssets.values().iterator();
+
+                while ((iterator.hasNext()) && (batch.size() < maxBatchSize)) {
+                    batch.add(iterator.next());
+                    iterator.remove();
+                }
+            }
+
+            if (pendingAssets.isEmpty()) {
+                oldestPendingTime = 0;
+            }
+        }
+
+        return batch;
+    }
+
+
+    /**
+     * Send a batch with the bulk API and retry the assets that Elasticsearch is too busy to index.
+     *
+     * @param batch assets to send
+     * @throws IOException the batch could not be sent after all the retries - the remaining assets are added back
+     */
+    private void sendBatch(List<PendingAsset> batch) throws IOException {
+        List<PendingAsset> remainingAssets = batch;
+        Exception lastError = null;
+
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                this.waitBeforeRetry(attempt);
+            }
+
+            try {
+                remainingAssets = this.sendBulkRequest(remainingAssets);
+                lastError = null;
+            } catch (ElasticsearchException error) {
+                if (! isRetryable(error.status())) {
+                    for (PendingAsset pendingAsset : remainingAssets) {
+                        this.reportFailedAsset(pendingAsset.asset.getGUID(), error.getMessage());
+                    }
+
+                    return;
+                }
+
+                lastError = error;
+            } catch (IOException error) {
+                lastError = error;
+            }
+
+            if (remainingAssets.isEmpty()) {
+                return;
+            }
+
+            log.debug("{} assets are retried after attempt {}", remainingAssets.size(), attempt + 1);
+        }
+
+        this.requeue(remainingAssets);
+
+        IOException error = new IOException("Elasticsearch did not index " + remainingAssets.size() + " assets after " +
+                (maxRetries + 1) + " attempts", lastError);
+
+        if (failureListener != null) {
+            failureListener.batchNotIndexed(error);
+        }
+
+        throw error;
+    }
+
+
+    /**
+     * Send one bulk request.
+     *
+     * @param batch assets to send
+     * @return assets that Elasticsearch was too busy to index
+     * @throws IOException the request failed
+     */
+    private List<PendingAsset> sendBulkRequest(List<PendingAsset> batch) throws IOException {
+        BulkRequest.Builder request = new BulkRequest.Builder();
+
+        for (PendingAsset pendingAsset : batch) {
+            request.operations(operation -> operation.index(index -> {
+                index.index(indexName).id(pendingAsset.asset.getGUID()).document(pendingAsset.asset);
+
+                if (pendingAsset.version > 0) {
+                    index.version(pendingAsset.version).versionType(VersionType.External);
+                }
+
+                return index;
+            }));
+        }
+
+        BulkResponse response = client.bulk(request.build());
+        long acknowledgedTime = System.currentTimeMillis();
+        List<PendingAsset> rejectedAssets = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingAsset pendingAsset = batch.get(i);
+            BulkResponseItem item = (i < items.size()) ? items.get(i) : null;
+
+            if ((item == null) || (item.error() == null) || (item.status() == VERSION_CONFLICT)) {
+                /*
+                 * A version conflict means that this version, or a newer one, is already in the index.
+                 */
+                maxIndexingLag.accumulateAndGet(acknowledgedTime - pendingAsset.changeTime, Math::max);
+                indexedCount.incrementAndGet();
+            } else if (isRetryable(item.status())) {
+                rejectedAssets.add(pendingAsset);
+            } else {
+                this.reportFailedAsset(pendingAsset.asset.getGUID(), item.error().type() + ": " + item.error().reason());
+            }
+        }
+
+        return rejectedAssets;
+    }
+
+
+    /**
+     * Return whether an HTTP status from Elasticsearch means that the request may work if it is sent again.
+     *
+     * @param status HTTP status
+     * @return boolean flag
+     */
+    private static boolean isRetryable(int status) {
+        return (status == TOO_MANY_REQUESTS) || (status >= SERVER_ERROR);
+    }
+
+
+    /**
+     * Wait before retrying a request.  The wait doubles with each attempt.
+     *
+     * @param attempt number of the retry
+     * @throws IOException the thread was interrupted
+     */
+    private void waitBeforeRetry(int attempt) throws IOException {
+        try {
+            Thread.sleep(retryBackoffMillis << Math.min(attempt - 1, 16));
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to retry the bulk request", error);
+        }
+    }
+
+
+    /**
+     * Put the assets from a failed batch back in the queue unless a newer version has been added in the meantime.
+     *
+     * @param assets assets to add back
+     */
+    private void requeue(List<PendingAsset> assets) {
+        synchronized (pendingLock) {
+            for (PendingAsset pendingAsset : assets) {
+                pendingAssets.putIfAbsent(pendingAsset.asset.getGUID(), pendingAsset);
+            }
+
+            if (oldestPendingTime == 0) {
+                oldestPendingTime = System.currentTimeMillis();
+            }
+        }
+    }
+
+
+    /**
+     * Count and report an asset that Elasticsearch would not index.
+     *
+     * @param assetGUID unique identifier of the asset
+     * @param reason error from Elasticsearch
+     */
+    private void reportFailedAsset(String assetGUID, String reason) {
+        failedCount.incrementAndGet();
+
+        if (failureListener != null) {
+            failureListener.assetNotIndexed(assetGUID, reason);
+        }
+    }
+
+
+    /**
+     * Body of the background thread.  It sends a batch when the batch is full or the oldest asset has waited for the flush interval.
+     */
+    private void sendBatches() {
+        while (running) {
+            try {
+                synchronized (pendingLock) {
+                    long waitTime = this.getWaitTime();
+
+                    while ((running) && (waitTime > 0)) {
+                        pendingLock.wait(waitTime);
+                        waitTime = this.getWaitTime();
+                    }
+                }
+
+                if (running) {
+                    this.flush();
+                }
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException error) {
+                /*
+                 * Already reported to the failure listener.  The assets are sent again after the next flush interval.
+                 */
+                log.debug("Bulk request failed", error);
+
+                synchronized (pendingLock) {
+                    oldestPendingTime = System.currentTimeMillis();
+                }
+            } catch (Exception error) {
+                log.error("Unexpected exception sending assets to Elasticsearch", error);
+
+                if (failureListener != null) {
+                    failureListener.batchNotIndexed(error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return how long the background thread should wait before sending the next batch.  The caller holds the pending lock.
+     *
+     * @return milliseconds to wait - zero or less to send now
+     */
+    private long getWaitTime() {
+        if (pendingAssets.isEmpty()) {
+            return flushIntervalMillis;
+        }
+
+        if (pendingAssets.size() >= maxBatchSize) {
+            return 0;
+        }
+
+        return oldestPendingTime + flushIntervalMillis - System.currentTimeMillis();
+    }
+
+
+    /**
+     * Return the number of assets indexed since the statistics were last reset.
+     *
+     * @return count
+     */
+    long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+
+    /**
+     * Return the number of assets that Elasticsearch rejected since the statistics were last reset.
+     *
+     * @return count
+     */
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+
+    /**
+     * Return the number of assets waiting to be indexed.
+     *
+     * @return count
+     */
+    int getPendingCount() {
+        synchronized (pendingLock) {
+            return pendingAssets.size();
+        }
+    }
+
+
+    /**
+     * Return the indexing lag: the longest time between a change to an asset and its acknowledgement by Elasticsearch
+     * since the statistics were last reset.  If assets have been waiting longer than this, the wait of the oldest
+     * waiting asset is returned instead.
+     *
+     * @return lag in milliseconds
+     */
+    long getIndexingLag() {
+        long indexingLag = maxIndexingLag.get();
+
+        synchronized (pendingLock) {
+            long now = System.currentTimeMillis();
+
+            for (PendingAsset pendingAsset : pendingAssets.values()) {
+                indexingLag = Math.max(indexingLag, now - pendingAsset.changeTime);
+            }
+        }
+
+        return indexingLag;
+    }
+
+
+    /**
+     * Reset the indexed and failed counts and the indexing lag.
+     */
+    void resetStatistics() {
+        indexedCount.set(0);
+        failedCount.set(0);
+        maxIndexingLag.set(0);
+    }
+
+
+    /**
+     * Stop the background thread and send the waiting assets.
+     *
+     * @throws IOException the waiting assets could not be sent
+     */
+    void close() throws IOException {
+        running = false;
+
+        if (flusher != null) {
+            synchronized (pendingLock) {
+                pendingLock.notifyAll();
+            }
+
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+
+            flusher = null;
+        }
+
+        this.flush();
+    }
+}
@@ -8,21 +8,27 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.http.HttpHost;
 import org.elasticsearch.client.RestClient;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.Elements;
 import org.odpi.openmetadata.adapters.connectors.integration.elasticsearch.ffdc.ElasticsearchIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementVersions;
 import org.odpi.openmetadata.integrationservices.search.connector.SearchIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.search.connector.SearchIntegratorContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -30,19 +36,37 @@ import static org.odpi.openmetadata.adapters.connectors.integration.elasticsearc
 
 
 /**
- * ElasticsearchIntegrationConnector provides common methods for the connector in this module.
+ * ElasticsearchIntegrationConnector indexes the assets from the Asset Catalog OMAS events in Elasticsearch.
+ * The assets are sent in batches with the bulk API, using the asset's unique identifier as the document id,
+ * and the connector can reindex all of the assets from the Asset Catalog OMAS.
  */
 public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector {
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchIntegrationConnector.class);
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
-    private static final String INDEX_NAME = "indexName";
+    private static final String INDEX_NAME = ElasticsearchIntegrationProvider.INDEX_NAME_CONFIGURATION_PROPERTY;
     private static final String ASSETS_INDEX_NAME = "assets";
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_MAX_RETRIES = 5;
+    private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 200;
+    private static final int DEFAULT_REINDEX_PAGE_SIZE = 500;
+    private static final String CHECKPOINT_FILE_SUFFIX = "-reindex.checkpoint";
 
     private String targetRootURL = null;
     private String targetRootProtocol = null;
     private SearchIntegratorContext myContext = null;
     private ElasticsearchClient client;
     private String indexName = "test";
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+    private boolean reindexRequested = false;
+    private int reindexPageSize = DEFAULT_REINDEX_PAGE_SIZE;
+    private String reindexCheckpointFileName = null;
+
+    private BulkAssetIndexer indexer = null;
+    private ResumableAssetReindexer reindexer = null;
+    private volatile boolean stopping = false;
 
     /**
      * Initialize the connector.
@@ -64,8 +88,63 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
 
         Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
-        String configuredIndexName = (String) configurationProperties.get(INDEX_NAME);
-        this.indexName = Objects.requireNonNullElse(configuredIndexName, ASSETS_INDEX_NAME);
+        if (configurationProperties != null) {
+            String configuredIndexName = (String) configurationProperties.get(INDEX_NAME);
+            this.indexName = Objects.requireNonNullElse(configuredIndexName, ASSETS_INDEX_NAME);
+
+            maxBatchSize = (int) getPositiveLongProperty(configurationProperties,
+                    ElasticsearchIntegrationProvider.MAX_BATCH_SIZE_CONFIGURATION_PROPERTY, DEFAULT_MAX_BATCH_SIZE);
+            flushIntervalMillis = getPositiveLongProperty(configurationProperties,
+                    ElasticsearchIntegrationProvider.FLUSH_INTERVAL_CONFIGURATION_PROPERTY, DEFAULT_FLUSH_INTERVAL_MILLIS);
+            maxRetries = (int) getPositiveLongProperty(configurationProperties,
+                    ElasticsearchIntegrationProvider.MAX_RETRIES_CONFIGURATION_PROPERTY, DEFAULT_MAX_RETRIES);
+            retryBackoffMillis = getPositiveLongProperty(configurationProperties,
+                    ElasticsearchIntegrationProvider.RETRY_BACKOFF_CONFIGURATION_PROPERTY, DEFAULT_RETRY_BACKOFF_MILLIS);
+            reindexPageSize = (int) getPositiveLongProperty(configurationProperties,
+                    ElasticsearchIntegrationProvider.REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY, DEFAULT_REINDEX_PAGE_SIZE);
+
+            Object fullReindex = configurationProperties.get(ElasticsearchIntegrationProvider.FULL_REINDEX_CONFIGURATION_PROPERTY);
+            reindexRequested = (fullReindex != null) && Boolean.parseBoolean(fullReindex.toString());
+
+            Object checkpointFileName = configurationProperties.get(ElasticsearchIntegrationProvider.REINDEX_CHECKPOINT_FILE_CONFIGURATION_PROPERTY);
+            if (checkpointFileName != null) {
+                reindexCheckpointFileName = checkpointFileName.toString();
+            }
+        } else {
+            this.indexName = ASSETS_INDEX_NAME;
+        }
+
+        if (reindexCheckpointFileName == null) {
+            reindexCheckpointFileName = indexName + CHECKPOINT_FILE_SUFFIX;
+        }
+    }
+
+
+    /**
+     * Return the value of a configuration property that must be a positive number.  The default is returned if the
+     * property is not set or is not valid.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private long getPositiveLongProperty(Map<String, Object> configurationProperties, String propertyName, long defaultValue) {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null) {
+            try {
+                long value = Long.parseLong(propertyValue.toString());
+
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException error) {
+                log.debug("ignoring invalid value {} for {}", propertyValue, propertyName);
+            }
+        }
+
+        return defaultValue;
     }
 
 
@@ -85,35 +164,211 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
 
         myContext = super.getContext();
 
+        indexer = new BulkAssetIndexer(client,
+                indexName,
+                maxBatchSize,
+                flushIntervalMillis,
+                maxRetries,
+                retryBackoffMillis,
+                new IndexingFailureListener());
+        indexer.start();
+
+        reindexer = new ResumableAssetReindexer(indexer, this::getAssets, new File(reindexCheckpointFileName), reindexPageSize);
+
+        if (auditLog != null) {
+            auditLog.logMessage(methodName,
+                    ElasticsearchIntegrationConnectorAuditCode.INDEXER_CONFIGURATION.getMessageDefinition(connectorName,
+                            indexName,
+                            Integer.toString(maxBatchSize),
+                            Long.toString(flushIntervalMillis)));
+        }
     }
 
     /**
-     * <p>
+     * Reindex all of the assets if a reindex was requested in the configuration or an earlier reindex did not complete.
+     * Then report how many assets have been indexed and the indexing lag.  The assets from the Asset Catalog OMAS
+     * events are indexed as they arrive.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
     @Override
     public synchronized void refresh() throws ConnectorCheckedException {
         final String methodName = "refresh";
+
+        if ((reindexer != null) && ((reindexRequested) || (reindexer.isInProgress()))) {
+            this.reindex(methodName);
+        }
+
+        if (indexer != null) {
+            long indexedCount = indexer.getIndexedCount();
+            long failedCount = indexer.getFailedCount();
+            int pendingCount = indexer.getPendingCount();
+
+            if ((auditLog != null) && ((indexedCount > 0) || (failedCount > 0) || (pendingCount > 0))) {
+                auditLog.logMessage(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.INDEXING_STATISTICS.getMessageDefinition(connectorName,
+                                Long.toString(indexedCount),
+                                indexName,
+                                Long.toString(failedCount),
+                                Integer.toString(pendingCount),
+                                Long.toString(indexer.getIndexingLag())));
+            }
+
+            indexer.resetStatistics();
+        }
+    }
+
+
+    /**
+     * Copy all of the assets from the Asset Catalog OMAS into the index, starting from the saved position of an
+     * earlier reindex if there is one.  If the reindex fails, its position is kept for the next refresh.
+     *
+     * @param methodName calling method
+     */
+    private void reindex(String methodName) {
+        int startFrom = 0;
+
+        try {
+            startFrom = reindexer.getStartFrom();
+
+            if (auditLog != null) {
+                auditLog.logMessage(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.REINDEX_STARTING.getMessageDefinition(connectorName,
+                                indexName,
+                                Integer.toString(startFrom),
+                                reindexCheckpointFileName));
+            }
+
+            long assetCount = reindexer.reindex(() -> !stopping);
+
+            if (! reindexer.isInProgress()) {
+                reindexRequested = false;
+
+                if (auditLog != null) {
+                    auditLog.logMessage(methodName,
+                            ElasticsearchIntegrationConnectorAuditCode.REINDEX_COMPLETE.getMessageDefinition(connectorName,
+                                    indexName,
+                                    Long.toString(assetCount)));
+                }
+            }
+        } catch (Exception error) {
+            try {
+                startFrom = reindexer.getStartFrom();
+            } catch (IOException checkpointError) {
+                log.debug("unable to read the reindex checkpoint", checkpointError);
+            }
+
+            if (auditLog != null) {
+                auditLog.logException(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.REINDEX_INTERRUPTED.getMessageDefinition(connectorName,
+                                indexName,
+                                Integer.toString(startFrom),
+                                error.getClass().getName(),
+                                error.getMessage()),
+                        error);
+            }
+        }
     }
 
 
     /**
-     * Shutdown monitoring
+     * Retrieve a page of assets from the Asset Catalog OMAS for the reindex.
+     *
+     * @param startFrom index of the first asset
+     * @param pageSize maximum number of assets
+     * @return assets
+     * @throws InvalidParameterException the request is not valid
+     * @throws PropertyServerException there is a problem in the Asset Catalog OMAS
+     */
+    private List<Asset> getAssets(int startFrom, int pageSize) throws InvalidParameterException, PropertyServerException {
+        List<Elements> elements = myContext.getAssets(startFrom, pageSize);
+        List<Asset> assets = new ArrayList<>();
+
+        for (Elements element : elements) {
+            assets.add(this.getAsset(element));
+        }
+
+        return assets;
+    }
+
+
+    /**
+     * Convert an asset returned by the Asset Catalog OMAS REST API into the asset bean used in the Asset Catalog OMAS events
+     * so that both produce the same document in the index.
+     *
+     * @param element asset from the Asset Catalog OMAS
+     * @return asset bean
+     */
+    private Asset getAsset(Elements element) {
+        Asset asset = new Asset();
+
+        asset.setGUID(element.getGuid());
+
+        if (element.getType() != null) {
+            ElementType elementType = new ElementType();
+            elementType.setTypeName(element.getType().getName());
+            elementType.setTypeDescription(element.getType().getDescription());
+            asset.setType(elementType);
+        }
+
+        ElementVersions versions = new ElementVersions();
+        versions.setCreatedBy(element.getCreatedBy());
+        versions.setCreateTime(element.getCreateTime());
+        versions.setUpdatedBy(element.getUpdatedBy());
+        versions.setUpdateTime(element.getUpdateTime());
+        if (element.getVersion() != null) {
+            versions.setVersion(element.getVersion());
+        }
+        asset.setVersions(versions);
+
+        Map<String, String> properties = element.getProperties();
+
+        if (properties != null) {
+            asset.setQualifiedName(properties.get("qualifiedName"));
+            asset.setDisplayName(properties.containsKey("displayName") ? properties.get("displayName") : properties.get("name"));
+            asset.setDisplayDescription(properties.get("description"));
+        }
+
+        asset.setAdditionalProperties(element.getAdditionalProperties());
+
+        return asset;
+    }
+
+
+    /**
+     * Stop the reindex, send the waiting assets and shutdown monitoring.
      *
      * @throws ConnectorCheckedException something failed in the super class
      */
     @Override
-    public synchronized void disconnect() throws ConnectorCheckedException {
+    public void disconnect() throws ConnectorCheckedException {
         final String methodName = "disconnect";
 
-        log.debug("disconnecting");
-        if (auditLog != null) {
-            auditLog.logMessage(methodName,
-                    ElasticsearchIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName));
-        }
+        stopping = true;
+
+        synchronized (this) {
+            log.debug("disconnecting");
+            if (auditLog != null) {
+                auditLog.logMessage(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName));
+            }
+
+            if (indexer != null) {
+                try {
+                    indexer.close();
+                } catch (IOException ioException) {
+                    if (auditLog != null) {
+                        auditLog.logException(methodName,
+                                ElasticsearchIntegrationConnectorAuditCode.IO_EXCEPTION.getMessageDefinition(connectorName),
+                                ioException);
+                    }
+                }
+
+                indexer = null;
+            }
 
-        super.disconnect();
+            super.disconnect();
+        }
     }
 
     public void initializeElasticSearchClient(String callingMethodName) throws ConnectorCheckedException {
@@ -134,7 +389,8 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
     }
 
     /**
-     * Save the events received from asset catalog to the Elasticsearch service
+     * Save the events received from asset catalog to the Elasticsearch service.  The asset is added to the next
+     * bulk request.
      *
      * @param assetCatalogEvent the event which contains the asset
      */
@@ -147,14 +403,70 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
         if (asset.getGUID() == null) {
             return;
         }
+
+        BulkAssetIndexer currentIndexer = indexer;
+        if (currentIndexer == null) {
+            log.debug("ignoring asset {} because the connector is not started", asset.getGUID());
+            return;
+        }
+
         log.debug("saving to elasticsearch {}", asset);
-        try {
-            String jsonAsset = OBJECT_WRITER.writeValueAsString(asset);
-            client.index(s-> s.index(jsonAsset).index(indexName).id(asset.getGUID()));
+        currentIndexer.add(asset, getChangeTime(asset));
+    }
+
+
+    /**
+     * Return the time that the asset was last changed, or now if the asset does not say.
+     *
+     * @param asset asset from the event
+     * @return time in milliseconds
+     */
+    private static long getChangeTime(Asset asset) {
+        ElementVersions versions = asset.getVersions();
+
+        if (versions != null) {
+            if (versions.getUpdateTime() != null) {
+                return versions.getUpdateTime().getTime();
+            }
+            if (versions.getCreateTime() != null) {
+                return versions.getCreateTime().getTime();
+            }
+        }
+
+        return System.currentTimeMillis();
+    }
+
+
+    /**
+     * Writes the assets that could not be indexed to the audit log.
+     */
+    private class IndexingFailureListener implements BulkAssetIndexer.FailureListener {
+
+        @Override
+        public void assetNotIndexed(String assetGUID, String reason) {
+            final String methodName = "assetNotIndexed";
+
+            if (auditLog != null) {
+                auditLog.logMessage(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.ASSET_NOT_INDEXED.getMessageDefinition(connectorName,
+                                assetGUID,
+                                indexName,
+                                reason));
+            }
+        }
+
+        @Override
+        public void batchNotIndexed(Exception error) {
+            final String methodName = "batchNotIndexed";
 
-        } catch (IOException ioException) {
-            String actionDescription = "The client could not write to the Elasticsearch cluster";
-            auditLog.logException(actionDescription, ElasticsearchIntegrationConnectorAuditCode.IO_EXCEPTION.getMessageDefinition(), ioException);
+            if (auditLog != null) {
+                auditLog.logException(methodName,
+                        ElasticsearchIntegrationConnectorAuditCode.BATCH_NOT_INDEXED.getMessageDefinition(connectorName,
+                                indexName,
+                                error.getClass().getName(),
+                                error.getMessage()),
+                        error);
+            }
         }
     }
 }
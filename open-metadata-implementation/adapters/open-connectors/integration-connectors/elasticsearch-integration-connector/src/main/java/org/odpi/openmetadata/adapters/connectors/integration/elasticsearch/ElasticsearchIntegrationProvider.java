@@ -21,6 +21,14 @@ public class ElasticsearchIntegrationProvider extends ConnectorProviderBase
     private static final String connectorTypeDescription   = "Connector used to connect to a Elasticsearch instance and store metadata for search operations";
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
+    static final String INDEX_NAME_CONFIGURATION_PROPERTY              = "indexName";
+    static final String MAX_BATCH_SIZE_CONFIGURATION_PROPERTY          = "maxBatchSize";
+    static final String FLUSH_INTERVAL_CONFIGURATION_PROPERTY          = "flushIntervalMillis";
+    static final String MAX_RETRIES_CONFIGURATION_PROPERTY             = "maxRetries";
+    static final String RETRY_BACKOFF_CONFIGURATION_PROPERTY           = "retryBackoffMillis";
+    static final String FULL_REINDEX_CONFIGURATION_PROPERTY            = "fullReindex";
+    static final String REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY       = "reindexPageSize";
+    static final String REINDEX_CHECKPOINT_FILE_CONFIGURATION_PROPERTY = "reindexCheckpointFile";
 
 
     /**
@@ -43,6 +51,14 @@ public class ElasticsearchIntegrationProvider extends ConnectorProviderBase
 
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(INDEX_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_BATCH_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FLUSH_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_RETRIES_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(RETRY_BACKOFF_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FULL_REINDEX_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REINDEX_PAGE_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REINDEX_CHECKPOINT_FILE_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
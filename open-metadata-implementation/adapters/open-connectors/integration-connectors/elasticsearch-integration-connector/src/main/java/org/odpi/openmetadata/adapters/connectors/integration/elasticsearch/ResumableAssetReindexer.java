@@ -0,0 +1,158 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * ResumableAssetReindexer copies every asset into the index, one page at a time.  After each page has been indexed,
+ * the position of the next page is saved in a checkpoint file.  If the reindex is stopped, or a page can not be
+ * retrieved or indexed, the next reindex starts from the checkpoint rather than from the first asset.
+ * The checkpoint file is deleted when the reindex is complete.
+ */
+class ResumableAssetReindexer {
+
+    /**
+     * Source of the assets to reindex.
+     */
+    interface AssetPageSource {
+        /**
+         * Return a page of assets in a consistent order.
+         *
+         * @param startFrom index of the first asset to return
+         * @param pageSize maximum number of assets to return
+         * @return assets - fewer than the page size when there are no more assets
+         * @throws InvalidParameterException the request is not valid
+         * @throws PropertyServerException there is a problem retrieving the assets
+         */
+        List<Asset> getAssets(int startFrom, int pageSize) throws InvalidParameterException, PropertyServerException;
+    }
+
+
+    private final BulkAssetIndexer indexer;
+    private final AssetPageSource assetSource;
+    private final File checkpointFile;
+    private final int pageSize;
+
+
+    /**
+     * Create the reindexer.
+     *
+     * @param indexer indexer that sends the assets to Elasticsearch
+     * @param assetSource source of the assets
+     * @param checkpointFile file that records the position of the next page
+     * @param pageSize number of assets to retrieve and index between checkpoints
+     */
+    ResumableAssetReindexer(BulkAssetIndexer indexer, AssetPageSource assetSource, File checkpointFile, int pageSize) {
+        this.indexer = indexer;
+        this.assetSource = assetSource;
+        this.checkpointFile = checkpointFile;
+        this.pageSize = pageSize;
+    }
+
+
+    /**
+     * Return whether a reindex was started and has not completed.
+     *
+     * @return boolean flag
+     */
+    boolean isInProgress() {
+        return checkpointFile.exists();
+    }
+
+
+    /**
+     * Return the position that the reindex will start from.
+     *
+     * @return index of the first asset to retrieve
+     * @throws IOException the checkpoint file can not be read
+     */
+    int getStartFrom() throws IOException {
+        if (! checkpointFile.exists()) {
+            return 0;
+        }
+
+        String checkpoint = new String(Files.readAllBytes(checkpointFile.toPath()), StandardCharsets.UTF_8).trim();
+
+        try {
+            return Integer.parseInt(checkpoint);
+        } catch (NumberFormatException error) {
+            throw new IOException("Checkpoint file " + checkpointFile.getPath() + " does not contain a position: " + checkpoint, error);
+        }
+    }
+
+
+    /**
+     * Index all the assets, starting from the checkpoint if there is one.
+     *
+     * @param keepRunning returns false when the reindex should stop - it is checked before each page
+     * @return number of assets indexed by this call
+     * @throws InvalidParameterException the assets can not be retrieved
+     * @throws PropertyServerException there is a problem retrieving the assets
+     * @throws IOException the assets could not be indexed or the checkpoint could not be saved
+     */
+    long reindex(BooleanSupplier keepRunning) throws InvalidParameterException, PropertyServerException, IOException {
+        int startFrom = this.getStartFrom();
+        long assetCount = 0;
+
+        this.saveCheckpoint(startFrom);
+
+        while (keepRunning.getAsBoolean()) {
+            List<Asset> assets = assetSource.getAssets(startFrom, pageSize);
+            long now = System.currentTimeMillis();
+
+            if (assets != null) {
+                for (Asset asset : assets) {
+                    if ((asset != null) && (asset.getGUID() != null)) {
+                        indexer.add(asset, now);
+                        assetCount++;
+                    }
+                }
+            }
+
+            indexer.flush();
+
+            if ((assets == null) || (assets.size() < pageSize)) {
+                Files.deleteIfExists(checkpointFile.toPath());
+                break;
+            }
+
+            startFrom = startFrom + assets.size();
+            this.saveCheckpoint(startFrom);
+        }
+
+        return assetCount;
+    }
+
+
+    /**
+     * Replace the checkpoint file so that it is never left half written.
+     *
+     * @param startFrom position of the next page
+     * @throws IOException the file could not be written
+     */
+    private void saveCheckpoint(int startFrom) throws IOException {
+        File directory = checkpointFile.getAbsoluteFile().getParentFile();
+
+        if (directory != null) {
+            Files.createDirectories(directory.toPath());
+        }
+
+        File newCheckpointFile = new File(directory, checkpointFile.getName() + ".new");
+
+        Files.write(newCheckpointFile.toPath(), Integer.toString(startFrom).getBytes(StandardCharsets.UTF_8));
+        Files.move(newCheckpointFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -34,7 +34,56 @@ public enum ElasticsearchIntegrationConnectorAuditCode implements AuditLogMessag
             OMRSAuditLogRecordSeverity.ERROR,
             "The {0} integration connector could not save data to Elasticsearch",
             "The connector is disconnecting.",
-            "Verify the integrity of the ElasticSearch cluster and the client connection.");
+            "Verify the integrity of the ElasticSearch cluster and the client connection."),
+
+
+    INDEXER_CONFIGURATION("ELASTICSEARCH-INTEGRATION-CONNECTOR-0003",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The {0} integration connector is indexing assets in index {1} in batches of up to {2} assets that are sent at least every {3} milliseconds",
+            "The connector sends the assets from the Asset Catalog OMAS events to Elasticsearch with the bulk API.",
+            "No action is required.  The batch size and flush interval can be changed with the maxBatchSize and flushIntervalMillis configuration properties."),
+
+
+    INDEXING_STATISTICS("ELASTICSEARCH-INTEGRATION-CONNECTOR-0004",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector has indexed {1} assets in index {2} and {3} assets were rejected since its last refresh. {4} assets are waiting to be indexed and the indexing lag is {5} milliseconds",
+            "The connector continues to index assets.",
+            "No action is required unless the indexing lag keeps growing or assets are rejected.  Then check the health of the Elasticsearch cluster and the earlier messages from the connector."),
+
+
+    ASSET_NOT_INDEXED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0005",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The {0} integration connector could not index asset {1} in index {2} because Elasticsearch returned: {3}",
+            "The asset is not retried.  It is indexed the next time that it changes or when the assets are reindexed.",
+            "Use the error returned by Elasticsearch to correct the mapping of the index and then reindex the assets."),
+
+
+    BATCH_NOT_INDEXED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0006",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The {0} integration connector could not send a batch of assets to index {1}. The {2} exception was returned with message {3}",
+            "The assets in the batch are kept and sent with the next batch.",
+            "Verify that the Elasticsearch cluster is running and can be reached by the connector."),
+
+
+    REINDEX_STARTING("ELASTICSEARCH-INTEGRATION-CONNECTOR-0007",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector is reindexing all of the assets in index {1} starting from asset {2}",
+            "The connector retrieves the assets from the Asset Catalog OMAS page by page and saves its position after each page in {3}.",
+            "No action is required.  If the reindex is interrupted, it restarts from the saved position on the next refresh."),
+
+
+    REINDEX_COMPLETE("ELASTICSEARCH-INTEGRATION-CONNECTOR-0008",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector has completed the reindex of index {1} after indexing {2} assets",
+            "The connector continues to index the assets from the Asset Catalog OMAS events.",
+            "No action is required."),
+
+
+    REINDEX_INTERRUPTED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0009",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The {0} integration connector stopped the reindex of index {1} at asset {2} because of a {3} exception with message {4}",
+            "The position of the reindex is saved and the reindex restarts from it on the next refresh.",
+            "Use the exception to diagnose the problem with the Asset Catalog OMAS or the Elasticsearch cluster.");
     private String logMessageId;
     private OMRSAuditLogRecordSeverity severity;
     private String logMessage;
@@ -0,0 +1,233 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementVersions;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the BulkAssetIndexer sends assets in batches, retries rejected requests and keeps the newest
+ * version of each asset, using a local Elasticsearch test double.
+ */
+public class BulkAssetIndexerTest {
+    private static final String INDEX_NAME = "assets";
+
+    private ElasticsearchTestDouble elasticsearch;
+    private BulkAssetIndexer indexer;
+    private final List<String> failedAssets = new CopyOnWriteArrayList<>();
+    private final List<Exception> failedBatches = new CopyOnWriteArrayList<>();
+
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        elasticsearch = new ElasticsearchTestDouble();
+        failedAssets.clear();
+        failedBatches.clear();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        if (indexer != null) {
+            indexer.close();
+        }
+
+        elasticsearch.stop();
+    }
+
+
+    /**
+     * Assets are sent in batches no larger than the maximum batch size, and repeated updates to an asset leave
+     * the newest version in the index.
+     *
+     * @throws Exception problem with the test double
+     */
+    @Test
+    public void testBatchesAndIdempotentDocuments() throws Exception {
+        indexer = this.createIndexer(25, TimeUnit.MINUTES.toMillis(1), 3);
+
+        for (int version = 1; version <= 3; version++) {
+            for (int asset = 0; asset < 100; asset++) {
+                indexer.add(getAsset("guid-" + asset, version), System.currentTimeMillis());
+            }
+        }
+
+        indexer.flush();
+
+        assertEquals(elasticsearch.getDocumentCount(), 100);
+        assertTrue(elasticsearch.getLargestBulkRequest() <= 25);
+        assertEquals(elasticsearch.getDocumentVersion(INDEX_NAME, "guid-7"), Long.valueOf(3));
+        assertEquals(elasticsearch.getDocument(INDEX_NAME, "guid-7").get("qualifiedName").asText(), "asset-guid-7-v3");
+        assertEquals(indexer.getPendingCount(), 0);
+        assertTrue(failedAssets.isEmpty());
+
+        /*
+         * Sending an older version again does not replace the newer one and is not an error.
+         */
+        indexer.add(getAsset("guid-7", 2), System.currentTimeMillis());
+        indexer.flush();
+
+        assertEquals(elasticsearch.getDocumentVersion(INDEX_NAME, "guid-7"), Long.valueOf(3));
+        assertEquals(elasticsearch.getDocument(INDEX_NAME, "guid-7").get("qualifiedName").asText(), "asset-guid-7-v3");
+        assertTrue(failedAssets.isEmpty());
+    }
+
+
+    /**
+     * Rejected requests and documents are retried, and a document with a mapping error is reported without
+     * stopping the other documents.
+     *
+     * @throws Exception problem with the test double
+     */
+    @Test
+    public void testRetryAndRejectedDocuments() throws Exception {
+        indexer = this.createIndexer(10, TimeUnit.MINUTES.toMillis(1), 4);
+
+        elasticsearch.rejectNextRequests(2);
+        elasticsearch.rejectNextDocuments(3);
+        elasticsearch.rejectDocument("guid-5");
+
+        for (int asset = 0; asset < 20; asset++) {
+            indexer.add(getAsset("guid-" + asset, 1), System.currentTimeMillis());
+        }
+
+        indexer.flush();
+
+        assertEquals(elasticsearch.getDocumentCount(), 19);
+        assertNull(elasticsearch.getDocument(INDEX_NAME, "guid-5"));
+        assertEquals(failedAssets.size(), 1);
+        assertTrue(failedAssets.get(0).startsWith("guid-5"));
+        assertEquals(indexer.getIndexedCount(), 19);
+        assertEquals(indexer.getFailedCount(), 1);
+        assertTrue(elasticsearch.getBulkRequestCount() > 2);
+        assertTrue(failedBatches.isEmpty());
+    }
+
+
+    /**
+     * When the retries are exhausted the assets are kept, and they are indexed by a later flush.
+     *
+     * @throws Exception problem with the test double
+     */
+    @Test
+    public void testAssetsKeptWhenRetriesExhausted() throws Exception {
+        indexer = this.createIndexer(10, TimeUnit.MINUTES.toMillis(1), 1);
+
+        elasticsearch.rejectNextRequests(2);
+
+        for (int asset = 0; asset < 5; asset++) {
+            indexer.add(getAsset("guid-" + asset, 1), System.currentTimeMillis());
+        }
+
+        try {
+            indexer.flush();
+            fail("The flush should fail when all of the attempts are rejected");
+        } catch (IOException error) {
+            assertEquals(indexer.getPendingCount(), 5);
+            assertEquals(failedBatches.size(), 1);
+        }
+
+        indexer.flush();
+
+        assertEquals(elasticsearch.getDocumentCount(), 5);
+        assertEquals(indexer.getPendingCount(), 0);
+    }
+
+
+    /**
+     * The background thread sends the waiting assets once they have waited for the flush interval, and the indexing lag
+     * is measured from the time of the change.
+     *
+     * @throws Exception problem with the test double
+     */
+    @Test
+    public void testBackgroundFlush() throws Exception {
+        indexer = this.createIndexer(100, 50, 3);
+        indexer.start();
+
+        long changeTime = System.currentTimeMillis() - 1000;
+
+        for (int asset = 0; asset < 10; asset++) {
+            indexer.add(getAsset("guid-" + asset, 1), changeTime);
+        }
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+        while ((indexer.getIndexedCount() < 10) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(elasticsearch.getDocumentCount(), 10);
+        assertTrue(indexer.getIndexingLag() >= 1000);
+
+        indexer.resetStatistics();
+
+        assertEquals(indexer.getIndexedCount(), 0);
+        assertFalse(indexer.getIndexingLag() >= 1000);
+    }
+
+
+    /**
+     * Create an indexer that records its failures.
+     *
+     * @param maxBatchSize maximum number of assets in a request
+     * @param flushIntervalMillis wait before the background thread sends a batch
+     * @param maxRetries number of retries
+     * @return indexer
+     */
+    private BulkAssetIndexer createIndexer(int maxBatchSize, long flushIntervalMillis, int maxRetries) {
+        return new BulkAssetIndexer(elasticsearch.getClient(),
+                INDEX_NAME,
+                maxBatchSize,
+                flushIntervalMillis,
+                maxRetries,
+                1,
+                new BulkAssetIndexer.FailureListener() {
+                    @Override
+                    public void assetNotIndexed(String assetGUID, String reason) {
+                        failedAssets.add(assetGUID + ": " + reason);
+                    }
+
+                    @Override
+                    public void batchNotIndexed(Exception error) {
+                        failedBatches.add(error);
+                    }
+                });
+    }
+
+
+    /**
+     * Create an asset.
+     *
+     * @param guid unique identifier
+     * @param version version of the asset
+     * @return asset
+     */
+    static Asset getAsset(String guid, long version) {
+        Asset asset = new Asset();
+        asset.setGUID(guid);
+        asset.setQualifiedName("asset-" + guid + "-v" + version);
+
+        ElementVersions versions = new ElementVersions();
+        versions.setVersion(version);
+        asset.setVersions(versions);
+
+        return asset;
+    }
+}
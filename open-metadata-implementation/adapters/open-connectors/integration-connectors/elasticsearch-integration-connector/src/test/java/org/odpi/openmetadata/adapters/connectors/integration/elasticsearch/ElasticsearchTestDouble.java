@@ -0,0 +1,292 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * ElasticsearchTestDouble is a local HTTP server that implements enough of the Elasticsearch bulk API for the
+ * connector's tests.  It stores the indexed documents in memory, applies external versioning, and can be told to
+ * reject requests or documents.
+ */
+class ElasticsearchTestDouble {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final Map<String, Long> documentVersions = new ConcurrentHashMap<>();
+    private final Map<String, JsonNode> documents = new ConcurrentHashMap<>();
+    private final Set<String> invalidDocumentIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestsToReject = new AtomicInteger();
+    private final AtomicInteger documentsToReject = new AtomicInteger();
+    private final AtomicInteger bulkRequestCount = new AtomicInteger();
+    private final AtomicInteger largestBulkRequest = new AtomicInteger();
+
+    private RestClient restClient = null;
+
+
+    /**
+     * Start the server on a free port.
+     *
+     * @throws IOException the server could not be started
+     */
+    ElasticsearchTestDouble() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/_bulk", this::handleBulkRequest);
+        server.start();
+    }
+
+
+    /**
+     * Return a client that sends its requests to this server.
+     *
+     * @return Elasticsearch client
+     */
+    synchronized ElasticsearchClient getClient() {
+        if (restClient == null) {
+            restClient = RestClient.builder(new HttpHost(server.getAddress().getHostString(), server.getAddress().getPort(), "http")).build();
+        }
+
+        return new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+    }
+
+
+    /**
+     * Stop the client and the server.
+     *
+     * @throws IOException the client could not be closed
+     */
+    synchronized void stop() throws IOException {
+        if (restClient != null) {
+            restClient.close();
+        }
+
+        server.stop(0);
+    }
+
+
+    /**
+     * Reject the next bulk requests with a 429 response.
+     *
+     * @param count number of requests to reject
+     */
+    void rejectNextRequests(int count) {
+        requestsToReject.set(count);
+    }
+
+
+    /**
+     * Reject the next documents in the bulk requests with a 429 status.
+     *
+     * @param count number of documents to reject
+     */
+    void rejectNextDocuments(int count) {
+        documentsToReject.set(count);
+    }
+
+
+    /**
+     * Reject the document with this id with a mapping error.
+     *
+     * @param documentId document id
+     */
+    void rejectDocument(String documentId) {
+        invalidDocumentIds.add(documentId);
+    }
+
+
+    /**
+     * Return the indexed document.
+     *
+     * @param indexName name of the index
+     * @param documentId document id
+     * @return document or null
+     */
+    JsonNode getDocument(String indexName, String documentId) {
+        return documents.get(indexName + "/" + documentId);
+    }
+
+
+    /**
+     * Return the version of the indexed document.
+     *
+     * @param indexName name of the index
+     * @param documentId document id
+     * @return version or null
+     */
+    Long getDocumentVersion(String indexName, String documentId) {
+        return documentVersions.get(indexName + "/" + documentId);
+    }
+
+
+    /**
+     * Return the number of documents in all indexes.
+     *
+     * @return count
+     */
+    int getDocumentCount() {
+        return documents.size();
+    }
+
+
+    /**
+     * Return the number of bulk requests received, including those that were rejected.
+     *
+     * @return count
+     */
+    int getBulkRequestCount() {
+        return bulkRequestCount.get();
+    }
+
+
+    /**
+     * Return the largest number of documents in a bulk request.
+     *
+     * @return count
+     */
+    int getLargestBulkRequest() {
+        return largestBulkRequest.get();
+    }
+
+
+    /**
+     * Process a bulk request.  Only index operations are supported.
+     *
+     * @param exchange request and response
+     * @throws IOException the request could not be read or the response written
+     */
+    private void handleBulkRequest(HttpExchange exchange) throws IOException {
+        bulkRequestCount.incrementAndGet();
+
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        if (requestsToReject.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            ObjectNode error = response.putObject("error");
+            error.put("type", "es_rejected_execution_exception");
+            error.put("reason", "rejected execution of bulk request");
+            response.put("status", 429);
+
+            this.sendResponse(exchange, 429, response);
+            return;
+        }
+
+        String[] lines = body.split("\n");
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        ArrayNode items = OBJECT_MAPPER.createArrayNode();
+        boolean errors = false;
+
+        for (int i = 0; i + 1 < lines.length; i = i + 2) {
+            JsonNode action = OBJECT_MAPPER.readTree(lines[i]).get("index");
+            JsonNode document = OBJECT_MAPPER.readTree(lines[i + 1]);
+
+            String indexName = action.get("_index").asText();
+            String documentId = action.get("_id").asText();
+            String key = indexName + "/" + documentId;
+
+            ObjectNode result = OBJECT_MAPPER.createObjectNode();
+            result.put("_index", indexName);
+            result.put("_id", documentId);
+
+            if (invalidDocumentIds.contains(documentId)) {
+                result.put("status", 400);
+                this.addError(result, "mapper_parsing_exception", "failed to parse document " + documentId);
+                errors = true;
+            } else if (documentsToReject.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+                result.put("status", 429);
+                this.addError(result, "es_rejected_execution_exception", "rejected execution of index operation");
+                errors = true;
+            } else {
+                synchronized (this) {
+                    Long currentVersion = documentVersions.get(key);
+                    long version = currentVersion == null ? 1 : currentVersion + 1;
+
+                    if ((action.has("version_type")) && ("external".equals(action.get("version_type").asText()))) {
+                        version = action.get("version").asLong();
+                    }
+
+                    if ((currentVersion != null) && (action.has("version_type")) && (version <= currentVersion)) {
+                        result.put("status", 409);
+                        this.addError(result, "version_conflict_engine_exception",
+                                "[" + documentId + "]: version conflict, current version [" + currentVersion + "] is higher or equal to the one provided [" + version + "]");
+                        errors = true;
+                    } else {
+                        result.put("status", currentVersion == null ? 201 : 200);
+                        result.put("result", currentVersion == null ? "created" : "updated");
+                        result.put("_version", version);
+                        documentVersions.put(key, version);
+                        documents.put(key, document);
+                    }
+                }
+            }
+
+            ObjectNode item = OBJECT_MAPPER.createObjectNode();
+            item.set("index", result);
+            items.add(item);
+        }
+
+        largestBulkRequest.accumulateAndGet(items.size(), Math::max);
+
+        response.put("took", 1);
+        response.put("errors", errors);
+        response.set("items", items);
+
+        this.sendResponse(exchange, 200, response);
+    }
+
+
+    /**
+     * Add an error to the result for a document.
+     *
+     * @param result result for the document
+     * @param type type of error
+     * @param reason description of the error
+     */
+    private void addError(ObjectNode result, String type, String reason) {
+        ObjectNode error = result.putObject("error");
+        error.put("type", type);
+        error.put("reason", reason);
+    }
+
+
+    /**
+     * Send a JSON response with the header that identifies the server as Elasticsearch.
+     *
+     * @param exchange request and response
+     * @param status HTTP status
+     * @param body response body
+     * @throws IOException the response could not be written
+     */
+    private void sendResponse(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] responseBytes = OBJECT_MAPPER.writeValueAsBytes(body);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+        exchange.sendResponseHeaders(status, responseBytes.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(responseBytes);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the ResumableAssetReindexer indexes every asset and resumes from its checkpoint after a failure,
+ * using a local Elasticsearch test double.
+ */
+public class ResumableAssetReindexerTest {
+    private static final String INDEX_NAME = "assets";
+    private static final int ASSET_COUNT = 95;
+    private static final int PAGE_SIZE = 10;
+
+    private ElasticsearchTestDouble elasticsearch;
+    private BulkAssetIndexer indexer;
+    private File directory;
+    private final List<Integer> requestedPages = new ArrayList<>();
+    private int failingPage = -1;
+
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        elasticsearch = new ElasticsearchTestDouble();
+        indexer = new BulkAssetIndexer(elasticsearch.getClient(), INDEX_NAME, 25, 60000, 3, 1, null);
+        directory = Files.createTempDirectory("elasticsearch-reindex").toFile();
+        requestedPages.clear();
+        failingPage = -1;
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        indexer.close();
+        elasticsearch.stop();
+
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(directory.toPath());
+    }
+
+
+    /**
+     * A reindex that fails part way through keeps its position, and the next reindex continues from that position
+     * and indexes the remaining assets.
+     *
+     * @throws Exception problem with the test double
+     */
+    @Test
+    public void testResumeAfterFailure() throws Exception {
+        File checkpointFile = new File(directory, "assets-reindex.checkpoint");
+        ResumableAssetReindexer reindexer = new ResumableAssetReindexer(indexer, this::getAssets, checkpointFile, PAGE_SIZE);
+
+        failingPage = 50;
+
+        try {
+            reindexer.reindex(() -> true);
+            fail("The reindex should fail when a page can not be retrieved");
+        } catch (PropertyServerException error) {
+            assertTrue(reindexer.isInProgress());
+            assertEquals(reindexer.getStartFrom(), 50);
+            assertEquals(elasticsearch.getDocumentCount(), 50);
+        }
+
+        failingPage = -1;
+        requestedPages.clear();
+
+        long assetCount = reindexer.reindex(() -> true);
+
+        assertEquals(assetCount, ASSET_COUNT - 50);
+        assertEquals((int) requestedPages.get(0), 50);
+        assertEquals(elasticsearch.getDocumentCount(), ASSET_COUNT);
+        assertFalse(reindexer.isInProgress());
+        assertFalse(checkpointFile.exists());
+    }
+
+
+    /**
+     * A reindex that is asked to stop leaves its checkpoint so that it can be resumed.
+     *
+     * @throws Exception problem with the test double
+     */
+    @Test
+    public void testStopAndResume() throws Exception {
+        File checkpointFile = new File(directory, "assets-reindex.checkpoint");
+        ResumableAssetReindexer reindexer = new ResumableAssetReindexer(indexer, this::getAssets, checkpointFile, PAGE_SIZE);
+
+        reindexer.reindex(() -> requestedPages.size() < 3);
+
+        assertTrue(reindexer.isInProgress());
+        assertEquals(reindexer.getStartFrom(), 30);
+        assertEquals(elasticsearch.getDocumentCount(), 30);
+
+        reindexer.reindex(() -> true);
+
+        assertFalse(reindexer.isInProgress());
+        assertEquals(elasticsearch.getDocumentCount(), ASSET_COUNT);
+    }
+
+
+    /**
+     * Return a page of assets, failing for the failing page.
+     *
+     * @param startFrom index of the first asset
+     * @param pageSize maximum number of assets
+     * @return assets
+     * @throws PropertyServerException the page is the failing page
+     */
+    private List<Asset> getAssets(int startFrom, int pageSize) throws PropertyServerException {
+        if (startFrom == failingPage) {
+            throw new PropertyServerException(new ExceptionMessageDefinition(503,
+                                                                             "TEST-503-001",
+                                                                             "The asset source is not available",
+                                                                             "The request fails.",
+                                                                             "Retry the request."),
+                                              this.getClass().getName(),
+                                              "getAssets");
+        }
+
+        requestedPages.add(startFrom);
+
+        List<Asset> assets = new ArrayList<>();
+
+        for (int asset = startFrom; (asset < ASSET_COUNT) && (asset < startFrom + pageSize); asset++) {
+            assets.add(BulkAssetIndexerTest.getAsset("guid-" + asset, 1));
+        }
+
+        return assets;
+    }
+}
@@ -18,6 +18,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.odpi.openmetadata.integrationservices.files.connector.FilesIntegratorConnector;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,6 +41,17 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
     private static final int POLL_INTERVAL = 500; // milliseconds
 
+    /*
+     * Used when the monitoringMode configuration property is set to watch.  The watcher covers the whole directory tree.
+     */
+    private boolean          watchMonitoringMode = false;
+    private long             debounceInterval    = POLL_INTERVAL;
+    private int              maxQueuedEvents     = DEFAULT_MAX_QUEUED_EVENTS;
+    private DirectoryWatcher directoryWatcher    = null;
+    private boolean          fullScanComplete    = false;
+
+    private static final int DEFAULT_MAX_QUEUED_EVENTS = 10000;
+
 
     /**
      * Indicates that the connector is completely configured and can begin processing.
@@ -73,7 +85,31 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                 allowCatalogDelete = true;
             }
 
-            templateQualifiedName = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            if (configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY) != null)
+            {
+                templateQualifiedName = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            }
+
+            Object monitoringMode = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.MONITORING_MODE_CONFIGURATION_PROPERTY);
+
+            if (monitoringMode != null)
+            {
+                watchMonitoringMode = BasicFilesMonitorIntegrationProviderBase.WATCH_MONITORING_MODE.equalsIgnoreCase(monitoringMode.toString());
+            }
+
+            Object debounceIntervalProperty = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.DEBOUNCE_INTERVAL_CONFIGURATION_PROPERTY);
+
+            if (debounceIntervalProperty != null)
+            {
+                debounceInterval = Long.parseLong(debounceIntervalProperty.toString());
+            }
+
+            Object maxQueuedEventsProperty = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.MAX_QUEUED_EVENTS_CONFIGURATION_PROPERTY);
+
+            if (maxQueuedEventsProperty != null)
+            {
+                maxQueuedEvents = Integer.parseInt(maxQueuedEventsProperty.toString());
+            }
         }
 
         /*
@@ -284,9 +320,31 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     }
 
 
+    /**
+     * Return whether the connector's refresh should scan the whole directory.  This is always true when the
+     * directory is polled.  When native change notifications are in use, only the first refresh needs to scan the
+     * directory, since the watcher reports every later change and rescans the directory itself if notifications
+     * are lost.
+     *
+     * @return boolean flag
+     */
+    synchronized boolean isFullScanNeeded()
+    {
+        if ((directoryWatcher != null) && (directoryWatcher.isRunning()) && (fullScanComplete))
+        {
+            return false;
+        }
+
+        fullScanComplete = true;
+
+        return true;
+    }
+
+
     /**
      * Register a listener for a particular directory (folder).  This results in events whenever there are changes to the files and
-     * folders immediately in this directory.
+     * folders immediately in this directory.  When native change notifications are in use, a single watcher covers the
+     * whole directory tree and the requests for subdirectories are ignored.
      *
      * @param directory directory to monitor
      * @param methodName calling method
@@ -294,6 +352,53 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     synchronized void initiateDirectoryMonitoring(File   directory,
                                                   String methodName)
     {
+        if (directoryWatcher != null)
+        {
+            return;
+        }
+
+        if (watchMonitoringMode)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_WATCHING_STARTING.getMessageDefinition(connectorName,
+                                                                                                                              directory.getAbsolutePath()));
+            }
+
+            DirectoryWatcher watcher = new DirectoryWatcher(directory,
+                                                            this.getListener(),
+                                                            debounceInterval,
+                                                            maxQueuedEvents,
+                                                            connectorName,
+                                                            auditLog);
+
+            try
+            {
+                watcher.start();
+                directoryWatcher = watcher;
+
+                return;
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_WATCH_START.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                   connectorName,
+                                                                                                                                   directory.getAbsolutePath(),
+                                                                                                                                   error.getMessage()),
+                                          error);
+                }
+
+                /*
+                 * Fall back to polling.
+                 */
+                watchMonitoringMode = false;
+            }
+        }
+
         FileAlterationObserver observer = new FileAlterationObserver(fileDirectoryName);
         FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
         FileAlterationListener listener = this.getListener();
@@ -383,7 +488,23 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     {
         final String methodName = "disconnect";
 
-        for (String fileName : monitors.keySet())
+        synchronized (this)
+        {
+            if (directoryWatcher != null)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_MONITORING_STOPPING.getMessageDefinition(connectorName,
+                                                                                                                                    fileDirectoryName));
+                }
+
+                directoryWatcher.stop(POLL_INTERVAL * 2);
+                directoryWatcher = null;
+            }
+        }
+
+        for (String fileName : new ArrayList<>(monitors.keySet()))
         {
             this.stopDirectoryMonitoring(fileName, methodName);
         }
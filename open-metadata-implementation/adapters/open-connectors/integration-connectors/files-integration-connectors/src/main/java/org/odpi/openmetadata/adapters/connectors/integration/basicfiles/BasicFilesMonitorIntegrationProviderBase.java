@@ -20,6 +20,15 @@ class BasicFilesMonitorIntegrationProviderBase extends IntegrationConnectorProvi
 {
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
     static final String ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY    = "allowCatalogDelete";
+    static final String MONITORING_MODE_CONFIGURATION_PROPERTY         = "monitoringMode";
+    static final String DEBOUNCE_INTERVAL_CONFIGURATION_PROPERTY       = "debounceInterval";
+    static final String MAX_QUEUED_EVENTS_CONFIGURATION_PROPERTY       = "maxQueuedEvents";
+
+    /*
+     * Values for the monitoringMode configuration property.  Poll is the default.
+     */
+    static final String POLL_MONITORING_MODE  = "poll";
+    static final String WATCH_MONITORING_MODE = "watch";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -62,6 +71,9 @@ class BasicFilesMonitorIntegrationProviderBase extends IntegrationConnectorProvi
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
         recognizedConfigurationProperties.add(ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MONITORING_MODE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(DEBOUNCE_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_QUEUED_EVENTS_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
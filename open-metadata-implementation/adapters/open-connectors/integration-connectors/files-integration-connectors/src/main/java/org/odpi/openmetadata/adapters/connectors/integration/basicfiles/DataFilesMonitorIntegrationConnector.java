@@ -106,7 +106,8 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
      *
      * This method performs two sweeps.  It first retrieves the files in the directory and validates that are in the
      * catalog - adding or updating them if necessary.  The second sweep is to ensure that all the assets catalogued
-     * in this directory actually exist on the file system.
+     * in this directory actually exist on the file system.  When native change notifications are in use, the sweeps
+     * are only performed on the first refresh.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -117,7 +118,7 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
         File directory = this.getRootDirectoryFile();
 
-        if (directory != null)
+        if ((directory != null) && (super.isFullScanNeeded()))
         {
             /*
              * Sweep one - cataloguing all files
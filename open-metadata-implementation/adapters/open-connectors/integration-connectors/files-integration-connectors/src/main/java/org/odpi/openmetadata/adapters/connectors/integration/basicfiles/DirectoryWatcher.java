@@ -0,0 +1,619 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListener;
+import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.BasicFilesIntegrationConnectorsAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * DirectoryWatcher monitors a directory tree using the file system's native change notifications rather than by
+ * polling.  It reports changes through the same commons-io listener interface that the polling monitor uses, so the
+ * connectors in this module can use either.
+ * <p>
+ * Each directory in the tree is registered with the watch service, and new directories are registered as they
+ * appear.  The notifications only mark a path as changed: once no notification has arrived for the path for the
+ * debounce interval, its current state is compared with the last state reported, and a single create, change or
+ * delete is passed to the listener.  A burst of writes to a file is therefore reported once.  If the watch service
+ * overflows, or more paths are waiting than the queue allows, the pending paths are discarded and the whole tree is
+ * rescanned and compared instead.
+ * <p>
+ * The known files are held with the directory that contains them, and each known directory lists its known
+ * subdirectories, so the deletion of a directory only visits the part of the tree below it.
+ * <p>
+ * All the state is owned by the watcher thread once it has started.
+ */
+class DirectoryWatcher implements Runnable
+{
+    private final Path                   rootDirectory;
+    private final FileAlterationListener listener;
+    private final long                   debounceInterval;
+    private final int                    maxQueuedEvents;
+    private final String                 connectorName;
+    private final AuditLog               auditLog;
+
+    private final Map<WatchKey, Path>       watchedDirectories = new HashMap<>();
+    private final Map<Path, WatchKey>       directoryWatchKeys = new HashMap<>();
+    private final Map<Path, KnownDirectory> knownDirectories   = new HashMap<>();
+
+    /*
+     * Paths with outstanding notifications, mapped to the time of the latest one.  A path is moved to the end
+     * when it is notified again, so the map is in order of the latest notification.
+     */
+    private final LinkedHashMap<Path, Long> pendingPaths = new LinkedHashMap<>();
+
+    private WatchService     watchService  = null;
+    private Thread           watcherThread = null;
+    private volatile boolean running       = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param rootDirectory directory at the top of the tree to watch
+     * @param listener listener to report changes to
+     * @param debounceInterval time in milliseconds that a path must be quiet before its change is reported
+     * @param maxQueuedEvents maximum number of paths waiting to be reported before the tree is rescanned instead
+     * @param connectorName name of the calling connector for messages
+     * @param auditLog logging destination (may be null)
+     */
+    DirectoryWatcher(File                   rootDirectory,
+                     FileAlterationListener listener,
+                     long                   debounceInterval,
+                     int                    maxQueuedEvents,
+                     String                 connectorName,
+                     AuditLog               auditLog)
+    {
+        this.rootDirectory    = rootDirectory.toPath().toAbsolutePath();
+        this.listener         = listener;
+        this.debounceInterval = Math.max(debounceInterval, 0);
+        this.maxQueuedEvents  = Math.max(maxQueuedEvents, 1);
+        this.connectorName    = connectorName;
+        this.auditLog         = auditLog;
+    }
+
+
+    /**
+     * Register the directory tree with the watch service and start the watcher thread.  The files already in the
+     * tree are recorded but not reported.
+     *
+     * @throws IOException the watch service could not be started or a directory could not be registered
+     */
+    synchronized void start() throws IOException
+    {
+        watchService = rootDirectory.getFileSystem().newWatchService();
+
+        try
+        {
+            this.registerTree(rootDirectory, false, null);
+        }
+        catch (IOException error)
+        {
+            watchService.close();
+            throw error;
+        }
+
+        running = true;
+
+        watcherThread = new Thread(this, "DirectoryWatcher:" + connectorName + ":" + rootDirectory);
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+
+    /**
+     * Stop the watcher thread.  Any changes that are waiting for the debounce interval are not reported.
+     *
+     * @param waitTime maximum time in milliseconds to wait for the watcher thread to finish
+     */
+    synchronized void stop(long waitTime)
+    {
+        running = false;
+
+        if (watchService != null)
+        {
+            try
+            {
+                watchService.close();
+            }
+            catch (IOException error)
+            {
+                // ignore - the watcher thread will exit anyway
+            }
+        }
+
+        if ((watcherThread != null) && (watcherThread != Thread.currentThread()))
+        {
+            try
+            {
+                watcherThread.join(waitTime);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Return whether the watcher thread is still processing notifications.
+     *
+     * @return boolean flag
+     */
+    boolean isRunning()
+    {
+        return running;
+    }
+
+
+    /**
+     * Process notifications until stopped.
+     */
+    @Override
+    public void run()
+    {
+        final String methodName = "run";
+
+        long waitTime = Math.max(debounceInterval / 2, 10);
+
+        while (running)
+        {
+            try
+            {
+                WatchKey watchKey = watchService.poll(waitTime, TimeUnit.MILLISECONDS);
+                long     now      = System.currentTimeMillis();
+                boolean  overflow = false;
+
+                while (watchKey != null)
+                {
+                    overflow = this.queueEvents(watchKey, now) || overflow;
+                    watchKey = watchService.poll();
+                }
+
+                if (overflow)
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_WATCH_OVERFLOW.getMessageDefinition(connectorName,
+                                                                                                                                   rootDirectory.toString()));
+                    }
+
+                    pendingPaths.clear();
+                    this.reconcileTree();
+                }
+                else
+                {
+                    this.reportQuietPaths(now);
+                }
+            }
+            catch (ClosedWatchServiceException | InterruptedException error)
+            {
+                running = false;
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_WATCH.getMessageDefinition(error.getClass().getName(),
+                                                                                                                             connectorName,
+                                                                                                                             rootDirectory.toString(),
+                                                                                                                             error.getMessage()),
+                                          error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add the paths named in the notifications for a directory to the pending paths.
+     *
+     * @param watchKey key for the directory
+     * @param now time the notifications were received
+     * @return whether the notifications overflowed
+     */
+    private boolean queueEvents(WatchKey watchKey,
+                                long     now)
+    {
+        Path    directory = watchedDirectories.get(watchKey);
+        boolean overflow  = false;
+
+        for (WatchEvent<?> event : watchKey.pollEvents())
+        {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+            {
+                overflow = true;
+            }
+            else if ((directory != null) && (event.context() instanceof Path))
+            {
+                this.queuePath(directory.resolve((Path)event.context()), now);
+            }
+        }
+
+        if (! watchKey.reset())
+        {
+            /*
+             * The directory is no longer accessible - probably deleted.
+             */
+            watchedDirectories.remove(watchKey);
+
+            if (directory != null)
+            {
+                directoryWatchKeys.remove(directory, watchKey);
+                this.queuePath(directory, now);
+            }
+        }
+
+        return overflow || (pendingPaths.size() > maxQueuedEvents);
+    }
+
+
+    /**
+     * Record a notification for a path.
+     *
+     * @param path path that has changed
+     * @param now time of the notification
+     */
+    private void queuePath(Path path,
+                           long now)
+    {
+        pendingPaths.remove(path);
+        pendingPaths.put(path, now);
+    }
+
+
+    /**
+     * Report the pending paths that have been quiet for the debounce interval.
+     *
+     * @param now current time
+     * @throws IOException problem registering a new directory
+     */
+    private void reportQuietPaths(long now) throws IOException
+    {
+        List<Path>                      quietPaths      = new ArrayList<>();
+        Iterator<Map.Entry<Path, Long>> pendingIterator = pendingPaths.entrySet().iterator();
+
+        while (pendingIterator.hasNext())
+        {
+            Map.Entry<Path, Long> pendingPath = pendingIterator.next();
+
+            if (now - pendingPath.getValue() < debounceInterval)
+            {
+                break;
+            }
+
+            quietPaths.add(pendingPath.getKey());
+            pendingIterator.remove();
+        }
+
+        for (Path path : quietPaths)
+        {
+            this.reconcilePath(path);
+        }
+    }
+
+
+    /**
+     * Compare the current state of a path with the last state reported and report the difference.
+     *
+     * @param path path to check
+     * @throws IOException problem registering a new directory
+     */
+    private void reconcilePath(Path path) throws IOException
+    {
+        File file = path.toFile();
+
+        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+        {
+            if (this.addKnownDirectory(path))
+            {
+                listener.onDirectoryCreate(file);
+                this.registerTree(path, true, null);
+            }
+        }
+        else if (Files.exists(path, LinkOption.NOFOLLOW_LINKS))
+        {
+            long lastModified  = file.lastModified();
+            Long knownModified = this.putKnownFile(path, lastModified);
+
+            if (knownModified == null)
+            {
+                listener.onFileCreate(file);
+            }
+            else if (knownModified != lastModified)
+            {
+                listener.onFileChange(file);
+            }
+        }
+        else if (this.removeKnownFile(path) != null)
+        {
+            listener.onFileDelete(file);
+        }
+        else if (knownDirectories.containsKey(path))
+        {
+            this.removeTree(path);
+        }
+    }
+
+
+    /**
+     * Register a directory and all the directories below it with the watch service, recording the files found.
+     *
+     * @param topDirectory directory to start from
+     * @param reportNewElements whether to report the new or changed directories and files below the top directory
+     * @param unseenPaths paths to remove each directory and file found from (may be null)
+     * @throws IOException problem registering a directory
+     */
+    private void registerTree(Path      topDirectory,
+                              boolean   reportNewElements,
+                              Set<Path> unseenPaths) throws IOException
+    {
+        Files.walkFileTree(topDirectory, new SimpleFileVisitor<>()
+        {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException
+            {
+                registerDirectory(directory);
+
+                if (unseenPaths != null)
+                {
+                    unseenPaths.remove(directory);
+                }
+
+                if ((addKnownDirectory(directory)) && (reportNewElements) && (! directory.equals(topDirectory)))
+                {
+                    listener.onDirectoryCreate(directory.toFile());
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes attributes)
+            {
+                long lastModified  = attributes.lastModifiedTime().toMillis();
+                Long knownModified = putKnownFile(path, lastModified);
+
+                if (unseenPaths != null)
+                {
+                    unseenPaths.remove(path);
+                }
+
+                if (reportNewElements)
+                {
+                    if (knownModified == null)
+                    {
+                        listener.onFileCreate(path.toFile());
+                    }
+                    else if (knownModified != lastModified)
+                    {
+                        listener.onFileChange(path.toFile());
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path path, IOException error)
+            {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+
+    /**
+     * Register a single directory with the watch service if it is not already registered.
+     *
+     * @param directory directory to register
+     * @throws IOException problem registering the directory
+     */
+    private void registerDirectory(Path directory) throws IOException
+    {
+        if (! directoryWatchKeys.containsKey(directory))
+        {
+            WatchKey watchKey = directory.register(watchService,
+                                                   StandardWatchEventKinds.ENTRY_CREATE,
+                                                   StandardWatchEventKinds.ENTRY_MODIFY,
+                                                   StandardWatchEventKinds.ENTRY_DELETE);
+
+            watchedDirectories.put(watchKey, directory);
+            directoryWatchKeys.put(directory, watchKey);
+        }
+    }
+
+
+    /**
+     * Record a directory as known, adding it to the subdirectories of its parent.
+     *
+     * @param directory directory found
+     * @return whether the directory was not known before
+     */
+    private boolean addKnownDirectory(Path directory)
+    {
+        if (knownDirectories.containsKey(directory))
+        {
+            return false;
+        }
+
+        knownDirectories.put(directory, new KnownDirectory());
+
+        KnownDirectory parentDirectory = knownDirectories.get(directory.getParent());
+
+        if (parentDirectory != null)
+        {
+            parentDirectory.subdirectories.add(directory);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Record the modification time of a file.
+     *
+     * @param path file found
+     * @param lastModified modification time of the file
+     * @return previous modification time recorded or null if the file was not known
+     */
+    private Long putKnownFile(Path path,
+                              long lastModified)
+    {
+        Path parent = path.getParent();
+
+        this.addKnownDirectory(parent);
+
+        return knownDirectories.get(parent).files.put(path, lastModified);
+    }
+
+
+    /**
+     * Forget a file.
+     *
+     * @param path file that has gone
+     * @return modification time recorded or null if the file was not known
+     */
+    private Long removeKnownFile(Path path)
+    {
+        KnownDirectory knownDirectory = knownDirectories.get(path.getParent());
+
+        if (knownDirectory != null)
+        {
+            return knownDirectory.files.remove(path);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Report the deletion of a directory and everything known below it.
+     *
+     * @param topDirectory directory that has been deleted
+     */
+    private void removeTree(Path topDirectory)
+    {
+        /*
+         * The directories are listed with each parent before its subdirectories.
+         */
+        List<Path> removedDirectories = new ArrayList<>();
+
+        removedDirectories.add(topDirectory);
+
+        for (int i = 0; i < removedDirectories.size(); i++)
+        {
+            KnownDirectory knownDirectory = knownDirectories.get(removedDirectories.get(i));
+
+            if (knownDirectory != null)
+            {
+                removedDirectories.addAll(knownDirectory.subdirectories);
+
+                for (Path path : knownDirectory.files.keySet())
+                {
+                    listener.onFileDelete(path.toFile());
+                }
+            }
+        }
+
+        /*
+         * Deepest directories first.
+         */
+        for (int i = removedDirectories.size() - 1; i >= 0; i--)
+        {
+            Path directory = removedDirectories.get(i);
+
+            if (knownDirectories.remove(directory) != null)
+            {
+                listener.onDirectoryDelete(directory.toFile());
+            }
+
+            WatchKey watchKey = directoryWatchKeys.remove(directory);
+
+            if (watchKey != null)
+            {
+                watchKey.cancel();
+                watchedDirectories.remove(watchKey);
+            }
+        }
+
+        KnownDirectory parentDirectory = knownDirectories.get(topDirectory.getParent());
+
+        if (parentDirectory != null)
+        {
+            parentDirectory.subdirectories.remove(topDirectory);
+        }
+    }
+
+
+    /**
+     * Rescan the whole tree after notifications have been lost, reporting every difference from the last state
+     * reported.
+     *
+     * @throws IOException problem registering a directory
+     */
+    private void reconcileTree() throws IOException
+    {
+        Set<Path> unseenPaths = new HashSet<>(knownDirectories.keySet());
+
+        for (KnownDirectory knownDirectory : knownDirectories.values())
+        {
+            unseenPaths.addAll(knownDirectory.files.keySet());
+        }
+
+        this.registerTree(rootDirectory, true, unseenPaths);
+
+        /*
+         * The paths that were not found have gone.
+         */
+        for (Path path : unseenPaths)
+        {
+            if (this.removeKnownFile(path) != null)
+            {
+                listener.onFileDelete(path.toFile());
+            }
+            else if (knownDirectories.containsKey(path))
+            {
+                this.removeTree(path);
+            }
+        }
+    }
+
+
+    /**
+     * The files and subdirectories last seen in a directory.
+     */
+    private static class KnownDirectory
+    {
+        private final Map<Path, Long> files          = new HashMap<>();
+        private final Set<Path>       subdirectories = new HashSet<>();
+    }
+}
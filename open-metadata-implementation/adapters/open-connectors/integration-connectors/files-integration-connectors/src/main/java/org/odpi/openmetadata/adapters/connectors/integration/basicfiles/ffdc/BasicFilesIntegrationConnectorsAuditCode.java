@@ -179,6 +179,37 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the DataFile was archived."),
 
+    DIRECTORY_WATCHING_STARTING("BASIC-FILES-INTEGRATION-CONNECTORS-0021",
+                                OMRSAuditLogRecordSeverity.INFO,
+                                "The {0} integration connector is initiating native change notifications for file directory {1} and its subdirectories",
+                                "The connector is registering the directory tree with the file system's watch service.  " +
+                                        "This will start a background thread that receives the change notifications.  Changes to the same " +
+                                        "file that arrive close together are reported to this integration connector as a single change.",
+                                "No action is required unless there are errors that follow indicating that the watching of the directory failed to start."),
+
+    UNEXPECTED_EXC_WATCH_START("BASIC-FILES-INTEGRATION-CONNECTORS-0022",
+                               OMRSAuditLogRecordSeverity.EXCEPTION,
+                               "An unexpected {0} exception was returned to the {1} integration connector by the file system's " +
+                                       "watch service for directory {2} while it was starting.  The error message was {3}",
+                               "The exception is logged and the integration connector monitors the directory by polling instead.",
+                               "Use the message in the unexpected exception to determine the root cause of the error.  Many operating " +
+                                       "systems limit the number of directories that can be watched.  Once this is resolved, follow the instructions " +
+                                       "in the messages produced by the integration daemon to restart the connector."),
+
+    DIRECTORY_WATCH_OVERFLOW("BASIC-FILES-INTEGRATION-CONNECTORS-0023",
+                             OMRSAuditLogRecordSeverity.INFO,
+                             "The {0} integration connector received more change notifications for file directory {1} than it could queue and is rescanning the directory",
+                             "The connector compares the files in the directory tree with the files it knows about and reports the differences " +
+                                     "to the integration connector.  It then returns to processing change notifications.",
+                             "No action is required.  If this message occurs frequently, increase the maxQueuedEvents configuration property."),
+
+    UNEXPECTED_EXC_WATCH("BASIC-FILES-INTEGRATION-CONNECTORS-0024",
+                         OMRSAuditLogRecordSeverity.EXCEPTION,
+                         "An unexpected {0} exception occurred in the {1} integration connector while it was processing change notifications " +
+                                 "for file directory {2}.  The error message was {3}",
+                         "The exception is logged and the integration connector continues to process change notifications.",
+                         "Use the message in the unexpected exception to determine the root cause of the error."),
+
 
     ;
 
@@ -0,0 +1,230 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the DirectoryWatcher reports changes to a directory tree once each.
+ */
+public class DirectoryWatcherTest
+{
+    private static final long DEBOUNCE_INTERVAL = 200;
+    private static final long WAIT_TIME         = 10000;
+
+    private File             directory;
+    private DirectoryWatcher watcher;
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        directory = Files.createTempDirectory("directory-watcher").toFile();
+        events.clear();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException
+    {
+        if (watcher != null)
+        {
+            watcher.stop(WAIT_TIME);
+        }
+
+        FileUtils.deleteDirectory(directory);
+    }
+
+
+    /**
+     * Files present when the watcher starts are not reported, and a burst of writes to a new file is reported as
+     * a single create.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test
+    public void testBurstOfWritesReportedOnce() throws Exception
+    {
+        FileUtils.writeStringToFile(new File(directory, "existing.csv"), "a,b", StandardCharsets.UTF_8);
+
+        this.startWatcher(1000);
+
+        File newFile = new File(directory, "new.csv");
+
+        for (int i = 0; i < 5; i++)
+        {
+            FileUtils.writeStringToFile(newFile, "line " + i + "\n", StandardCharsets.UTF_8, true);
+        }
+
+        this.waitForEvents(1);
+        Thread.sleep(DEBOUNCE_INTERVAL * 3);
+
+        assertEquals(events, List.of("fileCreate:new.csv"));
+    }
+
+
+    /**
+     * New subdirectories are watched, and deleting a directory reports its files as deleted.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test
+    public void testSubdirectoriesWatched() throws Exception
+    {
+        this.startWatcher(1000);
+
+        File subdirectory = new File(directory, "sub");
+
+        assertTrue(subdirectory.mkdir());
+        this.waitForEvents(1);
+
+        FileUtils.writeStringToFile(new File(subdirectory, "nested.json"), "{}", StandardCharsets.UTF_8);
+        this.waitForEvents(2);
+
+        FileUtils.deleteDirectory(subdirectory);
+        this.waitForEvents(4);
+
+        assertEquals(events, List.of("directoryCreate:sub", "fileCreate:nested.json", "fileDelete:nested.json", "directoryDelete:sub"));
+    }
+
+
+    /**
+     * Deleting a directory tree reports everything below it, deepest directories first, and leaves a sibling
+     * directory whose name starts with the same characters watched.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test
+    public void testNestedTreeDeleted() throws Exception
+    {
+        File treeDirectory    = new File(directory, "tree");
+        File middleDirectory  = new File(treeDirectory, "middle");
+        File bottomDirectory  = new File(middleDirectory, "bottom");
+        File siblingDirectory = new File(directory, "tree-sibling");
+
+        assertTrue(bottomDirectory.mkdirs());
+        assertTrue(siblingDirectory.mkdir());
+        FileUtils.writeStringToFile(new File(treeDirectory, "top.txt"), "x", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(bottomDirectory, "bottom.txt"), "x", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(siblingDirectory, "sibling.txt"), "x", StandardCharsets.UTF_8);
+
+        this.startWatcher(1000);
+
+        FileUtils.deleteDirectory(treeDirectory);
+        this.waitForEvents(5);
+        Thread.sleep(DEBOUNCE_INTERVAL * 3);
+
+        assertEquals(new HashSet<>(events), Set.of("fileDelete:top.txt",
+                                                   "fileDelete:bottom.txt",
+                                                   "directoryDelete:bottom",
+                                                   "directoryDelete:middle",
+                                                   "directoryDelete:tree"));
+        assertEquals(events.size(), 5);
+        assertTrue(events.indexOf("directoryDelete:bottom") < events.indexOf("directoryDelete:middle"));
+        assertTrue(events.indexOf("directoryDelete:middle") < events.indexOf("directoryDelete:tree"));
+
+        FileUtils.writeStringToFile(new File(siblingDirectory, "new.txt"), "x", StandardCharsets.UTF_8);
+        this.waitForEvents(6);
+
+        assertEquals(events.get(5), "fileCreate:new.txt");
+    }
+
+
+    /**
+     * When more paths are queued than allowed, the tree is rescanned and each new file is still reported once.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test
+    public void testOverflowRescansDirectory() throws Exception
+    {
+        this.startWatcher(2);
+
+        for (int i = 0; i < 10; i++)
+        {
+            FileUtils.writeStringToFile(new File(directory, "file" + i + ".txt"), "x", StandardCharsets.UTF_8);
+        }
+
+        this.waitForEvents(10);
+        Thread.sleep(DEBOUNCE_INTERVAL * 3);
+
+        assertEquals(events.size(), 10);
+
+        for (int i = 0; i < 10; i++)
+        {
+            assertTrue(events.contains("fileCreate:file" + i + ".txt"));
+        }
+    }
+
+
+    private void startWatcher(int maxQueuedEvents) throws IOException
+    {
+        watcher = new DirectoryWatcher(directory, new RecordingListener(), DEBOUNCE_INTERVAL, maxQueuedEvents, "test", null);
+        watcher.start();
+    }
+
+
+    private void waitForEvents(int count) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + WAIT_TIME;
+
+        while ((events.size() < count) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(20);
+        }
+
+        assertTrue(events.size() >= count, "Events: " + events);
+    }
+
+
+    private class RecordingListener extends FileAlterationListenerAdaptor
+    {
+        @Override
+        public void onFileCreate(File file)
+        {
+            events.add("fileCreate:" + file.getName());
+        }
+
+        @Override
+        public void onFileChange(File file)
+        {
+            events.add("fileChange:" + file.getName());
+        }
+
+        @Override
+        public void onFileDelete(File file)
+        {
+            events.add("fileDelete:" + file.getName());
+        }
+
+        @Override
+        public void onDirectoryCreate(File directory)
+        {
+            events.add("directoryCreate:" + directory.getName());
+        }
+
+        @Override
+        public void onDirectoryDelete(File directory)
+        {
+            events.add("directoryDelete:" + directory.getName());
+        }
+    }
+}
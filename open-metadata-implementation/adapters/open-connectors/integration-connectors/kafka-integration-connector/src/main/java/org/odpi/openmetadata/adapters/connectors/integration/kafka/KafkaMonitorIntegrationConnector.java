@@ -5,31 +5,56 @@ package org.odpi.openmetadata.adapters.connectors.integration.kafka;
 
 
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.TopicElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.TemplateProperties;
 import org.odpi.openmetadata.accessservices.datamanager.properties.TopicProperties;
 import org.odpi.openmetadata.adapters.connectors.integration.kafka.ffdc.KafkaIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.kafka.ffdc.KafkaIntegrationConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorContext;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 
 
 /**
- * KafkaMonitorIntegrationConnector catalogues active topics in a kafka broker.
+ * KafkaMonitorIntegrationConnector catalogues active topics in a kafka broker.  It keeps a snapshot of the topics that
+ * it has catalogued so that each refresh only updates the catalog for the topics that have been added to, or removed from,
+ * the event broker since the last refresh.
  */
 public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
 {
+    private static final String SNAPSHOT_DIRECTORY        = "data/topic-snapshots/";
+    private static final String SNAPSHOT_FILE_SUFFIX      = "-topics.snapshot";
+    private static final int    DEFAULT_CATALOG_PAGE_SIZE = 100;
+
     private String templateQualifiedName = null;
     private String templateGUID = null;
     private String targetRootURL = "localhost:9092";
 
+    private int           catalogPageSize           = DEFAULT_CATALOG_PAGE_SIZE;
+    private boolean       describeNewTopics         = false;
+    private boolean       reconciliationRequested   = false;
+    private TopicSnapshot topicSnapshot             = null;
+
     private TopicIntegratorContext myContext = null;
 
     /**
@@ -57,11 +82,50 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
             targetRootURL = endpoint.getAddress();
         }
 
+        String snapshotFileName = null;
+
         Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
         if (configurationProperties != null)
         {
-            templateQualifiedName = configurationProperties.get(KafkaMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            Object templateName = configurationProperties.get(KafkaMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+
+            if (templateName != null)
+            {
+                templateQualifiedName = templateName.toString();
+            }
+
+            Object snapshotFile = configurationProperties.get(KafkaMonitorIntegrationProvider.TOPIC_SNAPSHOT_FILE_CONFIGURATION_PROPERTY);
+
+            if (snapshotFile != null)
+            {
+                snapshotFileName = snapshotFile.toString();
+            }
+
+            catalogPageSize = this.getPositiveIntProperty(configurationProperties,
+                                                          KafkaMonitorIntegrationProvider.CATALOG_PAGE_SIZE_CONFIGURATION_PROPERTY,
+                                                          DEFAULT_CATALOG_PAGE_SIZE);
+
+            Object describeTopics = configurationProperties.get(KafkaMonitorIntegrationProvider.DESCRIBE_NEW_TOPICS_CONFIGURATION_PROPERTY);
+            describeNewTopics = (describeTopics != null) && Boolean.parseBoolean(describeTopics.toString());
+
+            Object fullReconciliation = configurationProperties.get(KafkaMonitorIntegrationProvider.FULL_RECONCILIATION_CONFIGURATION_PROPERTY);
+            reconciliationRequested = (fullReconciliation != null) && Boolean.parseBoolean(fullReconciliation.toString());
+        }
+
+        if (snapshotFileName == null)
+        {
+            /*
+             * The connector name is included so that two connectors monitoring the same event broker do not share a snapshot.
+             */
+            String snapshotName = targetRootURL;
+
+            if (connectorName != null)
+            {
+                snapshotName = connectorName + "-" + targetRootURL;
+            }
+
+            snapshotFileName = SNAPSHOT_DIRECTORY + snapshotName.replaceAll("[^A-Za-z0-9._-]", "_") + SNAPSHOT_FILE_SUFFIX;
         }
 
         /*
@@ -73,6 +137,34 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
                                 KafkaIntegrationConnectorAuditCode.CONNECTOR_CONFIGURATION.getMessageDefinition(connectorName,
                                                                                                                 targetRootURL,
                                                                                                                 templateQualifiedName));
+            auditLog.logMessage(methodName,
+                                KafkaIntegrationConnectorAuditCode.TOPIC_SNAPSHOT_CONFIGURATION.getMessageDefinition(connectorName,
+                                                                                                                     snapshotFileName,
+                                                                                                                     Integer.toString(catalogPageSize),
+                                                                                                                     Boolean.toString(describeNewTopics)));
+        }
+
+        /*
+         * Read the topics catalogued by the last refresh.  If there is no snapshot, the first refresh
+         * compares the topics in the event broker with all the catalogued topics.
+         */
+        topicSnapshot = new TopicSnapshot(new File(snapshotFileName));
+
+        try
+        {
+            topicSnapshot.load();
+        }
+        catch (IOException error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      KafkaIntegrationConnectorAuditCode.UNREADABLE_TOPIC_SNAPSHOT.getMessageDefinition(connectorName,
+                                                                                                                        snapshotFileName,
+                                                                                                                        error.getClass().getName(),
+                                                                                                                        error.getMessage()),
+                                      error);
+            }
         }
 
         /*
@@ -111,14 +203,52 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
     }
 
 
+    /**
+     * Return the value of a configuration property that must be a positive number.  The default is returned if the
+     * property is not set or is not valid.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private int getPositiveIntProperty(Map<String, Object> configurationProperties,
+                                       String              propertyName,
+                                       int                 defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                int value = Integer.parseInt(propertyValue.toString());
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                // use the default value
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
      *
-     * This method performs two sweeps. It first retrieves the topics from the event broker (Kafka) and validates that are in the
-     * catalog - adding or updating them if necessary. The second sweep is to ensure that all the topics catalogued
-     * actually exist in the event broker.
+     * This method retrieves the topics from the event broker (Kafka) and compares them with the snapshot of the topics
+     * catalogued by the previous refresh.  Only the topics that have been added or removed since then are created or
+     * deleted in the catalog, and the snapshot is saved after each of these changes.  If there is no snapshot, or a full
+     * reconciliation has been requested, the topics are compared with all the topics catalogued for the event broker and
+     * the result becomes the new snapshot.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -127,16 +257,15 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
     {
         final String methodName = "refresh";
 
-        try
+        Properties properties = new Properties();
+        properties.put("bootstrap.servers", targetRootURL);
+
+        try (Admin admin = Admin.create(properties))
         {
             /*
              * Retrieve the list of active topics from Kafka.
              */
-            Properties properties = new Properties();
-            properties.put("bootstrap.servers", targetRootURL);
-            Admin            admin            = Admin.create(properties);
-            Set<String>      activeTopicNames = admin.listTopics().names().get();
-            admin.close();
+            Set<String> activeTopicNames = admin.listTopics().names().get();
 
             if (activeTopicNames != null)
             {
@@ -144,125 +273,409 @@ public class KafkaMonitorIntegrationConnector extends TopicIntegratorConnector
                 {
                     auditLog.logMessage(methodName,
                                         KafkaIntegrationConnectorAuditCode.RETRIEVED_TOPICS.getMessageDefinition(connectorName,
-                                                                                                                 "localhost:9092",
+                                                                                                                 targetRootURL,
                                                                                                                  Integer.toString(activeTopicNames.size())));
                 }
 
-                /*
-                 * Retrieve the topics that are catalogued for this event broker.
-                 * Remove the topics from the catalog that are no longer present in the event broker.
-                 * Remove the names of the topics that are cataloged from the active topic names.
-                 * At the end of this loop, the active topic names will just contain the names of the
-                 * topics that are not catalogued.
-                 */
-                int startFrom = 0;
-                List<TopicElement> cataloguedTopics = myContext.getMyTopics(startFrom, 0);
-
-                while (cataloguedTopics != null)
+                this.synchronizeTopics(admin, activeTopicNames, methodName);
+            }
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      KafkaIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_TOPICS.getMessageDefinition(connectorName,
+                                                                                                                        targetRootURL,
+                                                                                                                        error.getClass().getName(),
+                                                                                                                        error.getMessage()),
+                                      error);
+
+
+            }
+
+            throw new ConnectorCheckedException(KafkaIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                             error.getClass().getName(),
+                                                                                                                             error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Update the catalog and the snapshot with the topics that have been added to, or removed from, the event broker.
+     * The snapshot is saved after each change to the catalog so that a failure part way through does not leave topics
+     * catalogued that the snapshot does not know about.
+     *
+     * @param admin client for the event broker
+     * @param activeTopicNames names of the topics in the event broker
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's user is not authorized to maintain the topics
+     * @throws PropertyServerException there is a problem reported in the open metadata server(s)
+     */
+    void synchronizeTopics(Admin       admin,
+                           Set<String> activeTopicNames,
+                           String      methodName) throws InvalidParameterException,
+                                                          UserNotAuthorizedException,
+                                                          PropertyServerException
+    {
+        try
+        {
+            Set<String> newTopicNames;
+
+            if ((reconciliationRequested) || (! topicSnapshot.isLoaded()))
+            {
+                if (auditLog != null)
                 {
-                    startFrom = startFrom + cataloguedTopics.size();
+                    String reason = reconciliationRequested ? "a full reconciliation was requested in the connector's configuration"
+                                                            : "there is no snapshot of the topics catalogued by a previous refresh";
 
-                    for (TopicElement topicElement : cataloguedTopics)
-                    {
-                        String topicName = topicElement.getProperties().getQualifiedName();
-                        String topicGUID = topicElement.getElementHeader().getGUID();
+                    auditLog.logMessage(methodName,
+                                        KafkaIntegrationConnectorAuditCode.FULL_RECONCILIATION.getMessageDefinition(connectorName,
+                                                                                                                    Integer.toString(activeTopicNames.size()),
+                                                                                                                    targetRootURL,
+                                                                                                                    reason));
+                }
 
-                        if (! activeTopicNames.contains(topicName))
-                        {
-                            /*
-                             * The topic no longer exists so delete it from the catalog.
-                             */
-                            myContext.removeTopic(topicGUID, topicName);
-
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    KafkaIntegrationConnectorAuditCode.TOPIC_DELETED.getMessageDefinition(connectorName,
-                                                                                                                          topicName,
-                                                                                                                          topicGUID));
-                            }
-                        }
-                        else
-                        {
-                            activeTopicNames.remove(topicName);
-                        }
+                newTopicNames = this.reconcileCataloguedTopics(activeTopicNames, methodName);
+                reconciliationRequested = false;
+            }
+            else
+            {
+                Map<String, String> removedTopics = topicSnapshot.getRemovedTopics(activeTopicNames);
+
+                newTopicNames = topicSnapshot.getAddedTopics(activeTopicNames);
+
+                if ((! newTopicNames.isEmpty()) || (! removedTopics.isEmpty()))
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            KafkaIntegrationConnectorAuditCode.TOPIC_CHANGES.getMessageDefinition(connectorName,
+                                                                                                                  Integer.toString(newTopicNames.size()),
+                                                                                                                  Integer.toString(removedTopics.size()),
+                                                                                                                  targetRootURL));
                     }
+                }
 
-                    cataloguedTopics = myContext.getMyTopics(startFrom, 0);
+                for (String topicName : removedTopics.keySet())
+                {
+                    this.removeTopic(topicName, removedTopics.get(topicName), methodName);
                 }
+            }
+
+            this.createTopics(admin, newTopicNames, methodName);
+        }
+        finally
+        {
+            this.saveTopicSnapshot(methodName);
+        }
+    }
 
 
-                String topicGUID;
+    /**
+     * Compare the topics in the event broker with all the topics catalogued for it.  The catalogued topics are retrieved
+     * a page at a time and become the new snapshot.  Topics that are no longer in the event broker are removed from the
+     * catalog, and the snapshot, once all the pages have been read so that the removals do not move the later pages.
+     *
+     * @param activeTopicNames names of the topics in the event broker
+     * @param methodName calling method
+     * @return names of the active topics that are not catalogued
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's user is not authorized to maintain the topics
+     * @throws PropertyServerException there is a problem reported in the open metadata server(s)
+     */
+    private Set<String> reconcileCataloguedTopics(Set<String> activeTopicNames,
+                                                  String      methodName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        Map<String, String> cataloguedTopicGUIDs = new HashMap<>();
+        Map<String, String> removedTopics        = new HashMap<>();
 
-                /*
-                 * Add the remaining active topics to the catalog.
-                 */
-                for (String topicName : activeTopicNames)
+        int                startFrom        = 0;
+        List<TopicElement> cataloguedTopics = myContext.getMyTopics(startFrom, catalogPageSize);
+
+        while ((cataloguedTopics != null) && (! cataloguedTopics.isEmpty()))
+        {
+            startFrom = startFrom + cataloguedTopics.size();
+
+            for (TopicElement topicElement : cataloguedTopics)
+            {
+                String topicName = topicElement.getProperties().getQualifiedName();
+                String topicGUID = topicElement.getElementHeader().getGUID();
+
+                cataloguedTopicGUIDs.put(topicName, topicGUID);
+
+                if (! activeTopicNames.contains(topicName))
                 {
-                    if (templateGUID == null)
+                    removedTopics.put(topicName, topicGUID);
+                }
+            }
+
+            cataloguedTopics = myContext.getMyTopics(startFrom, catalogPageSize);
+        }
+
+        topicSnapshot.replace(cataloguedTopicGUIDs);
+        this.saveTopicSnapshot(methodName);
+
+        for (String topicName : removedTopics.keySet())
+        {
+            this.removeTopic(topicName, removedTopics.get(topicName), methodName);
+        }
+
+        return topicSnapshot.getAddedTopics(activeTopicNames);
+    }
+
+
+    /**
+     * Remove the Topic for a topic that is no longer in the event broker.  If the Topic has already been
+     * removed from the catalog, the topic is just removed from the snapshot.
+     *
+     * @param topicName name of the topic
+     * @param topicGUID unique identifier of its Topic element
+     * @param methodName calling method
+     * @throws UserNotAuthorizedException the connector's user is not authorized to maintain the topics
+     * @throws PropertyServerException there is a problem reported in the open metadata server(s)
+     */
+    private void removeTopic(String topicName,
+                             String topicGUID,
+                             String methodName) throws UserNotAuthorizedException,
+                                                       PropertyServerException
+    {
+        try
+        {
+            myContext.removeTopic(topicGUID, topicName);
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    KafkaIntegrationConnectorAuditCode.TOPIC_DELETED.getMessageDefinition(connectorName,
+                                                                                                          topicName,
+                                                                                                          topicGUID));
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            /*
+             * The Topic is no longer in the catalog.
+             */
+        }
+
+        topicSnapshot.removeTopic(topicName);
+        this.saveTopicSnapshot(methodName);
+    }
+
+
+    /**
+     * Add the new topics to the catalog and to the snapshot.  When describeNewTopics is set, the partitions and
+     * configuration of the new topics are retrieved from the event broker and stored with their Topics.
+     *
+     * @param admin client for the event broker
+     * @param newTopicNames names of the topics to catalog
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's user is not authorized to maintain the topics
+     * @throws PropertyServerException there is a problem reported in the open metadata server(s)
+     */
+    private void createTopics(Admin       admin,
+                              Set<String> newTopicNames,
+                              String      methodName) throws InvalidParameterException,
+                                                             UserNotAuthorizedException,
+                                                             PropertyServerException
+    {
+        if (newTopicNames.isEmpty())
+        {
+            return;
+        }
+
+        Map<String, Map<String, String>> topicDetails = new HashMap<>();
+
+        if (describeNewTopics)
+        {
+            topicDetails = this.describeTopics(admin, newTopicNames, methodName);
+        }
+
+        String topicGUID;
+
+        for (String topicName : new TreeSet<>(newTopicNames))
+        {
+            Map<String, String> additionalProperties = topicDetails.get(topicName);
+
+            if (templateGUID == null)
+            {
+                TopicProperties topicProperties = new TopicProperties();
+
+                topicProperties.setQualifiedName(topicName);
+                topicProperties.setTypeName("KafkaTopic");
+                topicProperties.setAdditionalProperties(additionalProperties);
+
+                topicGUID = myContext.createTopic(topicProperties);
+
+                if (topicGUID != null)
+                {
+                    topicSnapshot.addTopic(topicName, topicGUID);
+                    this.saveTopicSnapshot(methodName);
+
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            KafkaIntegrationConnectorAuditCode.TOPIC_CREATED.getMessageDefinition(connectorName,
+                                                                                                                  topicName,
+                                                                                                                  topicGUID));
+                    }
+                }
+            }
+            else
+            {
+                TemplateProperties templateProperties = new TemplateProperties();
+
+                templateProperties.setQualifiedName(topicName);
+
+                topicGUID = myContext.createTopicFromTemplate(templateGUID, templateProperties);
+
+                if (topicGUID != null)
+                {
+                    topicSnapshot.addTopic(topicName, topicGUID);
+                    this.saveTopicSnapshot(methodName);
+
+                    if (additionalProperties != null)
                     {
                         TopicProperties topicProperties = new TopicProperties();
 
                         topicProperties.setQualifiedName(topicName);
-                        topicProperties.setTypeName("KafkaTopic");
+                        topicProperties.setAdditionalProperties(additionalProperties);
 
-                        topicGUID = myContext.createTopic(topicProperties);
-
-                        if (topicGUID != null)
-                        {
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    KafkaIntegrationConnectorAuditCode.TOPIC_CREATED.getMessageDefinition(connectorName,
-                                                                                                                          topicName,
-                                                                                                                          topicGUID));
-                            }
-                        }
+                        myContext.updateTopic(topicGUID, true, topicProperties);
                     }
-                    else
+
+                    if (auditLog != null)
                     {
-                        TemplateProperties templateProperties = new TemplateProperties();
+                        auditLog.logMessage(methodName,
+                                            KafkaIntegrationConnectorAuditCode.TOPIC_CREATED_FROM_TEMPLATE.getMessageDefinition(connectorName,
+                                                                                                                                topicName,
+                                                                                                                                topicGUID,
+                                                                                                                                templateQualifiedName,
+                                                                                                                                templateGUID));
+                    }
+                }
+            }
+        }
+    }
 
-                        templateProperties.setQualifiedName(topicName);
 
-                        topicGUID = myContext.createTopicFromTemplate(templateGUID, templateProperties);
+    /**
+     * Retrieve the partitions and the configuration of the new topics.  The requests for the partitions and for the
+     * configuration are both sent for all the new topics before waiting for either response.  The configuration values
+     * that are set for the topic, rather than inherited from the broker defaults, are returned along with the number of
+     * partitions and the replication factor.  If the topics can not be described, they are catalogued without these details.
+     *
+     * @param admin client for the event broker
+     * @param newTopicNames names of the new topics
+     * @param methodName calling method
+     * @return map of topic name to the additional properties for its Topic
+     */
+    private Map<String, Map<String, String>> describeTopics(Admin       admin,
+                                                            Set<String> newTopicNames,
+                                                            String      methodName)
+    {
+        Map<String, Map<String, String>> topicDetails = new HashMap<>();
+
+        try
+        {
+            List<ConfigResource> configResources = new ArrayList<>();
 
-                        if (topicGUID != null)
-                        {
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    KafkaIntegrationConnectorAuditCode.TOPIC_CREATED_FROM_TEMPLATE.getMessageDefinition(connectorName,
-                                                                                                                                        topicName,
-                                                                                                                                        topicGUID,
-                                                                                                                                        templateQualifiedName,
-                                                                                                                                        templateGUID));
-                            }
-                        }
+            for (String topicName : newTopicNames)
+            {
+                configResources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName));
+            }
+
+            DescribeTopicsResult  describeTopicsResult  = admin.describeTopics(newTopicNames);
+            DescribeConfigsResult describeConfigsResult = admin.describeConfigs(configResources);
+
+            Map<String, TopicDescription> topicDescriptions = describeTopicsResult.allTopicNames().get();
+            Map<ConfigResource, Config>   topicConfigs      = describeConfigsResult.all().get();
+
+            for (TopicDescription topicDescription : topicDescriptions.values())
+            {
+                Map<String, String> additionalProperties = new HashMap<>();
+
+                additionalProperties.put("partitions", Integer.toString(topicDescription.partitions().size()));
+
+                if (! topicDescription.partitions().isEmpty())
+                {
+                    additionalProperties.put("replicationFactor", Integer.toString(topicDescription.partitions().get(0).replicas().size()));
+                }
+
+                topicDetails.put(topicDescription.name(), additionalProperties);
+            }
+
+            for (Map.Entry<ConfigResource, Config> topicConfig : topicConfigs.entrySet())
+            {
+                Map<String, String> additionalProperties = topicDetails.computeIfAbsent(topicConfig.getKey().name(), topicName -> new HashMap<>());
+
+                for (ConfigEntry configEntry : topicConfig.getValue().entries())
+                {
+                    if ((configEntry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG) && (configEntry.value() != null) && (! configEntry.isSensitive()))
+                    {
+                        additionalProperties.put(configEntry.name(), configEntry.value());
                     }
                 }
             }
         }
         catch (Exception error)
         {
+            if (error instanceof InterruptedException)
+            {
+                Thread.currentThread().interrupt();
+            }
+
             if (auditLog != null)
             {
                 auditLog.logException(methodName,
-                                      KafkaIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_TOPICS.getMessageDefinition(connectorName,
-                                                                                                                        "localhost:9092",
+                                      KafkaIntegrationConnectorAuditCode.UNABLE_TO_DESCRIBE_TOPICS.getMessageDefinition(connectorName,
+                                                                                                                        targetRootURL,
                                                                                                                         error.getClass().getName(),
+                                                                                                                        Integer.toString(newTopicNames.size()),
                                                                                                                         error.getMessage()),
                                       error);
+            }
 
+            topicDetails.clear();
+        }
 
-            }
+        return topicDetails;
+    }
 
-            throw new ConnectorCheckedException(KafkaIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
-                                                                                                                             error.getClass().getName(),
-                                                                                                                             error.getMessage()),
-                                                this.getClass().getName(),
-                                                methodName,
-                                                error);
+
+    /**
+     * Save the topic snapshot if it has changed.  A failure is logged and the save is tried again after the next change.
+     *
+     * @param methodName calling method
+     */
+    private void saveTopicSnapshot(String methodName)
+    {
+        if (topicSnapshot.isModified())
+        {
+            try
+            {
+                topicSnapshot.save();
+            }
+            catch (IOException error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          KafkaIntegrationConnectorAuditCode.UNABLE_TO_SAVE_TOPIC_SNAPSHOT.getMessageDefinition(connectorName,
+                                                                                                                                topicSnapshot.getSnapshotFile().getPath(),
+                                                                                                                                error.getClass().getName(),
+                                                                                                                                error.getMessage()),
+                                          error);
+                }
+            }
         }
     }
 
@@ -43,6 +43,27 @@ public class KafkaMonitorIntegrationProvider extends IntegrationConnectorProvide
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
 
+    /*
+     * File that records the topics that have been catalogued so that each refresh only processes the changes.
+     * The default is a file in the data/topic-snapshots directory named after the connector and the event broker's address.
+     */
+    static final String TOPIC_SNAPSHOT_FILE_CONFIGURATION_PROPERTY     = "topicSnapshotFile";
+
+    /*
+     * Number of catalogued topics retrieved in each request when the snapshot is rebuilt.
+     */
+    static final String CATALOG_PAGE_SIZE_CONFIGURATION_PROPERTY       = "catalogPageSize";
+
+    /*
+     * Set to true to retrieve the partitions and configuration of each new topic and store them with its Topic element.
+     */
+    static final String DESCRIBE_NEW_TOPICS_CONFIGURATION_PROPERTY     = "describeNewTopics";
+
+    /*
+     * Set to true to compare the topics in the event broker with every catalogued topic when the connector starts.
+     */
+    static final String FULL_RECONCILIATION_CONFIGURATION_PROPERTY     = "fullReconciliation";
+
     /**
      * Constructor used to initialize the ConnectorProvider with the Java class name of the specific
      * store implementation.
@@ -68,6 +89,10 @@ public class KafkaMonitorIntegrationProvider extends IntegrationConnectorProvide
         connectorType.setConnectorProviderClassName(this.getClass().getName());
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(TOPIC_SNAPSHOT_FILE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(CATALOG_PAGE_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(DESCRIBE_NEW_TOPICS_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FULL_RECONCILIATION_CONFIGURATION_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
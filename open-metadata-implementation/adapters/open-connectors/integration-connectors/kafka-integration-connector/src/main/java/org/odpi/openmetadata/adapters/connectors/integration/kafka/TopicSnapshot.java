@@ -0,0 +1,244 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.kafka;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+
+/**
+ * TopicSnapshot records the topics that the connector has reconciled with the catalog, mapping each topic name
+ * to the unique identifier of its Topic element.  It is saved in a file so that, after a restart, the connector
+ * can compare the topics in the event broker with the snapshot rather than with every catalogued topic.
+ */
+class TopicSnapshot
+{
+    private final File                snapshotFile;
+    private final Map<String, String> topics   = new HashMap<>();
+    private       boolean             loaded   = false;
+    private       boolean             modified = false;
+
+
+    /**
+     * Create an empty snapshot that is saved in the supplied file.
+     *
+     * @param snapshotFile file that holds the snapshot
+     */
+    TopicSnapshot(File snapshotFile)
+    {
+        this.snapshotFile = snapshotFile;
+    }
+
+
+    /**
+     * Return the file that holds the snapshot.
+     *
+     * @return file
+     */
+    File getSnapshotFile()
+    {
+        return snapshotFile;
+    }
+
+
+    /**
+     * Read the snapshot from its file.  If there is no file, the snapshot is left empty and not loaded.
+     *
+     * @return whether the snapshot was read from the file
+     * @throws IOException the file can not be read
+     */
+    synchronized boolean load() throws IOException
+    {
+        topics.clear();
+        loaded = false;
+        modified = false;
+
+        if (! snapshotFile.exists())
+        {
+            return false;
+        }
+
+        Properties properties = new Properties();
+
+        try (InputStream inputStream = Files.newInputStream(snapshotFile.toPath()))
+        {
+            properties.load(inputStream);
+        }
+        catch (IllegalArgumentException error)
+        {
+            throw new IOException("Topic snapshot file " + snapshotFile.getPath() + " is not valid: " + error.getMessage(), error);
+        }
+
+        for (String topicName : properties.stringPropertyNames())
+        {
+            topics.put(topicName, properties.getProperty(topicName));
+        }
+
+        loaded = true;
+
+        return true;
+    }
+
+
+    /**
+     * Return whether the snapshot holds a complete reconciliation of the topics, either because it was read from its
+     * file or because it has been replaced.
+     *
+     * @return boolean flag
+     */
+    synchronized boolean isLoaded()
+    {
+        return loaded;
+    }
+
+
+    /**
+     * Return whether the snapshot has changed since it was last read or saved.
+     *
+     * @return boolean flag
+     */
+    synchronized boolean isModified()
+    {
+        return modified;
+    }
+
+
+    /**
+     * Return the number of topics in the snapshot.
+     *
+     * @return count
+     */
+    synchronized int size()
+    {
+        return topics.size();
+    }
+
+
+    /**
+     * Return the unique identifier of the Topic element for a topic.
+     *
+     * @param topicName name of the topic
+     * @return unique identifier or null if the topic is not in the snapshot
+     */
+    synchronized String getTopicGUID(String topicName)
+    {
+        return topics.get(topicName);
+    }
+
+
+    /**
+     * Return the names of the topics in the event broker that are not in the snapshot.
+     *
+     * @param brokerTopicNames names of the topics in the event broker
+     * @return names of the new topics
+     */
+    synchronized Set<String> getAddedTopics(Set<String> brokerTopicNames)
+    {
+        Set<String> addedTopics = new HashSet<>(brokerTopicNames);
+
+        addedTopics.removeAll(topics.keySet());
+
+        return addedTopics;
+    }
+
+
+    /**
+     * Return the topics in the snapshot that are no longer in the event broker.
+     *
+     * @param brokerTopicNames names of the topics in the event broker
+     * @return map of topic name to unique identifier of the Topic element for the removed topics
+     */
+    synchronized Map<String, String> getRemovedTopics(Set<String> brokerTopicNames)
+    {
+        Map<String, String> removedTopics = new HashMap<>(topics);
+
+        removedTopics.keySet().removeAll(brokerTopicNames);
+
+        return removedTopics;
+    }
+
+
+    /**
+     * Record that a topic has been catalogued.
+     *
+     * @param topicName name of the topic
+     * @param topicGUID unique identifier of its Topic element
+     */
+    synchronized void addTopic(String topicName, String topicGUID)
+    {
+        topics.put(topicName, topicGUID);
+        modified = true;
+    }
+
+
+    /**
+     * Record that a topic is no longer catalogued.
+     *
+     * @param topicName name of the topic
+     */
+    synchronized void removeTopic(String topicName)
+    {
+        if (topics.remove(topicName) != null)
+        {
+            modified = true;
+        }
+    }
+
+
+    /**
+     * Replace the contents of the snapshot with the result of a full reconciliation.
+     *
+     * @param reconciledTopics map of topic name to unique identifier of its Topic element
+     */
+    synchronized void replace(Map<String, String> reconciledTopics)
+    {
+        topics.clear();
+        topics.putAll(reconciledTopics);
+        loaded = true;
+        modified = true;
+    }
+
+
+    /**
+     * Write the snapshot to its file.  A new file is written and then moved over the old one so that the
+     * snapshot is never left half written.
+     *
+     * @throws IOException the file can not be written
+     */
+    synchronized void save() throws IOException
+    {
+        File directory = snapshotFile.getAbsoluteFile().getParentFile();
+
+        if (directory != null)
+        {
+            Files.createDirectories(directory.toPath());
+        }
+
+        File       newSnapshotFile = new File(directory, snapshotFile.getName() + ".new");
+        Properties properties      = new Properties();
+
+        for (Map.Entry<String, String> topic : topics.entrySet())
+        {
+            properties.setProperty(topic.getKey(), topic.getValue());
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(newSnapshotFile.toPath()))
+        {
+            properties.store(outputStream, "Topics catalogued by the Kafka Monitor Integration Connector");
+        }
+
+        Files.move(newSnapshotFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        modified = false;
+    }
+}
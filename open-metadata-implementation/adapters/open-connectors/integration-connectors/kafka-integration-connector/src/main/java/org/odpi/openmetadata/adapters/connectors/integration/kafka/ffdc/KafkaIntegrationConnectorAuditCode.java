@@ -110,6 +110,51 @@ public enum KafkaIntegrationConnectorAuditCode implements AuditLogMessageSet
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the Topic was archived."),
 
+    TOPIC_SNAPSHOT_CONFIGURATION("KAFKA-INTEGRATION-CONNECTOR-0021",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector is recording the topics it has catalogued in file {1}.  It reads {2} catalogued topics per request when it rebuilds this snapshot and has describeNewTopics={3}",
+                      "The connector compares the topics in the event broker with this snapshot on each refresh and only updates the catalog " +
+                              "for the topics that have been added or removed.  When describeNewTopics is true, the partitions and " +
+                              "configuration of each new topic are stored in the additional properties of its Topic.",
+                      "No specific action is required.  This message is to confirm the snapshot configuration for the integration connector."),
+
+    FULL_RECONCILIATION("KAFKA-INTEGRATION-CONNECTOR-0022",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector is comparing the {1} topics in event broker {2} with all of the catalogued topics because {3}",
+                      "The connector reads all the Topics catalogued for the event broker, removes those that are no longer in the event " +
+                              "broker, creates Topics for the new topics and then saves the result as its topic snapshot.",
+                      "No action is required.  Later refreshes only process the topics that have changed since this snapshot."),
+
+    TOPIC_CHANGES("KAFKA-INTEGRATION-CONNECTOR-0023",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector has found {1} new topics and {2} removed topics in event broker {3} since its last refresh",
+                      "The connector updates the catalog for these topics and records the changes in its topic snapshot.",
+                      "No action is required unless there are errors that follow indicating that the catalog can not be updated for these topics."),
+
+    UNREADABLE_TOPIC_SNAPSHOT("KAFKA-INTEGRATION-CONNECTOR-0024",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The {0} integration connector is unable to read its topic snapshot file {1} because of a {2} exception with message {3}",
+                      "The connector ignores the file and compares the topics in the event broker with all of the catalogued topics " +
+                              "during its next refresh.  It then replaces the file with a new snapshot.",
+                      "Use the message in the exception to determine why the file could not be read.  No action is needed if the " +
+                              "file is successfully replaced by the next refresh."),
+
+    UNABLE_TO_SAVE_TOPIC_SNAPSHOT("KAFKA-INTEGRATION-CONNECTOR-0025",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The {0} integration connector is unable to save its topic snapshot file {1} because of a {2} exception with message {3}",
+                      "The connector keeps the snapshot in memory and tries to save it again after its next refresh.  If the connector is " +
+                              "restarted before the snapshot is saved, it will compare the topics in the event broker with all of the " +
+                              "catalogued topics.",
+                      "Check that the directory for the file exists and that the integration daemon is able to write to it.  " +
+                              "The file is set in the topicSnapshotFile configuration property of the connector."),
+
+    UNABLE_TO_DESCRIBE_TOPICS("KAFKA-INTEGRATION-CONNECTOR-0026",
+                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                      "The {0} integration connector received an unexpected {2} exception when describing {3} new topics in event broker at {1}.  The error message was {4}",
+                      "The connector catalogues the new topics without their partitions and configuration.",
+                      "Use the message in the exception to determine the root cause of the error.  The connector only describes " +
+                              "topics when they are first catalogued, so the details of these topics will be missing until they are updated by another process."),
+
 
     ;
 
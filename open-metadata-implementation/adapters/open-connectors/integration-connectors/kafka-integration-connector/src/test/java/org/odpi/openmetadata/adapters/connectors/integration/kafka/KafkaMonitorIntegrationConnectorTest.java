@@ -0,0 +1,261 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.kafka;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.TopicElement;
+import org.odpi.openmetadata.accessservices.datamanager.properties.TopicProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.kafka.ffdc.KafkaIntegrationConnectorErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the KafkaMonitorIntegrationConnector only creates and removes the Topics for the topics that have changed
+ * since the snapshot was taken, and that it saves the snapshot after each change to the catalog.
+ */
+public class KafkaMonitorIntegrationConnectorTest
+{
+    private static final String METHOD_NAME = "test";
+
+    private File                             directory;
+    private File                             snapshotFile;
+    private StubTopicIntegratorContext       context;
+    private KafkaMonitorIntegrationConnector connector;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        directory    = Files.createTempDirectory("kafka-monitor").toFile();
+        snapshotFile = new File(directory, "topics.snapshot");
+        context      = new StubTopicIntegratorContext();
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(KafkaMonitorIntegrationProvider.TOPIC_SNAPSHOT_FILE_CONFIGURATION_PROPERTY, snapshotFile.getPath());
+
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+
+        connector = new KafkaMonitorIntegrationConnector();
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setContext(context);
+        connector.start();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException
+    {
+        File[] files = directory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+
+        Files.deleteIfExists(directory.toPath());
+    }
+
+
+    /**
+     * Without a snapshot, the topics are compared with every catalogued topic.  After that, only the topics added to or
+     * removed from the event broker are created or removed, and the catalogued topics are not retrieved again.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testOnlyChangedTopicsAreCatalogued() throws Exception
+    {
+        context.cataloguedTopics.put("topicA", "guid-topicA");
+        context.cataloguedTopics.put("oldTopic", "guid-oldTopic");
+
+        connector.synchronizeTopics(null, Set.of("topicA", "topicB"), METHOD_NAME);
+
+        assertEquals(context.calls, List.of("getMyTopics:0", "getMyTopics:2", "remove:oldTopic", "create:topicB"));
+        assertEquals(this.loadSnapshot().size(), 2);
+
+        context.calls.clear();
+
+        connector.synchronizeTopics(null, Set.of("topicB", "topicC"), METHOD_NAME);
+
+        assertEquals(context.calls, List.of("remove:topicA", "create:topicC"));
+
+        TopicSnapshot savedSnapshot = this.loadSnapshot();
+
+        assertEquals(savedSnapshot.size(), 2);
+        assertEquals(savedSnapshot.getTopicGUID("topicB"), "guid-topicB");
+        assertEquals(savedSnapshot.getTopicGUID("topicC"), "guid-topicC");
+    }
+
+
+    /**
+     * Each Topic is recorded in the saved snapshot as soon as it is created, so a failure part way through the new
+     * topics does not lose the ones already catalogued.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testSnapshotSavedAfterEachChange() throws Exception
+    {
+        connector.synchronizeTopics(null, Set.of("topicA"), METHOD_NAME);
+
+        context.failingTopicName = "topicC";
+
+        try
+        {
+            connector.synchronizeTopics(null, Set.of("topicB", "topicC"), METHOD_NAME);
+            fail("The failure to create topicC was not passed to the caller");
+        }
+        catch (PropertyServerException expected)
+        {
+            // expected
+        }
+
+        /*
+         * The snapshot saved before topicC was created already records the earlier changes.
+         */
+        assertNull(context.snapshotBeforeFailure.getTopicGUID("topicA"));
+        assertEquals(context.snapshotBeforeFailure.getTopicGUID("topicB"), "guid-topicB");
+
+        context.failingTopicName = null;
+        context.calls.clear();
+
+        connector.synchronizeTopics(null, Set.of("topicB", "topicC"), METHOD_NAME);
+
+        assertEquals(context.calls, List.of("create:topicC"));
+    }
+
+
+    /**
+     * Read the snapshot saved by the connector.
+     *
+     * @return snapshot
+     * @throws IOException the snapshot can not be read
+     */
+    private TopicSnapshot loadSnapshot() throws IOException
+    {
+        TopicSnapshot savedSnapshot = new TopicSnapshot(snapshotFile);
+
+        assertTrue(savedSnapshot.load());
+
+        return savedSnapshot;
+    }
+
+
+    /**
+     * Context that records the calls from the connector and keeps the catalogued topics in a map instead of calling the
+     * Topic Integrator OMIS.
+     */
+    private class StubTopicIntegratorContext extends TopicIntegratorContext
+    {
+        private final Map<String, String> cataloguedTopics = new HashMap<>();
+        private final List<String>        calls            = new ArrayList<>();
+
+        private String        failingTopicName      = null;
+        private TopicSnapshot snapshotBeforeFailure = null;
+
+        StubTopicIntegratorContext()
+        {
+            super(null, null, null, null, "testUser", "brokerGUID", "broker");
+        }
+
+        @Override
+        public List<TopicElement> getMyTopics(int startFrom,
+                                              int pageSize)
+        {
+            calls.add("getMyTopics:" + startFrom);
+
+            List<TopicElement> topicElements = new ArrayList<>();
+
+            for (String topicName : cataloguedTopics.keySet())
+            {
+                topicElements.add(getTopicElement(topicName, cataloguedTopics.get(topicName)));
+            }
+
+            return topicElements.subList(Math.min(startFrom, topicElements.size()), Math.min(startFrom + pageSize, topicElements.size()));
+        }
+
+        @Override
+        public String createTopic(TopicProperties topicProperties) throws PropertyServerException
+        {
+            String topicName = topicProperties.getQualifiedName();
+
+            if (topicName.equals(failingTopicName))
+            {
+                try
+                {
+                    snapshotBeforeFailure = loadSnapshot();
+                }
+                catch (IOException error)
+                {
+                    fail("The snapshot could not be read: " + error.getMessage());
+                }
+
+                throw new PropertyServerException(KafkaIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("test",
+                                                                                                                               "test",
+                                                                                                                               "test"),
+                                                  this.getClass().getName(),
+                                                  METHOD_NAME);
+            }
+
+            calls.add("create:" + topicName);
+            cataloguedTopics.put(topicName, "guid-" + topicName);
+
+            return "guid-" + topicName;
+        }
+
+        @Override
+        public void removeTopic(String topicGUID,
+                                String qualifiedName)
+        {
+            calls.add("remove:" + qualifiedName);
+            cataloguedTopics.remove(qualifiedName);
+        }
+
+        /**
+         * Return a topic element.
+         *
+         * @param topicName qualified name of the topic
+         * @param topicGUID unique identifier of the topic
+         * @return topic element
+         */
+        private TopicElement getTopicElement(String topicName,
+                                             String topicGUID)
+        {
+            ElementHeader elementHeader = new ElementHeader();
+            elementHeader.setGUID(topicGUID);
+
+            TopicProperties topicProperties = new TopicProperties();
+            topicProperties.setQualifiedName(topicName);
+
+            TopicElement topicElement = new TopicElement();
+            topicElement.setElementHeader(elementHeader);
+            topicElement.setProperties(topicProperties);
+
+            return topicElement;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.kafka;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the TopicSnapshot finds the topics added to and removed from the event broker, and that it is
+ * saved and read back again.
+ */
+public class TopicSnapshotTest
+{
+    private File directory;
+
+
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        directory = Files.createTempDirectory("kafka-topic-snapshot").toFile();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException
+    {
+        File[] files = directory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+
+        Files.deleteIfExists(directory.toPath());
+    }
+
+
+    /**
+     * A snapshot without a file is not loaded, so the connector knows to perform a full reconciliation.
+     *
+     * @throws IOException problem with the file
+     */
+    @Test
+    public void testMissingSnapshot() throws IOException
+    {
+        TopicSnapshot snapshot = new TopicSnapshot(new File(directory, "missing-topics.snapshot"));
+
+        assertFalse(snapshot.load());
+        assertFalse(snapshot.isLoaded());
+        assertEquals(snapshot.size(), 0);
+    }
+
+
+    /**
+     * Only the topics that differ from the snapshot are returned as added or removed.
+     */
+    @Test
+    public void testAddedAndRemovedTopics()
+    {
+        TopicSnapshot snapshot = new TopicSnapshot(new File(directory, "localhost_9092-topics.snapshot"));
+
+        Map<String, String> cataloguedTopics = new HashMap<>();
+        cataloguedTopics.put("orders", "guid-orders");
+        cataloguedTopics.put("payments", "guid-payments");
+        cataloguedTopics.put("audit", "guid-audit");
+        snapshot.replace(cataloguedTopics);
+
+        Set<String> brokerTopics = Set.of("orders", "payments", "shipments");
+
+        assertEquals(snapshot.getAddedTopics(brokerTopics), Set.of("shipments"));
+        assertEquals(snapshot.getRemovedTopics(brokerTopics), Map.of("audit", "guid-audit"));
+
+        snapshot.addTopic("shipments", "guid-shipments");
+        snapshot.removeTopic("audit");
+
+        assertTrue(snapshot.getAddedTopics(brokerTopics).isEmpty());
+        assertTrue(snapshot.getRemovedTopics(brokerTopics).isEmpty());
+        assertEquals(snapshot.size(), 3);
+    }
+
+
+    /**
+     * A saved snapshot is read back with the same topics, including names that need escaping.
+     *
+     * @throws IOException problem with the file
+     */
+    @Test
+    public void testSaveAndLoad() throws IOException
+    {
+        File snapshotFile = new File(directory, "localhost_9092-topics.snapshot");
+        TopicSnapshot snapshot = new TopicSnapshot(snapshotFile);
+
+        snapshot.replace(Map.of("orders", "guid-orders", "egeria.omag:topic=1", "guid-escaped"));
+
+        assertTrue(snapshot.isModified());
+
+        snapshot.save();
+
+        assertFalse(snapshot.isModified());
+        assertTrue(snapshotFile.exists());
+        assertFalse(new File(directory, snapshotFile.getName() + ".new").exists());
+
+        TopicSnapshot savedSnapshot = new TopicSnapshot(snapshotFile);
+
+        assertTrue(savedSnapshot.load());
+        assertTrue(savedSnapshot.isLoaded());
+        assertFalse(savedSnapshot.isModified());
+        assertEquals(savedSnapshot.size(), 2);
+        assertEquals(savedSnapshot.getTopicGUID("orders"), "guid-orders");
+        assertEquals(savedSnapshot.getTopicGUID("egeria.omag:topic=1"), "guid-escaped");
+        assertNull(savedSnapshot.getTopicGUID("payments"));
+    }
+}
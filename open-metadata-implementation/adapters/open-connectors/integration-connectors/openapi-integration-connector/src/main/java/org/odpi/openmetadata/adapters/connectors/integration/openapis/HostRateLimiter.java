@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * HostRateLimiter spaces out the requests that the connector's retrieval threads send to the same host so that
+ * retrieving the specifications concurrently does not overload a server that hosts many APIs.  Requests to
+ * different hosts are not delayed.
+ */
+class HostRateLimiter
+{
+    private final long               intervalInNanos;
+    private final Map<String, Long>  nextPermitTimes = new HashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param maxRequestsPerHostPerSecond maximum number of requests sent to a host each second
+     */
+    HostRateLimiter(int maxRequestsPerHostPerSecond)
+    {
+        this.intervalInNanos = TimeUnit.SECONDS.toNanos(1) / maxRequestsPerHostPerSecond;
+    }
+
+
+    /**
+     * Wait until a request may be sent to the host of the URL.
+     *
+     * @param url URL that is about to be called
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    void acquire(String url) throws InterruptedException
+    {
+        String host = getHost(url);
+        long   waitTime;
+
+        synchronized (nextPermitTimes)
+        {
+            long now        = System.nanoTime();
+            long permitTime = Math.max(now, nextPermitTimes.getOrDefault(host, now));
+
+            nextPermitTimes.put(host, permitTime + intervalInNanos);
+            waitTime = permitTime - now;
+        }
+
+        if (waitTime > 0)
+        {
+            TimeUnit.NANOSECONDS.sleep(waitTime);
+        }
+    }
+
+
+    /**
+     * Extract the host from the URL.  The whole URL is used if it can not be parsed.
+     *
+     * @param url URL that is about to be called
+     * @return host name
+     */
+    private String getHost(String url)
+    {
+        try
+        {
+            String host = new URI(url).getHost();
+
+            if (host != null)
+            {
+                return host;
+            }
+        }
+        catch (URISyntaxException error)
+        {
+            // use the whole URL
+        }
+
+        return url;
+    }
+}
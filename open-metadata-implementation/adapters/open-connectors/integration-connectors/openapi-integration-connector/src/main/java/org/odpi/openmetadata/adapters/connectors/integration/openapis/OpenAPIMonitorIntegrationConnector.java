@@ -6,6 +6,8 @@ package org.odpi.openmetadata.adapters.connectors.integration.openapis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.odpi.openmetadata.accessservices.datamanager.api.DataManagerEventListener;
 import org.odpi.openmetadata.accessservices.datamanager.events.DataManagerOutboundEvent;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.APIElement;
@@ -28,10 +30,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorContext;
-
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 /**
@@ -41,14 +56,28 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
 {
     private static final String urlMarker = "http";
 
+    private static final int defaultMaxConcurrentRetrievals     = 4;
+    private static final int defaultMaxRequestsPerHostPerSecond = 2;
+    private static final int apiOperationPageSize               = 100;
+
     private String templateQualifiedName = null;
     private String targetRootURL = null;
 
-    private final Map<String, RESTClient> restClients = new HashMap<>();
+    final Map<String, RESTClient>                  restClients        = new ConcurrentHashMap<>();
+    final Map<String, OpenAPISpecificationVersion> cataloguedVersions = new ConcurrentHashMap<>();
+
+    private ExecutorService retrievalExecutor = null;
+    private HostRateLimiter hostRateLimiter   = new HostRateLimiter(defaultMaxRequestsPerHostPerSecond);
 
     private APIIntegratorContext myContext = null;
     public static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
 
+    /*
+     * Writes the parsed specification with the map entries sorted so that its hash does not depend on the order
+     * in which the server lists the paths.
+     */
+    private static final ObjectWriter CANONICAL_WRITER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).writer();
+
     /**
      * Initialize the connector.
      *
@@ -91,11 +120,27 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
 
         Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
+        int maxConcurrentRetrievals     = defaultMaxConcurrentRetrievals;
+        int maxRequestsPerHostPerSecond = defaultMaxRequestsPerHostPerSecond;
+
         if (configurationProperties != null)
         {
-            templateQualifiedName = configurationProperties.get(OpenAPIMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            if (configurationProperties.get(OpenAPIMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY) != null)
+            {
+                templateQualifiedName = configurationProperties.get(OpenAPIMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            }
+
+            maxConcurrentRetrievals = getPositiveIntegerProperty(configurationProperties,
+                                                                 OpenAPIMonitorIntegrationProvider.MAX_CONCURRENT_RETRIEVALS_CONFIGURATION_PROPERTY,
+                                                                 defaultMaxConcurrentRetrievals);
+            maxRequestsPerHostPerSecond = getPositiveIntegerProperty(configurationProperties,
+                                                                     OpenAPIMonitorIntegrationProvider.MAX_REQUESTS_PER_HOST_PER_SECOND_CONFIGURATION_PROPERTY,
+                                                                     defaultMaxRequestsPerHostPerSecond);
         }
 
+        retrievalExecutor = Executors.newFixedThreadPool(maxConcurrentRetrievals);
+        hostRateLimiter   = new HostRateLimiter(maxRequestsPerHostPerSecond);
+
         try
         {
             if (targetRootURL != null)
@@ -139,6 +184,42 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
     }
 
 
+    /**
+     * Return the value of a configuration property that must be a positive integer.  The default is returned if the
+     * property is not set or is not valid.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private int getPositiveIntegerProperty(Map<String, Object> configurationProperties,
+                                           String              propertyName,
+                                           int                 defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                int value = Integer.parseInt(propertyValue.toString());
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                // use the default
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Process an event that was published by the Data Manager OMAS.
      *
@@ -296,7 +377,9 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
      *
-     * This method ...
+     * The Open API Specifications are retrieved concurrently on the connector's retrieval threads, with the requests to each host
+     * spaced out by the rate limiter.  Conditional requests are used so that a server can report that a specification is not modified.
+     * The specifications that have changed since they were last catalogued are then catalogued one at a time on the calling thread.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -328,195 +411,397 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
             }
         }
 
+        /*
+         * Start the retrieval of all the specifications before waiting for any of them.
+         */
+        Map<String, Future<RetrievedSpecification>> retrievals = new LinkedHashMap<>();
+
         for (String url : restClients.keySet())
         {
             if (url != null)
             {
-                try
-                {
-                    RESTClient restClient = restClients.get(url);
+                retrievals.put(url, retrievalExecutor.submit(() -> this.retrieveSpecification(url, methodName)));
+            }
+        }
 
-                    String openAPIJSON = restClient.callGetRESTCallNoParams(methodName, String.class, url + "/v3/api-docs");
+        /*
+         * The endpoints are retrieved once for all the specifications that need to be catalogued.
+         */
+        Map<String, String> endpointGUIDs = null;
+        Exception           firstError    = null;
 
-                    if (openAPIJSON != null)
-                    {
-                        OpenAPISpecification openAPISpecification = OBJECT_READER.readValue(openAPIJSON, OpenAPISpecification.class);
-                        String               title = "<Untitled>";
+        for (String url : retrievals.keySet())
+        {
+            try
+            {
+                RetrievedSpecification retrievedSpecification = this.getRetrievedSpecification(retrievals.get(url));
 
-                        if (openAPISpecification != null)
+                if (retrievedSpecification != null)
+                {
+                    if (retrievedSpecification.getSpecification() == null)
+                    {
+                        if (auditLog != null)
                         {
-                            if (auditLog != null)
-                            {
-                                if (openAPISpecification.getInfo() != null)
-                                {
-                                    title = openAPISpecification.getInfo().getTitle();
-                                }
-
-                                auditLog.logMessage(methodName,
-                                                    OpenAPIIntegrationConnectorAuditCode.RETRIEVED_OPEN_API_SPEC.getMessageDefinition(connectorName,
-                                                                                                                                      url,
-                                                                                                                                      title));
-                            }
-
-                            /*
-                             * all the discovered APIs are added to the server's endpoint.
-                             */
-                            String endpointGUID = this.getEndpointGUID(url, openAPISpecification);
-
-                            /*
-                             * Each API/Operation discovered is added to the map as it is added to the catalog.
-                             * This is used to create the summary audit log message - and as
-                             * lookup for the apiGUID/apiOperationGUID when adding detail elements.
-                             */
-                            Map<String, String> apiGUIDMap = new HashMap<>(); /* map from API (Tag) name to GUID */
-                            Map<String, String> apiOperationGUIDMap = new HashMap<>(); /* map from API (Path/Operation) name to GUID */
-
-                            if (openAPISpecification.getTags() != null)
-                            {
-                                for (OpenAPITag tag : openAPISpecification.getTags())
-                                {
-                                    String apiGUID = getAPIGUID(url, endpointGUID, tag);
-
-                                    if (apiGUID != null)
-                                    {
-                                        apiGUIDMap.put(tag.getName(), apiGUID);
-                                    }
-                                }
-                            }
-
-
-                            if (openAPISpecification.getPaths() != null)
-                            {
-                                Map<String, OpenAPIPathDescription> paths = openAPISpecification.getPaths();
-
-                                for (String pathName : paths.keySet())
-                                {
-                                    String apiOperationGUID;
-                                    String apiOperationQualifiedName;
-
-                                    OpenAPIPathDescription pathDescription = paths.get(pathName);
-
-                                    if (pathDescription.getGet() != null)
-                                    {
-                                        apiOperationQualifiedName = "GET " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getGet());
-
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-
-                                    if (pathDescription.getPost() != null)
-                                    {
-                                        apiOperationQualifiedName = "POST " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getPost());
-
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-
-
-                                    if (pathDescription.getPut() != null)
-                                    {
-                                        apiOperationQualifiedName = "PUT " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getPut());
-
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-
-
-                                    if (pathDescription.getDelete() != null)
-                                    {
-                                        apiOperationQualifiedName = "DELETE " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getDelete());
-
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-                                }
-                            }
-
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    OpenAPIIntegrationConnectorAuditCode.CATALOGUED_OPEN_API_SPEC.getMessageDefinition(connectorName,
-                                                                                                                                       url,
-                                                                                                                                       title,
-                                                                                                                                       endpointGUID,
-                                                                                                                                       Integer.toString(apiGUIDMap.size()),
-                                                                                                                                       Integer.toString(apiOperationGUIDMap.size())));
-                            }
+                            auditLog.logMessage(methodName,
+                                                OpenAPIIntegrationConnectorAuditCode.UNCHANGED_OPEN_API_SPEC.getMessageDefinition(connectorName, url));
                         }
                     }
-                }
-                catch (Exception error)
-                {
-                    if (auditLog != null)
+                    else
                     {
-                        auditLog.logMessage(methodName,
-                                            OpenAPIIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_OPEN_API_SPEC.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                       connectorName,
-                                                                                                                                       methodName,
-                                                                                                                                       url,
-                                                                                                                                       error.getMessage()));
+                        if (endpointGUIDs == null)
+                        {
+                            endpointGUIDs = this.getEndpointGUIDs();
+                        }
 
+                        this.catalogSpecification(url, retrievedSpecification.getSpecification(), endpointGUIDs, methodName);
                     }
 
-                    throw new ConnectorCheckedException(OpenAPIIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
-                                                                                                                                       error.getClass().getName(),
-                                                                                                                                       error.getMessage()),
-                                                        this.getClass().getName(),
-                                                        methodName,
-                                                        error);
+                    /*
+                     * The version is only recorded once the specification is catalogued so that a failure is retried on the next refresh.
+                     */
+                    cataloguedVersions.put(url, retrievedSpecification.getVersion());
                 }
             }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        OpenAPIIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_OPEN_API_SPEC.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                   connectorName,
+                                                                                                                                   methodName,
+                                                                                                                                   url,
+                                                                                                                                   error.getMessage()));
+
+                }
+
+                if (firstError == null)
+                {
+                    firstError = error;
+                }
+            }
+        }
+
+        if (firstError != null)
+        {
+            throw new ConnectorCheckedException(OpenAPIIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                               firstError.getClass().getName(),
+                                                                                                                               firstError.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                firstError);
         }
     }
 
 
     /**
-     * Return the endpoint's GUID - it may create a catalog entry if it does not exist.
+     * Wait for the retrieval of a specification to complete and return its result.  The exception thrown by the retrieval thread
+     * is passed on to the caller.
      *
-     * @param url URL of the API
-     * @param openAPISpecification descriptive information from the open API spec
-     * @return unique identifier of the metadata element for the Endpoint element
+     * @param retrieval result of the retrieval
+     * @return retrieved specification or null if nothing was returned
+     * @throws Exception the retrieval failed or the calling thread was interrupted
+     */
+    private RetrievedSpecification getRetrievedSpecification(Future<RetrievedSpecification> retrieval) throws Exception
+    {
+        try
+        {
+            return retrieval.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof Exception)
+            {
+                throw (Exception) error.getCause();
+            }
+
+            throw error;
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Retrieve the Open API Specification from a URL.  This runs on one of the retrieval threads so it does not call the
+     * integration context.  The entity tag and last modified time from the version that was last catalogued are sent with the
+     * request so the server can return "not modified".  If the server does not support this, the hash of the parsed
+     * specification is compared with the hash of the version that was last catalogued.
+     *
+     * @param url URL of the server
+     * @param methodName calling method
+     * @return retrieved specification - the specification is null if it has not changed
+     * @throws Exception the specification could not be retrieved or parsed
+     */
+    RetrievedSpecification retrieveSpecification(String url,
+                                                 String methodName) throws Exception
+    {
+        RESTClient                  restClient        = restClients.get(url);
+        OpenAPISpecificationVersion cataloguedVersion = cataloguedVersions.get(url);
+        HttpHeaders                 requestHeaders    = new HttpHeaders();
+
+        if (cataloguedVersion != null)
+        {
+            if (cataloguedVersion.getETag() != null)
+            {
+                requestHeaders.setIfNoneMatch(cataloguedVersion.getETag());
+            }
+
+            if (cataloguedVersion.getLastModified() != null)
+            {
+                requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, cataloguedVersion.getLastModified());
+            }
+        }
+
+        hostRateLimiter.acquire(url);
+
+        ResponseEntity<String> response = restClient.callGetRESTCallForEntity(methodName, String.class, url + "/v3/api-docs", requestHeaders);
+
+        if (response == null)
+        {
+            return null;
+        }
+
+        if ((response.getStatusCode() == HttpStatus.NOT_MODIFIED) && (cataloguedVersion != null))
+        {
+            return new RetrievedSpecification(null, cataloguedVersion);
+        }
+
+        String openAPIJSON = response.getBody();
+
+        if (openAPIJSON == null)
+        {
+            return null;
+        }
+
+        OpenAPISpecification openAPISpecification = OBJECT_READER.readValue(openAPIJSON, OpenAPISpecification.class);
+
+        if (openAPISpecification == null)
+        {
+            return null;
+        }
+
+        OpenAPISpecificationVersion version = new OpenAPISpecificationVersion(response.getHeaders().getETag(),
+                                                                              response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                                                                              this.getContentHash(openAPISpecification));
+
+        if ((cataloguedVersion != null) && (version.getContentHash().equals(cataloguedVersion.getContentHash())))
+        {
+            return new RetrievedSpecification(null, version);
+        }
+
+        return new RetrievedSpecification(openAPISpecification, version);
+    }
+
+
+    /**
+     * Return the hash of the parsed specification.  Only the parts of the specification that the connector understands are
+     * included, so changes to other parts do not cause the specification to be catalogued again.
+     *
+     * @param openAPISpecification parsed specification
+     * @return Base64 encoded SHA-256 hash
+     * @throws IOException the specification can not be serialized
+     * @throws NoSuchAlgorithmException the JVM does not support SHA-256
+     */
+    private String getContentHash(OpenAPISpecification openAPISpecification) throws IOException,
+                                                                                    NoSuchAlgorithmException
+    {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+        return Base64.getEncoder().encodeToString(messageDigest.digest(CANONICAL_WRITER.writeValueAsBytes(openAPISpecification)));
+    }
+
+
+    /**
+     * Add the APIs and operations from an Open API Specification to the catalog.
+     *
+     * @param url URL of the server
+     * @param openAPISpecification parsed specification
+     * @param endpointGUIDs map from endpoint qualified name to GUID
+     * @param methodName calling method
      * @throws InvalidParameterException one of the parameters is not correct
      * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
      * @throws PropertyServerException there is an issue with one of the open metadata repositories
      */
-    private String getEndpointGUID(String               url,
-                                   OpenAPISpecification openAPISpecification) throws InvalidParameterException,
-                                                                                     UserNotAuthorizedException,
-                                                                                     PropertyServerException
+    private void catalogSpecification(String               url,
+                                      OpenAPISpecification openAPISpecification,
+                                      Map<String, String>  endpointGUIDs,
+                                      String               methodName) throws InvalidParameterException,
+                                                                              UserNotAuthorizedException,
+                                                                              PropertyServerException
     {
-        List<EndpointElement> endpointElements = myContext.findEndpoints(".*.", 0, 0);
-        String                endpointGUID = null;
-        String                endpointQualifiedName = "ServerEndpoint:" + url;
+        String title = "<Untitled>";
+
+        if (openAPISpecification.getInfo() != null)
+        {
+            title = openAPISpecification.getInfo().getTitle();
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenAPIIntegrationConnectorAuditCode.RETRIEVED_OPEN_API_SPEC.getMessageDefinition(connectorName,
+                                                                                                                  url,
+                                                                                                                  title));
+        }
+
+        /*
+         * all the discovered APIs are added to the server's endpoint.
+         */
+        String endpointGUID = this.getEndpointGUID(url, openAPISpecification, endpointGUIDs);
+
+        /*
+         * Each API/Operation discovered is added to the map as it is added to the catalog.
+         * This is used to create the summary audit log message - and as
+         * lookup for the apiGUID/apiOperationGUID when adding detail elements.
+         */
+        Map<String, String>              apiGUIDMap             = new HashMap<>(); /* map from API (Tag) name to GUID */
+        Map<String, String>              apiOperationGUIDMap    = new HashMap<>(); /* map from API (Path/Operation) name to GUID */
+        Map<String, Map<String, String>> apiOperationGUIDsByAPI = new HashMap<>(); /* map from API GUID to its catalogued operations */
+
+        if (openAPISpecification.getTags() != null)
+        {
+            for (OpenAPITag tag : openAPISpecification.getTags())
+            {
+                String apiGUID = getAPIGUID(url, endpointGUID, tag);
+
+                if (apiGUID != null)
+                {
+                    apiGUIDMap.put(tag.getName(), apiGUID);
+                }
+            }
+        }
+
+
+        if (openAPISpecification.getPaths() != null)
+        {
+            Map<String, OpenAPIPathDescription> paths = openAPISpecification.getPaths();
+
+            for (String pathName : paths.keySet())
+            {
+                OpenAPIPathDescription pathDescription = paths.get(pathName);
+
+                if (pathDescription.getGet() != null)
+                {
+                    catalogAPIOperation(apiGUIDMap, apiOperationGUIDsByAPI, apiOperationGUIDMap, "GET " + pathName, pathDescription.getGet());
+                }
+
+                if (pathDescription.getPost() != null)
+                {
+                    catalogAPIOperation(apiGUIDMap, apiOperationGUIDsByAPI, apiOperationGUIDMap, "POST " + pathName, pathDescription.getPost());
+                }
+
+                if (pathDescription.getPut() != null)
+                {
+                    catalogAPIOperation(apiGUIDMap, apiOperationGUIDsByAPI, apiOperationGUIDMap, "PUT " + pathName, pathDescription.getPut());
+                }
+
+                if (pathDescription.getDelete() != null)
+                {
+                    catalogAPIOperation(apiGUIDMap, apiOperationGUIDsByAPI, apiOperationGUIDMap, "DELETE " + pathName, pathDescription.getDelete());
+                }
+            }
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenAPIIntegrationConnectorAuditCode.CATALOGUED_OPEN_API_SPEC.getMessageDefinition(connectorName,
+                                                                                                                   url,
+                                                                                                                   title,
+                                                                                                                   endpointGUID,
+                                                                                                                   Integer.toString(apiGUIDMap.size()),
+                                                                                                                   Integer.toString(apiOperationGUIDMap.size())));
+        }
+    }
 
 
+    /**
+     * Catalog an API operation and add its GUID to the apiOperationGUIDMap.
+     *
+     * @param apiGUIDMap map of known API guids
+     * @param apiOperationGUIDsByAPI map from API GUID to the operations already catalogued for the API
+     * @param apiOperationGUIDMap map of the operations catalogued from this specification
+     * @param apiOperationQualifiedName unique name for the API operation in the open metadata catalog.
+     * @param operation operation extracted from the open metadata specification.
+     * @throws InvalidParameterException one of the parameters is not correct
+     * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
+     * @throws PropertyServerException there is an issue with one of the open metadata repositories
+     */
+    private void catalogAPIOperation(Map<String, String>              apiGUIDMap,
+                                     Map<String, Map<String, String>> apiOperationGUIDsByAPI,
+                                     Map<String, String>              apiOperationGUIDMap,
+                                     String                           apiOperationQualifiedName,
+                                     OpenAPIOperation                 operation) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException
+    {
+        String apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationGUIDsByAPI, apiOperationQualifiedName, operation);
+
+        if (apiOperationGUID != null)
+        {
+            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
+        }
+    }
+
+
+    /**
+     * Return the endpoints that are already catalogued.
+     *
+     * @return map from endpoint qualified name to GUID
+     * @throws InvalidParameterException one of the parameters is not correct
+     * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
+     * @throws PropertyServerException there is an issue with one of the open metadata repositories
+     */
+    private Map<String, String> getEndpointGUIDs() throws InvalidParameterException,
+                                                          UserNotAuthorizedException,
+                                                          PropertyServerException
+    {
+        Map<String, String>   endpointGUIDs    = new HashMap<>();
+        List<EndpointElement> endpointElements = myContext.findEndpoints(".*.", 0, 0);
+
         if (endpointElements != null)
         {
             for (EndpointElement endpointElement : endpointElements)
             {
-                if (endpointQualifiedName.equals(endpointElement.getEndpointProperties().getQualifiedName()))
+                if ((endpointElement != null) &&
+                    (endpointElement.getElementHeader() != null) &&
+                    (endpointElement.getEndpointProperties() != null) &&
+                    (endpointElement.getEndpointProperties().getQualifiedName() != null))
                 {
-                    endpointGUID = endpointElement.getElementHeader().getGUID();
+                    endpointGUIDs.put(endpointElement.getEndpointProperties().getQualifiedName(),
+                                      endpointElement.getElementHeader().getGUID());
                 }
             }
         }
 
+        return endpointGUIDs;
+    }
+
+
+    /**
+     * Return the endpoint's GUID - it may create a catalog entry if it does not exist.
+     *
+     * @param url URL of the API
+     * @param openAPISpecification descriptive information from the open API spec
+     * @param endpointGUIDs map from endpoint qualified name to GUID - updated if the endpoint is created
+     * @return unique identifier of the metadata element for the Endpoint element
+     * @throws InvalidParameterException one of the parameters is not correct
+     * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
+     * @throws PropertyServerException there is an issue with one of the open metadata repositories
+     */
+    private String getEndpointGUID(String               url,
+                                   OpenAPISpecification openAPISpecification,
+                                   Map<String, String>  endpointGUIDs) throws InvalidParameterException,
+                                                                              UserNotAuthorizedException,
+                                                                              PropertyServerException
+    {
+        String endpointQualifiedName = "ServerEndpoint:" + url;
+        String endpointGUID          = endpointGUIDs.get(endpointQualifiedName);
+
         if (endpointGUID == null)
         {
             EndpointProperties properties = new EndpointProperties();
@@ -530,6 +815,8 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
             }
 
             endpointGUID = myContext.createEndpoint(properties);
+
+            endpointGUIDs.put(endpointQualifiedName, endpointGUID);
         }
 
         /*
@@ -603,6 +890,7 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
      * the apiGUIDMap.
      *
      * @param apiGUIDMap map of known guids
+     * @param apiOperationGUIDsByAPI map from API GUID to the operations already catalogued for the API
      * @param apiOperationQualifiedName unique name for the API operation in the open metadata catalog.
      * @param operation operation extracted from the open metadata specification.
      * @return unique identifier of the API operation in the open metadata catalog
@@ -610,11 +898,12 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
      * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
      * @throws PropertyServerException there is an issue with one of the open metadata repositories
      */
-    private String getAPIOperationGUID(Map<String, String> apiGUIDMap,
-                                       String              apiOperationQualifiedName,
-                                       OpenAPIOperation    operation) throws InvalidParameterException,
-                                                                             UserNotAuthorizedException,
-                                                                             PropertyServerException
+    private String getAPIOperationGUID(Map<String, String>              apiGUIDMap,
+                                       Map<String, Map<String, String>> apiOperationGUIDsByAPI,
+                                       String                           apiOperationQualifiedName,
+                                       OpenAPIOperation                 operation) throws InvalidParameterException,
+                                                                                          UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         String apiOperationGUID = null;
         String apiGUID          = null;
@@ -635,23 +924,19 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
         if (apiGUID != null)
         {
             /*
-             * The GUID is not known -  It may have been catalogued in a previous run of this connector - or not yet catalogued.  The retrieve
-             * should return all elements with the same qualified name - there should be only one.  This code could be enhanced to validate that
-             * when there are duplicates, they are logged and the selected one is the one created by this process.
+             * The operations of an API may have been catalogued in a previous run of this connector - or not yet catalogued.  They are
+             * retrieved with a single call the first time the API is seen in this specification rather than with a call per operation.
              */
-            List<APIOperationElement> apiOperationElements = myContext.getAPIOperationsByName(apiOperationQualifiedName, 0, 0);
+            Map<String, String> apiOperationGUIDs = apiOperationGUIDsByAPI.get(apiGUID);
 
-            if (apiOperationElements != null)
+            if (apiOperationGUIDs == null)
             {
-                for (APIOperationElement apiOperationElement : apiOperationElements)
-                {
-                    if (apiOperationQualifiedName.equals(apiOperationElement.getProperties().getQualifiedName()))
-                    {
-                        apiOperationGUID = apiOperationElement.getElementHeader().getGUID();
-                    }
-                }
+                apiOperationGUIDs = getAPIOperationGUIDs(apiGUID);
+                apiOperationGUIDsByAPI.put(apiGUID, apiOperationGUIDs);
             }
 
+            apiOperationGUID = apiOperationGUIDs.get(apiOperationQualifiedName);
+
             if (apiOperationGUID == null)
             {
                 /*
@@ -664,6 +949,8 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
                 properties.setDescription(operation.getDescription());
 
                 apiOperationGUID = myContext.createAPIOperation(apiGUID, properties);
+
+                apiOperationGUIDs.put(apiOperationQualifiedName, apiOperationGUID);
             }
         }
 
@@ -671,6 +958,45 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
     }
 
 
+    /**
+     * Return the API operations already catalogued for an API.  The operations are retrieved a page at a time.
+     *
+     * @param apiGUID unique identifier of the API
+     * @return map from API operation qualified name to GUID
+     * @throws InvalidParameterException one of the parameters is not correct
+     * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
+     * @throws PropertyServerException there is an issue with one of the open metadata repositories
+     */
+    private Map<String, String> getAPIOperationGUIDs(String apiGUID) throws InvalidParameterException,
+                                                                            UserNotAuthorizedException,
+                                                                            PropertyServerException
+    {
+        Map<String, String>       apiOperationGUIDs    = new HashMap<>();
+        int                       startFrom            = 0;
+        List<APIOperationElement> apiOperationElements = myContext.getOperationsForAPI(apiGUID, startFrom, apiOperationPageSize);
+
+        while ((apiOperationElements != null) && (! apiOperationElements.isEmpty()))
+        {
+            for (APIOperationElement apiOperationElement : apiOperationElements)
+            {
+                if ((apiOperationElement != null) &&
+                    (apiOperationElement.getElementHeader() != null) &&
+                    (apiOperationElement.getProperties() != null) &&
+                    (apiOperationElement.getProperties().getQualifiedName() != null))
+                {
+                    apiOperationGUIDs.put(apiOperationElement.getProperties().getQualifiedName(),
+                                          apiOperationElement.getElementHeader().getGUID());
+                }
+            }
+
+            startFrom            = startFrom + apiOperationElements.size();
+            apiOperationElements = myContext.getOperationsForAPI(apiGUID, startFrom, apiOperationPageSize);
+        }
+
+        return apiOperationGUIDs;
+    }
+
+
     /**
      * Shutdown monitoring
      *
@@ -681,7 +1007,10 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
     {
         final String methodName = "disconnect";
 
-
+        if (retrievalExecutor != null)
+        {
+            retrievalExecutor.shutdownNow();
+        }
 
         if (auditLog != null)
         {
@@ -40,6 +40,8 @@ public class OpenAPIMonitorIntegrationProvider extends IntegrationConnectorProvi
     private static final Class<?> connectorClass       = OpenAPIMonitorIntegrationConnector.class;
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
+    static final String MAX_CONCURRENT_RETRIEVALS_CONFIGURATION_PROPERTY = "maxConcurrentRetrievals";
+    static final String MAX_REQUESTS_PER_HOST_PER_SECOND_CONFIGURATION_PROPERTY = "maxRequestsPerHostPerSecond";
 
 
     /**
@@ -67,6 +69,8 @@ public class OpenAPIMonitorIntegrationProvider extends IntegrationConnectorProvi
         connectorType.setConnectorProviderClassName(this.getClass().getName());
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_CONCURRENT_RETRIEVALS_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_REQUESTS_PER_HOST_PER_SECOND_CONFIGURATION_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
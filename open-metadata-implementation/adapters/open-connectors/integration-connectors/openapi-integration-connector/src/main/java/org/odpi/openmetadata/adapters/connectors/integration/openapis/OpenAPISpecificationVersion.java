@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+
+/**
+ * OpenAPISpecificationVersion records how to recognize the version of an Open API Specification that was last
+ * catalogued from a URL.  The entity tag and last modified time returned by the server are used to issue conditional
+ * requests.  The content hash covers the parsed specification so that a server that does not support conditional
+ * requests still does not cause the catalog to be updated when nothing has changed.
+ */
+class OpenAPISpecificationVersion
+{
+    private final String eTag;
+    private final String lastModified;
+    private final String contentHash;
+
+
+    /**
+     * Constructor
+     *
+     * @param eTag entity tag returned by the server (may be null)
+     * @param lastModified last modified header returned by the server (may be null)
+     * @param contentHash hash of the parsed specification
+     */
+    OpenAPISpecificationVersion(String eTag,
+                                String lastModified,
+                                String contentHash)
+    {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
+    }
+
+
+    /**
+     * Return the entity tag returned by the server.
+     *
+     * @return string or null
+     */
+    String getETag()
+    {
+        return eTag;
+    }
+
+
+    /**
+     * Return the last modified header returned by the server.
+     *
+     * @return string or null
+     */
+    String getLastModified()
+    {
+        return lastModified;
+    }
+
+
+    /**
+     * Return the hash of the parsed specification.
+     *
+     * @return Base64 encoded SHA-256 hash
+     */
+    String getContentHash()
+    {
+        return contentHash;
+    }
+}
@@ -12,6 +12,8 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 
 
 /**
@@ -195,6 +197,41 @@ public class RESTClient
     }
 
 
+    /**
+     * Issue a GET REST call that returns the whole response entity, passing additional request headers.  This is used
+     * for conditional requests where the status code and the response headers are needed.
+     * It's working only with {@link SpringRESTClientConnector}
+     *
+     * @param <T> return type
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestHeaders additional headers for the request.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return response entity
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     */
+    protected  <T> ResponseEntity<T> callGetRESTCallForEntity(String      methodName,
+                                                              Class<T>    returnClass,
+                                                              String      urlTemplate,
+                                                              HttpHeaders requestHeaders,
+                                                              Object...   params) throws PropertyServerException
+    {
+        try
+        {
+            SpringRESTClientConnector clientConnector = (SpringRESTClientConnector) this.clientConnector;
+            return clientConnector.callGetRESTCallForEntity(methodName, returnClass, urlTemplate, requestHeaders, params);
+        }
+        catch (Exception error)
+        {
+            logRESTCallException(methodName, error);
+        }
+
+        return null;
+    }
+
+
     /**
      * Issue a POST REST call that returns a response object.  This is typically a create, update, or find with
      * complex parameters.
@@ -0,0 +1,53 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPISpecification;
+
+
+/**
+ * RetrievedSpecification is passed from a retrieval thread back to the refresh thread.  The specification is null
+ * when it has not changed since it was last catalogued.
+ */
+class RetrievedSpecification
+{
+    private final OpenAPISpecification        specification;
+    private final OpenAPISpecificationVersion version;
+
+
+    /**
+     * Constructor
+     *
+     * @param specification parsed specification or null if it has not changed
+     * @param version version of the specification
+     */
+    RetrievedSpecification(OpenAPISpecification        specification,
+                           OpenAPISpecificationVersion version)
+    {
+        this.specification = specification;
+        this.version = version;
+    }
+
+
+    /**
+     * Return the parsed specification.
+     *
+     * @return specification or null if it has not changed
+     */
+    OpenAPISpecification getSpecification()
+    {
+        return specification;
+    }
+
+
+    /**
+     * Return the version of the specification.
+     *
+     * @return version
+     */
+    OpenAPISpecificationVersion getVersion()
+    {
+        return version;
+    }
+}
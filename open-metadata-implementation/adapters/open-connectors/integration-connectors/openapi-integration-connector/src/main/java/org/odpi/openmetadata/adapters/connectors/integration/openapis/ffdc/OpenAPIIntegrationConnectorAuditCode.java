@@ -88,6 +88,12 @@ public enum OpenAPIIntegrationConnectorAuditCode implements AuditLogMessageSet
                                   "The connector is disconnecting.",
                                   "No action is required unless there are errors that follow indicating that there were problems shutting down."),
 
+    UNCHANGED_OPEN_API_SPEC("OPEN-API-INTEGRATION-CONNECTOR-0010",
+                            OMRSAuditLogRecordSeverity.INFO,
+                            "The {0} integration connector skipped the Open API Specification from URL {1} because it has not changed since it was last catalogued",
+                            "Either the server reported that the specification is not modified or the content of the retrieved specification is identical to the version that was last catalogued.  The catalog is not updated.",
+                            "No action is required.  The specification is catalogued again when it changes."),
+
 
     MISSING_TEMPLATE("OPEN-API-INTEGRATION-CONNECTOR-0015",
                      OMRSAuditLogRecordSeverity.ERROR,
@@ -0,0 +1,54 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the HostRateLimiter spaces out the requests to the same host and does not delay the requests to
+ * different hosts.
+ */
+public class HostRateLimiterTest
+{
+    /**
+     * Requests to the same host are spaced by the interval, whatever the path or port of the URL.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testRequestsToSameHostAreSpaced() throws InterruptedException
+    {
+        HostRateLimiter hostRateLimiter = new HostRateLimiter(10);
+        long            startTime       = System.nanoTime();
+
+        hostRateLimiter.acquire("https://host1:9443/servers/server1");
+        hostRateLimiter.acquire("https://host1:9443/servers/server2");
+        hostRateLimiter.acquire("https://host1:8080");
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 190);
+    }
+
+
+    /**
+     * Requests to different hosts are not delayed.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testRequestsToDifferentHostsAreNotDelayed() throws InterruptedException
+    {
+        HostRateLimiter hostRateLimiter = new HostRateLimiter(1);
+        long            startTime       = System.nanoTime();
+
+        hostRateLimiter.acquire("https://host1:9443");
+        hostRateLimiter.acquire("https://host2:9443");
+        hostRateLimiter.acquire("not a URL");
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 500);
+    }
+}
@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the OpenAPIMonitorIntegrationConnector sends conditional requests for the specifications it has
+ * catalogued and skips the specifications that have not changed.
+ */
+public class OpenAPIMonitorIntegrationConnectorTest
+{
+    private static final String URL         = "https://localhost:9443";
+    private static final String METHOD_NAME = "test";
+    private static final String SPEC        = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Test\",\"version\":\"1.0\"}," +
+                                              "\"paths\":{\"/b\":{},\"/a\":{}}}";
+
+    private OpenAPIMonitorIntegrationConnector connector;
+    private StubRESTClient                     restClient;
+
+
+    @BeforeMethod
+    public void setUp() throws InvalidParameterException
+    {
+        connector  = new OpenAPIMonitorIntegrationConnector();
+        restClient = new StubRESTClient();
+
+        connector.restClients.put(URL, restClient);
+    }
+
+
+    /**
+     * The entity tag of the catalogued version is sent with the next request, and a "not modified" response means
+     * the specification is not catalogued again.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testConditionalRequest() throws Exception
+    {
+        restClient.responses.add(getResponse(SPEC, "\"v1\""));
+
+        RetrievedSpecification retrievedSpecification = connector.retrieveSpecification(URL, METHOD_NAME);
+
+        assertNotNull(retrievedSpecification.getSpecification());
+        assertEquals(retrievedSpecification.getVersion().getETag(), "\"v1\"");
+        assertNull(restClient.requestHeaders.get(0).getFirst(HttpHeaders.IF_NONE_MATCH));
+
+        connector.cataloguedVersions.put(URL, retrievedSpecification.getVersion());
+        restClient.responses.add(new ResponseEntity<>(HttpStatus.NOT_MODIFIED));
+
+        retrievedSpecification = connector.retrieveSpecification(URL, METHOD_NAME);
+
+        assertNull(retrievedSpecification.getSpecification());
+        assertEquals(retrievedSpecification.getVersion().getETag(), "\"v1\"");
+        assertEquals(restClient.requestHeaders.get(1).getFirst(HttpHeaders.IF_NONE_MATCH), "\"v1\"");
+    }
+
+
+    /**
+     * A server that does not support conditional requests returns the whole specification, which is only catalogued
+     * again if its content has changed.  The order the paths are listed in is not a change.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testUnchangedContentIsSkipped() throws Exception
+    {
+        restClient.responses.add(getResponse(SPEC, null));
+
+        RetrievedSpecification retrievedSpecification = connector.retrieveSpecification(URL, METHOD_NAME);
+
+        assertNotNull(retrievedSpecification.getSpecification());
+
+        connector.cataloguedVersions.put(URL, retrievedSpecification.getVersion());
+        restClient.responses.add(getResponse(SPEC.replace("\"/b\":{},\"/a\":{}", "\"/a\":{},\"/b\":{}"), null));
+
+        assertNull(connector.retrieveSpecification(URL, METHOD_NAME).getSpecification());
+
+        restClient.responses.add(getResponse(SPEC.replace("Test", "Changed"), null));
+
+        retrievedSpecification = connector.retrieveSpecification(URL, METHOD_NAME);
+
+        assertNotNull(retrievedSpecification.getSpecification());
+        assertEquals(retrievedSpecification.getSpecification().getInfo().getTitle(), "Changed");
+    }
+
+
+    /**
+     * Return a response holding a specification.
+     *
+     * @param specification JSON specification
+     * @param eTag entity tag (may be null)
+     * @return response
+     */
+    private ResponseEntity<String> getResponse(String specification,
+                                               String eTag)
+    {
+        HttpHeaders responseHeaders = new HttpHeaders();
+
+        if (eTag != null)
+        {
+            responseHeaders.setETag(eTag);
+        }
+
+        return new ResponseEntity<>(specification, responseHeaders, HttpStatus.OK);
+    }
+
+
+    /**
+     * REST client that records the request headers and returns the queued responses instead of calling a server.
+     */
+    private static class StubRESTClient extends RESTClient
+    {
+        private final List<HttpHeaders>            requestHeaders = new ArrayList<>();
+        private final List<ResponseEntity<String>> responses      = new ArrayList<>();
+
+        StubRESTClient() throws InvalidParameterException
+        {
+            super("OpenAPIMonitorIntegrationConnectorTest", URL, null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <T> ResponseEntity<T> callGetRESTCallForEntity(String      methodName,
+                                                                 Class<T>    returnClass,
+                                                                 String      urlTemplate,
+                                                                 HttpHeaders requestHeaders,
+                                                                 Object...   params)
+        {
+            this.requestHeaders.add(requestHeaders);
+
+            return (ResponseEntity<T>) responses.remove(0);
+        }
+    }
+}
@@ -2,12 +2,16 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.integrationservices.lineage.connector.OpenLineageEventListener;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
 import java.io.File;
@@ -15,19 +19,25 @@ import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * FileBasedOpenLineageLogStoreConnector provides a connector implementation for a file based open lineage log.
- * The open lineage log is stored in a directory and each open lineage event record is stored as a file with a filename built
- * from the record's unique identifier (runId), time and status. The record is stored in a subdirectory that is made from the namespace and job.
+ * The open lineage log is stored in a directory as a sequence of append-only segment files.  The events that arrive together are
+ * compressed and written to the active segment as a group, and each segment has an index of the time and job of its events so that
+ * the events for a time range or a job can be replayed.  Whole segments are deleted by the retention policy.
  */
 public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreConnectorBase
 {
-    private static final String defaultLogDirectory = "open-lineage-log";
+    private static final String defaultLogDirectory          = "open-lineage-log";
+    private static final long   defaultMaxSegmentBytes       = 64L * 1024 * 1024;
+    private static final int    defaultMaxGroupCommitEvents  = 500;
 
-    private String logStoreDirectoryName = null;
+    private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
+
+    private String                  logStoreDirectoryName = null;
+    private SegmentedOpenLineageLog openLineageLog        = null;
 
 
     /**
@@ -40,7 +50,7 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
 
     /**
-     * Set up the name of the file store
+     * Set up the name of the file store and open the log.
      *
      * @throws ConnectorCheckedException something went wrong
      */
@@ -63,11 +73,42 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             logStoreDirectoryName = defaultLogDirectory;
         }
 
+        long maxSegmentBytes      = defaultMaxSegmentBytes;
+        int  maxGroupCommitEvents = defaultMaxGroupCommitEvents;
+        long retentionHours       = 0;
+        long retentionBytes       = 0;
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            maxSegmentBytes = getPositiveLongProperty(configurationProperties,
+                                                      FileBasedOpenLineageLogStoreProvider.MAX_SEGMENT_BYTES_CONFIGURATION_PROPERTY,
+                                                      defaultMaxSegmentBytes);
+            maxGroupCommitEvents = (int) getPositiveLongProperty(configurationProperties,
+                                                                 FileBasedOpenLineageLogStoreProvider.MAX_GROUP_COMMIT_EVENTS_CONFIGURATION_PROPERTY,
+                                                                 defaultMaxGroupCommitEvents);
+            retentionHours = getPositiveLongProperty(configurationProperties,
+                                                     FileBasedOpenLineageLogStoreProvider.RETENTION_HOURS_CONFIGURATION_PROPERTY,
+                                                     0);
+            retentionBytes = getPositiveLongProperty(configurationProperties,
+                                                     FileBasedOpenLineageLogStoreProvider.RETENTION_BYTES_CONFIGURATION_PROPERTY,
+                                                     0);
+        }
+
         try
         {
             File logStoreDirectory = new File(logStoreDirectoryName);
 
             FileUtils.forceMkdir(logStoreDirectory);
+
+            openLineageLog = new SegmentedOpenLineageLog(logStoreDirectory,
+                                                         maxSegmentBytes,
+                                                         maxGroupCommitEvents,
+                                                         TimeUnit.HOURS.toMillis(retentionHours),
+                                                         retentionBytes,
+                                                         this::logDeletedSegment);
+            openLineageLog.open();
         }
         catch (Exception error)
         {
@@ -80,12 +121,74 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     methodName,
                     error);
         }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenLineageIntegrationConnectorAuditCode.LOG_STORE_CONFIGURATION.getMessageDefinition(connectorName,
+                                                                                                                      Long.toString(maxSegmentBytes),
+                                                                                                                      logStoreDirectoryName));
+        }
+    }
+
+
+    /**
+     * Return the value of a configuration property that must be a positive number.  The default is returned if the
+     * property is not set or is not valid.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private long getPositiveLongProperty(Map<String, Object> configurationProperties,
+                                         String              propertyName,
+                                         long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                long value = Long.parseLong(propertyValue.toString());
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                // use the default
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Record that the retention policy has deleted a segment.
+     *
+     * @param segment deleted segment file
+     */
+    private void logDeletedSegment(File segment)
+    {
+        final String methodName = "applyRetention";
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenLineageIntegrationConnectorAuditCode.LOG_SEGMENT_DELETED.getMessageDefinition(connectorName,
+                                                                                                                  segment.getPath()));
+        }
     }
 
 
     /**
      * Store the open lineage event in the open lineage log store.  If the raw event is null, a json version of the open lineage event is
-     * generated using the Egeria beans.
+     * generated using the Egeria beans.  The call returns once the group that the event was written in is on disk.
      *
      * @param openLineageEvent event formatted using Egeria beans
      * @param rawEvent event in Json form from the originator - may have facets that are not known to Egeria
@@ -102,24 +205,17 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
         if (rawEvent != null)
         {
-            String namespace = "default-namespace/";
-            String jobName = "unformatted/";
-            String runId = UUID.randomUUID().toString();
-            String eventType = "UNKNOWN";
-
-            ZonedDateTime zonedDateTime = ZonedDateTime.now();
+            String namespace = "default-namespace";
+            String jobName = "unformatted";
+            long   eventTime = System.currentTimeMillis();
 
             try
             {
                 if (openLineageEvent != null)
                 {
-                    String eventTime = openLineageEvent.getEventTime();
-                    zonedDateTime = ZonedDateTime.parse(eventTime);
-
-                    eventType = openLineageEvent.getEventType();
-                    if ((openLineageEvent.getRun() != null) && (openLineageEvent.getRun().getRunId() != null))
+                    if (openLineageEvent.getEventTime() != null)
                     {
-                        runId = openLineageEvent.getRun().getRunId().toString();
+                        eventTime = ZonedDateTime.parse(openLineageEvent.getEventTime()).toInstant().toEpochMilli();
                     }
 
                     if (openLineageEvent.getJob() != null)
@@ -135,20 +231,15 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     }
                 }
 
-                String timestamp = zonedDateTime.getYear() + "-" +
-                                           zonedDateTime.getMonthValue() +  "-" +
-                                           zonedDateTime.getDayOfMonth() +  ":" +
-                                           zonedDateTime.getHour() +  "-" +
-                                           zonedDateTime.getMinute() +  "-" +
-                                           zonedDateTime.getSecond() +  ":" +
-                                           zonedDateTime.getNano();
-
-                File logStoreFile = new File(logStoreDirectoryName + "/" + namespace + "/" + jobName + "/" + runId + "-" + timestamp + "-" + eventType + ".json");
-
-                FileUtils.writeStringToFile(logStoreFile, rawEvent, (String) null, false);
+                openLineageLog.append(eventTime, namespace, jobName, rawEvent);
             }
             catch (Exception error)
             {
+                if (error instanceof InterruptedException)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
                 final String parameterName = "openLineageEvent";
 
                 Map<String, Object> additionalProperties = new HashMap<>();
@@ -174,4 +265,107 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             super.logNoRawEvent(openLineageEvent, methodName);
         }
     }
+
+
+    /**
+     * Pass the stored open lineage events that match the criteria to the listener in the order that they were stored.  Each event
+     * is passed with the Egeria beans if it can be parsed, and always with its stored JSON.
+     *
+     * @param fromTime earliest event time to replay (null for the start of the log)
+     * @param toTime latest event time to replay (null for the end of the log)
+     * @param jobNamespace only replay events for jobs in this namespace (null for any namespace)
+     * @param jobName only replay events for the job with this name (null for any job)
+     * @param listener listener to receive the events
+     * @return number of events replayed
+     *
+     * @throws PropertyServerException  indicates that the log store is not available or has an error.
+     */
+    @Override
+    public long replayEvents(Date                     fromTime,
+                             Date                     toTime,
+                             String                   jobNamespace,
+                             String                   jobName,
+                             OpenLineageEventListener listener) throws PropertyServerException
+    {
+        final String methodName = "replayEvents";
+
+        if (listener == null)
+        {
+            return 0;
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenLineageIntegrationConnectorAuditCode.REPLAYING_EVENTS.getMessageDefinition(connectorName,
+                                                                                                               logStoreDirectoryName,
+                                                                                                               String.valueOf(fromTime)));
+        }
+
+        try
+        {
+            long replayedEventCount = openLineageLog.replay(fromTime == null ? 0 : fromTime.getTime(),
+                                                            toTime == null ? Long.MAX_VALUE : toTime.getTime(),
+                                                            jobNamespace,
+                                                            jobName,
+                                                            rawEvent -> listener.processOpenLineageRunEvent(this.getOpenLineageEvent(rawEvent), rawEvent));
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OpenLineageIntegrationConnectorAuditCode.REPLAYED_EVENTS.getMessageDefinition(connectorName,
+                                                                                                                  Long.toString(replayedEventCount),
+                                                                                                                  logStoreDirectoryName));
+            }
+
+            return replayedEventCount;
+        }
+        catch (Exception error)
+        {
+            throw new PropertyServerException(
+                    OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                       error.getClass().getName(),
+                                                                                                       methodName,
+                                                                                                       error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
+
+    /**
+     * Convert a stored event into the Egeria beans.
+     *
+     * @param rawEvent stored JSON
+     * @return event or null if it can not be parsed
+     */
+    private OpenLineageRunEvent getOpenLineageEvent(String rawEvent)
+    {
+        try
+        {
+            return OBJECT_READER.readValue(rawEvent, OpenLineageRunEvent.class);
+        }
+        catch (Exception error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Close the log once the waiting events are stored.
+     *
+     * @throws ConnectorCheckedException something failed in the super class
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (openLineageLog != null)
+        {
+            openLineageLog.close();
+        }
+
+        super.disconnect();
+    }
 }
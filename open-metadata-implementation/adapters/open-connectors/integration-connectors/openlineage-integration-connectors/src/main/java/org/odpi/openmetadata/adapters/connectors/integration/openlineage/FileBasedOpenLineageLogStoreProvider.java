@@ -6,6 +6,9 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationConnectorProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * FileBasedOpenLineageLogStoreProvider is the OCF connector provider for the file based open lineage log store.
@@ -35,6 +38,11 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
      */
     private static final Class<?> connectorClass       = FileBasedOpenLineageLogStoreConnector.class;
 
+    static final String MAX_SEGMENT_BYTES_CONFIGURATION_PROPERTY       = "maxSegmentBytes";
+    static final String MAX_GROUP_COMMIT_EVENTS_CONFIGURATION_PROPERTY = "maxGroupCommitEvents";
+    static final String RETENTION_HOURS_CONFIGURATION_PROPERTY         = "retentionHours";
+    static final String RETENTION_BYTES_CONFIGURATION_PROPERTY         = "retentionBytes";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -59,6 +67,12 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
         connectorType.setDisplayName(connectorDisplayName);
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(MAX_SEGMENT_BYTES_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_GROUP_COMMIT_EVENTS_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(RETENTION_HOURS_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(RETENTION_BYTES_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
 
@@ -6,6 +6,8 @@ import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.Proces
 import org.odpi.openmetadata.accessservices.assetmanager.properties.ProcessProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.ProcessStatus;
 import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectorTypeProperties;
@@ -19,18 +21,28 @@ import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageP
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRun;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 
 /**
  * OpenLineageCataloguerIntegrationConnector is an integration connector to register an OpenLineage listener with the Lineage Integrator OMIS
- * and to catalog any processes that are not already known to the open metadata ecosystem.
+ * and to catalog any processes that are not already known to the open metadata ecosystem.  If an open lineage log store is configured as an
+ * embedded connector, it stores the events received by this connector.  When the replayFromTime configuration property is set, the events
+ * stored since that time are replayed through this connector on the first refresh to rebuild the lineage.
  */
 public class OpenLineageCataloguerIntegrationConnector extends LineageIntegratorConnector implements OpenLineageEventListener
 {
     protected String                   destinationName = "<Unknown";
     protected LineageIntegratorContext myContext       = null;
 
+    private final List<OpenLineageLogStore> logStores      = new ArrayList<>();
+    private Date                            replayFromTime = null;
+    private boolean                         replayComplete = false;
+
 
     /**
      * Default constructor
@@ -81,12 +93,65 @@ public class OpenLineageCataloguerIntegrationConnector extends LineageIntegrator
     {
         super.start();
 
+        final String methodName = "start";
+
         myContext = super.getContext();
 
         if (myContext != null)
         {
             myContext.registerListener(this);
         }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        try
+        {
+            if ((configurationProperties != null) &&
+                (configurationProperties.get(OpenLineageCataloguerIntegrationProvider.REPLAY_FROM_TIME_CONFIGURATION_PROPERTY) != null))
+            {
+                String replayFromTimeProperty = configurationProperties.get(OpenLineageCataloguerIntegrationProvider.REPLAY_FROM_TIME_CONFIGURATION_PROPERTY).toString();
+
+                replayFromTime = Date.from(ZonedDateTime.parse(replayFromTimeProperty).toInstant());
+            }
+
+            if (embeddedConnectors != null)
+            {
+                for (Connector embeddedConnector : embeddedConnectors)
+                {
+                    if (embeddedConnector instanceof OpenLineageLogStore)
+                    {
+                        /*
+                         * The log store shares this connector's context so that it receives the same events.
+                         */
+                        if (embeddedConnector instanceof LineageIntegratorConnector)
+                        {
+                            LineageIntegratorConnector logStoreConnector = (LineageIntegratorConnector) embeddedConnector;
+
+                            logStoreConnector.setAuditLog(auditLog);
+                            logStoreConnector.setConnectorName(connectorName);
+                            logStoreConnector.setContext(myContext);
+                        }
+
+                        embeddedConnector.start();
+                        logStores.add((OpenLineageLogStore) embeddedConnector);
+                    }
+                }
+            }
+        }
+        catch (ConnectorCheckedException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            throw new ConnectorCheckedException(OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                                   error.getClass().getName(),
+                                                                                                                                   methodName,
+                                                                                                                                   error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
     }
 
 
@@ -95,11 +160,74 @@ public class OpenLineageCataloguerIntegrationConnector extends LineageIntegrator
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
      *
+     * The first refresh replays the events stored in the embedded log stores since the replayFromTime.  The replay is
+     * retried on the next refresh if it fails.
+     *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
     public void refresh() throws ConnectorCheckedException
     {
-        // nothing to do
+        final String methodName = "refresh";
+
+        if ((replayFromTime != null) && (! replayComplete))
+        {
+            try
+            {
+                for (OpenLineageLogStore logStore : logStores)
+                {
+                    logStore.replayEvents(replayFromTime, null, null, null, this);
+                }
+
+                replayComplete = true;
+            }
+            catch (Exception error)
+            {
+                throw new ConnectorCheckedException(OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                                       error.getClass().getName(),
+                                                                                                                                       methodName,
+                                                                                                                                       error.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error);
+            }
+        }
+    }
+
+
+    /**
+     * Disconnect the embedded log stores so that they stop their threads and close their files.  Every log store is
+     * disconnected even if one of them fails.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        ConnectorCheckedException firstError = null;
+
+        for (OpenLineageLogStore logStore : logStores)
+        {
+            try
+            {
+                ((Connector) logStore).disconnect();
+            }
+            catch (ConnectorCheckedException error)
+            {
+                if (firstError == null)
+                {
+                    firstError = error;
+                }
+            }
+        }
+
+        logStores.clear();
+
+        super.disconnect();
+
+        if (firstError != null)
+        {
+            throw firstError;
+        }
     }
 
 
@@ -6,6 +6,9 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationConnectorProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The OpenLineageCataloguerIntegrationProvider provides the connector provider for OpenLineageCataloguerIntegrationConnector.
  */
@@ -35,6 +38,8 @@ public class OpenLineageCataloguerIntegrationProvider extends IntegrationConnect
      */
     private static final Class<?> connectorClass       = OpenLineageCataloguerIntegrationConnector.class;
 
+    static final String REPLAY_FROM_TIME_CONFIGURATION_PROPERTY = "replayFromTime";
+
 
     /**
      * Constructor used to initialize the ConnectorProvider with the Java class name of the specific connector implementation.
@@ -58,6 +63,9 @@ public class OpenLineageCataloguerIntegrationProvider extends IntegrationConnect
         connectorType.setDisplayName(connectorDisplayName);
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(REPLAY_FROM_TIME_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
 
@@ -5,8 +5,11 @@ package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.integrationservices.lineage.connector.OpenLineageEventListener;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
+import java.util.Date;
+
 
 /**
  * OpenLineageLogStore is the specialized data API for an Open Lineage Log Store destination connector.
@@ -37,4 +40,27 @@ public interface OpenLineageLogStore
                                                          UserNotAuthorizedException,
                                                          PropertyServerException;
 
+
+    /**
+     * Pass the stored open lineage events that match the criteria to the listener in the order that they were stored.  This is used to
+     * rebuild the lineage from a point in time.
+     *
+     * @param fromTime earliest event time to replay (null for the start of the log)
+     * @param toTime latest event time to replay (null for the end of the log)
+     * @param jobNamespace only replay events for jobs in this namespace (null for any namespace)
+     * @param jobName only replay events for the job with this name (null for any job)
+     * @param listener listener to receive the events
+     * @return number of events replayed
+     *
+     * @throws InvalidParameterException indicates that one of the parameters is invalid.
+     * @throws UserNotAuthorizedException indicates that the caller is not authorized to access the log store.
+     * @throws PropertyServerException  indicates that the log store is not available, has an error or does not support replay.
+     */
+    long replayEvents(Date                     fromTime,
+                      Date                     toTime,
+                      String                   jobNamespace,
+                      String                   jobName,
+                      OpenLineageEventListener listener) throws InvalidParameterException,
+                                                                 UserNotAuthorizedException,
+                                                                 PropertyServerException;
 }
@@ -17,6 +17,7 @@ import org.odpi.openmetadata.integrationservices.lineage.connector.LineageIntegr
 import org.odpi.openmetadata.integrationservices.lineage.connector.OpenLineageEventListener;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -71,7 +72,38 @@ public abstract class OpenLineageLogStoreConnectorBase extends LineageIntegrator
                                     String              rawEvent) throws InvalidParameterException,
                                                                          UserNotAuthorizedException,
                                                                          PropertyServerException;
-    
+
+
+    /**
+     * Pass the stored open lineage events that match the criteria to the listener in the order that they were stored.  This
+     * implementation is used by log stores that do not support replay.
+     *
+     * @param fromTime earliest event time to replay (null for the start of the log)
+     * @param toTime latest event time to replay (null for the end of the log)
+     * @param jobNamespace only replay events for jobs in this namespace (null for any namespace)
+     * @param jobName only replay events for the job with this name (null for any job)
+     * @param listener listener to receive the events
+     * @return number of events replayed
+     *
+     * @throws InvalidParameterException indicates that one of the parameters is invalid.
+     * @throws UserNotAuthorizedException indicates that the caller is not authorized to access the log store.
+     * @throws PropertyServerException  the log store does not support replay.
+     */
+    public long replayEvents(Date                     fromTime,
+                             Date                     toTime,
+                             String                   jobNamespace,
+                             String                   jobName,
+                             OpenLineageEventListener listener) throws InvalidParameterException,
+                                                                        UserNotAuthorizedException,
+                                                                        PropertyServerException
+    {
+        final String methodName = "replayEvents";
+
+        throw new PropertyServerException(OpenLineageIntegrationConnectorErrorCode.REPLAY_NOT_SUPPORTED.getMessageDefinition(connectorName,
+                                                                                                                              destinationName),
+                                          this.getClass().getName(),
+                                          methodName);
+    }
 
 
     /**
@@ -0,0 +1,673 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * SegmentedOpenLineageLog stores open lineage events in an append-only log made up of segment files in a directory.
+ * <ul>
+ *     <li>Events are written by a single committer thread.  All the events that arrive while the previous group is being
+ *     written are written together as one GZIP member and the segment is forced to disk once for the group.  The callers
+ *     of append are released when their group is on disk.</li>
+ *     <li>Each segment has an index file with one line for each event giving the event time, the position of the event
+ *     in the segment, and the namespace and name of its job.  The index is used to select the events to replay without
+ *     decompressing the whole segment.</li>
+ *     <li>A new segment is started when the active segment reaches its maximum size and each time the log is opened.
+ *     Segments are only ever deleted as a whole, by the retention policy.</li>
+ * </ul>
+ */
+class SegmentedOpenLineageLog
+{
+    private static final String segmentPrefix    = "segment-";
+    private static final String segmentSuffix    = ".log";
+    private static final String indexSuffix      = ".idx";
+    private static final String indexSeparator   = "\t";
+
+    private final File           logDirectory;
+    private final long           maxSegmentBytes;
+    private final int            maxGroupCommitEvents;
+    private final long           retentionMillis;
+    private final long           retentionBytes;
+    private final Consumer<File> deletedSegmentReporter;
+
+    private final BlockingQueue<PendingEvent> pendingEvents = new LinkedBlockingQueue<>();
+
+    private volatile boolean running   = false;
+    private Thread           committer = null;
+
+    /*
+     * Only used by the committer thread
+     */
+    private File        activeSegment      = null;
+    private FileChannel activeSegmentData  = null;
+    private FileChannel activeSegmentIndex = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param logDirectory directory for the segment files
+     * @param maxSegmentBytes size at which a new segment is started
+     * @param maxGroupCommitEvents maximum number of events written in one group
+     * @param retentionMillis segments that have not been written for this time are deleted (0 means keep forever)
+     * @param retentionBytes oldest segments are deleted when the log exceeds this size (0 means no limit)
+     * @param deletedSegmentReporter called for each segment deleted by the retention policy
+     */
+    SegmentedOpenLineageLog(File           logDirectory,
+                            long           maxSegmentBytes,
+                            int            maxGroupCommitEvents,
+                            long           retentionMillis,
+                            long           retentionBytes,
+                            Consumer<File> deletedSegmentReporter)
+    {
+        this.logDirectory = logDirectory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxGroupCommitEvents = maxGroupCommitEvents;
+        this.retentionMillis = retentionMillis;
+        this.retentionBytes = retentionBytes;
+        this.deletedSegmentReporter = deletedSegmentReporter;
+    }
+
+
+    /**
+     * Apply the retention policy to the existing segments and start the committer thread.  The first segment is only
+     * created when the first event is stored, so a log that is only used for replay does not write to the directory.
+     *
+     * @throws IOException the directory is not usable
+     */
+    synchronized void open() throws IOException
+    {
+        if (! logDirectory.isDirectory())
+        {
+            throw new IOException("Open lineage log directory " + logDirectory.getPath() + " does not exist");
+        }
+
+        applyRetention();
+
+        running = true;
+        committer = new Thread(this::commitEvents, "OpenLineageLogCommitter:" + logDirectory.getName());
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+
+    /**
+     * Store an event and wait until it is on disk.
+     *
+     * @param eventTime time of the event in milliseconds
+     * @param namespace namespace of the event's job
+     * @param jobName name of the event's job
+     * @param rawEvent JSON event
+     * @throws IOException the event could not be stored
+     * @throws InterruptedException the caller was interrupted while waiting for the event to be stored
+     */
+    void append(long   eventTime,
+                String namespace,
+                String jobName,
+                String rawEvent) throws IOException, InterruptedException
+    {
+        if (! running)
+        {
+            throw new IOException("Open lineage log " + logDirectory.getPath() + " is closed");
+        }
+
+        PendingEvent pendingEvent = new PendingEvent(eventTime, namespace, jobName, rawEvent);
+
+        pendingEvents.put(pendingEvent);
+
+        try
+        {
+            pendingEvent.stored.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof IOException)
+            {
+                throw (IOException) error.getCause();
+            }
+
+            throw new IOException(error.getCause());
+        }
+    }
+
+
+    /**
+     * Pass the stored events that match the criteria to the consumer in the order that they were stored.
+     *
+     * @param fromTime earliest event time in milliseconds
+     * @param toTime latest event time in milliseconds
+     * @param namespace namespace of the job (null for any)
+     * @param jobName name of the job (null for any)
+     * @param eventConsumer receives the JSON of each event
+     * @return number of events passed to the consumer
+     * @throws IOException a segment could not be read
+     */
+    long replay(long             fromTime,
+                long             toTime,
+                String           namespace,
+                String           jobName,
+                Consumer<String> eventConsumer) throws IOException
+    {
+        long replayedEventCount = 0;
+
+        for (File segment : listSegments())
+        {
+            /*
+             * Events are stored after they happen, so a segment that was last written before the start time holds no matching events.
+             */
+            if (segment.lastModified() < fromTime)
+            {
+                continue;
+            }
+
+            Map<Long, TreeSet<Integer>> selectedRecords = selectRecords(getIndexFile(segment), fromTime, toTime, namespace, jobName);
+
+            if (! selectedRecords.isEmpty())
+            {
+                replayedEventCount += replaySegment(segment, selectedRecords, eventConsumer);
+            }
+        }
+
+        return replayedEventCount;
+    }
+
+
+    /**
+     * Stop the committer thread once the pending events are written and close the active segment.
+     */
+    void close()
+    {
+        Thread committerThread;
+
+        synchronized (this)
+        {
+            running = false;
+            committerThread = committer;
+            committer = null;
+        }
+
+        if (committerThread != null)
+        {
+            try
+            {
+                committerThread.join();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /*
+         * Release any caller that added an event after the committer thread finished.
+         */
+        PendingEvent pendingEvent = pendingEvents.poll();
+
+        while (pendingEvent != null)
+        {
+            pendingEvent.stored.completeExceptionally(new IOException("Open lineage log " + logDirectory.getPath() + " is closed"));
+            pendingEvent = pendingEvents.poll();
+        }
+    }
+
+
+    /**
+     * Loop run by the committer thread.  Each pass writes all the events that are waiting, up to the maximum group size.
+     */
+    private void commitEvents()
+    {
+        while (running || (! pendingEvents.isEmpty()))
+        {
+            try
+            {
+                PendingEvent firstEvent = pendingEvents.poll(100, TimeUnit.MILLISECONDS);
+
+                if (firstEvent != null)
+                {
+                    List<PendingEvent> group = new ArrayList<>();
+
+                    group.add(firstEvent);
+                    pendingEvents.drainTo(group, maxGroupCommitEvents - 1);
+
+                    try
+                    {
+                        writeGroup(group);
+
+                        for (PendingEvent pendingEvent : group)
+                        {
+                            pendingEvent.stored.complete(null);
+                        }
+                    }
+                    catch (Exception error)
+                    {
+                        for (PendingEvent pendingEvent : group)
+                        {
+                            pendingEvent.stored.completeExceptionally(error);
+                        }
+                    }
+                }
+            }
+            catch (InterruptedException error)
+            {
+                running = false;
+            }
+        }
+
+        closeActiveSegment();
+    }
+
+
+    /**
+     * Write a group of events to the active segment as one GZIP member, force it to disk and then add the events to the index.
+     *
+     * @param group events to write
+     * @throws IOException the segment could not be written
+     */
+    private void writeGroup(List<PendingEvent> group) throws IOException
+    {
+        if ((activeSegment == null) || (activeSegmentData.size() >= maxSegmentBytes))
+        {
+            rollSegment();
+        }
+
+        ByteArrayOutputStream compressedGroup = new ByteArrayOutputStream();
+
+        try (DataOutputStream groupOutput = new DataOutputStream(new GZIPOutputStream(compressedGroup)))
+        {
+            for (PendingEvent pendingEvent : group)
+            {
+                byte[] eventBytes = pendingEvent.rawEvent.getBytes(StandardCharsets.UTF_8);
+
+                groupOutput.writeInt(eventBytes.length);
+                groupOutput.write(eventBytes);
+            }
+        }
+
+        long memberOffset = activeSegmentData.size();
+
+        writeFully(activeSegmentData, ByteBuffer.wrap(compressedGroup.toByteArray()));
+        activeSegmentData.force(false);
+
+        StringBuilder indexLines = new StringBuilder();
+
+        for (int recordIndex = 0; recordIndex < group.size(); recordIndex++)
+        {
+            PendingEvent pendingEvent = group.get(recordIndex);
+
+            indexLines.append(pendingEvent.eventTime).append(indexSeparator)
+                      .append(memberOffset).append(indexSeparator)
+                      .append(recordIndex).append(indexSeparator)
+                      .append(getIndexValue(pendingEvent.namespace)).append(indexSeparator)
+                      .append(getIndexValue(pendingEvent.jobName)).append('\n');
+        }
+
+        writeFully(activeSegmentIndex, ByteBuffer.wrap(indexLines.toString().getBytes(StandardCharsets.UTF_8)));
+        activeSegmentIndex.force(false);
+    }
+
+
+    /**
+     * Close the active segment, apply the retention policy and start a new segment.  New segments always follow the
+     * existing ones so that a segment left incomplete by a failure is never appended to.
+     *
+     * @throws IOException the new segment could not be created
+     */
+    private void rollSegment() throws IOException
+    {
+        closeActiveSegment();
+        applyRetention();
+
+        long nextSequence = 1;
+
+        List<File> segments = listSegments();
+
+        if (! segments.isEmpty())
+        {
+            nextSequence = getSequence(segments.get(segments.size() - 1)) + 1;
+        }
+
+        activeSegment = new File(logDirectory, segmentPrefix + String.format("%020d", nextSequence) + segmentSuffix);
+        activeSegmentData = FileChannel.open(activeSegment.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        activeSegmentIndex = FileChannel.open(getIndexFile(activeSegment).toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+
+    /**
+     * Close the files of the active segment.
+     */
+    private void closeActiveSegment()
+    {
+        try
+        {
+            if (activeSegmentData != null)
+            {
+                activeSegmentData.close();
+            }
+
+            if (activeSegmentIndex != null)
+            {
+                activeSegmentIndex.close();
+            }
+        }
+        catch (IOException error)
+        {
+            // nothing more can be written to the segment
+        }
+
+        activeSegment = null;
+        activeSegmentData = null;
+        activeSegmentIndex = null;
+    }
+
+
+    /**
+     * Delete the segments that are older than the retention time and then the oldest segments until the log is within the
+     * retention size.  The active segment is never deleted.
+     */
+    private void applyRetention()
+    {
+        if ((retentionMillis <= 0) && (retentionBytes <= 0))
+        {
+            return;
+        }
+
+        List<File> segments = listSegments();
+
+        segments.remove(activeSegment);
+
+        long totalBytes = 0;
+
+        for (File segment : segments)
+        {
+            totalBytes += segment.length() + getIndexFile(segment).length();
+        }
+
+        long expiryTime = System.currentTimeMillis() - retentionMillis;
+
+        for (File segment : segments)
+        {
+            boolean expired  = (retentionMillis > 0) && (segment.lastModified() < expiryTime);
+            boolean oversize = (retentionBytes > 0) && (totalBytes > retentionBytes);
+
+            if ((! expired) && (! oversize))
+            {
+                /*
+                 * Segments are in the order they were written so the rest are newer.
+                 */
+                break;
+            }
+
+            long segmentBytes = segment.length() + getIndexFile(segment).length();
+
+            if (segment.delete())
+            {
+                getIndexFile(segment).delete();
+                totalBytes -= segmentBytes;
+
+                if (deletedSegmentReporter != null)
+                {
+                    deletedSegmentReporter.accept(segment);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Read the index of a segment and return the position of the events that match the criteria.
+     *
+     * @param indexFile index of the segment
+     * @param fromTime earliest event time in milliseconds
+     * @param toTime latest event time in milliseconds
+     * @param namespace namespace of the job (null for any)
+     * @param jobName name of the job (null for any)
+     * @return map from the offset of each GZIP member to the positions of the selected events within it
+     * @throws IOException the index could not be read
+     */
+    private Map<Long, TreeSet<Integer>> selectRecords(File   indexFile,
+                                                      long   fromTime,
+                                                      long   toTime,
+                                                      String namespace,
+                                                      String jobName) throws IOException
+    {
+        Map<Long, TreeSet<Integer>> selectedRecords = new TreeMap<>();
+
+        if (! indexFile.exists())
+        {
+            return selectedRecords;
+        }
+
+        String requiredNamespace = (namespace == null) ? null : getIndexValue(namespace);
+        String requiredJobName   = (jobName == null) ? null : getIndexValue(jobName);
+
+        for (String indexLine : Files.readAllLines(indexFile.toPath(), StandardCharsets.UTF_8))
+        {
+            String[] fields = indexLine.split(indexSeparator, -1);
+
+            /*
+             * A line that was only partly written when the server stopped is ignored - its group was never acknowledged.
+             */
+            if (fields.length == 5)
+            {
+                try
+                {
+                    long eventTime = Long.parseLong(fields[0]);
+
+                    if ((eventTime >= fromTime) && (eventTime <= toTime) &&
+                        ((requiredNamespace == null) || (requiredNamespace.equals(fields[3]))) &&
+                        ((requiredJobName == null) || (requiredJobName.equals(fields[4]))))
+                    {
+                        selectedRecords.computeIfAbsent(Long.parseLong(fields[1]), offset -> new TreeSet<>()).add(Integer.parseInt(fields[2]));
+                    }
+                }
+                catch (NumberFormatException error)
+                {
+                    // ignore the damaged line
+                }
+            }
+        }
+
+        return selectedRecords;
+    }
+
+
+    /**
+     * Decompress the GZIP members that hold the selected events and pass the events to the consumer.
+     *
+     * @param segment segment file
+     * @param selectedRecords map from the offset of each GZIP member to the positions of the selected events within it
+     * @param eventConsumer receives the JSON of each event
+     * @return number of events passed to the consumer
+     * @throws IOException the segment could not be read
+     */
+    private long replaySegment(File                        segment,
+                               Map<Long, TreeSet<Integer>> selectedRecords,
+                               Consumer<String>            eventConsumer) throws IOException
+    {
+        long replayedEventCount = 0;
+
+        try (FileChannel segmentData = FileChannel.open(segment.toPath(), StandardOpenOption.READ))
+        {
+            for (Map.Entry<Long, TreeSet<Integer>> member : selectedRecords.entrySet())
+            {
+                segmentData.position(member.getKey());
+
+                /*
+                 * The input stream is not closed because that would close the shared channel.
+                 */
+                DataInputStream memberInput = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Channels.newInputStream(segmentData))));
+                int             lastRecord  = member.getValue().last();
+
+                for (int recordIndex = 0; recordIndex <= lastRecord; recordIndex++)
+                {
+                    byte[] eventBytes = new byte[memberInput.readInt()];
+
+                    memberInput.readFully(eventBytes);
+
+                    if (member.getValue().contains(recordIndex))
+                    {
+                        eventConsumer.accept(new String(eventBytes, StandardCharsets.UTF_8));
+                        replayedEventCount++;
+                    }
+                }
+            }
+        }
+
+        return replayedEventCount;
+    }
+
+
+    /**
+     * Return the segment files in the order they were written.
+     *
+     * @return list of segment files
+     */
+    private List<File> listSegments()
+    {
+        List<File> segments = new ArrayList<>();
+        File[]     files    = logDirectory.listFiles((directory, name) -> name.startsWith(segmentPrefix) && name.endsWith(segmentSuffix));
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                if (getSequence(file) > 0)
+                {
+                    segments.add(file);
+                }
+            }
+        }
+
+        segments.sort((segment1, segment2) -> Long.compare(getSequence(segment1), getSequence(segment2)));
+
+        return segments;
+    }
+
+
+    /**
+     * Return the sequence number from the name of a segment file.
+     *
+     * @param segment segment file
+     * @return sequence number or 0 if the name is not valid
+     */
+    private long getSequence(File segment)
+    {
+        String name = segment.getName();
+
+        try
+        {
+            return Long.parseLong(name.substring(segmentPrefix.length(), name.length() - segmentSuffix.length()));
+        }
+        catch (NumberFormatException error)
+        {
+            return 0;
+        }
+    }
+
+
+    /**
+     * Return the index file for a segment.
+     *
+     * @param segment segment file
+     * @return index file
+     */
+    private File getIndexFile(File segment)
+    {
+        String name = segment.getName();
+
+        return new File(segment.getParentFile(), name.substring(0, name.length() - segmentSuffix.length()) + indexSuffix);
+    }
+
+
+    /**
+     * Return a value that can be stored in an index line.
+     *
+     * @param value namespace or job name
+     * @return value without separators or line breaks
+     */
+    private String getIndexValue(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+
+    /**
+     * Write the whole buffer to the end of the file.
+     *
+     * @param channel file
+     * @param buffer bytes to write
+     * @throws IOException the file could not be written
+     */
+    private void writeFully(FileChannel channel,
+                            ByteBuffer  buffer) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer, channel.size());
+        }
+    }
+
+
+    /**
+     * PendingEvent is an event waiting for the committer thread.
+     */
+    private static class PendingEvent
+    {
+        private final long                    eventTime;
+        private final String                  namespace;
+        private final String                  jobName;
+        private final String                  rawEvent;
+        private final CompletableFuture<Void> stored = new CompletableFuture<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param eventTime time of the event in milliseconds
+         * @param namespace namespace of the event's job
+         * @param jobName name of the event's job
+         * @param rawEvent JSON event
+         */
+        PendingEvent(long   eventTime,
+                     String namespace,
+                     String jobName,
+                     String rawEvent)
+        {
+            this.eventTime = eventTime;
+            this.namespace = namespace;
+            this.jobName = jobName;
+            this.rawEvent = rawEvent;
+        }
+    }
+}
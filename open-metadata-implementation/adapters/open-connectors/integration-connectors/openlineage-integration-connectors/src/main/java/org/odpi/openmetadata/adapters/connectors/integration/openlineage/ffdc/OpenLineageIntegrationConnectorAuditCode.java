@@ -59,6 +59,24 @@ public enum OpenLineageIntegrationConnectorAuditCode implements AuditLogMessageS
                               "The connector will pass any events received to the other integration connectors that have registered listeners.",
                               "No action is required unless there are errors that follow indicating that there are problems access events from the topic."),
 
+    LOG_STORE_CONFIGURATION("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0006",
+                            OMRSAuditLogRecordSeverity.INFO,
+                            "The {0} integration connector is storing open lineage events in segments of up to {1} bytes in directory {2}",
+                            "The connector writes the events to an append-only log.  The events that arrive together are compressed and written as a group.",
+                            "No action is required unless there are errors that follow indicating that the events can not be stored."),
+
+    REPLAYING_EVENTS("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0007",
+                     OMRSAuditLogRecordSeverity.INFO,
+                     "The {0} integration connector is replaying the open lineage events stored in {1} from {2}",
+                     "The connector processes the stored events in the order that they were stored to rebuild the lineage.",
+                     "No action is required.  A message is logged when the replay is complete."),
+
+    REPLAYED_EVENTS("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0008",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "The {0} integration connector has replayed {1} open lineage events stored in {2}",
+                    "The connector has finished the replay and continues to process new events.",
+                    "No action is required."),
+
     CONNECTOR_STOPPING("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0009",
                                   OMRSAuditLogRecordSeverity.INFO,
                                   "The {0} integration connector has stopped its monitoring and is shutting down",
@@ -71,6 +89,12 @@ public enum OpenLineageIntegrationConnectorAuditCode implements AuditLogMessageS
                          "The connector is unable to process one or more lineage events.",
                          "Use the details from the error message to determine the cause of the error and retry the request once it is resolved."),
 
+    LOG_SEGMENT_DELETED("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0011",
+                        OMRSAuditLogRecordSeverity.INFO,
+                        "The {0} integration connector has deleted open lineage log segment {1} under its retention policy",
+                        "The events in the segment are no longer available for replay.",
+                        "No action is required.  Change the retention configuration properties if events need to be kept for longer."),
+
     UNEXPECTED_EXC_TOPIC_UPDATE("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0014",
                                  OMRSAuditLogRecordSeverity.EXCEPTION,
                                  "An unexpected {0} exception was returned to the {1} integration connector when it tried to update the " +
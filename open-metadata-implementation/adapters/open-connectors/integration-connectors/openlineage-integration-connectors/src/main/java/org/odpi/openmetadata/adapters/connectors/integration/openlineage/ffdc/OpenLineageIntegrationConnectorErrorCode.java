@@ -35,6 +35,11 @@ public enum OpenLineageIntegrationConnectorErrorCode implements ExceptionMessage
                          "The {0} integration connector received an null raw open lineage event in method {1} when working with open lineage events",
                          "The connector is unable to process an open lineage events because it has no content.",
                          "Validate the set up and source of the events and retry the request once it is resolved."),
+
+    REPLAY_NOT_SUPPORTED(501, "OPEN-LINEAGE-INTEGRATION-CONNECTOR-501-001",
+                         "The {0} integration connector is not able to replay the open lineage events stored in {1}",
+                         "The open lineage log store does not keep events in a form that can be replayed.  No events are replayed.",
+                         "Configure a log store that supports replay, such as the file-based open lineage log store, and retry the request."),
     ;
 
 
@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the SegmentedOpenLineageLog stores events in segments and replays them by time and job.
+ */
+public class SegmentedOpenLineageLogTest
+{
+    private File                    directory;
+    private SegmentedOpenLineageLog log;
+    private final List<File>        deletedSegments = new CopyOnWriteArrayList<>();
+
+
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        directory = Files.createTempDirectory("open-lineage-log").toFile();
+        deletedSegments.clear();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException
+    {
+        if (log != null)
+        {
+            log.close();
+        }
+
+        FileUtils.deleteDirectory(directory);
+    }
+
+
+    /**
+     * Events stored concurrently are all replayed, including events that contain line breaks, and the replay can be
+     * limited to a time range and a job.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test
+    public void testReplayByTimeAndJob() throws Exception
+    {
+        log = new SegmentedOpenLineageLog(directory, 1024 * 1024, 50, 0, 0, deletedSegments::add);
+        log.open();
+
+        this.storeEvents(200);
+
+        List<String> allEvents = new ArrayList<>();
+
+        assertEquals(log.replay(0, Long.MAX_VALUE, null, null, allEvents::add), 200);
+        assertTrue(allEvents.contains("{\"run\":7,\n\"job\":\"job3\"}"));
+
+        List<String> jobEvents = new ArrayList<>();
+
+        assertEquals(log.replay(1100, 1199, "namespace", "job1", jobEvents::add), 25);
+
+        for (String event : jobEvents)
+        {
+            assertTrue(event.contains("\"job\":\"job1\""));
+        }
+    }
+
+
+    /**
+     * The log is split into segments and the oldest segments are deleted when the log is larger than the retention size.
+     * A new log opened on the same directory starts a new segment and can replay the events stored by the first.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test
+    public void testSegmentsAndRetention() throws Exception
+    {
+        log = new SegmentedOpenLineageLog(directory, 2000, 20, 0, 8000, deletedSegments::add);
+        log.open();
+
+        this.storeEvents(400);
+        log.close();
+
+        assertFalse(deletedSegments.isEmpty());
+
+        log = new SegmentedOpenLineageLog(directory, 2000, 20, 0, 0, deletedSegments::add);
+        log.open();
+
+        List<String> remainingEvents = new ArrayList<>();
+        long         remainingCount  = log.replay(0, Long.MAX_VALUE, null, null, remainingEvents::add);
+
+        assertTrue((remainingCount > 0) && (remainingCount < 400));
+        assertTrue(remainingEvents.contains("{\"run\":399,\n\"job\":\"job3\"}"));
+
+        String[] segmentsBefore = directory.list();
+
+        log.append(5000, "namespace", "job0", "{\"run\":400}");
+
+        assertEquals(directory.list().length, segmentsBefore.length + 2);
+    }
+
+
+    /**
+     * Store events from several threads so that they are committed in groups.
+     *
+     * @param eventCount number of events
+     * @throws Exception an event could not be stored
+     */
+    private void storeEvents(int eventCount) throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> results  = new ArrayList<>();
+
+        for (int run = 0; run < eventCount; run++)
+        {
+            final int    eventRun = run;
+            final String jobName  = "job" + (run % 4);
+
+            results.add(executor.submit(() ->
+                                        {
+                                            log.append(1000L + eventRun, "namespace", jobName, "{\"run\":" + eventRun + ",\n\"job\":\"" + jobName + "\"}");
+                                            return null;
+                                        }));
+        }
+
+        for (Future<?> result : results)
+        {
+            result.get();
+        }
+
+        executor.shutdown();
+    }
+}
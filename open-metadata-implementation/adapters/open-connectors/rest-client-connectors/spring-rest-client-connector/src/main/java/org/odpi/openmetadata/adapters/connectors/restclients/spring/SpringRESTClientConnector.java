@@ -913,6 +913,89 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Issue a GET REST call that returns the whole response entity so that the caller can inspect the status code
+     * and the response headers.  The additional request headers are sent alongside the standard headers.  This
+     * supports conditional requests - a response with status 304 (not modified) is returned with no body.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestHeaders additional headers for the request (may be null).
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return response entity
+     * @throws RESTServerException something went wrong with the REST call stack.
+     */
+    public <T> ResponseEntity<T> callGetRESTCallForEntity(String      methodName,
+                                                          Class<T>    returnClass,
+                                                          String      urlTemplate,
+                                                          HttpHeaders requestHeaders,
+                                                          Object...   params) throws RESTServerException
+    {
+        try
+        {
+            if(log.isDebugEnabled())
+            {
+                //avoid calling Arrays.toString if not debug level
+                log.debug("Calling {} with URL template {} and parameters {}.",
+                          methodName,
+                          urlTemplate,
+                          Arrays.toString(params)
+                );
+            }
+
+            HttpEntity<?> request;
+
+            HttpHeaders headers = getHttpHeaders();
+
+            if (requestHeaders != null)
+            {
+                headers.addAll(requestHeaders);
+            }
+
+            if (headers.isEmpty())
+            {
+                request = HttpEntity.EMPTY;
+            }
+            else
+            {
+                request = new HttpEntity<>(headers);
+            }
+
+            ResponseEntity<T> responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.GET, request, returnClass, params);
+
+            log.debug("Returning from {} with status {}", methodName, responseEntity.getStatusCodeValue());
+
+            return responseEntity;
+        }
+        catch (Exception error)
+        {
+            log.debug("Exception {} with message {} occurred during REST call for {}.",
+                      error.getClass().getName(),
+                      error.getMessage(),
+                      methodName);
+
+            RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(error.getClass().getName(),
+                                                                                                     methodName,
+                                                                                                     urlTemplate,
+                                                                                                     serverName,
+                                                                                                     serverPlatformURLRoot,
+                                                                                                     error.getMessage());
+
+            throw new RESTServerException(errorCode.getHTTPErrorCode(),
+                                          this.getClass().getName(),
+                                          methodName,
+                                          errorMessage,
+                                          errorCode.getSystemAction(),
+                                          errorCode.getUserAction(),
+                                          error);
+        }
+    }
+
+
     /**
      * Issue a DELETE REST call that returns a response object.
      *
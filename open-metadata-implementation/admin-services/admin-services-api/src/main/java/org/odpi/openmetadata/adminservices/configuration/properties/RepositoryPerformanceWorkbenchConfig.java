@@ -31,6 +31,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     private int      waitBetweenScenarios = 60;
     private List<String> profilesToSkip = Collections.emptyList();
     private List<String> methodsToSkip  = Collections.emptyList();
+    private int      concurrentClients = 0;
+    private int      concurrentWritePercentage = 20;
+    private int      concurrentWarmUpSeconds = 30;
+    private int      concurrentDurationSeconds = 300;
+    private int      concurrentTargetRate = 0;
 
 
     /**
@@ -58,6 +63,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
             waitBetweenScenarios = template.getWaitBetweenScenarios();
             profilesToSkip = template.getProfilesToSkip();
             methodsToSkip  = template.getMethodsToSkip();
+            concurrentClients = template.getConcurrentClients();
+            concurrentWritePercentage = template.getConcurrentWritePercentage();
+            concurrentWarmUpSeconds = template.getConcurrentWarmUpSeconds();
+            concurrentDurationSeconds = template.getConcurrentDurationSeconds();
+            concurrentTargetRate = template.getConcurrentTargetRate();
         }
     }
 
@@ -198,6 +208,124 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     }
 
 
+    /**
+     * Return the number of virtual clients that call the server under test at the same time during the concurrent
+     * load scenario.  Zero means the concurrent load scenario is not run.
+     *
+     * @return number of concurrent clients
+     */
+    public int getConcurrentClients()
+    {
+        return concurrentClients;
+    }
+
+
+    /**
+     * Set up the number of virtual clients that call the server under test at the same time during the concurrent
+     * load scenario.  Zero means the concurrent load scenario is not run.
+     *
+     * @param concurrentClients number of concurrent clients
+     */
+    public void setConcurrentClients(int concurrentClients)
+    {
+        this.concurrentClients = concurrentClients;
+    }
+
+
+    /**
+     * Return the percentage of requests in the concurrent load scenario that create or update instances.  The rest
+     * retrieve or search for instances.
+     *
+     * @return percentage of write requests (0-100)
+     */
+    public int getConcurrentWritePercentage()
+    {
+        return concurrentWritePercentage;
+    }
+
+
+    /**
+     * Set up the percentage of requests in the concurrent load scenario that create or update instances.  The rest
+     * retrieve or search for instances.
+     *
+     * @param concurrentWritePercentage percentage of write requests (0-100)
+     */
+    public void setConcurrentWritePercentage(int concurrentWritePercentage)
+    {
+        this.concurrentWritePercentage = concurrentWritePercentage;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds) that the concurrent load scenario runs before it starts to record
+     * its measurements.  This allows caches and connection pools to warm up.
+     *
+     * @return warm up time (in seconds)
+     */
+    public int getConcurrentWarmUpSeconds()
+    {
+        return concurrentWarmUpSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds) that the concurrent load scenario runs before it starts to record
+     * its measurements.  This allows caches and connection pools to warm up.
+     *
+     * @param concurrentWarmUpSeconds warm up time (in seconds)
+     */
+    public void setConcurrentWarmUpSeconds(int concurrentWarmUpSeconds)
+    {
+        this.concurrentWarmUpSeconds = concurrentWarmUpSeconds;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds) that the concurrent load scenario is measured for, after the warm up.
+     *
+     * @return measurement time (in seconds)
+     */
+    public int getConcurrentDurationSeconds()
+    {
+        return concurrentDurationSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds) that the concurrent load scenario is measured for, after the warm up.
+     *
+     * @param concurrentDurationSeconds measurement time (in seconds)
+     */
+    public void setConcurrentDurationSeconds(int concurrentDurationSeconds)
+    {
+        this.concurrentDurationSeconds = concurrentDurationSeconds;
+    }
+
+
+    /**
+     * Return the total number of requests per second that the concurrent clients aim to issue between them.
+     * Zero means each client issues its next request as soon as the previous one completes.
+     *
+     * @return target request rate (per second)
+     */
+    public int getConcurrentTargetRate()
+    {
+        return concurrentTargetRate;
+    }
+
+
+    /**
+     * Set up the total number of requests per second that the concurrent clients aim to issue between them.
+     * Zero means each client issues its next request as soon as the previous one completes.
+     *
+     * @param concurrentTargetRate target request rate (per second)
+     */
+    public void setConcurrentTargetRate(int concurrentTargetRate)
+    {
+        this.concurrentTargetRate = concurrentTargetRate;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -213,6 +341,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 "waitBetweenScenarios='" + waitBetweenScenarios + '\'' +
                 "profilesToSkip=" + profilesToSkip +
                 "methodsToSkip=" + methodsToSkip +
+                "concurrentClients='" + concurrentClients + '\'' +
+                "concurrentWritePercentage='" + concurrentWritePercentage + '\'' +
+                "concurrentWarmUpSeconds='" + concurrentWarmUpSeconds + '\'' +
+                "concurrentDurationSeconds='" + concurrentDurationSeconds + '\'' +
+                "concurrentTargetRate='" + concurrentTargetRate + '\'' +
                 '}';
     }
 
@@ -240,7 +373,12 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 && Objects.equals(getMaxSearchResults(), that.getMaxSearchResults())
                 && Objects.equals(getWaitBetweenScenarios(), that.getWaitBetweenScenarios())
                 && Objects.equals(getProfilesToSkip(), that.getProfilesToSkip())
-                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip());
+                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip())
+                && getConcurrentClients() == that.getConcurrentClients()
+                && getConcurrentWritePercentage() == that.getConcurrentWritePercentage()
+                && getConcurrentWarmUpSeconds() == that.getConcurrentWarmUpSeconds()
+                && getConcurrentDurationSeconds() == that.getConcurrentDurationSeconds()
+                && getConcurrentTargetRate() == that.getConcurrentTargetRate();
     }
 
 
@@ -252,6 +390,8 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     @Override
     public int hashCode()
     {
-        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip());
+        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip(),
+                            getConcurrentClients(), getConcurrentWritePercentage(), getConcurrentWarmUpSeconds(),
+                            getConcurrentDurationSeconds(), getConcurrentTargetRate());
     }
 }
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -466,22 +467,12 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
 
         Date effectiveTime = new Date();
 
-        String assetGUID          = null;
-        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
-                                                              parentDataFieldGUID,
-                                                              dataFieldGUIDParameterName,
-                                                              OpenMetadataAPIMapper.DATA_FIELD_ANNOTATION_TYPE_NAME,
-                                                              false,
-                                                              false,
-                                                              false,
-                                                              supportedZones,
-                                                              effectiveTime,
-                                                              methodName);
-
-        if (anchorEntity != null)
-        {
-            assetGUID = anchorEntity.getGUID();
-        }
+        String assetGUID = this.getAnchorGUID(userId,
+                                              parentDataFieldGUID,
+                                              dataFieldGUIDParameterName,
+                                              OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                              effectiveTime,
+                                              methodName);
 
         String annotationGUID = this.addNewAnnotation(userId, assetGUID, annotation, methodName);
 
@@ -493,8 +484,8 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
                                       annotationGUID,
                                       annotationParameterName,
                                       OpenMetadataAPIMapper.DATA_FIELD_ANNOTATION_TYPE_NAME,
-                                      annotationGUID,
-                                      annotationParameterName,
+                                      parentDataFieldGUID,
+                                      dataFieldGUIDParameterName,
                                       OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
                                       false,
                                       false,
@@ -585,6 +576,309 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
 
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The report and its anchor are validated once for the whole list.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public  List<String>  addAnnotationsToDiscoveryReport(String           userId,
+                                                          String           discoveryReportGUID,
+                                                          List<Annotation> annotations,
+                                                          String           methodName) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        final String annotationParameterName = "annotation";
+        final String annotationsParameterName = "annotations";
+        final String discoveryReportGUIDParameterName = "discoveryReportGUID";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, discoveryReportGUIDParameterName, methodName);
+        this.validateAnnotations(annotations, annotationsParameterName, methodName);
+
+        Date effectiveTime = new Date();
+
+        String assetGUID = this.getAnchorGUID(userId,
+                                              discoveryReportGUID,
+                                              discoveryReportGUIDParameterName,
+                                              OpenMetadataAPIMapper.DISCOVERY_ANALYSIS_REPORT_TYPE_NAME,
+                                              effectiveTime,
+                                              methodName);
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        for (Annotation annotation : annotations)
+        {
+            String annotationGUID = this.addNewAnnotation(userId, assetGUID, annotation, methodName);
+
+            if (annotationGUID != null)
+            {
+                this.linkElementToElement(userId,
+                                          null,
+                                          null,
+                                          annotationGUID,
+                                          annotationParameterName,
+                                          OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                          discoveryReportGUID,
+                                          discoveryReportGUIDParameterName,
+                                          OpenMetadataAPIMapper.DISCOVERY_ANALYSIS_REPORT_TYPE_NAME,
+                                          false,
+                                          false,
+                                          supportedZones,
+                                          OpenMetadataAPIMapper.REPORT_TO_ANNOTATIONS_TYPE_GUID,
+                                          OpenMetadataAPIMapper.REPORT_TO_ANNOTATIONS_TYPE_NAME,
+                                          null,
+                                          null,
+                                          null,
+                                          effectiveTime,
+                                          methodName);
+            }
+
+            annotationGUIDs.add(annotationGUID);
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add a list of new annotations, each linked to an existing data field.  The annotation at each position
+     * in the list is linked to the data field at the same position in the list of data field identifiers.
+     * Each distinct data field and its anchor are validated once.
+     *
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid or the lists are different lengths
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToDataFields(String           userId,
+                                                    List<String>     parentDataFieldGUIDs,
+                                                    List<Annotation> annotations,
+                                                    String           methodName) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException
+    {
+        final String   dataFieldGUIDParameterName = "parentDataFieldGUID";
+        final String   dataFieldGUIDsParameterName = "parentDataFieldGUIDs";
+        final String   annotationParameterName = "annotation";
+        final String   annotationsParameterName = "annotations";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        this.validateAnnotations(annotations, annotationsParameterName, methodName);
+
+        if ((parentDataFieldGUIDs == null) || (parentDataFieldGUIDs.size() != annotations.size()))
+        {
+            throw new InvalidParameterException(ODFErrorCode.MISMATCHED_LIST_SIZES.getMessageDefinition(methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                dataFieldGUIDsParameterName);
+        }
+
+        for (String parentDataFieldGUID : parentDataFieldGUIDs)
+        {
+            invalidParameterHandler.validateGUID(parentDataFieldGUID, dataFieldGUIDParameterName, methodName);
+        }
+
+        Date effectiveTime = new Date();
+
+        Map<String, String> dataFieldAnchors = new HashMap<>();
+        List<String>        annotationGUIDs  = new ArrayList<>();
+
+        for (int i = 0; i < annotations.size(); i++)
+        {
+            String parentDataFieldGUID = parentDataFieldGUIDs.get(i);
+
+            if (! dataFieldAnchors.containsKey(parentDataFieldGUID))
+            {
+                dataFieldAnchors.put(parentDataFieldGUID, this.getAnchorGUID(userId,
+                                                                             parentDataFieldGUID,
+                                                                             dataFieldGUIDParameterName,
+                                                                             OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                                                             effectiveTime,
+                                                                             methodName));
+            }
+
+            String annotationGUID = this.addNewAnnotation(userId, dataFieldAnchors.get(parentDataFieldGUID), annotations.get(i), methodName);
+
+            if (annotationGUID != null)
+            {
+                this.linkElementToElement(userId,
+                                          null,
+                                          null,
+                                          annotationGUID,
+                                          annotationParameterName,
+                                          OpenMetadataAPIMapper.DATA_FIELD_ANNOTATION_TYPE_NAME,
+                                          parentDataFieldGUID,
+                                          dataFieldGUIDParameterName,
+                                          OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                          false,
+                                          false,
+                                          supportedZones,
+                                          OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_GUID,
+                                          OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_NAME,
+                                          null,
+                                          null,
+                                          null,
+                                          effectiveTime,
+                                          methodName);
+            }
+
+            annotationGUIDs.add(annotationGUID);
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add a list of new annotations and link them to an existing annotation.  The parent annotation and
+     * its anchor are validated once for the whole list.
+     *
+     * @param userId identifier of calling user
+     * @param parentAnnotationGUID unique identifier of the annotation that the new ones are to be attached to
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    public  List<String>  addAnnotationsToAnnotation(String           userId,
+                                                     String           parentAnnotationGUID,
+                                                     List<Annotation> annotations,
+                                                     String           methodName) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        final String parentAnnotationGUIDParameterName = "parentAnnotationGUID";
+        final String annotationParameterName = "annotation";
+        final String annotationsParameterName = "annotations";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(parentAnnotationGUID, parentAnnotationGUIDParameterName, methodName);
+        this.validateAnnotations(annotations, annotationsParameterName, methodName);
+
+        Date effectiveTime = new Date();
+
+        String assetGUID = this.getAnchorGUID(userId,
+                                              parentAnnotationGUID,
+                                              parentAnnotationGUIDParameterName,
+                                              OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                              effectiveTime,
+                                              methodName);
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        for (Annotation annotation : annotations)
+        {
+            String annotationGUID = this.addNewAnnotation(userId, assetGUID, annotation, methodName);
+
+            if (annotationGUID != null)
+            {
+                this.linkElementToElement(userId,
+                                          null,
+                                          null,
+                                          parentAnnotationGUID,
+                                          parentAnnotationGUIDParameterName,
+                                          OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                          annotationGUID,
+                                          annotationParameterName,
+                                          OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                          false,
+                                          false,
+                                          supportedZones,
+                                          OpenMetadataAPIMapper.ANNOTATION_TO_EXTENSION_TYPE_GUID,
+                                          OpenMetadataAPIMapper.ANNOTATION_TO_EXTENSION_TYPE_NAME,
+                                          null,
+                                          null,
+                                          null,
+                                          effectiveTime,
+                                          methodName);
+            }
+
+            annotationGUIDs.add(annotationGUID);
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Check that a list of annotations is present and contains no null entries.
+     *
+     * @param annotations list of annotation objects
+     * @param parameterName name of parameter supplying the list
+     * @param methodName calling method
+     * @throws InvalidParameterException the list is missing or contains a null entry
+     */
+    private void validateAnnotations(List<Annotation> annotations,
+                                     String           parameterName,
+                                     String           methodName) throws InvalidParameterException
+    {
+        invalidParameterHandler.validateObject(annotations, parameterName, methodName);
+
+        for (Annotation annotation : annotations)
+        {
+            invalidParameterHandler.validateObject(annotation, parameterName, methodName);
+        }
+    }
+
+
+    /**
+     * Validate the element that new annotations are to be attached to and return the unique identifier of its anchor.
+     *
+     * @param userId identifier of calling user
+     * @param parentGUID unique identifier of the element that the annotations are to be attached to
+     * @param parentGUIDParameterName name of parameter supplying parentGUID
+     * @param parentTypeName type of the element that the annotations are to be attached to
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @param methodName calling method
+     * @return unique identifier of the anchor or null if the element is not anchored
+     * @throws InvalidParameterException the element is not known
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem retrieving the element.
+     */
+    private String getAnchorGUID(String userId,
+                                 String parentGUID,
+                                 String parentGUIDParameterName,
+                                 String parentTypeName,
+                                 Date   effectiveTime,
+                                 String methodName) throws InvalidParameterException,
+                                                           UserNotAuthorizedException,
+                                                           PropertyServerException
+    {
+        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                              parentGUID,
+                                                              parentGUIDParameterName,
+                                                              parentTypeName,
+                                                              false,
+                                                              false,
+                                                              false,
+                                                              supportedZones,
+                                                              effectiveTime,
+                                                              methodName);
+
+        if (anchorEntity != null)
+        {
+            return anchorEntity.getGUID();
+        }
+
+        return null;
+    }
+
+
     /**
      * Replace the current properties of an annotation.
      *
@@ -3269,6 +3269,34 @@ public class OpenMetadataAPIGenericHandler<B>
             }
         }
 
+        /*
+         * The unique name index is checked first.  If the name belongs to the entity being updated then there is
+         * no clash because the unique property is only ever allowed one owner.
+         */
+        EntityDetail indexedEntity = this.getEntityFromUniqueNameIndex(localServerUserId,
+                                                                       uniqueParameterValue,
+                                                                       uniqueParameterName,
+                                                                       owningEntityTypeName,
+                                                                       false,
+                                                                       false,
+                                                                       supportedZones,
+                                                                       effectiveTime,
+                                                                       methodName);
+
+        if (indexedEntity != null)
+        {
+            if ((entityGUID == null) || (! entityGUID.equals(indexedEntity.getGUID())))
+            {
+                invalidParameterHandler.throwUniqueNameInUse(uniqueParameterValue,
+                                                             uniqueParameterName,
+                                                             entityTypeName,
+                                                             serviceName,
+                                                             methodName);
+            }
+
+            return;
+        }
+
         /*
          * An entity with the Memento classification set is ignored
          */
@@ -3293,6 +3321,15 @@ public class OpenMetadataAPIGenericHandler<B>
 
         if ((existingEntities != null) && (! existingEntities.isEmpty()))
         {
+            if ((existingEntities.size() == 1) && (existingEntities.get(0) != null))
+            {
+                this.addToUniqueNameIndex(uniqueParameterValue,
+                                          uniqueParameterName,
+                                          owningEntityTypeName,
+                                          existingEntities.get(0).getGUID(),
+                                          methodName);
+            }
+
             if (entityGUID != null)
             {
                 for (EntityDetail existingEntity : existingEntities)
@@ -3319,6 +3356,170 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Return the entity that the unique name index records for a unique name.  The entity is retrieved by guid and
+     * checked to ensure it still has the name and is visible to the caller.  Null is returned if the index does not
+     * hold the name, the property is not unique for the type, or the entity fails the checks.  In these cases,
+     * the caller needs to fall back to a search.
+     *
+     * @param userId calling user
+     * @param name value of the unique property
+     * @param namePropertyName name of the unique property
+     * @param resultTypeName unique name of the type that the result should match with
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param serviceSupportedZones list of supported zones for this service
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return matching entity or null
+     */
+    private EntityDetail getEntityFromUniqueNameIndex(String       userId,
+                                                      String       name,
+                                                      String       namePropertyName,
+                                                      String       resultTypeName,
+                                                      boolean      forLineage,
+                                                      boolean      forDuplicateProcessing,
+                                                      List<String> serviceSupportedZones,
+                                                      Date         effectiveTime,
+                                                      String       methodName)
+    {
+        final String guidParameterName = "uniqueNameIndex.guid";
+
+        UniqueNameIndex uniqueNameIndex = repositoryHandler.getUniqueNameIndex();
+
+        if ((uniqueNameIndex == null) || (name == null) || (! this.isUniqueProperty(resultTypeName, namePropertyName, methodName)))
+        {
+            return null;
+        }
+
+        String guid = uniqueNameIndex.getGUID(namePropertyName, name);
+
+        if (guid == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            EntityDetail entity = repositoryHandler.getEntityByGUID(userId,
+                                                                    guid,
+                                                                    guidParameterName,
+                                                                    resultTypeName,
+                                                                    forLineage,
+                                                                    forDuplicateProcessing,
+                                                                    effectiveTime,
+                                                                    methodName);
+
+            if ((entity != null) &&
+                (name.equals(repositoryHelper.getStringProperty(serviceName, namePropertyName, entity.getProperties(), methodName))))
+            {
+                validateAnchorEntity(userId,
+                                     entity.getGUID(),
+                                     resultTypeName,
+                                     entity,
+                                     guidParameterName,
+                                     false,
+                                     forLineage,
+                                     forDuplicateProcessing,
+                                     serviceSupportedZones,
+                                     effectiveTime,
+                                     methodName);
+
+                return entity;
+            }
+        }
+        catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error)
+        {
+            log.debug("Unique name index entry for " + name + " is not usable: " + error.getMessage());
+        }
+
+        /*
+         * The index is out of date (or the entity is not visible to this caller) so the search decides.
+         */
+        uniqueNameIndex.removeUniqueName(namePropertyName, name);
+
+        return null;
+    }
+
+
+    /**
+     * Record the entity that a search found for a unique name in the unique name index.
+     *
+     * @param name value of the unique property
+     * @param namePropertyName name of the unique property
+     * @param resultTypeName unique name of the type that was searched for
+     * @param guid unique identifier of the entity that has the name
+     * @param methodName calling method
+     */
+    private void addToUniqueNameIndex(String name,
+                                      String namePropertyName,
+                                      String resultTypeName,
+                                      String guid,
+                                      String methodName)
+    {
+        UniqueNameIndex uniqueNameIndex = repositoryHandler.getUniqueNameIndex();
+
+        if ((uniqueNameIndex != null) && (this.isUniqueProperty(resultTypeName, namePropertyName, methodName)))
+        {
+            uniqueNameIndex.addUniqueName(namePropertyName, name, guid);
+        }
+    }
+
+
+    /**
+     * Return whether the property is defined as unique in the type or one of its super types.  Only unique
+     * properties are held in the unique name index.
+     *
+     * @param typeName unique name of the type
+     * @param propertyName name of the property
+     * @param methodName calling method
+     * @return boolean flag
+     */
+    private boolean isUniqueProperty(String typeName,
+                                     String propertyName,
+                                     String methodName)
+    {
+        String typeNameToCheck = typeName;
+
+        while ((typeNameToCheck != null) && (propertyName != null))
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDefByName(methodName, typeNameToCheck);
+
+            if (typeDef == null)
+            {
+                return false;
+            }
+
+            List<TypeDefAttribute> typeDefAttributes = typeDef.getPropertiesDefinition();
+
+            if (typeDefAttributes != null)
+            {
+                for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+                {
+                    if ((typeDefAttribute != null) && (propertyName.equals(typeDefAttribute.getAttributeName())))
+                    {
+                        return typeDefAttribute.isUnique();
+                    }
+                }
+            }
+
+            TypeDefLink superTypeDefLink = typeDef.getSuperType();
+
+            if (superTypeDefLink != null)
+            {
+                typeNameToCheck = superTypeDefLink.getName();
+            }
+            else
+            {
+                typeNameToCheck = null;
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * Validate that new properties for an entity do not have unique properties that clash with other instances.
      *
@@ -9446,6 +9647,21 @@ public class OpenMetadataAPIGenericHandler<B>
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(name, nameParameterName, methodName);
 
+        EntityDetail indexedEntity = this.getEntityFromUniqueNameIndex(userId,
+                                                                       name,
+                                                                       namePropertyName,
+                                                                       resultTypeName,
+                                                                       forLineage,
+                                                                       forDuplicateProcessing,
+                                                                       serviceSupportedZones,
+                                                                       effectiveTime,
+                                                                       methodName);
+
+        if (indexedEntity != null)
+        {
+            return indexedEntity.getGUID();
+        }
+
         List<String> propertyNames = new ArrayList<>();
         propertyNames.add(namePropertyName);
 
@@ -9519,6 +9735,8 @@ public class OpenMetadataAPIGenericHandler<B>
         }
         else if (duplicateEntities.size() == 1)
         {
+            this.addToUniqueNameIndex(name, namePropertyName, resultTypeName, guid, methodName);
+
             return guid;
         }
 
@@ -9616,6 +9834,21 @@ public class OpenMetadataAPIGenericHandler<B>
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(name, nameParameterName, methodName);
 
+        EntityDetail indexedEntity = this.getEntityFromUniqueNameIndex(userId,
+                                                                       name,
+                                                                       namePropertyName,
+                                                                       resultTypeName,
+                                                                       forLineage,
+                                                                       forDuplicateProcessing,
+                                                                       serviceSupportedZones,
+                                                                       effectiveTime,
+                                                                       methodName);
+
+        if (indexedEntity != null)
+        {
+            return converter.getNewBean(beanClass, indexedEntity, methodName);
+        }
+
         List<String> propertyNames = new ArrayList<>();
         propertyNames.add(namePropertyName);
 
@@ -9689,6 +9922,8 @@ public class OpenMetadataAPIGenericHandler<B>
         }
         else if (duplicateEntities.size() == 1)
         {
+            this.addToUniqueNameIndex(name, namePropertyName, resultTypeName, duplicateEntities.get(0), methodName);
+
             return bean;
         }
 
@@ -11211,6 +11446,28 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                           UserNotAuthorizedException,
                                                                           PropertyServerException
     {
+        String uniquePropertyName = null;
+
+        if ((specificMatchPropertyNames != null) && (specificMatchPropertyNames.size() == 1))
+        {
+            uniquePropertyName = specificMatchPropertyNames.get(0);
+
+            EntityDetail indexedEntity = this.getEntityFromUniqueNameIndex(userId,
+                                                                           value,
+                                                                           uniquePropertyName,
+                                                                           resultTypeName,
+                                                                           forLineage,
+                                                                           forDuplicateProcessing,
+                                                                           supportedZones,
+                                                                           effectiveTime,
+                                                                           methodName);
+
+            if (indexedEntity != null)
+            {
+                return indexedEntity;
+            }
+        }
+
         List<EntityDetail> results = this.getEntitiesByValue(userId,
                                                              value,
                                                              valueParameterName,
@@ -11235,6 +11492,11 @@ public class OpenMetadataAPIGenericHandler<B>
         {
             if (results.size() == 1)
             {
+                if ((uniquePropertyName != null) && (results.get(0) != null))
+                {
+                    this.addToUniqueNameIndex(value, uniquePropertyName, resultTypeName, results.get(0).getGUID(), methodName);
+                }
+
                 return results.get(0);
             }
             else if (results.size() > 1)
@@ -0,0 +1,239 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the AnnotationHandler links new data field annotations to their data fields.  The repository calls
+ * are replaced so the test only checks the elements that are created and linked.
+ */
+public class AnnotationHandlerTest
+{
+    private static final String USER_ID     = "testUser";
+    private static final String METHOD_NAME = "AnnotationHandlerTest";
+    private static final String ASSET_GUID  = "asset-guid";
+
+    private final List<String[]> links = new ArrayList<>();
+
+    private AnnotationHandler<Annotation> annotationHandler;
+    private int                           annotationCount;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        links.clear();
+        annotationCount = 0;
+
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class, RETURNS_MOCKS);
+        EntityDef            annotationType   = new EntityDef();
+
+        annotationType.setGUID("annotation-type-guid");
+        annotationType.setName(OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME);
+
+        when(repositoryHelper.getTypeDefByName(anyString(), anyString())).thenReturn(annotationType);
+        when(repositoryHelper.isTypeOf(anyString(), anyString(), anyString())).thenReturn(true);
+
+        annotationHandler = spy(new AnnotationHandler<>(null,
+                                                        Annotation.class,
+                                                        "TestService",
+                                                        "TestServer",
+                                                        new InvalidParameterHandler(),
+                                                        mock(RepositoryHandler.class),
+                                                        repositoryHelper,
+                                                        "localServerUser",
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        null));
+
+        EntityDetail anchorEntity = new EntityDetail();
+        anchorEntity.setGUID(ASSET_GUID);
+
+        doReturn(anchorEntity).when(annotationHandler).validateAnchorEntity(anyString(),
+                                                                            anyString(),
+                                                                            anyString(),
+                                                                            anyString(),
+                                                                            anyBoolean(),
+                                                                            anyBoolean(),
+                                                                            anyBoolean(),
+                                                                            any(),
+                                                                            any(Date.class),
+                                                                            anyString());
+
+        doAnswer(invocation -> "annotation-" + (annotationCount++)).when(annotationHandler)
+                .createBeanInRepository(anyString(),
+                                        nullable(String.class),
+                                        nullable(String.class),
+                                        anyString(),
+                                        anyString(),
+                                        any(OpenMetadataAPIGenericBuilder.class),
+                                        any(Date.class),
+                                        anyString());
+
+        doAnswer(invocation ->
+                 {
+                     links.add(new String[]{invocation.getArgument(3),
+                                            invocation.getArgument(6),
+                                            invocation.getArgument(8),
+                                            invocation.getArgument(13)});
+                     return "relationship-guid";
+                 }).when(annotationHandler).linkElementToElement(anyString(),
+                                                                 any(),
+                                                                 any(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 anyBoolean(),
+                                                                 anyBoolean(),
+                                                                 any(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 any(),
+                                                                 any(),
+                                                                 any(),
+                                                                 any(Date.class),
+                                                                 anyString());
+    }
+
+
+    /**
+     * A new annotation is linked to the data field it describes, and the data field is validated as a data field.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testAddAnnotationToDataField() throws Exception
+    {
+        String annotationGUID = annotationHandler.addAnnotationToDataField(USER_ID, "data-field-guid", new DataProfileAnnotation(), METHOD_NAME);
+
+        assertEquals(annotationGUID, "annotation-0");
+        assertEquals(links.size(), 1);
+        assertLink(links.get(0), "annotation-0", "data-field-guid");
+
+        verify(annotationHandler).validateAnchorEntity(eq(USER_ID),
+                                                       eq("data-field-guid"),
+                                                       anyString(),
+                                                       eq(OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME),
+                                                       anyBoolean(),
+                                                       anyBoolean(),
+                                                       anyBoolean(),
+                                                       any(),
+                                                       any(Date.class),
+                                                       anyString());
+    }
+
+
+    /**
+     * Each annotation in a list is linked to the data field at the same position, and each data field is validated
+     * once.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testAddAnnotationsToDataFields() throws Exception
+    {
+        List<String> annotationGUIDs = annotationHandler.addAnnotationsToDataFields(USER_ID,
+                                                                                    Arrays.asList("field-1", "field-2", "field-1"),
+                                                                                    Arrays.asList(new DataProfileAnnotation(),
+                                                                                                  new DataProfileAnnotation(),
+                                                                                                  new DataProfileAnnotation()),
+                                                                                    METHOD_NAME);
+
+        assertEquals(annotationGUIDs, Arrays.asList("annotation-0", "annotation-1", "annotation-2"));
+        assertEquals(links.size(), 3);
+        assertLink(links.get(0), "annotation-0", "field-1");
+        assertLink(links.get(1), "annotation-1", "field-2");
+        assertLink(links.get(2), "annotation-2", "field-1");
+
+        verify(annotationHandler, times(2)).validateAnchorEntity(anyString(),
+                                                                 anyString(),
+                                                                 anyString(),
+                                                                 eq(OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME),
+                                                                 anyBoolean(),
+                                                                 anyBoolean(),
+                                                                 anyBoolean(),
+                                                                 any(),
+                                                                 any(Date.class),
+                                                                 anyString());
+    }
+
+
+    /**
+     * Lists of data fields and annotations of different lengths are rejected before anything is created.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testMismatchedLists() throws Exception
+    {
+        try
+        {
+            annotationHandler.addAnnotationsToDataFields(USER_ID,
+                                                         Arrays.asList("field-1", "field-2"),
+                                                         Arrays.asList(new DataProfileAnnotation()),
+                                                         METHOD_NAME);
+            fail("Mismatched lists were accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertEquals(error.getParameterName(), "parentDataFieldGUIDs");
+        }
+
+        assertEquals(annotationCount, 0);
+        assertEquals(links.size(), 0);
+    }
+
+
+    /**
+     * Check that a link is a DataFieldAnalysis relationship between an annotation and a data field.
+     *
+     * @param link recorded link
+     * @param annotationGUID expected annotation
+     * @param dataFieldGUID expected data field
+     */
+    private static void assertLink(String[] link,
+                                   String   annotationGUID,
+                                   String   dataFieldGUID)
+    {
+        assertEquals(link[0], annotationGUID);
+        assertEquals(link[1], dataFieldGUID);
+        assertEquals(link[2], OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME);
+        assertEquals(link[3], OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_NAME);
+    }
+}
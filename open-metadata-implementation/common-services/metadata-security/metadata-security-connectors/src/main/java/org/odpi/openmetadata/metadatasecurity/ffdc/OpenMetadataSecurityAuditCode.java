@@ -151,6 +151,22 @@ public enum OpenMetadataSecurityAuditCode implements AuditLogMessageSet
                              "The security service detected an unauthorized change of an open metadata instance.",
                              "Review the security policies and settings to determine if this access should be allowed or not." +
                                      "  Take action to either change the security sessions or determine the reason for the unauthorized request."),
+
+    DECISION_CACHE_ENABLED("OPEN-METADATA-SECURITY-0020",
+                           OMRSAuditLogRecordSeverity.STARTUP,
+                           "The security decision cache for server {0} is enabled with a maximum of {1} decisions that are each cached for {2} milliseconds",
+                           "The server's security verifier caches the successful decisions made by the server security connector so that " +
+                                   "repeated requests do not need to call the connector again.  Refused requests are never cached.",
+                           "No action is required.  The cache is configured with the decisionCacheSize and decisionCacheTimeToLive " +
+                                   "configuration properties of the server security connector's connection."),
+
+    DECISION_CACHE_STATISTICS("OPEN-METADATA-SECURITY-0021",
+                              OMRSAuditLogRecordSeverity.INFO,
+                              "The security decision cache for server {0} answered {1} of the {2} {3} checks without calling the security connector.  " +
+                                      "The connector made {4} successful decisions taking an average of {5} microseconds and a maximum of {6} microseconds",
+                              "These statistics are reported when the decision cache is replaced and when the server shuts down.",
+                              "Use these statistics to tune the size and time to live of the decision cache.  A low proportion of checks answered " +
+                                      "by the cache may mean that the cache is too small or its time to live is too short."),
     ;
 
     private final String                     logMessageId;
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.metadatasecurity.*;
 import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityAuditCode;
 import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode;
 import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
 import org.odpi.openmetadata.metadatasecurity.properties.Asset;
@@ -36,6 +37,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
@@ -110,6 +112,12 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private static final String OWNER_PROPERTY_NAME                       = "owner";                                /* from Area 4 */
     private static final String OWNER_TYPE_PROPERTY_NAME                  = "ownerType"; /* deprecated */
 
+    /*
+     * Optional configuration properties from the server security connector's connection that enable the decision cache.
+     */
+    public static final String DECISION_CACHE_SIZE_PROPERTY_NAME          = "decisionCacheSize";
+    public static final String DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME  = "decisionCacheTimeToLive";         /* milliseconds */
+
 
     private OpenMetadataRepositorySecurity repositorySecurityConnector = null;
     private OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
@@ -118,6 +126,10 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private OpenMetadataConnectionSecurity connectionSecurityConnector = null;
     private OpenMetadataAssetSecurity      assetSecurityConnector      = null;
 
+    private volatile SecurityDecisionCache decisionCache               = null;
+    private          AuditLog              auditLog                    = null;
+    private          String                serverName                  = null;
+
     private final InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
     /**
@@ -145,6 +157,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         OpenMetadataServerSecurityConnector connector;
 
+        this.auditLog   = auditLog;
+        this.serverName = serverName;
+
+        /*
+         * Decisions made by the previous connector (if any) are no longer valid.
+         */
+        this.setUpDecisionCache(connection);
+
         try
         {
             /*
@@ -188,6 +208,179 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     }
 
 
+    /**
+     * Set up the decision cache using the configuration properties from the security connector's connection.
+     * The cache is only used if both the size and the time to live are greater than zero.
+     *
+     * @param connection connection from the configuration document
+     */
+    private void setUpDecisionCache(org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection)
+    {
+        int  cacheSize  = 0;
+        long timeToLive = 0;
+
+        if ((connection != null) && (connection.getConfigurationProperties() != null))
+        {
+            Object cacheSizeProperty  = connection.getConfigurationProperties().get(DECISION_CACHE_SIZE_PROPERTY_NAME);
+            Object timeToLiveProperty = connection.getConfigurationProperties().get(DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME);
+
+            try
+            {
+                if (cacheSizeProperty != null)
+                {
+                    cacheSize = Integer.parseInt(cacheSizeProperty.toString());
+                }
+                if (timeToLiveProperty != null)
+                {
+                    timeToLive = Long.parseLong(timeToLiveProperty.toString());
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                cacheSize = 0;
+            }
+        }
+
+        this.setDecisionCache(cacheSize, timeToLive);
+    }
+
+
+    /**
+     * Enable (or disable) the cache of successful authorization decisions made by the security connector.
+     * Any decisions already cached are discarded, and the statistics of the previous cache are written to the audit log.
+     *
+     * @param cacheSize maximum number of decisions to cache - zero or less disables the cache
+     * @param timeToLive number of milliseconds that a decision is cached for - zero or less disables the cache
+     */
+    public synchronized void setDecisionCache(int  cacheSize,
+                                              long timeToLive)
+    {
+        final String methodName = "setDecisionCache";
+
+        this.logDecisionCacheStatistics(methodName);
+
+        if ((cacheSize > 0) && (timeToLive > 0))
+        {
+            decisionCache = new SecurityDecisionCache(cacheSize, timeToLive);
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OpenMetadataSecurityAuditCode.DECISION_CACHE_ENABLED.getMessageDefinition(serverName,
+                                                                                                              Integer.toString(cacheSize),
+                                                                                                              Long.toString(timeToLive)));
+            }
+        }
+        else
+        {
+            decisionCache = null;
+        }
+    }
+
+
+    /**
+     * Write the hit, miss and latency statistics for each type of check that uses the decision cache to the audit log.
+     * This is called when the cache is replaced and when the server shuts down.
+     *
+     * @param methodName calling method
+     */
+    public void logDecisionCacheStatistics(String methodName)
+    {
+        List<SecurityDecisionStatistics> statistics = this.getDecisionCacheStatistics();
+
+        if ((auditLog != null) && (statistics != null))
+        {
+            for (SecurityDecisionStatistics checkStatistics : statistics)
+            {
+                auditLog.logMessage(methodName,
+                                    OpenMetadataSecurityAuditCode.DECISION_CACHE_STATISTICS.getMessageDefinition(serverName,
+                                                                                                                 Long.toString(checkStatistics.getHits()),
+                                                                                                                 Long.toString(checkStatistics.getHits() + checkStatistics.getMisses()),
+                                                                                                                 checkStatistics.getCheckType(),
+                                                                                                                 Long.toString(checkStatistics.getConnectorCalls()),
+                                                                                                                 Long.toString(checkStatistics.getAverageConnectorNanos() / 1000),
+                                                                                                                 Long.toString(checkStatistics.getMaxConnectorNanos() / 1000)));
+            }
+        }
+    }
+
+
+    /**
+     * Discard all the cached authorization decisions.  This should be called when the security policies
+     * used by the security connector change.
+     */
+    public void clearDecisionCache()
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if (cache != null)
+        {
+            cache.clear();
+        }
+    }
+
+
+    /**
+     * Return the hit, miss and latency statistics for each type of check that uses the decision cache.
+     *
+     * @return list of statistics or null if the cache is not enabled
+     */
+    public List<SecurityDecisionStatistics> getDecisionCacheStatistics()
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if (cache != null)
+        {
+            return cache.getStatistics();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return a previous successful decision from the decision cache.
+     *
+     * @param checkType name of the check
+     * @param keyValues values that identify the user, operation and resource being checked
+     * @return cached result or null if the decision needs to be made by the security connector
+     */
+    private Object getCachedDecision(String    checkType,
+                                     String... keyValues)
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if (cache != null)
+        {
+            return cache.getDecision(checkType, keyValues);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save a successful decision from the security connector in the decision cache.
+     *
+     * @param checkType name of the check
+     * @param result result of the check
+     * @param startTime value of System.nanoTime() when the security connector was called
+     * @param keyValues values that identify the user, operation and resource being checked
+     */
+    private void cacheDecision(String    checkType,
+                               Object    result,
+                               long      startTime,
+                               String... keyValues)
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if (cache != null)
+        {
+            cache.putDecision(checkType, result, startTime, keyValues);
+        }
+    }
+
+
     /**
      * Return the Open Metadata Server Security Connector for the connection.
      *
@@ -255,9 +448,31 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                            List<String> suppliedSupportedZones,
                                            String       serviceName) throws InvalidParameterException, PropertyServerException
     {
+        final String checkType = "setSupportedZonesForUser";
+
         if (assetSecurityConnector != null)
         {
-            return assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones, serviceName, userId);
+            String zoneNames = (suppliedSupportedZones == null) ? null : suppliedSupportedZones.toString();
+
+            Object cachedZones = this.getCachedDecision(checkType, userId, serviceName, zoneNames);
+
+            if (cachedZones != null)
+            {
+                @SuppressWarnings("unchecked")
+                List<String> zones = (List<String>) cachedZones;
+
+                return new ArrayList<>(zones);
+            }
+
+            long         startTime = System.nanoTime();
+            List<String> zones     = assetSecurityConnector.setSupportedZonesForUser(suppliedSupportedZones, serviceName, userId);
+
+            if (zones != null)
+            {
+                this.cacheDecision(checkType, new ArrayList<>(zones), startTime, userId, serviceName, zoneNames);
+            }
+
+            return zones;
         }
 
         return suppliedSupportedZones;
@@ -288,18 +503,25 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                          Asset         updatedAsset) throws InvalidParameterException,
                                                                             PropertyServerException
     {
+        List<String>  resultingZones = null;
+
         if (assetSecurityConnector != null)
         {
-            return assetSecurityConnector.verifyAssetZones(defaultZones, supportedZones, publishZones, originalAsset, updatedAsset);
+            resultingZones = assetSecurityConnector.verifyAssetZones(defaultZones, supportedZones, publishZones, originalAsset, updatedAsset);
         }
-
-        List<String>  resultingZones = null;
-
-        if (updatedAsset != null)
+        else if (updatedAsset != null)
         {
             resultingZones = updatedAsset.getZoneMembership();
         }
 
+        /*
+         * A change to an asset's zones may change the decisions made about it.
+         */
+        if ((originalAsset != null) && (! Objects.equals(originalAsset.getZoneMembership(), resultingZones)))
+        {
+            this.clearDecisionCache();
+        }
+
         return resultingZones;
     }
 
@@ -1039,9 +1261,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserForServer(String   userId) throws UserNotAuthorizedException
     {
-        if (serverSecurityConnector != null)
+        final String checkType = "validateUserForServer";
+
+        if ((serverSecurityConnector != null) && (this.getCachedDecision(checkType, userId) == null))
         {
+            long startTime = System.nanoTime();
+
             serverSecurityConnector.validateUserForServer(userId);
+            this.cacheDecision(checkType, Boolean.TRUE, startTime, userId);
         }
     }
 
@@ -1056,9 +1283,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserAsServerAdmin(String   userId) throws UserNotAuthorizedException
     {
-        if (serverSecurityConnector != null)
+        final String checkType = "validateUserAsServerAdmin";
+
+        if ((serverSecurityConnector != null) && (this.getCachedDecision(checkType, userId) == null))
         {
+            long startTime = System.nanoTime();
+
             serverSecurityConnector.validateUserAsServerAdmin(userId);
+            this.cacheDecision(checkType, Boolean.TRUE, startTime, userId);
         }
     }
 
@@ -1073,9 +1305,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserAsServerOperator(String   userId) throws UserNotAuthorizedException
     {
-        if (serverSecurityConnector != null)
+        final String checkType = "validateUserAsServerOperator";
+
+        if ((serverSecurityConnector != null) && (this.getCachedDecision(checkType, userId) == null))
         {
+            long startTime = System.nanoTime();
+
             serverSecurityConnector.validateUserAsServerOperator(userId);
+            this.cacheDecision(checkType, Boolean.TRUE, startTime, userId);
         }
     }
 
@@ -1090,9 +1327,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserAsServerInvestigator(String   userId) throws UserNotAuthorizedException
     {
-        if (serverSecurityConnector != null)
+        final String checkType = "validateUserAsServerInvestigator";
+
+        if ((serverSecurityConnector != null) && (this.getCachedDecision(checkType, userId) == null))
         {
+            long startTime = System.nanoTime();
+
             serverSecurityConnector.validateUserAsServerInvestigator(userId);
+            this.cacheDecision(checkType, Boolean.TRUE, startTime, userId);
         }
     }
 
@@ -1109,9 +1351,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     public void  validateUserForService(String   userId,
                                         String   serviceName) throws UserNotAuthorizedException
     {
-        if (serviceSecurityConnector != null)
+        final String checkType = "validateUserForService";
+
+        if ((serviceSecurityConnector != null) && (this.getCachedDecision(checkType, userId, serviceName) == null))
         {
+            long startTime = System.nanoTime();
+
             serviceSecurityConnector.validateUserForService(userId, serviceName);
+            this.cacheDecision(checkType, Boolean.TRUE, startTime, userId, serviceName);
         }
     }
 
@@ -1130,9 +1377,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                  String   serviceName,
                                                  String   serviceOperationName) throws UserNotAuthorizedException
     {
-        if (serviceSecurityConnector != null)
+        final String checkType = "validateUserForServiceOperation";
+
+        if ((serviceSecurityConnector != null) && (this.getCachedDecision(checkType, userId, serviceName, serviceOperationName) == null))
         {
+            long startTime = System.nanoTime();
+
             serviceSecurityConnector.validateUserForServiceOperation(userId, serviceName, serviceOperationName);
+            this.cacheDecision(checkType, Boolean.TRUE, startTime, userId, serviceName, serviceOperationName);
         }
     }
 
@@ -1257,12 +1509,31 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
         if (assetSecurityConnector != null)
         {
+            /*
+             * The decision depends on the content of the asset, so the version of the asset's entity is part of the key.
+             */
+            final String checkType = "validateUserForAssetRead";
+
+            String assetVersion = (assetEntity == null) ? null : Long.toString(assetEntity.getVersion());
+
+            if ((assetVersion != null) && (this.getCachedDecision(checkType, userId, serviceName, assetGUID, assetVersion) != null))
+            {
+                return;
+            }
+
+            long startTime = System.nanoTime();
+
             /*
              * Create the bean for the security module then call the appropriate security method.
              */
             Asset assetBean = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
 
             assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
+
+            if (assetVersion != null)
+            {
+                this.cacheDecision(checkType, Boolean.TRUE, startTime, userId, serviceName, assetGUID, assetVersion);
+            }
         }
     }
 
@@ -1667,7 +1938,34 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (repositorySecurityConnector != null)
         {
-            return repositorySecurityConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            final String checkType = "validateUserForEntityRead";
+
+            if ((instance == null) || (instance.getGUID() == null))
+            {
+                return repositorySecurityConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            }
+
+            /*
+             * The connector may alter the entity that is returned to the user so the result is cached.  It is
+             * keyed on the version of the entity so that any update to the entity is passed to the connector.
+             */
+            String entityVersion = Long.toString(instance.getVersion());
+            Object cachedEntity  = this.getCachedDecision(checkType, userId, metadataCollectionName, instance.getGUID(), entityVersion);
+
+            if (cachedEntity instanceof EntityDetail)
+            {
+                return new EntityDetail((EntityDetail) cachedEntity);
+            }
+
+            long         startTime = System.nanoTime();
+            EntityDetail entity    = repositorySecurityConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+
+            if (entity != null)
+            {
+                this.cacheDecision(checkType, new EntityDetail(entity), startTime, userId, metadataCollectionName, instance.getGUID(), entityVersion);
+            }
+
+            return entity;
         }
 
         return instance;
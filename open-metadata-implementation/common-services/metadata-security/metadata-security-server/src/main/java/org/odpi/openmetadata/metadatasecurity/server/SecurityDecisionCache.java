@@ -0,0 +1,251 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * SecurityDecisionCache remembers the successful authorization decisions made by the open metadata server security
+ * connector so that repeated requests from the same user for the same operation and resource do not need to
+ * call the connector again.  This is valuable when the connector delegates to an external policy engine.
+ *
+ * The cache is bounded: it holds at most maxEntries decisions (the least recently used decision is discarded first)
+ * and each decision expires timeToLive milliseconds after it was made.  Only successful decisions are cached so
+ * a user that is refused access is checked again on their next request.
+ *
+ * Statistics on cache hits, misses and the time spent in the connector are maintained for each type of check.
+ */
+public class SecurityDecisionCache
+{
+    private final int  maxEntries;
+    private final long timeToLive;
+
+    private final Map<List<String>, CachedDecision>         decisions;
+    private final Map<String, SecurityDecisionStatistics>   statistics = new HashMap<>();
+
+
+    /**
+     * Create a decision cache.
+     *
+     * @param maxEntries maximum number of decisions to hold
+     * @param timeToLive number of milliseconds that a decision is valid for
+     */
+    public SecurityDecisionCache(int  maxEntries,
+                                 long timeToLive)
+    {
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+
+        this.decisions = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, CachedDecision> eldest)
+            {
+                return size() > SecurityDecisionCache.this.maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Return the maximum number of decisions held in the cache.
+     *
+     * @return int
+     */
+    public int getMaxEntries()
+    {
+        return maxEntries;
+    }
+
+
+    /**
+     * Return the number of milliseconds that a decision is valid for.
+     *
+     * @return long
+     */
+    public long getTimeToLive()
+    {
+        return timeToLive;
+    }
+
+
+    /**
+     * Return the result of a previous successful check with the same parameters.  Null is returned if the
+     * check has not been made, or its decision has expired.
+     *
+     * @param checkType name of the check
+     * @param keyValues values that identify the user, operation and resource being checked
+     * @return cached result or null
+     */
+    public synchronized Object getDecision(String    checkType,
+                                           String... keyValues)
+    {
+        List<String>               key            = getKey(checkType, keyValues);
+        CachedDecision             cachedDecision = decisions.get(key);
+        SecurityDecisionStatistics checkStatistics = getStatistics(checkType);
+
+        if (cachedDecision != null)
+        {
+            if (cachedDecision.expiryTime > System.currentTimeMillis())
+            {
+                checkStatistics.incrementHits();
+
+                return cachedDecision.result;
+            }
+
+            decisions.remove(key);
+        }
+
+        checkStatistics.incrementMisses();
+
+        return null;
+    }
+
+
+    /**
+     * Save the result of a successful check.
+     *
+     * @param checkType name of the check
+     * @param result result of the check - this must not be null
+     * @param startTime value of System.nanoTime() when the call to the security connector was made
+     * @param keyValues values that identify the user, operation and resource being checked
+     */
+    public synchronized void putDecision(String    checkType,
+                                         Object    result,
+                                         long      startTime,
+                                         String... keyValues)
+    {
+        getStatistics(checkType).addConnectorCall(System.nanoTime() - startTime);
+
+        if (result != null)
+        {
+            decisions.put(getKey(checkType, keyValues), new CachedDecision(result, System.currentTimeMillis() + timeToLive));
+        }
+    }
+
+
+    /**
+     * Remove all the decisions from the cache.  This is called when the security connector or the zones
+     * that the decisions are based on change.
+     */
+    public synchronized void clear()
+    {
+        decisions.clear();
+    }
+
+
+    /**
+     * Return the number of decisions currently in the cache (including expired decisions that have not
+     * yet been removed).
+     *
+     * @return int
+     */
+    public synchronized int size()
+    {
+        return decisions.size();
+    }
+
+
+    /**
+     * Return a copy of the statistics for each type of check.
+     *
+     * @return list of statistics
+     */
+    public synchronized List<SecurityDecisionStatistics> getStatistics()
+    {
+        List<SecurityDecisionStatistics> results = new ArrayList<>();
+
+        for (SecurityDecisionStatistics checkStatistics : statistics.values())
+        {
+            results.add(new SecurityDecisionStatistics(checkStatistics));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the statistics object for a type of check, creating it if necessary.
+     *
+     * @param checkType name of the check
+     * @return statistics object
+     */
+    private SecurityDecisionStatistics getStatistics(String checkType)
+    {
+        SecurityDecisionStatistics checkStatistics = statistics.get(checkType);
+
+        if (checkStatistics == null)
+        {
+            checkStatistics = new SecurityDecisionStatistics(checkType);
+            statistics.put(checkType, checkStatistics);
+        }
+
+        return checkStatistics;
+    }
+
+
+    /**
+     * Build the key for a decision.  A list is used (rather than concatenating the values) so that values
+     * containing separator characters can not clash.
+     *
+     * @param checkType name of the check
+     * @param keyValues values that identify the user, operation and resource being checked
+     * @return key
+     */
+    private List<String> getKey(String    checkType,
+                                String... keyValues)
+    {
+        List<String> key = new ArrayList<>();
+
+        key.add(checkType);
+
+        if (keyValues != null)
+        {
+            key.addAll(Arrays.asList(keyValues));
+        }
+
+        return key;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "SecurityDecisionCache{" +
+                "maxEntries=" + maxEntries +
+                ", timeToLive=" + timeToLive +
+                ", size=" + size() +
+                ", statistics=" + getStatistics() +
+                '}';
+    }
+
+
+    /**
+     * A cached decision and the time it expires.
+     */
+    private static class CachedDecision
+    {
+        private final Object result;
+        private final long   expiryTime;
+
+        CachedDecision(Object result,
+                       long   expiryTime)
+        {
+            this.result     = result;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+
+/**
+ * SecurityDecisionStatistics records how effective the security decision cache is for one type of check.
+ * It counts the requests that were satisfied from the cache (hits), those that needed a call to the
+ * security connector (misses) and the time spent in the security connector.
+ */
+public class SecurityDecisionStatistics
+{
+    private String checkType;
+    private long   hits                 = 0;
+    private long   misses               = 0;
+    private long   connectorCalls       = 0;
+    private long   totalConnectorNanos  = 0;
+    private long   maxConnectorNanos    = 0;
+
+
+    /**
+     * Constructor for a new type of check.
+     *
+     * @param checkType name of the check
+     */
+    SecurityDecisionStatistics(String checkType)
+    {
+        this.checkType = checkType;
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    SecurityDecisionStatistics(SecurityDecisionStatistics template)
+    {
+        if (template != null)
+        {
+            this.checkType           = template.checkType;
+            this.hits                = template.hits;
+            this.misses              = template.misses;
+            this.connectorCalls      = template.connectorCalls;
+            this.totalConnectorNanos = template.totalConnectorNanos;
+            this.maxConnectorNanos   = template.maxConnectorNanos;
+        }
+    }
+
+
+    /**
+     * Record a request satisfied from the cache.
+     */
+    void incrementHits()
+    {
+        hits++;
+    }
+
+
+    /**
+     * Record a request that was not in the cache.
+     */
+    void incrementMisses()
+    {
+        misses++;
+    }
+
+
+    /**
+     * Record a call to the security connector.
+     *
+     * @param elapsedNanos time taken by the call
+     */
+    void addConnectorCall(long elapsedNanos)
+    {
+        connectorCalls++;
+        totalConnectorNanos += elapsedNanos;
+
+        if (elapsedNanos > maxConnectorNanos)
+        {
+            maxConnectorNanos = elapsedNanos;
+        }
+    }
+
+
+    /**
+     * Return the name of the check.
+     *
+     * @return string name
+     */
+    public String getCheckType()
+    {
+        return checkType;
+    }
+
+
+    /**
+     * Return the number of requests satisfied from the cache.
+     *
+     * @return long
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+
+    /**
+     * Return the number of requests that were not in the cache.
+     *
+     * @return long
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+
+    /**
+     * Return the number of successful calls made to the security connector.
+     *
+     * @return long
+     */
+    public long getConnectorCalls()
+    {
+        return connectorCalls;
+    }
+
+
+    /**
+     * Return the average time (in nanoseconds) taken by a call to the security connector.
+     *
+     * @return long
+     */
+    public long getAverageConnectorNanos()
+    {
+        if (connectorCalls == 0)
+        {
+            return 0;
+        }
+
+        return totalConnectorNanos / connectorCalls;
+    }
+
+
+    /**
+     * Return the longest time (in nanoseconds) taken by a call to the security connector.
+     *
+     * @return long
+     */
+    public long getMaxConnectorNanos()
+    {
+        return maxConnectorNanos;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "SecurityDecisionStatistics{" +
+                "checkType='" + checkType + '\'' +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", connectorCalls=" + connectorCalls +
+                ", averageConnectorNanos=" + getAverageConnectorNanos() +
+                ", maxConnectorNanos=" + maxConnectorNanos +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.OpenMetadataServerSecurity;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * CountingServerSecurityConnector is a server security connector for the tests that counts the checks it is asked
+ * to make.  It refuses the user called "refused" and allows everyone else.
+ */
+public class CountingServerSecurityConnector extends OpenMetadataServerSecurityConnector implements OpenMetadataServerSecurity
+{
+    static final String REFUSED_USER = "refused";
+
+    static final AtomicInteger serverChecks = new AtomicInteger();
+
+
+    /**
+     * Count the check and refuse the refused user.
+     *
+     * @param userId calling user
+     * @throws UserNotAuthorizedException the user is the refused user
+     */
+    @Override
+    public void validateUserForServer(String userId) throws UserNotAuthorizedException
+    {
+        serverChecks.incrementAndGet();
+
+        if (REFUSED_USER.equals(userId))
+        {
+            super.validateUserForServer(userId);
+        }
+    }
+
+
+    /**
+     * Allow all users.
+     *
+     * @param userId calling user
+     */
+    @Override
+    public void validateUserAsServerAdmin(String userId)
+    {
+    }
+
+
+    /**
+     * Allow all users.
+     *
+     * @param userId calling user
+     */
+    @Override
+    public void validateUserAsServerOperator(String userId)
+    {
+    }
+
+
+    /**
+     * Allow all users.
+     *
+     * @param userId calling user
+     */
+    @Override
+    public void validateUserAsServerInvestigator(String userId)
+    {
+    }
+}
@@ -0,0 +1,22 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityProvider;
+
+
+/**
+ * CountingServerSecurityProvider is the connector provider for the CountingServerSecurityConnector.
+ */
+public class CountingServerSecurityProvider extends OpenMetadataServerSecurityProvider
+{
+    /**
+     * Set up the class name of the connector.
+     */
+    public CountingServerSecurityProvider()
+    {
+        super();
+
+        super.setConnectorClassName(CountingServerSecurityConnector.class.getName());
+    }
+}
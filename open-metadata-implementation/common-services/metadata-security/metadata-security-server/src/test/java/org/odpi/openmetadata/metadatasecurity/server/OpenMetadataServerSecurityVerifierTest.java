@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the OpenMetadataServerSecurityVerifier uses its decision cache to avoid calling the security connector,
+ * that it invalidates the cache, and that it reports the cache statistics to the audit log.
+ */
+public class OpenMetadataServerSecurityVerifierTest
+{
+    private static final String SERVER_NAME = "cocoMDS1";
+
+    private final List<AuditLogRecord> auditLogRecords = new ArrayList<>();
+
+    private OpenMetadataServerSecurityVerifier verifier;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        auditLogRecords.clear();
+        CountingServerSecurityConnector.serverChecks.set(0);
+
+        verifier = new OpenMetadataServerSecurityVerifier();
+        verifier.registerSecurityValidator("serverUser", SERVER_NAME, this.getAuditLog(), this.getConnection("1000", "60000"));
+    }
+
+
+    /**
+     * Repeated checks for the same user only call the connector once.
+     *
+     * @throws UserNotAuthorizedException the user is not authorized
+     */
+    @Test
+    public void testCacheHit() throws UserNotAuthorizedException
+    {
+        verifier.validateUserForServer("erinoverview");
+        verifier.validateUserForServer("erinoverview");
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 1);
+
+        verifier.validateUserForServer("peterprofile");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 2);
+    }
+
+
+    /**
+     * A refused user is checked by the connector every time.
+     */
+    @Test
+    public void testRefusalNotCached()
+    {
+        for (int attempt = 0; attempt < 2; attempt++)
+        {
+            try
+            {
+                verifier.validateUserForServer(CountingServerSecurityConnector.REFUSED_USER);
+                fail("The refused user should not be authorized");
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                // expected
+            }
+        }
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 2);
+    }
+
+
+    /**
+     * A decision is made again by the connector once it has expired.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testExpiry() throws Exception
+    {
+        verifier.registerSecurityValidator("serverUser", SERVER_NAME, this.getAuditLog(), this.getConnection("1000", "50"));
+
+        verifier.validateUserForServer("erinoverview");
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 1);
+
+        Thread.sleep(100);
+
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 2);
+    }
+
+
+    /**
+     * The cache is cleared when it is explicitly cleared, when an asset's zones change and when the security
+     * connector is registered again.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testInvalidation() throws Exception
+    {
+        verifier.validateUserForServer("erinoverview");
+        verifier.clearDecisionCache();
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 2);
+
+        Asset originalAsset = new Asset();
+        originalAsset.setZoneMembership(List.of("quarantine"));
+
+        Asset updatedAsset = new Asset(originalAsset);
+        updatedAsset.setZoneMembership(List.of("data-lake"));
+
+        verifier.verifyAssetZones(null, null, null, originalAsset, updatedAsset);
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 3);
+
+        /*
+         * An update that leaves the zones unchanged keeps the cache.
+         */
+        verifier.verifyAssetZones(null, null, null, updatedAsset, new Asset(updatedAsset));
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 3);
+
+        verifier.registerSecurityValidator("serverUser", SERVER_NAME, this.getAuditLog(), this.getConnection("1000", "60000"));
+        verifier.validateUserForServer("erinoverview");
+
+        assertEquals(CountingServerSecurityConnector.serverChecks.get(), 4);
+    }
+
+
+    /**
+     * The cache configuration is logged when it is enabled and its statistics are logged on request.
+     *
+     * @throws UserNotAuthorizedException the user is not authorized
+     */
+    @Test
+    public void testStatisticsReported() throws UserNotAuthorizedException
+    {
+        assertTrue(this.getMessageIds().contains("OPEN-METADATA-SECURITY-0020"));
+
+        verifier.validateUserForServer("erinoverview");
+        verifier.validateUserForServer("erinoverview");
+
+        auditLogRecords.clear();
+        verifier.logDecisionCacheStatistics("testStatisticsReported");
+
+        assertEquals(auditLogRecords.size(), 1);
+        assertEquals(auditLogRecords.get(0).getMessageId(), "OPEN-METADATA-SECURITY-0021");
+        assertTrue(auditLogRecords.get(0).getMessageText().contains("answered 1 of the 2 validateUserForServer checks"));
+    }
+
+
+    /**
+     * Return the message ids of the audit log records.
+     *
+     * @return list of message ids
+     */
+    private List<String> getMessageIds()
+    {
+        List<String> messageIds = new ArrayList<>();
+
+        for (AuditLogRecord auditLogRecord : auditLogRecords)
+        {
+            messageIds.add(auditLogRecord.getMessageId());
+        }
+
+        return messageIds;
+    }
+
+
+    /**
+     * Return an audit log that saves its records in the test.
+     *
+     * @return audit log
+     */
+    private AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(new HashMap<>())
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        };
+
+        return new AuditLog(destination,
+                            1,
+                            ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                            "SecurityVerifierTest",
+                            "Test of the security verifier",
+                            null);
+    }
+
+
+    /**
+     * Return the connection for the counting security connector with the decision cache enabled.
+     *
+     * @param cacheSize maximum number of decisions
+     * @param timeToLive milliseconds that a decision is cached
+     * @return connection
+     */
+    private Connection getConnection(String cacheSize,
+                                     String timeToLive)
+    {
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(CountingServerSecurityProvider.class.getName());
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(OpenMetadataServerSecurityVerifier.DECISION_CACHE_SIZE_PROPERTY_NAME, cacheSize);
+        configurationProperties.put(OpenMetadataServerSecurityVerifier.DECISION_CACHE_TIME_TO_LIVE_PROPERTY_NAME, timeToLive);
+
+        Connection connection = new Connection();
+        connection.setConnectorType(connectorType);
+        connection.setConfigurationProperties(configurationProperties);
+
+        return connection;
+    }
+}
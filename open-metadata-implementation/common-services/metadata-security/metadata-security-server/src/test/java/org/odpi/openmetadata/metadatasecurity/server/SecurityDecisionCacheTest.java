@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the SecurityDecisionCache returns cached decisions until they expire or are evicted, and that it
+ * counts its hits and misses.
+ */
+public class SecurityDecisionCacheTest
+{
+    private static final String CHECK_TYPE = "validateUserForServiceOperation";
+
+
+    /**
+     * A decision is returned for the same key and not for a different one.
+     */
+    @Test
+    public void testHitAndMiss()
+    {
+        SecurityDecisionCache cache = new SecurityDecisionCache(10, 60000);
+
+        assertNull(cache.getDecision(CHECK_TYPE, "erinoverview", "Asset Owner OMAS", "getAsset"));
+
+        cache.putDecision(CHECK_TYPE, Boolean.TRUE, System.nanoTime(), "erinoverview", "Asset Owner OMAS", "getAsset");
+
+        assertEquals(cache.getDecision(CHECK_TYPE, "erinoverview", "Asset Owner OMAS", "getAsset"), Boolean.TRUE);
+        assertNull(cache.getDecision(CHECK_TYPE, "peterprofile", "Asset Owner OMAS", "getAsset"));
+        assertNull(cache.getDecision("validateUserForService", "erinoverview", "Asset Owner OMAS", "getAsset"));
+
+        /*
+         * The values are kept separate so values containing separators can not clash.
+         */
+        assertNull(cache.getDecision(CHECK_TYPE, "erinoverview", "Asset Owner OMASgetAsset"));
+
+        List<SecurityDecisionStatistics> statistics = cache.getStatistics();
+        SecurityDecisionStatistics operationStatistics = null;
+
+        for (SecurityDecisionStatistics checkStatistics : statistics)
+        {
+            if (CHECK_TYPE.equals(checkStatistics.getCheckType()))
+            {
+                operationStatistics = checkStatistics;
+            }
+        }
+
+        assertEquals(statistics.size(), 2);
+        assertNotNull(operationStatistics);
+        assertEquals(operationStatistics.getHits(), 1);
+        assertEquals(operationStatistics.getMisses(), 3);
+        assertEquals(operationStatistics.getConnectorCalls(), 1);
+    }
+
+
+    /**
+     * A decision is not returned once its time to live has passed.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testExpiry() throws InterruptedException
+    {
+        SecurityDecisionCache cache = new SecurityDecisionCache(10, 50);
+
+        cache.putDecision(CHECK_TYPE, Boolean.TRUE, System.nanoTime(), "erinoverview");
+
+        assertEquals(cache.getDecision(CHECK_TYPE, "erinoverview"), Boolean.TRUE);
+
+        Thread.sleep(100);
+
+        assertNull(cache.getDecision(CHECK_TYPE, "erinoverview"));
+        assertEquals(cache.size(), 0);
+    }
+
+
+    /**
+     * The least recently used decision is discarded when the cache is full.
+     */
+    @Test
+    public void testEviction()
+    {
+        SecurityDecisionCache cache = new SecurityDecisionCache(2, 60000);
+
+        cache.putDecision(CHECK_TYPE, Boolean.TRUE, System.nanoTime(), "user1");
+        cache.putDecision(CHECK_TYPE, Boolean.TRUE, System.nanoTime(), "user2");
+
+        /*
+         * Using user1 makes user2 the least recently used decision.
+         */
+        assertEquals(cache.getDecision(CHECK_TYPE, "user1"), Boolean.TRUE);
+
+        cache.putDecision(CHECK_TYPE, Boolean.TRUE, System.nanoTime(), "user3");
+
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getDecision(CHECK_TYPE, "user1"), Boolean.TRUE);
+        assertNull(cache.getDecision(CHECK_TYPE, "user2"));
+        assertEquals(cache.getDecision(CHECK_TYPE, "user3"), Boolean.TRUE);
+    }
+
+
+    /**
+     * Clearing the cache removes all the decisions but keeps the statistics, and a null result is not cached.
+     */
+    @Test
+    public void testInvalidation()
+    {
+        SecurityDecisionCache cache = new SecurityDecisionCache(10, 60000);
+
+        cache.putDecision(CHECK_TYPE, Boolean.TRUE, System.nanoTime(), "user1");
+        cache.putDecision(CHECK_TYPE, null, System.nanoTime(), "user2");
+
+        assertEquals(cache.size(), 1);
+
+        cache.clear();
+
+        assertEquals(cache.size(), 0);
+        assertNull(cache.getDecision(CHECK_TYPE, "user1"));
+        assertEquals(cache.getStatistics().get(0).getConnectorCalls(), 2);
+    }
+}
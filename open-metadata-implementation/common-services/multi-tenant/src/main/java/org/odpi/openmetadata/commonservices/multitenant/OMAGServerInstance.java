@@ -267,6 +267,8 @@ class OMAGServerInstance
         this.serverHistory.add(new OMAGServerInstanceHistory(this.serverStartTime, new Date()));
         this.serverStartTime = null;
 
+        securityVerifier.logDecisionCacheStatistics(methodName);
+
         if (!serviceInstanceMap.isEmpty())
         {
             this.serviceInstanceMap = new HashMap<>();
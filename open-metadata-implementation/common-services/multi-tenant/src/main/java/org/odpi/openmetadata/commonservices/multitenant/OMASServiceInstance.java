@@ -6,9 +6,11 @@ import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceA
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceErrorCode;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.UniqueNameIndexListener;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProvider;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
@@ -194,6 +196,18 @@ public class OMASServiceInstance extends AuditableServerServiceInstance
     }
 
 
+    /**
+     * Return a listener that keeps the unique name index of this service's repository handler up to date
+     * with the entity changes reported on the enterprise OMRS topic.
+     *
+     * @return OMRS topic listener
+     */
+    public OMRSTopicListener getUniqueNameIndexListener()
+    {
+        return new UniqueNameIndexListener(serviceName, repositoryHandler.getUniqueNameIndex(), auditLog);
+    }
+
+
     /**
      * Validate that the repository services are ok for this instance.
      *
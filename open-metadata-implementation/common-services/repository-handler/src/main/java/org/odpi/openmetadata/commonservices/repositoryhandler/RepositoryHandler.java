@@ -43,6 +43,7 @@ public class RepositoryHandler
     private final OMRSMetadataCollection  metadataCollection;
     private final int                     maxPageSize;
     private final AuditLog                auditLog;
+    private final UniqueNameIndex         uniqueNameIndex;
 
     private static final Logger log = LoggerFactory.getLogger(RepositoryHandler.class);
 
@@ -68,11 +69,24 @@ public class RepositoryHandler
         this.metadataCollection = metadataCollection;
         this.maxPageSize = maxPageSize;
         this.invalidParameterHandler = new InvalidParameterHandler();
+        this.uniqueNameIndex = new UniqueNameIndex(repositoryHelper);
 
         invalidParameterHandler.setMaxPagingSize(maxPageSize);
     }
 
 
+    /**
+     * Return the index of unique names to entity guids that is maintained by this handler.  The handler records
+     * the unique properties of the entities it creates and updates, and removes the entities it deletes.
+     *
+     * @return unique name index
+     */
+    public UniqueNameIndex getUniqueNameIndex()
+    {
+        return uniqueNameIndex;
+    }
+
+
     /**
      * Return a flag to indicate whether the effectivity dates in the properties of an element indicate that the element is not
      * effective at the supplied effectiveTime.  If a null effectiveTime is supplied then it is assumed to be "any".
@@ -584,6 +598,8 @@ public class RepositoryHandler
 
             if (newEntity != null)
             {
+                uniqueNameIndex.indexEntity(newEntity);
+
                 return newEntity.getGUID();
             }
 
@@ -740,6 +756,8 @@ public class RepositoryHandler
                     errorHandler.handleNoEntity(entityTypeGUID, entityTypeName, newProperties, methodName);
                 }
 
+                uniqueNameIndex.indexEntity(newEntity);
+
                 return newEntity;
             }
             catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException error)
@@ -1229,6 +1247,8 @@ public class RepositoryHandler
             {
                 errorHandler.handleNoEntity(entityTypeGUID, entityTypeName, properties, methodName);
             }
+
+            uniqueNameIndex.indexEntity(newEntity);
         }
         catch (UserNotAuthorizedException error)
         {
@@ -2089,6 +2109,8 @@ public class RepositoryHandler
         try
         {
             metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
+
+            uniqueNameIndex.removeEntity(obsoleteEntityGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
         {
@@ -2136,6 +2158,8 @@ public class RepositoryHandler
         {
             metadataCollection.purgeEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
 
+            uniqueNameIndex.removeEntity(obsoleteEntityGUID);
+
             auditLog.logMessage(methodName,
                                 RepositoryHandlerAuditCode.ENTITY_PURGED.getMessageDefinition(obsoleteEntityGUID,
                                                                                               entityTypeName,
@@ -2187,6 +2211,8 @@ public class RepositoryHandler
                                                 externalSourceGUID,
                                                 externalSourceName,
                                                 methodName);
+
+                uniqueNameIndex.indexEntity(entity);
             }
         }
         catch (UserNotAuthorizedException error)
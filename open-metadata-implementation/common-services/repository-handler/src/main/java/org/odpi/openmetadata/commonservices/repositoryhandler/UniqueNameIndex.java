@@ -0,0 +1,285 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * UniqueNameIndex maps the values of unique properties (such as qualifiedName) to the unique identifier (guid) of the
+ * entity that holds them.  It is maintained by the repository handler as entities are created, updated and removed, and
+ * may also be fed with instance events from the cohort.  It saves the handlers from issuing a search each time they need
+ * to resolve a unique name.
+ * <p>
+ * The index is a hint rather than a source of truth.  Entities may be changed in other repositories without this server
+ * seeing an event, so the caller must retrieve the entity and check that it still has the unique name before using the
+ * guid.  The index holds a bounded number of names, discarding the least recently used.
+ */
+public class UniqueNameIndex
+{
+    public static final int DEFAULT_MAX_ENTRIES = 100000;
+
+    private static final String keySeparator = "=";
+    private static final String sourceName   = "UniqueNameIndex";
+
+    private final OMRSRepositoryHelper     repositoryHelper;
+    private final Map<String, String>      guidsByName;
+    private final Map<String, Set<String>> namesByGUID = new HashMap<>();
+
+    private static final Logger log = LoggerFactory.getLogger(UniqueNameIndex.class);
+
+
+    /**
+     * Create an index holding the default maximum number of names.
+     *
+     * @param repositoryHelper helper used to locate the unique properties of an entity
+     */
+    public UniqueNameIndex(OMRSRepositoryHelper repositoryHelper)
+    {
+        this(repositoryHelper, DEFAULT_MAX_ENTRIES);
+    }
+
+
+    /**
+     * Create an index.
+     *
+     * @param repositoryHelper helper used to locate the unique properties of an entity
+     * @param maxEntries maximum number of names to hold
+     */
+    public UniqueNameIndex(OMRSRepositoryHelper repositoryHelper,
+                           int                  maxEntries)
+    {
+        this.repositoryHelper = repositoryHelper;
+        this.guidsByName      = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                if (size() > Math.max(maxEntries, 1))
+                {
+                    removeFromGUID(eldest.getValue(), eldest.getKey());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Return the guid of the entity last seen with the supplied unique name.
+     *
+     * @param propertyName name of the unique property
+     * @param propertyValue value of the unique property
+     * @return unique identifier of the entity or null if the name is not in the index
+     */
+    public synchronized String getGUID(String propertyName,
+                                       String propertyValue)
+    {
+        if ((propertyName == null) || (propertyValue == null))
+        {
+            return null;
+        }
+
+        return guidsByName.get(getKey(propertyName, propertyValue));
+    }
+
+
+    /**
+     * Record that an entity has the supplied unique name.
+     *
+     * @param propertyName name of the unique property
+     * @param propertyValue value of the unique property
+     * @param guid unique identifier of the entity
+     */
+    public synchronized void addUniqueName(String propertyName,
+                                           String propertyValue,
+                                           String guid)
+    {
+        if ((propertyName != null) && (propertyValue != null) && (guid != null))
+        {
+            String key          = getKey(propertyName, propertyValue);
+            String previousGUID = guidsByName.put(key, guid);
+
+            if ((previousGUID != null) && (! previousGUID.equals(guid)))
+            {
+                removeFromGUID(previousGUID, key);
+            }
+
+            namesByGUID.computeIfAbsent(guid, newGUID -> new HashSet<>()).add(key);
+        }
+    }
+
+
+    /**
+     * Remove a unique name from the index.  This is called when the entity found through the index no longer
+     * has the name.
+     *
+     * @param propertyName name of the unique property
+     * @param propertyValue value of the unique property
+     */
+    public synchronized void removeUniqueName(String propertyName,
+                                              String propertyValue)
+    {
+        if ((propertyName != null) && (propertyValue != null))
+        {
+            String key  = getKey(propertyName, propertyValue);
+            String guid = guidsByName.remove(key);
+
+            if (guid != null)
+            {
+                removeFromGUID(guid, key);
+            }
+        }
+    }
+
+
+    /**
+     * Replace the names held for an entity with the unique properties from its latest version.
+     *
+     * @param entity latest version of the entity
+     */
+    public synchronized void indexEntity(EntityDetail entity)
+    {
+        if ((entity == null) || (entity.getGUID() == null))
+        {
+            return;
+        }
+
+        removeEntity(entity.getGUID());
+
+        InstanceType type = entity.getType();
+
+        if ((type == null) || (type.getTypeDefName() == null) || (entity.getProperties() == null))
+        {
+            return;
+        }
+
+        try
+        {
+            InstanceProperties uniqueProperties = repositoryHelper.getUniqueProperties(sourceName,
+                                                                                       type.getTypeDefName(),
+                                                                                       entity.getProperties());
+
+            if (uniqueProperties != null)
+            {
+                Iterator<String> propertyNames = uniqueProperties.getPropertyNames();
+
+                while (propertyNames.hasNext())
+                {
+                    String                propertyName  = propertyNames.next();
+                    InstancePropertyValue propertyValue = uniqueProperties.getPropertyValue(propertyName);
+
+                    if ((propertyValue != null) && (propertyValue.getInstancePropertyCategory() == InstancePropertyCategory.PRIMITIVE))
+                    {
+                        addUniqueName(propertyName, propertyValue.valueAsString(), entity.getGUID());
+                    }
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            /*
+             * The type is not known to this server so the entity is not indexed.
+             */
+            log.debug("Unable to index entity " + entity.getGUID() + ": " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Remove all the names held for an entity.  This is called when the entity is deleted.
+     *
+     * @param guid unique identifier of the entity
+     */
+    public synchronized void removeEntity(String guid)
+    {
+        if (guid != null)
+        {
+            Set<String> keys = namesByGUID.remove(guid);
+
+            if (keys != null)
+            {
+                for (String key : keys)
+                {
+                    guidsByName.remove(key);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove all names from the index.
+     */
+    public synchronized void clear()
+    {
+        guidsByName.clear();
+        namesByGUID.clear();
+    }
+
+
+    /**
+     * Return the number of names in the index.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return guidsByName.size();
+    }
+
+
+    /**
+     * Remove a name from the set of names held for an entity.
+     *
+     * @param guid unique identifier of the entity
+     * @param key name to remove
+     */
+    private void removeFromGUID(String guid,
+                                String key)
+    {
+        Set<String> keys = namesByGUID.get(guid);
+
+        if (keys != null)
+        {
+            keys.remove(key);
+
+            if (keys.isEmpty())
+            {
+                namesByGUID.remove(guid);
+            }
+        }
+    }
+
+
+    /**
+     * Build the key used to store a unique name.
+     *
+     * @param propertyName name of the unique property
+     * @param propertyValue value of the unique property
+     * @return key
+     */
+    private String getKey(String propertyName,
+                          String propertyValue)
+    {
+        return propertyName + keySeparator + propertyValue;
+    }
+}
@@ -0,0 +1,233 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+/**
+ * UniqueNameIndexListener keeps a UniqueNameIndex up to date with the entity changes reported on the enterprise
+ * OMRS topic.  This covers changes made through other services and in other members of the cohort.
+ */
+public class UniqueNameIndexListener extends OMRSTopicListenerBase
+{
+    private final UniqueNameIndex uniqueNameIndex;
+
+
+    /**
+     * Constructor.
+     *
+     * @param serviceName name of the service that this listener is registered for
+     * @param uniqueNameIndex index to maintain
+     * @param auditLog logging destination
+     */
+    public UniqueNameIndexListener(String          serviceName,
+                                   UniqueNameIndex uniqueNameIndex,
+                                   AuditLog        auditLog)
+    {
+        super(serviceName, auditLog);
+
+        this.uniqueNameIndex = uniqueNameIndex;
+    }
+
+
+    /**
+     * A new entity has been created.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity details of the new entity
+     */
+    @Override
+    public void processNewEntityEvent(String       sourceName,
+                                      String       originatorMetadataCollectionId,
+                                      String       originatorServerName,
+                                      String       originatorServerType,
+                                      String       originatorOrganizationName,
+                                      EntityDetail entity)
+    {
+        uniqueNameIndex.indexEntity(entity);
+    }
+
+
+    /**
+     * An existing entity has been updated.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param oldEntity original values for the entity
+     * @param newEntity details of the new version of the entity
+     */
+    @Override
+    public void processUpdatedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail oldEntity,
+                                          EntityDetail newEntity)
+    {
+        uniqueNameIndex.indexEntity(newEntity);
+    }
+
+
+    /**
+     * An update to an entity has been undone.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity details of the version of the entity that has been restored
+     */
+    @Override
+    public void processUndoneEntityEvent(String       sourceName,
+                                         String       originatorMetadataCollectionId,
+                                         String       originatorServerName,
+                                         String       originatorServerType,
+                                         String       originatorOrganizationName,
+                                         EntityDetail entity)
+    {
+        uniqueNameIndex.indexEntity(entity);
+    }
+
+
+    /**
+     * An existing entity has been deleted.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity deleted entity
+     */
+    @Override
+    public void processDeletedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            uniqueNameIndex.removeEntity(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * A deleted entity has been permanently removed from the repository.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param typeDefGUID unique identifier for this entity's TypeDef
+     * @param typeDefName name of this entity's TypeDef
+     * @param instanceGUID unique identifier for the entity
+     */
+    @Override
+    public void processPurgedEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String instanceGUID)
+    {
+        uniqueNameIndex.removeEntity(instanceGUID);
+    }
+
+
+    /**
+     * An active entity has been deleted and purged from the repository in one step.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity deleted entity
+     */
+    @Override
+    public void processDeletePurgedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            uniqueNameIndex.removeEntity(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * A deleted entity has been restored to the state it was before it was deleted.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity details of the version of the entity that has been restored
+     */
+    @Override
+    public void processRestoredEntityEvent(String       sourceName,
+                                           String       originatorMetadataCollectionId,
+                                           String       originatorServerName,
+                                           String       originatorServerType,
+                                           String       originatorOrganizationName,
+                                           EntityDetail entity)
+    {
+        uniqueNameIndex.indexEntity(entity);
+    }
+
+
+    /**
+     * The guid of an existing entity has been changed to a new value.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event
+     * @param originatorServerName name of the server that the event came from
+     * @param originatorServerType type of server that the event came from
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalEntityGUID the existing identifier for the entity
+     * @param entity new values for this entity, including the new guid
+     */
+    @Override
+    public void processReIdentifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               String       originalEntityGUID,
+                                               EntityDetail entity)
+    {
+        uniqueNameIndex.removeEntity(originalEntityGUID);
+        uniqueNameIndex.indexEntity(entity);
+    }
+}
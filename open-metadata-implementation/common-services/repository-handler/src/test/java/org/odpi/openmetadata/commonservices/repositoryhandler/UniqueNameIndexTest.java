@@ -0,0 +1,78 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Verify that the UniqueNameIndex keeps its name and guid maps consistent.
+ */
+public class UniqueNameIndexTest
+{
+    private static final String qualifiedName = "qualifiedName";
+
+
+    /**
+     * Names are found until the entity that holds them is removed.
+     */
+    @Test public void testAddAndRemoveEntity()
+    {
+        UniqueNameIndex index = new UniqueNameIndex(null);
+
+        index.addUniqueName(qualifiedName, "a", "guid1");
+        index.addUniqueName(qualifiedName, "b", "guid1");
+        index.addUniqueName(qualifiedName, "c", "guid2");
+
+        assertEquals(index.getGUID(qualifiedName, "a"), "guid1");
+        assertEquals(index.getGUID(qualifiedName, "c"), "guid2");
+        assertNull(index.getGUID("name", "a"));
+
+        index.removeEntity("guid1");
+
+        assertNull(index.getGUID(qualifiedName, "a"));
+        assertNull(index.getGUID(qualifiedName, "b"));
+        assertEquals(index.size(), 1);
+    }
+
+
+    /**
+     * A name that moves to another entity is no longer removed with its old owner.
+     */
+    @Test public void testNameMovesToNewEntity()
+    {
+        UniqueNameIndex index = new UniqueNameIndex(null);
+
+        index.addUniqueName(qualifiedName, "a", "guid1");
+        index.addUniqueName(qualifiedName, "a", "guid2");
+        index.removeEntity("guid1");
+
+        assertEquals(index.getGUID(qualifiedName, "a"), "guid2");
+
+        index.removeUniqueName(qualifiedName, "a");
+        index.removeEntity("guid2");
+
+        assertEquals(index.size(), 0);
+    }
+
+
+    /**
+     * The least recently used name is discarded when the index is full.
+     */
+    @Test public void testBounded()
+    {
+        UniqueNameIndex index = new UniqueNameIndex(null, 2);
+
+        index.addUniqueName(qualifiedName, "a", "guid1");
+        index.addUniqueName(qualifiedName, "b", "guid2");
+        index.getGUID(qualifiedName, "a");
+        index.addUniqueName(qualifiedName, "c", "guid3");
+
+        assertEquals(index.size(), 2);
+        assertEquals(index.getGUID(qualifiedName, "a"), "guid1");
+        assertNull(index.getGUID(qualifiedName, "b"));
+        assertEquals(index.getGUID(qualifiedName, "c"), "guid3");
+    }
+}
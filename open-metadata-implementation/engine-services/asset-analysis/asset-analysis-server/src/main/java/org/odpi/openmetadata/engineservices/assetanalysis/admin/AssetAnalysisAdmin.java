@@ -131,11 +131,13 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                               discoveryEngineHandlers);
 
             Map<String, GovernanceEngineHandler> governanceEngineHandlers = new HashMap<>();
+            int                                  maxConcurrentServices    = this.getMaxConcurrentServices(engineServiceConfig);
 
             for (String engineName : discoveryEngineHandlers.keySet())
             {
                 if (engineName != null)
                 {
+                    discoveryEngineHandlers.get(engineName).setMaxConcurrentServices(maxConcurrentServices);
                     governanceEngineHandlers.put(engineName, discoveryEngineHandlers.get(engineName));
                 }
             }
@@ -170,7 +170,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the
+     * handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -229,8 +230,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                               governanceActionGUID,
                                                                                               governanceServiceCache);
 
-            Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date());
-            thread.start();
+            super.startGovernanceService(discoveryServiceHandler, governanceServiceCache, governanceActionGUID, startDate);
 
             return discoveryServiceHandler;
         }
@@ -240,7 +240,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Queue an instance of a discovery service to run on the discovery engine's thread pool.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
@@ -271,8 +271,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                           null,
                                                                                           governanceServiceCache);
 
-        Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date());
-        thread.start();
+        super.startGovernanceService(discoveryServiceHandler, governanceServiceCache, null, null);
 
         return discoveryServiceHandler.getDiscoveryReportGUID();
     }
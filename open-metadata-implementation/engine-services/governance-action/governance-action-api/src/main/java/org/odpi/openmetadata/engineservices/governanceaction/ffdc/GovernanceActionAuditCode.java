@@ -191,6 +191,30 @@ public enum GovernanceActionAuditCode implements AuditLogMessageSet
                                   "The governance engine is starting a governance action request.",
                                   "Validate that the governance action ran to successful completion."),
 
+    WATCHDOG_LISTENER_REGISTRATION_FAILED("OMES-GOVERNANCE-ACTION-0033",
+                                          OMRSAuditLogRecordSeverity.EXCEPTION,
+                                          "Unable to update the registration of watchdog listener {0} for governance engine {1} with the Governance Engine OMAS.  The exception was {2} with error message {3}",
+                                          "The Governance Engine OMAS uses the registered watchdog listeners to decide which watchdog events to publish.  " +
+                                                  "Until the registration succeeds, the listener is passed every watchdog event that the engine host receives " +
+                                                  "and the registration is retried in the background.",
+                                          "Review the error messages and check that the metadata server hosting the Governance Engine OMAS is running.  " +
+                                                  "Message OMES-GOVERNANCE-ACTION-0034 is logged when the registration succeeds."),
+
+    WATCHDOG_LISTENER_REGISTERED("OMES-GOVERNANCE-ACTION-0034",
+                                 OMRSAuditLogRecordSeverity.INFO,
+                                 "Watchdog listener {0} for governance engine {1} is registered with the Governance Engine OMAS after {2} failed attempts",
+                                 "The Governance Engine OMAS publishes the watchdog events that the listener is interested in.",
+                                 "No action is required.  This message confirms that the problem reported in message OMES-GOVERNANCE-ACTION-0033 is resolved."),
+
+    WATCHDOG_LISTENERS_NOT_REGISTERED("OMES-GOVERNANCE-ACTION-0035",
+                                      OMRSAuditLogRecordSeverity.INFO,
+                                      "The Governance Engine OMAS is publishing watchdog events without the watchdog listeners of governance engine {0}.  " +
+                                              "Its {1} listeners are being registered again",
+                                      "The Governance Engine OMAS has lost the registrations of the watchdog listeners, typically because its " +
+                                              "server has restarted.  The listeners are passed every watchdog event until they are registered again.",
+                                      "Check that the metadata server hosting the Governance Engine OMAS has restarted.  " +
+                                              "Message OMES-GOVERNANCE-ACTION-0033 is logged if a listener can not be registered again."),
+
     ;
 
 
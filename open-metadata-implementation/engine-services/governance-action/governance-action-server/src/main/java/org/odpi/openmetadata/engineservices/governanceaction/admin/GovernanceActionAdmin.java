@@ -137,11 +137,13 @@ public class GovernanceActionAdmin extends EngineServiceAdmin
                                                                     governanceActionEngineHandlers);
 
             Map<String, GovernanceEngineHandler> governanceEngineHandlers = new HashMap<>();
+            int                                  maxConcurrentServices    = this.getMaxConcurrentServices(engineServiceConfig);
 
             for (String engineName : governanceActionEngineHandlers.keySet())
             {
                 if (engineName != null)
                 {
+                    governanceActionEngineHandlers.get(engineName).setMaxConcurrentServices(maxConcurrentServices);
                     governanceEngineHandlers.put(engineName, governanceActionEngineHandlers.get(engineName));
                 }
             }
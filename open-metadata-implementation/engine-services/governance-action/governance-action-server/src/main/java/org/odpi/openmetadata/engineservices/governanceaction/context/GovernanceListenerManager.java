@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.engineservices.governanceaction.context;
 
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineClient;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.engineservices.governanceaction.ffdc.GovernanceActionAuditCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -9,24 +10,59 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
 import org.odpi.openmetadata.frameworks.governanceaction.events.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * GovernanceListenerManager manages the watchdog listeners through a single registration to the Governance Engine OMAS's
  * out topic.  This approach is used to enable the rapid changing list of watchdog listeners and their listening specification
- * without pushing that churn to the event bus.
+ * without pushing that churn to the event bus.  The listening specification of each listener is also registered with the
+ * Governance Engine OMAS so that it only publishes the watchdog events that a listener is interested in, naming the
+ * interested listeners in the event.
+ * <p>
+ * A registration that fails is retried in the background, and until it succeeds the listener is passed every watchdog
+ * event that arrives (it still applies its own listening specification).  The registrations are also sent again
+ * periodically, and straight away if the Governance Engine OMAS publishes an event without listener identifiers
+ * while listeners are registered, since this means it has lost its registrations.
  */
 public class GovernanceListenerManager
 {
+    public static final long DEFAULT_REGISTRATION_RETRY_INTERVAL   = 30 * 1000L;
+    public static final long DEFAULT_REGISTRATION_REFRESH_INTERVAL = 5 * 60 * 1000L;
+
     private final Map<String, WatchdogListener> listenerMap = new HashMap<>();
 
+    /*
+     * Listeners whose registration (or removal) has not been accepted by the Governance Engine OMAS, with the
+     * number of failed attempts.
+     */
+    private final Map<String, Integer> pendingRegistrations = new HashMap<>();
+
+    /*
+     * Serializes the calls to the Governance Engine OMAS so an older specification never overtakes a newer one.
+     */
+    private final Object registrationLock = new Object();
+
     private final InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
-    private final AuditLog auditLog;
-    private final String   governanceEngineName;
+    private final AuditLog                 auditLog;
+    private final String                   governanceEngineName;
+    private final GovernanceEngineClient   serverClient;
+    private final String                   serverUserId;
+    private final long                     retryInterval;
+    private final long                     refreshInterval;
+    private final ScheduledExecutorService registrationService;
+
+    private long lastRefreshTime          = System.currentTimeMillis();
+    private long lastLostRegistrationTime = 0;
 
     /**
      * Create a governance listener manager for watchdog listeners.
@@ -36,9 +72,84 @@ public class GovernanceListenerManager
      */
     public GovernanceListenerManager(AuditLog auditLog,
                                      String   governanceEngineName)
+    {
+        this(auditLog, governanceEngineName, null, null);
+    }
+
+
+    /**
+     * Create a governance listener manager for watchdog listeners that registers the listening specification of
+     * each listener with the Governance Engine OMAS that publishes the watchdog events.
+     *
+     * @param auditLog audit log for the listener manager
+     * @param governanceEngineName engine name for messages
+     * @param serverClient client for the Governance Engine OMAS that publishes the watchdog events
+     * @param serverUserId userId for the calls to the Governance Engine OMAS
+     */
+    public GovernanceListenerManager(AuditLog               auditLog,
+                                     String                 governanceEngineName,
+                                     GovernanceEngineClient serverClient,
+                                     String                 serverUserId)
+    {
+        this(auditLog,
+             governanceEngineName,
+             serverClient,
+             serverUserId,
+             DEFAULT_REGISTRATION_RETRY_INTERVAL,
+             DEFAULT_REGISTRATION_REFRESH_INTERVAL);
+    }
+
+
+    /**
+     * Create a governance listener manager for watchdog listeners that registers the listening specification of
+     * each listener with the Governance Engine OMAS that publishes the watchdog events.
+     *
+     * @param auditLog audit log for the listener manager
+     * @param governanceEngineName engine name for messages
+     * @param serverClient client for the Governance Engine OMAS that publishes the watchdog events
+     * @param serverUserId userId for the calls to the Governance Engine OMAS
+     * @param retryInterval milliseconds between attempts to register the listeners whose registration failed
+     * @param refreshInterval milliseconds between the registrations of all listeners
+     */
+    public GovernanceListenerManager(AuditLog               auditLog,
+                                     String                 governanceEngineName,
+                                     GovernanceEngineClient serverClient,
+                                     String                 serverUserId,
+                                     long                   retryInterval,
+                                     long                   refreshInterval)
     {
         this.auditLog = auditLog;
         this.governanceEngineName = governanceEngineName;
+        this.serverClient = serverClient;
+        this.serverUserId = serverUserId;
+        this.retryInterval = retryInterval;
+        this.refreshInterval = refreshInterval;
+
+        if (serverClient != null)
+        {
+            registrationService = Executors.newSingleThreadScheduledExecutor(runnable -> this.getRegistrationThread(runnable));
+            registrationService.scheduleWithFixedDelay(this::maintainRegistrations, retryInterval, retryInterval, TimeUnit.MILLISECONDS);
+        }
+        else
+        {
+            registrationService = null;
+        }
+    }
+
+
+    /**
+     * Create the daemon thread that retries the registrations with the Governance Engine OMAS.
+     *
+     * @param runnable work for the thread
+     * @return thread
+     */
+    private Thread getRegistrationThread(Runnable runnable)
+    {
+        Thread thread = new Thread(runnable, "WatchdogListenerRegistration:" + governanceEngineName);
+
+        thread.setDaemon(true);
+
+        return thread;
     }
 
 
@@ -49,10 +160,61 @@ public class GovernanceListenerManager
      * @throws InvalidParameterException the event is incomplete
      */
     public synchronized void processEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
+    {
+        this.passEventToListeners(event, listenerMap.keySet());
+    }
+
+
+    /**
+     * Process a watchdog event that was published by the Governance Engine OMAS for the listed listeners.  The
+     * listeners whose registration has not been accepted by the Governance Engine OMAS are also passed the event.
+     *
+     * @param event event object - call getEventType to find out what type of event.
+     * @param listenerIds identifiers of the listeners interested in the event, or null to pass it to every listener
+     * @throws InvalidParameterException the event is incomplete
+     */
+    public void processEvent(WatchdogGovernanceEvent event,
+                             List<String>            listenerIds) throws InvalidParameterException
+    {
+        boolean registrationsLost = false;
+
+        synchronized (this)
+        {
+            Collection<String> connectorIds = listenerMap.keySet();
+
+            if (listenerIds != null)
+            {
+                connectorIds = new LinkedHashSet<>(listenerIds);
+                connectorIds.addAll(pendingRegistrations.keySet());
+            }
+            else if (registrationService != null)
+            {
+                registrationsLost = this.markRegistrationsLost();
+            }
+
+            this.passEventToListeners(event, connectorIds);
+        }
+
+        if (registrationsLost)
+        {
+            registrationService.execute(this::retryRegistrations);
+        }
+    }
+
+
+    /**
+     * Pass an event to the listed listeners.
+     *
+     * @param event event object - call getEventType to find out what type of event.
+     * @param connectorIds identifiers of the listeners to pass the event to
+     * @throws InvalidParameterException the event is incomplete
+     */
+    private void passEventToListeners(WatchdogGovernanceEvent event,
+                                      Collection<String>      connectorIds) throws InvalidParameterException
     {
         if (event != null)
         {
-            for (String connectorId : listenerMap.keySet())
+            for (String connectorId : connectorIds)
             {
                 if (connectorId != null)
                 {
@@ -68,6 +230,57 @@ public class GovernanceListenerManager
     }
 
 
+    /**
+     * The Governance Engine OMAS only publishes watchdog events without listener identifiers when it has no
+     * registered listeners.  If this engine has registered listeners, the registrations have been lost and the
+     * listeners are marked to be registered again.  This is done at most once per retry interval.
+     *
+     * @return whether the listeners need to be registered again
+     */
+    private boolean markRegistrationsLost()
+    {
+        final String actionDescription = "register watchdog listeners again with Governance Engine OMAS";
+
+        long now = System.currentTimeMillis();
+
+        if (now - lastLostRegistrationTime < retryInterval)
+        {
+            return false;
+        }
+
+        List<String> registeredListeners = new ArrayList<>();
+
+        for (Map.Entry<String, WatchdogListener> entry : listenerMap.entrySet())
+        {
+            if ((entry.getValue().listener != null) && (! pendingRegistrations.containsKey(entry.getKey())))
+            {
+                registeredListeners.add(entry.getKey());
+            }
+        }
+
+        if (registeredListeners.isEmpty())
+        {
+            return false;
+        }
+
+        lastLostRegistrationTime = now;
+
+        for (String connectorId : registeredListeners)
+        {
+            pendingRegistrations.put(connectorId, 0);
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(actionDescription,
+                                GovernanceActionAuditCode.WATCHDOG_LISTENERS_NOT_REGISTERED.getMessageDefinition(governanceEngineName,
+                                                                                                                 Integer.toString(registeredListeners.size())));
+        }
+
+        return true;
+    }
+
+
     /**
      * Register a listener to receive events about changes to metadata elements in the open metadata store.
      * There can be only one registered listener.  If this method is called more than once, the new parameters
@@ -87,33 +300,237 @@ public class GovernanceListenerManager
      * @param interestingMetadataTypes types of elements that are the subject of the interesting event types.
      * @param specificInstance unique identifier of a specific instance to watch for
      */
-    synchronized void registerListener(String                     connectorId,
-                                       WatchdogGovernanceListener listener,
-                                       List<WatchdogEventType>    interestingEventTypes,
-                                       List<String>               interestingMetadataTypes,
-                                       String                     specificInstance)
+    void registerListener(String                     connectorId,
+                          WatchdogGovernanceListener listener,
+                          List<WatchdogEventType>    interestingEventTypes,
+                          List<String>               interestingMetadataTypes,
+                          String                     specificInstance)
     {
-        WatchdogListener watchdogListener = listenerMap.get(connectorId);
+        synchronized (this)
+        {
+            WatchdogListener watchdogListener = listenerMap.get(connectorId);
+
+            if (watchdogListener == null)
+            {
+                watchdogListener = new WatchdogListener();
+            }
+
+            watchdogListener.setListenerSpec(listener, interestingEventTypes, interestingMetadataTypes, specificInstance);
+
+            listenerMap.put(connectorId, watchdogListener);
+        }
+
+        /*
+         * The call to the Governance Engine OMAS is made outside the lock so that incoming events are not held up.
+         */
+        this.updateServerRegistration(connectorId);
+    }
 
-        if (watchdogListener == null)
+
+    /**
+     * Remove the listener for a specific governance service because this service has been disconnected.
+     *
+     * @param connectorId unique id of governance service instance
+     */
+    public void removeListener(String connectorId)
+    {
+        synchronized (this)
         {
-            watchdogListener = new WatchdogListener();
+            listenerMap.remove(connectorId);
         }
 
-        watchdogListener.setListenerSpec(listener, interestingEventTypes, interestingMetadataTypes, specificInstance);
+        this.updateServerRegistration(connectorId);
+    }
+
 
-        listenerMap.put(connectorId, watchdogListener);
+    /**
+     * Stop retrying the registrations with the Governance Engine OMAS because the governance engine is shutting down.
+     */
+    public void shutdown()
+    {
+        if (registrationService != null)
+        {
+            registrationService.shutdownNow();
+        }
     }
 
 
     /**
-     * Remove the listener for a specific governance service because this service has been disconnected.
+     * Return whether the registration of a listener (or its removal) is waiting to be accepted by the
+     * Governance Engine OMAS.
+     *
+     * @param connectorId unique id of governance service instance
+     * @return boolean flag
+     */
+    synchronized boolean isRegistrationPending(String connectorId)
+    {
+        return pendingRegistrations.containsKey(connectorId);
+    }
+
+
+    /**
+     * Called periodically in the background to retry the registrations that failed and, once every refresh
+     * interval, to send the registrations of all listeners again.
+     */
+    private void maintainRegistrations()
+    {
+        synchronized (this)
+        {
+            long now = System.currentTimeMillis();
+
+            if (now - lastRefreshTime >= refreshInterval)
+            {
+                lastRefreshTime = now;
+
+                for (String connectorId : listenerMap.keySet())
+                {
+                    pendingRegistrations.putIfAbsent(connectorId, 0);
+                }
+            }
+        }
+
+        this.retryRegistrations();
+    }
+
+
+    /**
+     * Send the registrations that are waiting to be accepted to the Governance Engine OMAS.
+     */
+    void retryRegistrations()
+    {
+        List<String> connectorIds;
+
+        synchronized (this)
+        {
+            connectorIds = new ArrayList<>(pendingRegistrations.keySet());
+        }
+
+        for (String connectorId : connectorIds)
+        {
+            this.updateServerRegistration(connectorId);
+        }
+    }
+
+
+    /**
+     * Register the current listening specification of a listener with the Governance Engine OMAS, or remove it
+     * if the listener has been removed.  A failure leaves the registration pending so that it is retried.
      *
      * @param connectorId unique id of governance service instance
      */
-    public synchronized void removeListener(String connectorId)
+    private void updateServerRegistration(String connectorId)
     {
-        listenerMap.remove(connectorId);
+        if (serverClient == null)
+        {
+            return;
+        }
+
+        synchronized (registrationLock)
+        {
+            WatchdogGovernanceListener listener                 = null;
+            List<WatchdogEventType>    interestingEventTypes    = null;
+            List<String>               interestingMetadataTypes = null;
+            String                     specificInstance         = null;
+
+            synchronized (this)
+            {
+                WatchdogListener watchdogListener = listenerMap.get(connectorId);
+
+                if (watchdogListener != null)
+                {
+                    listener = watchdogListener.listener;
+                    interestingEventTypes = watchdogListener.interestingEventTypes;
+                    interestingMetadataTypes = watchdogListener.interestingMetadataTypes;
+                    specificInstance = watchdogListener.specificInstance;
+                }
+            }
+
+            try
+            {
+                if (listener == null)
+                {
+                    serverClient.unregisterWatchdogListener(serverUserId, connectorId);
+                }
+                else
+                {
+                    serverClient.registerWatchdogListener(serverUserId, connectorId, interestingEventTypes, interestingMetadataTypes, specificInstance);
+                }
+
+                Integer failedAttempts;
+
+                synchronized (this)
+                {
+                    failedAttempts = pendingRegistrations.remove(connectorId);
+                }
+
+                if ((failedAttempts != null) && (failedAttempts > 0))
+                {
+                    logRegistrationSuccess(connectorId, failedAttempts);
+                }
+            }
+            catch (Exception error)
+            {
+                int failedAttempts;
+
+                synchronized (this)
+                {
+                    failedAttempts = pendingRegistrations.merge(connectorId, 1, Integer::sum);
+                }
+
+                /*
+                 * Only the first failure is logged to avoid flooding the audit log while the Governance Engine OMAS
+                 * is unavailable.
+                 */
+                if (failedAttempts == 1)
+                {
+                    logRegistrationFailure(connectorId, error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Log a failure to update the registration of a listener with the Governance Engine OMAS.
+     *
+     * @param connectorId unique id of governance service instance
+     * @param error exception from the client
+     */
+    private void logRegistrationFailure(String    connectorId,
+                                        Exception error)
+    {
+        final String actionDescription = "register watchdog listener with Governance Engine OMAS";
+
+        if (auditLog != null)
+        {
+            auditLog.logException(actionDescription,
+                                  GovernanceActionAuditCode.WATCHDOG_LISTENER_REGISTRATION_FAILED.getMessageDefinition(connectorId,
+                                                                                                                       governanceEngineName,
+                                                                                                                       error.getClass().getName(),
+                                                                                                                       error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Log that the registration of a listener has been accepted by the Governance Engine OMAS after failing.
+     *
+     * @param connectorId unique id of governance service instance
+     * @param failedAttempts number of attempts that failed
+     */
+    private void logRegistrationSuccess(String connectorId,
+                                        int    failedAttempts)
+    {
+        final String actionDescription = "register watchdog listener with Governance Engine OMAS";
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(actionDescription,
+                                GovernanceActionAuditCode.WATCHDOG_LISTENER_REGISTERED.getMessageDefinition(connectorId,
+                                                                                                            governanceEngineName,
+                                                                                                            Integer.toString(failedAttempts)));
+        }
     }
 
 
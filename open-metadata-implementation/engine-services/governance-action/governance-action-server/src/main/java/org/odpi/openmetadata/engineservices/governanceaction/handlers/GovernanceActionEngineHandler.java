@@ -73,7 +73,7 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
         this.partnerServerName = partnerServerName;
         this.partnerURLRoot = partnerURLRoot;
 
-        this.governanceListenerManager = new GovernanceListenerManager(auditLog, engineConfig.getEngineQualifiedName());
+        this.governanceListenerManager = new GovernanceListenerManager(auditLog, engineConfig.getEngineQualifiedName(), serverClient, serverUserId);
     }
 
 
@@ -91,7 +91,37 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Pass on the watchdog event to the governance services with one of the listed watchdog listeners.
+     *
+     * @param watchdogGovernanceEvent element describing the changing metadata data.
+     * @param listenerIds identifiers of the watchdog listeners interested in the event, or null if every listener
+     *                    should examine it
+     *
+     * @throws InvalidParameterException Vital fields of the governance action are not filled out
+     */
+    @Override
+    public void publishWatchdogEvent(WatchdogGovernanceEvent watchdogGovernanceEvent,
+                                     List<String>            listenerIds) throws InvalidParameterException
+    {
+        governanceListenerManager.processEvent(watchdogGovernanceEvent, listenerIds);
+    }
+
+
+    /**
+     * Stop retrying the registrations of the watchdog listeners and confirm termination of the governance engine.
+     */
+    @Override
+    public void terminate()
+    {
+        governanceListenerManager.shutdown();
+
+        super.terminate();
+    }
+
+
+    /**
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the
+     * handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -145,8 +175,7 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
                                                                                                                governanceListenerManager,
                                                                                                                auditLog);
 
-            Thread thread = new Thread(governanceActionServiceHandler, governanceServiceCache.getGovernanceServiceName() + governanceActionGUID + new Date());
-            thread.start();
+            super.startGovernanceService(governanceActionServiceHandler, governanceServiceCache, governanceActionGUID, startDate);
 
             return governanceActionServiceHandler;
         }
@@ -0,0 +1,378 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.engineservices.governanceaction.context;
+
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineClient;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
+import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogGovernanceEvent;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogMetadataElementEvent;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the GovernanceListenerManager passes watchdog events to the listeners named by the Governance Engine
+ * OMAS, that it passes every event to the listeners whose registration failed, and that it registers the listeners
+ * again after a failure or when the Governance Engine OMAS has lost the registrations.
+ */
+public class GovernanceListenerManagerTest
+{
+    private static final String ENGINE_NAME = "AssetGovernance";
+    private static final String LISTENER_1  = "listener1";
+    private static final String LISTENER_2  = "listener2";
+
+    private final List<AuditLogRecord> auditLogRecords = new ArrayList<>();
+
+    private StubServerClient          serverClient;
+    private GovernanceListenerManager listenerManager;
+
+
+    @BeforeMethod
+    public void setUp() throws InvalidParameterException
+    {
+        auditLogRecords.clear();
+
+        serverClient = new StubServerClient();
+        listenerManager = new GovernanceListenerManager(this.getAuditLog(), ENGINE_NAME, serverClient, "serverUser", 60000, 600000);
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        listenerManager.shutdown();
+    }
+
+
+    /**
+     * An event is only passed to the listeners named in it.
+     *
+     * @throws InvalidParameterException the event is incomplete
+     */
+    @Test
+    public void testEventPassedToNamedListeners() throws InvalidParameterException
+    {
+        RecordingListener listener1 = new RecordingListener();
+        RecordingListener listener2 = new RecordingListener();
+
+        listenerManager.registerListener(LISTENER_1, listener1, null, null, null);
+        listenerManager.registerListener(LISTENER_2, listener2, null, null, null);
+
+        assertEquals(serverClient.registrations, List.of(LISTENER_1, LISTENER_2));
+
+        listenerManager.processEvent(this.getEvent("Asset"), Collections.singletonList(LISTENER_2));
+
+        assertEquals(listener1.events.size(), 0);
+        assertEquals(listener2.events.size(), 1);
+    }
+
+
+    /**
+     * A listener whose registration failed is passed every event, applying its own listening specification, until
+     * the retry succeeds.
+     *
+     * @throws InvalidParameterException the event is incomplete
+     */
+    @Test
+    public void testFailedRegistrationIsRetried() throws InvalidParameterException
+    {
+        RecordingListener listener1 = new RecordingListener();
+        RecordingListener listener2 = new RecordingListener();
+
+        listenerManager.registerListener(LISTENER_1, listener1, null, null, null);
+
+        serverClient.available = false;
+        listenerManager.registerListener(LISTENER_2, listener2, null, Collections.singletonList("Asset"), null);
+
+        assertTrue(listenerManager.isRegistrationPending(LISTENER_2));
+        assertEquals(this.getMessageIds(), List.of("OMES-GOVERNANCE-ACTION-0033"));
+
+        listenerManager.processEvent(this.getEvent("Asset"), Collections.singletonList(LISTENER_1));
+        listenerManager.processEvent(this.getEvent("Process"), Collections.singletonList(LISTENER_1));
+
+        assertEquals(listener1.events.size(), 2);
+        assertEquals(listener2.events.size(), 1);
+
+        /*
+         * Only the first failure is logged.
+         */
+        listenerManager.retryRegistrations();
+
+        assertTrue(listenerManager.isRegistrationPending(LISTENER_2));
+        assertEquals(this.getMessageIds(), List.of("OMES-GOVERNANCE-ACTION-0033"));
+
+        serverClient.available = true;
+        listenerManager.retryRegistrations();
+
+        assertFalse(listenerManager.isRegistrationPending(LISTENER_2));
+        assertEquals(this.getMessageIds(), List.of("OMES-GOVERNANCE-ACTION-0033", "OMES-GOVERNANCE-ACTION-0034"));
+        assertTrue(auditLogRecords.get(1).getMessageText().contains("after 2 failed attempts"));
+
+        listenerManager.processEvent(this.getEvent("Asset"), Collections.singletonList(LISTENER_1));
+
+        assertEquals(listener2.events.size(), 1);
+    }
+
+
+    /**
+     * The removal of a listener is retried if the Governance Engine OMAS can not be reached.
+     */
+    @Test
+    public void testFailedRemovalIsRetried()
+    {
+        listenerManager.registerListener(LISTENER_1, new RecordingListener(), null, null, null);
+
+        serverClient.available = false;
+        listenerManager.removeListener(LISTENER_1);
+
+        assertTrue(listenerManager.isRegistrationPending(LISTENER_1));
+
+        serverClient.available = true;
+        listenerManager.retryRegistrations();
+
+        assertFalse(listenerManager.isRegistrationPending(LISTENER_1));
+        assertEquals(serverClient.removals, List.of(LISTENER_1));
+    }
+
+
+    /**
+     * An event without listener identifiers while listeners are registered means the Governance Engine OMAS has
+     * lost the registrations, so they are sent again.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testLostRegistrationsAreSentAgain() throws Exception
+    {
+        RecordingListener listener1 = new RecordingListener();
+
+        listenerManager.registerListener(LISTENER_1, listener1, null, null, null);
+        serverClient.registrations.clear();
+
+        listenerManager.processEvent(this.getEvent("Asset"), null);
+
+        assertEquals(listener1.events.size(), 1);
+        assertEquals(this.getMessageIds(), List.of("OMES-GOVERNANCE-ACTION-0035"));
+
+        this.waitForRegistration(LISTENER_1);
+
+        assertEquals(serverClient.registrations, List.of(LISTENER_1));
+
+        /*
+         * The registrations are not sent again for every event.
+         */
+        listenerManager.processEvent(this.getEvent("Asset"), null);
+
+        assertEquals(this.getMessageIds(), List.of("OMES-GOVERNANCE-ACTION-0035"));
+    }
+
+
+    /**
+     * The background thread retries the failed registrations and periodically sends all of them again.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testBackgroundRegistration() throws Exception
+    {
+        listenerManager.shutdown();
+        listenerManager = new GovernanceListenerManager(this.getAuditLog(), ENGINE_NAME, serverClient, "serverUser", 20, 100);
+
+        serverClient.available = false;
+        listenerManager.registerListener(LISTENER_1, new RecordingListener(), null, null, null);
+
+        assertTrue(listenerManager.isRegistrationPending(LISTENER_1));
+
+        serverClient.available = true;
+        this.waitForRegistration(LISTENER_1);
+
+        int registrations = serverClient.registrations.size();
+
+        Thread.sleep(300);
+
+        assertTrue(serverClient.registrations.size() > registrations);
+    }
+
+
+    /**
+     * A manager without a client for the Governance Engine OMAS passes every event to every listener.
+     *
+     * @throws InvalidParameterException the event is incomplete
+     */
+    @Test
+    public void testWithoutServerClient() throws InvalidParameterException
+    {
+        GovernanceListenerManager localManager = new GovernanceListenerManager(this.getAuditLog(), ENGINE_NAME);
+        RecordingListener         listener1    = new RecordingListener();
+
+        localManager.registerListener(LISTENER_1, listener1, Collections.singletonList(WatchdogEventType.NEW_ELEMENT), null, null);
+        localManager.processEvent(this.getEvent("Asset"));
+        localManager.processEvent(this.getEvent("Asset"), null);
+
+        assertEquals(listener1.events.size(), 2);
+        assertFalse(localManager.isRegistrationPending(LISTENER_1));
+        assertTrue(auditLogRecords.isEmpty());
+
+        localManager.shutdown();
+    }
+
+
+    /**
+     * Wait for the background thread to register a listener.
+     *
+     * @param listenerId listener to wait for
+     * @throws InterruptedException the test was interrupted
+     */
+    private void waitForRegistration(String listenerId) throws InterruptedException
+    {
+        for (int attempt = 0; (attempt < 100) && (listenerManager.isRegistrationPending(listenerId)); attempt++)
+        {
+            Thread.sleep(20);
+        }
+
+        assertFalse(listenerManager.isRegistrationPending(listenerId));
+    }
+
+
+    /**
+     * Return a new element event for an element of the requested type.
+     *
+     * @param typeName type of the element
+     * @return event
+     */
+    private WatchdogGovernanceEvent getEvent(String typeName)
+    {
+        ElementType elementType = new ElementType();
+        elementType.setTypeName(typeName);
+
+        OpenMetadataElement element = new OpenMetadataElement();
+        element.setElementGUID("guid-" + typeName);
+        element.setType(elementType);
+
+        WatchdogMetadataElementEvent event = new WatchdogMetadataElementEvent();
+        event.setEventType(WatchdogEventType.NEW_ELEMENT);
+        event.setMetadataElement(element);
+
+        return event;
+    }
+
+
+    /**
+     * Return the message ids of the audit log records.
+     *
+     * @return list of message ids
+     */
+    private List<String> getMessageIds()
+    {
+        List<String> messageIds = new ArrayList<>();
+
+        for (AuditLogRecord auditLogRecord : auditLogRecords)
+        {
+            messageIds.add(auditLogRecord.getMessageId());
+        }
+
+        return messageIds;
+    }
+
+
+    /**
+     * Return an audit log that saves its records in the test.
+     *
+     * @return audit log
+     */
+    private AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(new HashMap<>())
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        };
+
+        return new AuditLog(destination,
+                            1,
+                            ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                            "GovernanceListenerManagerTest",
+                            "Test of the governance listener manager",
+                            null);
+    }
+
+
+    /**
+     * Listener that saves the events passed to it.
+     */
+    private static class RecordingListener extends WatchdogGovernanceListener
+    {
+        private final List<WatchdogGovernanceEvent> events = new ArrayList<>();
+
+        @Override
+        public void processEvent(WatchdogGovernanceEvent event)
+        {
+            events.add(event);
+        }
+    }
+
+
+    /**
+     * Client that records the registrations instead of calling the Governance Engine OMAS.
+     */
+    private static class StubServerClient extends GovernanceEngineClient
+    {
+        private final List<String> registrations = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> removals      = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile boolean available = true;
+
+        StubServerClient() throws InvalidParameterException
+        {
+            super("cocoMDS1", "https://localhost:9443");
+        }
+
+        @Override
+        public void registerWatchdogListener(String                  userId,
+                                             String                  listenerId,
+                                             List<WatchdogEventType> interestingEventTypes,
+                                             List<String>            interestingMetadataTypes,
+                                             String                  specificInstance)
+        {
+            if (! available)
+            {
+                throw new IllegalStateException("Governance Engine OMAS is not available");
+            }
+
+            registrations.add(listenerId);
+        }
+
+        @Override
+        public void unregisterWatchdogListener(String userId,
+                                               String listenerId)
+        {
+            if (! available)
+            {
+                throw new IllegalStateException("Governance Engine OMAS is not available");
+            }
+
+            removals.add(listenerId);
+        }
+    }
+}
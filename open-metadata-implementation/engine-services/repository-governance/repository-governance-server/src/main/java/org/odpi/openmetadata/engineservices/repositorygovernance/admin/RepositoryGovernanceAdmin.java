@@ -125,11 +125,13 @@ public class RepositoryGovernanceAdmin extends EngineServiceAdmin
                                                                       archiveEngineHandlers);
 
             Map<String, GovernanceEngineHandler> governanceEngineHandlers = new HashMap<>();
+            int                                  maxConcurrentServices    = this.getMaxConcurrentServices(engineServiceConfig);
 
             for (String engineName : archiveEngineHandlers.keySet())
             {
                 if (engineName != null)
                 {
+                    archiveEngineHandlers.get(engineName).setMaxConcurrentServices(maxConcurrentServices);
                     governanceEngineHandlers.put(engineName, archiveEngineHandlers.get(engineName));
                 }
             }
@@ -63,7 +63,8 @@ public class RepositoryGovernanceEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the
+     * handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -102,8 +103,7 @@ public class RepositoryGovernanceEngineHandler extends GovernanceEngineHandler
                                                                                                                                governanceActionGUID,
                                                                                                                                governanceServiceCache);
 
-            Thread thread = new Thread(repositoryGovernanceServiceHandler, governanceServiceCache.getGovernanceServiceName() + new Date());
-            thread.start();
+            super.startGovernanceService(repositoryGovernanceServiceHandler, governanceServiceCache, governanceActionGUID, startDate);
 
             return repositoryGovernanceServiceHandler;
         }
@@ -0,0 +1,666 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Certification;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalIdentifier;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalReference;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.InformalTag;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.License;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Location;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Rating;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.RelatedAsset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.RelatedMediaReference;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * AssetUniverseResponse is the response structure used on the OMAS REST API calls that return the
+ * asset universe in a single call.  As well as the asset bean and the counts of the connected elements
+ * returned by AssetResponse, it returns the first page of each type of connected element.  The size of
+ * each page is bounded by the caller.  If a count is greater than the number of elements returned,
+ * the remaining elements are retrieved using the individual REST API calls.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetUniverseResponse extends AssetResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Certification>         certifications         = null;
+    private List<CommentResponse>       comments               = null;
+    private List<Connection>            connections            = null;
+    private List<ExternalIdentifier>    externalIdentifiers    = null;
+    private List<ExternalReference>     externalReferences     = null;
+    private List<InformalTag>           informalTags           = null;
+    private List<License>               licenses               = null;
+    private List<Like>                  likes                  = null;
+    private List<Location>              knownLocations         = null;
+    private List<NoteLogResponse>       noteLogs               = null;
+    private List<Rating>                ratings                = null;
+    private List<RelatedAsset>          relatedAssets          = null;
+    private List<RelatedMediaReference> relatedMediaReferences = null;
+    private List<SchemaAttribute>       schemaAttributes       = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetUniverseResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.certifications         = template.getCertifications();
+            this.comments               = template.getComments();
+            this.connections            = template.getConnections();
+            this.externalIdentifiers    = template.getExternalIdentifiers();
+            this.externalReferences     = template.getExternalReferences();
+            this.informalTags           = template.getInformalTags();
+            this.licenses               = template.getLicenses();
+            this.likes                  = template.getLikes();
+            this.knownLocations         = template.getKnownLocations();
+            this.noteLogs               = template.getNoteLogs();
+            this.ratings                = template.getRatings();
+            this.relatedAssets          = template.getRelatedAssets();
+            this.relatedMediaReferences = template.getRelatedMediaReferences();
+            this.schemaAttributes       = template.getSchemaAttributes();
+        }
+    }
+
+
+    /**
+     * Return the first page of certifications.
+     *
+     * @return list of beans
+     */
+    public List<Certification> getCertifications()
+    {
+        if (certifications == null)
+        {
+            return null;
+        }
+        else if (certifications.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(certifications);
+        }
+    }
+
+
+    /**
+     * Set up the first page of certifications.
+     *
+     * @param certifications list of beans
+     */
+    public void setCertifications(List<Certification> certifications)
+    {
+        this.certifications = certifications;
+    }
+
+
+    /**
+     * Return the first page of comments (with their reply counts).
+     *
+     * @return list of beans
+     */
+    public List<CommentResponse> getComments()
+    {
+        if (comments == null)
+        {
+            return null;
+        }
+        else if (comments.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(comments);
+        }
+    }
+
+
+    /**
+     * Set up the first page of comments (with their reply counts).
+     *
+     * @param comments list of beans
+     */
+    public void setComments(List<CommentResponse> comments)
+    {
+        this.comments = comments;
+    }
+
+
+    /**
+     * Return the first page of connections.
+     *
+     * @return list of beans
+     */
+    public List<Connection> getConnections()
+    {
+        if (connections == null)
+        {
+            return null;
+        }
+        else if (connections.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(connections);
+        }
+    }
+
+
+    /**
+     * Set up the first page of connections.
+     *
+     * @param connections list of beans
+     */
+    public void setConnections(List<Connection> connections)
+    {
+        this.connections = connections;
+    }
+
+
+    /**
+     * Return the first page of external identifiers.
+     *
+     * @return list of beans
+     */
+    public List<ExternalIdentifier> getExternalIdentifiers()
+    {
+        if (externalIdentifiers == null)
+        {
+            return null;
+        }
+        else if (externalIdentifiers.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(externalIdentifiers);
+        }
+    }
+
+
+    /**
+     * Set up the first page of external identifiers.
+     *
+     * @param externalIdentifiers list of beans
+     */
+    public void setExternalIdentifiers(List<ExternalIdentifier> externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * Return the first page of external references.
+     *
+     * @return list of beans
+     */
+    public List<ExternalReference> getExternalReferences()
+    {
+        if (externalReferences == null)
+        {
+            return null;
+        }
+        else if (externalReferences.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(externalReferences);
+        }
+    }
+
+
+    /**
+     * Set up the first page of external references.
+     *
+     * @param externalReferences list of beans
+     */
+    public void setExternalReferences(List<ExternalReference> externalReferences)
+    {
+        this.externalReferences = externalReferences;
+    }
+
+
+    /**
+     * Return the first page of informal tags.
+     *
+     * @return list of beans
+     */
+    public List<InformalTag> getInformalTags()
+    {
+        if (informalTags == null)
+        {
+            return null;
+        }
+        else if (informalTags.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(informalTags);
+        }
+    }
+
+
+    /**
+     * Set up the first page of informal tags.
+     *
+     * @param informalTags list of beans
+     */
+    public void setInformalTags(List<InformalTag> informalTags)
+    {
+        this.informalTags = informalTags;
+    }
+
+
+    /**
+     * Return the first page of licenses.
+     *
+     * @return list of beans
+     */
+    public List<License> getLicenses()
+    {
+        if (licenses == null)
+        {
+            return null;
+        }
+        else if (licenses.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(licenses);
+        }
+    }
+
+
+    /**
+     * Set up the first page of licenses.
+     *
+     * @param licenses list of beans
+     */
+    public void setLicenses(List<License> licenses)
+    {
+        this.licenses = licenses;
+    }
+
+
+    /**
+     * Return the first page of likes.
+     *
+     * @return list of beans
+     */
+    public List<Like> getLikes()
+    {
+        if (likes == null)
+        {
+            return null;
+        }
+        else if (likes.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(likes);
+        }
+    }
+
+
+    /**
+     * Set up the first page of likes.
+     *
+     * @param likes list of beans
+     */
+    public void setLikes(List<Like> likes)
+    {
+        this.likes = likes;
+    }
+
+
+    /**
+     * Return the first page of known locations.
+     *
+     * @return list of beans
+     */
+    public List<Location> getKnownLocations()
+    {
+        if (knownLocations == null)
+        {
+            return null;
+        }
+        else if (knownLocations.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(knownLocations);
+        }
+    }
+
+
+    /**
+     * Set up the first page of known locations.
+     *
+     * @param knownLocations list of beans
+     */
+    public void setKnownLocations(List<Location> knownLocations)
+    {
+        this.knownLocations = knownLocations;
+    }
+
+
+    /**
+     * Return the first page of note logs (with their note counts).
+     *
+     * @return list of beans
+     */
+    public List<NoteLogResponse> getNoteLogs()
+    {
+        if (noteLogs == null)
+        {
+            return null;
+        }
+        else if (noteLogs.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(noteLogs);
+        }
+    }
+
+
+    /**
+     * Set up the first page of note logs (with their note counts).
+     *
+     * @param noteLogs list of beans
+     */
+    public void setNoteLogs(List<NoteLogResponse> noteLogs)
+    {
+        this.noteLogs = noteLogs;
+    }
+
+
+    /**
+     * Return the first page of ratings.
+     *
+     * @return list of beans
+     */
+    public List<Rating> getRatings()
+    {
+        if (ratings == null)
+        {
+            return null;
+        }
+        else if (ratings.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(ratings);
+        }
+    }
+
+
+    /**
+     * Set up the first page of ratings.
+     *
+     * @param ratings list of beans
+     */
+    public void setRatings(List<Rating> ratings)
+    {
+        this.ratings = ratings;
+    }
+
+
+    /**
+     * Return the first page of related assets.
+     *
+     * @return list of beans
+     */
+    public List<RelatedAsset> getRelatedAssets()
+    {
+        if (relatedAssets == null)
+        {
+            return null;
+        }
+        else if (relatedAssets.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(relatedAssets);
+        }
+    }
+
+
+    /**
+     * Set up the first page of related assets.
+     *
+     * @param relatedAssets list of beans
+     */
+    public void setRelatedAssets(List<RelatedAsset> relatedAssets)
+    {
+        this.relatedAssets = relatedAssets;
+    }
+
+
+    /**
+     * Return the first page of related media references.
+     *
+     * @return list of beans
+     */
+    public List<RelatedMediaReference> getRelatedMediaReferences()
+    {
+        if (relatedMediaReferences == null)
+        {
+            return null;
+        }
+        else if (relatedMediaReferences.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(relatedMediaReferences);
+        }
+    }
+
+
+    /**
+     * Set up the first page of related media references.
+     *
+     * @param relatedMediaReferences list of beans
+     */
+    public void setRelatedMediaReferences(List<RelatedMediaReference> relatedMediaReferences)
+    {
+        this.relatedMediaReferences = relatedMediaReferences;
+    }
+
+
+    /**
+     * Return the first page of schema attributes of the asset's schema type.
+     *
+     * @return list of beans
+     */
+    public List<SchemaAttribute> getSchemaAttributes()
+    {
+        if (schemaAttributes == null)
+        {
+            return null;
+        }
+        else if (schemaAttributes.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(schemaAttributes);
+        }
+    }
+
+
+    /**
+     * Set up the first page of schema attributes of the asset's schema type.
+     *
+     * @param schemaAttributes list of beans
+     */
+    public void setSchemaAttributes(List<SchemaAttribute> schemaAttributes)
+    {
+        this.schemaAttributes = schemaAttributes;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseResponse{" +
+                "asset=" + getAsset() +
+                ", certificationCount=" + getCertificationCount() +
+                ", commentCount=" + getCommentCount() +
+                ", connectionCount=" + getConnectionCount() +
+                ", externalIdentifierCount=" + getExternalIdentifierCount() +
+                ", externalReferencesCount=" + getExternalReferencesCount() +
+                ", informalTagCount=" + getInformalTagCount() +
+                ", licenseCount=" + getLicenseCount() +
+                ", likeCount=" + getLikeCount() +
+                ", knownLocationsCount=" + getKnownLocationsCount() +
+                ", noteLogsCount=" + getNoteLogsCount() +
+                ", ratingsCount=" + getRatingsCount() +
+                ", relatedAssetCount=" + getRelatedAssetCount() +
+                ", relatedMediaReferenceCount=" + getRelatedMediaReferenceCount() +
+                ", schemaType=" + getSchemaType() +
+                ", lastAttachment=" + getLastAttachment() +
+                ", certifications=" + certifications +
+                ", comments=" + comments +
+                ", connections=" + connections +
+                ", externalIdentifiers=" + externalIdentifiers +
+                ", externalReferences=" + externalReferences +
+                ", informalTags=" + informalTags +
+                ", licenses=" + licenses +
+                ", likes=" + likes +
+                ", knownLocations=" + knownLocations +
+                ", noteLogs=" + noteLogs +
+                ", ratings=" + ratings +
+                ", relatedAssets=" + relatedAssets +
+                ", relatedMediaReferences=" + relatedMediaReferences +
+                ", schemaAttributes=" + schemaAttributes +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        AssetUniverseResponse that = (AssetUniverseResponse) objectToCompare;
+        return Objects.equals(getCertifications(), that.getCertifications()) &&
+                Objects.equals(getComments(), that.getComments()) &&
+                Objects.equals(getConnections(), that.getConnections()) &&
+                Objects.equals(getExternalIdentifiers(), that.getExternalIdentifiers()) &&
+                Objects.equals(getExternalReferences(), that.getExternalReferences()) &&
+                Objects.equals(getInformalTags(), that.getInformalTags()) &&
+                Objects.equals(getLicenses(), that.getLicenses()) &&
+                Objects.equals(getLikes(), that.getLikes()) &&
+                Objects.equals(getKnownLocations(), that.getKnownLocations()) &&
+                Objects.equals(getNoteLogs(), that.getNoteLogs()) &&
+                Objects.equals(getRatings(), that.getRatings()) &&
+                Objects.equals(getRelatedAssets(), that.getRelatedAssets()) &&
+                Objects.equals(getRelatedMediaReferences(), that.getRelatedMediaReferences()) &&
+                Objects.equals(getSchemaAttributes(), that.getSchemaAttributes());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getCertifications(), getComments(), getConnections(),
+                            getExternalIdentifiers(), getExternalReferences(), getInformalTags(),
+                            getLicenses(), getLikes(), getKnownLocations(),
+                            getNoteLogs(), getRatings(), getRelatedAssets(),
+                            getRelatedMediaReferences(), getSchemaAttributes());
+    }
+}
@@ -0,0 +1,248 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Certification;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.InformalTag;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the AssetUniverseResponse bean can be cloned, compared, serialized, deserialized and printed as a String.
+ */
+public class AssetUniverseResponseTest
+{
+    private Map<String, Object> exceptionProperties = new HashMap<>();
+    private Asset               assetBean           = new Asset();
+    private List<Certification> certifications      = new ArrayList<>();
+    private List<InformalTag>   informalTags        = new ArrayList<>();
+    private List<Like>          likes               = new ArrayList<>();
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponseTest()
+    {
+        assetBean.setGUID("TestGUID");
+
+        Certification certification = new Certification();
+        certification.setGUID("TestCertificationGUID");
+        certifications.add(certification);
+
+        InformalTag informalTag = new InformalTag();
+        informalTag.setName("TestTagName");
+        informalTags.add(informalTag);
+
+        Like like = new Like();
+        like.setUser("TestUser");
+        likes.add(like);
+    }
+
+
+    /**
+     * Set up an example object to test.
+     *
+     * @return filled in object
+     */
+    private AssetUniverseResponse getTestObject()
+    {
+        AssetUniverseResponse testObject = new AssetUniverseResponse();
+
+        testObject.setExceptionClassName(NullPointerException.class.getName());
+        testObject.setExceptionErrorMessage("TestErrorMessage");
+        testObject.setExceptionSystemAction("TestSystemAction");
+        testObject.setExceptionUserAction("TestUserAction");
+
+        testObject.setRelatedHTTPCode(400);
+        testObject.setExceptionProperties(exceptionProperties);
+
+        testObject.setAsset(assetBean);
+        testObject.setCertificationCount(1);
+        testObject.setInformalTagCount(1);
+        testObject.setLikeCount(5);
+        testObject.setCertifications(certifications);
+        testObject.setInformalTags(informalTags);
+        testObject.setLikes(likes);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the object that comes out of the test has the same content as the original test object.
+     *
+     * @param resultObject object returned by the test
+     */
+    private void validateResultObject(AssetUniverseResponse resultObject)
+    {
+        assertTrue(resultObject.getExceptionClassName().equals(NullPointerException.class.getName()));
+        assertTrue(resultObject.getExceptionErrorMessage().equals("TestErrorMessage"));
+        assertTrue(resultObject.getExceptionSystemAction().equals("TestSystemAction"));
+        assertTrue(resultObject.getExceptionUserAction().equals("TestUserAction"));
+
+        assertTrue(resultObject.getRelatedHTTPCode() == 400);
+        assertTrue(resultObject.getExceptionProperties() == null);
+
+        assertTrue(resultObject.getAsset().equals(assetBean));
+        assertTrue(resultObject.getCertificationCount() == 1);
+        assertTrue(resultObject.getInformalTagCount() == 1);
+        assertTrue(resultObject.getLikeCount() == 5);
+        assertTrue(resultObject.getCertifications().equals(certifications));
+        assertTrue(resultObject.getInformalTags().equals(informalTags));
+        assertTrue(resultObject.getLikes().equals(likes));
+        assertTrue(resultObject.getComments() == null);
+        assertTrue(resultObject.getSchemaAttributes() == null);
+    }
+
+
+    /**
+     * Validate that the object is initialized properly
+     */
+    @Test public void testNullObject()
+    {
+        AssetUniverseResponse nullObject = new AssetUniverseResponse();
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getCertificationCount() == 0);
+        assertTrue(nullObject.getCertifications() == null);
+        assertTrue(nullObject.getComments() == null);
+        assertTrue(nullObject.getConnections() == null);
+        assertTrue(nullObject.getExternalIdentifiers() == null);
+        assertTrue(nullObject.getExternalReferences() == null);
+        assertTrue(nullObject.getInformalTags() == null);
+        assertTrue(nullObject.getLicenses() == null);
+        assertTrue(nullObject.getLikes() == null);
+        assertTrue(nullObject.getKnownLocations() == null);
+        assertTrue(nullObject.getNoteLogs() == null);
+        assertTrue(nullObject.getRatings() == null);
+        assertTrue(nullObject.getRelatedAssets() == null);
+        assertTrue(nullObject.getRelatedMediaReferences() == null);
+        assertTrue(nullObject.getSchemaAttributes() == null);
+
+        nullObject = new AssetUniverseResponse(null);
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getCertificationCount() == 0);
+        assertTrue(nullObject.getCertifications() == null);
+        assertTrue(nullObject.getLikes() == null);
+        assertTrue(nullObject.getSchemaAttributes() == null);
+
+        nullObject.setLikes(new ArrayList<>());
+
+        assertTrue(nullObject.getLikes() == null);
+    }
+
+
+    /**
+     * Validate that 2 different objects with the same content are evaluated as equal.
+     * Also that different objects are considered not equal.
+     */
+    @Test public void testEquals()
+    {
+        assertFalse(getTestObject().equals(null));
+        assertFalse(getTestObject().equals("DummyString"));
+        assertTrue(getTestObject().equals(getTestObject()));
+
+        AssetUniverseResponse sameObject = getTestObject();
+        assertTrue(sameObject.equals(sameObject));
+
+        AssetUniverseResponse differentObject = getTestObject();
+        differentObject.setLikes(null);
+        assertFalse(getTestObject().equals(differentObject));
+    }
+
+
+    /**
+     *  Validate that 2 different objects with the same content have the same hash code.
+     */
+    @Test public void testHashCode()
+    {
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+    }
+
+
+    /**
+     *  Validate that an object cloned from another object has the same content as the original
+     */
+    @Test public void testClone()
+    {
+        validateResultObject(new AssetUniverseResponse(getTestObject()));
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        /*
+         * This class
+         */
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Exception  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject(objectMapper.readValue(jsonString, AssetUniverseResponse.class));
+        }
+        catch (Exception  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        /*
+         * Through superclass
+         */
+        OCFOMASAPIResponse superObject = getTestObject();
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(superObject);
+        }
+        catch (Exception  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject((AssetUniverseResponse) objectMapper.readValue(jsonString, OCFOMASAPIResponse.class));
+        }
+        catch (Exception  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("AssetUniverseResponse"));
+    }
+}
@@ -132,25 +132,7 @@ public class ConnectedAssetRatings extends Ratings
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Rating>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Rating  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new Rating(bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -159,4 +141,45 @@ public class ConnectedAssetRatings extends Ratings
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of ratings that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of ratings retrieved from the property server
+     */
+    void setPrefetchedList(List<Rating> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<Rating> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Rating  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new Rating(bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
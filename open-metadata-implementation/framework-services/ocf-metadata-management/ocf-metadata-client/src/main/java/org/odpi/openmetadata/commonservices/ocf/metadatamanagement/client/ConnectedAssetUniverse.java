@@ -5,6 +5,7 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetResponse;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -21,7 +22,8 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
  * 
  * All of ConnectedAssetUniverse's work is done in the constructors.  They extract basic information
  * about the asset and push objects to the super class to retrieve the more detailed properties.
- * These properties are only retrieved on demand.
+ * These properties are only retrieved on demand unless a prefetch size is supplied, in which case
+ * the first page of each type of property is retrieved along with the asset.
  */
 public class ConnectedAssetUniverse extends AssetUniverse
 {
@@ -176,19 +178,47 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                   String   connectionGUID) throws InvalidParameterException,
                                                                   PropertyServerException,
                                                                   UserNotAuthorizedException
+    {
+        this(serviceName, remoteServerName, omasServerURL, userId, assetGUID, connectionGUID, 0);
+    }
+
+
+    /**
+     * Constructor used by EgeriaConnectedAssetProperties.refresh() with no authentication
+     * information being attached to the HTTP requests.  The calling user of the specific
+     * request flows as a property in the URL.  If prefetchSize is greater than zero, the first
+     * page of each type of element attached to the asset is retrieved in the same REST call as
+     * the asset.  This avoids one REST call per type of element when they are all used, for example
+     * to display the details of an asset.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param prefetchSize maximum number of each type of attached element to retrieve with the asset.
+     *                     Zero means the elements are retrieved on demand.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException There is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    public ConnectedAssetUniverse(String   serviceName,
+                                  String   remoteServerName,
+                                  String   omasServerURL,
+                                  String   userId,
+                                  String   assetGUID,
+                                  String   connectionGUID,
+                                  int      prefetchSize) throws InvalidParameterException,
+                                                                PropertyServerException,
+                                                                UserNotAuthorizedException
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+        OCFRESTClient restClient = new OCFRESTClient(remoteServerName, omasServerURL);
 
-        this.processAssetResponse(serviceName,
-                                  remoteServerName,
-                                  omasServerURL,
-                                  userId,
-                                  assetGUID,
-                                  restClient,
-                                  assetResponse);
+        this.retrieveAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID, prefetchSize);
     }
 
 
@@ -220,28 +250,125 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                   String   connectionGUID) throws InvalidParameterException,
                                                                   PropertyServerException,
                                                                   UserNotAuthorizedException
+    {
+        this(serviceName, remoteServerName, localServerUserId, localServerPassword, omasServerURL, userId, assetGUID, connectionGUID, 0);
+    }
+
+
+    /**
+     * Constructor used by EgeriaConnectedAssetProperties.refresh() where a userId and password
+     * of the local calling server are embedded in the HTTP requests.  The calling user of the specific
+     * request flows as a property in the URL.  If prefetchSize is greater than zero, the first
+     * page of each type of element attached to the asset is retrieved in the same REST call as
+     * the asset.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param localServerUserId userId of the local server.
+     * @param localServerPassword password of the local server.
+     * @param omasServerURL  url used to call the server.
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param prefetchSize maximum number of each type of attached element to retrieve with the asset.
+     *                     Zero means the elements are retrieved on demand.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException There is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    public ConnectedAssetUniverse(String   serviceName,
+                                  String   remoteServerName,
+                                  String   localServerUserId,
+                                  String   localServerPassword,
+                                  String   omasServerURL,
+                                  String   userId,
+                                  String   assetGUID,
+                                  String   connectionGUID,
+                                  int      prefetchSize) throws InvalidParameterException,
+                                                                PropertyServerException,
+                                                                UserNotAuthorizedException
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName,
-                                                        omasServerURL,
-                                                        localServerUserId,
-                                                        localServerPassword);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName,
-                                                                    remoteServerName,
-                                                                    omasServerURL,
-                                                                    restClient,
-                                                                    userId,
-                                                                    assetGUID,
-                                                                    connectionGUID);
+        OCFRESTClient restClient = new OCFRESTClient(remoteServerName,
+                                                     omasServerURL,
+                                                     localServerUserId,
+                                                     localServerPassword);
 
-        this.processAssetResponse(serviceName,
-                                  remoteServerName,
-                                  omasServerURL,
-                                  userId,
-                                  assetGUID,
-                                  restClient,
-                                  assetResponse);
+        this.retrieveAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID, prefetchSize);
+    }
+
+
+    /**
+     * Retrieve the asset (and optionally the first page of each type of attached element) and set up the superclass.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param prefetchSize maximum number of each type of attached element to retrieve with the asset.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException There is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private void retrieveAssetUniverse(String        serviceName,
+                                       String        remoteServerName,
+                                       String        omasServerURL,
+                                       OCFRESTClient restClient,
+                                       String        userId,
+                                       String        assetGUID,
+                                       String        connectionGUID,
+                                       int           prefetchSize) throws InvalidParameterException,
+                                                                          PropertyServerException,
+                                                                          UserNotAuthorizedException
+    {
+        if (prefetchSize > 0)
+        {
+            AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName,
+                                                                        remoteServerName,
+                                                                        omasServerURL,
+                                                                        restClient,
+                                                                        userId,
+                                                                        assetGUID,
+                                                                        connectionGUID,
+                                                                        prefetchSize);
+
+            this.processAssetResponse(serviceName,
+                                      remoteServerName,
+                                      omasServerURL,
+                                      userId,
+                                      assetGUID,
+                                      restClient,
+                                      assetResponse);
+
+            this.processPrefetchedElements(assetResponse);
+        }
+        else
+        {
+            AssetResponse assetResponse;
+
+            if (connectionGUID == null)
+            {
+                assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+            }
+            else
+            {
+                assetResponse = this.getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+            }
+
+            this.processAssetResponse(serviceName,
+                                      remoteServerName,
+                                      omasServerURL,
+                                      userId,
+                                      assetGUID,
+                                      restClient,
+                                      assetResponse);
+        }
     }
 
 
@@ -405,6 +532,154 @@ public class ConnectedAssetUniverse extends AssetUniverse
     }
 
 
+    /**
+     * Seed the iterators set up by processAssetResponse with the first page of each type of attached element
+     * returned with the asset.  Any element types that were not returned are retrieved on demand as normal.
+     *
+     * @param assetResponse response from the server covering the basic asset properties, the
+     *                      counts of objects attached to it and the first page of each type of attached object.
+     */
+    private void processPrefetchedElements(AssetUniverseResponse assetResponse)
+    {
+        if (super.externalIdentifiers instanceof ConnectedExternalIdentifiers)
+        {
+            ((ConnectedExternalIdentifiers) super.externalIdentifiers).setPrefetchedList(assetResponse.getExternalIdentifiers());
+        }
+
+        if (super.relatedMediaReferences instanceof ConnectedRelatedMediaReferences)
+        {
+            ((ConnectedRelatedMediaReferences) super.relatedMediaReferences).setPrefetchedList(assetResponse.getRelatedMediaReferences());
+        }
+
+        if (super.noteLogs instanceof ConnectedNoteLogs)
+        {
+            ((ConnectedNoteLogs) super.noteLogs).setPrefetchedList(assetResponse.getNoteLogs());
+        }
+
+        if (super.externalReferences instanceof ConnectedExternalReferences)
+        {
+            ((ConnectedExternalReferences) super.externalReferences).setPrefetchedList(assetResponse.getExternalReferences());
+        }
+
+        if (super.connections instanceof ConnectedConnections)
+        {
+            ((ConnectedConnections) super.connections).setPrefetchedList(assetResponse.getConnections());
+        }
+
+        if (super.licenses instanceof ConnectedLicenses)
+        {
+            ((ConnectedLicenses) super.licenses).setPrefetchedList(assetResponse.getLicenses());
+        }
+
+        if (super.certifications instanceof ConnectedCertifications)
+        {
+            ((ConnectedCertifications) super.certifications).setPrefetchedList(assetResponse.getCertifications());
+        }
+
+        if (super.feedback instanceof ConnectedFeedback)
+        {
+            ((ConnectedFeedback) super.feedback).setPrefetchedLists(assetResponse.getComments(),
+                                                                    assetResponse.getLikes(),
+                                                                    assetResponse.getRatings(),
+                                                                    assetResponse.getInformalTags());
+        }
+
+        if (super.knownLocations instanceof ConnectedLocations)
+        {
+            ((ConnectedLocations) super.knownLocations).setPrefetchedList(assetResponse.getKnownLocations());
+        }
+
+        if (super.relatedAssets instanceof ConnectedRelatedAssets)
+        {
+            ((ConnectedRelatedAssets) super.relatedAssets).setPrefetchedList(assetResponse.getRelatedAssets());
+        }
+
+        if (super.schema instanceof ConnectedNestedSchemaType)
+        {
+            ((ConnectedNestedSchemaType) super.schema).setPrefetchedSchemaAttributes(assetResponse.getSchemaAttributes());
+        }
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each type of element
+     * attached to the asset.  The connection guid (if supplied) allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param prefetchSize  maximum number of each type of attached element to return.
+     *
+     * @return a bean with the basic properties about the asset and its attachments.
+     * @throws InvalidParameterException the asset GUID is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private AssetUniverseResponse getAssetUniverse(String        serviceName,
+                                                   String        remoteServerName,
+                                                   String        omasServerURL,
+                                                   OCFRESTClient restClient,
+                                                   String        userId,
+                                                   String        assetGUID,
+                                                   String        connectionGUID,
+                                                   int           prefetchSize) throws InvalidParameterException,
+                                                                                      PropertyServerException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String   methodName = "getAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/universe?maxElements={4}";
+        final String   connectionURLTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}/universe?maxElements={5}";
+
+        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
+
+        AssetUniverseResponse  restResult = null;
+
+        try
+        {
+            if (connectionGUID == null)
+            {
+                restResult = restClient.callOCFAssetUniverseGetRESTCall(methodName,
+                                                                        omasServerURL + urlTemplate,
+                                                                        remoteServerName,
+                                                                        serviceName,
+                                                                        userId,
+                                                                        assetGUID,
+                                                                        prefetchSize);
+            }
+            else
+            {
+                restResult = restClient.callOCFAssetUniverseGetRESTCall(methodName,
+                                                                        omasServerURL + connectionURLTemplate,
+                                                                        remoteServerName,
+                                                                        serviceName,
+                                                                        userId,
+                                                                        assetGUID,
+                                                                        connectionGUID,
+                                                                        prefetchSize);
+            }
+
+            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, remoteServerName, omasServerURL);
+        }
+
+        return restResult;
+    }
+
+
     /**
      * Returns the basic information about the asset.  The connection guid allows the short description for the
      * asset to be filled out.
@@ -145,25 +145,7 @@ class ConnectedCertifications extends Certifications
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Certification>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Certification  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new Certification(bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -172,4 +154,45 @@ class ConnectedCertifications extends Certifications
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of certifications that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of certifications retrieved from the property server
+     */
+    void setPrefetchedList(List<Certification> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<Certification> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Certification  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new Certification(bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -159,43 +159,7 @@ public class ConnectedComments extends Comments
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<CommentResponse> Responses = restResult.getList();
-            if ((Responses == null) || (Responses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (CommentResponse  commentResponse : Responses)
-                {
-                    if (commentResponse != null)
-                    {
-                        Comment                 bean           = commentResponse.getComment();
-                        ConnectedCommentReplies commentReplies = null;
-
-                        if (commentResponse.getReplyCount() > 0)
-                        {
-                            commentReplies = new ConnectedCommentReplies(serviceName,
-                                                                         serverName,
-                                                                         userId,
-                                                                         omasServerURL,
-                                                                         bean.getGUID(),
-                                                                         commentResponse.getReplyCount(),
-                                                                         maxCacheSize,
-                                                                         restClient);
-                        }
-
-                        /*
-                         * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
-                         */
-                        resultList.add(new CommentConversation(bean, commentReplies));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -204,4 +168,63 @@ public class ConnectedComments extends Comments
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of comments that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of comments retrieved from the property server
+     */
+    void setPrefetchedList(List<CommentResponse> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param commentResponses beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<CommentResponse> commentResponses)
+    {
+        if ((commentResponses == null) || (commentResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (CommentResponse  commentResponse : commentResponses)
+            {
+                if (commentResponse != null)
+                {
+                    Comment                 bean           = commentResponse.getComment();
+                    ConnectedCommentReplies commentReplies = null;
+
+                    if (commentResponse.getReplyCount() > 0)
+                    {
+                        commentReplies = new ConnectedCommentReplies(serviceName,
+                                                                     serverName,
+                                                                     userId,
+                                                                     omasServerURL,
+                                                                     bean.getGUID(),
+                                                                     commentResponse.getReplyCount(),
+                                                                     maxCacheSize,
+                                                                     restClient);
+                    }
+
+                    /*
+                     * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
+                     */
+                    resultList.add(new CommentConversation(bean, commentReplies));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
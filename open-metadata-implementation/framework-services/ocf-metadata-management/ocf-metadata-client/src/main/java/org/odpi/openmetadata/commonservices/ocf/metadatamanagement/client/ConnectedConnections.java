@@ -130,25 +130,7 @@ public class ConnectedConnections extends Connections
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Connection>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Connection  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -157,4 +139,45 @@ public class ConnectedConnections extends Connections
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of connections that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of connections retrieved from the property server
+     */
+    void setPrefetchedList(List<Connection> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<Connection> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Connection  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -149,25 +149,7 @@ public class ConnectedExternalIdentifiers extends ExternalIdentifiers
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<ExternalIdentifier>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (ExternalIdentifier  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -176,4 +158,45 @@ public class ConnectedExternalIdentifiers extends ExternalIdentifiers
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of external identifiers that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of external identifiers retrieved from the property server
+     */
+    void setPrefetchedList(List<ExternalIdentifier> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<ExternalIdentifier> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (ExternalIdentifier  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
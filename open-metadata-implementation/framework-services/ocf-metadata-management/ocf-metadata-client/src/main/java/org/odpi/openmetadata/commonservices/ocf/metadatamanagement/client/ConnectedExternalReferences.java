@@ -130,25 +130,7 @@ public class ConnectedExternalReferences extends ExternalReferences
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<ExternalReference>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (ExternalReference  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -157,4 +139,45 @@ public class ConnectedExternalReferences extends ExternalReferences
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of external references that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of external references retrieved from the property server
+     */
+    void setPrefetchedList(List<ExternalReference> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<ExternalReference> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (ExternalReference  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -3,7 +3,13 @@
 package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 
 
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.CommentResponse;
 import org.odpi.openmetadata.frameworks.connectors.properties.AssetFeedback;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.InformalTag;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Rating;
+
+import java.util.List;
 
 /**
  * ConnectedFeedback provides the open metadata extension to the Open Connector Framework (OCF)'s AssetFeedback
@@ -93,4 +99,39 @@ public class ConnectedFeedback extends AssetFeedback
                                                            restClient);
         }
     }
+
+
+    /**
+     * Supply the first page of each type of feedback that was retrieved along with the asset.
+     *
+     * @param comments first page of comments
+     * @param likes first page of likes
+     * @param ratings first page of ratings
+     * @param informalTags first page of informal tags
+     */
+    void setPrefetchedLists(List<CommentResponse> comments,
+                            List<Like>            likes,
+                            List<Rating>          ratings,
+                            List<InformalTag>     informalTags)
+    {
+        if (super.comments instanceof ConnectedComments)
+        {
+            ((ConnectedComments) super.comments).setPrefetchedList(comments);
+        }
+
+        if (super.likes instanceof ConnectedLikes)
+        {
+            ((ConnectedLikes) super.likes).setPrefetchedList(likes);
+        }
+
+        if (super.ratings instanceof ConnectedAssetRatings)
+        {
+            ((ConnectedAssetRatings) super.ratings).setPrefetchedList(ratings);
+        }
+
+        if (super.informalTags instanceof ConnectedInformalTags)
+        {
+            ((ConnectedInformalTags) super.informalTags).setPrefetchedList(informalTags);
+        }
+    }
 }
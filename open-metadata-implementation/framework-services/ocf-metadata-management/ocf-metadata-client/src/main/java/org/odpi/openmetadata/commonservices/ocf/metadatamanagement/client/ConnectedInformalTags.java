@@ -132,25 +132,7 @@ public class ConnectedInformalTags extends InformalTags
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<InformalTag>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (InformalTag  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -159,4 +141,45 @@ public class ConnectedInformalTags extends InformalTags
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of informal tags that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of informal tags retrieved from the property server
+     */
+    void setPrefetchedList(List<InformalTag> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<InformalTag> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (InformalTag  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
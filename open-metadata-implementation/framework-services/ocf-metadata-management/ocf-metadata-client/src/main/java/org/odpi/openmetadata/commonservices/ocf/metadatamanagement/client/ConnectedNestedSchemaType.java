@@ -4,6 +4,9 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 
 import org.odpi.openmetadata.frameworks.connectors.properties.NestedSchemaType;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ComplexSchemaType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
+
+import java.util.List;
 
 class ConnectedNestedSchemaType extends NestedSchemaType
 {
@@ -45,4 +48,18 @@ class ConnectedNestedSchemaType extends NestedSchemaType
 
         }
     }
+
+
+    /**
+     * Supply the first page of schema attributes that was retrieved along with the asset.
+     *
+     * @param schemaAttributes first page of schema attributes
+     */
+    void setPrefetchedSchemaAttributes(List<SchemaAttribute> schemaAttributes)
+    {
+        if (super.schemaAttributes instanceof ConnectedSchemaAttributes)
+        {
+            ((ConnectedSchemaAttributes) super.schemaAttributes).setPrefetchedList(schemaAttributes);
+        }
+    }
 }
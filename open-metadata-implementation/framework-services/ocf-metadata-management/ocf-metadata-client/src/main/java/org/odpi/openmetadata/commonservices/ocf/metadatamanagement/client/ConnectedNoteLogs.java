@@ -29,6 +29,7 @@ public class ConnectedNoteLogs extends NoteLogs
     private String                 userId;
     private String                 omasServerURL;
     private String                 assetGUID;
+    private int                    maxCacheSize;
     private OCFRESTClient          restClient;
 
 
@@ -62,6 +63,7 @@ public class ConnectedNoteLogs extends NoteLogs
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
         this.assetGUID       = assetGUID;
+        this.maxCacheSize    = maxCacheSize;
         this.restClient      = restClient;
     }
 
@@ -82,6 +84,7 @@ public class ConnectedNoteLogs extends NoteLogs
             this.userId         = template.userId;
             this.omasServerURL  = template.omasServerURL;
             this.assetGUID      = template.assetGUID;
+            this.maxCacheSize   = template.maxCacheSize;
             this.restClient     = template.restClient;
         }
     }
@@ -131,36 +134,7 @@ public class ConnectedNoteLogs extends NoteLogs
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<NoteLogResponse> noteLogResponses = restResult.getList();
-            if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (NoteLogResponse  noteLogResponse : noteLogResponses)
-                {
-                    if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
-                    {
-                        if (noteLogResponse.getNoteCount() > 0)
-                        {
-                            resultList.add(new NoteLog(noteLogResponse.getNoteLog(),
-                                                       new ConnectedNotes(serviceName,
-                                                                          serverName,
-                                                                          userId,
-                                                                          omasServerURL,
-                                                                          noteLogResponse.getNoteLog().getGUID(),
-                                                                          noteLogResponse.getNoteCount(),
-                                                                          maximumSize,
-                                                                          restClient)));
-                        }
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -169,4 +143,56 @@ public class ConnectedNoteLogs extends NoteLogs
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of note logs that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of note logs retrieved from the property server
+     */
+    void setPrefetchedList(List<NoteLogResponse> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param noteLogResponses beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<NoteLogResponse> noteLogResponses)
+    {
+        if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (NoteLogResponse  noteLogResponse : noteLogResponses)
+            {
+                if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
+                {
+                    if (noteLogResponse.getNoteCount() > 0)
+                    {
+                        resultList.add(new NoteLog(noteLogResponse.getNoteLog(),
+                                                   new ConnectedNotes(serviceName,
+                                                                      serverName,
+                                                                      userId,
+                                                                      omasServerURL,
+                                                                      noteLogResponse.getNoteLog().getGUID(),
+                                                                      noteLogResponse.getNoteCount(),
+                                                                      maxCacheSize,
+                                                                      restClient)));
+                    }
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
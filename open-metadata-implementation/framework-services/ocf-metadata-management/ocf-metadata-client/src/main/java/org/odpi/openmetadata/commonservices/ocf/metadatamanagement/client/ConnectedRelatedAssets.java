@@ -130,31 +130,7 @@ public class ConnectedRelatedAssets extends RelatedAssets
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<RelatedAsset> beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (RelatedAsset  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new ConnectedAssetRelatedAssetProperties(bean,
-                                                                                serviceName,
-                                                                                serverName,
-                                                                                userId,
-                                                                                omasServerURL,
-                                                                                assetGUID,
-                                                                                restClient));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -163,4 +139,51 @@ public class ConnectedRelatedAssets extends RelatedAssets
 
         return null;
     }
+
+
+    /**
+     * Supply the first page of related assets that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of related assets retrieved from the property server
+     */
+    void setPrefetchedList(List<RelatedAsset> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param beans beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<RelatedAsset> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (RelatedAsset  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new ConnectedAssetRelatedAssetProperties(bean,
+                                                                            serviceName,
+                                                                            serverName,
+                                                                            userId,
+                                                                            omasServerURL,
+                                                                            assetGUID,
+                                                                            restClient));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
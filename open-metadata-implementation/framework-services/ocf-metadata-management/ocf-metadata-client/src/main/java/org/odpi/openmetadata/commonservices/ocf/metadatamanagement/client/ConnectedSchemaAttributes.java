@@ -131,32 +131,57 @@ public class ConnectedSchemaAttributes extends SchemaAttributes
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<SchemaAttribute> schemaAttributes = restResult.getList();
-            if ((schemaAttributes == null) || (schemaAttributes.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase> resultList = new ArrayList<>();
+            return this.getElementList(restResult.getList());
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, serverName, omasServerURL);
+        }
 
-                for (SchemaAttribute schemaAttribute : schemaAttributes)
-                {
-                    if (schemaAttribute != null)
-                    {
-                        resultList.add(new SchemaAttribute(schemaAttribute));
-                    }
-                }
+        return null;
+    }
+
+
+    /**
+     * Supply the first page of schema attributes that was retrieved along with the asset.  This saves a call to the
+     * property server when the iterator is first used.
+     *
+     * @param beans first page of schema attributes retrieved from the property server
+     */
+    void setPrefetchedList(List<SchemaAttribute> beans)
+    {
+        super.setPrefetchedElements(this.getElementList(beans));
+    }
+
+
+    /**
+     * Convert the beans returned from the property server into the elements stored in the cache.
+     *
+     * @param schemaAttributes beans returned from the property server
+     * @return list of elements or null if the list is empty
+     */
+    private List<ElementBase> getElementList(List<SchemaAttribute> schemaAttributes)
+    {
+        if ((schemaAttributes == null) || (schemaAttributes.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase> resultList = new ArrayList<>();
 
-                if (! resultList.isEmpty())
+            for (SchemaAttribute schemaAttribute : schemaAttributes)
+            {
+                if (schemaAttribute != null)
                 {
-                    return resultList;
+                    resultList.add(new SchemaAttribute(schemaAttribute));
                 }
             }
-        }
-        catch (Exception error)
-        {
-            restExceptionHandler.handleUnexpectedException(error, methodName, serverName, omasServerURL);
+
+            if (! resultList.isEmpty())
+            {
+                return resultList;
+            }
         }
 
         return null;
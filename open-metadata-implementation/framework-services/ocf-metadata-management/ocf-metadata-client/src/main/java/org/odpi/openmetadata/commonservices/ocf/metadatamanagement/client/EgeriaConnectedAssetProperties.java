@@ -45,6 +45,7 @@ public class EgeriaConnectedAssetProperties extends ConnectedAssetProperties
     private String               connectorInstanceId = null;
     private ConnectionProperties connection          = null;
     private String               assetGUID           = null;
+    private int                  prefetchSize        = 0;
 
 
     private static final Logger log = LoggerFactory.getLogger(EgeriaConnectedAssetProperties.class);
@@ -138,10 +139,37 @@ public class EgeriaConnectedAssetProperties extends ConnectedAssetProperties
             this.connectorInstanceId = template.connectorInstanceId;
             this.omasServerURL       = template.omasServerURL;
             this.assetGUID           = template.assetGUID;
+            this.prefetchSize        = template.prefetchSize;
         }
     }
 
 
+    /**
+     * Return the maximum number of each type of element attached to the asset that is retrieved along with the
+     * asset when refresh() is called.  Zero means these elements are retrieved on demand.
+     *
+     * @return int
+     */
+    public int getPrefetchSize()
+    {
+        return prefetchSize;
+    }
+
+
+    /**
+     * Set up the maximum number of each type of element attached to the asset that is retrieved along with the
+     * asset when refresh() is called.  Prefetching the elements means a caller that uses all the asset's properties
+     * (for example to display the details of the asset) makes one REST call rather than one call per type of element.
+     * Zero (the default) means these elements are retrieved on demand.
+     *
+     * @param prefetchSize int
+     */
+    public void setPrefetchSize(int prefetchSize)
+    {
+        this.prefetchSize = prefetchSize;
+    }
+
+
     /**
      * Request the values in the EgeriaConnectedAssetProperties are refreshed with the current values from the
      * metadata repository.
@@ -170,7 +198,8 @@ public class EgeriaConnectedAssetProperties extends ConnectedAssetProperties
                                                              omasServerURL,
                                                              userId,
                                                              assetGUID,
-                                                             connection.getGUID());
+                                                             connection.getGUID(),
+                                                             prefetchSize);
             }
             else
             {
@@ -179,7 +208,8 @@ public class EgeriaConnectedAssetProperties extends ConnectedAssetProperties
                                                              omasServerURL,
                                                              userId,
                                                              assetGUID,
-                                                             connection.getGUID());
+                                                             connection.getGUID(),
+                                                             prefetchSize);
             }
         }
         catch (UserNotAuthorizedException  error)
@@ -212,6 +242,7 @@ public class EgeriaConnectedAssetProperties extends ConnectedAssetProperties
                 ", connectorInstanceId='" + connectorInstanceId + '\'' +
                 ", connection=" + connection +
                 ", assetGUID='" + assetGUID + '\'' +
+                ", prefetchSize=" + prefetchSize +
                 ", extendedProperties=" + assetProperties +
                 '}';
     }
@@ -274,6 +274,7 @@ public class OCFMetadataRESTServices
      * @param userId     String   userId of user making request.
      * @param assetGUID  String   unique id for asset.
      * @param connectionGUID  unique id for connection used to access asset.
+     * @param response response object to fill in
      * @param methodName calling method
      *
      * @return a bean with the basic properties about the asset or
@@ -288,13 +289,13 @@ public class OCFMetadataRESTServices
                                            String   userId,
                                            String   assetGUID,
                                            String   connectionGUID,
+                                           AssetResponse response,
                                            String   methodName)
     {
         RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
 
         final String assetGUIDParameterName = "assetGUID";
 
-        AssetResponse response = new AssetResponse();
         AuditLog      auditLog = null;
 
         try
@@ -463,7 +464,7 @@ public class OCFMetadataRESTServices
     {
         final String methodName = "getConnectedAssetSummary";
 
-        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, methodName);
+        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, new AssetResponse(), methodName);
     }
 
 
@@ -488,7 +489,110 @@ public class OCFMetadataRESTServices
     {
         final String        methodName = "getAssetSummary";
 
-        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, null, methodName);
+        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, null, new AssetResponse(), methodName);
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each type of element attached
+     * to the asset.  This allows a caller that displays all the information about an asset to retrieve it
+     * in one REST call.  The connection guid (if supplied) allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param maxElements  int      maximum number of each type of attached element to return.
+     *
+     * @return a bean with the basic properties about the asset and its attachments or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getAssetUniverse(String   serverName,
+                                                  String   serviceURLName,
+                                                  String   userId,
+                                                  String   assetGUID,
+                                                  String   connectionGUID,
+                                                  int      maxElements)
+    {
+        final String methodName = "getAssetUniverse";
+
+        AssetUniverseResponse response = new AssetUniverseResponse();
+
+        this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, response, methodName);
+
+        if ((response.getAsset() != null) && (maxElements > 0))
+        {
+            /*
+             * Each type of attached element is retrieved using the same method as the individual REST call.  If one
+             * of these calls fails, its list is left empty and the client retrieves the elements on demand.
+             */
+            if (response.getCertificationCount() > 0)
+            {
+                response.setCertifications(getCertifications(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getCertificationCount(), maxElements)).getList());
+            }
+            if (response.getCommentCount() > 0)
+            {
+                response.setComments(getAssetComments(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getCommentCount(), maxElements)).getList());
+            }
+            if (response.getConnectionCount() > 0)
+            {
+                response.setConnections(getConnections(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getConnectionCount(), maxElements)).getList());
+            }
+            if (response.getExternalIdentifierCount() > 0)
+            {
+                response.setExternalIdentifiers(getExternalIdentifiers(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getExternalIdentifierCount(), maxElements)).getList());
+            }
+            if (response.getExternalReferencesCount() > 0)
+            {
+                response.setExternalReferences(getExternalReferences(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getExternalReferencesCount(), maxElements)).getList());
+            }
+            if (response.getInformalTagCount() > 0)
+            {
+                response.setInformalTags(getInformalTags(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getInformalTagCount(), maxElements)).getList());
+            }
+            if (response.getLicenseCount() > 0)
+            {
+                response.setLicenses(getLicenses(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getLicenseCount(), maxElements)).getList());
+            }
+            if (response.getLikeCount() > 0)
+            {
+                response.setLikes(getLikes(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getLikeCount(), maxElements)).getList());
+            }
+            if (response.getKnownLocationsCount() > 0)
+            {
+                response.setKnownLocations(getKnownLocations(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getKnownLocationsCount(), maxElements)).getList());
+            }
+            if (response.getNoteLogsCount() > 0)
+            {
+                response.setNoteLogs(getNoteLogs(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getNoteLogsCount(), maxElements)).getList());
+            }
+            if (response.getRatingsCount() > 0)
+            {
+                response.setRatings(getRatings(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getRatingsCount(), maxElements)).getList());
+            }
+            if (response.getRelatedAssetCount() > 0)
+            {
+                response.setRelatedAssets(getRelatedAssets(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getRelatedAssetCount(), maxElements)).getList());
+            }
+            if (response.getRelatedMediaReferenceCount() > 0)
+            {
+                response.setRelatedMediaReferences(getRelatedMediaReferences(serverName, serviceURLName, userId, assetGUID, 0, Math.min(response.getRelatedMediaReferenceCount(), maxElements)).getList());
+            }
+            if ((response.getSchemaType() instanceof ComplexSchemaType) && (((ComplexSchemaType) response.getSchemaType()).getAttributeCount() > 0))
+            {
+                ComplexSchemaType schemaType = (ComplexSchemaType) response.getSchemaType();
+
+                response.setSchemaAttributes(getSchemaAttributes(serverName, serviceURLName, userId, schemaType.getGUID(), 0, Math.min(schemaType.getAttributeCount(), maxElements)).getList());
+            }
+        }
+
+        return response;
     }
 
 
@@ -147,10 +147,11 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
                                               "next");
             }
 
-            if (templateIterator.cachedElementStart <= templateIterator.maxCacheSize)
+            if (templateIterator.cachedElementStart - templateIterator.cachedElementPointer == 0)
             {
                 /*
                  * The template's cache starts at the beginning of the total list so ok to copy it.
+                 * (The first cache may be a different size to maxCacheSize if it was prefetched.)
                  */
                 for (ElementBase templateElement : templateIterator.cachedElementList)
                 {
@@ -161,6 +162,36 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
     }
 
 
+    /**
+     * Supply the first elements of the list.  This is used when these elements have been retrieved from the
+     * property (metadata) server along with the parent object, and it saves a call to the property server when
+     * the iterator is first used.  Subsequent elements are retrieved as normal, starting after the supplied elements.
+     * The supplied elements are ignored if the iterator has already been used.
+     *
+     * @param prefetchedElements first elements in the list
+     */
+    void setPrefetchedElements(List<ElementBase> prefetchedElements)
+    {
+        if ((prefetchedElements != null) && (! prefetchedElements.isEmpty()) && (cachedElementStart == 0) && (cachedElementList.isEmpty()))
+        {
+            List<ElementBase> newCache = new ArrayList<>();
+
+            for (ElementBase prefetchedElement : prefetchedElements)
+            {
+                if ((prefetchedElement != null) && (newCache.size() < totalElementCount))
+                {
+                    newCache.add(prefetchedElement);
+                }
+            }
+
+            cachedElementList = newCache;
+            cachedElementPointer = 0;
+
+            log.debug("Prefetched elements: " + newCache.size());
+        }
+    }
+
+
     /**
      * The iterator can only be used once to step through the elements.  This method returns
      * a boolean to indicate if it has got to the end of the list yet.
@@ -65,6 +65,22 @@ public abstract class PropertyIteratorBase extends PropertyBase
     }
 
 
+    /**
+     * Supply the first elements of the list.  This is used by subclasses when these elements have been retrieved
+     * from the property (metadata) server along with the parent object, so they do not need to be retrieved again
+     * when the iterator is first used.
+     *
+     * @param prefetchedElements first elements in the list
+     */
+    protected void setPrefetchedElements(List<ElementBase> prefetchedElements)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.setPrefetchedElements(prefetchedElements);
+        }
+    }
+
+
     /**
      * Method implemented by a subclass that ensures the cloning process is a deep clone.
      *
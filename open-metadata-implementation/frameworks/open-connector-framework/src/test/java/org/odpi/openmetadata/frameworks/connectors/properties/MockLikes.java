@@ -16,6 +16,8 @@ public class MockLikes extends Likes
 {
     private static final long     serialVersionUID = 1L;
 
+    private int cachedListCallCount = 0;
+
     /**
      * Typical Constructor creates an iterator with the supplied list of elements.
      *
@@ -52,6 +54,17 @@ public class MockLikes extends Likes
     }
 
 
+    /**
+     * Return the number of times that getCachedList has been called.
+     *
+     * @return count
+     */
+    public int getCachedListCallCount()
+    {
+        return cachedListCallCount;
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -65,6 +78,8 @@ public class MockLikes extends Likes
         int                            numberOfEntries;
         List<ElementBase>        propertyList = new ArrayList<>();
 
+        cachedListCallCount++;
+
         if (cacheStartPointer + maximumSize > super.pagingIterator.getElementCount())
         {
             numberOfEntries = super.pagingIterator.getElementCount() - cacheStartPointer;
@@ -3,8 +3,13 @@
 package org.odpi.openmetadata.frameworks.connectors.properties;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementBase;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.testng.Assert.assertTrue;
 
 
@@ -118,6 +123,51 @@ public class TestLikes
     }
 
 
+    /**
+     * Validate that prefetched elements are used before any elements are retrieved from the property server.
+     */
+    @Test public void testPrefetchedIterator()
+    {
+        MockLikes         propertyIterator   = new MockLikes(25, 10);
+        List<ElementBase> prefetchedElements = new ArrayList<>();
+
+        for (int i=0; i<5; i++)
+        {
+            prefetchedElements.add(new Like());
+        }
+
+        propertyIterator.setPrefetchedElements(prefetchedElements);
+
+        for (int i=0; i<5; i++)
+        {
+            assertTrue(propertyIterator.next() != null);
+        }
+
+        assertTrue(propertyIterator.getCachedListCallCount() == 0);
+
+        Likes propertyIteratorClone = new MockLikes(propertyIterator);
+
+        int elementCount = 5;
+        while (propertyIterator.hasNext())
+        {
+            assertTrue(propertyIterator.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 25);
+        assertTrue(propertyIterator.getCachedListCallCount() == 2);
+
+        elementCount = 0;
+        while (propertyIteratorClone.hasNext())
+        {
+            assertTrue(propertyIteratorClone.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 25);
+    }
+
+
     /**
      * Validate that element count is set.
      */
@@ -5,10 +5,12 @@ package org.odpi.openmetadata.frameworks.discovery;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
 import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
 import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -194,6 +196,65 @@ public abstract class DiscoveryAnnotationStore
                                                                                     PropertyServerException;
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * This default implementation adds the annotations one at a time.  Implementations that call a remote
+     * metadata server should override it to send the list in one request.
+     *
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            for (Annotation annotation : annotations)
+            {
+                annotationGUIDs.add(this.addAnnotationToDiscoveryReport(annotation));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add a list of new annotations and link them to an existing annotation.
+     * This default implementation adds the annotations one at a time.
+     *
+     * @param parentAnnotationGUID unique identifier of the annotation that the new ones are to be attached to
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToAnnotation(String           parentAnnotationGUID,
+                                                    List<Annotation> annotations) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            for (Annotation annotation : annotations)
+            {
+                annotationGUIDs.add(this.addAnnotationToAnnotation(parentAnnotationGUID, annotation));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
     /**
      * Replace the current properties of an annotation.
      *
@@ -335,6 +396,77 @@ public abstract class DiscoveryAnnotationStore
                                                                                    PropertyServerException;
 
 
+    /**
+     * Add a list of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * This default implementation adds the data fields one at a time.  Implementations that call a remote
+     * metadata server should override it to send the list in one request.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return unique identifiers of the new data fields in the same order as the data fields
+     * @throws InvalidParameterException a dataField is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    public List<String>  addDataFieldsToDiscoveryReport(String          annotationGUID,
+                                                        List<DataField> dataFields) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        List<String> dataFieldGUIDs = new ArrayList<>();
+
+        if (dataFields != null)
+        {
+            for (DataField dataField : dataFields)
+            {
+                dataFieldGUIDs.add(this.addDataFieldToDiscoveryReport(annotationGUID, dataField));
+            }
+        }
+
+        return dataFieldGUIDs;
+    }
+
+
+    /**
+     * Add a list of new annotations, each linked to an existing data field.  The annotation at each position
+     * in the list is linked to the data field at the same position in the list of data field identifiers.
+     * This default implementation adds the annotations one at a time.
+     *
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the parameters is invalid, or the lists are different lengths
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving the annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToDataFields(List<String>     parentDataFieldGUIDs,
+                                                    List<Annotation> annotations) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        final String methodName = "addAnnotationsToDataFields";
+        final String parameterName = "parentDataFieldGUIDs";
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if ((parentDataFieldGUIDs == null) || (annotations == null) || (parentDataFieldGUIDs.size() != annotations.size()))
+        {
+            throw new InvalidParameterException(ODFErrorCode.MISMATCHED_LIST_SIZES.getMessageDefinition(methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+
+        for (int i = 0; i < annotations.size(); i++)
+        {
+            annotationGUIDs.add(this.addAnnotationToDataField(parentDataFieldGUIDs.get(i), annotations.get(i)));
+        }
+
+        return annotationGUIDs;
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
@@ -56,6 +56,10 @@ public enum ODFErrorCode implements ExceptionMessageSet
             "Invalid connector for asset {0}.  Error message was {1}.  The connection was {2}",
             "The discovery service is not able to analyze the asset.",
             "This may be a configuration or a code error.  Look for other error messages and review the code of the connector.  Once the cause is resolved, retry the discovery request."),
+    MISMATCHED_LIST_SIZES(400, "ODF-DISCOVERY-SERVICE-400-008 ",
+            "The lists of parent identifiers and new elements passed to method {0} are missing or have different lengths",
+            "The discovery service is not able to link each new element to its parent.",
+            "This is a coding error in the discovery service.  Pass one parent identifier for each new element."),
 
     UNEXPECTED_EXCEPTION(500, "ODF-DISCOVERY-SERVICE-500-001 ",
             "Unexpected exception in discovery service {0} of type {1} detected by method {2}.  The error message was {3}",
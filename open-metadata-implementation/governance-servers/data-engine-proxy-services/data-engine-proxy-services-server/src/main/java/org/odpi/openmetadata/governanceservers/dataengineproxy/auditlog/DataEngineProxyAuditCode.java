@@ -71,6 +71,12 @@ public enum DataEngineProxyAuditCode implements AuditLogMessageSet {
             "The Data Engine Proxy processing interrupted due to runtime error.",
             "The system was unable to complete processing because the sub-system error. System will attempt to retry the process if possible.",
             "Check diagnostic message from audit log to determine the cause if the problem persists."),
+    BATCH_ELEMENT_FAILED("DATA-ENGINE-PROXY-0015",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Data Engine Proxy could not store the {0} {1} sent in a batch: {2}",
+            "The rest of the batch was stored.  The element is sent again if the error is recoverable, otherwise the synchronization stops " +
+                    "before the changes of the batch are recorded as synchronized.",
+            "Review the error message to determine the cause of the problem, correct it and restart the Data Engine Proxy if it stopped."),
 
     ;
 
@@ -50,6 +50,10 @@ public enum DataEngineProxyErrorCode implements ExceptionMessageSet {
             "An unknown error occurred",
             "The system is unable to process the operation due to an unknown runtime error.",
             "Check your OMAS configuration and server logs to troubleshoot."),
+    BATCH_ELEMENTS_REJECTED(500, "DATA-ENGINE-PROXY-500-009",
+            "Data Engine OMAS rejected {0} elements of the changes up to {1}",
+            "The synchronization stops so that the rejected changes are not recorded as synchronized.",
+            "Review the audit log messages about the elements that failed, correct the problem and restart the Data Engine Proxy."),
     ;
 
     private ExceptionMessageDefinition messageDefinition;
@@ -0,0 +1,118 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.dataengineproxy.processor;
+
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFile;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
+import org.odpi.openmetadata.accessservices.dataengine.model.Database;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.ProcessHierarchy;
+import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The changes of one polling window arranged in the shape they are sent to Data Engine OMAS: the databases and
+ * database schemas that are created one by one, the elements of the batch and the process hierarchies that are
+ * added once the processes exist.
+ */
+class DataEngineChangeBatch {
+
+    private final Date changesCutoff;
+    private final List<Database> databases = new ArrayList<>();
+    private final List<Database> databaseSchemas = new ArrayList<>();
+    private final List<SchemaType> schemaTypes = new ArrayList<>();
+    private final List<DataFile> dataFiles = new ArrayList<>();
+    private final Map<String, List<RelationalTable>> relationalTables = new LinkedHashMap<>();
+    private final List<Process> processes = new ArrayList<>();
+    private final List<ProcessHierarchy> processHierarchies = new ArrayList<>();
+    private final List<DataFlow> dataFlows = new ArrayList<>();
+    private int rejectedElementCount = 0;
+
+    /**
+     * Default constructor
+     *
+     * @param changesCutoff the date and time up to which the changes were read
+     */
+    DataEngineChangeBatch(Date changesCutoff) {
+        this.changesCutoff = changesCutoff;
+    }
+
+    Date getChangesCutoff() {
+        return changesCutoff;
+    }
+
+    /**
+     * Returns the incomplete databases, created together with their database schema and relational table
+     *
+     * @return list of databases
+     */
+    List<Database> getDatabases() {
+        return databases;
+    }
+
+    /**
+     * Returns the databases whose database schema is incomplete and must be created before their relational table
+     *
+     * @return list of databases
+     */
+    List<Database> getDatabaseSchemas() {
+        return databaseSchemas;
+    }
+
+    List<SchemaType> getSchemaTypes() {
+        return schemaTypes;
+    }
+
+    List<DataFile> getDataFiles() {
+        return dataFiles;
+    }
+
+    /**
+     * Returns the relational tables keyed by the qualified name of their database schema
+     *
+     * @return relational tables
+     */
+    Map<String, List<RelationalTable>> getRelationalTables() {
+        return relationalTables;
+    }
+
+    List<Process> getProcesses() {
+        return processes;
+    }
+
+    List<ProcessHierarchy> getProcessHierarchies() {
+        return processHierarchies;
+    }
+
+    List<DataFlow> getDataFlows() {
+        return dataFlows;
+    }
+
+    /**
+     * Indicates whether the batch holds any element to send in a single batch call
+     *
+     * @return true if there is nothing to send in the batch call
+     */
+    boolean isBatchEmpty() {
+        return schemaTypes.isEmpty() && dataFiles.isEmpty() && relationalTables.isEmpty() && processes.isEmpty() && dataFlows.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements that Data Engine OMAS rejected with an error that is not recoverable
+     *
+     * @return count of rejected elements
+     */
+    int getRejectedElementCount() {
+        return rejectedElementCount;
+    }
+
+    void addRejectedElement() {
+        rejectedElementCount++;
+    }
+}
@@ -0,0 +1,78 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.dataengineproxy.processor;
+
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.ProcessHierarchy;
+import org.odpi.openmetadata.accessservices.dataengine.model.Referenceable;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The changes read from a Data Engine connector for one polling window, as returned by the connector.
+ */
+class DataEngineChanges {
+
+    private final Date changesCutoff;
+    private List<SchemaType> schemaTypes;
+    private List<? super Referenceable> dataStores;
+    private List<Process> processes;
+    private List<ProcessHierarchy> processHierarchies;
+    private List<DataFlow> dataFlows;
+
+    /**
+     * Default constructor
+     *
+     * @param changesCutoff the date and time up to which the changes were read
+     */
+    DataEngineChanges(Date changesCutoff) {
+        this.changesCutoff = changesCutoff;
+    }
+
+    Date getChangesCutoff() {
+        return changesCutoff;
+    }
+
+    List<SchemaType> getSchemaTypes() {
+        return schemaTypes;
+    }
+
+    void setSchemaTypes(List<SchemaType> schemaTypes) {
+        this.schemaTypes = schemaTypes;
+    }
+
+    List<? super Referenceable> getDataStores() {
+        return dataStores;
+    }
+
+    void setDataStores(List<? super Referenceable> dataStores) {
+        this.dataStores = dataStores;
+    }
+
+    List<Process> getProcesses() {
+        return processes;
+    }
+
+    void setProcesses(List<Process> processes) {
+        this.processes = processes;
+    }
+
+    List<ProcessHierarchy> getProcessHierarchies() {
+        return processHierarchies;
+    }
+
+    void setProcessHierarchies(List<ProcessHierarchy> processHierarchies) {
+        this.processHierarchies = processHierarchies;
+    }
+
+    List<DataFlow> getDataFlows() {
+        return dataFlows;
+    }
+
+    void setDataFlows(List<DataFlow> dataFlows) {
+        this.dataFlows = dataFlows;
+    }
+}
@@ -10,9 +10,10 @@ import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
 import org.odpi.openmetadata.accessservices.dataengine.model.Database;
 import org.odpi.openmetadata.accessservices.dataengine.model.Process;
 import org.odpi.openmetadata.accessservices.dataengine.model.ProcessHierarchy;
-import org.odpi.openmetadata.accessservices.dataengine.model.Referenceable;
-import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Engine;
+import org.odpi.openmetadata.accessservices.dataengine.model.Referenceable;
+import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
 import org.odpi.openmetadata.adminservices.configuration.properties.DataEngineProxyConfig;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -25,18 +26,41 @@ import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEn
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Class to handle periodically polling a Data Engine for changes, for those data engines that do not
  * provide any event-based mechanism to notify on changes.
+ * <p>
+ * Polling runs as a pipeline of three stages connected by bounded queues: the polling thread reads the changes of
+ * each batch window from the connector, a transform stage arranges them into a batch, and a send stage pushes the
+ * batch into Data Engine OMAS.  The connector can read the next window while the previous one is being sent, and
+ * the time at which changes were last synced is only persisted once every element of the batch covering it has been
+ * stored.
  */
 public class DataEngineProxyService implements Runnable {
 
+    private static final int PIPELINE_QUEUE_CAPACITY = 2;
+    private static final long PIPELINE_QUEUE_TIMEOUT_IN_SECONDS = 1;
+    private static final String TRANSFORM_STAGE = "-transform";
+    private static final String SEND_STAGE = "-send";
+    private static final String SCHEMA_TYPES = "SchemaTypes";
+    private static final String DATA_STORES = "DataStores";
+    private static final String PROCESSES = "Processes";
+    private static final String PROCESS_HIERARCHIES = "ProcessHierarchies";
+    private static final String DATA_FLOWS = "DataFlows";
+    private static final String DATA_FLOW_NAME = "%s -> %s";
+
     private final OMRSAuditLog auditLog;
     private final DataEngineProxyConfig dataEngineProxyConfig;
     private final DataEngineClient dataEngineOMASClient;
@@ -44,6 +68,8 @@ public class DataEngineProxyService implements Runnable {
     private final String userId;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final BlockingQueue<DataEngineChanges> polledChanges = new ArrayBlockingQueue<>(PIPELINE_QUEUE_CAPACITY);
+    private final BlockingQueue<DataEngineChangeBatch> transformedChanges = new ArrayBlockingQueue<>(PIPELINE_QUEUE_CAPACITY);
 
     public void initialize() throws ConnectorCheckedException, UserNotAuthorizedException, InvalidParameterException, PropertyServerException {
 
@@ -98,17 +124,27 @@ public class DataEngineProxyService implements Runnable {
         final String methodName = "ProcessPollThread::run";
 
         running.set(true);
+        startStage(this::transformChanges, TRANSFORM_STAGE);
+        startStage(this::sendChanges, SEND_STAGE);
+
+        Date changesLastPolled = null;
+        boolean changesLastPolledLoaded = false;
         while (running.get()) {
             try {
-                // Start with the last change synchronization date and time
-                Date changesLastSynced = connector.getChangesLastSynced();
+                // Start with the last change synchronization date and time, the later polls continue from the previous
+                // cutoff as the changes up to it are already in the pipeline
+                if (!changesLastPolledLoaded) {
+                    changesLastPolled = connector.getChangesLastSynced();
+                    changesLastPolledLoaded = true;
+                }
 
                 // Then look for the oldest change available in the Data Engine since that time
-                Date oldestSinceSync = connector.getOldestChangeSince(changesLastSynced);
+                Date oldestSinceSync = connector.getOldestChangeSince(changesLastPolled);
                 Date changesCutoff = new Date();
+                boolean caughtUp = true;
                 if (oldestSinceSync == null) {
                     // If there were no changes since the last sync time, default to the last sync time
-                    oldestSinceSync = changesLastSynced;
+                    oldestSinceSync = changesLastPolled;
                 } else {
                     // If there are any changes since that last sync time, calculate a batch window from that oldest
                     // change to the maximum amount of time to include in a batch
@@ -116,35 +152,33 @@ public class DataEngineProxyService implements Runnable {
                     long now = changesCutoff.getTime();
                     // We will look for changes up to that batch window size or the current moment, whichever is sooner
                     changesCutoff = new Date(Math.min(window, now));
+                    caughtUp = window >= now;
                 }
 
-                ensureSourceNameIsSet();
-
                 this.auditLog.logMessage(methodName,
                         DataEngineProxyAuditCode.POLLING.getMessageDefinition(
                                 oldestSinceSync == null ? "0" : oldestSinceSync.toString(),
                                 changesCutoff.toString()
                         ));
 
-                // Send the changes, and ordering here is important
-                upsertSchemaTypes(oldestSinceSync, changesCutoff);
-                upsertDataStores(oldestSinceSync, changesCutoff);
-                upsertProcesses(oldestSinceSync, changesCutoff);
-                upsertProcessHierarchies(oldestSinceSync, changesCutoff);
-                upsertDataFlows(oldestSinceSync, changesCutoff);
-
-                // Update the timestamp at which changes were last synced
-                connector.setChangesLastSynced(changesCutoff);
+                if (!put(polledChanges, pollChanges(oldestSinceSync, changesCutoff))) {
+                    break;
+                }
+                changesLastPolled = changesCutoff;
 
-                // Sleep for the poll interval before continuing with the next poll
-                sleep();
+                // Sleep for the poll interval before continuing with the next poll, unless the batch window left
+                // changes behind
+                if (caughtUp) {
+                    sleep();
+                }
             } catch (PropertyServerException e) {
                 // Potentially recoverable error. Retry.
                 this.auditLog.logException(methodName, DataEngineProxyAuditCode.RUNTIME_EXCEPTION.getMessageDefinition(), e);
                 sleep();
-            } catch (UserNotAuthorizedException | InvalidParameterException | ConnectorCheckedException e) {
+            } catch (ConnectorCheckedException e) {
                 // Interrupt processing and propagate runtime error.
                 this.auditLog.logException(methodName, DataEngineProxyAuditCode.RUNTIME_EXCEPTION.getMessageDefinition(), e);
+                stop();
                 throw new OCFRuntimeException(DataEngineProxyErrorCode.UNKNOWN_ERROR.getMessageDefinition(), this.getClass().getName(), methodName, e);
             }
         }
@@ -157,11 +191,7 @@ public class DataEngineProxyService implements Runnable {
         try {
 
             ensureSourceNameIsSet();
-            upsertSchemaTypes(now, now);
-            upsertDataStores(now, now);
-            upsertProcesses(now, now);
-            upsertProcessHierarchies(now, now);
-            upsertDataFlows(now, now);
+            send(transform(pollChanges(now, now)));
 
             upsertProcessingState(now);
 
@@ -210,128 +240,322 @@ public class DataEngineProxyService implements Runnable {
         }
     }
 
-    private void upsertSchemaTypes(Date changesLastSynced,
-                                   Date changesCutoff) throws
-            InvalidParameterException,
-            PropertyServerException,
-            UserNotAuthorizedException,
-            ConnectorCheckedException {
-        String methodName = "upsertSchemaTypes";
-        String type = "SchemaTypes";
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
-        List<SchemaType> changedSchemaTypes = connector.getChangedSchemaTypes(changesLastSynced, changesCutoff);
-        if (changedSchemaTypes != null) {
-            for (SchemaType changedSchemaType : changedSchemaTypes) {
-                dataEngineOMASClient.createOrUpdateSchemaType(userId, changedSchemaType);
+    /**
+     * Start a pipeline stage on its own thread.
+     *
+     * @param stage     the stage to run until the service is stopped
+     * @param stageName suffix of the thread name
+     */
+    private void startStage(Runnable stage, String stageName) {
+        Thread worker = new Thread(stage);
+        worker.setName(DataEngineProxyService.class.getName() + stageName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Hand an element to the next pipeline stage, waiting while its queue is full.
+     *
+     * @param queue   the queue of the next stage
+     * @param element the element to hand over
+     * @return false if the service was stopped before the element could be handed over
+     */
+    private <T> boolean put(BlockingQueue<T> queue, T element) {
+        try {
+            while (running.get()) {
+                if (queue.offer(element, PIPELINE_QUEUE_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                    return true;
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop();
         }
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+        return false;
     }
 
-    private void upsertDataStores(Date changesLastSynced,
-                                  Date changesCutoff) throws
-            InvalidParameterException,
+    /**
+     * Take the next element handed over by the previous pipeline stage, waiting while its queue is empty.
+     *
+     * @param queue the queue of this stage
+     * @return the next element, or null if the service was stopped
+     */
+    private <T> T take(BlockingQueue<T> queue) {
+        try {
+            while (running.get()) {
+                T element = queue.poll(PIPELINE_QUEUE_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+                if (element != null) {
+                    return element;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop();
+        }
+        return null;
+    }
+
+    /**
+     * Transform stage: arrange the polled changes into batches.
+     */
+    private void transformChanges() {
+        DataEngineChanges changes;
+        while ((changes = take(polledChanges)) != null) {
+            if (!put(transformedChanges, transform(changes))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Send stage: push the batches into Data Engine OMAS, in the order they were polled, and persist the time at which
+     * changes were last synced once every element of a batch has been stored.  The elements that failed with a
+     * recoverable error are sent again, and an element rejected for any other reason stops the polling.
+     */
+    private void sendChanges() {
+        final String methodName = "sendChanges";
+
+        DataEngineChangeBatch batch;
+        while ((batch = take(transformedChanges)) != null) {
+            boolean sent = false;
+            while (!sent && running.get()) {
+                try {
+                    ensureSourceNameIsSet();
+                    DataEngineChangeBatch failedElements = send(batch);
+
+                    if (failedElements.getRejectedElementCount() > 0) {
+                        stop();
+                        throw new OCFRuntimeException(DataEngineProxyErrorCode.BATCH_ELEMENTS_REJECTED.getMessageDefinition(
+                                String.valueOf(failedElements.getRejectedElementCount()), batch.getChangesCutoff().toString()),
+                                this.getClass().getName(), methodName);
+                    }
+                    if (!failedElements.isBatchEmpty()) {
+                        // Potentially recoverable errors. Retry the failed elements without moving past them.
+                        batch = failedElements;
+                        sleep();
+                        continue;
+                    }
+
+                    // Update the timestamp at which changes were last synced
+                    connector.setChangesLastSynced(batch.getChangesCutoff());
+                    sent = true;
+                } catch (PropertyServerException e) {
+                    // Potentially recoverable error. Retry the same batch.
+                    this.auditLog.logException(methodName, DataEngineProxyAuditCode.RUNTIME_EXCEPTION.getMessageDefinition(), e);
+                    sleep();
+                } catch (UserNotAuthorizedException | InvalidParameterException | ConnectorCheckedException e) {
+                    // Interrupt processing and propagate runtime error.
+                    this.auditLog.logException(methodName, DataEngineProxyAuditCode.RUNTIME_EXCEPTION.getMessageDefinition(), e);
+                    stop();
+                    throw new OCFRuntimeException(DataEngineProxyErrorCode.UNKNOWN_ERROR.getMessageDefinition(), this.getClass().getName(), methodName, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the changes between the dates and times provided from the connector.
+     *
+     * @param changesLastSynced the date and time from which to look for changes (exclusive)
+     * @param changesCutoff     the date and time up to which to look for changes (inclusive)
+     * @return the changes
+     */
+    private DataEngineChanges pollChanges(Date changesLastSynced,
+                                          Date changesCutoff) throws
             PropertyServerException,
-            UserNotAuthorizedException,
             ConnectorCheckedException {
-        String methodName = "upsertDataStores";
-        String type = "DataStores";
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
+        String methodName = "pollChanges";
+        DataEngineChanges changes = new DataEngineChanges(changesCutoff);
+
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(SCHEMA_TYPES));
+        changes.setSchemaTypes(connector.getChangedSchemaTypes(changesLastSynced, changesCutoff));
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(SCHEMA_TYPES));
+
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(DATA_STORES));
         // get  list of incomplete relational tables & data files
-        List<? super Referenceable> changedDataStores = connector.getChangedDataStores(changesLastSynced, changesCutoff);
-        if (CollectionUtils.isNotEmpty(changedDataStores)) {
-            for (Object changedDataStore : changedDataStores) {
+        changes.setDataStores(connector.getChangedDataStores(changesLastSynced, changesCutoff));
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(DATA_STORES));
+
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(PROCESSES));
+        changes.setProcesses(connector.getChangedProcesses(changesLastSynced, changesCutoff));
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(PROCESSES));
+
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(PROCESS_HIERARCHIES));
+        changes.setProcessHierarchies(connector.getChangedProcessHierarchies(changesLastSynced, changesCutoff));
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(PROCESS_HIERARCHIES));
+
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(DATA_FLOWS));
+        changes.setDataFlows(connector.getChangedDataFlows(changesLastSynced, changesCutoff));
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(DATA_FLOWS));
+
+        return changes;
+    }
+
+    /**
+     * Arrange the changes read from the connector into a batch.
+     *
+     * @param changes the changes read from the connector
+     * @return the batch to send
+     */
+    private DataEngineChangeBatch transform(DataEngineChanges changes) {
+        DataEngineChangeBatch batch = new DataEngineChangeBatch(changes.getChangesCutoff());
+
+        addAll(batch.getSchemaTypes(), changes.getSchemaTypes());
+
+        if (CollectionUtils.isNotEmpty(changes.getDataStores())) {
+            for (Object changedDataStore : changes.getDataStores()) {
                 if (changedDataStore instanceof DataFile) {
-                    dataEngineOMASClient.upsertDataFile(userId, (DataFile) changedDataStore);
+                    batch.getDataFiles().add((DataFile) changedDataStore);
                 }
                 if (changedDataStore instanceof Database) {
                     Database database = (Database) changedDataStore;
                     // create the database only if it's incomplete
                     // will also create database schemas and relational table
                     if (database.getIncomplete()) {
-                        dataEngineOMASClient.upsertDatabase(userId, database);
+                        batch.getDatabases().add(database);
                     } else {
                         // create the database schema only if it's incomplete
                         if (database.getDatabaseSchema().getIncomplete()) {
-                            dataEngineOMASClient.upsertDatabaseSchema(userId, database.getDatabaseSchema(), database.getQualifiedName());
+                            batch.getDatabaseSchemas().add(database);
                         }
                         // create the table separately if the database was not created
-                        dataEngineOMASClient.upsertRelationalTable(userId, database.getTables().get(0),
-                                database.getDatabaseSchema().getQualifiedName());
+                        batch.getRelationalTables().computeIfAbsent(database.getDatabaseSchema().getQualifiedName(),
+                                k -> new ArrayList<>()).add(database.getTables().get(0));
                     }
                 }
             }
         }
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
-    }
 
-    private void upsertProcesses(Date changesLastSynced,
-                                 Date changesCutoff) throws
-            InvalidParameterException,
-            PropertyServerException,
-            UserNotAuthorizedException,
-            ConnectorCheckedException {
-        String methodName = "upsertProcesses";
-        String type = "Processes";
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
-        List<Process> changedProcesses = connector.getChangedProcesses(changesLastSynced, changesCutoff);
-        if (changedProcesses != null && !changedProcesses.isEmpty()) {
-            for (Process changedProcess : changedProcesses) {
-                // We split up the process details (1) and data flows (2) into separate calls to achieve optimal processing in DE OMAS.
-                // (1) Send process details
-                dataEngineOMASClient.createOrUpdateProcess(userId, changedProcess);
-
-                List<DataFlow> dataFlows = changedProcess.getDataFlows();
-                if (dataFlows != null) {
-                    // (2) Send data flows
-                    dataEngineOMASClient.addDataFlows(userId, dataFlows);
-                }
+        if (CollectionUtils.isNotEmpty(changes.getProcesses())) {
+            for (Process changedProcess : changes.getProcesses()) {
+                // The process details and their data flows are sent in separate phases of the batch to achieve optimal
+                // processing in DE OMAS
+                batch.getProcesses().add(changedProcess);
+                addAll(batch.getDataFlows(), changedProcess.getDataFlows());
             }
-
         }
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+
+        addAll(batch.getProcessHierarchies(), changes.getProcessHierarchies());
+        addAll(batch.getDataFlows(), changes.getDataFlows());
+
+        return batch;
     }
 
-    private void upsertProcessHierarchies(Date changesLastSynced,
-                                          Date changesCutoff) throws
+    /**
+     * Send a batch to Data Engine OMAS in the order the changes were polled: first the incomplete databases and
+     * database schemas, then the schema types, data stores and processes in a batch call, the process hierarchies
+     * between the processes, and finally the data flows in a second batch call.  When there are no process
+     * hierarchies, the data flows are sent in the first batch call.
+     *
+     * @param batch the batch to send
+     * @return the elements of the batch calls that Data Engine OMAS could not store
+     */
+    private DataEngineChangeBatch send(DataEngineChangeBatch batch) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
             ConnectorCheckedException {
-        String methodName = "upsertProcessHierarchies";
-        String type = "ProcessHierarchies";
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
-        List<ProcessHierarchy> changedProcessHierarchies = connector.getChangedProcessHierarchies(changesLastSynced, changesCutoff);
-        if (changedProcessHierarchies != null) {
-            for (ProcessHierarchy changedProcessHierarchy : changedProcessHierarchies) {
-                dataEngineOMASClient.addProcessHierarchy(userId, changedProcessHierarchy);
+        DataEngineChangeBatch failedElements = new DataEngineChangeBatch(batch.getChangesCutoff());
+
+        for (Database database : batch.getDatabases()) {
+            dataEngineOMASClient.upsertDatabase(userId, database);
+        }
+        for (Database database : batch.getDatabaseSchemas()) {
+            dataEngineOMASClient.upsertDatabaseSchema(userId, database.getDatabaseSchema(), database.getQualifiedName());
+        }
+
+        if (batch.getProcessHierarchies().isEmpty()) {
+            upsertBatch(batch, batch.getDataFlows(), failedElements);
+        } else {
+            upsertBatch(batch, Collections.emptyList(), failedElements);
+            for (ProcessHierarchy processHierarchy : batch.getProcessHierarchies()) {
+                dataEngineOMASClient.addProcessHierarchy(userId, processHierarchy);
+            }
+            if (!batch.getDataFlows().isEmpty()) {
+                DataEngineChangeBatch dataFlows = new DataEngineChangeBatch(batch.getChangesCutoff());
+                dataFlows.getDataFlows().addAll(batch.getDataFlows());
+                upsertBatch(dataFlows, dataFlows.getDataFlows(), failedElements);
             }
         }
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+
+        return failedElements;
     }
 
-    private void upsertDataFlows(Date changesLastSynced,
-                                 Date changesCutoff) throws
+    /**
+     * Send the schema types, data stores and processes of a batch, with the data flows provided, in a single batch
+     * call, and collect the elements that failed.
+     *
+     * @param batch          the batch to send
+     * @param dataFlows      the data flows to send in the same call
+     * @param failedElements collects the elements that failed with a recoverable error and counts the others
+     */
+    private void upsertBatch(DataEngineChangeBatch batch,
+                             List<DataFlow> dataFlows,
+                             DataEngineChangeBatch failedElements) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
             ConnectorCheckedException {
-        String methodName = "upsertDataFlows";
-        String type = "DataFlows";
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
-        List<DataFlow> changedDataFlows = connector.getChangedDataFlows(changesLastSynced, changesCutoff);
-        if (CollectionUtils.isNotEmpty(changedDataFlows)) {
-            if (dataEngineProxyConfig.isEventsClientEnabled()) {
-                for (DataFlow changedDataFlow : changedDataFlows) {
-                    // If we are using the event-based interface, send the data flows one-by-one rather than as
-                    // an array
-                    dataEngineOMASClient.addDataFlows(userId, Collections.singletonList(changedDataFlow));
+        final String methodName = "upsertBatch";
+
+        if (batch.getSchemaTypes().isEmpty() && batch.getDataFiles().isEmpty() && batch.getRelationalTables().isEmpty()
+                && batch.getProcesses().isEmpty() && dataFlows.isEmpty()) {
+            return;
+        }
+
+        List<BatchElementResponse> elementResponses = dataEngineOMASClient.upsertBatch(userId,
+                batch.getSchemaTypes(),
+                batch.getDataFiles(),
+                batch.getRelationalTables(),
+                batch.getProcesses(),
+                dataFlows);
+
+        if (elementResponses == null) {
+            return;
+        }
+        for (BatchElementResponse elementResponse : elementResponses) {
+            if (elementResponse.getExceptionClassName() == null) {
+                continue;
+            }
+            auditLog.logMessage(methodName, DataEngineProxyAuditCode.BATCH_ELEMENT_FAILED.getMessageDefinition(
+                    elementResponse.getTypeName(), elementResponse.getQualifiedName(), elementResponse.getExceptionErrorMessage()));
+
+            if (PropertyServerException.class.getName().equals(elementResponse.getExceptionClassName())) {
+                String qualifiedName = elementResponse.getQualifiedName();
+                addMatching(failedElements.getSchemaTypes(), batch.getSchemaTypes(), qualifiedName);
+                addMatching(failedElements.getDataFiles(), batch.getDataFiles(), qualifiedName);
+                addMatching(failedElements.getProcesses(), batch.getProcesses(), qualifiedName);
+                batch.getRelationalTables().forEach((databaseSchemaQualifiedName, relationalTables) -> {
+                    for (RelationalTable relationalTable : relationalTables) {
+                        if (Objects.equals(qualifiedName, relationalTable.getQualifiedName())) {
+                            failedElements.getRelationalTables().computeIfAbsent(databaseSchemaQualifiedName,
+                                    k -> new ArrayList<>()).add(relationalTable);
+                        }
+                    }
+                });
+                for (DataFlow dataFlow : dataFlows) {
+                    if (Objects.equals(qualifiedName, String.format(DATA_FLOW_NAME, dataFlow.getDataSupplier(), dataFlow.getDataConsumer()))) {
+                        failedElements.getDataFlows().add(dataFlow);
+                    }
                 }
             } else {
-                dataEngineOMASClient.addDataFlows(userId, changedDataFlows);
+                failedElements.addRejectedElement();
             }
         }
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+    }
+
+    private <T extends Referenceable> void addMatching(Collection<T> target, Collection<T> elements, String qualifiedName) {
+        for (T element : elements) {
+            if (Objects.equals(qualifiedName, element.getQualifiedName())) {
+                target.add(element);
+            }
+        }
+    }
+
+    private <T> void addAll(Collection<T> target, Collection<? extends T> elements) {
+        if (elements != null) {
+            target.addAll(elements);
+        }
     }
 
 }
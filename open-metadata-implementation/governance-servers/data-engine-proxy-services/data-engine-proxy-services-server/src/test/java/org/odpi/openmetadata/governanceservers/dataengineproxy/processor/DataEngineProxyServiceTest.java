@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.dataengineproxy.processor;
+
+import org.odpi.openmetadata.accessservices.dataengine.client.DataEngineClient;
+import org.odpi.openmetadata.accessservices.dataengine.model.DataFlow;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.ProcessHierarchy;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BatchElementResponse;
+import org.odpi.openmetadata.adminservices.configuration.properties.DataEngineProxyConfig;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEngineConnectorBase;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Verify that the polling pipeline of the DataEngineProxyService sends the changes in the order they were polled and
+ * only records them as synchronized once every element has been stored.
+ */
+public class DataEngineProxyServiceTest
+{
+    private static final String USER_ID = "proxyUser";
+    private static final String SYNCED  = "synced";
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+    private DataEngineConnectorBase connector;
+    private DataEngineClient        dataEngineClient;
+    private DataEngineProxyService  proxyService;
+    private Process                 process;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        calls.clear();
+
+        process = new Process();
+        process.setQualifiedName("process");
+
+        connector = mock(DataEngineConnectorBase.class);
+        when(connector.getChangedProcesses(any(), any())).thenReturn(Collections.singletonList(process), Collections.emptyList());
+        doAnswer(invocation -> calls.add(SYNCED)).when(connector).setChangesLastSynced(any(Date.class));
+
+        dataEngineClient = mock(DataEngineClient.class);
+        when(dataEngineClient.getExternalSourceName()).thenReturn("engine");
+
+        DataEngineProxyConfig proxyConfig = new DataEngineProxyConfig();
+        proxyConfig.setPollIntervalInSeconds(1);
+
+        proxyService = new DataEngineProxyService(connector, USER_ID, proxyConfig, dataEngineClient, mock(OMRSAuditLog.class));
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        proxyService.stop();
+    }
+
+
+    /**
+     * The process hierarchies are added after the processes and before the data flows, and the changes are recorded
+     * as synchronized once all of them are sent.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testChangesSentInPollingOrder() throws Exception
+    {
+        ProcessHierarchy processHierarchy = new ProcessHierarchy();
+        DataFlow         dataFlow         = new DataFlow();
+        dataFlow.setDataSupplier("supplier");
+        dataFlow.setDataConsumer("consumer");
+
+        when(connector.getChangedProcessHierarchies(any(), any())).thenReturn(Collections.singletonList(processHierarchy),
+                                                                             Collections.emptyList());
+        when(connector.getChangedDataFlows(any(), any())).thenReturn(Collections.singletonList(dataFlow), Collections.emptyList());
+        recordBatchCalls(Collections.emptyList());
+        doAnswer(invocation -> {
+            calls.add("hierarchy");
+            return "processGUID";
+        }).when(dataEngineClient).addProcessHierarchy(USER_ID, processHierarchy);
+
+        startPolling();
+
+        assertEquals(firstCalls(4), List.of("batch:1/0", "hierarchy", "batch:0/1", SYNCED));
+    }
+
+
+    /**
+     * An element that failed with a recoverable error is sent again before the changes are recorded as synchronized.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testRecoverableElementFailureIsRetried() throws Exception
+    {
+        recordBatchCalls(Collections.singletonList(getFailure(PropertyServerException.class.getName())), Collections.emptyList());
+
+        startPolling();
+
+        assertEquals(firstCalls(3), List.of("batch:1/0", "batch:1/0", SYNCED));
+    }
+
+
+    /**
+     * An element rejected with an error that is not recoverable stops the polling without recording the changes as
+     * synchronized.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testRejectedElementStopsPolling() throws Exception
+    {
+        recordBatchCalls(Collections.singletonList(getFailure(InvalidParameterException.class.getName())));
+
+        Thread poller = startPolling();
+        poller.join(10000);
+
+        assertEquals(calls, List.of("batch:1/0"));
+        verify(connector, never()).setChangesLastSynced(any(Date.class));
+    }
+
+
+    /**
+     * Start the polling thread and wait for the first batch to be sent.
+     *
+     * @return polling thread
+     * @throws Exception problem with the test
+     */
+    private Thread startPolling() throws Exception
+    {
+        Thread poller = new Thread(proxyService);
+        poller.setDaemon(true);
+        poller.start();
+
+        verify(dataEngineClient, timeout(10000)).upsertBatch(eq(USER_ID), anyList(), anyList(), anyMap(),
+                                                             eq(Collections.singletonList(process)), anyList());
+
+        return poller;
+    }
+
+
+    /**
+     * Wait for the first calls to be made and return them.
+     *
+     * @param count number of calls
+     * @return the first calls
+     * @throws InterruptedException the test was interrupted
+     */
+    private List<String> firstCalls(int count) throws InterruptedException
+    {
+        for (int attempt = 0; (attempt < 500) && (calls.size() < count); attempt++)
+        {
+            Thread.sleep(20);
+        }
+
+        synchronized (calls)
+        {
+            return new ArrayList<>(calls.subList(0, Math.min(count, calls.size())));
+        }
+    }
+
+
+    /**
+     * Record each batch call with the number of processes and data flows it holds, and return the responses in turn.
+     *
+     * @param responses the responses of the successive batch calls
+     * @throws Exception problem with the test
+     */
+    @SafeVarargs
+    private void recordBatchCalls(List<BatchElementResponse>... responses) throws Exception
+    {
+        List<List<BatchElementResponse>> remainingResponses = new ArrayList<>(List.of(responses));
+
+        doAnswer(invocation -> {
+            List<?> processes = invocation.getArgument(4);
+            List<?> dataFlows = invocation.getArgument(5);
+            calls.add("batch:" + processes.size() + "/" + dataFlows.size());
+
+            return remainingResponses.size() > 1 ? remainingResponses.remove(0) : remainingResponses.get(0);
+        }).when(dataEngineClient).upsertBatch(eq(USER_ID), anyList(), anyList(), anyMap(), anyList(), anyList());
+    }
+
+
+    /**
+     * Return the response of a process that could not be stored.
+     *
+     * @param exceptionClassName class of the exception
+     * @return element response
+     */
+    private BatchElementResponse getFailure(String exceptionClassName)
+    {
+        BatchElementResponse elementResponse = new BatchElementResponse();
+
+        elementResponse.setTypeName("Process");
+        elementResponse.setQualifiedName(process.getQualifiedName());
+        elementResponse.setExceptionClassName(exceptionClassName);
+        elementResponse.setExceptionErrorMessage("failed");
+
+        return elementResponse;
+    }
+}
@@ -311,6 +311,12 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                              "Review the error messages and resolve the cause of the problem.  Once resolved, it is possible to " +
                                      "retry the governance action by updating its status back to REQUESTED status."),
 
+    WAITING_ACTIONS_REQUEUED("ENGINE-HOST-SERVICES-0035",
+                             OMRSAuditLogRecordSeverity.INFO,
+                             "Governance engine {0} in server {1} has queued {2} governance actions that it had claimed but not started before it was last stopped",
+                             "The governance actions are run when a thread in the governance engine's thread pool is free.",
+                             "No action is required.  The governance actions are processed in the order of their requested start time."),
+
     NO_OMAS_SERVER_URL("ENGINE-HOST-SERVICES-0150",
                        OMRSAuditLogRecordSeverity.ERROR,
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
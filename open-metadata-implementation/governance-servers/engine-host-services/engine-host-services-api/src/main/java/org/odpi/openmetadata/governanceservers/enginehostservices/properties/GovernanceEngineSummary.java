@@ -31,6 +31,12 @@ public class GovernanceEngineSummary implements Serializable
     private String                 governanceEngineDescription = null;
     private GovernanceEngineStatus governanceEngineStatus      = null;
     private List<String>           governanceRequestTypes      = null;
+    private int                    maxConcurrentServices       = 0;
+    private int                    activeServices              = 0;
+    private int                    pendingServices             = 0;
+    private long                   completedServices           = 0L;
+    private long                   averageWaitTime             = 0L;
+    private long                   maxWaitTime                 = 0L;
 
 
     /**
@@ -57,6 +63,12 @@ public class GovernanceEngineSummary implements Serializable
             governanceEngineDescription = template.getGovernanceEngineDescription();
             governanceEngineStatus = template.getGovernanceEngineStatus();
             governanceRequestTypes = template.getGovernanceRequestTypes();
+            maxConcurrentServices = template.getMaxConcurrentServices();
+            activeServices = template.getActiveServices();
+            pendingServices = template.getPendingServices();
+            completedServices = template.getCompletedServices();
+            averageWaitTime = template.getAverageWaitTime();
+            maxWaitTime = template.getMaxWaitTime();
         }
     }
 
@@ -224,6 +236,138 @@ public class GovernanceEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the maximum number of governance services that the governance engine runs at the same time.
+     *
+     * @return int
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that the governance engine runs at the same time.
+     *
+     * @param maxConcurrentServices int
+     */
+    public void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        this.maxConcurrentServices = maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the number of governance services that are currently running.
+     *
+     * @return int
+     */
+    public int getActiveServices()
+    {
+        return activeServices;
+    }
+
+
+    /**
+     * Set up the number of governance services that are currently running.
+     *
+     * @param activeServices int
+     */
+    public void setActiveServices(int activeServices)
+    {
+        this.activeServices = activeServices;
+    }
+
+
+    /**
+     * Return the number of requests for governance services that are queued waiting for a free thread.
+     *
+     * @return int
+     */
+    public int getPendingServices()
+    {
+        return pendingServices;
+    }
+
+
+    /**
+     * Set up the number of requests for governance services that are queued waiting for a free thread.
+     *
+     * @param pendingServices int
+     */
+    public void setPendingServices(int pendingServices)
+    {
+        this.pendingServices = pendingServices;
+    }
+
+
+    /**
+     * Return the number of governance services that have run to completion since the governance engine started.
+     *
+     * @return long
+     */
+    public long getCompletedServices()
+    {
+        return completedServices;
+    }
+
+
+    /**
+     * Set up the number of governance services that have run to completion since the governance engine started.
+     *
+     * @param completedServices long
+     */
+    public void setCompletedServices(long completedServices)
+    {
+        this.completedServices = completedServices;
+    }
+
+
+    /**
+     * Return the average time (in milliseconds) that requests waited in the queue before their governance service started.
+     *
+     * @return long
+     */
+    public long getAverageWaitTime()
+    {
+        return averageWaitTime;
+    }
+
+
+    /**
+     * Set up the average time (in milliseconds) that requests waited in the queue before their governance service started.
+     *
+     * @param averageWaitTime long
+     */
+    public void setAverageWaitTime(long averageWaitTime)
+    {
+        this.averageWaitTime = averageWaitTime;
+    }
+
+
+    /**
+     * Return the longest time (in milliseconds) that a request waited in the queue before its governance service started.
+     *
+     * @return long
+     */
+    public long getMaxWaitTime()
+    {
+        return maxWaitTime;
+    }
+
+
+    /**
+     * Set up the longest time (in milliseconds) that a request waited in the queue before its governance service started.
+     *
+     * @param maxWaitTime long
+     */
+    public void setMaxWaitTime(long maxWaitTime)
+    {
+        this.maxWaitTime = maxWaitTime;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -240,6 +384,12 @@ public class GovernanceEngineSummary implements Serializable
                        ", governanceEngineDescription='" + governanceEngineDescription + '\'' +
                        ", governanceEngineStatus=" + governanceEngineStatus +
                        ", governanceRequestTypes=" + governanceRequestTypes +
+                       ", maxConcurrentServices=" + maxConcurrentServices +
+                       ", activeServices=" + activeServices +
+                       ", pendingServices=" + pendingServices +
+                       ", completedServices=" + completedServices +
+                       ", averageWaitTime=" + averageWaitTime +
+                       ", maxWaitTime=" + maxWaitTime +
                        '}';
     }
 
@@ -262,7 +412,13 @@ public class GovernanceEngineSummary implements Serializable
             return false;
         }
         GovernanceEngineSummary that = (GovernanceEngineSummary) objectToCompare;
-        return Objects.equals(governanceEngineName, that.governanceEngineName) &&
+        return maxConcurrentServices == that.maxConcurrentServices &&
+                       activeServices == that.activeServices &&
+                       pendingServices == that.pendingServices &&
+                       completedServices == that.completedServices &&
+                       averageWaitTime == that.averageWaitTime &&
+                       maxWaitTime == that.maxWaitTime &&
+                       Objects.equals(governanceEngineName, that.governanceEngineName) &&
                        Objects.equals(governanceEngineTypeName, that.governanceEngineTypeName) &&
                        Objects.equals(governanceEngineService, that.governanceEngineService) &&
                        Objects.equals(governanceEngineGUID, that.governanceEngineGUID) &&
@@ -281,6 +437,7 @@ public class GovernanceEngineSummary implements Serializable
    public int hashCode()
    {
        return Objects.hash(governanceEngineName, governanceEngineTypeName, governanceEngineService,
-                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes);
+                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes,
+                           maxConcurrentServices, activeServices, pendingServices, completedServices, averageWaitTime, maxWaitTime);
    }
 }
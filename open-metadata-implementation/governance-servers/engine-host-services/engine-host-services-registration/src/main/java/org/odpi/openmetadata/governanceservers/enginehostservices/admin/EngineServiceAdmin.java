@@ -24,6 +24,12 @@ import java.util.Map;
  */
 public abstract class EngineServiceAdmin
 {
+    /**
+     * Name of the engine service option that sets the maximum number of governance services that each governance engine
+     * runs at the same time.
+     */
+    public static final String MAX_CONCURRENT_SERVICES_OPTION = "maxConcurrentGovernanceServices";
+
     protected String   localServerName       = null;
     protected AuditLog auditLog              = null;
 
@@ -185,4 +191,36 @@ public abstract class EngineServiceAdmin
             return engineNames;
         }
     }
+
+
+    /**
+     * Return the maximum number of governance services that each governance engine may run at the same time.
+     * This is set with the maxConcurrentGovernanceServices engine service option.
+     *
+     * @param engineServiceConfig configuration
+     * @return int
+     */
+    protected int getMaxConcurrentServices(EngineServiceConfig engineServiceConfig)
+    {
+        Map<String, Object> engineServiceOptions = engineServiceConfig.getEngineServiceOptions();
+
+        if (engineServiceOptions != null)
+        {
+            Object maxConcurrentServices = engineServiceOptions.get(MAX_CONCURRENT_SERVICES_OPTION);
+
+            if (maxConcurrentServices != null)
+            {
+                try
+                {
+                    return Integer.parseInt(maxConcurrentServices.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    return GovernanceServiceExecutor.DEFAULT_MAX_CONCURRENT_SERVICES;
+                }
+            }
+        }
+
+        return GovernanceServiceExecutor.DEFAULT_MAX_CONCURRENT_SERVICES;
+    }
 }
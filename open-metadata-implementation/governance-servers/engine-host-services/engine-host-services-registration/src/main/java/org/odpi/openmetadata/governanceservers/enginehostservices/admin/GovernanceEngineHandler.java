@@ -51,6 +51,8 @@ public abstract class GovernanceEngineHandler
     private final GovernanceEngineConfigurationClient configurationClient;        /* Initialized in constructor */
 
     private final GovernanceServiceCacheMap  governanceServiceLookupTable = new GovernanceServiceCacheMap();
+    private final GovernanceServiceExecutor  governanceServiceExecutor;
+    private       boolean                    waitingActionsRequeued = false;
 
 
     /**
@@ -87,6 +89,21 @@ public abstract class GovernanceEngineHandler
         this.serverClient = serverClient;
         this.auditLog = auditLog;
         this.maxPageSize = maxPageSize;
+
+        this.governanceServiceExecutor = new GovernanceServiceExecutor(governanceEngineName,
+                                                                       GovernanceServiceExecutor.DEFAULT_MAX_CONCURRENT_SERVICES);
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that this governance engine runs at the same time.
+     * Additional requests are queued until a running governance service completes.
+     *
+     * @param maxConcurrentServices maximum number of governance services
+     */
+    public void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        governanceServiceExecutor.setMaxConcurrentServices(maxConcurrentServices);
     }
 
 
@@ -133,6 +150,8 @@ public abstract class GovernanceEngineHandler
             mySummary.setGovernanceEngineStatus(GovernanceEngineStatus.RUNNING);
         }
 
+        governanceServiceExecutor.addStatistics(mySummary);
+
         return mySummary;
     }
 
@@ -181,6 +200,104 @@ public abstract class GovernanceEngineHandler
             this.governanceEngineProperties = governanceEngineElement.getProperties();
 
             refreshAllServiceConfig();
+
+            if (! waitingActionsRequeued)
+            {
+                requeueWaitingGovernanceActions();
+                waitingActionsRequeued = true;
+            }
+        }
+    }
+
+
+    /**
+     * Queue the governance actions that this governance engine claimed but did not start before the engine host server
+     * was last stopped.  These governance actions are still in WAITING status in the metadata store so no other
+     * governance engine will pick them up.  This is called once, after the governance engine's configuration is first
+     * retrieved.  If the governance actions can not be retrieved, the exception is passed to the caller and the
+     * request is repeated on the next configuration refresh.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to retrieve the governance actions
+     * @throws PropertyServerException problem in the metadata server
+     */
+    private void requeueWaitingGovernanceActions() throws InvalidParameterException,
+                                                          UserNotAuthorizedException,
+                                                          PropertyServerException
+    {
+        final String methodName = "requeueWaitingGovernanceActions";
+
+        List<GovernanceActionElement> waitingGovernanceActions = new ArrayList<>();
+
+        int     startingFrom  = 0;
+        boolean moreToReceive = true;
+
+        while (moreToReceive)
+        {
+            List<GovernanceActionElement> claimedGovernanceActions = serverClient.getActiveClaimedGovernanceActions(serverUserId,
+                                                                                                                    governanceEngineGUID,
+                                                                                                                    startingFrom,
+                                                                                                                    maxPageSize);
+
+            if ((claimedGovernanceActions != null) && (! claimedGovernanceActions.isEmpty()))
+            {
+                for (GovernanceActionElement claimedGovernanceAction : claimedGovernanceActions)
+                {
+                    /*
+                     * The governance actions are selected by the user id that claimed them, which may be shared by
+                     * other governance engines in this server.
+                     */
+                    if ((claimedGovernanceAction != null) &&
+                        (claimedGovernanceAction.getElementHeader() != null) &&
+                        (claimedGovernanceAction.getActionStatus() == GovernanceActionStatus.WAITING) &&
+                        (governanceEngineGUID.equals(claimedGovernanceAction.getGovernanceEngineGUID())))
+                    {
+                        waitingGovernanceActions.add(claimedGovernanceAction);
+                    }
+                }
+
+                startingFrom = startingFrom + maxPageSize;
+                moreToReceive = (maxPageSize > 0) && (claimedGovernanceActions.size() == maxPageSize);
+            }
+            else
+            {
+                moreToReceive = false;
+            }
+        }
+
+        int requeuedCount = 0;
+
+        for (GovernanceActionElement waitingGovernanceAction : waitingGovernanceActions)
+        {
+            String governanceActionGUID = waitingGovernanceAction.getElementHeader().getGUID();
+
+            try
+            {
+                runGovernanceService(governanceActionGUID,
+                                     waitingGovernanceAction.getRequestType(),
+                                     waitingGovernanceAction.getStartTime(),
+                                     waitingGovernanceAction.getRequestParameters(),
+                                     waitingGovernanceAction.getRequestSourceElements(),
+                                     waitingGovernanceAction.getActionTargetElements());
+                requeuedCount ++;
+            }
+            catch (Exception error)
+            {
+                auditLog.logException(methodName,
+                                      EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                               error.getClass().getName(),
+                                                                                                               governanceActionGUID,
+                                                                                                               error.getMessage()),
+                                      error);
+            }
+        }
+
+        if (requeuedCount > 0)
+        {
+            auditLog.logMessage(methodName,
+                                EngineHostServicesAuditCode.WAITING_ACTIONS_REQUEUED.getMessageDefinition(governanceEngineName,
+                                                                                                          serverName,
+                                                                                                          Integer.toString(requeuedCount)));
         }
     }
 
@@ -377,6 +494,62 @@ public abstract class GovernanceEngineHandler
     }
 
 
+    /**
+     * Queue a governance service to run on the governance engine's thread pool.  If the request comes from a governance action,
+     * the governance action's status is set to IN_PROGRESS when the governance service starts.
+     *
+     * @param governanceServiceHandler handler for the governance service
+     * @param governanceServiceCache registration details of the governance service
+     * @param governanceActionGUID unique identifier of the governance action that triggered the request - or null
+     * @param startDate requested start time of the governance service - or null to run in arrival order
+     */
+    protected void startGovernanceService(GovernanceServiceHandler governanceServiceHandler,
+                                          GovernanceServiceCache   governanceServiceCache,
+                                          String                   governanceActionGUID,
+                                          Date                     startDate)
+    {
+        Runnable startAction = null;
+
+        if (governanceActionGUID != null)
+        {
+            startAction = () -> updateGovernanceActionStatus(governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
+        }
+
+        governanceServiceExecutor.submit(governanceServiceHandler,
+                                         governanceServiceCache.getGovernanceServiceName(),
+                                         governanceServiceCache.getMaxConcurrentRequests(),
+                                         startDate,
+                                         startAction);
+    }
+
+
+    /**
+     * Update the status of a governance action, logging any error.
+     *
+     * @param governanceActionGUID unique identifier of the governance action
+     * @param governanceActionStatus new status
+     */
+    private void updateGovernanceActionStatus(String                 governanceActionGUID,
+                                              GovernanceActionStatus governanceActionStatus)
+    {
+        final String methodName = "updateGovernanceActionStatus";
+
+        try
+        {
+            serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, governanceActionStatus);
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                           error.getClass().getName(),
+                                                                                                           governanceActionGUID,
+                                                                                                           error.getMessage()),
+                                  error);
+        }
+    }
+
+
     /**
      * GovernanceServiceCacheMap maintains the map of governance request types to governance services.
      * It is synchronized because the map is being rebuilt periodically.
@@ -450,11 +623,12 @@ public abstract class GovernanceEngineHandler
 
             if (latestGovernanceActionElement.getActionStatus() == GovernanceActionStatus.APPROVED)
             {
+                /*
+                 * Claiming the governance action sets its status to WAITING.  It waits in the governance engine's
+                 * queue until a thread is free and its status is set to IN_PROGRESS when the governance service starts.
+                 */
                 serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
 
-
-                serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
-
                 runGovernanceService(governanceActionGUID,
                                      latestGovernanceActionElement.getRequestType(),
                                      latestGovernanceActionElement.getStartTime(),
@@ -476,7 +650,8 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the
+     * handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -521,6 +696,26 @@ public abstract class GovernanceEngineHandler
     }
 
 
+    /**
+     * Pass on the watchdog event to the governance services with one of the listed watchdog listeners.
+     *
+     * @param watchdogGovernanceEvent element describing the changing metadata data.
+     * @param listenerIds identifiers of the watchdog listeners interested in the event, or null if every listener
+     *                    should examine it
+     *
+     * @throws InvalidParameterException Vital fields of the governance action are not filled out
+     * @throws UserNotAuthorizedException the governance service is not permitted to execute the governance action
+     * @throws PropertyServerException there is a problem communicating with the open metadata stores
+     */
+    public void publishWatchdogEvent(WatchdogGovernanceEvent watchdogGovernanceEvent,
+                                     List<String>            listenerIds) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        this.publishWatchdogEvent(watchdogGovernanceEvent);
+    }
+
+
     /**
      * Confirms termination of the governance engine.
      */
@@ -535,5 +730,6 @@ public abstract class GovernanceEngineHandler
         governanceEngineGUID = null;
         governanceEngineProperties = null;
         governanceServiceLookupTable.clear();
+        governanceServiceExecutor.shutdown();
     }
 }
@@ -23,6 +23,12 @@ import java.util.Map;
  */
 public class GovernanceServiceCache
 {
+    /**
+     * Name of the configuration property in the governance service's connection that limits the number of instances of
+     * the governance service that run at the same time in a governance engine.
+     */
+    public static final String MAX_CONCURRENT_REQUESTS_PROPERTY = "maxConcurrentRequests";
+
     private final String              governanceServiceGUID;
     private final String              governanceServiceName;
     private final String              serviceRequestType;
@@ -117,6 +123,36 @@ public class GovernanceServiceCache
     }
 
 
+    /**
+     * Return the maximum number of instances of this governance service that may run at the same time.  This is set
+     * through the maxConcurrentRequests configuration property in the governance service's connection.
+     * Zero means the governance service is only limited by the number of threads in the governance engine.
+     *
+     * @return int
+     */
+    public int getMaxConcurrentRequests()
+    {
+        if ((serviceConnection != null) && (serviceConnection.getConfigurationProperties() != null))
+        {
+            Object maxConcurrentRequests = serviceConnection.getConfigurationProperties().get(MAX_CONCURRENT_REQUESTS_PROPERTY);
+
+            if (maxConcurrentRequests != null)
+            {
+                try
+                {
+                    return Math.max(Integer.parseInt(maxConcurrentRequests.toString()), 0);
+                }
+                catch (NumberFormatException error)
+                {
+                    return 0;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+
     /**
      * Simple getter for the requestType to pass to governance service.
      *
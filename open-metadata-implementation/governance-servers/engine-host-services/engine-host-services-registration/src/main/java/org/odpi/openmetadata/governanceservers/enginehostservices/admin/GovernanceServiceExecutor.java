@@ -0,0 +1,338 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineSummary;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GovernanceServiceExecutor runs the governance services for a single governance engine on a bounded pool of threads.
+ * Requests that arrive when all the threads are busy wait in a queue that is ordered by the requested start time
+ * of the governance action (and then by arrival), so a burst of requests does not create a thread per request.
+ *
+ * A governance service may also limit the number of its instances that run at the same time.  A request that
+ * would exceed this limit is put aside (without holding a thread) until one of the running instances completes.
+ */
+public class GovernanceServiceExecutor
+{
+    /**
+     * Default maximum number of governance services that run at the same time in a governance engine.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_SERVICES = 10;
+
+    private static final long idleThreadTimeout = 60L;
+
+    private final ThreadPoolExecutor threadPool;
+    private final AtomicLong         requestSequence = new AtomicLong(0);
+
+    private final Map<String, Integer>                        activeRequestsByService = new HashMap<>();
+    private final Map<String, Queue<QueuedGovernanceService>> deferredRequests        = new HashMap<>();
+
+    private int     maxConcurrentServices;
+    private int     activeServices    = 0;
+    private int     deferredServices  = 0;
+    private long    startedServices   = 0L;
+    private long    completedServices = 0L;
+    private long    totalWaitTime     = 0L;
+    private long    maxWaitTime       = 0L;
+    private boolean isShutdown        = false;
+
+
+    /**
+     * Create the thread pool for a governance engine.
+     *
+     * @param governanceEngineName name of the governance engine - used to name the threads
+     * @param maxConcurrentServices maximum number of governance services to run at the same time
+     */
+    GovernanceServiceExecutor(String governanceEngineName,
+                              int    maxConcurrentServices)
+    {
+        final String threadName = "::GovernanceService-";
+
+        AtomicInteger threadCount = new AtomicInteger(0);
+
+        this.maxConcurrentServices = Math.max(maxConcurrentServices, 1);
+        this.threadPool = new ThreadPoolExecutor(this.maxConcurrentServices,
+                                                 this.maxConcurrentServices,
+                                                 idleThreadTimeout,
+                                                 TimeUnit.SECONDS,
+                                                 new PriorityBlockingQueue<>(),
+                                                 runnable -> new Thread(runnable,
+                                                                        governanceEngineName + threadName + threadCount.incrementAndGet()));
+
+        this.threadPool.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * Change the maximum number of governance services that run at the same time.
+     *
+     * @param maxConcurrentServices new maximum
+     */
+    synchronized void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        int newMaximum = Math.max(maxConcurrentServices, 1);
+
+        /*
+         * The core pool size must never be greater than the maximum pool size so the order of the updates
+         * depends on whether the pool is growing or shrinking.
+         */
+        if (newMaximum > this.maxConcurrentServices)
+        {
+            threadPool.setMaximumPoolSize(newMaximum);
+            threadPool.setCorePoolSize(newMaximum);
+        }
+        else
+        {
+            threadPool.setCorePoolSize(newMaximum);
+            threadPool.setMaximumPoolSize(newMaximum);
+        }
+
+        this.maxConcurrentServices = newMaximum;
+    }
+
+
+    /**
+     * Queue a governance service to run.
+     *
+     * @param serviceHandler handler for the governance service
+     * @param governanceServiceName name of the governance service - used to apply the limit on concurrent instances
+     * @param maxConcurrentRequests maximum number of instances of this governance service to run at once (0 for no limit)
+     * @param startDate requested start time of the governance action - or null to run in arrival order
+     * @param startAction action to perform as the governance service is started - may be null
+     */
+    void submit(GovernanceServiceHandler serviceHandler,
+                String                   governanceServiceName,
+                int                      maxConcurrentRequests,
+                Date                     startDate,
+                Runnable                 startAction)
+    {
+        long queueTime = System.currentTimeMillis();
+        long priority  = queueTime;
+
+        if (startDate != null)
+        {
+            priority = startDate.getTime();
+        }
+
+        this.execute(new QueuedGovernanceService(serviceHandler,
+                                                 governanceServiceName,
+                                                 maxConcurrentRequests,
+                                                 startAction,
+                                                 priority,
+                                                 queueTime,
+                                                 requestSequence.incrementAndGet()));
+    }
+
+
+    /**
+     * Pass a queued governance service to the thread pool.
+     *
+     * @param queuedService request to run
+     */
+    private void execute(QueuedGovernanceService queuedService)
+    {
+        try
+        {
+            threadPool.execute(queuedService);
+        }
+        catch (RejectedExecutionException error)
+        {
+            /*
+             * The governance engine is shutting down.
+             */
+        }
+    }
+
+
+    /**
+     * Run a governance service.  This is called on one of the pool's threads.  If the governance service already has
+     * its maximum number of instances running, the request is put aside and the thread is released.
+     *
+     * @param queuedService request to run
+     */
+    private void runQueuedService(QueuedGovernanceService queuedService)
+    {
+        synchronized (this)
+        {
+            if (isShutdown)
+            {
+                return;
+            }
+
+            int activeRequests = activeRequestsByService.getOrDefault(queuedService.governanceServiceName, 0);
+
+            if ((queuedService.maxConcurrentRequests > 0) && (activeRequests >= queuedService.maxConcurrentRequests))
+            {
+                deferredRequests.computeIfAbsent(queuedService.governanceServiceName, key -> new PriorityQueue<>()).add(queuedService);
+                deferredServices++;
+
+                return;
+            }
+
+            long waitTime = System.currentTimeMillis() - queuedService.queueTime;
+
+            activeRequestsByService.put(queuedService.governanceServiceName, activeRequests + 1);
+            activeServices++;
+            startedServices++;
+            totalWaitTime = totalWaitTime + waitTime;
+
+            if (waitTime > maxWaitTime)
+            {
+                maxWaitTime = waitTime;
+            }
+        }
+
+        QueuedGovernanceService nextService = null;
+
+        try
+        {
+            if (queuedService.startAction != null)
+            {
+                queuedService.startAction.run();
+            }
+
+            queuedService.serviceHandler.run();
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                int activeRequests = activeRequestsByService.getOrDefault(queuedService.governanceServiceName, 1) - 1;
+
+                if (activeRequests > 0)
+                {
+                    activeRequestsByService.put(queuedService.governanceServiceName, activeRequests);
+                }
+                else
+                {
+                    activeRequestsByService.remove(queuedService.governanceServiceName);
+                }
+
+                activeServices--;
+                completedServices++;
+
+                Queue<QueuedGovernanceService> waitingRequests = deferredRequests.get(queuedService.governanceServiceName);
+
+                if (waitingRequests != null)
+                {
+                    nextService = waitingRequests.poll();
+
+                    if (nextService != null)
+                    {
+                        deferredServices--;
+                    }
+
+                    if (waitingRequests.isEmpty())
+                    {
+                        deferredRequests.remove(queuedService.governanceServiceName);
+                    }
+                }
+            }
+        }
+
+        if (nextService != null)
+        {
+            this.execute(nextService);
+        }
+    }
+
+
+    /**
+     * Add the current statistics for the thread pool to the governance engine's summary.
+     *
+     * @param summary summary to update
+     */
+    synchronized void addStatistics(GovernanceEngineSummary summary)
+    {
+        summary.setMaxConcurrentServices(maxConcurrentServices);
+        summary.setActiveServices(activeServices);
+        summary.setPendingServices(threadPool.getQueue().size() + deferredServices);
+        summary.setCompletedServices(completedServices);
+        summary.setMaxWaitTime(maxWaitTime);
+
+        if (startedServices > 0)
+        {
+            summary.setAverageWaitTime(totalWaitTime / startedServices);
+        }
+    }
+
+
+    /**
+     * Discard the queued requests and stop the thread pool.  Governance services that are running are allowed to
+     * complete.
+     */
+    synchronized void shutdown()
+    {
+        isShutdown = true;
+
+        deferredRequests.clear();
+        deferredServices = 0;
+
+        threadPool.getQueue().clear();
+        threadPool.shutdown();
+    }
+
+
+    /**
+     * A request to run a governance service.  Requests are ordered by their priority (the requested start time)
+     * and then by arrival.
+     */
+    private class QueuedGovernanceService implements Runnable, Comparable<QueuedGovernanceService>
+    {
+        private final GovernanceServiceHandler serviceHandler;
+        private final String                   governanceServiceName;
+        private final int                      maxConcurrentRequests;
+        private final Runnable                 startAction;
+        private final long                     priority;
+        private final long                     queueTime;
+        private final long                     sequence;
+
+        QueuedGovernanceService(GovernanceServiceHandler serviceHandler,
+                                String                   governanceServiceName,
+                                int                      maxConcurrentRequests,
+                                Runnable                 startAction,
+                                long                     priority,
+                                long                     queueTime,
+                                long                     sequence)
+        {
+            this.serviceHandler        = serviceHandler;
+            this.governanceServiceName = governanceServiceName;
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.startAction           = startAction;
+            this.priority              = priority;
+            this.queueTime             = queueTime;
+            this.sequence              = sequence;
+        }
+
+        @Override
+        public void run()
+        {
+            runQueuedService(this);
+        }
+
+        @Override
+        public int compareTo(QueuedGovernanceService other)
+        {
+            int result = Long.compare(priority, other.priority);
+
+            if (result == 0)
+            {
+                result = Long.compare(sequence, other.sequence);
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineClient;
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineConfigurationClient;
+import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
+import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceEngineElement;
+import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.RegisteredGovernanceServiceElement;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.GovernanceEngineProperties;
+import org.odpi.openmetadata.adminservices.configuration.properties.EngineConfig;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.GovernanceActionStatus;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RequestSourceElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the GovernanceEngineHandler claims a governance action without a second status update and that it
+ * queues the governance actions it claimed but did not start before a restart.
+ */
+public class GovernanceEngineHandlerTest
+{
+    private static final String SERVER_NAME = "engineHost";
+    private static final String SERVER_USER = "engineHostNpa";
+    private static final String ENGINE_NAME = "AssetGovernance";
+    private static final String ENGINE_GUID = "engine-guid";
+
+    private final List<AuditLogRecord> auditLogRecords = new ArrayList<>();
+    private final List<String>         statusUpdates   = new ArrayList<>();
+    private final List<String>         claims          = new ArrayList<>();
+    private final List<String>         startedActions  = new ArrayList<>();
+
+    private final List<GovernanceActionElement> claimedGovernanceActions = new ArrayList<>();
+    private       GovernanceActionElement       requestedGovernanceAction = null;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        auditLogRecords.clear();
+        statusUpdates.clear();
+        claims.clear();
+        startedActions.clear();
+        claimedGovernanceActions.clear();
+        requestedGovernanceAction = null;
+    }
+
+
+    /**
+     * An approved governance action is claimed, which sets it to WAITING, and is not updated to WAITING again.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testExecuteGovernanceAction() throws Exception
+    {
+        requestedGovernanceAction = this.getGovernanceAction("action1", GovernanceActionStatus.APPROVED, ENGINE_GUID);
+
+        GovernanceEngineHandler engineHandler = this.getEngineHandler();
+
+        engineHandler.executeGovernanceAction("action1");
+
+        assertEquals(claims, List.of("action1"));
+        assertTrue(statusUpdates.isEmpty());
+        assertEquals(startedActions, List.of("action1"));
+    }
+
+
+    /**
+     * The waiting governance actions claimed by this engine are queued once, when the configuration is first retrieved.
+     * Governance actions that are in progress or that belong to another engine are left alone.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test
+    public void testRequeueWaitingGovernanceActions() throws Exception
+    {
+        claimedGovernanceActions.add(this.getGovernanceAction("waiting1", GovernanceActionStatus.WAITING, ENGINE_GUID));
+        claimedGovernanceActions.add(this.getGovernanceAction("inProgress", GovernanceActionStatus.IN_PROGRESS, ENGINE_GUID));
+        claimedGovernanceActions.add(this.getGovernanceAction("otherEngine", GovernanceActionStatus.WAITING, "other-engine-guid"));
+        claimedGovernanceActions.add(this.getGovernanceAction("waiting2", GovernanceActionStatus.WAITING, ENGINE_GUID));
+
+        GovernanceEngineHandler engineHandler = this.getEngineHandler();
+
+        engineHandler.refreshConfig();
+
+        assertEquals(startedActions, List.of("waiting1", "waiting2"));
+        assertTrue(claims.isEmpty());
+        assertTrue(this.getMessageIds().contains("ENGINE-HOST-SERVICES-0035"));
+
+        engineHandler.refreshConfig();
+
+        assertEquals(startedActions, List.of("waiting1", "waiting2"));
+    }
+
+
+    /**
+     * Return the message ids of the audit log records.
+     *
+     * @return list of message ids
+     */
+    private List<String> getMessageIds()
+    {
+        List<String> messageIds = new ArrayList<>();
+
+        for (AuditLogRecord auditLogRecord : auditLogRecords)
+        {
+            messageIds.add(auditLogRecord.getMessageId());
+        }
+
+        return messageIds;
+    }
+
+
+    /**
+     * Return a governance action element.
+     *
+     * @param guid unique identifier
+     * @param status status of the governance action
+     * @param governanceEngineGUID governance engine that the action is for
+     * @return governance action element
+     */
+    private GovernanceActionElement getGovernanceAction(String                 guid,
+                                                        GovernanceActionStatus status,
+                                                        String                 governanceEngineGUID)
+    {
+        ElementHeader elementHeader = new ElementHeader();
+        elementHeader.setGUID(guid);
+
+        GovernanceActionElement governanceAction = new GovernanceActionElement();
+
+        governanceAction.setElementHeader(elementHeader);
+        governanceAction.setActionStatus(status);
+        governanceAction.setGovernanceEngineGUID(governanceEngineGUID);
+        governanceAction.setRequestType("test-request");
+        governanceAction.setStartTime(new Date());
+
+        return governanceAction;
+    }
+
+
+    /**
+     * Return a governance engine handler that uses stub clients and records the governance actions it runs.
+     *
+     * @return governance engine handler
+     * @throws InvalidParameterException problem creating the clients
+     */
+    private GovernanceEngineHandler getEngineHandler() throws InvalidParameterException
+    {
+        EngineConfig engineConfig = new EngineConfig();
+
+        engineConfig.setEngineQualifiedName(ENGINE_NAME);
+
+        return new GovernanceEngineHandler(engineConfig,
+                                           SERVER_NAME,
+                                           SERVER_USER,
+                                           "Test Engine Service",
+                                           new StubConfigurationClient(),
+                                           new StubServerClient(),
+                                           this.getAuditLog(),
+                                           2)
+        {
+            @Override
+            public GovernanceServiceHandler runGovernanceService(String                     governanceActionGUID,
+                                                                 String                     governanceRequestType,
+                                                                 Date                       startDate,
+                                                                 Map<String, String>        requestParameters,
+                                                                 List<RequestSourceElement> requestSourceElements,
+                                                                 List<ActionTargetElement>  actionTargetElements)
+            {
+                startedActions.add(governanceActionGUID);
+
+                return null;
+            }
+        };
+    }
+
+
+    /**
+     * Return an audit log that saves its records in the test.
+     *
+     * @return audit log
+     */
+    private AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(new HashMap<>())
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        };
+
+        return new AuditLog(destination,
+                            1,
+                            ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                            "GovernanceEngineHandlerTest",
+                            "Test of the governance engine handler",
+                            null);
+    }
+
+
+    /**
+     * Configuration client that returns a governance engine with no registered governance services.
+     */
+    private static class StubConfigurationClient extends GovernanceEngineConfigurationClient
+    {
+        StubConfigurationClient() throws InvalidParameterException
+        {
+            super(SERVER_NAME, "https://localhost:9443");
+        }
+
+        @Override
+        public GovernanceEngineElement getGovernanceEngineByName(String userId,
+                                                                 String name)
+        {
+            ElementType elementType = new ElementType();
+            elementType.setTypeName("GovernanceActionEngine");
+
+            ElementHeader elementHeader = new ElementHeader();
+            elementHeader.setGUID(ENGINE_GUID);
+            elementHeader.setType(elementType);
+
+            GovernanceEngineProperties properties = new GovernanceEngineProperties();
+            properties.setQualifiedName(name);
+
+            GovernanceEngineElement governanceEngine = new GovernanceEngineElement();
+            governanceEngine.setElementHeader(elementHeader);
+            governanceEngine.setProperties(properties);
+
+            return governanceEngine;
+        }
+
+        @Override
+        public List<RegisteredGovernanceServiceElement> getRegisteredGovernanceServices(String userId,
+                                                                                        String governanceEngineGUID,
+                                                                                        int    startingFrom,
+                                                                                        int    maximumResults)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Server client that serves the governance actions set up by the test and records the updates.
+     */
+    private class StubServerClient extends GovernanceEngineClient
+    {
+        StubServerClient() throws InvalidParameterException
+        {
+            super(SERVER_NAME, "https://localhost:9443");
+        }
+
+        @Override
+        public GovernanceActionElement getGovernanceAction(String userId,
+                                                           String governanceActionGUID)
+        {
+            return requestedGovernanceAction;
+        }
+
+        @Override
+        public void claimGovernanceAction(String userId,
+                                          String governanceActionGUID)
+        {
+            claims.add(governanceActionGUID);
+        }
+
+        @Override
+        public void updateGovernanceActionStatus(String                 userId,
+                                                 String                 governanceActionGUID,
+                                                 GovernanceActionStatus governanceActionStatus)
+        {
+            statusUpdates.add(governanceActionGUID + ":" + governanceActionStatus.getName());
+        }
+
+        @Override
+        public List<GovernanceActionElement> getActiveClaimedGovernanceActions(String userId,
+                                                                               String governanceEngineGUID,
+                                                                               int    startFrom,
+                                                                               int    pageSize) throws InvalidParameterException,
+                                                                                                       UserNotAuthorizedException,
+                                                                                                       PropertyServerException
+        {
+            if (startFrom >= claimedGovernanceActions.size())
+            {
+                return null;
+            }
+
+            return new ArrayList<>(claimedGovernanceActions.subList(startFrom, Math.min(startFrom + pageSize, claimedGovernanceActions.size())));
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineSummary;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the GovernanceServiceExecutor limits the number of governance services that run at the same time,
+ * runs queued requests in order of their requested start time and applies each governance service's own limit.
+ */
+public class GovernanceServiceExecutorTest
+{
+    private static final long WAIT_TIMEOUT = 10000L;
+
+    private GovernanceServiceExecutor executor = null;
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        if (executor != null)
+        {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+
+    /**
+     * No more than the maximum number of governance services run at the same time and the others are
+     * reported as pending.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testBoundedPool() throws InterruptedException
+    {
+        executor = new GovernanceServiceExecutor("testBoundedPool", 2);
+
+        CountDownLatch    release     = new CountDownLatch(1);
+        ConcurrencyMonitor monitor    = new ConcurrencyMonitor();
+        AtomicInteger     completions = new AtomicInteger(0);
+
+        for (int i = 0; i < 6; i++)
+        {
+            executor.submit(new TestServiceHandler(() -> monitor.run(release, completions)), "service" + i, 0, null, null);
+        }
+
+        this.waitFor(() -> monitor.getActive() == 2);
+
+        GovernanceEngineSummary summary = this.getSummary();
+
+        assertEquals(summary.getMaxConcurrentServices(), 2);
+        assertEquals(summary.getActiveServices(), 2);
+        assertEquals(summary.getPendingServices(), 4);
+
+        release.countDown();
+
+        this.waitFor(() -> completions.get() == 6);
+        this.waitFor(() -> this.getSummary().getCompletedServices() == 6);
+
+        assertEquals(monitor.getMaxActive(), 2);
+        assertEquals(this.getSummary().getPendingServices(), 0);
+    }
+
+
+    /**
+     * Queued requests run in order of their requested start time and then in order of arrival.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testQueueOrder() throws InterruptedException
+    {
+        executor = new GovernanceServiceExecutor("testQueueOrder", 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String>   runOrder = Collections.synchronizedList(new ArrayList<>());
+
+        executor.submit(new TestServiceHandler(() -> this.block(started, release)), "blocker", 0, null, null);
+
+        assertTrue(started.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+        long now = System.currentTimeMillis();
+
+        executor.submit(new TestServiceHandler(() -> runOrder.add("late")), "late", 0, new Date(now - 1000L), null);
+        executor.submit(new TestServiceHandler(() -> runOrder.add("earliest")), "earliest", 0, new Date(now - 3000L), null);
+        executor.submit(new TestServiceHandler(() -> runOrder.add("middle1")), "middle1", 0, new Date(now - 2000L), null);
+        executor.submit(new TestServiceHandler(() -> runOrder.add("middle2")), "middle2", 0, new Date(now - 2000L), null);
+
+        release.countDown();
+
+        this.waitFor(() -> runOrder.size() == 4);
+
+        assertEquals(runOrder, List.of("earliest", "middle1", "middle2", "late"));
+    }
+
+
+    /**
+     * A governance service with a limit on its concurrent requests does not exceed it, and its waiting requests
+     * do not stop other governance services from running.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testServiceLimit() throws InterruptedException
+    {
+        executor = new GovernanceServiceExecutor("testServiceLimit", 4);
+
+        CountDownLatch     release     = new CountDownLatch(1);
+        ConcurrencyMonitor monitor     = new ConcurrencyMonitor();
+        AtomicInteger      completions = new AtomicInteger(0);
+        CountDownLatch     otherRan    = new CountDownLatch(1);
+
+        for (int i = 0; i < 3; i++)
+        {
+            executor.submit(new TestServiceHandler(() -> monitor.run(release, completions)), "limitedService", 1, null, null);
+        }
+
+        executor.submit(new TestServiceHandler(otherRan::countDown), "otherService", 1, null, null);
+
+        assertTrue(otherRan.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+        this.waitFor(() -> this.getSummary().getPendingServices() == 2);
+
+        assertEquals(monitor.getActive(), 1);
+
+        release.countDown();
+
+        this.waitFor(() -> completions.get() == 3);
+
+        assertEquals(monitor.getMaxActive(), 1);
+    }
+
+
+    /**
+     * The start action runs on the pool thread before the governance service.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testStartAction() throws InterruptedException
+    {
+        executor = new GovernanceServiceExecutor("testStartAction", 1);
+
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        executor.submit(new TestServiceHandler(() -> events.add("service")), "service", 0, null, () -> events.add("start"));
+
+        this.waitFor(() -> events.size() == 2);
+
+        assertEquals(events, List.of("start", "service"));
+    }
+
+
+    /**
+     * Increasing the maximum lets more governance services run at the same time.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testIncreaseMaxConcurrentServices() throws InterruptedException
+    {
+        executor = new GovernanceServiceExecutor("testIncreaseMaxConcurrentServices", 1);
+        executor.setMaxConcurrentServices(3);
+
+        CountDownLatch     release     = new CountDownLatch(1);
+        ConcurrencyMonitor monitor     = new ConcurrencyMonitor();
+        AtomicInteger      completions = new AtomicInteger(0);
+
+        for (int i = 0; i < 3; i++)
+        {
+            executor.submit(new TestServiceHandler(() -> monitor.run(release, completions)), "service" + i, 0, null, null);
+        }
+
+        this.waitFor(() -> monitor.getActive() == 3);
+
+        release.countDown();
+
+        this.waitFor(() -> completions.get() == 3);
+
+        assertEquals(this.getSummary().getMaxConcurrentServices(), 3);
+    }
+
+
+    /**
+     * Requests that are queued when the executor shuts down are discarded.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testShutdownDiscardsQueuedRequests() throws InterruptedException
+    {
+        executor = new GovernanceServiceExecutor("testShutdownDiscardsQueuedRequests", 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger  queuedRuns = new AtomicInteger(0);
+
+        executor.submit(new TestServiceHandler(() -> this.block(started, release)), "blocker", 0, null, null);
+
+        assertTrue(started.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+        executor.submit(new TestServiceHandler(queuedRuns::incrementAndGet), "queued", 0, null, null);
+        executor.shutdown();
+
+        release.countDown();
+
+        Thread.sleep(200);
+
+        assertEquals(queuedRuns.get(), 0);
+
+        executor.submit(new TestServiceHandler(queuedRuns::incrementAndGet), "afterShutdown", 0, null, null);
+
+        Thread.sleep(200);
+
+        assertEquals(queuedRuns.get(), 0);
+    }
+
+
+    /**
+     * Return the current statistics of the executor.
+     *
+     * @return summary
+     */
+    private GovernanceEngineSummary getSummary()
+    {
+        GovernanceEngineSummary summary = new GovernanceEngineSummary();
+
+        executor.addStatistics(summary);
+
+        return summary;
+    }
+
+
+    /**
+     * Signal that the governance service has started and then wait until it is released.
+     *
+     * @param started latch to count down when started
+     * @param release latch to wait on
+     */
+    private void block(CountDownLatch started,
+                       CountDownLatch release)
+    {
+        started.countDown();
+
+        try
+        {
+            release.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Wait for a condition to become true, failing the test if it does not happen within the timeout.
+     *
+     * @param condition condition to test
+     * @throws InterruptedException the test was interrupted
+     */
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + WAIT_TIMEOUT;
+
+        while (! condition.getAsBoolean())
+        {
+            assertTrue(System.currentTimeMillis() < endTime, "Timed out waiting for the governance services");
+
+            Thread.sleep(10);
+        }
+    }
+
+
+    /**
+     * Records how many governance services are running at the same time.
+     */
+    private static class ConcurrencyMonitor
+    {
+        private int active    = 0;
+        private int maxActive = 0;
+
+        /**
+         * Run as a governance service: count it as active until it is released.
+         *
+         * @param release latch to wait on
+         * @param completions count of completed governance services
+         */
+        void run(CountDownLatch release,
+                 AtomicInteger  completions)
+        {
+            synchronized (this)
+            {
+                active++;
+                maxActive = Math.max(maxActive, active);
+            }
+
+            try
+            {
+                release.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+            finally
+            {
+                synchronized (this)
+                {
+                    active--;
+                }
+
+                completions.incrementAndGet();
+            }
+        }
+
+        synchronized int getActive()
+        {
+            return active;
+        }
+
+        synchronized int getMaxActive()
+        {
+            return maxActive;
+        }
+    }
+
+
+    /**
+     * Governance service handler that runs the supplied code.
+     */
+    private static class TestServiceHandler extends GovernanceServiceHandler
+    {
+        private final Runnable service;
+
+        TestServiceHandler(Runnable service)
+        {
+            super(null, null, null, null, null, null, null, null, null, null);
+
+            this.service = service;
+        }
+
+        @Override
+        public void run()
+        {
+            service.run();
+        }
+    }
+}
@@ -135,7 +135,8 @@ public class GovernanceEngineOutTopicListener extends GovernanceEngineEventListe
                     {
                         try
                         {
-                            governanceEngineHandler.publishWatchdogEvent(watchdogGovernanceServiceEvent.getWatchdogGovernanceEvent());
+                            governanceEngineHandler.publishWatchdogEvent(watchdogGovernanceServiceEvent.getWatchdogGovernanceEvent(),
+                                                                         watchdogGovernanceServiceEvent.getListenerIds());
                         }
                         catch (Exception error)
                         {
@@ -34,6 +34,10 @@ public class IntegrationConnectorReport implements Serializable
     private Date                       lastStatusChange         = null;
     private Date                       lastRefreshTime          = null;
     private long                       minMinutesBetweenRefresh = 0L;
+    private Date                       nextRefreshTime          = null;
+    private long                       lastRefreshDuration      = 0L;
+    private long                       lastRefreshDelay         = 0L;
+    private long                       refreshCount             = 0L;
     private String                     failingExceptionMessage  = null;
     private Map<String, Object>        statistics               = null;
 
@@ -63,6 +67,10 @@ public class IntegrationConnectorReport implements Serializable
             lastStatusChange         = template.getLastStatusChange();
             lastRefreshTime          = template.getLastRefreshTime();
             minMinutesBetweenRefresh = template.getMinMinutesBetweenRefresh();
+            nextRefreshTime          = template.getNextRefreshTime();
+            lastRefreshDuration      = template.getLastRefreshDuration();
+            lastRefreshDelay         = template.getLastRefreshDelay();
+            refreshCount             = template.getRefreshCount();
             failingExceptionMessage  = template.getFailingExceptionMessage();
             statistics               = template.getStatistics();
         }
@@ -250,6 +258,96 @@ public class IntegrationConnectorReport implements Serializable
     }
 
 
+    /**
+     * Return the date/time when the integration daemon will next call refresh.  Null means no refresh is scheduled.
+     *
+     * @return timestamp
+     */
+    public Date getNextRefreshTime()
+    {
+        return nextRefreshTime;
+    }
+
+
+    /**
+     * Set up the date/time when the integration daemon will next call refresh.  Null means no refresh is scheduled.
+     *
+     * @param nextRefreshTime timestamp
+     */
+    public void setNextRefreshTime(Date nextRefreshTime)
+    {
+        this.nextRefreshTime = nextRefreshTime;
+    }
+
+
+    /**
+     * Return the number of milliseconds that the last call to refresh took.
+     *
+     * @return milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that the last call to refresh took.
+     *
+     * @param lastRefreshDuration milliseconds
+     */
+    public void setLastRefreshDuration(long lastRefreshDuration)
+    {
+        this.lastRefreshDuration = lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the number of milliseconds between the time that the last scheduled refresh was due and the time it
+     * started.  This shows whether the integration daemon has a backlog of refresh requests.
+     *
+     * @return milliseconds
+     */
+    public long getLastRefreshDelay()
+    {
+        return lastRefreshDelay;
+    }
+
+
+    /**
+     * Set up the number of milliseconds between the time that the last scheduled refresh was due and the time it
+     * started.
+     *
+     * @param lastRefreshDelay milliseconds
+     */
+    public void setLastRefreshDelay(long lastRefreshDelay)
+    {
+        this.lastRefreshDelay = lastRefreshDelay;
+    }
+
+
+    /**
+     * Return the number of times that refresh has been called since the connector started.
+     *
+     * @return count
+     */
+    public long getRefreshCount()
+    {
+        return refreshCount;
+    }
+
+
+    /**
+     * Set up the number of times that refresh has been called since the connector started.
+     *
+     * @param refreshCount count
+     */
+    public void setRefreshCount(long refreshCount)
+    {
+        this.refreshCount = refreshCount;
+    }
+
+
     /**
      * Return the message extracted from an exception returned by the connector.  This is only set if the connectorStatus
      * is FAILED.  The full exception is logged in the server's audit log.
@@ -313,6 +411,10 @@ public class IntegrationConnectorReport implements Serializable
                        ", lastStatusChange=" + lastStatusChange +
                        ", lastRefreshTime=" + lastRefreshTime +
                        ", minMinutesBetweenRefresh=" + minMinutesBetweenRefresh +
+                       ", nextRefreshTime=" + nextRefreshTime +
+                       ", lastRefreshDuration=" + lastRefreshDuration +
+                       ", lastRefreshDelay=" + lastRefreshDelay +
+                       ", refreshCount=" + refreshCount +
                        ", failingExceptionMessage='" + failingExceptionMessage + '\'' +
                        ", statistics=" + statistics +
                        '}';
@@ -338,6 +440,10 @@ public class IntegrationConnectorReport implements Serializable
         }
         IntegrationConnectorReport that = (IntegrationConnectorReport) objectToCompare;
         return minMinutesBetweenRefresh == that.minMinutesBetweenRefresh &&
+                       lastRefreshDuration == that.lastRefreshDuration &&
+                       lastRefreshDelay == that.lastRefreshDelay &&
+                       refreshCount == that.refreshCount &&
+                       Objects.equals(nextRefreshTime, that.nextRefreshTime) &&
                        Objects.equals(connectorId, that.connectorId) &&
                        Objects.equals(connectorName, that.connectorName) &&
                        Objects.equals(connection, that.connection) &&
@@ -359,6 +465,7 @@ public class IntegrationConnectorReport implements Serializable
     public int hashCode()
     {
         return Objects.hash(connectorId, connectorName, connection, connectorInstanceId, connectorStatus, lastStatusChange,
-                            lastRefreshTime, minMinutesBetweenRefresh, failingExceptionMessage, statistics);
+                            lastRefreshTime, minMinutesBetweenRefresh, nextRefreshTime, lastRefreshDuration, lastRefreshDelay,
+                            refreshCount, failingExceptionMessage, statistics);
     }
 }
@@ -59,6 +59,17 @@ public class IntegrationConnectorHandler implements Serializable
     private String                              failingExceptionMessage             = null;
     private Date                                lastRefreshTime                     = null;
 
+    /*
+     * These values are maintained for the integration daemon's refresh scheduler and are reported through the
+     * REST API.  They are volatile so they can be read without waiting for a refresh in progress.
+     */
+    private volatile Date                       nextRefreshTime                     = null;
+    private volatile long                       lastRefreshDuration                 = 0L;
+    private volatile long                       lastRefreshDelay                    = 0L;
+    private volatile long                       refreshCount                        = 0L;
+
+    private transient volatile IntegrationConnectorRefreshScheduler refreshScheduler = null;
+
 
     /**
      * Constructor creates the integration connector and manages it state.
@@ -218,6 +229,84 @@ public class IntegrationConnectorHandler implements Serializable
     }
 
 
+    /**
+     * Return the date/time when the integration daemon thread will next call refresh.  Null means no refresh is scheduled.
+     *
+     * @return timestamp
+     */
+    public Date getNextRefreshTime()
+    {
+        return nextRefreshTime;
+    }
+
+
+    /**
+     * Set up the date/time when the integration daemon thread will next call refresh.
+     *
+     * @param nextRefreshTime timestamp or null
+     */
+    public void setNextRefreshTime(Date nextRefreshTime)
+    {
+        this.nextRefreshTime = nextRefreshTime;
+    }
+
+
+    /**
+     * Return the number of milliseconds that the last call to the connector's refresh() method took.
+     *
+     * @return milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the number of milliseconds between the time the last scheduled refresh was due and the time it
+     * started.  A growing value shows that the integration daemon's worker threads are not keeping up.
+     *
+     * @return milliseconds
+     */
+    public long getLastRefreshDelay()
+    {
+        return lastRefreshDelay;
+    }
+
+
+    /**
+     * Record the number of milliseconds between the time a scheduled refresh was due and the time it started.
+     *
+     * @param lastRefreshDelay milliseconds
+     */
+    public void setLastRefreshDelay(long lastRefreshDelay)
+    {
+        this.lastRefreshDelay = lastRefreshDelay;
+    }
+
+
+    /**
+     * Return the number of times that the connector's refresh() method has been called since the connector started.
+     *
+     * @return count
+     */
+    public long getRefreshCount()
+    {
+        return refreshCount;
+    }
+
+
+    /**
+     * Set up the scheduler that is asked to refresh the connector as soon as it is reinitialized.
+     *
+     * @param refreshScheduler scheduler or null
+     */
+    public void setRefreshScheduler(IntegrationConnectorRefreshScheduler refreshScheduler)
+    {
+        this.refreshScheduler = refreshScheduler;
+    }
+
+
     /**
      * Return the connector described in the connection object.
      *
@@ -250,6 +339,8 @@ public class IntegrationConnectorHandler implements Serializable
 
     /**
      * Initialize a new integration connector instance.  This is called from the constructor and during restart.
+     * Once the connector is initialized, the refresh scheduler (if any) is asked to refresh it straight away
+     * so that the new connector instance does not wait for the previous instance's next refresh.
      *
      * @param actionDescription description of caller's operation
      */
@@ -327,6 +418,13 @@ public class IntegrationConnectorHandler implements Serializable
         {
             processConfigException(actionDescription, operationName, error);
         }
+
+        IntegrationConnectorRefreshScheduler scheduler = refreshScheduler;
+
+        if (scheduler != null)
+        {
+            scheduler.refreshNow(this);
+        }
     }
 
 
@@ -486,14 +584,17 @@ public class IntegrationConnectorHandler implements Serializable
 
                 integrationConnector.refresh();
 
+                Date refreshEnd = new Date();
+
+                this.lastRefreshDuration = refreshEnd.getTime() - refreshStart.getTime();
+                this.refreshCount        = refreshCount + 1;
+
                 if (auditLog != null)
                 {
-                    Date refreshEnd = new Date();
-
                     auditLog.logMessage(actionDescription,
                                         IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_COMPLETE.getMessageDefinition(integrationConnectorName,
                                                                                                                                   integrationDaemonName,
-                                                                                                                                  Long.toString(refreshEnd.getTime() - refreshStart.getTime())));
+                                                                                                                                  Long.toString(lastRefreshDuration)));
                 }
             }
 
@@ -588,6 +689,9 @@ public class IntegrationConnectorHandler implements Serializable
         this.integrationConnectorDedicatedThread = null;
         this.failingExceptionMessage             = null;
         this.lastRefreshTime                     = null;
+        this.lastRefreshDuration                 = 0L;
+        this.lastRefreshDelay                    = 0L;
+        this.refreshCount                        = 0L;
     }
 
 
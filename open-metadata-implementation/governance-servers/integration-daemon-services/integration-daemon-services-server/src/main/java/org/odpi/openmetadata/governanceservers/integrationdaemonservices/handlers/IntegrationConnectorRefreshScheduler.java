@@ -0,0 +1,20 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+
+/**
+ * IntegrationConnectorRefreshScheduler is implemented by the component that schedules the refreshes of the
+ * integration connectors.  A connector handler uses it to request a refresh as soon as possible when its
+ * connector is restarted or reconfigured.
+ */
+public interface IntegrationConnectorRefreshScheduler
+{
+    /**
+     * Schedule a refresh of the connector now, replacing any refresh that is already scheduled for it.
+     * If the connector is being refreshed by another thread, the new refresh runs when that refresh completes.
+     *
+     * @param connectorHandler handler for the connector that has been reinitialized
+     */
+    void refreshNow(IntegrationConnectorHandler connectorHandler);
+}
@@ -149,6 +149,10 @@ public class IntegrationServiceHandler
                     connectorReport.setLastStatusChange(connectorHandler.getLastStatusChange());
                     connectorReport.setLastRefreshTime(connectorHandler.getLastRefreshTime());
                     connectorReport.setMinMinutesBetweenRefresh(connectorHandler.getMinMinutesBetweenRefresh());
+                    connectorReport.setNextRefreshTime(connectorHandler.getNextRefreshTime());
+                    connectorReport.setLastRefreshDuration(connectorHandler.getLastRefreshDuration());
+                    connectorReport.setLastRefreshDelay(connectorHandler.getLastRefreshDelay());
+                    connectorReport.setRefreshCount(connectorHandler.getRefreshCount());
 
                     connectorReports.add(connectorReport);
                 }
@@ -29,6 +29,12 @@ import java.util.Map;
  */
 public class IntegrationDaemonOperationalServices
 {
+    /**
+     * Name of the integration service option that sets the maximum number of integration connectors that the
+     * integration daemon refreshes at the same time.  The largest value set by any of the integration services is used.
+     */
+    public static final String MAX_REFRESH_THREADS_OPTION = "maxConnectorRefreshThreads";
+
     private String                         localServerName;               /* Initialized in constructor */
     private String                         localServerUserId;             /* Initialized in constructor */
     private String                         localServerPassword;           /* Initialized in constructor */
@@ -103,6 +109,7 @@ public class IntegrationDaemonOperationalServices
              */
             List<IntegrationConnectorHandler>      daemonConnectorHandlers = new ArrayList<>();
             Map<String, IntegrationServiceHandler> integrationServiceHandlerMap = new HashMap<>();
+            int                                    maxRefreshThreads = 0;
 
             for (IntegrationServiceConfig integrationServiceConfig : configuration)
             {
@@ -158,6 +165,7 @@ public class IntegrationDaemonOperationalServices
                     }
 
                     integrationServiceHandlerMap.put(integrationServiceURLMarker, integrationServiceHandler);
+                    maxRefreshThreads = Math.max(maxRefreshThreads, this.getMaxRefreshThreads(integrationServiceConfig));
                     this.setServerServiceActiveStatus(integrationServiceConfig.getIntegrationServiceFullName(), ServerActiveStatus.RUNNING);
                 }
             }
@@ -167,7 +175,8 @@ public class IntegrationDaemonOperationalServices
              */
             IntegrationDaemonThread integrationDaemonThread = new IntegrationDaemonThread(localServerName,
                                                                                           daemonConnectorHandlers,
-                                                                                          auditLog);
+                                                                                          auditLog,
+                                                                                          maxRefreshThreads);
 
             integrationDaemonThread.start();
 
@@ -246,6 +255,38 @@ public class IntegrationDaemonOperationalServices
     }
 
 
+    /**
+     * Return the maximum number of integration connectors to refresh at the same time requested by an
+     * integration service.
+     *
+     * @param integrationServiceConfig configuration
+     * @return int
+     */
+    private int getMaxRefreshThreads(IntegrationServiceConfig integrationServiceConfig)
+    {
+        Map<String, Object> integrationServiceOptions = integrationServiceConfig.getIntegrationServiceOptions();
+
+        if (integrationServiceOptions != null)
+        {
+            Object maxRefreshThreads = integrationServiceOptions.get(MAX_REFRESH_THREADS_OPTION);
+
+            if (maxRefreshThreads != null)
+            {
+                try
+                {
+                    return Integer.parseInt(maxRefreshThreads.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    return IntegrationDaemonThread.DEFAULT_MAX_REFRESH_THREADS;
+                }
+            }
+        }
+
+        return IntegrationDaemonThread.DEFAULT_MAX_REFRESH_THREADS;
+    }
+
+
     /**
      * Return the open metadata server's root URL from the configuration.
      *
@@ -6,32 +6,76 @@ package org.odpi.openmetadata.governanceservers.integrationdaemonservices.thread
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorHandler;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorRefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * IntegrationDaemonThread is the class responsible for managing executing integration connectors
  * within an integration daemon.  It manages the automated refresh of the connectors.
  * The connectors are also being refreshed through the REST API.
+ *
+ * The thread holds the time that each connector is next due to be refreshed in a priority queue and sleeps
+ * until the earliest of these times.  Due refreshes are passed to a bounded pool of worker threads so that
+ * a slow connector does not delay the other connectors in the daemon.  A connector is only put back on the
+ * queue once its refresh has completed, so the refreshes for a single connector never overlap.  A small random
+ * jitter is added to each connector's refresh interval to prevent connectors with the same interval from all
+ * refreshing at the same moment.
+ *
+ * When a connector is restarted or reconfigured, its handler asks this thread to refresh it straight away.
+ * Any refresh already queued for the connector is replaced, and if the connector is being refreshed at the time,
+ * the new refresh runs as soon as the current one completes.
  */
-public class IntegrationDaemonThread implements Runnable
+public class IntegrationDaemonThread implements Runnable, IntegrationConnectorRefreshScheduler
 {
     private static final Logger log = LoggerFactory.getLogger(IntegrationDaemonThread.class);
 
-    private String                            integrationDaemonName;
-    private List<IntegrationConnectorHandler> connectorHandlers;
-    private AuditLog                          auditLog;
+    /**
+     * Default maximum number of connectors that are refreshed at the same time.
+     */
+    public static final int DEFAULT_MAX_REFRESH_THREADS = 4;
+
+    /*
+     * The jitter added to a connector's refresh interval is a random value up to this fraction of the
+     * interval, capped at maxJitter milliseconds.
+     */
+    private static final int  jitterDivisor = 10;
+    private static final long maxJitter     = 60000L;
 
+    private final String                            integrationDaemonName;
+    private final List<IntegrationConnectorHandler> connectorHandlers;
+    private final AuditLog                          auditLog;
+    private final int                               maxRefreshThreads;
 
-    private final AtomicBoolean running = new AtomicBoolean(false);
+    /*
+     * The refresh queue is also the lock for the maps that track the queued and running refreshes.  There is at most
+     * one queued refresh for each connector.
+     */
+    private final PriorityQueue<ScheduledRefresh>                    refreshQueue     = new PriorityQueue<>();
+    private final Map<IntegrationConnectorHandler, ScheduledRefresh> queuedRefreshes  = new HashMap<>();
+    private final Map<IntegrationConnectorHandler, Thread>           activeRefreshes  = new HashMap<>();
+    private final Set<IntegrationConnectorHandler>                   pendingRestarts  = new HashSet<>();
+    private final AtomicBoolean                                      running          = new AtomicBoolean(false);
+    private       ExecutorService                                    workerPool       = null;
 
 
     /**
-     * Constructor provides access to the variables needed to run the connector.
+     * Constructor provides access to the variables needed to run the connector.  The number of worker threads
+     * is the number of connectors up to DEFAULT_MAX_REFRESH_THREADS.
      *
      * @param integrationDaemonName name of this integration daemon server
      * @param connectorHandlers wrapper for the connector.
@@ -40,10 +84,47 @@ public class IntegrationDaemonThread implements Runnable
     public IntegrationDaemonThread(String                            integrationDaemonName,
                                    List<IntegrationConnectorHandler> connectorHandlers,
                                    AuditLog                          auditLog)
+    {
+        this(integrationDaemonName, connectorHandlers, auditLog, DEFAULT_MAX_REFRESH_THREADS);
+    }
+
+
+    /**
+     * Constructor provides access to the variables needed to run the connector.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param connectorHandlers wrapper for the connector.
+     * @param auditLog logging destination
+     * @param maxRefreshThreads maximum number of connectors to refresh at the same time
+     */
+    public IntegrationDaemonThread(String                            integrationDaemonName,
+                                   List<IntegrationConnectorHandler> connectorHandlers,
+                                   AuditLog                          auditLog,
+                                   int                               maxRefreshThreads)
     {
         this.integrationDaemonName = integrationDaemonName;
         this.connectorHandlers     = connectorHandlers;
         this.auditLog              = auditLog;
+
+        int threadCount = maxRefreshThreads;
+
+        if ((connectorHandlers != null) && (connectorHandlers.size() < threadCount))
+        {
+            threadCount = connectorHandlers.size();
+        }
+
+        this.maxRefreshThreads = Math.max(threadCount, 1);
+    }
+
+
+    /**
+     * Return the number of worker threads used to refresh the connectors.
+     *
+     * @return thread count
+     */
+    public int getMaxRefreshThreads()
+    {
+        return maxRefreshThreads;
     }
 
 
@@ -53,6 +134,26 @@ public class IntegrationDaemonThread implements Runnable
     public void start()
     {
         final String threadName = "::IntegrationDaemonThread";
+        final String workerName = "::IntegrationDaemonWorker-";
+
+        AtomicInteger workerCount = new AtomicInteger(0);
+
+        workerPool = Executors.newFixedThreadPool(maxRefreshThreads,
+                                                  runnable -> new Thread(runnable,
+                                                                         integrationDaemonName + workerName + workerCount.incrementAndGet()));
+
+        running.set(true);
+
+        if (connectorHandlers != null)
+        {
+            for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
+            {
+                if (connectorHandler != null)
+                {
+                    connectorHandler.setRefreshScheduler(this);
+                }
+            }
+        }
 
         Thread worker = new Thread(this, integrationDaemonName + threadName);
         worker.start();
@@ -60,11 +161,36 @@ public class IntegrationDaemonThread implements Runnable
 
 
     /**
-     * Requests that the integration daemon thread shuts down.
+     * Requests that the integration daemon thread shuts down.  Refreshes that are in progress are allowed to
+     * complete but no new refreshes are started.
      */
     public void stop()
     {
         running.set(false);
+
+        if (connectorHandlers != null)
+        {
+            for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
+            {
+                if (connectorHandler != null)
+                {
+                    connectorHandler.setRefreshScheduler(null);
+                }
+            }
+        }
+
+        synchronized (refreshQueue)
+        {
+            refreshQueue.clear();
+            queuedRefreshes.clear();
+            pendingRestarts.clear();
+            refreshQueue.notifyAll();
+        }
+
+        if (workerPool != null)
+        {
+            workerPool.shutdown();
+        }
     }
 
 
@@ -76,70 +202,277 @@ public class IntegrationDaemonThread implements Runnable
     {
         final String actionDescription = "Periodic refresh of connector";
 
-        running.set(true);
-
         auditLog.logMessage(actionDescription,
                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_STARTING.getMessageDefinition(integrationDaemonName));
 
-        while (running.get())
+        /*
+         * Every connector is refreshed as soon as the daemon starts.
+         */
+        if (connectorHandlers != null)
         {
-            Date now = new Date();
+            long now = System.currentTimeMillis();
 
             for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
             {
                 if (connectorHandler != null)
                 {
-                    try
+                    scheduleRefresh(connectorHandler, now, true);
+                }
+            }
+        }
+
+        while (running.get())
+        {
+            ScheduledRefresh dueRefresh = waitForDueRefresh();
+
+            if (dueRefresh != null)
+            {
+                try
+                {
+                    workerPool.execute(() -> runRefresh(actionDescription, dueRefresh));
+                }
+                catch (RejectedExecutionException error)
+                {
+                    synchronized (refreshQueue)
                     {
-                        if (connectorHandler.getLastRefreshTime() == null)
-                        {
-                            connectorHandler.refreshConnector(actionDescription, true);
-                        }
-                        else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
-                        {
-                            long nextRefreshTime =
-                                    connectorHandler.getLastRefreshTime().getTime() +
-                                            (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
-
-                            if (nextRefreshTime < now.getTime())
-                            {
-                                connectorHandler.refreshConnector(actionDescription, false);
-                            }
-                        }
+                        activeRefreshes.remove(dueRefresh.connectorHandler);
+                    }
+
+                    log.debug("Refresh of " + dueRefresh.connectorHandler.getIntegrationConnectorName() + " rejected because the daemon is stopping");
+                }
+            }
+        }
+
+        auditLog.logMessage(actionDescription,
+                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
+
+    }
+
+
+    /**
+     * Block until the refresh at the head of the queue is due, or the thread is stopped.  The connector is marked as
+     * active as it is taken from the queue so that a call to refreshNow() before a worker thread picks up the refresh
+     * does not schedule a second one.  The daemon thread is recorded as the refreshing thread until then.
+     *
+     * @return the refresh to run or null if the thread is stopping
+     */
+    private ScheduledRefresh waitForDueRefresh()
+    {
+        synchronized (refreshQueue)
+        {
+            while (running.get())
+            {
+                ScheduledRefresh nextRefresh = refreshQueue.peek();
+
+                try
+                {
+                    if (nextRefresh == null)
+                    {
+                        refreshQueue.wait();
                     }
-                    catch (Exception error)
+                    else
                     {
-                        auditLog.logMessage(actionDescription,
-                                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
-                                                                                                                                  error.getClass().getName(),
-                                                                                                                                  error.getMessage()));
+                        long waitTime = nextRefresh.dueTime - System.currentTimeMillis();
+
+                        if (waitTime <= 0)
+                        {
+                            ScheduledRefresh dueRefresh = refreshQueue.poll();
+
+                            queuedRefreshes.remove(dueRefresh.connectorHandler);
+                            activeRefreshes.put(dueRefresh.connectorHandler, Thread.currentThread());
+
+                            return dueRefresh;
+                        }
+
+                        refreshQueue.wait(waitTime);
                     }
                 }
+                catch (InterruptedException error)
+                {
+                    log.error("Ignored exception from wait - probably ok", error);
+                }
             }
+        }
+
+        return null;
+    }
 
-            waitToRetry();
+
+    /**
+     * Schedule a refresh of a connector that has been restarted or reconfigured.  Any refresh already queued for
+     * the connector is replaced by one that is due now.  If the connector is being refreshed by another thread,
+     * the new refresh is queued when that refresh completes.  A request from the thread that is refreshing the
+     * connector is ignored because it comes from the connector being reinitialized as part of that refresh.
+     *
+     * @param connectorHandler handler for the connector that has been reinitialized
+     */
+    @Override
+    public void refreshNow(IntegrationConnectorHandler connectorHandler)
+    {
+        if ((connectorHandler == null) || (! running.get()))
+        {
+            return;
         }
 
-        auditLog.logMessage(actionDescription,
-                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
+        synchronized (refreshQueue)
+        {
+            Thread refreshingThread = activeRefreshes.get(connectorHandler);
 
+            if (refreshingThread == null)
+            {
+                scheduleRefresh(connectorHandler, System.currentTimeMillis(), true);
+            }
+            else if (refreshingThread != Thread.currentThread())
+            {
+                pendingRestarts.add(connectorHandler);
+            }
+        }
     }
 
 
     /**
-     * Wait before retrying ...
+     * Call refresh on a connector.  This runs in one of the worker threads.  Once the refresh is complete,
+     * the next refresh for the connector is scheduled.  If the connector was reinitialized while it was being
+     * refreshed, the next refresh is due straight away.
+     *
+     * @param actionDescription calling activity
+     * @param scheduledRefresh details of the refresh to run
      */
-    private void waitToRetry()
+    private void runRefresh(String           actionDescription,
+                            ScheduledRefresh scheduledRefresh)
     {
-        final int  sleepTime = 1000;
+        IntegrationConnectorHandler connectorHandler = scheduledRefresh.connectorHandler;
+
+        /*
+         * The connector was marked as active when its refresh was taken from the queue.  It is now recorded against
+         * this worker thread so that a restart requested by the connector during the refresh is recognized.
+         */
+        synchronized (refreshQueue)
+        {
+            activeRefreshes.put(connectorHandler, Thread.currentThread());
+        }
+
+        connectorHandler.setLastRefreshDelay(Math.max(System.currentTimeMillis() - scheduledRefresh.dueTime, 0L));
 
         try
         {
-            Thread.sleep(sleepTime);
+            connectorHandler.refreshConnector(actionDescription, scheduledRefresh.firstCall);
         }
         catch (Exception error)
         {
-            log.error("Ignored exception from sleep - probably ok", error);
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
+                                                                                                                      error.getClass().getName(),
+                                                                                                                      error.getMessage()));
+        }
+
+        long refreshInterval = connectorHandler.getMinMinutesBetweenRefresh() * 60000;
+
+        synchronized (refreshQueue)
+        {
+            activeRefreshes.remove(connectorHandler);
+
+            if (! running.get())
+            {
+                connectorHandler.setNextRefreshTime(null);
+            }
+            else if (pendingRestarts.remove(connectorHandler))
+            {
+                scheduleRefresh(connectorHandler, System.currentTimeMillis(), true);
+            }
+            else if (queuedRefreshes.containsKey(connectorHandler))
+            {
+                /*
+                 * The connector was restarted through the thread that was refreshing it and it has already
+                 * been queued again.
+                 */
+                log.debug("Refresh of " + connectorHandler.getIntegrationConnectorName() + " is already queued");
+            }
+            else if (refreshInterval > 0)
+            {
+                scheduleRefresh(connectorHandler, System.currentTimeMillis() + refreshInterval + getJitter(refreshInterval), false);
+            }
+            else
+            {
+                connectorHandler.setNextRefreshTime(null);
+            }
+        }
+    }
+
+
+    /**
+     * Add a refresh to the queue, replacing any refresh already queued for the connector, and wake up the daemon
+     * thread in case it is now the earliest refresh.
+     *
+     * @param connectorHandler connector to refresh
+     * @param dueTime time that the refresh should run
+     * @param firstCall is this the first call to refresh?
+     */
+    private void scheduleRefresh(IntegrationConnectorHandler connectorHandler,
+                                 long                        dueTime,
+                                 boolean                     firstCall)
+    {
+        synchronized (refreshQueue)
+        {
+            ScheduledRefresh queuedRefresh = queuedRefreshes.remove(connectorHandler);
+
+            if (queuedRefresh != null)
+            {
+                refreshQueue.remove(queuedRefresh);
+            }
+
+            ScheduledRefresh scheduledRefresh = new ScheduledRefresh(connectorHandler, dueTime, firstCall);
+
+            connectorHandler.setNextRefreshTime(new Date(dueTime));
+
+            refreshQueue.add(scheduledRefresh);
+            queuedRefreshes.put(connectorHandler, scheduledRefresh);
+            refreshQueue.notifyAll();
+        }
+    }
+
+
+    /**
+     * Return a random number of milliseconds to add to the refresh interval.
+     *
+     * @param refreshInterval the connector's refresh interval in milliseconds
+     * @return milliseconds
+     */
+    private long getJitter(long refreshInterval)
+    {
+        long jitterRange = Math.min(refreshInterval / jitterDivisor, maxJitter);
+
+        if (jitterRange <= 0)
+        {
+            return 0L;
+        }
+
+        return ThreadLocalRandom.current().nextLong(jitterRange);
+    }
+
+
+    /**
+     * A refresh that is waiting in the queue.  The queue is ordered by the time the refresh is due.
+     */
+    private static class ScheduledRefresh implements Comparable<ScheduledRefresh>
+    {
+        private final IntegrationConnectorHandler connectorHandler;
+        private final long                        dueTime;
+        private final boolean                     firstCall;
+
+        ScheduledRefresh(IntegrationConnectorHandler connectorHandler,
+                         long                        dueTime,
+                         boolean                     firstCall)
+        {
+            this.connectorHandler = connectorHandler;
+            this.dueTime          = dueTime;
+            this.firstCall        = firstCall;
+        }
+
+        @Override
+        public int compareTo(ScheduledRefresh other)
+        {
+            return Long.compare(dueTime, other.dueTime);
         }
     }
 }
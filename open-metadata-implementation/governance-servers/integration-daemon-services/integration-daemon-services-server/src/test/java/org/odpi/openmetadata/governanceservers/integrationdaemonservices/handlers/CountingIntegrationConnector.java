@@ -0,0 +1,69 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationConnectorBase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * CountingIntegrationConnector counts the calls to refresh across all of its instances so the test can see
+ * when the integration daemon refreshes a connector.  The first refresh can be held until the test releases it.
+ */
+public class CountingIntegrationConnector extends IntegrationConnectorBase
+{
+    static final AtomicInteger  refreshCount = new AtomicInteger(0);
+    static volatile CountDownLatch firstRefreshStarted  = null;
+    static volatile CountDownLatch firstRefreshReleased = null;
+
+
+    /**
+     * Reset the counters before a test.
+     */
+    static void reset()
+    {
+        refreshCount.set(0);
+        firstRefreshStarted  = null;
+        firstRefreshReleased = null;
+    }
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.
+     */
+    @Override
+    public void start()
+    {
+    }
+
+
+    /**
+     * Count the refresh and, for the first refresh, wait if the test has asked for it to be held.
+     */
+    @Override
+    public void refresh()
+    {
+        if (refreshCount.incrementAndGet() == 1)
+        {
+            CountDownLatch started  = firstRefreshStarted;
+            CountDownLatch released = firstRefreshReleased;
+
+            if ((started != null) && (released != null))
+            {
+                started.countDown();
+
+                try
+                {
+                    released.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
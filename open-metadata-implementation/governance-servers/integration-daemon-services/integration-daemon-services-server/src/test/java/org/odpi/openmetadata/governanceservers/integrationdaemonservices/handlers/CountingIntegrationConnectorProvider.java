@@ -0,0 +1,22 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationConnectorProvider;
+
+
+/**
+ * CountingIntegrationConnectorProvider creates instances of the CountingIntegrationConnector.
+ */
+public class CountingIntegrationConnectorProvider extends IntegrationConnectorProvider
+{
+    /**
+     * Constructor sets up the class name of the connector.
+     */
+    public CountingIntegrationConnectorProvider()
+    {
+        super();
+
+        super.setConnectorClassName(CountingIntegrationConnector.class.getName());
+    }
+}
@@ -0,0 +1,321 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.IntegrationConnectorConfig;
+import org.odpi.openmetadata.adminservices.configuration.properties.PermittedSynchronization;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.connectors.IntegrationConnector;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.contextmanager.IntegrationContextManager;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationDaemonThread;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the IntegrationDaemonThread refreshes a connector straight away when it is reinitialized, keeps
+ * a single queued refresh for each connector and sizes its worker pool from the configured thread count.
+ */
+public class IntegrationDaemonRefreshSchedulerTest
+{
+    private static final String DAEMON_NAME  = "exchangeDL01";
+    private static final long   WAIT_TIMEOUT = 10000L;
+
+    private IntegrationDaemonThread integrationDaemonThread = null;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        CountingIntegrationConnector.reset();
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        if (integrationDaemonThread != null)
+        {
+            integrationDaemonThread.stop();
+            integrationDaemonThread = null;
+        }
+    }
+
+
+    /**
+     * A connector that is only refreshed at start up is refreshed again when it is reinitialized.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testReinitializedConnectorWithoutInterval() throws InterruptedException
+    {
+        IntegrationConnectorHandler connectorHandler = this.getConnectorHandler("noIntervalConnector", 0L);
+
+        this.startDaemon(connectorHandler);
+        this.waitFor(() -> CountingIntegrationConnector.refreshCount.get() == 1);
+        this.waitFor(() -> connectorHandler.getNextRefreshTime() == null);
+
+        connectorHandler.reinitializeConnector("testReinitializedConnectorWithoutInterval");
+
+        this.waitFor(() -> CountingIntegrationConnector.refreshCount.get() == 2);
+        this.waitFor(() -> connectorHandler.getNextRefreshTime() == null);
+
+        Thread.sleep(200);
+
+        assertEquals(CountingIntegrationConnector.refreshCount.get(), 2);
+    }
+
+
+    /**
+     * A periodic connector that is reinitialized is refreshed straight away rather than at its old refresh time,
+     * and the old refresh is replaced by the one scheduled after the new refresh.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testReinitializedConnectorWithInterval() throws InterruptedException
+    {
+        IntegrationConnectorHandler connectorHandler = this.getConnectorHandler("periodicConnector", 60L);
+
+        this.startDaemon(connectorHandler);
+        this.waitFor(() -> (CountingIntegrationConnector.refreshCount.get() == 1) && (connectorHandler.getNextRefreshTime() != null));
+
+        long oldRefreshTime = connectorHandler.getNextRefreshTime().getTime();
+
+        assertTrue(oldRefreshTime > System.currentTimeMillis() + 50 * 60000L);
+
+        connectorHandler.reinitializeConnector("testReinitializedConnectorWithInterval");
+
+        this.waitFor(() -> CountingIntegrationConnector.refreshCount.get() == 2);
+        this.waitFor(() -> (connectorHandler.getNextRefreshTime() != null) &&
+                           (connectorHandler.getNextRefreshTime().getTime() > System.currentTimeMillis() + 50 * 60000L));
+
+        Thread.sleep(200);
+
+        assertEquals(CountingIntegrationConnector.refreshCount.get(), 2);
+    }
+
+
+    /**
+     * A connector that is reinitialized while it is being refreshed is refreshed again once the current
+     * refresh completes.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testReinitializedDuringRefresh() throws InterruptedException
+    {
+        CountingIntegrationConnector.firstRefreshStarted  = new CountDownLatch(1);
+        CountingIntegrationConnector.firstRefreshReleased = new CountDownLatch(1);
+
+        IntegrationConnectorHandler connectorHandler = this.getConnectorHandler("busyConnector", 0L);
+
+        this.startDaemon(connectorHandler);
+
+        assertTrue(CountingIntegrationConnector.firstRefreshStarted.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+        Thread restartThread = new Thread(() -> connectorHandler.reinitializeConnector("testReinitializedDuringRefresh"));
+        restartThread.start();
+
+        CountingIntegrationConnector.firstRefreshReleased.countDown();
+        restartThread.join(WAIT_TIMEOUT);
+
+        this.waitFor(() -> CountingIntegrationConnector.refreshCount.get() == 2);
+
+        Thread.sleep(200);
+
+        assertEquals(CountingIntegrationConnector.refreshCount.get(), 2);
+    }
+
+
+    /**
+     * Once the daemon is stopped, a reinitialized connector is not refreshed.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testReinitializedAfterStop() throws InterruptedException
+    {
+        IntegrationConnectorHandler connectorHandler = this.getConnectorHandler("stoppedConnector", 0L);
+
+        this.startDaemon(connectorHandler);
+        this.waitFor(() -> CountingIntegrationConnector.refreshCount.get() == 1);
+
+        integrationDaemonThread.stop();
+        integrationDaemonThread = null;
+
+        connectorHandler.reinitializeConnector("testReinitializedAfterStop");
+
+        Thread.sleep(200);
+
+        assertEquals(CountingIntegrationConnector.refreshCount.get(), 1);
+    }
+
+
+    /**
+     * The worker pool is no larger than the number of connectors and has at least one thread.
+     */
+    @Test
+    public void testRefreshThreadCount()
+    {
+        List<IntegrationConnectorHandler> connectorHandlers = new ArrayList<>();
+
+        connectorHandlers.add(this.getConnectorHandler("connector1", 0L));
+        connectorHandlers.add(this.getConnectorHandler("connector2", 0L));
+
+        assertEquals(new IntegrationDaemonThread(DAEMON_NAME, connectorHandlers, this.getAuditLog(), 8).getMaxRefreshThreads(), 2);
+        assertEquals(new IntegrationDaemonThread(DAEMON_NAME, connectorHandlers, this.getAuditLog(), 0).getMaxRefreshThreads(), 1);
+        assertEquals(new IntegrationDaemonThread(DAEMON_NAME, connectorHandlers, this.getAuditLog()).getMaxRefreshThreads(), 2);
+
+        for (int i = 0; i < 4; i++)
+        {
+            connectorHandlers.add(this.getConnectorHandler("extraConnector" + i, 0L));
+        }
+
+        assertEquals(new IntegrationDaemonThread(DAEMON_NAME, connectorHandlers, this.getAuditLog()).getMaxRefreshThreads(),
+                     IntegrationDaemonThread.DEFAULT_MAX_REFRESH_THREADS);
+        assertEquals(new IntegrationDaemonThread(DAEMON_NAME, connectorHandlers, this.getAuditLog(), 6).getMaxRefreshThreads(), 6);
+    }
+
+
+    /**
+     * Start the integration daemon thread for a single connector.
+     *
+     * @param connectorHandler connector to refresh
+     */
+    private void startDaemon(IntegrationConnectorHandler connectorHandler)
+    {
+        List<IntegrationConnectorHandler> connectorHandlers = new ArrayList<>();
+
+        connectorHandlers.add(connectorHandler);
+
+        integrationDaemonThread = new IntegrationDaemonThread(DAEMON_NAME, connectorHandlers, this.getAuditLog(), 2);
+        integrationDaemonThread.start();
+    }
+
+
+    /**
+     * Wait for a condition to become true, failing the test if it does not happen within the timeout.
+     *
+     * @param condition condition to test
+     * @throws InterruptedException the test was interrupted
+     */
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + WAIT_TIMEOUT;
+
+        while (! condition.getAsBoolean())
+        {
+            assertTrue(System.currentTimeMillis() < endTime, "Timed out waiting for the connector to be refreshed");
+
+            Thread.sleep(10);
+        }
+    }
+
+
+    /**
+     * Return a handler for a counting integration connector.
+     *
+     * @param connectorName name of the connector
+     * @param refreshTimeInterval minutes between refreshes
+     * @return connector handler
+     */
+    private IntegrationConnectorHandler getConnectorHandler(String connectorName,
+                                                            long   refreshTimeInterval)
+    {
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(CountingIntegrationConnectorProvider.class.getName());
+
+        Connection connection = new Connection();
+        connection.setConnectorType(connectorType);
+
+        IntegrationConnectorConfig connectorConfig = new IntegrationConnectorConfig();
+
+        connectorConfig.setConnectorId(connectorName + "-id");
+        connectorConfig.setConnectorName(connectorName);
+        connectorConfig.setConnection(connection);
+        connectorConfig.setRefreshTimeInterval(refreshTimeInterval);
+        connectorConfig.setPermittedSynchronization(PermittedSynchronization.BOTH_DIRECTIONS);
+
+        IntegrationConnectorHandler connectorHandler = new IntegrationConnectorHandler(connectorConfig,
+                                                                                       "Test Integration Service",
+                                                                                       new HashMap<>(),
+                                                                                       DAEMON_NAME,
+                                                                                       this.getContextManager(),
+                                                                                       this.getAuditLog());
+
+        assertNotNull(connectorHandler.getIntegrationConnectorName());
+        assertNull(connectorHandler.getNextRefreshTime());
+
+        return connectorHandler;
+    }
+
+
+    /**
+     * Return a context manager that does not need a metadata server.
+     *
+     * @return context manager
+     */
+    private IntegrationContextManager getContextManager()
+    {
+        return new IntegrationContextManager()
+        {
+            @Override
+            public void createClients()
+            {
+            }
+
+            @Override
+            public void setContext(String                   connectorId,
+                                   String                   connectorName,
+                                   String                   metadataSourceQualifiedName,
+                                   IntegrationConnector     integrationConnector,
+                                   PermittedSynchronization permittedSynchronization)
+            {
+            }
+        };
+    }
+
+
+    /**
+     * Return an audit log that discards its records.
+     *
+     * @return audit log
+     */
+    private AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(new HashMap<>())
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+            }
+        };
+
+        return new AuditLog(destination,
+                            1,
+                            ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                            "IntegrationDaemonTest",
+                            "Test of the integration daemon refresh scheduler",
+                            null);
+    }
+}
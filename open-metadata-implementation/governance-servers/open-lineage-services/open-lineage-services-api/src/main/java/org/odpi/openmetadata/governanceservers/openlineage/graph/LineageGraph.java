@@ -91,6 +91,20 @@ public interface LineageGraph {
      */
     Optional<Long> getAssetLineageUpdateTime();
 
+    /**
+     * Save the cursor of the Asset Lineage OMAS change feed up to which the changes have been applied to the graph
+     *
+     * @param cursor the cursor returned by the change feed
+     */
+    void saveAssetLineageChangeCursor(String cursor);
+
+    /**
+     * Gets the cursor of the Asset Lineage OMAS change feed up to which the changes have been applied to the graph
+     *
+     * @return the cursor, if one has been saved
+     */
+    Optional<String> getAssetLineageChangeCursor();
+
     /**
      * Returns whether an entity exists in the graph or not
      *
@@ -31,6 +31,8 @@ public class LineageResponse extends FFDCResponseBase implements Serializable {
     public LineageResponse(){}
 
     private LineageVerticesAndEdges lineageVerticesAndEdges;
+    private boolean depthLimitReached;
+    private boolean vertexLimitReached;
 
     public LineageResponse(LineageVerticesAndEdges lineageVerticesAndEdges) {
         this.lineageVerticesAndEdges = lineageVerticesAndEdges;
@@ -43,4 +45,32 @@ public class LineageResponse extends FFDCResponseBase implements Serializable {
     public void setLineageVerticesAndEdges(LineageVerticesAndEdges lineageVerticesAndEdges) {
         this.lineageVerticesAndEdges = lineageVerticesAndEdges;
     }
+
+    /**
+     * Return whether the traversal stopped at the maximum depth before reaching the ultimate sources or
+     * destinations, so the lineage may be incomplete.
+     *
+     * @return true if the lineage was truncated by the depth limit
+     */
+    public boolean isDepthLimitReached() {
+        return depthLimitReached;
+    }
+
+    public void setDepthLimitReached(boolean depthLimitReached) {
+        this.depthLimitReached = depthLimitReached;
+    }
+
+    /**
+     * Return whether the lineage contained more vertices than the maximum allowed, so some vertices have been
+     * left out of the response.
+     *
+     * @return true if the lineage was truncated by the vertex limit
+     */
+    public boolean isVertexLimitReached() {
+        return vertexLimitReached;
+    }
+
+    public void setVertexLimitReached(boolean vertexLimitReached) {
+        this.vertexLimitReached = vertexLimitReached;
+    }
 }
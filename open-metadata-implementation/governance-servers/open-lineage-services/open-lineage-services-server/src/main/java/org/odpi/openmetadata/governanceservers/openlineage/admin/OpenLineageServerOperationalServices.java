@@ -4,7 +4,6 @@ package org.odpi.openmetadata.governanceservers.openlineage.admin;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.assetlineage.AssetLineage;
-import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventListener;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.connector.AssetLineageOutTopicClientConnector;
 import org.odpi.openmetadata.adminservices.configuration.properties.OLSBackgroundJob;
 import org.odpi.openmetadata.adminservices.configuration.properties.OLSSimplifiedAccessServiceConfig;
@@ -28,6 +27,7 @@ import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageServe
 import org.odpi.openmetadata.governanceservers.openlineage.graph.LineageGraph;
 import org.odpi.openmetadata.governanceservers.openlineage.handlers.OpenLineageAssetContextHandler;
 import org.odpi.openmetadata.governanceservers.openlineage.handlers.OpenLineageHandler;
+import org.odpi.openmetadata.governanceservers.openlineage.listeners.LineageChangeTracker;
 import org.odpi.openmetadata.governanceservers.openlineage.listeners.OpenLineageInTopicListener;
 import org.odpi.openmetadata.governanceservers.openlineage.scheduler.AssetLineageUpdateJob;
 import org.odpi.openmetadata.governanceservers.openlineage.scheduler.AssetLineageUpdateJobConfiguration;
@@ -68,6 +68,7 @@ public class OpenLineageServerOperationalServices {
     private OpenLineageGraphConnector lineageGraphConnector;
     private AssetLineageOutTopicClientConnector inTopicConnector;
     private AssetLineage assetLineageClient;
+    private OpenLineageInTopicListener openLineageInTopicListener;
     private List<JobConfiguration> backgroundJobs;
 
     /**
@@ -229,7 +230,7 @@ public class OpenLineageServerOperationalServices {
             String assetLineageServerName = openLineageServerConfig.getAccessServiceConfig().getServerName();
             backgroundJobs.add(new AssetLineageUpdateJobConfiguration(lineageGraphConnector, JobConstants.ASSET_LINEAGE_UPDATE_JOB,
                     AssetLineageUpdateJob.class, assetLineageJobInterval, configAssetLineageLastUpdateTime, assetLineageClient,
-                    assetLineageServerName, localServerUserId));
+                    assetLineageServerName, localServerUserId, openLineageInTopicListener));
         }
 
         backgroundJobs.forEach(JobConfiguration::schedule);
@@ -359,8 +360,9 @@ public class OpenLineageServerOperationalServices {
         OLSSimplifiedAccessServiceConfig accessServiceConfig = openLineageServerConfig.getAccessServiceConfig();
         assetLineageClient = new AssetLineage(accessServiceConfig.getServerName(), accessServiceConfig.getServerPlatformUrlRoot());
         OpenLineageAssetContextHandler assetContextHandler = new OpenLineageAssetContextHandler(localServerUserId, assetLineageClient);
-        AssetLineageEventListener openLineageInTopicListener = new OpenLineageInTopicListener(storingServices,
-                assetContextHandler, auditLog);
+        LineageChangeTracker changeTracker = isJobEnabled(getJob(JobConstants.ASSET_LINEAGE_UPDATE_JOB)) ? new LineageChangeTracker() : null;
+        openLineageInTopicListener = new OpenLineageInTopicListener(storingServices,
+                assetContextHandler, auditLog, changeTracker);
         inTopicConnector.registerListener(localServerUserId, openLineageInTopicListener);
         try {
             inTopicConnector.start();
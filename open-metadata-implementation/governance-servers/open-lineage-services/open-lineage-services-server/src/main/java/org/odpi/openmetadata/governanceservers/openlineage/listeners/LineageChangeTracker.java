@@ -0,0 +1,94 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.openlineage.listeners;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * LineageChangeTracker records the change sequence numbers of the Asset Lineage events that have been applied to the
+ * lineage graph, whether they were received from the Asset Lineage OMAS out topic or pulled from its change feed.
+ * The topic listener and the AssetLineageUpdateJob claim an event before applying it, so an event is only written
+ * to the graph once.
+ */
+public class LineageChangeTracker {
+
+    private final NavigableSet<Long> appliedSequences = new TreeSet<>();
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+
+    private long highestReceivedSequence = -1;
+    private long highestSequenceAtLastCheck = -1;
+
+    /**
+     * Claim an event before applying it.
+     *
+     * @param sequence the change sequence of the event
+     * @param received whether the event was received from the out topic
+     *
+     * @return false if the event has already been claimed
+     */
+    public synchronized boolean claim(long sequence, boolean received) {
+        if (received) {
+            highestReceivedSequence = Math.max(highestReceivedSequence, sequence);
+        }
+        return appliedSequences.add(sequence);
+    }
+
+    /**
+     * Release the claim on an event that could not be applied, so it is tried again.
+     *
+     * @param sequence the change sequence of the event
+     *
+     * @return the number of times the event has failed
+     */
+    public synchronized int release(long sequence) {
+        appliedSequences.remove(sequence);
+        return failedAttempts.merge(sequence, 1, Integer::sum);
+    }
+
+    /**
+     * Return whether an event has been applied.
+     *
+     * @param sequence the change sequence of the event
+     *
+     * @return boolean flag
+     */
+    public synchronized boolean isApplied(long sequence) {
+        return appliedSequences.contains(sequence);
+    }
+
+    /**
+     * Return the number of times an event has failed to be applied.
+     *
+     * @param sequence the change sequence of the event
+     *
+     * @return count of failures
+     */
+    public synchronized int getFailedAttempts(long sequence) {
+        return failedAttempts.getOrDefault(sequence, 0);
+    }
+
+    /**
+     * Return the highest change sequence received from the out topic, or -1 if the topic listener has not received
+     * an event since the previous call. The events up to it that have not been applied were missed by the listener.
+     *
+     * @return the highest change sequence received while the topic listener is receiving events, otherwise -1
+     */
+    public synchronized long getReceivingSequence() {
+        long receivingSequence = highestReceivedSequence > highestSequenceAtLastCheck ? highestReceivedSequence : -1;
+        highestSequenceAtLastCheck = highestReceivedSequence;
+        return receivingSequence;
+    }
+
+    /**
+     * Forget the events before a change sequence, once the cursor that follows them has been saved.
+     *
+     * @param sequence the first change sequence to keep
+     */
+    public synchronized void prune(long sequence) {
+        appliedSequences.headSet(sequence, false).clear();
+        failedAttempts.keySet().removeIf(failedSequence -> failedSequence < sequence);
+    }
+}
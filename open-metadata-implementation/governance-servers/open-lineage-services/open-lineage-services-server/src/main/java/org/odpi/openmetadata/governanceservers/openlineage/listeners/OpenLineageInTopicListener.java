@@ -36,12 +36,37 @@ public class OpenLineageInTopicListener extends AssetLineageEventListener {
     private final OMRSAuditLog auditLog;
     private final StoringServices storingServices;
     private final OpenLineageAssetContextHandler assetContextHandler;
+    private final LineageChangeTracker changeTracker;
 
     public OpenLineageInTopicListener(StoringServices storingServices, OpenLineageAssetContextHandler assetContextHandler,
                                       OMRSAuditLog auditLog) {
+        this(storingServices, assetContextHandler, auditLog, null);
+    }
+
+    /**
+     * Creates a listener that records the events it applies in a change tracker, so the AssetLineageUpdateJob only
+     * applies the events of the Asset Lineage change feed that were missed by the listener.
+     *
+     * @param storingServices     the services storing the events in the graph
+     * @param assetContextHandler the handler requesting the asset context
+     * @param auditLog            the audit log
+     * @param changeTracker       the tracker of the applied events, or null if the change feed is not used
+     */
+    public OpenLineageInTopicListener(StoringServices storingServices, OpenLineageAssetContextHandler assetContextHandler,
+                                      OMRSAuditLog auditLog, LineageChangeTracker changeTracker) {
         this.storingServices = storingServices;
         this.assetContextHandler = assetContextHandler;
         this.auditLog = auditLog;
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Returns the tracker of the applied events.
+     *
+     * @return the change tracker, or null if the change feed is not used
+     */
+    public LineageChangeTracker getChangeTracker() {
+        return changeTracker;
     }
 
     /**
@@ -52,14 +77,57 @@ public class OpenLineageInTopicListener extends AssetLineageEventListener {
      */
     @Override
     public void processEvent(String assetLineageEvent) {
+        applyEvent(assetLineageEvent, true);
+    }
+
+    /**
+     * Applies an event pulled from the Asset Lineage change feed, unless it has already been applied.
+     *
+     * @param assetLineageEvent the event
+     *
+     * @return false if the event could not be applied
+     */
+    public boolean applyChange(String assetLineageEvent) {
+        return applyEvent(assetLineageEvent, false);
+    }
+
+    /**
+     * Returns the sequence number of an event in the Asset Lineage change feed.
+     *
+     * @param assetLineageEvent the event
+     *
+     * @return the change sequence, or empty if the event does not carry one
+     */
+    public Optional<Long> getChangeSequence(String assetLineageEvent) {
+        try {
+            AssetLineageEventHeader assetLineageEventHeader = OBJECT_READER.readValue(assetLineageEvent, AssetLineageEventHeader.class);
+            return Optional.ofNullable(assetLineageEventHeader).map(AssetLineageEventHeader::getChangeSequence);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean applyEvent(String assetLineageEvent, boolean received) {
+        Optional<Long> changeSequence = Optional.empty();
         try {
             log.debug("Started processing OpenLineageEvent {}", assetLineageEvent);
-            if (!assetLineageEvent.isEmpty()) {
-                processEventBasedOnType(assetLineageEvent);
+            if (assetLineageEvent.isEmpty()) {
+                return true;
             }
+            if (changeTracker != null) {
+                changeSequence = getChangeSequence(assetLineageEvent);
+                if (changeSequence.isPresent() && !changeTracker.claim(changeSequence.get(), received)) {
+                    log.debug("Skipping OpenLineageEvent {} that has already been applied", changeSequence.get());
+                    return true;
+                }
+            }
+            processEventBasedOnType(assetLineageEvent);
+            return true;
         } catch (IOException e) {
             logException(assetLineageEvent, e);
+            return true;
         } catch (Exception e) {
+            changeSequence.ifPresent(changeTracker::release);
             log.error("Exception processing the in topic event", e);
             OpenLineageServerAuditCode auditCode = OpenLineageServerAuditCode.PROCESS_EVENT_EXCEPTION;
 
@@ -71,8 +139,8 @@ public class OpenLineageInTopicListener extends AssetLineageEventListener {
                     auditCode.getSystemAction(),
                     auditCode.getUserAction(),
                     e);
+            return false;
         }
-
     }
 
     private void processEventBasedOnType(String assetLineageEvent) throws IOException {
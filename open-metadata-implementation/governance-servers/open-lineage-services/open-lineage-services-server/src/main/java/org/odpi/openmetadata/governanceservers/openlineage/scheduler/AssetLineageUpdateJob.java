@@ -4,10 +4,13 @@ package org.odpi.openmetadata.governanceservers.openlineage.scheduler;
 
 import org.apache.commons.lang3.StringUtils;
 import org.odpi.openmetadata.accessservices.assetlineage.AssetLineage;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.governanceservers.openlineage.graph.LineageGraph;
+import org.odpi.openmetadata.governanceservers.openlineage.listeners.LineageChangeTracker;
+import org.odpi.openmetadata.governanceservers.openlineage.listeners.OpenLineageInTopicListener;
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
@@ -36,6 +39,11 @@ public class AssetLineageUpdateJob implements Job {
             " was defined as '{}' and it should have an ISO-8601 format such as yyyy-MM-ddTHH:mm:ss. The job will shutdown and won't start again. " +
             "Correct the default value and restart the server instance.";
     private static final String LAST_UPDATE_TIME_UNKNOWN = "Last update time unknown";
+    private static final String APPLIED_LINEAGE_CHANGES = "Applied {} lineage changes from the AssetLineage OMAS change feed";
+    private static final String CHANGE_CURSOR_INVALID = "The AssetLineage OMAS change feed cursor {} is no longer valid, republishing the lineage context";
+    private static final String CHANGE_FEED_UNAVAILABLE = "The AssetLineage OMAS change feed could not be read, republishing the lineage context. The error was: {}";
+    private static final String CHANGE_NOT_APPLIED = "Lineage change {} could not be applied after {} attempts and is skipped";
+    private static final int MAX_CHANGE_ATTEMPTS = 3;
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
@@ -45,8 +53,12 @@ public class AssetLineageUpdateJob implements Job {
     }
 
     /**
-     * Calls the Asset Lineage client to determine updates for Glossary Terms starting from the last saved time.
-     * Then it calls the connector to save the current run time.
+     * Calls the Asset Lineage client to pull the lineage events published since the change feed cursor saved in the
+     * graph and applies the ones that the topic listener has not applied. If there is no saved cursor, or the change
+     * feed no longer holds the events after it, the job falls back to asking Asset Lineage OMAS to republish the
+     * context of the Glossary Terms updated since the last saved time, and then follows the change feed from the end
+     * it had before the republishing. The job also falls back to republishing if the change feed can not be read,
+     * for example because the Asset Lineage OMAS does not support it.
      *
      * @param date the time when the job last run successfully, also the time to save in the graph
      * @param dataMap       the job context data map containing useful data to run the job
@@ -55,10 +67,24 @@ public class AssetLineageUpdateJob implements Job {
         AssetLineage assetLineageClient = (AssetLineage) dataMap.get(JobConstants.ASSET_LINEAGE_CLIENT);
         String localServerName = (String) dataMap.get(JobConstants.ASSET_LINEAGE_SERVER_NAME);
         String localServerUserId = (String) dataMap.get(JobConstants.LOCAL_SERVER_USER_ID);
+        OpenLineageInTopicListener eventListener = (OpenLineageInTopicListener) dataMap.get(JobConstants.ASSET_LINEAGE_EVENT_LISTENER);
 
         try {
 
             LineageGraph lineageGraph = (LineageGraph) dataMap.get(JobConstants.OPEN_LINEAGE_STORAGE_SERVICE);
+            Optional<String> changeCursor = lineageGraph.getAssetLineageChangeCursor();
+            LineageChanges lineageChanges = getLineageChanges(assetLineageClient, localServerName, localServerUserId,
+                    changeCursor.orElse(null));
+
+            boolean changeFeedUsed = eventListener != null && eventListener.getChangeTracker() != null;
+            if (lineageChanges != null && lineageChanges.getCursorValid() && changeFeedUsed) {
+                applyLineageChanges(lineageChanges, assetLineageClient, localServerName, localServerUserId, eventListener, lineageGraph);
+                return;
+            }
+            if (lineageChanges != null) {
+                changeCursor.ifPresent(cursor -> log.info(CHANGE_CURSOR_INVALID, cursor));
+            }
+
             String configAssetLineageDefaultTime = (String) dataMap.get(JobConstants.CONFIG_ASSET_LINEAGE_LAST_UPDATE_TIME);
             Optional<Long> storedAssetLineageUpdateTime = lineageGraph.getAssetLineageUpdateTime();
             Optional<Date> assetLineageLastUpdateTime = getAssetLineageLastUpdateTime(configAssetLineageDefaultTime,
@@ -66,11 +92,101 @@ public class AssetLineageUpdateJob implements Job {
             assetLineageLastUpdateTime.ifPresent(lastUpdateTime -> log.debug(RUN_ASSET_LINEAGE_UPDATE_JOB, lastUpdateTime, ZoneId.systemDefault().getId()));
             assetLineageClient.publishEntities(localServerName, localServerUserId, GLOSSARY_TERM, assetLineageLastUpdateTime);
 
+            /*
+             * The events of the republished context follow the cursor returned before the republishing. The ones
+             * already applied by the topic listener are skipped when the change feed is followed from it.
+             */
+            if (lineageChanges != null && lineageChanges.getNextCursor() != null && changeFeedUsed) {
+                lineageGraph.saveAssetLineageChangeCursor(lineageChanges.getNextCursor());
+                LineageChanges republishedChanges = assetLineageClient.getLineageChanges(localServerName, localServerUserId,
+                        lineageChanges.getNextCursor(), JobConstants.LINEAGE_CHANGES_PAGE_SIZE);
+                applyLineageChanges(republishedChanges, assetLineageClient, localServerName, localServerUserId, eventListener,
+                        lineageGraph);
+            }
+
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             log.warn(RUNNING_FAILURE, date, ZoneId.systemDefault(), e.getMessage());
         }
     }
 
+    /**
+     * Reads the first page of the change feed after the cursor. A failure is logged and null is returned so that the
+     * job republishes the lineage context instead.
+     *
+     * @param assetLineageClient the Asset Lineage client
+     * @param serverName         the server where Asset Lineage OMAS runs
+     * @param userId             the local server user ID
+     * @param cursor             the saved change feed cursor, or null to start from the beginning of the feed
+     * @return the first page of changes, or null if the change feed could not be read
+     */
+    private LineageChanges getLineageChanges(AssetLineage assetLineageClient, String serverName, String userId, String cursor) {
+        try {
+            return assetLineageClient.getLineageChanges(serverName, userId, cursor, JobConstants.LINEAGE_CHANGES_PAGE_SIZE);
+        } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
+            log.warn(CHANGE_FEED_UNAVAILABLE, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Applies the pages of the change feed to the graph, skipping the events already applied by the topic listener.
+     * While the topic listener is receiving events, only the events up to the last one it received are applied, since
+     * the later ones are still on their way through the topic. The cursor is saved once all the events of a page
+     * are applied, so a page that is not complete is pulled again on the next run.
+     *
+     * @param lineageChanges     the first page of changes
+     * @param assetLineageClient the Asset Lineage client
+     * @param serverName         the server where Asset Lineage OMAS runs
+     * @param userId             the local server user ID
+     * @param eventListener      the listener that applies an event to the graph
+     * @param lineageGraph       the lineage graph where the cursor is saved
+     */
+    private void applyLineageChanges(LineageChanges lineageChanges, AssetLineage assetLineageClient, String serverName, String userId,
+                                     OpenLineageInTopicListener eventListener, LineageGraph lineageGraph)
+            throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        LineageChangeTracker changeTracker = eventListener.getChangeTracker();
+        long receivingSequence = changeTracker.getReceivingSequence();
+        long lastSequence = receivingSequence < 0 ? Long.MAX_VALUE : receivingSequence;
+
+        int appliedChanges = 0;
+        LineageChanges page = lineageChanges;
+        while (page != null && page.getCursorValid()) {
+            long pageEnd = -1;
+            for (String event : page.getEvents()) {
+                Optional<Long> changeSequence = eventListener.getChangeSequence(event);
+                if (changeSequence.isPresent()) {
+                    if (changeSequence.get() > lastSequence) {
+                        log.debug(APPLIED_LINEAGE_CHANGES, appliedChanges);
+                        return;
+                    }
+                    pageEnd = changeSequence.get();
+                    if (changeTracker.isApplied(pageEnd)) {
+                        continue;
+                    }
+                }
+                if (!eventListener.applyChange(event)) {
+                    int failedAttempts = changeSequence.map(changeTracker::getFailedAttempts).orElse(MAX_CHANGE_ATTEMPTS);
+                    if (failedAttempts < MAX_CHANGE_ATTEMPTS) {
+                        log.debug(APPLIED_LINEAGE_CHANGES, appliedChanges);
+                        return;
+                    }
+                    log.warn(CHANGE_NOT_APPLIED, changeSequence.orElse(null), failedAttempts);
+                    continue;
+                }
+                appliedChanges++;
+            }
+            lineageGraph.saveAssetLineageChangeCursor(page.getNextCursor());
+            if (pageEnd >= 0) {
+                changeTracker.prune(pageEnd + 1);
+            }
+            if (!page.getMoreChanges()) {
+                break;
+            }
+            page = assetLineageClient.getLineageChanges(serverName, userId, page.getNextCursor(), JobConstants.LINEAGE_CHANGES_PAGE_SIZE);
+        }
+        log.debug(APPLIED_LINEAGE_CHANGES, appliedChanges);
+    }
+
     /**
      *
      * Gets the best candidate for last known time when lineage was published for entities.
@@ -4,11 +4,12 @@ package org.odpi.openmetadata.governanceservers.openlineage.scheduler;
 
 import org.odpi.openmetadata.accessservices.assetlineage.AssetLineage;
 import org.odpi.openmetadata.governanceservers.openlineage.OpenLineageGraphConnector;
+import org.odpi.openmetadata.governanceservers.openlineage.listeners.OpenLineageInTopicListener;
 import org.quartz.Job;
 
 /**
  * Using the JobConfiguration as parent, this class adds more elements to the data map of the job: the asset lineage
- * client and the server where it runs, the local user ID.
+ * client and the server where it runs, the local user ID and the listener that applies the lineage events.
  */
 public class AssetLineageUpdateJobConfiguration extends JobConfiguration {
 
@@ -22,10 +23,11 @@ public class AssetLineageUpdateJobConfiguration extends JobConfiguration {
      * @param assetLineageClient    the Asset Lineage client
      * @param serverName            the server name where Asset Lineage OMAS runs
      * @param localServerUserId     the local server user ID
+     * @param eventListener         the listener that applies the events of the Asset Lineage change feed it has not received
      */
     public AssetLineageUpdateJobConfiguration(OpenLineageGraphConnector openLineageGraphConnector, String jobName, Class<? extends Job> jobClass,
                                               int jobInterval, String configAssetLineageUpdateTime, AssetLineage assetLineageClient,
-                                              String serverName, String localServerUserId) {
+                                              String serverName, String localServerUserId, OpenLineageInTopicListener eventListener) {
 
         super(openLineageGraphConnector, jobName, jobClass, jobInterval);
 
@@ -34,5 +36,6 @@ public class AssetLineageUpdateJobConfiguration extends JobConfiguration {
         jobDetail.getJobDataMap().put(JobConstants.ASSET_LINEAGE_CLIENT, assetLineageClient);
         jobDetail.getJobDataMap().put(JobConstants.ASSET_LINEAGE_SERVER_NAME, serverName);
         jobDetail.getJobDataMap().put(JobConstants.LOCAL_SERVER_USER_ID, localServerUserId);
+        jobDetail.getJobDataMap().put(JobConstants.ASSET_LINEAGE_EVENT_LISTENER, eventListener);
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.openlineage.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.odpi.openmetadata.accessservices.assetlineage.AssetLineage;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageChanges;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.governanceservers.openlineage.graph.LineageGraph;
+import org.odpi.openmetadata.governanceservers.openlineage.listeners.LineageChangeTracker;
+import org.odpi.openmetadata.governanceservers.openlineage.listeners.OpenLineageInTopicListener;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetLineageUpdateJobTest {
+
+    private static final String SERVER_NAME = "serverName";
+    private static final String USER_ID = "userId";
+    private static final String GLOSSARY_TERM = "GlossaryTerm";
+
+    @Mock
+    private AssetLineage assetLineageClient;
+    @Mock
+    private LineageGraph lineageGraph;
+    @Mock
+    private OpenLineageInTopicListener eventListener;
+    @Mock
+    private JobExecutionContext jobExecutionContext;
+    @Mock
+    private JobDetail jobDetail;
+
+    private final AssetLineageUpdateJob assetLineageUpdateJob = new AssetLineageUpdateJob();
+
+    @BeforeEach
+    void setUp() {
+        JobDataMap dataMap = new JobDataMap();
+        dataMap.put(JobConstants.ASSET_LINEAGE_CLIENT, assetLineageClient);
+        dataMap.put(JobConstants.ASSET_LINEAGE_SERVER_NAME, SERVER_NAME);
+        dataMap.put(JobConstants.LOCAL_SERVER_USER_ID, USER_ID);
+        dataMap.put(JobConstants.ASSET_LINEAGE_EVENT_LISTENER, eventListener);
+        dataMap.put(JobConstants.OPEN_LINEAGE_STORAGE_SERVICE, lineageGraph);
+
+        when(jobExecutionContext.getJobDetail()).thenReturn(jobDetail);
+        when(jobDetail.getJobDataMap()).thenReturn(dataMap);
+        when(eventListener.getChangeTracker()).thenReturn(new LineageChangeTracker());
+        when(lineageGraph.getAssetLineageChangeCursor()).thenReturn(Optional.of("feed:1"));
+    }
+
+    @Test
+    void execute_changeFeedFails_republishesLineage() throws Exception {
+        when(assetLineageClient.getLineageChanges(SERVER_NAME, USER_ID, "feed:1", JobConstants.LINEAGE_CHANGES_PAGE_SIZE))
+                .thenThrow(PropertyServerException.class);
+        when(lineageGraph.getAssetLineageUpdateTime()).thenReturn(Optional.of(1000L));
+
+        assetLineageUpdateJob.execute(jobExecutionContext);
+
+        verify(assetLineageClient).publishEntities(SERVER_NAME, USER_ID, GLOSSARY_TERM, Optional.of(new Date(1000L)));
+        verify(lineageGraph, never()).saveAssetLineageChangeCursor(any());
+    }
+
+    @Test
+    void execute_changeFeedRead_doesNotRepublishLineage() throws Exception {
+        LineageChanges lineageChanges = new LineageChanges();
+        lineageChanges.setEvents(Collections.emptyList());
+        lineageChanges.setNextCursor("feed:2");
+        lineageChanges.setCursorValid(true);
+        when(assetLineageClient.getLineageChanges(SERVER_NAME, USER_ID, "feed:1", JobConstants.LINEAGE_CHANGES_PAGE_SIZE))
+                .thenReturn(lineageChanges);
+
+        assetLineageUpdateJob.execute(jobExecutionContext);
+
+        verify(lineageGraph).saveAssetLineageChangeCursor("feed:2");
+        verify(assetLineageClient, never()).publishEntities(anyString(), anyString(), anyString(), any());
+        verify(assetLineageClient, never()).getLineageChanges(anyString(), anyString(), isNull(), anyInt());
+    }
+}
@@ -3,14 +3,25 @@
 
 package org.odpi.openmetadata.integrationservices.search.connector;
 
+import org.odpi.openmetadata.accessservices.assetcatalog.AssetCatalog;
 import org.odpi.openmetadata.accessservices.assetcatalog.eventclient.AssetCatalogEventClient;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.Elements;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetListResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.integrationservices.search.ffdc.SearchIntegratorErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * SearchIntegratorContext provides a wrapper around the Asset Catalog OMAS client.
  * It provides the simplified interface to open metadata needed by the SearchIntegratorConnector.
  */
 public class SearchIntegratorContext {
+    private static final String ASSET_TYPE_NAME = "Asset";
+
     private String userId;
     private String assetManagerGUID;
     private String assetManagerName;
@@ -18,6 +29,7 @@ public class SearchIntegratorContext {
     private String integrationServiceName;
     private AuditLog auditLog;
     private AssetCatalogEventClient eventClient;
+    private AssetCatalog assetCatalog;
 
 
     /**
@@ -33,6 +45,25 @@ public class SearchIntegratorContext {
      */
     public SearchIntegratorContext(String userId, String assetManagerGUID, String assetManagerName, String connectorName,
                                    AssetCatalogEventClient assetCatalogEventClient, String integrationServiceName, AuditLog auditLog) {
+        this(userId, assetManagerGUID, assetManagerName, connectorName, assetCatalogEventClient, null, integrationServiceName, auditLog);
+    }
+
+
+    /**
+     * Create a new context for a connector that can also retrieve assets from the Asset Catalog OMAS.
+     *
+     * @param userId                 integration daemon's userId
+     * @param assetManagerGUID       unique identifier of the software server capability for the asset manager
+     * @param assetManagerName       unique name of the software server capability for the asset manager
+     * @param connectorName          name of the connector using this context
+     * @param assetCatalogEventClient client to access the Asset Catalog OMAS out topic
+     * @param assetCatalog           client to call the Asset Catalog OMAS REST API
+     * @param integrationServiceName name of this service
+     * @param auditLog               logging destination
+     */
+    public SearchIntegratorContext(String userId, String assetManagerGUID, String assetManagerName, String connectorName,
+                                   AssetCatalogEventClient assetCatalogEventClient, AssetCatalog assetCatalog,
+                                   String integrationServiceName, AuditLog auditLog) {
 
         this.userId = userId;
         this.assetManagerGUID = assetManagerGUID;
@@ -41,5 +72,38 @@ public class SearchIntegratorContext {
         this.integrationServiceName = integrationServiceName;
         this.auditLog = auditLog;
         this.eventClient = assetCatalogEventClient;
+        this.assetCatalog = assetCatalog;
+    }
+
+
+    /**
+     * Return a page of the assets known to the Asset Catalog OMAS, including assets of all the subtypes of Asset.
+     * The assets are ordered by qualified name so that all the assets can be retrieved page by page.
+     *
+     * @param startFrom index of the first asset to return
+     * @param pageSize  maximum number of assets to return
+     * @return list of assets - empty when there are no more assets
+     * @throws InvalidParameterException one of the parameters is invalid or the context has no Asset Catalog OMAS client
+     * @throws PropertyServerException   there is a problem in the Asset Catalog OMAS
+     */
+    public List<Elements> getAssets(int startFrom, int pageSize) throws InvalidParameterException,
+                                                                       PropertyServerException {
+        final String methodName = "getAssets";
+        final String parameterName = "assetCatalog";
+
+        if (assetCatalog == null) {
+            throw new InvalidParameterException(SearchIntegratorErrorCode.NO_ASSET_CATALOG_CLIENT.getMessageDefinition(connectorName),
+                    this.getClass().getName(),
+                    methodName,
+                    parameterName);
+        }
+
+        AssetListResponse response = assetCatalog.searchByTypeName(userId, ASSET_TYPE_NAME, startFrom, pageSize);
+
+        if ((response == null) || (response.getElementsList() == null)) {
+            return new ArrayList<>();
+        }
+
+        return response.getElementsList();
     }
 }
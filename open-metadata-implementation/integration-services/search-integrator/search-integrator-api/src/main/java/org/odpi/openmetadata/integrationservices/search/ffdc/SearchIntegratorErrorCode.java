@@ -39,6 +39,12 @@ public enum SearchIntegratorErrorCode implements ExceptionMessageSet {
             "The integration connector is running but does not have a context.  This is a timing issue in the integration daemon.",
             "Gather information about the connector's configuration, the types of metadata it was integrating, the audit log messages " +
                     "from the integration daemon and its partner metadata server.  Then contact the Egeria community to get help."),
+
+    NO_ASSET_CATALOG_CLIENT(400, "OMIS-SEARCH-INTEGRATOR-400-002",
+            "The context for integration connector {0} is not able to retrieve assets because it has no Asset Catalog OMAS client",
+            "The request to retrieve assets is rejected.",
+            "The context was created by an integration daemon that does not pass the Asset Catalog OMAS client to its connectors.  " +
+                    "Upgrade the integration daemon to the same level as the connector."),
     ;
 
 
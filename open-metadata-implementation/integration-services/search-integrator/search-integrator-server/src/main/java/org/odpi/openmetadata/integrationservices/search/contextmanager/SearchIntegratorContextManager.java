@@ -35,6 +35,7 @@ import java.util.Map;
 public class SearchIntegratorContextManager extends IntegrationContextManager
 {
     private ExternalAssetManagerClient        assetManagerClient = null;
+    private AssetCatalog                      assetCatalog;
     private AssetCatalogEventClient           assetCatalogEventClient;
     private AssetCatalogOutTopicEventListener eventListener;
 
@@ -81,11 +82,10 @@ public class SearchIntegratorContextManager extends IntegrationContextManager
     @Override
     public void createClients() throws InvalidParameterException {
         final String methodName = "createClients";
-        AssetCatalog restClient;
         if (localServerPassword == null) {
-            restClient = new AssetCatalog(partnerOMASServerName, partnerOMASPlatformRootURL);
+            assetCatalog = new AssetCatalog(partnerOMASServerName, partnerOMASPlatformRootURL);
         } else {
-            restClient = new AssetCatalog(partnerOMASServerName,
+            assetCatalog = new AssetCatalog(partnerOMASServerName,
                     partnerOMASPlatformRootURL,
                     localServerUserId,
                     localServerPassword);
@@ -93,7 +93,7 @@ public class SearchIntegratorContextManager extends IntegrationContextManager
 
         assetCatalogEventClient = new AssetCatalogEventClient(partnerOMASServerName,
                 partnerOMASPlatformRootURL,
-                restClient,
+                assetCatalog,
                 maxPageSize,
                 auditLog,
                 localServerUserId);
@@ -216,6 +216,7 @@ public class SearchIntegratorContextManager extends IntegrationContextManager
                     metadataSourceQualifiedName,
                     connectorName,
                     assetCatalogEventClient,
+                    assetCatalog,
                     IntegrationServiceDescription.SEARCH_INTEGRATOR_OMIS.getIntegrationServiceFullName(),
                     auditLog));
 
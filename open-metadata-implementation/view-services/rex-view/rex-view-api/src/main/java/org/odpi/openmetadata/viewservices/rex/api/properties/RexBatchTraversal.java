@@ -0,0 +1,90 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.api.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+import java.util.List;
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RexBatchTraversal extends RexTraversal {
+
+
+    // The RexBatchTraversal class packages the merged result of expanding the neighborhoods of several
+    // focus entities in one request. The entity and relationship digests (inherited from RexTraversal)
+    // are deduplicated across all the focus entities.
+    // Because the view service limits the number of digests it will return, the batch traversal also
+    // records whether the result was truncated and which of the focus entities were actually expanded,
+    // so that the caller can request the remainder in a subsequent batch.
+
+
+    // Fields that describe the query that was performed:
+    private List<String>         entityGUIDs;              // the GUIDs of the focus entities that were requested
+    private List<String>         expandedEntityGUIDs;      // the GUIDs of the focus entities that were expanded
+    private Integer              maxEntities;              // the entity limit that was applied
+    private Integer              maxRelationships;         // the relationship limit that was applied
+    private boolean              truncated = false;        // true if one of the limits was reached
+
+
+    public RexBatchTraversal() {
+
+       // No initialization yet
+    }
+
+    /*
+     * Getters for Jackson
+     */
+
+    public List<String> getEntityGUIDs() { return entityGUIDs; }
+
+    public List<String> getExpandedEntityGUIDs() { return expandedEntityGUIDs; }
+
+    public Integer getMaxEntities() { return maxEntities; }
+
+    public Integer getMaxRelationships() { return maxRelationships; }
+
+    public boolean getTruncated() { return truncated; }
+
+
+
+    public void setEntityGUIDs(List<String> entityGUIDs) { this.entityGUIDs = entityGUIDs; }
+
+    public void setExpandedEntityGUIDs(List<String> expandedEntityGUIDs) { this.expandedEntityGUIDs = expandedEntityGUIDs; }
+
+    public void setMaxEntities(Integer maxEntities) { this.maxEntities = maxEntities; }
+
+    public void setMaxRelationships(Integer maxRelationships) { this.maxRelationships = maxRelationships; }
+
+    public void setTruncated(boolean truncated) { this.truncated = truncated; }
+
+    @Override
+    public String toString()
+    {
+        return "RexBatchTraversal{" +
+                "entityGUIDs=" + entityGUIDs +
+                ", expandedEntityGUIDs=" + expandedEntityGUIDs +
+                ", depth=" + getDepth() +
+                ", gen=" + getGen() +
+                ", entityTypeNames=" + getEntityTypeNames() +
+                ", relationshipTypeGUIDs=" + getRelationshipTypeGUIDs() +
+                ", classificationNames=" + getClassificationNames() +
+                ", maxEntities=" + maxEntities +
+                ", maxRelationships=" + maxRelationships +
+                ", truncated=" + truncated +
+                ", entities=" + getEntities() +
+                ", relationships=" + getRelationships() +
+                ", serverName=" + getServerName() +
+                ", platformName=" + getPlatformName() +
+                '}';
+    }
+
+
+
+}
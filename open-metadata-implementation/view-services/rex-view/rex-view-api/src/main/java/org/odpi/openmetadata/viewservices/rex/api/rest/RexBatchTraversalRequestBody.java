@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.api.rest;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+import java.util.List;
+import java.util.Objects;
+
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+
+public class RexBatchTraversalRequestBody {
+
+
+    /*
+     * The RexBatchTraversalRequestBody class provides a body for REST requests to expand the neighborhoods
+     * of several focus entities in a single rex-traversal. The limits on the number of entities and relationships
+     * are optional - if they are not set (or exceed the view service's own limits) the view service's limits apply.
+     */
+
+    private String                    serverName;                    // must be non-null
+    private String                    platformName;                  // must be non-null
+    private List<String>              entityGUIDs;                   // must be non-null, GUIDs of the roots of the traversal
+    private Boolean                   enterpriseOption;
+    private List<String>              entityTypeGUIDs;               // a list of type guids or null
+    private List<String>              relationshipTypeGUIDs;         // a list of type guids or null
+    private List<String>              classificationNames;           // a list of names or null
+    private Integer                   depth;                         // the depth of traversal from each root
+    private Integer                   maxEntities;                   // the maximum number of entity digests to return or null
+    private Integer                   maxRelationships;              // the maximum number of relationship digests to return or null
+    private long                      asOfTime = 0;                  // as of time to issue the query. 0 means now.
+
+
+    public RexBatchTraversalRequestBody() {
+       // No initialization yet
+    }
+
+    /*
+     * Getters for Jackson
+     */
+
+    public String getServerName() { return serverName; }
+
+    public String getPlatformName() { return platformName; }
+
+    public List<String> getEntityGUIDs() { return entityGUIDs; }
+
+    public Boolean getEnterpriseOption() {
+        if (enterpriseOption == null)
+            return false;
+        else
+            return enterpriseOption;
+    }
+
+    public List<String> getEntityTypeGUIDs() { return entityTypeGUIDs; }
+
+    public List<String> getRelationshipTypeGUIDs() {
+        return relationshipTypeGUIDs;
+    }
+
+    public List<String> getClassificationNames() {
+        return classificationNames;
+    }
+
+    public Integer getDepth() { return depth; }
+
+    public Integer getMaxEntities() { return maxEntities; }
+
+    public Integer getMaxRelationships() { return maxRelationships; }
+
+    public long getAsOfTime() {
+        return asOfTime;
+    }
+
+    public void setServerName(String serverName) { this.serverName = serverName; }
+
+    public void setPlatformName(String platformName) { this.platformName = platformName; }
+
+    public void setEntityGUIDs(List<String> entityGUIDs) { this.entityGUIDs = entityGUIDs; }
+
+    public void setEnterpriseOption(Boolean enterpriseOption) { this.enterpriseOption = enterpriseOption; }
+
+    public void setEntityTypeGUIDs(List<String> entityTypeGUIDs) { this.entityTypeGUIDs = entityTypeGUIDs; }
+
+    public void setRelationshipTypeGUIDs(List<String> relationshipTypeGUIDs) {
+        this.relationshipTypeGUIDs = relationshipTypeGUIDs;
+    }
+
+    public void setClassificationNames(List<String> classificationNames) {
+        this.classificationNames = classificationNames;
+    }
+
+    public void setDepth(Integer depth) { this.depth = depth; }
+
+    public void setMaxEntities(Integer maxEntities) { this.maxEntities = maxEntities; }
+
+    public void setMaxRelationships(Integer maxRelationships) { this.maxRelationships = maxRelationships; }
+
+    public void setAsOfTime(long asOfTime) {
+        this.asOfTime = asOfTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RexBatchTraversalRequestBody)) return false;
+        RexBatchTraversalRequestBody that = (RexBatchTraversalRequestBody) o;
+
+        return getAsOfTime() == that.getAsOfTime() && Objects.equals(getServerName(), that.getServerName()) && Objects.equals(getPlatformName(), that.getPlatformName()) && Objects.equals(getEntityGUIDs(), that.getEntityGUIDs()) && Objects.equals(getEnterpriseOption(), that.getEnterpriseOption()) && Objects.equals(getEntityTypeGUIDs(), that.getEntityTypeGUIDs()) && Objects.equals(getRelationshipTypeGUIDs(), that.getRelationshipTypeGUIDs()) && Objects.equals(getClassificationNames(), that.getClassificationNames()) && Objects.equals(getDepth(), that.getDepth()) && Objects.equals(getMaxEntities(), that.getMaxEntities()) && Objects.equals(getMaxRelationships(), that.getMaxRelationships());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getServerName(), getPlatformName(), getEntityGUIDs(), getEnterpriseOption(), getEntityTypeGUIDs(), getRelationshipTypeGUIDs(), getClassificationNames(), getDepth(), getMaxEntities(), getMaxRelationships(), getAsOfTime());
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "RexBatchTraversalRequestBody{" +
+                ", serverName=" + serverName +
+                ", platformName=" + platformName +
+                ", entityGUIDs=" + entityGUIDs +
+                ", depth=" + depth +
+                ", enterpriseOption=" + enterpriseOption +
+                ", entityTypeGUIDs=" + entityTypeGUIDs +
+                ", relationshipTypeGUIDs=" + relationshipTypeGUIDs +
+                ", classificationNames=" + classificationNames +
+                ", maxEntities=" + maxEntities +
+                ", maxRelationships=" + maxRelationships +
+                '}';
+    }
+
+
+
+}
@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.viewservices.rex.api.rest;
+
+
+import org.odpi.openmetadata.viewservices.rex.api.properties.RexBatchTraversal;
+
+import java.util.Arrays;
+
+public class RexBatchTraversalResponse extends RexViewOMVSAPIResponse {
+
+
+    private RexBatchTraversal  rexBatchTraversal;
+
+    /**
+     * Default constructor
+     */
+    public RexBatchTraversalResponse()
+    {
+        super();
+    }
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RexBatchTraversalResponse(RexBatchTraversalResponse template)
+    {
+        super(template);
+
+        if (template != null) {
+            this.rexBatchTraversal = template.getRexBatchTraversal();
+        }
+    }
+
+
+    /**
+     * Return the rexBatchTraversal result.
+     *
+     * @return bean
+     */
+    public RexBatchTraversal getRexBatchTraversal()
+    {
+        return rexBatchTraversal;
+    }
+
+
+    /**
+     * Set the rexBatchTraversal result.
+     *
+     * @param rexBatchTraversal - bean
+     */
+    public void setRexBatchTraversal(RexBatchTraversal rexBatchTraversal)
+    {
+        this.rexBatchTraversal = rexBatchTraversal;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RexBatchTraversalResponse{" +
+                "rexBatchTraversal=" + rexBatchTraversal +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+}
@@ -41,6 +41,7 @@ import org.odpi.openmetadata.viewservices.rex.api.properties.ClassificationExplo
 import org.odpi.openmetadata.viewservices.rex.api.properties.EntityExplorer;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RelationshipExplorer;
 import org.odpi.openmetadata.viewservices.rex.api.properties.ResourceEndpoint;
+import org.odpi.openmetadata.viewservices.rex.api.properties.RexBatchTraversal;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexEntityDigest;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexExpandedEntityDetail;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexExpandedRelationship;
@@ -70,6 +71,13 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Specify constants for the maximum number of entity and relationship digests returned by a batch traversal.
+     * A caller can ask for fewer but not more.
+     */
+    private static final int MAX_BATCH_TRAVERSAL_ENTITIES      = 1000;
+    private static final int MAX_BATCH_TRAVERSAL_RELATIONSHIPS = 2000;
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -1338,107 +1346,25 @@ public class RexViewHandler
                  *   a map of entityGUID       --> { entityGUID, label, gen }
                  *   a map of relationshipGUID --> { relationshipGUID, end1GUID, end2GUID, idx, label, gen }
                  */
-
-                /*
-                 * An InstanceGraph contains relationships and entities that are homed by the repository that
-                 * created the InstanceGraph. The relationships may refer to entities that are not homed by that
-                 * repository, so those entities will not be included in the 'entities' portion of the InstanceGraph.
-                 * Since our RexTraversal needs to be 'complete' - i.e. we have an EntityDigest for each end of
-                 * every relationship, we must generate digests not just from the entities lit, but also spot any
-                 * relationship ends that are NOT in the list and generate a digest for each of them as well.
-                 * Start by processing the homed entities.
-                 * Then process the relationships and check fr each end of each relationship whether we need to
-                 * augment the RexTraversal entityDigestMap.
-                 */
-                List<EntityDetail> entities = instGraph.getEntities();
-                Map<String, RexEntityDigest> entityDigestMap = null;
-                if (entities != null && !entities.isEmpty())
+                Map<String, RexEntityDigest>       entityDigestMap       = new HashMap<>();
+                Map<String, RexRelationshipDigest> relationshipDigestMap = new HashMap<>();
+
+                this.addInstanceGraphToDigests(instGraph,
+                                               entityDigestMap,
+                                               relationshipDigestMap,
+                                               typeExplorer,
+                                               metadataCollectionId,
+                                               enterpriseOption,
+                                               Integer.MAX_VALUE,
+                                               Integer.MAX_VALUE);
+
+                if (entityDigestMap.isEmpty())
                 {
-                    entityDigestMap = new HashMap<>();
-                    for (EntityDetail entityDetail : entities)
-                    {
-                        /*
-                         * We need entityGUID, label (computed) and if !preTraversal also include gen
-                         */
-                        String entGUID = entityDetail.getGUID();
-
-                        // Pass the typeExplorer to the labeller so that it can traverse...
-                        String entLabel = this.chooseLabelForEntity(entityDetail, typeExplorer);
-
-                        String provenance = determineInstanceProvenance(entityDetail, metadataCollectionId, enterpriseOption);
-
-                        RexEntityDigest red = new RexEntityDigest(entGUID,
-                                                                  entLabel,
-                                                                  0,
-                                                                  entityDetail.getMetadataCollectionName(),
-                                                                  entityDetail.getMetadataCollectionId(),
-                                                                  provenance);
-                        entityDigestMap.put(entGUID, red);
-                    }
-
+                    entityDigestMap = null;
                 }
-
-                List<Relationship> relationships = instGraph.getRelationships();
-                Map<String, RexRelationshipDigest> relationshipDigestMap = null;
-                if (relationships != null && !relationships.isEmpty())
+                if (relationshipDigestMap.isEmpty())
                 {
-                    relationshipDigestMap = new HashMap<>();
-                    for (Relationship relationship : relationships)
-                    {
-                        /*
-                         * We need: entityGUID, label (computed) and if !preTraversal also include gen
-                         *   relationshipGUID, label (computed), end1GUID, end2GUID, idx (computed), gen
-                         */
-                        String relGUID = relationship.getGUID();
-                        String relLabel = this.chooseLabelForRelationship(relationship);
-                        String end1GUID = relationship.getEntityOneProxy().getGUID();
-                        String end2GUID = relationship.getEntityTwoProxy().getGUID();
-
-                        /* check for proxies... */
-                        if (entityDigestMap.get(end1GUID) == null)
-                        {
-                            /* add a digest for this proxy... */
-                            EntityProxy end1Proxy = relationship.getEntityOneProxy();
-                            String end1Label = this.chooseLabelForEntityProxy(end1Proxy, typeExplorer);
-                            RexEntityDigest red = new RexEntityDigest(end1GUID,
-                                                                      end1Label,
-                                                                      0,
-                                                                      end1Proxy.getMetadataCollectionName(),
-                                                                      end1Proxy.getMetadataCollectionId(),
-                                                                      "proxy"
-                            );
-                            entityDigestMap.put(end1GUID, red);
-                        }
-                        if (entityDigestMap.get(end2GUID) == null)
-                        {
-                            /* add a digest for this proxy... */
-                            EntityProxy end2Proxy = relationship.getEntityTwoProxy();
-                            String end2Label = this.chooseLabelForEntityProxy(end2Proxy, typeExplorer);
-                            RexEntityDigest red = new RexEntityDigest(end2GUID,
-                                                                      end2Label,
-                                                                      0,
-                                                                      end2Proxy.getMetadataCollectionName(),
-                                                                      end2Proxy.getMetadataCollectionId(),
-                                                                      "proxy");
-                            entityDigestMap.put(end2GUID, red);
-                        }
-
-
-                        int idx = 0;
-
-                        String provenance = determineInstanceProvenance(relationship, metadataCollectionId, enterpriseOption);
-
-                        RexRelationshipDigest rrd = new RexRelationshipDigest(relGUID,
-                                                                              relLabel,
-                                                                              end1GUID,
-                                                                              end2GUID,
-                                                                              idx,
-                                                                              0,
-                                                                              relationship.getMetadataCollectionName(),
-                                                                              relationship.getMetadataCollectionId(),
-                                                                              provenance);
-                        relationshipDigestMap.put(relGUID, rrd);
-                    }
+                    relationshipDigestMap = null;
                 }
 
                 rt.setEntityGUID(entityGUID);
@@ -1521,6 +1447,396 @@ public class RexViewHandler
     }
 
 
+    /**
+     * Retrieve the merged neighborhoods surrounding a set of focus entities.  Each focus entity is expanded
+     * with getEntityNeighborhood using the same filters and depth, and the results are combined into a single
+     * deduplicated digest-only graph.  The number of entity and relationship digests returned is limited by the
+     * view service - if a limit is reached the remaining focus entities are not expanded and the result is
+     * flagged as truncated.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param entityGUIDs the identities of the entities from which to traverse
+     * @param depth the depth to which the method should traverse from each entity
+     * @param entityTypeGUIDs the GUIDs of entity types to filter the neighborhood
+     * @param relationshipTypeGUIDs the GUIDs of relationship types to filter the neighborhood
+     * @param classificationNames the names of classification types to filter the neighborhood
+     * @param maxEntities the maximum number of entity digests requested by the caller, or null for the view service limit
+     * @param maxRelationships the maximum number of relationship digests requested by the caller, or null for the view service limit
+     * @param asOfTime  return the entities and relationships at this date, if null then now.
+     * @param methodName The name of the method being invoked
+     * @return a RexBatchTraversal object containing the merged neighborhood information
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    public RexBatchTraversal batchTraversal(String          userId,
+                                            String          repositoryServerName,
+                                            String          platformName,
+                                            boolean         enterpriseOption,
+                                            List<String>    entityGUIDs,
+                                            int             depth,
+                                            List<String>    entityTypeGUIDs,
+                                            List<String>    relationshipTypeGUIDs,
+                                            List<String>    classificationNames,
+                                            Integer         maxEntities,
+                                            Integer         maxRelationships,
+                                            long            asOfTime,
+                                            String          methodName)
+    throws
+    RexViewServiceException
+
+    {
+        if (entityGUIDs == null || entityGUIDs.isEmpty())
+        {
+            throw new RexViewServiceException(RexViewErrorCode.INVALID_PARAMETER.getMessageDefinition(methodName, "entityGUIDs"),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+
+        Date asOfTimeDate = null;
+        if (asOfTime != 0) {
+            asOfTimeDate = new Date(asOfTime);
+        }
+
+        /*
+         * The caller may ask for fewer digests than the view service allows but not more.
+         */
+        int entityLimit = MAX_BATCH_TRAVERSAL_ENTITIES;
+        if (maxEntities != null && maxEntities > 0 && maxEntities < entityLimit)
+        {
+            entityLimit = maxEntities;
+        }
+        int relationshipLimit = MAX_BATCH_TRAVERSAL_RELATIONSHIPS;
+        if (maxRelationships != null && maxRelationships > 0 && maxRelationships < relationshipLimit)
+        {
+            relationshipLimit = maxRelationships;
+        }
+
+        /*
+         * The focus entity GUIDs may contain duplicates - expand each one only once but retain the caller's order.
+         */
+        Set<String> focusEntityGUIDs = new LinkedHashSet<>(entityGUIDs);
+        focusEntityGUIDs.remove(null);
+
+        try
+        {
+
+            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
+
+            /*
+             *  Switch between local and enterprise services clients depending
+             *  on enterprise option...
+             */
+            MetadataCollectionServicesClient repositoryServicesClient;
+
+            if (!enterpriseOption)
+            {
+                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
+            }
+            else
+            {
+                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
+            }
+
+
+            /*
+             * The metadataCollectionId and the types are retrieved once for the whole batch rather than once per focus entity.
+             */
+            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+
+            TypeExplorer typeExplorer = getTypeExplorer(userId,
+                                                        repositoryServerName,
+                                                        platformName,
+                                                        enterpriseOption,
+                                                        methodName);
+
+            Map<String, RexEntityDigest>       entityDigestMap       = new HashMap<>();
+            Map<String, RexRelationshipDigest> relationshipDigestMap = new HashMap<>();
+            List<String>                       expandedEntityGUIDs   = new ArrayList<>();
+            boolean                            truncated             = false;
+
+            for (String focusEntityGUID : focusEntityGUIDs)
+            {
+                if (entityDigestMap.size() >= entityLimit || relationshipDigestMap.size() >= relationshipLimit)
+                {
+                    truncated = true;
+                    break;
+                }
+
+                InstanceGraph instGraph;
+
+                if (depth > 0)
+                {
+                    instGraph = repositoryServicesClient.getEntityNeighborhood(userId,
+                                                                               focusEntityGUID,
+                                                                               entityTypeGUIDs,
+                                                                               relationshipTypeGUIDs,
+                                                                               null,
+                                                                               classificationNames,
+                                                                               asOfTimeDate,
+                                                                               depth);
+                }
+                else
+                {
+                    /*
+                     * Since depth is 0 - use getEntityDetail instead of neighborhood
+                     */
+                    EntityDetail entityDetail = repositoryServicesClient.getEntityDetail(userId, focusEntityGUID);
+
+                    instGraph = new InstanceGraph();
+
+                    List<EntityDetail> entityDetailList = new ArrayList<>();
+                    entityDetailList.add(entityDetail);
+                    instGraph.setEntities(entityDetailList);
+                }
+
+                if (instGraph != null)
+                {
+                    if (this.addInstanceGraphToDigests(instGraph,
+                                                       entityDigestMap,
+                                                       relationshipDigestMap,
+                                                       typeExplorer,
+                                                       metadataCollectionId,
+                                                       enterpriseOption,
+                                                       entityLimit,
+                                                       relationshipLimit))
+                    {
+                        truncated = true;
+                    }
+                }
+
+                expandedEntityGUIDs.add(focusEntityGUID);
+
+                if (truncated)
+                {
+                    break;
+                }
+            }
+
+            if (truncated)
+            {
+                log.debug("Batch traversal of " + focusEntityGUIDs.size() + " entities truncated after " + expandedEntityGUIDs.size() +
+                                  " with " + entityDigestMap.size() + " entities and " + relationshipDigestMap.size() + " relationships");
+            }
+
+            RexBatchTraversal rbt = new RexBatchTraversal();
+
+            rbt.setEntityGUIDs(new ArrayList<>(focusEntityGUIDs));
+            rbt.setExpandedEntityGUIDs(expandedEntityGUIDs);
+            rbt.setDepth(depth);
+            rbt.setGen(0);
+            // Instead of using type guids in the traversal (which is to be sent to the browser) use type names instead.
+            List<String> entityTypeNames = new ArrayList<>();
+            if (entityTypeGUIDs != null && !entityTypeGUIDs.isEmpty())
+                for (String entityTypeGUID : entityTypeGUIDs)
+                {
+                    // Convert from typeGIUD to typeName
+                    String entityTypeName = typeExplorer.getEntityTypeName(entityTypeGUID);
+                    entityTypeNames.add(entityTypeName);
+                }
+            rbt.setEntityTypeNames(entityTypeNames);
+            rbt.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
+            rbt.setClassificationNames(classificationNames);
+            rbt.setMaxEntities(entityLimit);
+            rbt.setMaxRelationships(relationshipLimit);
+            rbt.setTruncated(truncated);
+            rbt.setEntities(entityDigestMap.isEmpty() ? null : entityDigestMap);
+            rbt.setRelationships(relationshipDigestMap.isEmpty() ? null : relationshipDigestMap);
+            rbt.setServerName(repositoryServerName);
+            rbt.setPlatformName(platformName);
+
+            return rbt;
+        }
+        catch (UserNotAuthorizedException e)
+        {
+            throw RexExceptionHandler.mapOMRSUserNotAuthorizedException(this.getClass().getName(),
+                                                                        methodName,
+                                                                        e);
+        }
+        catch (RepositoryErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSRepositoryErrorException(this.getClass().getName(),
+                                                                      methodName,
+                                                                      e);
+        }
+        catch (InvalidParameterException e)
+        {
+            throw RexExceptionHandler.mapOMRSInvalidParameterException(this.getClass().getName(),
+                                                                       methodName,
+                                                                       e);
+        }
+        catch (TypeErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSTypeErrorException(this.getClass().getName(),
+                                                                methodName,
+                                                                e);
+        }
+        catch (PropertyErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSPropertyErrorException(this.getClass().getName(),
+                                                                    methodName,
+                                                                    e);
+        }
+        catch (FunctionNotSupportedException e)
+        {
+            throw RexExceptionHandler.mapOMRSEntityHistoricalNotSupportedException(this.getClass().getName(), methodName, e);
+        }
+        catch (EntityNotKnownException e)
+        {
+            throw RexExceptionHandler.mapOMRSEntityNotKnownException(this.getClass().getName(),
+                                                                     methodName,
+                                                                     repositoryServerName,
+                                                                     enterpriseOption,
+                                                                     e);
+        }
+        catch (EntityProxyOnlyException e)
+        {
+            throw RexExceptionHandler.mapOMRSEntityProxyOnlyException(this.getClass().getName(), methodName, e);
+        }
+
+    }
+
+
+    /*
+     * Add digests for the entities and relationships in an InstanceGraph to the supplied maps, skipping any
+     * instances that are already present.
+     *
+     * An InstanceGraph contains relationships and entities that are homed by the repository that
+     * created the InstanceGraph. The relationships may refer to entities that are not homed by that
+     * repository, so those entities will not be included in the 'entities' portion of the InstanceGraph.
+     * Since our RexTraversal needs to be 'complete' - i.e. we have an EntityDigest for each end of
+     * every relationship, we must generate digests not just from the entities list, but also spot any
+     * relationship ends that are NOT in the list and generate a digest for each of them as well.
+     * A relationship is only added if there is room for both of its ends within the entity limit.
+     *
+     * Returns true if any instance was left out because a limit was reached.
+     */
+    private boolean addInstanceGraphToDigests(InstanceGraph                      instGraph,
+                                              Map<String, RexEntityDigest>       entityDigestMap,
+                                              Map<String, RexRelationshipDigest> relationshipDigestMap,
+                                              TypeExplorer                       typeExplorer,
+                                              String                             metadataCollectionId,
+                                              boolean                            enterpriseOption,
+                                              int                                maxEntities,
+                                              int                                maxRelationships)
+    {
+        boolean truncated = false;
+
+        List<EntityDetail> entities = instGraph.getEntities();
+        if (entities != null)
+        {
+            for (EntityDetail entityDetail : entities)
+            {
+                String entGUID = entityDetail.getGUID();
+
+                if (! entityDigestMap.containsKey(entGUID))
+                {
+                    if (entityDigestMap.size() >= maxEntities)
+                    {
+                        truncated = true;
+                        continue;
+                    }
+
+                    // Pass the typeExplorer to the labeller so that it can traverse...
+                    String entLabel = this.chooseLabelForEntity(entityDetail, typeExplorer);
+
+                    String provenance = determineInstanceProvenance(entityDetail, metadataCollectionId, enterpriseOption);
+
+                    RexEntityDigest red = new RexEntityDigest(entGUID,
+                                                              entLabel,
+                                                              0,
+                                                              entityDetail.getMetadataCollectionName(),
+                                                              entityDetail.getMetadataCollectionId(),
+                                                              provenance);
+                    entityDigestMap.put(entGUID, red);
+                }
+            }
+        }
+
+        List<Relationship> relationships = instGraph.getRelationships();
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                String relGUID = relationship.getGUID();
+
+                if (relationshipDigestMap.containsKey(relGUID))
+                {
+                    continue;
+                }
+
+                EntityProxy end1Proxy = relationship.getEntityOneProxy();
+                EntityProxy end2Proxy = relationship.getEntityTwoProxy();
+                String      end1GUID  = end1Proxy.getGUID();
+                String      end2GUID  = end2Proxy.getGUID();
+
+                /* check there is room for the relationship and any proxies it needs... */
+                int newEntities = 0;
+                if (! entityDigestMap.containsKey(end1GUID))
+                {
+                    newEntities++;
+                }
+                if ((! entityDigestMap.containsKey(end2GUID)) && (! end2GUID.equals(end1GUID)))
+                {
+                    newEntities++;
+                }
+
+                if ((relationshipDigestMap.size() >= maxRelationships) || (entityDigestMap.size() + newEntities > maxEntities))
+                {
+                    truncated = true;
+                    continue;
+                }
+
+                /* add digests for proxies... */
+                if (! entityDigestMap.containsKey(end1GUID))
+                {
+                    String end1Label = this.chooseLabelForEntityProxy(end1Proxy, typeExplorer);
+                    RexEntityDigest red = new RexEntityDigest(end1GUID,
+                                                              end1Label,
+                                                              0,
+                                                              end1Proxy.getMetadataCollectionName(),
+                                                              end1Proxy.getMetadataCollectionId(),
+                                                              "proxy");
+                    entityDigestMap.put(end1GUID, red);
+                }
+                if (! entityDigestMap.containsKey(end2GUID))
+                {
+                    String end2Label = this.chooseLabelForEntityProxy(end2Proxy, typeExplorer);
+                    RexEntityDigest red = new RexEntityDigest(end2GUID,
+                                                              end2Label,
+                                                              0,
+                                                              end2Proxy.getMetadataCollectionName(),
+                                                              end2Proxy.getMetadataCollectionId(),
+                                                              "proxy");
+                    entityDigestMap.put(end2GUID, red);
+                }
+
+                String relLabel = this.chooseLabelForRelationship(relationship);
+
+                int idx = 0;
+
+                String provenance = determineInstanceProvenance(relationship, metadataCollectionId, enterpriseOption);
+
+                RexRelationshipDigest rrd = new RexRelationshipDigest(relGUID,
+                                                                      relLabel,
+                                                                      end1GUID,
+                                                                      end2GUID,
+                                                                      idx,
+                                                                      0,
+                                                                      relationship.getMetadataCollectionName(),
+                                                                      relationship.getMetadataCollectionId(),
+                                                                      provenance);
+                relationshipDigestMap.put(relGUID, rrd);
+            }
+        }
+
+        return truncated;
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *
@@ -892,6 +892,124 @@ public class RexViewRESTServices {
     }
 
 
+    /**
+     *  This method retrieves the merged neighborhoods around a set of starting entities.
+     *  <p>
+     *  Each starting entity is expanded to the requested depth and the results are returned as a single
+     *  deduplicated graph of digests, limited in size by the view service.
+     *  <p>
+     *  The method used is POST because the parameters supplied by the UI to the VS are conveyed in
+     *  the request body.
+     *
+     *
+     * @param serverName   name of the server running the view-service.
+     * @param userId       user account under which to conduct operation.
+     * @param requestBody  request body containing parameters to formulate repository request
+     * @return response object containing the digests for the batch traversal or exception information
+     *
+     * <ul>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.
+     * </ul>
+     */
+
+    public RexBatchTraversalResponse batchTraversal(String                       serverName,
+                                                    String                       userId,
+                                                    RexBatchTraversalRequestBody requestBody)
+    {
+
+        final String methodName = "batchTraversal";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        RexBatchTraversalResponse response = new RexBatchTraversalResponse();
+
+        if (requestBody != null)
+        {
+
+            AuditLog auditLog = null;
+            RexViewHandler handler = null;
+
+            try
+            {
+                auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+                handler = instanceHandler.getRexViewHandler(userId, serverName, methodName);
+            }
+            catch (InvalidParameterException exception)
+            {
+                restExceptionHandler.captureInvalidParameterException(response, exception);
+            }
+            catch (PropertyServerException exception)
+            {
+                restExceptionHandler.capturePropertyServerException(response, exception);
+            }
+            catch (UserNotAuthorizedException exception)
+            {
+                restExceptionHandler.captureUserNotAuthorizedException(response, exception);
+            }
+            catch (Exception exception)
+            {
+                restExceptionHandler.captureExceptions(response, exception, methodName, auditLog);
+            }
+
+            try {
+
+                int depth = 1;
+                if (requestBody.getDepth() != null)
+                {
+                    depth = requestBody.getDepth();
+                }
+
+                RexBatchTraversal batchTraversal = handler.batchTraversal(userId,
+                                                                          requestBody.getServerName(),
+                                                                          requestBody.getPlatformName(),
+                                                                          requestBody.getEnterpriseOption(),
+                                                                          requestBody.getEntityGUIDs(),
+                                                                          depth,
+                                                                          requestBody.getEntityTypeGUIDs(),
+                                                                          requestBody.getRelationshipTypeGUIDs(),
+                                                                          requestBody.getClassificationNames(),
+                                                                          requestBody.getMaxEntities(),
+                                                                          requestBody.getMaxRelationships(),
+                                                                          requestBody.getAsOfTime(),
+                                                                          methodName);
+
+                if (batchTraversal != null)
+                {
+                    response.setRexBatchTraversal(batchTraversal);
+                }
+
+            }
+            catch (RexViewServiceException exception)
+            {
+                RexExceptionHandler.captureCheckedException(response, exception, exception.getClass().getName());
+            }
+            catch (Exception exception)
+            {
+                restExceptionHandler.captureExceptions(response, exception, methodName, auditLog);
+            }
+        }
+        else
+        {
+            /*
+             * Raise (and immediately capture) a RexViewServicesException
+             */
+            RexViewServiceException exception = new RexViewServiceException(RexViewErrorCode.VIEW_SERVICE_REQUEST_BODY_MISSING.getMessageDefinition(),
+                                                                            this.getClass().getName(),
+                                                                            methodName);
+
+            RexExceptionHandler.captureCheckedException(response, exception, exception.getClass().getName());
+        }
+
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
 
 
 }
@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.viewservices.rex.server.spring;
 
 
+import org.odpi.openmetadata.viewservices.rex.api.rest.RexBatchTraversalRequestBody;
+import org.odpi.openmetadata.viewservices.rex.api.rest.RexBatchTraversalResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexEntityDetailResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexEntityRequestBody;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexPreTraversalResponse;
@@ -228,4 +230,28 @@ public class RexViewRESTResource {
 
 
     }
+
+
+    /**
+     *  This method retrieves the merged neighborhoods around a set of starting entities in a single call.
+     *  <p>
+     *  Each starting entity is expanded to the requested depth and the results are returned as a
+     *  deduplicated graph of entity and relationship digests.  The size of the graph is limited by the
+     *  view service and the response indicates if it was truncated.
+     *  <p>
+     *  The method used is POST because the parameters supplied by the UI to the VS are conveyed in
+     *  the request body.
+     *
+     *
+     * @param viewServerName   name of the server running the view-service.
+     * @param userId       user account under which to conduct operation.
+     * @param body         request body containing parameters to formulate repository requests
+     * @return response object containing the digests for the batch traversal or exception information
+     */
+    @PostMapping("/instances/batch-traversal")
+    public RexBatchTraversalResponse rexBatchTraversal(@PathVariable String                      viewServerName,
+                                                       @PathVariable String                      userId,
+                                                       @RequestBody RexBatchTraversalRequestBody body) {
+        return restAPI.batchTraversal(viewServerName, userId, body);
+    }
 }
@@ -0,0 +1,84 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericConverter;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * BenchmarkAssetConverter transfers the properties of an asset entity into a BenchmarkAssetElement in the same way
+ * as the asset converters of the access services.
+ */
+public class BenchmarkAssetConverter<B> extends OpenMetadataAPIGenericConverter<B>
+{
+    /**
+     * Constructor
+     *
+     * @param repositoryHelper helper object to parse entity
+     * @param serviceName name of this component
+     * @param serverName local server name
+     */
+    public BenchmarkAssetConverter(OMRSRepositoryHelper repositoryHelper,
+                                   String               serviceName,
+                                   String               serverName)
+    {
+        super(repositoryHelper, serviceName, serverName);
+    }
+
+
+    /**
+     * Using the supplied entity, return a new instance of the bean.
+     *
+     * @param beanClass name of the class to create
+     * @param entity entity containing the properties
+     * @param methodName calling method
+     * @return bean populated with properties from the entity supplied
+     * @throws PropertyServerException there is a problem instantiating the bean
+     */
+    @Override
+    public B getNewBean(Class<B>     beanClass,
+                        EntityDetail entity,
+                        String       methodName) throws PropertyServerException
+    {
+        try
+        {
+            B returnBean = beanClass.getDeclaredConstructor().newInstance();
+
+            if (returnBean instanceof BenchmarkAssetElement)
+            {
+                BenchmarkAssetElement bean = (BenchmarkAssetElement) returnBean;
+
+                if (entity != null)
+                {
+                    bean.setElementHeader(super.getMetadataElementHeader(beanClass, entity, methodName));
+
+                    InstanceProperties instanceProperties = new InstanceProperties(entity.getProperties());
+
+                    bean.setQualifiedName(this.removeQualifiedName(instanceProperties));
+                    bean.setAdditionalProperties(this.removeAdditionalProperties(instanceProperties));
+                    bean.setName(this.removeName(instanceProperties));
+                    bean.setDescription(this.removeDescription(instanceProperties));
+                    bean.setExtendedProperties(this.getRemainingExtendedProperties(instanceProperties));
+                }
+                else
+                {
+                    handleMissingMetadataInstance(beanClass.getName(), TypeDefCategory.ENTITY_DEF, methodName);
+                }
+            }
+
+            return returnBean;
+        }
+        catch (IllegalAccessException | InstantiationException | ClassCastException | NoSuchMethodException | InvocationTargetException error)
+        {
+            super.handleInvalidBeanClass(beanClass.getName(), error, methodName);
+        }
+
+        return null;
+    }
+}
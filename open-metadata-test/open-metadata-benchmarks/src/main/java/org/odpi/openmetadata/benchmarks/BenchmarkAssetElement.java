@@ -0,0 +1,161 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+
+import java.util.Map;
+
+/**
+ * BenchmarkAssetElement is the bean filled by the BenchmarkAssetConverter.  It has the same shape as the asset
+ * elements returned by the access services.
+ */
+public class BenchmarkAssetElement
+{
+    private ElementHeader       elementHeader        = null;
+    private String              qualifiedName        = null;
+    private String              name                 = null;
+    private String              description          = null;
+    private Map<String, String> additionalProperties = null;
+    private Map<String, Object> extendedProperties   = null;
+
+
+    /**
+     * Default constructor
+     */
+    public BenchmarkAssetElement()
+    {
+    }
+
+
+    /**
+     * Return the element header associated with the properties.
+     *
+     * @return element header object
+     */
+    public ElementHeader getElementHeader()
+    {
+        return elementHeader;
+    }
+
+
+    /**
+     * Set up the element header associated with the properties.
+     *
+     * @param elementHeader element header object
+     */
+    public void setElementHeader(ElementHeader elementHeader)
+    {
+        this.elementHeader = elementHeader;
+    }
+
+
+    /**
+     * Return the unique name of the asset.
+     *
+     * @return string name
+     */
+    public String getQualifiedName()
+    {
+        return qualifiedName;
+    }
+
+
+    /**
+     * Set up the unique name of the asset.
+     *
+     * @param qualifiedName string name
+     */
+    public void setQualifiedName(String qualifiedName)
+    {
+        this.qualifiedName = qualifiedName;
+    }
+
+
+    /**
+     * Return the display name of the asset.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Set up the display name of the asset.
+     *
+     * @param name string name
+     */
+    public void setName(String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Return the description of the asset.
+     *
+     * @return text
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Set up the description of the asset.
+     *
+     * @param description text
+     */
+    public void setDescription(String description)
+    {
+        this.description = description;
+    }
+
+
+    /**
+     * Return any additional properties.
+     *
+     * @return map of property names to values
+     */
+    public Map<String, String> getAdditionalProperties()
+    {
+        return additionalProperties;
+    }
+
+
+    /**
+     * Set up any additional properties.
+     *
+     * @param additionalProperties map of property names to values
+     */
+    public void setAdditionalProperties(Map<String, String> additionalProperties)
+    {
+        this.additionalProperties = additionalProperties;
+    }
+
+
+    /**
+     * Return the properties from the subtypes of the asset.
+     *
+     * @return map of property names to values
+     */
+    public Map<String, Object> getExtendedProperties()
+    {
+        return extendedProperties;
+    }
+
+
+    /**
+     * Set up the properties from the subtypes of the asset.
+     *
+     * @param extendedProperties map of property names to values
+     */
+    public void setExtendedProperties(Map<String, Object> extendedProperties)
+    {
+        this.extendedProperties = extendedProperties;
+    }
+}
@@ -0,0 +1,260 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnectorProvider;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveManager;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSConnectorProvider;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * BenchmarkRepository sets up the repository content manager with the open metadata types and an in-memory
+ * repository, in the same way as the local repository of a metadata server.  It also builds the entities used
+ * as input to the benchmarks.  The audit log has no stores so nothing is written while the benchmarks run.
+ */
+public class BenchmarkRepository
+{
+    static final String userId               = "benchmarkUser";
+    static final String serverName           = "benchmarkServer";
+    static final String serviceName          = "Benchmarks";
+    static final String metadataCollectionId = "benchmarkMetadataCollectionId";
+    static final String entityTypeName       = "Asset";
+
+    private final OMRSAuditLog                   auditLog;
+    private final OMRSRepositoryContentManager   contentManager;
+    private final OMRSRepositoryContentHelper    repositoryHelper;
+    private final OMRSRepositoryContentValidator repositoryValidator;
+    private final OMRSRepositoryConnector        inMemoryConnector;
+
+
+    /**
+     * Create the repository and load the open metadata types.
+     *
+     * @throws Exception the repository could not be started
+     */
+    public BenchmarkRepository() throws Exception
+    {
+        auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(serverName, "Benchmark", "Egeria", null),
+                                    OMRSAuditingComponent.OPERATIONAL_SERVICES);
+
+        contentManager      = new OMRSRepositoryContentManager(userId, auditLog);
+        repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        Connection    connection    = new Connection();
+        ConnectorType connectorType = new ConnectorType();
+
+        connectorType.setConnectorProviderClassName(InMemoryOMRSRepositoryConnectorProvider.class.getName());
+        connection.setConnectorType(connectorType);
+
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null);
+        OMRSRepositoryEventManager      eventManager = new OMRSRepositoryEventManager("local repository outbound",
+                                                                                      exchangeRule,
+                                                                                      repositoryValidator,
+                                                                                      auditLog);
+
+        /*
+         * The local connector receives the types from the archive manager.
+         */
+        LocalOMRSConnectorProvider   localConnectorProvider = new LocalOMRSConnectorProvider(metadataCollectionId,
+                                                                                             connection,
+                                                                                             null,
+                                                                                             eventManager,
+                                                                                             contentManager,
+                                                                                             exchangeRule);
+        LocalOMRSRepositoryConnector localConnector         = (LocalOMRSRepositoryConnector) localConnectorProvider.getConnector(connection);
+
+        localConnector.setRepositoryHelper(repositoryHelper);
+        localConnector.setRepositoryValidator(repositoryValidator);
+        localConnector.setAuditLog(auditLog);
+        localConnector.setMetadataCollectionId(metadataCollectionId);
+        contentManager.setupEventProcessor(localConnector, eventManager);
+
+        /*
+         * The benchmarks call this in-memory connector directly so the local repository's checks are not measured.
+         */
+        inMemoryConnector = (OMRSRepositoryConnector) new ConnectorBroker().getConnector(connection);
+
+        inMemoryConnector.setRepositoryHelper(repositoryHelper);
+        inMemoryConnector.setRepositoryValidator(repositoryValidator);
+        inMemoryConnector.setMetadataCollectionId(metadataCollectionId);
+
+        inMemoryConnector.start();
+        eventManager.start();
+        localConnector.start();
+
+        new OMRSArchiveManager(null, auditLog).setLocalRepository(metadataCollectionId, contentManager, null);
+    }
+
+
+    /**
+     * Return the helper used to manipulate instances.
+     *
+     * @return repository helper
+     */
+    public OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    /**
+     * Return the validator used to check instances.
+     *
+     * @return repository validator
+     */
+    public OMRSRepositoryContentValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    /**
+     * Return the metadata collection of the in-memory repository.
+     *
+     * @return metadata collection
+     * @throws Exception the connector is not started
+     */
+    public OMRSMetadataCollection getMetadataCollection() throws Exception
+    {
+        return inMemoryConnector.getMetadataCollection();
+    }
+
+
+    /**
+     * Return the unique identifier of the entity type used by the benchmarks.
+     *
+     * @return type guid
+     */
+    public String getEntityTypeGUID()
+    {
+        return repositoryHelper.getTypeDefByName(serviceName, entityTypeName).getGUID();
+    }
+
+
+    /**
+     * Build the properties of a typical asset.
+     *
+     * @param index number used to make the names unique
+     * @return instance properties
+     */
+    public InstanceProperties getEntityProperties(int index)
+    {
+        final String methodName = "getEntityProperties";
+
+        Map<String, String> additionalProperties = new HashMap<>();
+
+        additionalProperties.put("owner", "team" + (index % 10));
+        additionalProperties.put("zone", "zone" + (index % 5));
+
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName,
+                                                                                    null,
+                                                                                    "qualifiedName",
+                                                                                    "Asset:benchmark:" + index,
+                                                                                    methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(serviceName,
+                                                                  properties,
+                                                                  "name",
+                                                                  "Benchmark asset " + index,
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(serviceName,
+                                                                  properties,
+                                                                  "description",
+                                                                  "Asset number " + index + " created for the micro-benchmarks",
+                                                                  methodName);
+        properties = repositoryHelper.addStringMapPropertyToInstance(serviceName,
+                                                                     properties,
+                                                                     "additionalProperties",
+                                                                     additionalProperties,
+                                                                     methodName);
+
+        return properties;
+    }
+
+
+    /**
+     * Build an entity without storing it in the repository.
+     *
+     * @param index number used to make the names unique
+     * @return entity
+     * @throws Exception the type is not known
+     */
+    public EntityDetail getEntity(int index) throws Exception
+    {
+        EntityDetail entity = repositoryHelper.getSkeletonEntity(serviceName,
+                                                                 metadataCollectionId,
+                                                                 InstanceProvenanceType.LOCAL_COHORT,
+                                                                 userId,
+                                                                 entityTypeName);
+
+        entity.setGUID(UUID.randomUUID().toString());
+        entity.setProperties(getEntityProperties(index));
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setCreateTime(new Date());
+
+        return entity;
+    }
+
+
+    /**
+     * Build a list of entities without storing them in the repository.
+     *
+     * @param count number of entities
+     * @return list of entities
+     * @throws Exception the type is not known
+     */
+    public List<EntityDetail> getEntities(int count) throws Exception
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int index = 0; index < count; index++)
+        {
+            entities.add(getEntity(index));
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Store entities in the in-memory repository.
+     *
+     * @param count number of entities
+     * @throws Exception the repository rejected an entity
+     */
+    public void addEntities(int count) throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection();
+        String                 entityTypeGUID     = getEntityTypeGUID();
+
+        for (int index = 0; index < count; index++)
+        {
+            metadataCollection.addEntity(userId, entityTypeGUID, getEntityProperties(index), null, InstanceStatus.ACTIVE);
+        }
+    }
+}
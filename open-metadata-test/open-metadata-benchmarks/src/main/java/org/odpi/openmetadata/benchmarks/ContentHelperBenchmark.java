@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the sorting and paging of search results performed by OMRSRepositoryContentHelper.formatEntityResults.
+ * The results are sorted in place so each invocation works on a fresh copy of the shuffled list.  The cost of the
+ * copy is included in the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentHelperBenchmark
+{
+    private static final int pageSize = 100;
+
+    @Param({"100", "1000", "10000"})
+    public int resultCount;
+
+    private OMRSRepositoryContentHelper repositoryHelper;
+    private List<EntityDetail>          entities;
+
+
+    /**
+     * Build the unsorted results.
+     *
+     * @throws Exception the repository could not be started
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        BenchmarkRepository repository = new BenchmarkRepository();
+
+        repositoryHelper = repository.getRepositoryHelper();
+        entities         = repository.getEntities(resultCount);
+
+        Collections.shuffle(entities, new Random(resultCount));
+    }
+
+
+    /**
+     * Return the first page without sorting.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> firstPageAnyOrder() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(entities), 0, null, SequencingOrder.ANY, pageSize);
+    }
+
+
+    /**
+     * Return a page sorted by guid.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> pageByGUID() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(entities), pageSize, null, SequencingOrder.GUID, pageSize);
+    }
+
+
+    /**
+     * Return a page sorted by creation time.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> pageByCreationDate() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(entities),
+                                                    pageSize,
+                                                    null,
+                                                    SequencingOrder.CREATION_DATE_RECENT,
+                                                    pageSize);
+    }
+
+
+    /**
+     * Return a page sorted by the value of the qualifiedName property.
+     *
+     * @return page of results
+     * @throws Exception invalid paging parameters
+     */
+    @Benchmark
+    public List<EntityDetail> pageByProperty() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(entities),
+                                                    pageSize,
+                                                    "qualifiedName",
+                                                    SequencingOrder.PROPERTY_ASCENDING,
+                                                    pageSize);
+    }
+}
@@ -0,0 +1,164 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the property matching performed by the OMRSRepositoryContentValidator for each entity that a
+ * repository considers while answering a find request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentValidatorBenchmark
+{
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private EntityDetail                   entity;
+    private InstanceProperties             matchProperties;
+    private SearchProperties               searchProperties;
+    private String                         exactMatchRegex;
+    private String                         containsRegex;
+
+
+    /**
+     * Build the entity and the match criteria.
+     *
+     * @throws Exception the repository could not be started
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        final String methodName = "setUp";
+
+        BenchmarkRepository         repository       = new BenchmarkRepository();
+        OMRSRepositoryContentHelper repositoryHelper = repository.getRepositoryHelper();
+
+        repositoryValidator = repository.getRepositoryValidator();
+        entity              = repository.getEntity(42);
+
+        String qualifiedName = repositoryHelper.getStringProperty(BenchmarkRepository.serviceName,
+                                                                  "qualifiedName",
+                                                                  entity.getProperties(),
+                                                                  methodName);
+
+        exactMatchRegex = repositoryHelper.getExactMatchRegex(qualifiedName);
+        containsRegex   = repositoryHelper.getContainsRegex("benchmarks");
+
+        matchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.serviceName,
+                                                                       null,
+                                                                       "qualifiedName",
+                                                                       exactMatchRegex,
+                                                                       methodName);
+        matchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.serviceName,
+                                                                       matchProperties,
+                                                                       "name",
+                                                                       repositoryHelper.getContainsRegex("asset"),
+                                                                       methodName);
+
+        PropertyCondition qualifiedNameCondition = new PropertyCondition();
+        qualifiedNameCondition.setProperty("qualifiedName");
+        qualifiedNameCondition.setOperator(PropertyComparisonOperator.LIKE);
+        qualifiedNameCondition.setValue(matchProperties.getPropertyValue("qualifiedName"));
+
+        PropertyCondition nameCondition = new PropertyCondition();
+        nameCondition.setProperty("name");
+        nameCondition.setOperator(PropertyComparisonOperator.NEQ);
+        nameCondition.setValue(entity.getProperties().getPropertyValue("description"));
+
+        List<PropertyCondition> conditions = new ArrayList<>();
+        conditions.add(qualifiedNameCondition);
+        conditions.add(nameCondition);
+
+        searchProperties = new SearchProperties();
+        searchProperties.setConditions(conditions);
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match properties as used by findEntitiesByProperty.
+     *
+     * @return result of the match
+     * @throws Exception invalid match properties
+     */
+    @Benchmark
+    public boolean matchInstanceProperties() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                        entity,
+                                                                        entity.getProperties(),
+                                                                        MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match search properties as used by findEntities.
+     *
+     * @return result of the match
+     * @throws Exception invalid search properties
+     */
+    @Benchmark
+    public boolean matchSearchProperties() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(searchProperties,
+                                                                        entity,
+                                                                        entity.getProperties());
+    }
+
+
+    /**
+     * Match an exact value against any property as used by findEntitiesByPropertyValue.
+     *
+     * @return result of the match
+     * @throws Exception invalid search criteria
+     */
+    @Benchmark
+    public boolean matchExactSearchCriteria() throws Exception
+    {
+        return repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(BenchmarkRepository.serviceName,
+                                                                               entity.getProperties(),
+                                                                               exactMatchRegex,
+                                                                               "matchExactSearchCriteria");
+    }
+
+
+    /**
+     * Match a contains value against any property as used by findEntitiesByPropertyValue.
+     *
+     * @return result of the match
+     * @throws Exception invalid search criteria
+     */
+    @Benchmark
+    public boolean matchContainsSearchCriteria() throws Exception
+    {
+        return repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(BenchmarkRepository.serviceName,
+                                                                               entity.getProperties(),
+                                                                               containsRegex,
+                                                                               "matchContainsSearchCriteria");
+    }
+}
@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of an entity to a bean by a converter built on OpenMetadataAPIGenericConverter.  This is
+ * performed for every element returned by the access services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericConverterBenchmark
+{
+    private BenchmarkAssetConverter<BenchmarkAssetElement> converter;
+    private EntityDetail                                   entity;
+
+
+    /**
+     * Build the converter and the entity.
+     *
+     * @throws Exception the repository could not be started
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        BenchmarkRepository repository = new BenchmarkRepository();
+
+        converter = new BenchmarkAssetConverter<>(repository.getRepositoryHelper(),
+                                                  BenchmarkRepository.serviceName,
+                                                  BenchmarkRepository.serverName);
+        entity    = repository.getEntity(42);
+    }
+
+
+    /**
+     * Convert an entity to a bean.
+     *
+     * @return bean
+     * @throws Exception conversion error
+     */
+    @Benchmark
+    public BenchmarkAssetElement convertEntity() throws Exception
+    {
+        return converter.getNewBean(BenchmarkAssetElement.class, entity, "convertEntity");
+    }
+}
@@ -0,0 +1,179 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures InMemoryOMRSMetadataCollection.findEntities as the number of stored entities grows.  The in-memory
+ * repository scans every stored entity so the cost is expected to grow linearly with the store size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryFindEntitiesBenchmark
+{
+    private static final int pageSize = 100;
+
+    @Param({"1000", "10000", "100000"})
+    public int entityCount;
+
+    private OMRSMetadataCollection metadataCollection;
+    private String                 entityTypeGUID;
+    private SearchProperties       exactMatchProperties;
+    private SearchProperties       containsProperties;
+
+
+    /**
+     * Load the repository and build the search properties.
+     *
+     * @throws Exception the repository could not be loaded
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        final String methodName = "setUp";
+
+        BenchmarkRepository         repository       = new BenchmarkRepository();
+        OMRSRepositoryContentHelper repositoryHelper = repository.getRepositoryHelper();
+
+        repository.addEntities(entityCount);
+
+        metadataCollection = repository.getMetadataCollection();
+        entityTypeGUID     = repository.getEntityTypeGUID();
+
+        InstanceProperties values = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.serviceName,
+                                                                                 null,
+                                                                                 "qualifiedName",
+                                                                                 repositoryHelper.getExactMatchRegex("Asset:benchmark:" + (entityCount / 2)),
+                                                                                 methodName);
+        values = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.serviceName,
+                                                              values,
+                                                              "name",
+                                                              repositoryHelper.getContainsRegex("asset 1"),
+                                                              methodName);
+
+        exactMatchProperties = getSearchProperties("qualifiedName", values);
+        containsProperties   = getSearchProperties("name", values);
+    }
+
+
+    /**
+     * Build search properties containing a single LIKE condition.
+     *
+     * @param propertyName name of the property to test
+     * @param values properties holding the regular expression for the property
+     * @return search properties
+     */
+    private SearchProperties getSearchProperties(String             propertyName,
+                                                 InstanceProperties values)
+    {
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty(propertyName);
+        condition.setOperator(PropertyComparisonOperator.LIKE);
+        condition.setValue(values.getPropertyValue(propertyName));
+
+        SearchProperties searchProperties = new SearchProperties();
+
+        searchProperties.setConditions(Collections.singletonList(condition));
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+
+        return searchProperties;
+    }
+
+
+    /**
+     * Find the single entity with a qualified name.
+     *
+     * @return matching entities
+     * @throws Exception search error
+     */
+    @Benchmark
+    public List<EntityDetail> findByQualifiedName() throws Exception
+    {
+        return metadataCollection.findEntities(BenchmarkRepository.userId,
+                                               entityTypeGUID,
+                                               null,
+                                               exactMatchProperties,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               pageSize);
+    }
+
+
+    /**
+     * Find the first page of entities whose name contains a value, sorted by qualified name.
+     *
+     * @return matching entities
+     * @throws Exception search error
+     */
+    @Benchmark
+    public List<EntityDetail> findByNameSorted() throws Exception
+    {
+        return metadataCollection.findEntities(BenchmarkRepository.userId,
+                                               entityTypeGUID,
+                                               null,
+                                               containsProperties,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               "qualifiedName",
+                                               SequencingOrder.PROPERTY_ASCENDING,
+                                               pageSize);
+    }
+
+
+    /**
+     * Retrieve the first page of all entities of the type.
+     *
+     * @return entities
+     * @throws Exception search error
+     */
+    @Benchmark
+    public List<EntityDetail> findAllOfType() throws Exception
+    {
+        return metadataCollection.findEntities(BenchmarkRepository.userId,
+                                               entityTypeGUID,
+                                               null,
+                                               null,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               pageSize);
+    }
+}
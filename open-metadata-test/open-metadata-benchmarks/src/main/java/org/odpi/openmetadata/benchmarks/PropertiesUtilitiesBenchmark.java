@@ -0,0 +1,137 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions between Java values and instance properties provided by
+ * OMRSRepositoryPropertiesUtilities.  These are called by every converter and handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertiesUtilitiesBenchmark
+{
+    private static final String sourceName = BenchmarkRepository.serviceName;
+    private static final String methodName = "PropertiesUtilitiesBenchmark";
+
+    private final OMRSRepositoryPropertiesUtilities propertiesUtilities = new OMRSRepositoryPropertiesUtilities();
+
+    private InstanceProperties  properties;
+    private Map<String, String> stringMap;
+    private Map<String, Object> propertyMap;
+    private Date                date;
+
+
+    /**
+     * Build the properties to convert.
+     */
+    @Setup
+    public void setUp()
+    {
+        stringMap = new HashMap<>();
+
+        for (int index = 0; index < 10; index++)
+        {
+            stringMap.put("key" + index, "value" + index);
+        }
+
+        date = new Date();
+
+        propertyMap = new HashMap<>();
+        propertyMap.put("qualifiedName", "Asset:benchmark:1");
+        propertyMap.put("name", "Benchmark asset 1");
+        propertyMap.put("version", 3);
+        propertyMap.put("isDeprecated", false);
+        propertyMap.put("createTime", date);
+
+        properties = buildProperties();
+    }
+
+
+    /**
+     * Build instance properties from Java values.
+     *
+     * @return instance properties
+     */
+    @Benchmark
+    public InstanceProperties buildProperties()
+    {
+        InstanceProperties result = propertiesUtilities.addStringPropertyToInstance(sourceName, null, "qualifiedName", "Asset:benchmark:1", methodName);
+
+        result = propertiesUtilities.addStringPropertyToInstance(sourceName, result, "name", "Benchmark asset 1", methodName);
+        result = propertiesUtilities.addIntPropertyToInstance(sourceName, result, "version", 3, methodName);
+        result = propertiesUtilities.addDatePropertyToInstance(sourceName, result, "createTime", date, methodName);
+        result = propertiesUtilities.addStringMapPropertyToInstance(sourceName, result, "additionalProperties", stringMap, methodName);
+
+        return result;
+    }
+
+
+    /**
+     * Build instance properties from a map of Java values.
+     *
+     * @return instance properties
+     */
+    @Benchmark
+    public InstanceProperties buildPropertiesFromMap()
+    {
+        return propertiesUtilities.addPropertyMapToInstance(sourceName, null, propertyMap, methodName);
+    }
+
+
+    /**
+     * Extract a string value.
+     *
+     * @return value
+     */
+    @Benchmark
+    public String getStringProperty()
+    {
+        return propertiesUtilities.getStringProperty(sourceName, "qualifiedName", properties, methodName);
+    }
+
+
+    /**
+     * Extract a map of strings.
+     *
+     * @return value
+     */
+    @Benchmark
+    public Map<String, String> getStringMapProperty()
+    {
+        return propertiesUtilities.getStringMapFromProperty(sourceName, "additionalProperties", properties, methodName);
+    }
+
+
+    /**
+     * Convert all the properties to Java values.
+     *
+     * @return map of property names to values
+     */
+    @Benchmark
+    public Map<String, Object> getPropertiesAsMap()
+    {
+        return propertiesUtilities.getInstancePropertiesAsMap(properties);
+    }
+}
@@ -0,0 +1,132 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization of the beans sent on the REST APIs (EntityDetail) and on the cohort
+ * topic (OMRSEventV1).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark
+{
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EntityDetail entity;
+    private String       entityJSON;
+    private OMRSEventV1  event;
+    private String       eventJSON;
+
+
+    /**
+     * Build the beans and their JSON.
+     *
+     * @throws Exception the repository could not be started
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        BenchmarkRepository repository = new BenchmarkRepository();
+
+        entity = repository.getEntity(42);
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId(BenchmarkRepository.metadataCollectionId);
+        originator.setServerName(BenchmarkRepository.serverName);
+        originator.setServerType("Metadata Access Store");
+        originator.setOrganizationName("Egeria");
+
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+        instanceSection.setEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        instanceSection.setTypeDefGUID(entity.getType().getTypeDefGUID());
+        instanceSection.setTypeDefName(entity.getType().getTypeDefName());
+        instanceSection.setInstanceGUID(entity.getGUID());
+        instanceSection.setEntity(entity);
+
+        event = new OMRSEventV1();
+        event.setTimestamp(new Date());
+        event.setOriginator(originator);
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        entityJSON = objectMapper.writeValueAsString(entity);
+        eventJSON  = objectMapper.writeValueAsString(event);
+    }
+
+
+    /**
+     * Serialize an entity.
+     *
+     * @return JSON
+     * @throws Exception serialization error
+     */
+    @Benchmark
+    public String serializeEntity() throws Exception
+    {
+        return objectMapper.writeValueAsString(entity);
+    }
+
+
+    /**
+     * Deserialize an entity.
+     *
+     * @return entity
+     * @throws Exception deserialization error
+     */
+    @Benchmark
+    public EntityDetail deserializeEntity() throws Exception
+    {
+        return objectMapper.readValue(entityJSON, EntityDetail.class);
+    }
+
+
+    /**
+     * Serialize an instance event.
+     *
+     * @return JSON
+     * @throws Exception serialization error
+     */
+    @Benchmark
+    public String serializeEvent() throws Exception
+    {
+        return objectMapper.writeValueAsString(event);
+    }
+
+
+    /**
+     * Deserialize an instance event.
+     *
+     * @return event
+     * @throws Exception deserialization error
+     */
+    @Benchmark
+    public OMRSEventV1 deserializeEvent() throws Exception
+    {
+        return objectMapper.readValue(eventJSON, OMRSEventV1.class);
+    }
+}